@@ -19,6 +19,8 @@
 package com.acme.fineract.portfolio.note.service;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.portfolio.note.data.NoteData;
 import org.apache.fineract.portfolio.note.service.NoteReadPlatformService;
@@ -45,4 +47,9 @@ public class AcmeNoteReadPlatformService implements NoteReadPlatformService, Ini
     public Collection<NoteData> retrieveNotesByResource(Long resourceId, Integer noteTypeId) {
         return null;
     }
+
+    @Override
+    public Map<Long, List<NoteData>> retrieveLoanNotesByLoanIds(Collection<Long> loanIds) {
+        return Map.of();
+    }
 }
@@ -0,0 +1,41 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob;
+
+import java.util.List;
+import org.apache.fineract.infrastructure.core.domain.AbstractPersistableCustom;
+
+/**
+ * Optional chunk level contract of a {@link COBBusinessStep}.
+ *
+ * {@link #beforeChunk(List)} is called once per chunk with every item of it, before {@link #execute} runs for any of
+ * them, so a step can load what it needs for the whole chunk with set based queries instead of one query per item.
+ * {@link #afterChunk(List)} is called with the processed items inside the chunk transaction right before they are
+ * written, so a step can emit its writes in bulk.
+ *
+ * Chunks of one step run in parallel on several threads, so prefetched data has to be kept per thread, and must be
+ * replaced on every {@link #beforeChunk(List)} since a chunk that failed does not reach {@link #afterChunk(List)}.
+ * {@link #execute} must still work for an item that was not prefetched.
+ */
+public interface COBChunkBusinessStep<T extends AbstractPersistableCustom> extends COBBusinessStep<T> {
+
+    void beforeChunk(List<T> items);
+
+    default void afterChunk(List<T> items) {}
+}
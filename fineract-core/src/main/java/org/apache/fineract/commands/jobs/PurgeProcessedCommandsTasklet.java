@@ -25,10 +25,13 @@ import org.apache.fineract.commands.domain.CommandProcessingResultType;
 import org.apache.fineract.commands.domain.CommandSourceRepository;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.jobs.service.ChunkedPurgeService;
+import org.apache.fineract.infrastructure.jobs.service.ChunkedPurgeService.ChunkedPurgeTarget;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -36,14 +39,25 @@ import org.springframework.stereotype.Component;
 @Component
 public class PurgeProcessedCommandsTasklet implements Tasklet {
 
+    private static final ChunkedPurgeTarget PURGE_TARGET = new ChunkedPurgeTarget("m_portfolio_command_source",
+            "status = :status and made_on_date_utc is not null and made_on_date_utc <= :" + ChunkedPurgeService.CUTOFF_PARAMETER);
+
     private final CommandSourceRepository repository;
     private final ConfigurationDomainService configurationDomainService;
+    private final ChunkedPurgeService chunkedPurgeService;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        Long numberOfDaysForPurgeCriteria = configurationDomainService.retrieveProcessedCommandsPurgeDaysCriteria();
+        OffsetDateTime dateForPurgeCriteria = DateUtils.getAuditOffsetDateTime().minusDays(numberOfDaysForPurgeCriteria);
+        if (chunkedPurgeService.isEnabled()) {
+            // failures fail the step, a restart continues from the range cursor
+            MapSqlParameterSource parameters = new MapSqlParameterSource("status", CommandProcessingResultType.PROCESSED.getValue())
+                    .addValue(ChunkedPurgeService.CUTOFF_PARAMETER, dateForPurgeCriteria);
+            return chunkedPurgeService.purgeNextChunk(PURGE_TARGET, parameters, contribution) ? RepeatStatus.CONTINUABLE
+                    : RepeatStatus.FINISHED;
+        }
         try {
-            Long numberOfDaysForPurgeCriteria = configurationDomainService.retrieveProcessedCommandsPurgeDaysCriteria();
-            OffsetDateTime dateForPurgeCriteria = DateUtils.getAuditOffsetDateTime().minusDays(numberOfDaysForPurgeCriteria);
             repository.deleteOlderEventsWithStatus(CommandProcessingResultType.PROCESSED.getValue(), dateForPurgeCriteria);
         } catch (Exception e) {
             log.error("Error occurred while purging processed commands: ", e);
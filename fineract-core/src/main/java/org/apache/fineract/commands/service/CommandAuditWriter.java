@@ -0,0 +1,186 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.commands.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.commands.domain.CommandSource;
+import org.apache.fineract.commands.domain.CommandSourceRepository;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Writes the audit rows of processed commands in batches. The rows are queued with their final status and inserted
+ * by a single flusher thread, one transaction per tenant, every few milliseconds or as soon as a batch is full.
+ * <p>
+ * With {@code fineract.command-audit.await-flush} the caller waits until the batch holding its row was committed;
+ * otherwise the rows still queued when the node dies are lost. A full queue or a writer that is already shut down
+ * falls back to an immediate write.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommandAuditWriter implements InitializingBean, DisposableBean {
+
+    private final FineractProperties fineractProperties;
+    private final CommandSourceRepository commandSourceRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private BlockingQueue<PendingAudit> queue;
+    private ScheduledExecutorService flusher;
+    private TransactionTemplate transactionTemplate;
+    private volatile boolean closed;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!isEnabled()) {
+            return;
+        }
+        FineractProperties.FineractCommandAuditProperties properties = fineractProperties.getCommandAudit();
+        queue = new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity()));
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        flusher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("Command-Audit-Thread-"));
+        long interval = Math.max(1, properties.getFlushIntervalMillis());
+        flusher.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isEnabled() {
+        FineractProperties.FineractCommandAuditProperties properties = fineractProperties.getCommandAudit();
+        return properties != null && properties.isPipelineEnabled();
+    }
+
+    /**
+     * Queues the audit row of a processed command. The row must not have been saved before.
+     */
+    public void write(CommandSource commandSource) {
+        PendingAudit pending = new PendingAudit(commandSource, ThreadLocalContextUtil.getContext(), new CompletableFuture<>());
+        if (closed) {
+            writeDirectly(pending, "the writer is shut down");
+            return;
+        }
+        if (!queue.offer(pending)) {
+            writeDirectly(pending, "the queue is full");
+            return;
+        }
+        if (closed && queue.remove(pending)) {
+            // shut down after the row was queued and after the final flush, nobody else writes it
+            writeDirectly(pending, "the writer is shut down");
+            return;
+        }
+        if (queue.size() >= fineractProperties.getCommandAudit().getBatchSize()) {
+            try {
+                flusher.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                // shutting down, the final flush of destroy() writes the queued rows
+                log.debug("Command audit flusher is shut down, the queued rows are written by the final flush");
+            }
+        }
+        if (fineractProperties.getCommandAudit().isAwaitFlush()) {
+            await(pending);
+        }
+    }
+
+    private void writeDirectly(PendingAudit pending, String reason) {
+        log.debug("Writing the audit row of {} {} directly, {}", pending.commandSource().getActionName(),
+                pending.commandSource().getEntityName(), reason);
+        persist(List.of(pending));
+        await(pending);
+    }
+
+    private void await(PendingAudit pending) {
+        try {
+            pending.written().join();
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Command audit row could not be written", e.getCause() != null ? e.getCause() : e);
+        }
+    }
+
+    private void flush() {
+        int batchSize = Math.max(1, fineractProperties.getCommandAudit().getBatchSize());
+        List<PendingAudit> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            Map<String, List<PendingAudit>> byTenant = new LinkedHashMap<>();
+            for (PendingAudit pending : batch) {
+                byTenant.computeIfAbsent(pending.context().getTenantContext().getTenantIdentifier(), tenant -> new ArrayList<>())
+                        .add(pending);
+            }
+            for (List<PendingAudit> tenantBatch : byTenant.values()) {
+                try {
+                    ThreadLocalContextUtil.init(tenantBatch.get(0).context());
+                    persist(tenantBatch);
+                } finally {
+                    ThreadLocalContextUtil.reset();
+                }
+            }
+            batch.clear();
+        }
+    }
+
+    private void persist(List<PendingAudit> pendings) {
+        try {
+            transactionTemplate.executeWithoutResult(
+                    status -> commandSourceRepository.saveAll(pendings.stream().map(PendingAudit::commandSource).toList()));
+            pendings.forEach(pending -> pending.written().complete(null));
+        } catch (RuntimeException e) {
+            log.error("Writing {} command audit rows failed", pendings.size(), e);
+            pendings.forEach(pending -> pending.written().completeExceptionally(e));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (flusher == null) {
+            return;
+        }
+        closed = true;
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(30, TimeUnit.SECONDS)) {
+                flusher.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            flusher.shutdownNow();
+        }
+        // rows queued after the last scheduled run
+        flush();
+    }
+
+    private record PendingAudit(CommandSource commandSource, FineractContext context, CompletableFuture<Void> written) {}
+}
@@ -49,6 +49,8 @@ public class CommandSourceService {
 
     private final CommandSourceRepository commandSourceRepository;
     private final ErrorHandler errorHandler;
+    private final IdempotencyKeyStore idempotencyKeyStore;
+    private final IdempotencyKeyResolver idempotencyKeyResolver;
 
     @NotNull
     @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.REPEATABLE_READ)
@@ -65,7 +67,11 @@ public class CommandSourceService {
     @NotNull
     private CommandSource saveInitial(CommandWrapper wrapper, JsonCommand jsonCommand, AppUser maker, String idempotencyKey) {
         CommandSource initialCommandSource = getInitialCommandSource(wrapper, jsonCommand, maker, idempotencyKey);
-        return commandSourceRepository.saveAndFlush(initialCommandSource);
+        CommandSource savedCommandSource = commandSourceRepository.saveAndFlush(initialCommandSource);
+        if (idempotencyKeyStore.isEnabled() && idempotencyKeyResolver.isProvidedByClient(wrapper)) {
+            idempotencyKeyStore.register(savedCommandSource);
+        }
+        return savedCommandSource;
     }
 
     @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.REPEATABLE_READ)
@@ -98,6 +104,19 @@ public class CommandSourceService {
                 idempotencyKey);
     }
 
+    /**
+     * Looks up the command of an idempotency key sent by the client, through the idempotency key store when it is
+     * enabled.
+     */
+    @Transactional(propagation = Propagation.REQUIRED)
+    public CommandSource findCommandSourceByClientKey(CommandWrapper wrapper, String idempotencyKey) {
+        if (!idempotencyKeyStore.isEnabled()) {
+            return findCommandSource(wrapper, idempotencyKey);
+        }
+        Long commandSourceId = idempotencyKeyStore.findCommandId(wrapper.actionName(), wrapper.entityName(), idempotencyKey);
+        return commandSourceId == null ? null : commandSourceRepository.findById(commandSourceId).orElse(null);
+    }
+
     public CommandSource getInitialCommandSource(CommandWrapper wrapper, JsonCommand jsonCommand, AppUser maker, String idempotencyKey) {
         CommandSource commandSourceResult = CommandSource.fullEntryFrom(wrapper, jsonCommand, maker, idempotencyKey,
                 UNDER_PROCESSING.getValue());
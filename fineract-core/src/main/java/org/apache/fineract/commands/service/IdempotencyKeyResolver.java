@@ -36,6 +36,13 @@ public class IdempotencyKeyResolver {
         return Optional.ofNullable(wrapper.getIdempotencyKey()).orElseGet(() -> getAttribute().orElseGet(idempotencyKeyGenerator::create));
     }
 
+    /**
+     * Whether the key was sent by the client, in the command or in the request header, rather than generated.
+     */
+    public boolean isProvidedByClient(CommandWrapper wrapper) {
+        return wrapper.getIdempotencyKey() != null || getAttribute().isPresent();
+    }
+
     private Optional<String> getAttribute() {
         return Optional.ofNullable(fineractRequestContextHolder.getAttribute(SynchronousCommandProcessingService.IDEMPOTENCY_KEY_ATTRIBUTE))
                 .map(String::valueOf);
@@ -0,0 +1,137 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.commands.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.commands.domain.CommandSource;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compact lookup table of the idempotency keys sent by clients, keyed by a hash of action, entity and key, so that
+ * duplicate detection is a single primary key lookup instead of a query on the command source table. Keys expire after
+ * {@code fineract.idempotency.ttl-hours} and are removed by the purge idempotency keys job.
+ * <p>
+ * Recently seen keys are kept in a bounded per node cache. Only known keys are cached: a key unknown to this node may
+ * have been registered by another one.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyKeyStore {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FineractProperties fineractProperties;
+
+    private final Map<String, KnownKey> recentKeys = new LinkedHashMap<>(16, 0.75f, true) {
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, KnownKey> eldest) {
+            return size() > Math.max(0, fineractProperties.getIdempotency().getCacheSize());
+        }
+    };
+
+    public boolean isEnabled() {
+        FineractProperties.FineractIdempotencyProperties properties = fineractProperties.getIdempotency();
+        return properties != null && properties.isStoreEnabled();
+    }
+
+    /**
+     * @return the id of the command registered with the key, or null if the key is unknown or expired
+     */
+    public Long findCommandId(String actionName, String entityName, String idempotencyKey) {
+        String keyHash = hash(actionName, entityName, idempotencyKey);
+        String cacheKey = cacheKey(keyHash);
+        LocalDateTime expiredBefore = expiredBefore();
+        KnownKey known;
+        synchronized (recentKeys) {
+            known = recentKeys.get(cacheKey);
+        }
+        if (known != null && known.createdOn().isAfter(expiredBefore)) {
+            return known.commandId();
+        }
+        return jdbcTemplate.query("SELECT command_source_id, created_on_utc FROM m_command_idempotency_key WHERE key_hash = ?",
+                rs -> {
+                    if (!rs.next()) {
+                        return null;
+                    }
+                    KnownKey stored = new KnownKey(rs.getLong("command_source_id"), rs.getTimestamp("created_on_utc").toLocalDateTime());
+                    if (!stored.createdOn().isAfter(expiredBefore)) {
+                        return null;
+                    }
+                    remember(cacheKey, stored);
+                    return stored.commandId();
+                }, keyHash);
+    }
+
+    /**
+     * Registers the key of a saved command, in the transaction of the caller.
+     */
+    public void register(CommandSource commandSource) {
+        String keyHash = hash(commandSource.getActionName(), commandSource.getEntityName(), commandSource.getIdempotencyKey());
+        LocalDateTime createdOn = DateUtils.getAuditLocalDateTime();
+        // an expired row not purged yet, or one left behind by a purged command
+        jdbcTemplate.update("DELETE FROM m_command_idempotency_key WHERE key_hash = ?", keyHash);
+        jdbcTemplate.update("INSERT INTO m_command_idempotency_key (key_hash, command_source_id, created_on_utc) VALUES (?, ?, ?)", keyHash,
+                commandSource.getId(), createdOn);
+        remember(cacheKey(keyHash), new KnownKey(commandSource.getId(), createdOn));
+    }
+
+    /**
+     * @return the number of expired keys removed
+     */
+    public int purgeExpired() {
+        return jdbcTemplate.update("DELETE FROM m_command_idempotency_key WHERE created_on_utc <= ?", expiredBefore());
+    }
+
+    private void remember(String cacheKey, KnownKey knownKey) {
+        synchronized (recentKeys) {
+            recentKeys.put(cacheKey, knownKey);
+        }
+    }
+
+    private LocalDateTime expiredBefore() {
+        return DateUtils.getAuditLocalDateTime().minusHours(fineractProperties.getIdempotency().getTtlHours());
+    }
+
+    private static String cacheKey(String keyHash) {
+        return ThreadLocalContextUtil.getTenant().getTenantIdentifier() + ":" + keyHash;
+    }
+
+    static String hash(String actionName, String entityName, String idempotencyKey) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String source = actionName + '\u0000' + entityName + '\u0000' + idempotencyKey;
+            return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record KnownKey(Long commandId, LocalDateTime createdOn) {}
+}
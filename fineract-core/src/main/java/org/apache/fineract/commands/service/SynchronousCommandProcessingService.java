@@ -35,6 +35,7 @@ import org.apache.fineract.batch.exception.ErrorInfo;
 import org.apache.fineract.commands.domain.CommandProcessingResultType;
 import org.apache.fineract.commands.domain.CommandSource;
 import org.apache.fineract.commands.domain.CommandWrapper;
+import org.apache.fineract.commands.exception.RollbackTransactionNotApprovedException;
 import org.apache.fineract.commands.exception.UnsupportedCommandException;
 import org.apache.fineract.commands.handler.NewCommandSourceHandler;
 import org.apache.fineract.commands.provider.CommandHandlerProvider;
@@ -52,9 +53,11 @@ import org.apache.fineract.infrastructure.core.serialization.ToApiJsonSerializer
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.hooks.event.HookEvent;
 import org.apache.fineract.infrastructure.hooks.event.HookEventSource;
+import org.apache.fineract.infrastructure.hooks.service.HookRegistry;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.useradministration.domain.AppUser;
 import org.springframework.context.ApplicationContext;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -73,7 +76,10 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
     private final ConfigurationDomainService configurationDomainService;
     private final CommandHandlerProvider commandHandlerProvider;
     private final IdempotencyKeyResolver idempotencyKeyResolver;
+    private final IdempotencyKeyStore idempotencyKeyStore;
     private final CommandSourceService commandSourceService;
+    private final CommandAuditWriter commandAuditWriter;
+    private final HookRegistry hookRegistry;
 
     private final FineractRequestContextHolder fineractRequestContextHolder;
     private final Gson gson = GoogleGsonSerializerHelper.createSimpleGson();
@@ -100,14 +106,20 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
         } else {
             idempotencyKey = idempotencyKeyResolver.resolve(wrapper);
         }
-        exceptionWhenTheRequestAlreadyProcessed(wrapper, idempotencyKey, isRetry);
+        exceptionWhenTheRequestAlreadyProcessed(wrapper, idempotencyKey, isRetry, commandSource);
 
         AppUser user = context.authenticatedUser(wrapper);
-        if (commandSource == null) {
+        boolean isMakerChecker = configurationDomainService.isMakerCheckerEnabledForTask(wrapper.taskPermissionName());
+        // the audit row is written once, with its final status, when nothing has to look it up while processing
+        boolean isAuditPipelined = commandSource == null && !isEnclosingTransaction && !isApprovedByChecker && !isMakerChecker
+                && commandAuditWriter.isEnabled() && !idempotencyKeyResolver.isProvidedByClient(wrapper);
+        if (isAuditPipelined) {
+            commandSource = commandSourceService.getInitialCommandSource(wrapper, command, user, idempotencyKey);
+        } else if (commandSource == null) {
             if (isEnclosingTransaction) {
                 commandSource = commandSourceService.getInitialCommandSource(wrapper, command, user, idempotencyKey);
             } else {
-                commandSource = commandSourceService.saveInitialNewTransaction(wrapper, command, user, idempotencyKey);
+                commandSource = saveInitialNewTransaction(wrapper, command, user, idempotencyKey);
                 commandId = commandSource.getId();
             }
         }
@@ -115,7 +127,6 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
             storeCommandIdInContext(commandSource); // Store command id as a request attribute
         }
 
-        boolean isMakerChecker = configurationDomainService.isMakerCheckerEnabledForTask(wrapper.taskPermissionName());
         if (isApprovedByChecker || (isMakerChecker && user.isCheckerSuperUser())) {
             commandSource.markAsChecked(user);
         }
@@ -127,6 +138,14 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
                     isMakerChecker);
         } catch (Throwable t) { // NOSONAR
             RuntimeException mappable = ErrorHandler.getMappable(t);
+            if (isAuditPipelined) {
+                // failures keep the synchronous path: retries and approvals look the row up by its id
+                commandSource = commandSourceService.saveResultNewTransaction(commandSource);
+                storeCommandIdInContext(commandSource);
+                if (mappable instanceof RollbackTransactionNotApprovedException) {
+                    mappable = new RollbackTransactionNotApprovedException(commandSource.getId(), commandSource.getResourceId());
+                }
+            }
             ErrorInfo errorInfo = commandSourceService.generateErrorInfo(mappable);
             Integer statusCode = errorInfo.getStatusCode();
             commandSource.setResultStatusCode(statusCode);
@@ -147,8 +166,12 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
         commandSource.updateForAudit(result);
         commandSource.setResult(toApiJsonSerializer.serializeResult(result));
         commandSource.setStatus(PROCESSED);
-        commandSource = commandSourceService.saveResultSameTransaction(commandSource);
-        storeCommandIdInContext(commandSource); // Store command id as a request attribute
+        if (isAuditPipelined) {
+            commandAuditWriter.write(commandSource);
+        } else {
+            commandSource = commandSourceService.saveResultSameTransaction(commandSource);
+            storeCommandIdInContext(commandSource); // Store command id as a request attribute
+        }
 
         result.setRollbackTransaction(null);
         publishHookEvent(wrapper.entityName(), wrapper.actionName(), command, result); // TODO must be performed in a
@@ -168,8 +191,34 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
         publishHookEvent(wrapper.entityName(), wrapper.actionName(), command, gson.toJson(errorInfo));
     }
 
-    private void exceptionWhenTheRequestAlreadyProcessed(CommandWrapper wrapper, String idempotencyKey, boolean retry) {
-        CommandSource command = commandSourceService.findCommandSource(wrapper, idempotencyKey);
+    private CommandSource saveInitialNewTransaction(CommandWrapper wrapper, JsonCommand command, AppUser user, String idempotencyKey) {
+        try {
+            return commandSourceService.saveInitialNewTransaction(wrapper, command, user, idempotencyKey);
+        } catch (DataIntegrityViolationException e) {
+            if (idempotencyKeyStore.isEnabled()) {
+                // the key expired in the idempotency key store or was purged from it, the command table still has it
+                exceptionWhenTheCommandAlreadyProcessed(wrapper, idempotencyKey, false,
+                        commandSourceService.findCommandSource(wrapper, idempotencyKey));
+            }
+            throw e;
+        }
+    }
+
+    private void exceptionWhenTheRequestAlreadyProcessed(CommandWrapper wrapper, String idempotencyKey, boolean retry,
+            CommandSource existingCommand) {
+        CommandSource command;
+        if (existingCommand != null || !idempotencyKeyStore.isEnabled()) {
+            command = commandSourceService.findCommandSource(wrapper, idempotencyKey);
+        } else if (idempotencyKeyResolver.isProvidedByClient(wrapper)) {
+            command = commandSourceService.findCommandSourceByClientKey(wrapper, idempotencyKey);
+        } else {
+            return; // a freshly generated key cannot have been used before
+        }
+        exceptionWhenTheCommandAlreadyProcessed(wrapper, idempotencyKey, retry, command);
+    }
+
+    private void exceptionWhenTheCommandAlreadyProcessed(CommandWrapper wrapper, String idempotencyKey, boolean retry,
+            CommandSource command) {
         if (command == null) {
             return;
         }
@@ -263,6 +312,9 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
 
     private void publishHookEvent(final String entityName, final String actionName, JsonCommand command, final Object result) {
         try {
+            if (!hookRegistry.hasHooks(entityName, actionName)) {
+                return;
+            }
             final AppUser appUser = context.authenticatedUser(CommandWrapper.wrap(actionName, entityName, null, null));
 
             final HookEventSource hookEventSource = new HookEventSource(entityName, actionName);
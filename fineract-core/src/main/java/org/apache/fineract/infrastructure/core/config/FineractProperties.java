@@ -42,6 +42,10 @@ public class FineractProperties {
 
     private FineractTenantProperties tenant;
 
+    private FineractTenantMigrationProperties tenantMigration;
+
+    private FineractTenantPoolProperties tenantPool;
+
     private FineractModeProperties mode;
 
     private FineractCorrelationProperties correlation;
@@ -76,6 +80,16 @@ public class FineractProperties {
 
     private FineractModulesProperties module;
 
+    private FineractSearchProperties search;
+
+    private FineractBulkImportProperties bulkImport;
+
+    private FineractCommandAuditProperties commandAudit;
+
+    private FineractIdempotencyProperties idempotency;
+
+    private FineractHookProperties hook;
+
     @Getter
     @Setter
     public static class FineractTenantProperties {
@@ -102,6 +116,26 @@ public class FineractProperties {
         private FineractConfigProperties config;
     }
 
+    @Getter
+    @Setter
+    public static class FineractTenantMigrationProperties {
+
+        private int parallelism;
+        private boolean upToDateCheckEnabled;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractTenantPoolProperties {
+
+        private boolean elasticEnabled;
+        private boolean sharedPoolEnabled;
+        private int maxConnections;
+        private int idleTimeout;
+        private int evictAfter;
+        private int acquireTimeout;
+    }
+
     /**
      * Configuration properties to override configurations stored in the tenants database
      */
@@ -162,6 +196,7 @@ public class FineractProperties {
         private Integer threadPoolMaxPoolSize;
         private Integer threadPoolQueueCapacity;
         private Integer retryLimit;
+        private Integer skipLimit;
 
     }
 
@@ -276,6 +311,7 @@ public class FineractProperties {
 
         private int defaultTaskExecutorCorePoolSize;
         private int defaultTaskExecutorMaxPoolSize;
+        private boolean virtualThreadsEnabled;
     }
 
     @Getter
@@ -284,6 +320,17 @@ public class FineractProperties {
 
         private boolean enabled;
         private FineractExternalEventsProducerProperties producer;
+        private FineractExternalEventsRelayProperties relay;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractExternalEventsRelayProperties {
+
+        private boolean enabled;
+        private long fallbackPollIntervalMillis;
+        private int maxBatchSize;
+        private boolean postgresNotifyEnabled;
     }
 
     @Getter
@@ -336,6 +383,15 @@ public class FineractProperties {
         private List<String> mimeWhitelist;
         private FineractContentFilesystemProperties filesystem;
         private FineractContentS3Properties s3;
+        private FineractContentRenditionCacheProperties renditionCache;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractContentRenditionCacheProperties {
+
+        private boolean enabled;
+        private int maxRenditionsPerImage;
     }
 
     @Getter
@@ -384,6 +440,16 @@ public class FineractProperties {
 
         private int stuckRetryThreshold;
         private boolean loanCobEnabled;
+        private FineractPurgeProperties purge;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractPurgeProperties {
+
+        private boolean chunkedEnabled;
+        private int chunkSize;
+        private int pauseMillis;
     }
 
     @Getter
@@ -448,6 +514,50 @@ public class FineractProperties {
     public static class FineractLoanProperties {
 
         private FineractTransactionProcessorProperties transactionProcessor;
+        private FineractLoanDelinquencyProperties delinquency;
+        private FineractLoanCOBProperties cob;
+        private FineractLoanScheduleProperties schedule;
+    }
+
+    /**
+     * Partial schedule regeneration for interest recalculation loans: installments settled on schedule are seeded from
+     * their persisted state instead of replaying every repayment (off by default)
+     */
+    @Getter
+    @Setter
+    public static class FineractLoanScheduleProperties {
+
+        private boolean incrementalRecalculationEnabled;
+        private boolean incrementalRecalculationVerifyEnabled;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractLoanCOBProperties {
+
+        private FineractLoanCOBWorkStealingProperties workStealing;
+    }
+
+    /**
+     * Remote partitioned Loan COB in work stealing mode: loan id ranges are leased from the database instead of being
+     * bound to a single partition message
+     */
+    @Getter
+    @Setter
+    public static class FineractLoanCOBWorkStealingProperties {
+
+        private boolean enabled;
+        private int workerPartitionCount;
+        private int leaseDurationSeconds;
+        private long idlePollIntervalMillis;
+        private int minSplitSize;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractLoanDelinquencyProperties {
+
+        private boolean bulkClassificationEnabled;
     }
 
     @Getter
@@ -465,6 +575,7 @@ public class FineractProperties {
         private FineractTransactionProcessorItemProperties duePenaltyInterestPrincipalFeeInAdvancePenaltyInterestPrincipalFee;
         private FineractTransactionProcessorItemProperties advancedPaymentStrategy;
         private boolean errorNotFoundFail;
+        private int replayCheckpointInterval;
     }
 
     @Getter
@@ -530,4 +641,50 @@ public class FineractProperties {
     public static class FineractInvestorModuleProperties extends AbstractFineractModuleProperties {
 
     }
+
+    @Getter
+    @Setter
+    public static class FineractSearchProperties {
+
+        private boolean indexEnabled;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractBulkImportProperties {
+
+        private boolean streamingEnabled;
+        private int workerCount;
+        private int queueCapacity;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractCommandAuditProperties {
+
+        private boolean pipelineEnabled;
+        private int batchSize;
+        private int flushIntervalMillis;
+        private int queueCapacity;
+        private boolean awaitFlush;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractIdempotencyProperties {
+
+        private boolean storeEnabled;
+        private int cacheSize;
+        private int ttlHours;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractHookProperties {
+
+        private int registryRefreshSeconds;
+        private boolean deliveryWorkersEnabled;
+        private int deliveryQueueCapacity;
+        private int deliveryWorkerIdleSeconds;
+    }
 }
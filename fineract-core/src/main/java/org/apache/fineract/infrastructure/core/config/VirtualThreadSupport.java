@@ -0,0 +1,82 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config;
+
+import java.util.concurrent.ThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Switches the blocking executors of Fineract to virtual threads when {@code fineract.task-executor.virtual-threads-enabled}
+ * is set and the runtime supports them (Java 21+). On older runtimes the setting is ignored with a warning and the
+ * platform thread pools stay in place.
+ */
+@Slf4j
+@Component
+public class VirtualThreadSupport {
+
+    private static final int VIRTUAL_THREADS_JAVA_VERSION = 21;
+
+    private final boolean enabled;
+
+    public VirtualThreadSupport(FineractProperties fineractProperties) {
+        final boolean requested = fineractProperties.getTaskExecutor() != null
+                && fineractProperties.getTaskExecutor().isVirtualThreadsEnabled();
+        final int javaVersion = Runtime.version().feature();
+        if (requested && javaVersion < VIRTUAL_THREADS_JAVA_VERSION) {
+            log.warn("Virtual threads are enabled but not supported on Java {}, platform threads are used instead", javaVersion);
+        }
+        this.enabled = requested && javaVersion >= VIRTUAL_THREADS_JAVA_VERSION;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public ThreadFactory virtualThreadFactory(String threadNamePrefix) {
+        return new VirtualThreadTaskExecutor(threadNamePrefix).getVirtualThreadFactory();
+    }
+
+    /**
+     * Lets an existing pool create virtual instead of platform worker threads. The pool size keeps bounding the number
+     * of concurrent tasks, so callers resizing the pool keep working unchanged.
+     */
+    public void configure(ThreadPoolTaskExecutor taskExecutor, String threadNamePrefix) {
+        if (enabled) {
+            taskExecutor.setThreadFactory(virtualThreadFactory(threadNamePrefix));
+        }
+    }
+
+    /**
+     * Creates an executor starting one virtual thread per task. Submitting blocks once {@code concurrencyLimit} tasks are
+     * running, which replaces the bounded queue of the platform thread pools.
+     */
+    public TaskExecutor createTaskExecutor(String threadNamePrefix, int concurrencyLimit, TaskDecorator taskDecorator) {
+        final SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        taskExecutor.setVirtualThreads(true);
+        taskExecutor.setConcurrencyLimit(concurrencyLimit);
+        taskExecutor.setTaskDecorator(taskDecorator);
+        return taskExecutor;
+    }
+}
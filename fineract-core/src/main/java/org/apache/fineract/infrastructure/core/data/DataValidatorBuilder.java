@@ -26,6 +26,8 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import net.fortuna.ical4j.model.property.RRule;
@@ -39,6 +41,16 @@ import org.springframework.util.ObjectUtils;
 public class DataValidatorBuilder {
 
     public static final String VALID_INPUT_SEPERATOR = "_";
+    private static final Splitter VALID_INPUT_SPLITTER = Splitter.on(VALID_INPUT_SEPERATOR);
+    private static final Pattern PHONE_NUMBER_PATTERN = Pattern.compile("^\\+?[0-9. ()-]{0,25}$");
+    private static final Map<String, Pattern> COMPILED_EXPRESSIONS = new ConcurrentHashMap<>();
+    private static final ClassValue<List<String>> ENUM_NAMES = new ClassValue<>() {
+
+        @Override
+        protected List<String> computeValue(Class<?> type) {
+            return Arrays.stream(type.getEnumConstants()).map(constant -> ((Enum<?>) constant).name()).toList();
+        }
+    };
     private final List<ApiParameterError> dataValidationErrors;
     private String resource;
     private String parameter;
@@ -317,8 +329,7 @@ public class DataValidatorBuilder {
     }
 
     public DataValidatorBuilder isOneOfEnumValues(Class<? extends Enum<?>> e) {
-        final List<String> enumValuesList = Arrays.asList(Arrays.stream(e.getEnumConstants()).map(Enum::name).toArray(String[]::new));
-        return isOneOfTheseStringValues(enumValuesList);
+        return isOneOfTheseStringValues(ENUM_NAMES.get(e));
     }
 
     public DataValidatorBuilder isOneOfTheseStringValues(final Object... values) {
@@ -937,7 +948,7 @@ public class DataValidatorBuilder {
             return this;
         }
 
-        if (this.value != null && !this.value.toString().matches(expression)) {
+        if (this.value != null && !compiledExpression(expression).matcher(this.value.toString()).matches()) {
             final StringBuilder validationErrorCode = new StringBuilder("validation.msg.").append(this.resource).append(".")
                     .append(this.parameter).append(".does.not.match.regexp");
             final StringBuilder defaultEnglishMessage = new StringBuilder("The parameter `").append(this.parameter)
@@ -957,7 +968,7 @@ public class DataValidatorBuilder {
             return this;
         }
 
-        if (this.value != null && !this.value.toString().matches(expression)) {
+        if (this.value != null && !compiledExpression(expression).matcher(this.value.toString()).matches()) {
             final StringBuilder validationErrorCode = new StringBuilder("validation.msg.").append(this.resource).append(".")
                     .append(this.parameter).append(".does.not.match.regexp");
             final StringBuilder defaultEnglishMessage = new StringBuilder(Message);
@@ -971,11 +982,19 @@ public class DataValidatorBuilder {
         return this;
     }
 
+    /**
+     * Request validators pass the same handful of literal expressions on every call, so compile each one once instead
+     * of per {@link String#matches(String)} invocation.
+     */
+    private static Pattern compiledExpression(final String expression) {
+        return COMPILED_EXPRESSIONS.computeIfAbsent(expression, Pattern::compile);
+    }
+
     private DataValidatorBuilder validateStringFor(final String validInputs) {
         if (this.value == null && this.ignoreNullValue) {
             return this;
         }
-        final Iterable<String> inputs = Splitter.onPattern(VALID_INPUT_SEPERATOR).split(validInputs);
+        final Iterable<String> inputs = VALID_INPUT_SPLITTER.split(validInputs);
         boolean validationErr = true;
         for (final String input : inputs) {
             if (input.equalsIgnoreCase(this.value.toString().trim())) {
@@ -1008,9 +1027,7 @@ public class DataValidatorBuilder {
          * supports numbers, parentheses(), hyphens and may contain + sign in the beginning and can contain whitespaces
          * in between and length allowed is 0-25 chars.
          */
-        final String regex = "^\\+?[0-9. ()-]{0,25}$";
-        final Pattern pattern = Pattern.compile(regex);
-        final Matcher matcher = pattern.matcher(this.value.toString());
+        final Matcher matcher = PHONE_NUMBER_PATTERN.matcher(this.value.toString());
         if (matcher.matches()) {
             validationErr = false;
         }
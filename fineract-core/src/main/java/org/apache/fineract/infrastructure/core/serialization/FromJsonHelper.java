@@ -21,8 +21,16 @@ package org.apache.fineract.infrastructure.core.serialization;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StringReader;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.security.InvalidParameterException;
@@ -39,6 +47,7 @@ import java.util.Map;
 import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.infrastructure.core.api.JsonCommand;
 import org.apache.fineract.infrastructure.core.exception.InvalidJsonException;
 import org.apache.fineract.infrastructure.core.exception.UnsupportedParameterException;
 import org.springframework.context.annotation.Primary;
@@ -81,23 +90,48 @@ public class FromJsonHelper {
         return this.gsonConverter.toJson(object);
     }
 
+    /**
+     * Checks the top level parameters of a request body. The body is parsed for it, prefer
+     * {@link #checkForUnsupportedParameters(JsonCommand, Collection)} where the command is at hand.
+     */
     public void checkForUnsupportedParameters(final Type typeOfMap, final String json, final Collection<String> supportedParams) {
         if (StringUtils.isBlank(json)) {
             throw new InvalidJsonException();
         }
+        checkForUnsupportedParameters(parse(json), supportedParams);
+    }
 
-        final Map<String, Object> requestMap = this.gsonConverter.fromJson(json, typeOfMap);
+    /**
+     * Checks the top level parameters of a command against the ones it supports. The keys are read from the tree parsed
+     * when the command was built, duplicate keys were already rejected while parsing it.
+     */
+    public void checkForUnsupportedParameters(final JsonCommand command, final Collection<String> supportedParams) {
+        checkForUnsupportedParameters(parsedJson(command), supportedParams);
+    }
 
-        final List<String> unsupportedParameterList = new ArrayList<>();
-        for (final String providedParameter : requestMap.keySet()) {
-            if (!supportedParams.contains(providedParameter)) {
-                unsupportedParameterList.add(providedParameter);
-            }
-        }
+    /**
+     * Checks the top level parameters of an already parsed request body, which has to be a JSON object.
+     */
+    public void checkForUnsupportedParameters(final JsonElement element, final Collection<String> supportedParams) {
+        checkForUnsupportedParameters(requestObject(element), supportedParams);
+    }
 
-        if (!unsupportedParameterList.isEmpty()) {
-            throw new UnsupportedParameterException(unsupportedParameterList);
+    /**
+     * The parsed body of a command. Commands assembled in code may only carry the JSON, which is parsed then.
+     */
+    public JsonElement parsedJson(final JsonCommand command) {
+        final JsonElement parsedJson = command.parsedJson();
+        return parsedJson != null ? parsedJson : parse(command.json());
+    }
+
+    private static JsonObject requestObject(final JsonElement element) {
+        if (element == null) {
+            throw new InvalidJsonException();
+        }
+        if (!element.isJsonObject()) {
+            throw new JsonSyntaxException("Expected a JSON object but was " + element);
         }
+        return element.getAsJsonObject();
     }
 
     public void checkForUnsupportedParameters(final JsonObject object, final Collection<String> supportedParams) {
@@ -144,15 +178,50 @@ public class FromJsonHelper {
 
     }
 
+    /**
+     * Parses a request body like {@link JsonParser#parseString(String)} does, but rejects a body which repeats a top level
+     * parameter, as binding it to a map did before the unsupported parameter checks moved to the parsed tree.
+     */
     public JsonElement parse(final String json) {
 
         JsonElement parsedElement = null;
         if (StringUtils.isNotBlank(json)) {
-            parsedElement = JsonParser.parseString(json);
+            parsedElement = parseRejectingDuplicateParameters(json);
         }
         return parsedElement;
     }
 
+    private static JsonElement parseRejectingDuplicateParameters(final String json) {
+        try {
+            final JsonReader reader = new JsonReader(new StringReader(json));
+            reader.setLenient(true);
+            final JsonElement element;
+            if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+                final JsonObject object = new JsonObject();
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    final String name = reader.nextName();
+                    if (object.has(name)) {
+                        throw new JsonSyntaxException("duplicate key: " + name);
+                    }
+                    object.add(name, JsonParser.parseReader(reader));
+                }
+                reader.endObject();
+                element = object;
+            } else {
+                element = JsonParser.parseReader(reader);
+            }
+            if (!element.isJsonNull() && reader.peek() != JsonToken.END_DOCUMENT) {
+                throw new JsonSyntaxException("Did not consume the entire document.");
+            }
+            return element;
+        } catch (MalformedJsonException | EOFException | NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
     public boolean parameterExists(final String parameterName, final JsonElement element) {
         return this.helperDelegator.parameterExists(parameterName, element);
     }
@@ -25,13 +25,25 @@ public class Page<E> implements Serializable {
 
     private final Integer totalFilteredRecords;
     private final List<E> pageItems;
+    private final String nextCursor;
 
     public Page(final List<E> pageItems, final Integer totalFilteredRecords) {
+        this(pageItems, totalFilteredRecords, null);
+    }
+
+    /**
+     * @param totalFilteredRecords
+     *            may be null for cursor based pages where the total count was not requested
+     * @param nextCursor
+     *            opaque cursor of the following page, null when this is the last page
+     */
+    public Page(final List<E> pageItems, final Integer totalFilteredRecords, final String nextCursor) {
         this.pageItems = pageItems;
         this.totalFilteredRecords = totalFilteredRecords;
+        this.nextCursor = nextCursor;
     }
 
-    public int getTotalFilteredRecords() {
+    public Integer getTotalFilteredRecords() {
         return this.totalFilteredRecords;
     }
 
@@ -39,4 +51,8 @@ public class Page<E> implements Serializable {
         return this.pageItems;
     }
 
+    public String getNextCursor() {
+        return this.nextCursor;
+    }
+
 }
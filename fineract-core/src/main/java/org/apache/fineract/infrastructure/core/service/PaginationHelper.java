@@ -18,8 +18,15 @@
  */
 package org.apache.fineract.infrastructure.core.service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.function.Function;
 import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.infrastructure.core.data.ApiParameterError;
+import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseTypeResolver;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,6 +37,8 @@ import org.springframework.stereotype.Component;
 @Component
 public class PaginationHelper {
 
+    private static final int DEFAULT_KEYSET_PAGE_SIZE = 200;
+
     private final DatabaseSpecificSQLGenerator sqlGenerator;
     private final DatabaseTypeResolver databaseTypeResolver;
 
@@ -64,4 +73,71 @@ public class PaginationHelper {
 
         return new Page<>(items, ObjectUtils.defaultIfNull(totalFilteredRecords, 0));
     }
+
+    /**
+     * Fetches a page by seeking past the key of the last row of the previous page instead of skipping rows with an
+     * offset, so the cost of a page does not depend on how deep the client has paged.
+     *
+     * @param sqlFilterRows
+     *            select with a where clause, but without order by, limit and SQL_CALC_FOUND_ROWS
+     * @param keyColumn
+     *            unique column the rows are ordered and seeked by (e.g. the qualified primary key)
+     * @param keyExtractor
+     *            reads the key column value back from a mapped row to build the next cursor
+     */
+    public <E> Page<E> fetchKeysetPage(final JdbcTemplate jt, final String sqlFilterRows, final List<Object> args, final String keyColumn,
+            final SearchParameters searchParameters, final RowMapper<E> rowMapper, final Function<E, Long> keyExtractor) {
+        if (searchParameters.isOrderByRequested() && !"id".equalsIgnoreCase(searchParameters.getOrderBy())) {
+            throw validationError("validation.msg.orderBy.not.supported.with.cursor",
+                    "Only ordering by id is supported with cursor pagination.", "orderBy", searchParameters.getOrderBy());
+        }
+        final boolean descending = "desc".equalsIgnoreCase(searchParameters.getSortOrder());
+        final int limit = searchParameters.isLimited() ? searchParameters.getLimit() : DEFAULT_KEYSET_PAGE_SIZE;
+        final Long lastKey = decodeCursor(searchParameters.getCursor());
+
+        final StringBuilder sqlBuilder = new StringBuilder(sqlFilterRows);
+        final List<Object> params = new ArrayList<>(args);
+        if (lastKey != null) {
+            sqlBuilder.append(" and ").append(keyColumn).append(descending ? " < ?" : " > ?");
+            params.add(lastKey);
+        }
+        // one extra row tells whether there is a following page without counting
+        sqlBuilder.append(" order by ").append(keyColumn).append(descending ? " desc " : " asc ").append(sqlGenerator.limit(limit + 1));
+
+        final List<E> rows = jt.query(sqlBuilder.toString(), rowMapper, params.toArray()); // NOSONAR
+        List<E> items = rows;
+        String nextCursor = null;
+        if (rows.size() > limit) {
+            items = new ArrayList<>(rows.subList(0, limit));
+            nextCursor = encodeCursor(keyExtractor.apply(items.get(limit - 1)));
+        }
+
+        Integer totalFilteredRecords = null;
+        if (searchParameters.isTotalRequested()) {
+            totalFilteredRecords = jt.queryForObject(sqlGenerator.countQueryResult(sqlFilterRows), Integer.class, args.toArray()); // NOSONAR
+        }
+        return new Page<>(items, totalFilteredRecords, nextCursor);
+    }
+
+    static String encodeCursor(final Long key) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(key).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Long decodeCursor(final String cursor) {
+        if (StringUtils.isBlank(cursor)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw validationError("validation.msg.cursor.invalid", "The cursor '" + cursor + "' is not valid.", "cursor", cursor);
+        }
+    }
+
+    private static PlatformApiDataValidationException validationError(final String code, final String defaultUserMessage,
+            final String parameterName, final Object value) {
+        final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
+        dataValidationErrors.add(ApiParameterError.parameterError(code, defaultUserMessage, parameterName, value));
+        return new PlatformApiDataValidationException(dataValidationErrors);
+    }
 }
@@ -53,6 +53,10 @@ public final class SearchParameters {
     private final Long categoryId;
     private final boolean isSelfUser;
 
+    // Keyset (cursor) pagination Params
+    private final String cursor;
+    private final Boolean withTotal;
+
     public static SearchParameters from(final Long officeId, final String externalId, final String name, final String hierarchy) {
         final Long staffId = null;
         final String accountNo = null;
@@ -67,15 +71,20 @@ public final class SearchParameters {
     public static SearchParameters forClients(final Long officeId, final String externalId, final String displayName,
             final String firstname, final String lastname, final String status, final String hierarchy, final Integer offset,
             final Integer limit, final String orderBy, final String sortOrder, final Boolean orphansOnly, final boolean isSelfUser) {
+        return forClients(officeId, externalId, displayName, firstname, lastname, status, hierarchy, offset, limit, orderBy, sortOrder,
+                orphansOnly, isSelfUser, null, null);
+    }
+
+    public static SearchParameters forClients(final Long officeId, final String externalId, final String displayName,
+            final String firstname, final String lastname, final String status, final String hierarchy, final Integer offset,
+            final Integer limit, final String orderBy, final String sortOrder, final Boolean orphansOnly, final boolean isSelfUser,
+            final String cursor, final Boolean withTotal) {
 
         final Integer maxLimitAllowed = getCheckedLimit(limit);
-        final Long staffId = null;
-        final String accountNo = null;
-        final Long loanId = null;
-        final Long savingsId = null;
 
-        return new SearchParameters(officeId, externalId, displayName, hierarchy, firstname, lastname, status, offset, maxLimitAllowed,
-                orderBy, sortOrder, staffId, accountNo, loanId, savingsId, orphansOnly, isSelfUser);
+        return SearchParameters.builder().officeId(officeId).externalId(externalId).name(displayName).hierarchy(hierarchy)
+                .firstname(firstname).lastname(lastname).status(status).offset(offset).limit(maxLimitAllowed).orderBy(orderBy)
+                .sortOrder(sortOrder).orphansOnly(orphansOnly).isSelfUser(isSelfUser).cursor(cursor).withTotal(withTotal).build();
     }
 
     public static SearchParameters forGroups(final Long officeId, final Long staffId, final String externalId, final String name,
@@ -184,17 +193,16 @@ public final class SearchParameters {
 
     public static SearchParameters forSavings(final String externalId, final Integer offset, final Integer limit, final String orderBy,
             final String sortOrder) {
+        return forSavings(externalId, offset, limit, orderBy, sortOrder, null, null);
+    }
+
+    public static SearchParameters forSavings(final String externalId, final Integer offset, final Integer limit, final String orderBy,
+            final String sortOrder, final String cursor, final Boolean withTotal) {
 
         final Integer maxLimitAllowed = getCheckedLimit(limit);
-        final Long staffId = null;
-        final String accountNo = null;
-        final Long loanId = null;
-        final Long savingsId = null;
-        final Boolean orphansOnly = false;
-        final boolean isSelfUser = false;
 
-        return new SearchParameters(null, externalId, null, null, null, null, offset, maxLimitAllowed, orderBy, sortOrder, staffId,
-                accountNo, loanId, savingsId, orphansOnly, isSelfUser);
+        return SearchParameters.builder().externalId(externalId).offset(offset).limit(maxLimitAllowed).orderBy(orderBy)
+                .sortOrder(sortOrder).orphansOnly(false).cursor(cursor).withTotal(withTotal).build();
     }
 
     public static SearchParameters forAccountTransfer(final String externalId, final Integer offset, final Integer limit,
@@ -268,7 +276,8 @@ public final class SearchParameters {
         this.categoryId = null;
         this.isSelfUser = isSelfUser;
         this.status = status;
-
+        this.cursor = null;
+        this.withTotal = null;
     }
 
     private SearchParameters(final Long officeId, final String externalId, final String name, final String hierarchy,
@@ -296,6 +305,8 @@ public final class SearchParameters {
         this.categoryId = null;
         this.isSelfUser = isSelfUser;
         this.status = null;
+        this.cursor = null;
+        this.withTotal = null;
     }
 
     private SearchParameters(final Long provisioningEntryId, final Long officeId, final Long productId, final Long categoryId,
@@ -321,7 +332,8 @@ public final class SearchParameters {
         this.categoryId = categoryId;
         this.isSelfUser = false;
         this.status = null;
-
+        this.cursor = null;
+        this.withTotal = null;
     }
 
     public SearchParameters(final Long officeId, final String externalId, final String name, final String hierarchy, final String firstname,
@@ -349,7 +361,8 @@ public final class SearchParameters {
         this.categoryId = null;
         this.isSelfUser = false;
         this.status = null;
-
+        this.cursor = null;
+        this.withTotal = null;
     }
 
     public boolean isOrderByRequested() {
@@ -507,6 +520,21 @@ public final class SearchParameters {
         return this.isSelfUser;
     }
 
+    /**
+     * Keyset pagination is requested by passing a cursor; an empty cursor asks for the first page.
+     */
+    public boolean isKeysetPaginated() {
+        return this.cursor != null;
+    }
+
+    public String getCursor() {
+        return this.cursor;
+    }
+
+    public boolean isTotalRequested() {
+        return this.withTotal != null && this.withTotal;
+    }
+
     /**
      * creates an instance of the SearchParameters from a request for the report mailing job run history
      *
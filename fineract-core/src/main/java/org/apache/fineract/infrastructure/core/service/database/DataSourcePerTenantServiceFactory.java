@@ -61,8 +61,16 @@ public class DataSourcePerTenantServiceFactory {
         this.databasePasswordEncryptor = databasePasswordEncryptor;
     }
 
-    @SuppressFBWarnings(value = "SLF4J_SIGN_ONLY_FORMAT")
     public DataSource createNewDataSourceFor(final FineractPlatformTenantConnection tenantConnection) {
+        return hikariDataSourceFactory.create(createHikariConfigFor(tenantConnection));
+    }
+
+    /**
+     * Builds the connection pool configuration of a tenant connection without opening the pool, so that callers
+     * managing the pool lifecycle themselves can adjust it first.
+     */
+    @SuppressFBWarnings(value = "SLF4J_SIGN_ONLY_FORMAT")
+    public HikariConfig createHikariConfigFor(final FineractPlatformTenantConnection tenantConnection) {
         if (!databasePasswordEncryptor.isMasterPasswordHashValid(tenantConnection.getMasterPasswordHash())) {
             throw new IllegalArgumentException(
                     "Invalid master password on tenant connection %d.".formatted(tenantConnection.getConnectionId()));
@@ -110,7 +118,7 @@ public class DataSourcePerTenantServiceFactory {
         // for the all Tenants DB -->
         config.setDataSourceProperties(hikariConfig.getDataSourceProperties());
 
-        return hikariDataSourceFactory.create(config);
+        return config;
     }
 
     private int getMaxPoolSize(FineractPlatformTenantConnection tenantConnection) {
@@ -0,0 +1,133 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service.database;
+
+import io.micrometer.core.instrument.Timer;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * {@link javax.sql.DataSource} of a single tenant connection in elastic pooling mode.
+ *
+ * A connection is only handed out once the tenant is below its own connection limit and the node wide connection
+ * budget has a free slot. Connections leased from a pool shared by several tenants are switched to the tenant schema
+ * before they are returned. Closing the connection gives back the tenant slot, the budget slot and the pool lease.
+ */
+final class ElasticTenantDataSource extends AbstractDataSource {
+
+    private final String tenantName;
+    private final ElasticTenantPool pool;
+    private final String catalog;
+    private final Semaphore tenantPermits;
+    private final Semaphore budget;
+    private final long acquireTimeoutNanos;
+    private final Timer waitTimer;
+
+    ElasticTenantDataSource(String tenantName, ElasticTenantPool pool, String catalog, Semaphore tenantPermits, Semaphore budget,
+            long acquireTimeoutNanos, Timer waitTimer) {
+        this.tenantName = tenantName;
+        this.pool = pool;
+        this.catalog = catalog;
+        this.tenantPermits = tenantPermits;
+        this.budget = budget;
+        this.acquireTimeoutNanos = acquireTimeoutNanos;
+        this.waitTimer = waitTimer;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        final long start = System.nanoTime();
+        final Lease lease = new Lease();
+        try {
+            if (!tryAcquire(tenantPermits, acquireTimeoutNanos)) {
+                throw new SQLTransientConnectionException(
+                        "Tenant " + tenantName + " reached its connection limit, no connection available in time");
+            }
+            lease.tenantPermit = true;
+            if (!tryAcquire(budget, acquireTimeoutNanos - (System.nanoTime() - start))) {
+                throw new SQLTransientConnectionException(
+                        "Connection budget of this node is exhausted, no connection available in time for tenant " + tenantName);
+            }
+            lease.budgetPermit = true;
+            lease.connection = pool.lease();
+            if (catalog != null) {
+                lease.connection.setCatalog(catalog);
+            }
+        } catch (SQLException | RuntimeException e) {
+            if (lease.connection != null) {
+                try {
+                    lease.connection.close();
+                } catch (SQLException closeException) {
+                    e.addSuppressed(closeException);
+                }
+            }
+            lease.release();
+            throw e;
+        } finally {
+            // timeouts are recorded too, they are the waits that matter most
+            if (waitTimer != null) {
+                waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+        return ReleasingConnectionHandler.wrap(lease.connection, lease::release);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    private static boolean tryAcquire(Semaphore semaphore, long timeoutNanos) throws SQLException {
+        try {
+            return semaphore.tryAcquire(Math.max(timeoutNanos, 0L), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection", e);
+        }
+    }
+
+    private final class Lease {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+        private boolean tenantPermit;
+        private boolean budgetPermit;
+        private Connection connection;
+
+        private void release() {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            if (connection != null) {
+                pool.release();
+            }
+            if (budgetPermit) {
+                budget.release();
+            }
+            if (tenantPermit) {
+                tenantPermits.release();
+            }
+        }
+    }
+}
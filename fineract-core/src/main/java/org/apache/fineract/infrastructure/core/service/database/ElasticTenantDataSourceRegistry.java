@@ -0,0 +1,242 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service.database;
+
+import com.zaxxer.hikari.HikariConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenantConnection;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the tenant data sources of the elastic pooling mode.
+ *
+ * Tenant pools start empty, grow up to the tenant's maximum pool size under demand and are closed once they have been
+ * idle for {@code fineract.tenant-pool.evict-after} seconds. All tenants together never hold more connections than
+ * {@code fineract.tenant-pool.max-connections}. On MySQL/MariaDB, tenants living on the same database server with the
+ * same credentials lease from one shared pool and switch to their schema on every checkout; PostgreSQL cannot switch
+ * databases on an open connection, so there every tenant keeps its own pool.
+ *
+ * The time spent waiting for a connection is published per tenant as {@code fineract.tenant.connection.wait}.
+ */
+@Slf4j
+@Component
+public class ElasticTenantDataSourceRegistry implements DisposableBean {
+
+    private static final String WAIT_TIMER_NAME = "fineract.tenant.connection.wait";
+    private static final String ACTIVE_GAUGE_NAME = "fineract.tenant.connection.active";
+
+    private final FineractProperties fineractProperties;
+    private final HikariDataSourceFactory hikariDataSourceFactory;
+    private final DatabaseTypeResolver databaseTypeResolver;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    private final Map<SharedPoolKey, ElasticTenantPool> sharedPools = new ConcurrentHashMap<>();
+    private final List<ElasticTenantPool> pools = new CopyOnWriteArrayList<>();
+    private final AtomicInteger sharedPoolCounter = new AtomicInteger();
+    private Semaphore budget;
+    private ScheduledExecutorService evictor;
+
+    public ElasticTenantDataSourceRegistry(FineractProperties fineractProperties, HikariDataSourceFactory hikariDataSourceFactory,
+            DatabaseTypeResolver databaseTypeResolver, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.fineractProperties = fineractProperties;
+        this.hikariDataSourceFactory = hikariDataSourceFactory;
+        this.databaseTypeResolver = databaseTypeResolver;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean isEnabled() {
+        return fineractProperties.getTenantPool() != null && fineractProperties.getTenantPool().isElasticEnabled();
+    }
+
+    /**
+     * Creates the elastic data source of a tenant connection from the configuration the regular per tenant pool would
+     * use. No physical connection is opened until the data source is used.
+     */
+    public synchronized DataSource createDataSourceFor(FineractPlatformTenantConnection tenantConnection, HikariConfig tenantConfig) {
+        final FineractProperties.FineractTenantPoolProperties properties = fineractProperties.getTenantPool();
+        startIfNecessary(properties);
+
+        final String tenantName = tenantConnection.getSchemaName();
+        final int maxActive = Math.min(tenantConfig.getMaximumPoolSize(), properties.getMaxConnections());
+        final Semaphore tenantPermits = new Semaphore(maxActive, true);
+
+        ElasticTenantPool pool;
+        String catalog = null;
+        final JdbcUrl url = properties.isSharedPoolEnabled() && databaseTypeResolver.isMySQL()
+                ? JdbcUrl.parse(tenantConfig.getJdbcUrl())
+                : null;
+        if (url != null && url.database() == null) {
+            log.warn("The JDBC URL of {} names no database, it cannot share a connection pool", tenantName);
+        }
+        if (url != null && url.database() != null) {
+            final SharedPoolKey key = new SharedPoolKey(url.serverUrl(), tenantConfig.getUsername(), tenantConfig.getPassword(),
+                    tenantConfig.isReadOnly());
+            pool = sharedPools.computeIfAbsent(key, k -> createSharedPool(tenantConfig, url, properties));
+            catalog = url.database();
+        } else {
+            pool = register(configure(tenantConfig, tenantConfig.getPoolName(), maxActive, properties));
+        }
+
+        final MeterRegistry registry = meterRegistry.getIfAvailable();
+        Timer waitTimer = null;
+        if (registry != null) {
+            waitTimer = Timer.builder(WAIT_TIMER_NAME).description("Time spent waiting for a tenant database connection")
+                    .tag("tenant", tenantName).register(registry);
+            Gauge.builder(ACTIVE_GAUGE_NAME, tenantPermits, permits -> maxActive - permits.availablePermits())
+                    .description("Tenant database connections currently in use").tag("tenant", tenantName).register(registry);
+        }
+        log.debug("Created elastic data source for {} on pool {}", tenantName, pool.getName());
+        return new ElasticTenantDataSource(tenantName, pool, catalog, tenantPermits, budget,
+                TimeUnit.SECONDS.toNanos(properties.getAcquireTimeout()), waitTimer);
+    }
+
+    private ElasticTenantPool createSharedPool(HikariConfig tenantConfig, JdbcUrl url,
+            FineractProperties.FineractTenantPoolProperties properties) {
+        final String poolName = "shared_pool_" + sharedPoolCounter.incrementAndGet();
+        log.info("Tenant schemas on {} share connection pool {}", url.serverAddress(), poolName);
+        return register(configure(tenantConfig, poolName, properties.getMaxConnections(), properties));
+    }
+
+    private HikariConfig configure(HikariConfig tenantConfig, String poolName, int maximumPoolSize,
+            FineractProperties.FineractTenantPoolProperties properties) {
+        final HikariConfig config = new HikariConfig();
+        tenantConfig.copyStateTo(config);
+        config.setPoolName(poolName);
+        config.setMinimumIdle(0);
+        config.setMaximumPoolSize(maximumPoolSize);
+        config.setIdleTimeout(TimeUnit.SECONDS.toMillis(properties.getIdleTimeout()));
+        config.setConnectionTimeout(TimeUnit.SECONDS.toMillis(properties.getAcquireTimeout()));
+        return config;
+    }
+
+    private ElasticTenantPool register(HikariConfig config) {
+        final ElasticTenantPool pool = new ElasticTenantPool(config, hikariDataSourceFactory);
+        pools.add(pool);
+        return pool;
+    }
+
+    private void startIfNecessary(FineractProperties.FineractTenantPoolProperties properties) {
+        if (budget != null) {
+            return;
+        }
+        budget = new Semaphore(properties.getMaxConnections(), true);
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("tenant-pool-evictor-");
+        threadFactory.setDaemon(true);
+        evictor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        final long period = Math.max(1, Math.min(properties.getIdleTimeout(), properties.getEvictAfter()));
+        final long evictAfterNanos = TimeUnit.SECONDS.toNanos(properties.getEvictAfter());
+        evictor.scheduleWithFixedDelay(() -> evictIdlePools(evictAfterNanos), period, period, TimeUnit.SECONDS);
+    }
+
+    private void evictIdlePools(long evictAfterNanos) {
+        for (ElasticTenantPool pool : pools) {
+            try {
+                if (pool.evictIfIdle(evictAfterNanos)) {
+                    log.debug("Closed idle connection pool {}", pool.getName());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Error while closing idle connection pool {}", pool.getName(), e);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (evictor != null) {
+            evictor.shutdownNow();
+        }
+        pools.forEach(ElasticTenantPool::close);
+    }
+
+    private record SharedPoolKey(String serverUrl, String username, String password, boolean readOnly) {
+
+        @Override
+        public String toString() {
+            return username + "@" + serverUrl;
+        }
+    }
+
+    /**
+     * A MySQL/MariaDB JDBC URL split into the server part, which decides the shared pool, and the database, which is the
+     * catalog the connections switch to.
+     *
+     * @param serverUrl
+     *            the URL without the database, parameters included
+     * @param database
+     *            the database of the URL, or null if it names none
+     */
+    record JdbcUrl(String serverUrl, String database) {
+
+        /**
+         * @throws IllegalArgumentException
+         *             if the URL is not of the <code>jdbc:&lt;driver&gt;://&lt;hosts&gt;[/database][?parameters]</code>
+         *             form
+         */
+        static JdbcUrl parse(String jdbcUrl) {
+            final int hostsStart = jdbcUrl == null ? -1 : jdbcUrl.indexOf("://");
+            if (hostsStart < 0 || !jdbcUrl.startsWith("jdbc:")) {
+                throw new IllegalArgumentException(
+                        "Unsupported JDBC URL for a shared tenant connection pool: " + withoutParameters(jdbcUrl));
+            }
+            int hostsEnd = hostsStart + 3;
+            while (hostsEnd < jdbcUrl.length() && jdbcUrl.charAt(hostsEnd) != '/' && jdbcUrl.charAt(hostsEnd) != '?') {
+                hostsEnd++;
+            }
+            if (hostsEnd == jdbcUrl.length() || jdbcUrl.charAt(hostsEnd) == '?') {
+                return new JdbcUrl(jdbcUrl, null);
+            }
+            final int parametersStart = jdbcUrl.indexOf('?', hostsEnd);
+            final int databaseEnd = parametersStart < 0 ? jdbcUrl.length() : parametersStart;
+            final String database = jdbcUrl.substring(hostsEnd + 1, databaseEnd);
+            return new JdbcUrl(jdbcUrl.substring(0, hostsEnd + 1) + jdbcUrl.substring(databaseEnd), database.isEmpty() ? null : database);
+        }
+
+        /**
+         * @return the server part without the parameters, which may hold credentials, for logging
+         */
+        String serverAddress() {
+            return withoutParameters(serverUrl);
+        }
+
+        private static String withoutParameters(String jdbcUrl) {
+            if (jdbcUrl == null) {
+                return null;
+            }
+            final int parametersStart = jdbcUrl.indexOf('?');
+            return parametersStart < 0 ? jdbcUrl : jdbcUrl.substring(0, parametersStart);
+        }
+    }
+}
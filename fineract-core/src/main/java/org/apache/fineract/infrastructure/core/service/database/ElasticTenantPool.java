@@ -0,0 +1,91 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service.database;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Connection pool that is opened on the first lease and closed again once it has not been leased for a while, so that
+ * idle tenants do not keep any physical connection open.
+ *
+ * The pool is never handed out directly: every connection is leased through {@link #lease()} and given back with
+ * {@link #release()}, which makes it safe to evict the pool while other threads still hold a reference to it.
+ */
+final class ElasticTenantPool {
+
+    private final HikariConfig config;
+    private final HikariDataSourceFactory hikariDataSourceFactory;
+
+    private HikariDataSource dataSource;
+    private int leases;
+    private long lastReleased = System.nanoTime();
+
+    ElasticTenantPool(HikariConfig config, HikariDataSourceFactory hikariDataSourceFactory) {
+        this.config = config;
+        this.hikariDataSourceFactory = hikariDataSourceFactory;
+    }
+
+    String getName() {
+        return config.getPoolName();
+    }
+
+    Connection lease() throws SQLException {
+        HikariDataSource current;
+        synchronized (this) {
+            if (dataSource == null) {
+                dataSource = hikariDataSourceFactory.create(config);
+            }
+            leases++;
+            current = dataSource;
+        }
+        try {
+            return current.getConnection();
+        } catch (SQLException | RuntimeException e) {
+            release();
+            throw e;
+        }
+    }
+
+    synchronized void release() {
+        leases--;
+        lastReleased = System.nanoTime();
+    }
+
+    /**
+     * Closes the underlying pool when nothing is leased from it and the last connection was given back more than
+     * {@code idleNanos} ago. The next lease opens the pool again.
+     */
+    synchronized boolean evictIfIdle(long idleNanos) {
+        if (dataSource == null || leases > 0 || System.nanoTime() - lastReleased < idleNanos) {
+            return false;
+        }
+        close();
+        return true;
+    }
+
+    synchronized void close() {
+        if (dataSource != null) {
+            dataSource.close();
+            dataSource = null;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service.database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Wraps a pooled {@link Connection} so that the resources reserved for it are given back exactly once when the
+ * connection is closed. Unwrapping to {@link Connection} returns the wrapper itself, so a caller closing the unwrapped
+ * connection still gives the resources back; vendor specific interfaces are unwrapped from the pooled connection.
+ */
+final class ReleasingConnectionHandler implements InvocationHandler {
+
+    private final Connection connection;
+    private final Runnable release;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private ReleasingConnectionHandler(Connection connection, Runnable release) {
+        this.connection = connection;
+        this.release = release;
+    }
+
+    static Connection wrap(Connection connection, Runnable release) {
+        return (Connection) Proxy.newProxyInstance(ReleasingConnectionHandler.class.getClassLoader(), new Class<?>[] { Connection.class },
+                new ReleasingConnectionHandler(connection, release));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "close":
+                if (released.compareAndSet(false, true)) {
+                    try {
+                        connection.close();
+                    } finally {
+                        release.run();
+                    }
+                }
+                return null;
+            case "isClosed":
+                return released.get() || connection.isClosed();
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "unwrap":
+                if (((Class<?>) args[0]).isInstance(proxy)) {
+                    return proxy;
+                }
+                return invokeTarget(method, args);
+            case "isWrapperFor":
+                return ((Class<?>) args[0]).isInstance(proxy) || (Boolean) invokeTarget(method, args);
+            default:
+                return invokeTarget(method, args);
+        }
+    }
+
+    private Object invokeTarget(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(connection, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.fineract.infrastructure.core.service.database;
 
+import com.zaxxer.hikari.HikariDataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.List;
@@ -25,6 +26,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import javax.sql.DataSource;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.VirtualThreadSupport;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenantConnection;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
@@ -50,13 +52,18 @@ public class TomcatJdbcDataSourcePerTenantService implements RoutingDataSourceSe
     private final TenantDetailsService tenantDetailsService;
 
     private final DataSourcePerTenantServiceFactory dataSourcePerTenantServiceFactory;
+    private final ElasticTenantDataSourceRegistry elasticTenantDataSourceRegistry;
+    private final VirtualThreadSupport virtualThreadSupport;
 
     @Autowired
     public TomcatJdbcDataSourcePerTenantService(final @Qualifier("hikariTenantDataSource") DataSource tenantDataSource,
-            final DataSourcePerTenantServiceFactory dataSourcePerTenantServiceFactory, final TenantDetailsService tenantDetailsService) {
+            final DataSourcePerTenantServiceFactory dataSourcePerTenantServiceFactory, final TenantDetailsService tenantDetailsService,
+            final ElasticTenantDataSourceRegistry elasticTenantDataSourceRegistry, final VirtualThreadSupport virtualThreadSupport) {
         this.tenantDataSource = tenantDataSource;
         this.dataSourcePerTenantServiceFactory = dataSourcePerTenantServiceFactory;
         this.tenantDetailsService = tenantDetailsService;
+        this.elasticTenantDataSourceRegistry = elasticTenantDataSourceRegistry;
+        this.virtualThreadSupport = virtualThreadSupport;
     }
 
     @Override
@@ -70,16 +77,28 @@ public class TomcatJdbcDataSourcePerTenantService implements RoutingDataSourceSe
             Long tenantConnectionKey = tenantConnection.getConnectionId();
             // if tenantConnection information available switch to the
             // appropriate datasource for that tenant.
-            actualDataSource = TENANT_TO_DATA_SOURCE_MAP.computeIfAbsent(tenantConnectionKey, (key) -> {
-                DataSource tenantSpecificDataSource = dataSourcePerTenantServiceFactory.createNewDataSourceFor(tenantConnection);
-                return tenantSpecificDataSource;
-            });
+            actualDataSource = TENANT_TO_DATA_SOURCE_MAP.computeIfAbsent(tenantConnectionKey,
+                    (key) -> createDataSourceFor(tenantConnection));
 
         }
 
         return actualDataSource;
     }
 
+    private DataSource createDataSourceFor(FineractPlatformTenantConnection tenantConnection) {
+        if (elasticTenantDataSourceRegistry.isEnabled()) {
+            return elasticTenantDataSourceRegistry.createDataSourceFor(tenantConnection,
+                    dataSourcePerTenantServiceFactory.createHikariConfigFor(tenantConnection));
+        }
+        final DataSource dataSource = dataSourcePerTenantServiceFactory.createNewDataSourceFor(tenantConnection);
+        if (virtualThreadSupport.isEnabled() && dataSource instanceof HikariDataSource hikariDataSource) {
+            // virtual threads remove the thread pool limit in front of the connection pool, so queue the callers here
+            return new ConnectionLimitingDataSource(hikariDataSource, hikariDataSource.getMaximumPoolSize(),
+                    hikariDataSource.getConnectionTimeout());
+        }
+        return dataSource;
+    }
+
     @Override
     public void onApplicationEvent(ContextRefreshedEvent event) {
         final List<FineractPlatformTenant> allTenants = tenantDetailsService.findAllTenants();
@@ -93,7 +112,7 @@ public class TomcatJdbcDataSourcePerTenantService implements RoutingDataSourceSe
         final FineractPlatformTenantConnection tenantConnection = tenant.getConnection();
         Long tenantConnectionKey = tenantConnection.getConnectionId();
         TENANT_TO_DATA_SOURCE_MAP.computeIfAbsent(tenantConnectionKey, (key) -> {
-            DataSource tenantSpecificDataSource = dataSourcePerTenantServiceFactory.createNewDataSourceFor(tenantConnection);
+            DataSource tenantSpecificDataSource = createDataSourceFor(tenantConnection);
             try (Connection connection = tenantSpecificDataSource.getConnection()) {
                 String url = connection.getMetaData().getURL();
                 log.debug("Established database connection with URL {}", url);
@@ -25,10 +25,13 @@ import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDoma
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventStatus;
+import org.apache.fineract.infrastructure.jobs.service.ChunkedPurgeService;
+import org.apache.fineract.infrastructure.jobs.service.ChunkedPurgeService.ChunkedPurgeTarget;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -36,14 +39,25 @@ import org.springframework.stereotype.Component;
 @Component
 public class PurgeExternalEventsTasklet implements Tasklet {
 
+    private static final ChunkedPurgeTarget PURGE_TARGET = new ChunkedPurgeTarget("m_external_event",
+            "status = :status and business_date <= :" + ChunkedPurgeService.CUTOFF_PARAMETER);
+
     private final ExternalEventRepository repository;
     private final ConfigurationDomainService configurationDomainService;
+    private final ChunkedPurgeService chunkedPurgeService;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        Long numberOfDaysForPurgeCriteria = configurationDomainService.retrieveExternalEventsPurgeDaysCriteria();
+        LocalDate dateForPurgeCriteria = DateUtils.getBusinessLocalDate().minusDays(numberOfDaysForPurgeCriteria);
+        if (chunkedPurgeService.isEnabled()) {
+            // failures fail the step, a restart continues from the range cursor
+            MapSqlParameterSource parameters = new MapSqlParameterSource("status", ExternalEventStatus.SENT.name())
+                    .addValue(ChunkedPurgeService.CUTOFF_PARAMETER, dateForPurgeCriteria);
+            return chunkedPurgeService.purgeNextChunk(PURGE_TARGET, parameters, contribution) ? RepeatStatus.CONTINUABLE
+                    : RepeatStatus.FINISHED;
+        }
         try {
-            Long numberOfDaysForPurgeCriteria = configurationDomainService.retrieveExternalEventsPurgeDaysCriteria();
-            LocalDate dateForPurgeCriteria = DateUtils.getBusinessLocalDate().minusDays(numberOfDaysForPurgeCriteria);
             repository.deleteOlderEventsWithSentStatus(ExternalEventStatus.SENT, dateForPurgeCriteria);
         } catch (Exception e) {
             log.error("Error occurred while purging external events: ", e);
@@ -64,10 +64,10 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
         try {
-            if (isDownstreamChannelEnabled()) {
-                List<ExternalEventView> events = getQueuedEventsBatch();
-                log.debug("Queued events size: {}", events.size());
-                sendEvents(events);
+            if (isRelayEnabled()) {
+                log.debug("External event relay is enabled, leaving the queued events to it");
+            } else if (isDownstreamChannelEnabled()) {
+                sendQueuedEvents(getBatchSize());
             }
         } catch (Exception e) {
             log.error("Error occurred while processing events: ", e);
@@ -75,13 +75,28 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
         return RepeatStatus.FINISHED;
     }
 
-    private boolean isDownstreamChannelEnabled() {
+    /**
+     * Sends one batch of queued events. Shared by the scheduled job and the long-running external event relay.
+     *
+     * @return the number of events sent
+     */
+    public int sendQueuedEvents(int batchSize) {
+        List<ExternalEventView> events = getQueuedEventsBatch(batchSize);
+        log.debug("Queued events size: {}", events.size());
+        sendEvents(events);
+        return events.size();
+    }
+
+    private boolean isRelayEnabled() {
+        return fineractProperties.getEvents().getExternal().getRelay().isEnabled();
+    }
+
+    public boolean isDownstreamChannelEnabled() {
         return fineractProperties.getEvents().getExternal().getProducer().getJms().isEnabled()
                 || fineractProperties.getEvents().getExternal().getProducer().getKafka().isEnabled();
     }
 
-    private List<ExternalEventView> getQueuedEventsBatch() {
-        int readBatchSize = getBatchSize();
+    private List<ExternalEventView> getQueuedEventsBatch(int readBatchSize) {
         Pageable batchSize = PageRequest.ofSize(readBatchSize);
         return measure(() -> repository.findByStatusOrderById(ExternalEventStatus.TO_BE_SENT, batchSize),
                 (events, timeTaken) -> log.debug("Loaded {} events in {}ms", events.size(), timeTaken.toMillis()));
@@ -145,7 +160,7 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
         }
     }
 
-    private int getBatchSize() {
+    public int getBatchSize() {
         Long externalEventBatchSize = configurationDomainService.retrieveExternalEventBatchSize();
         return externalEventBatchSize.intValue();
     }
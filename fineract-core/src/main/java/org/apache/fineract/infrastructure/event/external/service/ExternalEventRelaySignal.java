@@ -0,0 +1,126 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseTypeResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Tells the external event relay that a tenant has new outbox rows, so it can send them right after they were committed
+ * instead of waiting for the next poll.
+ *
+ * Within the JVM the tenant is flagged after commit. On PostgreSQL a {@code pg_notify} is also issued in the committing
+ * transaction, which the database only delivers to listeners on other nodes once that transaction has committed.
+ */
+@RequiredArgsConstructor
+@Component
+public class ExternalEventRelaySignal {
+
+    public static final String NOTIFY_CHANNEL = "fineract_external_event";
+
+    private final FineractProperties fineractProperties;
+    private final DatabaseTypeResolver databaseTypeResolver;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Set<String> pendingTenants = ConcurrentHashMap.newKeySet();
+    private final Object monitor = new Object();
+
+    public boolean isEnabled() {
+        return fineractProperties.getEvents().getExternal().getRelay().isEnabled();
+    }
+
+    public boolean isPostgresNotifyEnabled() {
+        return fineractProperties.getEvents().getExternal().getRelay().isPostgresNotifyEnabled() && databaseTypeResolver.isPostgreSQL();
+    }
+
+    /**
+     * Called for every event written to the outbox, signals at most once per transaction.
+     */
+    public void eventPosted() {
+        if (!isEnabled()) {
+            return;
+        }
+        final String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            signal(tenantIdentifier);
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, tenantIdentifier);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                if (isPostgresNotifyEnabled()) {
+                    jdbcTemplate.query("SELECT pg_notify(?, ?)", (ResultSetExtractor<Void>) rs -> null, NOTIFY_CHANNEL, tenantIdentifier);
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ExternalEventRelaySignal.this);
+                if (status == STATUS_COMMITTED) {
+                    signal(tenantIdentifier);
+                }
+            }
+        });
+    }
+
+    /**
+     * Flags the tenant as having unsent events and wakes the relay.
+     */
+    public void signal(String tenantIdentifier) {
+        pendingTenants.add(tenantIdentifier);
+        synchronized (monitor) {
+            monitor.notifyAll();
+        }
+    }
+
+    /**
+     * Waits until a tenant is signalled or the timeout passes.
+     *
+     * @return the tenants signalled since the last call, empty if the wait timed out
+     */
+    public Set<String> awaitSignals(long timeoutMillis) throws InterruptedException {
+        synchronized (monitor) {
+            if (pendingTenants.isEmpty()) {
+                monitor.wait(timeoutMillis);
+            }
+        }
+        Set<String> signalled = new HashSet<>();
+        for (Iterator<String> iterator = pendingTenants.iterator(); iterator.hasNext();) {
+            signalled.add(iterator.next());
+            iterator.remove();
+        }
+        return signalled;
+    }
+}
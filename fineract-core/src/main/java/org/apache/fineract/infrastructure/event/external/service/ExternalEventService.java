@@ -54,6 +54,7 @@ public class ExternalEventService {
     private final ByteBufferConverter byteBufferConverter;
     private final BulkMessageItemFactory bulkMessageItemFactory;
     private final DataEnricherProcessor dataEnricherProcessor;
+    private final ExternalEventRelaySignal relaySignal;
 
     private EntityManager entityManager;
 
@@ -71,6 +72,7 @@ public class ExternalEventService {
                 externalEvent = handleRegularBusinessEvent(event);
             }
             repository.save(externalEvent);
+            relaySignal.eventPosted();
             log.debug("Saved message with idempotency key: [{}] of type [{}] and category [{}]", externalEvent.getIdempotencyKey(),
                     externalEvent.getType(), externalEvent.getCategory());
         } catch (IOException e) {
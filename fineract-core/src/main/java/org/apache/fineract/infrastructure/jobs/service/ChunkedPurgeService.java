@@ -0,0 +1,134 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.jobs.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Purges old rows from large, append mostly tables (command source, external events) one bounded primary key range at
+ * a time instead of with a single bulk delete.
+ * <p>
+ * The first call looks up the id range spanned by the qualifying rows; every call then deletes the qualifying rows of
+ * the next part of that range and returns. The calling tasklet returns {@code CONTINUABLE} so Spring Batch commits each
+ * range in its own transaction and persists the range cursor kept in the step execution context, which lets a failed
+ * purge continue where it stopped. Row age is only checked through the criteria, ids are not assumed to follow it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChunkedPurgeService {
+
+    public static final String CUTOFF_PARAMETER = "cutoff";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final FineractProperties fineractProperties;
+
+    public boolean isEnabled() {
+        return fineractProperties.getJob().getPurge().isChunkedEnabled();
+    }
+
+    /**
+     * Deletes the qualifying rows of the next id range of the target table.
+     *
+     * @param target
+     *            the table to purge and the condition rows have to match
+     * @param criteriaParameters
+     *            parameters of the condition, must contain {@link #CUTOFF_PARAMETER}
+     * @param contribution
+     *            the contribution of the running step, holds the range cursor and counts the deleted rows
+     * @return whether there are further ranges to purge
+     */
+    public boolean purgeNextChunk(final ChunkedPurgeTarget target, final MapSqlParameterSource criteriaParameters,
+            final StepContribution contribution) {
+        final ExecutionContext executionContext = contribution.getStepExecution().getExecutionContext();
+        final String nextIdKey = target.tableName() + ".purge.nextId";
+        final String lastIdKey = target.tableName() + ".purge.lastId";
+
+        if (executionContext.containsKey(nextIdKey)) {
+            pause();
+        } else {
+            // rows qualifying only after the purge started are left for the next run
+            final long[] idRange = findQualifyingIdRange(target, criteriaParameters);
+            if (idRange == null) {
+                return false;
+            }
+            executionContext.putLong(nextIdKey, idRange[0]);
+            executionContext.putLong(lastIdKey, idRange[1]);
+        }
+
+        final long fromId = executionContext.getLong(nextIdKey);
+        final long lastId = executionContext.getLong(lastIdKey);
+        final long toId = Math.min(fromId + fineractProperties.getJob().getPurge().getChunkSize() - 1, lastId);
+
+        final MapSqlParameterSource parameters = new MapSqlParameterSource(criteriaParameters.getValues()).addValue("fromId", fromId)
+                .addValue("toId", toId);
+        final int deleted = namedParameterJdbcTemplate.update("delete from " + target.tableName()
+                + " where id between :fromId and :toId and (" + target.criteria() + ")", parameters); // NOSONAR
+        contribution.incrementWriteCount(deleted);
+        executionContext.putLong(nextIdKey, toId + 1);
+
+        if (toId >= lastId) {
+            log.info("Purged {} rows from {}", contribution.getStepExecution().getWriteCount() + deleted, target.tableName());
+            executionContext.remove(nextIdKey);
+            executionContext.remove(lastIdKey);
+            return false;
+        }
+        return true;
+    }
+
+    private long[] findQualifyingIdRange(final ChunkedPurgeTarget target, final MapSqlParameterSource criteriaParameters) {
+        final String sql = "select min(id) as first_id, max(id) as last_id from " + target.tableName() + " where " + target.criteria();
+        return namedParameterJdbcTemplate.query(sql, criteriaParameters, rs -> { // NOSONAR
+            if (!rs.next()) {
+                return null;
+            }
+            final long firstId = rs.getLong("first_id");
+            return rs.wasNull() ? null : new long[] { firstId, rs.getLong("last_id") };
+        });
+    }
+
+    private void pause() {
+        final int pauseMillis = fineractProperties.getJob().getPurge().getPauseMillis();
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A table purged by {@link ChunkedPurgeService}.
+     *
+     * @param tableName
+     *            the table, its primary key has to be a numeric {@code id} column
+     * @param criteria
+     *            SQL condition the rows to delete have to match, may use named parameters
+     */
+    public record ChunkedPurgeTarget(String tableName, String criteria) {}
+}
@@ -0,0 +1,191 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.commands.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.commands.domain.CommandSource;
+import org.apache.fineract.commands.domain.CommandSourceRepository;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CommandAuditWriterTest {
+
+    private static final long NO_SCHEDULED_FLUSH = 60_000;
+
+    @Mock
+    private CommandSourceRepository commandSourceRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final FineractProperties.FineractCommandAuditProperties properties = new FineractProperties.FineractCommandAuditProperties();
+    private CommandAuditWriter underTest;
+
+    @BeforeEach
+    void setUp() {
+        useTenant("default");
+        properties.setPipelineEnabled(true);
+        properties.setBatchSize(100);
+        properties.setQueueCapacity(100);
+        properties.setFlushIntervalMillis((int) NO_SCHEDULED_FLUSH);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (underTest != null) {
+            underTest.destroy();
+        }
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void queuedRowsAreWrittenPerTenantInNewTransactions() {
+        startWriter();
+        List<String> savedForTenants = new ArrayList<>();
+        when(commandSourceRepository.saveAll(any())).thenAnswer(invocation -> {
+            savedForTenants.add(ThreadLocalContextUtil.getTenant().getTenantIdentifier());
+            return invocation.getArgument(0);
+        });
+        CommandSource first = mock(CommandSource.class);
+        CommandSource second = mock(CommandSource.class);
+        CommandSource other = mock(CommandSource.class);
+
+        underTest.write(first);
+        underTest.write(second);
+        useTenant("other");
+        underTest.write(other);
+        verify(commandSourceRepository, never()).saveAll(any());
+
+        underTest.destroy();
+
+        verify(commandSourceRepository).saveAll(List.of(first, second));
+        verify(commandSourceRepository).saveAll(List.of(other));
+        assertEquals(List.of("default", "other"), savedForTenants);
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(2)).getTransaction(definitions.capture());
+        definitions.getAllValues()
+                .forEach(definition -> assertEquals(TransactionDefinition.PROPAGATION_REQUIRES_NEW, definition.getPropagationBehavior()));
+    }
+
+    @Test
+    void fullBatchIsFlushedWithoutWaitingForTheInterval() {
+        properties.setBatchSize(2);
+        startWriter();
+        CommandSource first = mock(CommandSource.class);
+        CommandSource second = mock(CommandSource.class);
+
+        underTest.write(first);
+        underTest.write(second);
+
+        verify(commandSourceRepository, timeout(5000)).saveAll(List.of(first, second));
+    }
+
+    @Test
+    void awaitFlushReturnsOnceTheBatchIsCommitted() {
+        properties.setAwaitFlush(true);
+        properties.setFlushIntervalMillis(5);
+        startWriter();
+        CommandSource commandSource = mock(CommandSource.class);
+
+        underTest.write(commandSource);
+
+        verify(commandSourceRepository).saveAll(List.of(commandSource));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void awaitFlushReportsAFailedBatch() {
+        properties.setAwaitFlush(true);
+        properties.setFlushIntervalMillis(5);
+        startWriter();
+        when(commandSourceRepository.saveAll(any())).thenThrow(new IllegalArgumentException("constraint violated"));
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> underTest.write(mock(CommandSource.class)));
+
+        assertEquals("constraint violated", exception.getCause().getMessage());
+    }
+
+    @Test
+    void fullQueueWritesDirectly() {
+        properties.setQueueCapacity(1);
+        startWriter();
+        CommandSource queued = mock(CommandSource.class);
+        CommandSource direct = mock(CommandSource.class);
+
+        underTest.write(queued);
+        underTest.write(direct);
+
+        verify(commandSourceRepository).saveAll(List.of(direct));
+        verify(commandSourceRepository, never()).saveAll(List.of(queued));
+    }
+
+    @Test
+    void writeAfterShutdownWritesDirectly() {
+        properties.setAwaitFlush(true);
+        startWriter();
+        underTest.destroy();
+        CommandSource commandSource = mock(CommandSource.class);
+
+        underTest.write(commandSource);
+
+        verify(commandSourceRepository).saveAll(List.of(commandSource));
+    }
+
+    private void startWriter() {
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setCommandAudit(properties);
+        underTest = new CommandAuditWriter(fineractProperties, commandSourceRepository, transactionManager);
+        underTest.afterPropertiesSet();
+    }
+
+    private static void useTenant(String identifier) {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, identifier, identifier, "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.of(2023, 1, 1))));
+    }
+}
@@ -0,0 +1,212 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.commands.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import org.apache.fineract.commands.domain.CommandSource;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class IdempotencyKeyStoreTest {
+
+    private static final String ACTION = "CREATE";
+    private static final String ENTITY = "CLIENT";
+    private static final String KEY = "client-key";
+    private static final int TTL_HOURS = 24;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final FineractProperties.FineractIdempotencyProperties properties = new FineractProperties.FineractIdempotencyProperties();
+    private IdempotencyKeyStore underTest;
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        properties.setStoreEnabled(true);
+        properties.setTtlHours(TTL_HOURS);
+        properties.setCacheSize(10);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setIdempotency(properties);
+        underTest = new IdempotencyKeyStore(jdbcTemplate, fineractProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void isEnabledFollowsTheProperty() {
+        assertTrue(underTest.isEnabled());
+        properties.setStoreEnabled(false);
+        assertFalse(underTest.isEnabled());
+    }
+
+    @Test
+    void hashIsDeterministicAndCoversActionEntityAndKey() {
+        String hash = IdempotencyKeyStore.hash(ACTION, ENTITY, KEY);
+
+        assertEquals(hash, IdempotencyKeyStore.hash(ACTION, ENTITY, KEY));
+        assertEquals(64, hash.length());
+        assertNotEquals(hash, IdempotencyKeyStore.hash("UPDATE", ENTITY, KEY));
+        assertNotEquals(hash, IdempotencyKeyStore.hash(ACTION, "LOAN", KEY));
+        assertNotEquals(hash, IdempotencyKeyStore.hash(ACTION, ENTITY, "other-key"));
+        assertNotEquals(IdempotencyKeyStore.hash("AB", "C", KEY), IdempotencyKeyStore.hash("A", "BC", KEY));
+    }
+
+    @Test
+    void unknownKeyIsNotCached() throws SQLException {
+        givenStoredKey(null, null);
+
+        assertNull(underTest.findCommandId(ACTION, ENTITY, KEY));
+        assertNull(underTest.findCommandId(ACTION, ENTITY, KEY));
+
+        verifyLookups(2);
+    }
+
+    @Test
+    void storedKeyIsFoundAndCached() throws SQLException {
+        givenStoredKey(5L, DateUtils.getAuditLocalDateTime().minusHours(1));
+
+        assertEquals(5L, underTest.findCommandId(ACTION, ENTITY, KEY));
+        assertEquals(5L, underTest.findCommandId(ACTION, ENTITY, KEY));
+
+        verifyLookups(1);
+    }
+
+    @Test
+    void expiredKeyIsIgnored() throws SQLException {
+        givenStoredKey(5L, DateUtils.getAuditLocalDateTime().minusHours(TTL_HOURS + 1));
+
+        assertNull(underTest.findCommandId(ACTION, ENTITY, KEY));
+        assertNull(underTest.findCommandId(ACTION, ENTITY, KEY));
+
+        verifyLookups(2);
+    }
+
+    @Test
+    void cachedKeysAreScopedToTheTenant() throws SQLException {
+        givenStoredKey(5L, DateUtils.getAuditLocalDateTime().minusHours(1));
+        underTest.findCommandId(ACTION, ENTITY, KEY);
+
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(2L, "other", "Other", "Asia/Kolkata", null));
+        underTest.findCommandId(ACTION, ENTITY, KEY);
+
+        verifyLookups(2);
+    }
+
+    @Test
+    void registerReplacesStaleRowAndCachesTheKey() {
+        CommandSource commandSource = mock(CommandSource.class);
+        when(commandSource.getId()).thenReturn(7L);
+        when(commandSource.getActionName()).thenReturn(ACTION);
+        when(commandSource.getEntityName()).thenReturn(ENTITY);
+        when(commandSource.getIdempotencyKey()).thenReturn(KEY);
+        String hash = IdempotencyKeyStore.hash(ACTION, ENTITY, KEY);
+
+        underTest.register(commandSource);
+
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).update("DELETE FROM m_command_idempotency_key WHERE key_hash = ?", hash);
+        inOrder.verify(jdbcTemplate).update(
+                eq("INSERT INTO m_command_idempotency_key (key_hash, command_source_id, created_on_utc) VALUES (?, ?, ?)"), eq(hash),
+                eq(7L), any(LocalDateTime.class));
+        assertEquals(7L, underTest.findCommandId(ACTION, ENTITY, KEY));
+        verifyLookups(0);
+    }
+
+    @Test
+    void cacheIsBounded() throws SQLException {
+        properties.setCacheSize(1);
+        givenStoredKey(5L, DateUtils.getAuditLocalDateTime().minusHours(1));
+        underTest.findCommandId(ACTION, ENTITY, KEY);
+        underTest.findCommandId(ACTION, ENTITY, "other-key");
+
+        underTest.findCommandId(ACTION, ENTITY, KEY);
+
+        verifyLookups(3);
+    }
+
+    @Test
+    void purgeRemovesKeysOlderThanTheTtl() {
+        when(jdbcTemplate.update(eq("DELETE FROM m_command_idempotency_key WHERE created_on_utc <= ?"), any(LocalDateTime.class)))
+                .thenReturn(3);
+        LocalDateTime before = DateUtils.getAuditLocalDateTime().minusHours(TTL_HOURS);
+
+        assertEquals(3, underTest.purgeExpired());
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(jdbcTemplate).update(eq("DELETE FROM m_command_idempotency_key WHERE created_on_utc <= ?"), cutoff.capture());
+        LocalDateTime after = DateUtils.getAuditLocalDateTime().minusHours(TTL_HOURS);
+        assertFalse(cutoff.getValue().isBefore(before));
+        assertFalse(cutoff.getValue().isAfter(after));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenStoredKey(Long commandId, LocalDateTime createdOn) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(commandId != null);
+        if (commandId != null) {
+            when(resultSet.getLong("command_source_id")).thenReturn(commandId);
+            when(resultSet.getTimestamp("created_on_utc")).thenReturn(Timestamp.valueOf(createdOn));
+        }
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), any(Object[].class)))
+                .thenAnswer(invocation -> invocation.<ResultSetExtractor<Long>>getArgument(1).extractData(resultSet));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void verifyLookups(int times) {
+        verify(jdbcTemplate, times == 0 ? never() : times(times)).query(anyString(), any(ResultSetExtractor.class), any(Object[].class));
+    }
+}
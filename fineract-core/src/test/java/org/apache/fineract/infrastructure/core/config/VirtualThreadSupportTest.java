@@ -0,0 +1,113 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+class VirtualThreadSupportTest {
+
+    private static final boolean VIRTUAL_THREADS_AVAILABLE = Runtime.version().feature() >= 21;
+
+    @Test
+    void disabledUnlessRequested() throws Exception {
+        VirtualThreadSupport underTest = new VirtualThreadSupport(properties(false));
+
+        assertFalse(underTest.isEnabled());
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        underTest.configure(taskExecutor, "Platform-");
+        assertFalse(isVirtual(runOn(taskExecutor)));
+    }
+
+    @Test
+    void disabledWithoutTaskExecutorProperties() {
+        assertFalse(new VirtualThreadSupport(new FineractProperties()).isEnabled());
+    }
+
+    @Test
+    void enabledOnlyWhereTheRuntimeSupportsIt() {
+        assertEquals(VIRTUAL_THREADS_AVAILABLE, new VirtualThreadSupport(properties(true)).isEnabled());
+    }
+
+    @Test
+    void configuredPoolRunsTasksOnVirtualThreads() throws Exception {
+        assumeTrue(VIRTUAL_THREADS_AVAILABLE);
+        VirtualThreadSupport underTest = new VirtualThreadSupport(properties(true));
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+
+        underTest.configure(taskExecutor, "Virtual-Pool-");
+        Thread thread = runOn(taskExecutor);
+
+        assertTrue(isVirtual(thread));
+        assertTrue(thread.getName().startsWith("Virtual-Pool-"));
+    }
+
+    @Test
+    void createdExecutorDecoratesTasksAndRunsThemOnVirtualThreads() throws Exception {
+        assumeTrue(VIRTUAL_THREADS_AVAILABLE);
+        VirtualThreadSupport underTest = new VirtualThreadSupport(properties(true));
+        AtomicBoolean decorated = new AtomicBoolean();
+
+        TaskExecutor taskExecutor = underTest.createTaskExecutor("Virtual-", 2, runnable -> () -> {
+            decorated.set(true);
+            runnable.run();
+        });
+        CompletableFuture<Thread> thread = new CompletableFuture<>();
+        taskExecutor.execute(() -> thread.complete(Thread.currentThread()));
+
+        assertTrue(isVirtual(thread.get(10, TimeUnit.SECONDS)));
+        assertTrue(thread.get().getName().startsWith("Virtual-"));
+        assertTrue(decorated.get());
+    }
+
+    private static FineractProperties properties(boolean virtualThreadsEnabled) {
+        FineractProperties.FineractTaskExecutor taskExecutor = new FineractProperties.FineractTaskExecutor();
+        taskExecutor.setVirtualThreadsEnabled(virtualThreadsEnabled);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setTaskExecutor(taskExecutor);
+        return fineractProperties;
+    }
+
+    private static Thread runOn(ThreadPoolTaskExecutor taskExecutor) throws Exception {
+        taskExecutor.initialize();
+        try {
+            return taskExecutor.submit((Callable<Thread>) Thread::currentThread).get(10, TimeUnit.SECONDS);
+        } finally {
+            taskExecutor.shutdown();
+        }
+    }
+
+    private static boolean isVirtual(Thread thread) throws ReflectiveOperationException {
+        // the project still compiles for Java 17, where Thread.isVirtual() does not exist
+        if (!VIRTUAL_THREADS_AVAILABLE) {
+            return false;
+        }
+        return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+    }
+}
@@ -0,0 +1,156 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.fineract.infrastructure.core.api.JsonCommand;
+import org.apache.fineract.infrastructure.core.exception.InvalidJsonException;
+import org.apache.fineract.infrastructure.core.exception.UnsupportedParameterException;
+import org.junit.jupiter.api.Test;
+
+class FromJsonHelperTest {
+
+    private static final Type TYPE_OF_MAP = new TypeToken<Map<String, Object>>() {}.getType();
+
+    private final FromJsonHelper fromJsonHelper = new FromJsonHelper();
+
+    @Test
+    void parseReturnsAnIndependentTreeOnEveryCall() {
+        final String json = "{\"note\":\"first\"}";
+
+        final JsonElement first = fromJsonHelper.parse(json);
+        final JsonElement second = fromJsonHelper.parse(json);
+        first.getAsJsonObject().addProperty("note", "changed");
+
+        assertNotSame(first, second);
+        assertEquals("first", second.getAsJsonObject().get("note").getAsString());
+        assertEquals("first", fromJsonHelper.parse(json).getAsJsonObject().get("note").getAsString());
+    }
+
+    @Test
+    void parseOfBlankBodyReturnsNull() {
+        assertNull(fromJsonHelper.parse(" "));
+    }
+
+    @Test
+    void supportedParametersPass() {
+        fromJsonHelper.checkForUnsupportedParameters(TYPE_OF_MAP, "{\"note\":\"a\",\"locale\":\"en\"}", Set.of("note", "locale"));
+    }
+
+    @Test
+    void unsupportedParametersAreReported() {
+        final UnsupportedParameterException exception = assertThrows(UnsupportedParameterException.class,
+                () -> fromJsonHelper.checkForUnsupportedParameters(TYPE_OF_MAP, "{\"note\":\"a\",\"foo\":1,\"bar\":2}", Set.of("note")));
+
+        assertEquals(List.of("foo", "bar"), exception.getUnsupportedParameters());
+    }
+
+    @Test
+    void unsupportedParametersOfParsedObjectAreReported() {
+        final JsonElement element = fromJsonHelper.parse("{\"note\":\"a\",\"foo\":1}");
+
+        final UnsupportedParameterException exception = assertThrows(UnsupportedParameterException.class,
+                () -> fromJsonHelper.checkForUnsupportedParameters(element.getAsJsonObject(), Set.of("note")));
+
+        assertEquals(List.of("foo"), exception.getUnsupportedParameters());
+    }
+
+    @Test
+    void duplicateParametersAreRejected() {
+        assertThrows(JsonSyntaxException.class,
+                () -> fromJsonHelper.checkForUnsupportedParameters(TYPE_OF_MAP, "{\"note\":\"a\",\"note\":\"b\"}", Set.of("note")));
+        assertThrows(JsonSyntaxException.class, () -> fromJsonHelper.parse("{\"note\":\"a\",\"note\":\"b\"}"));
+    }
+
+    @Test
+    void duplicateKeysOfNestedObjectsKeepTheLastValue() {
+        final JsonElement element = fromJsonHelper.parse("{\"charges\":{\"amount\":1,\"amount\":2}}");
+
+        assertEquals(2, element.getAsJsonObject().getAsJsonObject("charges").get("amount").getAsInt());
+    }
+
+    @Test
+    void parseMatchesTheGsonParser() {
+        final String json = "{\"amount\":1.50,\"dates\":[\"01 January 2024\"],\"charge\":{\"id\":1},\"note\":null}";
+
+        assertEquals(JsonParser.parseString(json), fromJsonHelper.parse(json));
+        assertEquals(JsonParser.parseString("[1,2]"), fromJsonHelper.parse("[1,2]"));
+    }
+
+    @Test
+    void malformedBodyIsRejected() {
+        assertThrows(JsonSyntaxException.class, () -> fromJsonHelper.parse("{\"note\":"));
+        assertThrows(JsonSyntaxException.class, () -> fromJsonHelper.parse("{\"note\":\"a\"} trailing"));
+        assertThrows(JsonSyntaxException.class, () -> fromJsonHelper.parse("{\"note\":\"a\",}"));
+    }
+
+    @Test
+    void unsupportedParametersOfCommandAreReadFromItsTree() {
+        final String json = "{\"note\":\"a\",\"foo\":1}";
+        final JsonCommand command = JsonCommand.from(json, fromJsonHelper.parse(json), fromJsonHelper, null, null, null, null, null, null,
+                null, null, null, null, null, null, null);
+
+        final UnsupportedParameterException exception = assertThrows(UnsupportedParameterException.class,
+                () -> fromJsonHelper.checkForUnsupportedParameters(command, Set.of("note")));
+
+        assertEquals(List.of("foo"), exception.getUnsupportedParameters());
+        fromJsonHelper.checkForUnsupportedParameters(command, Set.of("note", "foo"));
+    }
+
+    @Test
+    void commandWithoutTreeIsParsed() {
+        final JsonCommand command = JsonCommand.from("{\"note\":\"a\"}");
+
+        assertEquals("a", fromJsonHelper.parsedJson(command).getAsJsonObject().get("note").getAsString());
+        assertThrows(UnsupportedParameterException.class, () -> fromJsonHelper.checkForUnsupportedParameters(command, Set.of("locale")));
+    }
+
+    @Test
+    void commandWithoutJsonObjectIsInvalid() {
+        assertThrows(InvalidJsonException.class, () -> fromJsonHelper.checkForUnsupportedParameters(JsonCommand.from(""), Set.of("note")));
+        assertThrows(JsonSyntaxException.class,
+                () -> fromJsonHelper.checkForUnsupportedParameters(JsonCommand.from("[\"note\"]"), Set.of("note")));
+    }
+
+    @Test
+    void unsupportedParametersOfParsedBodyAreRejected() {
+        final JsonElement element = fromJsonHelper.parse("{\"note\":\"a\",\"foo\":1}");
+
+        fromJsonHelper.checkForUnsupportedParameters(element, Set.of("note", "foo"));
+        assertThrows(UnsupportedParameterException.class, () -> fromJsonHelper.checkForUnsupportedParameters(element, Set.of("note")));
+        assertThrows(InvalidJsonException.class, () -> fromJsonHelper.checkForUnsupportedParameters((JsonElement) null, Set.of("note")));
+    }
+
+    @Test
+    void blankBodyIsInvalid() {
+        assertThrows(InvalidJsonException.class, () -> fromJsonHelper.checkForUnsupportedParameters(TYPE_OF_MAP, "", Set.of("note")));
+    }
+}
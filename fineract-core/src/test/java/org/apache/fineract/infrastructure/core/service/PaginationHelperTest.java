@@ -0,0 +1,113 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.function.Function;
+import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseTypeResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+public class PaginationHelperTest {
+
+    private static final String SQL = "select t.id from test_table t where t.status = ?";
+
+    private final DatabaseTypeResolver databaseTypeResolver = mock(DatabaseTypeResolver.class);
+    private final PaginationHelper paginationHelper = new PaginationHelper(new DatabaseSpecificSQLGenerator(databaseTypeResolver),
+            databaseTypeResolver);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final RowMapper<Long> rowMapper = (rs, rowNum) -> rs.getLong(1);
+
+    @BeforeEach
+    public void setUp() {
+        when(databaseTypeResolver.isPostgreSQL()).thenReturn(true);
+    }
+
+    @Test
+    public void testFirstKeysetPageReturnsCursorOfLastItem() {
+        when(jdbcTemplate.query(anyString(), ArgumentMatchers.<RowMapper<Long>>any(), any(Object[].class))).thenReturn(List.of(1L, 2L, 3L));
+
+        Page<Long> page = fetch(SearchParameters.builder().cursor("").limit(2).build());
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).query(sql.capture(), ArgumentMatchers.<RowMapper<Long>>any(), any(Object[].class));
+        assertEquals(SQL + " order by t.id asc LIMIT 3 OFFSET 0", sql.getValue());
+        assertEquals(List.of(1L, 2L), page.getPageItems());
+        assertEquals(2L, PaginationHelper.decodeCursor(page.getNextCursor()));
+        assertNull(page.getTotalFilteredRecords());
+    }
+
+    @Test
+    public void testFollowingKeysetPageSeeksPastCursor() {
+        when(jdbcTemplate.query(anyString(), ArgumentMatchers.<RowMapper<Long>>any(), any(Object[].class))).thenReturn(List.of(4L));
+        when(jdbcTemplate.queryForObject(anyString(), ArgumentMatchers.<Class<Integer>>any(), any(Object[].class))).thenReturn(4);
+
+        Page<Long> page = fetch(SearchParameters.builder().cursor(PaginationHelper.encodeCursor(5L)).sortOrder("DESC").limit(2)
+                .withTotal(true).build());
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).query(sql.capture(), ArgumentMatchers.<RowMapper<Long>>any(), any(Object[].class));
+        assertTrue(sql.getValue().startsWith(SQL + " and t.id < ? order by t.id desc"));
+        assertEquals(List.of(4L), page.getPageItems());
+        assertNull(page.getNextCursor());
+        assertEquals(4, page.getTotalFilteredRecords());
+    }
+
+    @Test
+    public void testInvalidCursorIsRejected() {
+        assertThrows(PlatformApiDataValidationException.class, () -> fetch(SearchParameters.builder().cursor("not a cursor").build()));
+    }
+
+    @Test
+    public void testOrderingByOtherColumnsIsRejected() {
+        assertThrows(PlatformApiDataValidationException.class,
+                () -> fetch(SearchParameters.builder().cursor("").orderBy("display_name").build()));
+    }
+
+    @Test
+    public void testCursorRoundTrip() {
+        String cursor = PaginationHelper.encodeCursor(123456789L);
+
+        assertFalse(cursor.contains("="));
+        assertEquals(123456789L, PaginationHelper.decodeCursor(cursor));
+        assertNull(PaginationHelper.decodeCursor(""));
+    }
+
+    private Page<Long> fetch(SearchParameters searchParameters) {
+        return paginationHelper.fetchKeysetPage(jdbcTemplate, SQL, List.of("ACTIVE"), "t.id", searchParameters, rowMapper,
+                Function.identity());
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConnectionLimitingDataSourceTest {
+
+    private final DataSource target = mock(DataSource.class);
+    private final Connection pooledConnection = mock(Connection.class);
+    private ConnectionLimitingDataSource underTest;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(target.getConnection()).thenReturn(pooledConnection);
+        underTest = new ConnectionLimitingDataSource(target, 1, 100);
+    }
+
+    @Test
+    void callersBeyondTheLimitTimeOut() throws SQLException {
+        Connection connection = underTest.getConnection();
+
+        SQLTransientConnectionException exception = assertThrows(SQLTransientConnectionException.class, underTest::getConnection);
+
+        assertEquals("No connection available within 100ms", exception.getMessage());
+        verify(target, times(1)).getConnection();
+        connection.close();
+    }
+
+    @Test
+    void waitingCallerGetsTheConnectionOnceItIsClosed() throws Exception {
+        underTest = new ConnectionLimitingDataSource(target, 1, TimeUnit.SECONDS.toMillis(10));
+        Connection connection = underTest.getConnection();
+        CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return underTest.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(100);
+        assertFalse(waiting.isDone());
+
+        connection.close();
+
+        waiting.get(10, TimeUnit.SECONDS).close();
+        verify(pooledConnection, times(2)).close();
+    }
+
+    @Test
+    void closingTwiceReleasesOnce() throws SQLException {
+        Connection connection = underTest.getConnection();
+
+        connection.close();
+        connection.close();
+
+        assertTrue(connection.isClosed());
+        verify(pooledConnection, times(1)).close();
+        underTest.getConnection().close();
+        assertThrows(SQLTransientConnectionException.class, () -> {
+            Connection first = underTest.getConnection();
+            try {
+                underTest.getConnection();
+            } finally {
+                first.close();
+            }
+        });
+    }
+
+    @Test
+    void permitIsReturnedWhenTheTargetFails() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("database down")).thenReturn(pooledConnection);
+
+        assertThrows(SQLException.class, underTest::getConnection);
+
+        underTest.getConnection().close();
+    }
+
+    @Test
+    void unwrapKeepsTheReleasingWrapper() throws SQLException {
+        Connection connection = underTest.getConnection();
+
+        Connection unwrapped = connection.unwrap(Connection.class);
+        unwrapped.close();
+
+        assertSame(connection, unwrapped);
+        underTest.getConnection().close();
+    }
+}
@@ -0,0 +1,145 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenantConnection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+class ElasticTenantDataSourceRegistryTest {
+
+    private final HikariDataSourceFactory hikariDataSourceFactory = mock(HikariDataSourceFactory.class);
+    private final DatabaseTypeResolver databaseTypeResolver = mock(DatabaseTypeResolver.class);
+    private final HikariDataSource hikariDataSource = mock(HikariDataSource.class);
+    private final Connection connection = mock(Connection.class);
+    private ElasticTenantDataSourceRegistry underTest;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws SQLException {
+        FineractProperties.FineractTenantPoolProperties tenantPool = new FineractProperties.FineractTenantPoolProperties();
+        tenantPool.setElasticEnabled(true);
+        tenantPool.setSharedPoolEnabled(true);
+        tenantPool.setMaxConnections(10);
+        tenantPool.setIdleTimeout(60);
+        tenantPool.setEvictAfter(300);
+        tenantPool.setAcquireTimeout(1);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setTenantPool(tenantPool);
+        ObjectProvider<MeterRegistry> meterRegistry = mock(ObjectProvider.class);
+        when(meterRegistry.getIfAvailable()).thenReturn(new SimpleMeterRegistry());
+        when(databaseTypeResolver.isMySQL()).thenReturn(true);
+        when(hikariDataSourceFactory.create(any(HikariConfig.class))).thenReturn(hikariDataSource);
+        when(hikariDataSource.getConnection()).thenReturn(connection);
+        underTest = new ElasticTenantDataSourceRegistry(fineractProperties, hikariDataSourceFactory, databaseTypeResolver, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        underTest.destroy();
+    }
+
+    @Test
+    void jdbcUrlIsSplitIntoServerAndDatabase() {
+        assertUrl("jdbc:mariadb://db:3306/", "tenant_a", ElasticTenantDataSourceRegistry.JdbcUrl.parse("jdbc:mariadb://db:3306/tenant_a"));
+        assertUrl("jdbc:mysql://db1,db2/?useSSL=false", "tenant_a",
+                ElasticTenantDataSourceRegistry.JdbcUrl.parse("jdbc:mysql://db1,db2/tenant_a?useSSL=false"));
+    }
+
+    @Test
+    void jdbcUrlWithoutDatabaseHasNoDatabase() {
+        assertNull(ElasticTenantDataSourceRegistry.JdbcUrl.parse("jdbc:mariadb://db:3306").database());
+        assertNull(ElasticTenantDataSourceRegistry.JdbcUrl.parse("jdbc:mariadb://db:3306/").database());
+        assertNull(ElasticTenantDataSourceRegistry.JdbcUrl.parse("jdbc:mariadb://db:3306?useSSL=false").database());
+    }
+
+    @Test
+    void jdbcUrlWhichIsNotHostBasedIsRejected() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ElasticTenantDataSourceRegistry.JdbcUrl.parse("jdbc:mariadb:sequential:db?password=secret"));
+        assertEquals("Unsupported JDBC URL for a shared tenant connection pool: jdbc:mariadb:sequential:db", exception.getMessage());
+    }
+
+    @Test
+    void tenantsOnTheSameServerShareOnePoolAndSwitchCatalog() throws SQLException {
+        DataSource tenantA = underTest.createDataSourceFor(tenantConnection("tenant_a"),
+                tenantConfig("jdbc:mariadb://db:3306/tenant_a?useSSL=false"));
+        DataSource tenantB = underTest.createDataSourceFor(tenantConnection("tenant_b"),
+                tenantConfig("jdbc:mariadb://db:3306/tenant_b?useSSL=false"));
+
+        tenantA.getConnection().close();
+        tenantB.getConnection().close();
+
+        verify(hikariDataSourceFactory, times(1)).create(any(HikariConfig.class));
+        verify(connection).setCatalog("tenant_a");
+        verify(connection).setCatalog("tenant_b");
+    }
+
+    @Test
+    void tenantWithoutDatabaseInItsUrlGetsItsOwnPool() throws SQLException {
+        DataSource tenantA = underTest.createDataSourceFor(tenantConnection("tenant_a"), tenantConfig("jdbc:mariadb://db:3306/tenant_a"));
+        DataSource tenantB = underTest.createDataSourceFor(tenantConnection("tenant_b"), tenantConfig("jdbc:mariadb://db:3306"));
+
+        tenantA.getConnection().close();
+        tenantB.getConnection().close();
+
+        verify(hikariDataSourceFactory, times(2)).create(any(HikariConfig.class));
+        verify(connection, times(1)).setCatalog(any());
+    }
+
+    private static void assertUrl(String serverUrl, String database, ElasticTenantDataSourceRegistry.JdbcUrl url) {
+        assertEquals(serverUrl, url.serverUrl());
+        assertEquals(database, url.database());
+    }
+
+    private static FineractPlatformTenantConnection tenantConnection(String schemaName) {
+        FineractPlatformTenantConnection tenantConnection = mock(FineractPlatformTenantConnection.class);
+        when(tenantConnection.getSchemaName()).thenReturn(schemaName);
+        return tenantConnection;
+    }
+
+    private static HikariConfig tenantConfig(String jdbcUrl) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(jdbcUrl);
+        config.setUsername("root");
+        config.setPassword("secret");
+        config.setMaximumPoolSize(5);
+        config.setPoolName(jdbcUrl.substring(jdbcUrl.lastIndexOf('/') + 1));
+        return config;
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ElasticTenantDataSourceTest {
+
+    private final Connection pooledConnection = mock(Connection.class);
+    private final Semaphore tenantPermits = new Semaphore(1, true);
+    private final Semaphore budget = new Semaphore(2, true);
+    private final Timer waitTimer = Timer.builder("wait").register(new SimpleMeterRegistry());
+    private ElasticTenantDataSource underTest;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        HikariDataSourceFactory hikariDataSourceFactory = mock(HikariDataSourceFactory.class);
+        HikariDataSource hikariDataSource = mock(HikariDataSource.class);
+        when(hikariDataSourceFactory.create(any(HikariConfig.class))).thenReturn(hikariDataSource);
+        when(hikariDataSource.getConnection()).thenReturn(pooledConnection);
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("tenant_a");
+        ElasticTenantPool pool = new ElasticTenantPool(config, hikariDataSourceFactory);
+        underTest = new ElasticTenantDataSource("tenant_a", pool, "tenant_a", tenantPermits, budget, TimeUnit.MILLISECONDS.toNanos(50),
+                waitTimer);
+    }
+
+    @Test
+    void closingTheConnectionGivesThePermitsBackOnce() throws SQLException {
+        Connection connection = underTest.getConnection();
+        assertEquals(0, tenantPermits.availablePermits());
+        assertEquals(1, budget.availablePermits());
+        verify(pooledConnection).setCatalog("tenant_a");
+
+        connection.close();
+        connection.close();
+
+        assertEquals(1, tenantPermits.availablePermits());
+        assertEquals(2, budget.availablePermits());
+        assertTrue(connection.isClosed());
+    }
+
+    @Test
+    void tenantLimitTimesOutAndTheWaitIsRecorded() throws SQLException {
+        Connection connection = underTest.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, underTest::getConnection);
+
+        assertEquals(2, waitTimer.count());
+        assertTrue(waitTimer.totalTime(TimeUnit.MILLISECONDS) >= 50);
+        assertEquals(1, budget.availablePermits());
+        connection.close();
+    }
+
+    @Test
+    void unwrappingToConnectionKeepsTheReleasingWrapper() throws SQLException {
+        Connection connection = underTest.getConnection();
+
+        Connection unwrapped = connection.unwrap(Connection.class);
+        assertSame(connection, unwrapped);
+        assertTrue(connection.isWrapperFor(Connection.class));
+
+        unwrapped.close();
+
+        assertEquals(1, tenantPermits.availablePermits());
+        assertEquals(2, budget.availablePermits());
+        verify(pooledConnection).close();
+    }
+}
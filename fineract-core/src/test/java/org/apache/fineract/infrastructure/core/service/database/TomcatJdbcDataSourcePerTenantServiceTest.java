@@ -0,0 +1,104 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service.database;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.apache.fineract.infrastructure.core.config.VirtualThreadSupport;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenantConnection;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.tenant.TenantDetailsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TomcatJdbcDataSourcePerTenantServiceTest {
+
+    @Mock
+    private DataSource tenantDataSource;
+    @Mock
+    private DataSourcePerTenantServiceFactory dataSourcePerTenantServiceFactory;
+    @Mock
+    private TenantDetailsService tenantDetailsService;
+    @Mock
+    private ElasticTenantDataSourceRegistry elasticTenantDataSourceRegistry;
+    @Mock
+    private VirtualThreadSupport virtualThreadSupport;
+    @Mock
+    private HikariDataSource hikariDataSource;
+
+    private TomcatJdbcDataSourcePerTenantService underTest;
+
+    @BeforeEach
+    void setUp() {
+        when(hikariDataSource.getMaximumPoolSize()).thenReturn(5);
+        when(hikariDataSource.getConnectionTimeout()).thenReturn(1_000L);
+        when(dataSourcePerTenantServiceFactory.createNewDataSourceFor(any())).thenReturn(hikariDataSource);
+        underTest = new TomcatJdbcDataSourcePerTenantService(tenantDataSource, dataSourcePerTenantServiceFactory, tenantDetailsService,
+                elasticTenantDataSourceRegistry, virtualThreadSupport);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void tenantPoolIsUsedDirectlyWithoutVirtualThreads() {
+        // the flag may be set, but below Java 21 the support reports virtual threads as disabled
+        when(virtualThreadSupport.isEnabled()).thenReturn(false);
+        setTenantWithConnection(38_001L);
+
+        assertSame(hikariDataSource, underTest.retrieveDataSource());
+    }
+
+    @Test
+    void tenantPoolIsLimitedWhenVirtualThreadsAreRunning() {
+        when(virtualThreadSupport.isEnabled()).thenReturn(true);
+        setTenantWithConnection(38_002L);
+
+        assertInstanceOf(ConnectionLimitingDataSource.class, underTest.retrieveDataSource());
+    }
+
+    @Test
+    void defaultDataSourceIsUsedWithoutTenant() {
+        assertSame(tenantDataSource, underTest.retrieveDataSource());
+    }
+
+    // the tenant data sources are cached statically by connection id, so every test uses its own
+    private static void setTenantWithConnection(long connectionId) {
+        FineractPlatformTenantConnection connection = mock(FineractPlatformTenantConnection.class);
+        when(connection.getConnectionId()).thenReturn(connectionId);
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", connection));
+    }
+}
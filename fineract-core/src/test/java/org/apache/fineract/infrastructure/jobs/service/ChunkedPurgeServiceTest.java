@@ -0,0 +1,146 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.jobs.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.List;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.jobs.service.ChunkedPurgeService.ChunkedPurgeTarget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ChunkedPurgeServiceTest {
+
+    private static final ChunkedPurgeTarget TARGET = new ChunkedPurgeTarget("m_external_event",
+            "status = :status and business_date <= :" + ChunkedPurgeService.CUTOFF_PARAMETER);
+
+    @Mock
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    @Mock
+    private ResultSet resultSet;
+
+    private ChunkedPurgeService underTest;
+    private StepContribution contribution;
+    private MapSqlParameterSource criteriaParameters;
+
+    @BeforeEach
+    void setUp() {
+        FineractProperties.FineractPurgeProperties purgeProperties = new FineractProperties.FineractPurgeProperties();
+        purgeProperties.setChunkedEnabled(true);
+        purgeProperties.setChunkSize(10);
+        FineractProperties.FineractJobProperties jobProperties = new FineractProperties.FineractJobProperties();
+        jobProperties.setPurge(purgeProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setJob(jobProperties);
+
+        underTest = new ChunkedPurgeService(namedParameterJdbcTemplate, fineractProperties);
+        contribution = new StepContribution(new StepExecution("purgeStep", new JobExecution(1L)));
+        criteriaParameters = new MapSqlParameterSource("status", "SENT").addValue(ChunkedPurgeService.CUTOFF_PARAMETER,
+                LocalDate.of(2023, 1, 1));
+    }
+
+    @Test
+    void nothingIsDeletedWithoutQualifyingRows() throws Exception {
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("first_id")).thenReturn(0L);
+        when(resultSet.wasNull()).thenReturn(true);
+        stubIdRangeQuery();
+
+        assertFalse(underTest.purgeNextChunk(TARGET, criteriaParameters, contribution));
+
+        verify(namedParameterJdbcTemplate, never()).update(anyString(), any(MapSqlParameterSource.class));
+        assertTrue(contribution.getStepExecution().getExecutionContext().isEmpty());
+    }
+
+    @Test
+    void qualifyingIdRangeIsPurgedChunkByChunk() throws Exception {
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("first_id")).thenReturn(10L);
+        when(resultSet.getLong("last_id")).thenReturn(25L);
+        stubIdRangeQuery();
+        when(namedParameterJdbcTemplate.update(anyString(), any(MapSqlParameterSource.class))).thenReturn(7, 3);
+
+        assertTrue(underTest.purgeNextChunk(TARGET, criteriaParameters, contribution));
+        assertFalse(underTest.purgeNextChunk(TARGET, criteriaParameters, contribution));
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<MapSqlParameterSource> parameters = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(namedParameterJdbcTemplate, times(2)).update(sql.capture(), parameters.capture());
+        assertEquals("delete from m_external_event where id between :fromId and :toId and (" + TARGET.criteria() + ")",
+                sql.getValue());
+        List<MapSqlParameterSource> deletes = parameters.getAllValues();
+        assertEquals(10L, deletes.get(0).getValue("fromId"));
+        assertEquals(19L, deletes.get(0).getValue("toId"));
+        assertEquals(20L, deletes.get(1).getValue("fromId"));
+        assertEquals(25L, deletes.get(1).getValue("toId"));
+        assertEquals("SENT", deletes.get(1).getValue("status"));
+        assertEquals(10, contribution.getWriteCount());
+        // the id range is looked up once per run and the cursor is dropped at the end
+        verify(namedParameterJdbcTemplate, times(1)).query(anyString(), any(MapSqlParameterSource.class), any(ResultSetExtractor.class));
+        assertTrue(contribution.getStepExecution().getExecutionContext().isEmpty());
+    }
+
+    @Test
+    void restartedPurgeContinuesFromTheSavedCursor() {
+        ExecutionContext executionContext = contribution.getStepExecution().getExecutionContext();
+        executionContext.putLong("m_external_event.purge.nextId", 40L);
+        executionContext.putLong("m_external_event.purge.lastId", 100L);
+        when(namedParameterJdbcTemplate.update(anyString(), any(MapSqlParameterSource.class))).thenReturn(10);
+
+        assertTrue(underTest.purgeNextChunk(TARGET, criteriaParameters, contribution));
+
+        ArgumentCaptor<MapSqlParameterSource> parameters = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(namedParameterJdbcTemplate).update(anyString(), parameters.capture());
+        assertEquals(40L, parameters.getValue().getValue("fromId"));
+        assertEquals(49L, parameters.getValue().getValue("toId"));
+        assertEquals(50L, executionContext.getLong("m_external_event.purge.nextId"));
+        verify(namedParameterJdbcTemplate, never()).query(anyString(), any(MapSqlParameterSource.class), any(ResultSetExtractor.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubIdRangeQuery() {
+        when(namedParameterJdbcTemplate.query(eq("select min(id) as first_id, max(id) as last_id from m_external_event where "
+                + TARGET.criteria()), eq(criteriaParameters), any(ResultSetExtractor.class)))
+                .thenAnswer(invocation -> invocation.<ResultSetExtractor<long[]>>getArgument(2).extractData(resultSet));
+    }
+}
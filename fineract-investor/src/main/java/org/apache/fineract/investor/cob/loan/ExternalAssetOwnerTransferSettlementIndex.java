@@ -0,0 +1,76 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.investor.cob.loan;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.investor.config.InvestorModuleIsEnabledCondition;
+import org.apache.fineract.investor.data.ExternalTransferStatus;
+import org.apache.fineract.investor.domain.ExternalAssetOwnerTransferRepository;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ids of the loans of a close of business chunk with a pending or buyback transfer settling on the business date,
+ * loaded with a single query when the chunk starts and dropped when it is written. Nothing outlives the chunk, so
+ * transfers created or settled in between, or a business date moved backwards, are always seen. Loans that were not
+ * prefetched on the current thread are reported as possibly settling, so the caller falls back to its own lookup.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Conditional(InvestorModuleIsEnabledCondition.class)
+public class ExternalAssetOwnerTransferSettlementIndex {
+
+    private static final List<ExternalTransferStatus> SETTLING_STATUSES = List.of(ExternalTransferStatus.PENDING,
+            ExternalTransferStatus.BUYBACK);
+
+    private final ExternalAssetOwnerTransferRepository externalAssetOwnerTransferRepository;
+
+    private final ThreadLocal<ChunkSettlements> chunkSettlements = new ThreadLocal<>();
+
+    public void prefetch(Collection<Long> loanIds, LocalDate settlementDate) {
+        chunkSettlements.remove();
+        if (loanIds.isEmpty()) {
+            return;
+        }
+        Set<Long> settlingLoanIds = Set.copyOf(externalAssetOwnerTransferRepository.findLoanIdsWithTransfersSettlingOn(loanIds,
+                settlementDate, SETTLING_STATUSES, LoanAccountOwnerTransferBusinessStep.FUTURE_DATE_9999_12_31));
+        log.debug("{} of {} loans have asset owner transfers settling on {}", settlingLoanIds.size(), loanIds.size(), settlementDate);
+        chunkSettlements.set(new ChunkSettlements(settlementDate, Set.copyOf(loanIds), settlingLoanIds));
+    }
+
+    public void clear() {
+        chunkSettlements.remove();
+    }
+
+    public boolean hasTransfersSettlingOn(Long loanId, LocalDate settlementDate) {
+        ChunkSettlements settlements = chunkSettlements.get();
+        if (settlements == null || !settlements.settlementDate().equals(settlementDate) || !settlements.loanIds().contains(loanId)) {
+            return true;
+        }
+        return settlements.settlingLoanIds().contains(loanId);
+    }
+
+    private record ChunkSettlements(LocalDate settlementDate, Set<Long> loanIds, Set<Long> settlingLoanIds) {}
+}
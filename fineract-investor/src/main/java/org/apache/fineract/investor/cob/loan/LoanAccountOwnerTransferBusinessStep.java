@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.cob.COBChunkBusinessStep;
 import org.apache.fineract.cob.loan.LoanCOBBusinessStep;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.MathUtil;
@@ -48,13 +49,25 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 @Slf4j
 @Conditional(InvestorModuleIsEnabledCondition.class)
-public class LoanAccountOwnerTransferBusinessStep implements LoanCOBBusinessStep {
+public class LoanAccountOwnerTransferBusinessStep implements LoanCOBBusinessStep, COBChunkBusinessStep<Loan> {
 
     public static final LocalDate FUTURE_DATE_9999_12_31 = LocalDate.of(9999, 12, 31);
     private final ExternalAssetOwnerTransferRepository externalAssetOwnerTransferRepository;
     private final ExternalAssetOwnerTransferLoanMappingRepository externalAssetOwnerTransferLoanMappingRepository;
     private final AccountingService accountingService;
     private final BusinessEventNotifierService businessEventNotifierService;
+    private final ExternalAssetOwnerTransferSettlementIndex externalAssetOwnerTransferSettlementIndex;
+
+    @Override
+    public void beforeChunk(List<Loan> loans) {
+        List<Long> loanIds = loans.stream().map(Loan::getId).filter(Objects::nonNull).toList();
+        externalAssetOwnerTransferSettlementIndex.prefetch(loanIds, DateUtils.getBusinessLocalDate());
+    }
+
+    @Override
+    public void afterChunk(List<Loan> loans) {
+        externalAssetOwnerTransferSettlementIndex.clear();
+    }
 
     @Override
     public Loan execute(Loan loan) {
@@ -62,6 +75,10 @@ public class LoanAccountOwnerTransferBusinessStep implements LoanCOBBusinessStep
         log.debug("start processing loan ownership transfer business step for loan with Id [{}]", loanId);
 
         LocalDate settlementDate = DateUtils.getBusinessLocalDate();
+        if (!externalAssetOwnerTransferSettlementIndex.hasTransfersSettlingOn(loanId, settlementDate)) {
+            log.debug("no loan ownership transfer settles for loan with Id [{}]", loanId);
+            return loan;
+        }
         List<ExternalAssetOwnerTransfer> transferDataList = externalAssetOwnerTransferRepository.findAll(
                 (root, query, criteriaBuilder) -> criteriaBuilder.and(criteriaBuilder.equal(root.get("loanId"), loanId),
                         criteriaBuilder.equal(root.get("settlementDate"), settlementDate),
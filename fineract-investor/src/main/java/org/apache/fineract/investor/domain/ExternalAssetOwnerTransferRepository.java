@@ -19,9 +19,11 @@
 package org.apache.fineract.investor.domain;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.apache.fineract.infrastructure.core.domain.ExternalId;
+import org.apache.fineract.investor.data.ExternalTransferStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -51,6 +53,11 @@ public interface ExternalAssetOwnerTransferRepository
     List<ExternalAssetOwnerTransfer> findEffectiveTransfersOrderByIdDesc(@Param("loanId") Long loanId,
             @Param("effectiveDate") LocalDate effectiveDate);
 
+    @Query("select distinct t.loanId from ExternalAssetOwnerTransfer t where t.loanId in :loanIds and t.settlementDate = :settlementDate and t.status in :statuses and t.effectiveDateTo >= :effectiveDateTo")
+    List<Long> findLoanIdsWithTransfersSettlingOn(@Param("loanIds") Collection<Long> loanIds,
+            @Param("settlementDate") LocalDate settlementDate, @Param("statuses") Collection<ExternalTransferStatus> statuses,
+            @Param("effectiveDateTo") LocalDate effectiveDateTo);
+
     Optional<ExternalAssetOwnerTransfer> findFirstByExternalIdOrderByIdAsc(ExternalId externalTransferId);
 
     @Query("select max(e.id) from ExternalAssetOwnerTransfer e where e.externalId = :externalTransferId")
@@ -0,0 +1,118 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.investor.cob.loan;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.apache.fineract.investor.data.ExternalTransferStatus;
+import org.apache.fineract.investor.domain.ExternalAssetOwnerTransferRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ExternalAssetOwnerTransferSettlementIndexTest {
+
+    private static final LocalDate SETTLEMENT_DATE = LocalDate.of(2024, 3, 15);
+
+    @Mock
+    private ExternalAssetOwnerTransferRepository externalAssetOwnerTransferRepository;
+
+    private ExternalAssetOwnerTransferSettlementIndex underTest;
+
+    @BeforeEach
+    public void setUp() {
+        underTest = new ExternalAssetOwnerTransferSettlementIndex(externalAssetOwnerTransferRepository);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        underTest.clear();
+    }
+
+    @Test
+    public void givenPrefetchedChunkThenOnlySettlingLoansAreReported() {
+        // given
+        when(externalAssetOwnerTransferRepository.findLoanIdsWithTransfersSettlingOn(List.of(1L, 2L), SETTLEMENT_DATE,
+                List.of(ExternalTransferStatus.PENDING, ExternalTransferStatus.BUYBACK),
+                LoanAccountOwnerTransferBusinessStep.FUTURE_DATE_9999_12_31)).thenReturn(List.of(2L));
+        // when
+        underTest.prefetch(List.of(1L, 2L), SETTLEMENT_DATE);
+        // then
+        assertFalse(underTest.hasTransfersSettlingOn(1L, SETTLEMENT_DATE));
+        assertTrue(underTest.hasTransfersSettlingOn(2L, SETTLEMENT_DATE));
+    }
+
+    @Test
+    public void givenLoanOutsideThePrefetchedChunkThenItMaySettle() {
+        // given
+        when(externalAssetOwnerTransferRepository.findLoanIdsWithTransfersSettlingOn(any(), any(), any(), any())).thenReturn(List.of());
+        // when
+        underTest.prefetch(List.of(1L), SETTLEMENT_DATE);
+        // then
+        assertTrue(underTest.hasTransfersSettlingOn(3L, SETTLEMENT_DATE));
+        assertTrue(underTest.hasTransfersSettlingOn(1L, SETTLEMENT_DATE.minusDays(1)));
+    }
+
+    @Test
+    public void givenNoPrefetchThenEveryLoanMaySettle() {
+        assertTrue(underTest.hasTransfersSettlingOn(1L, SETTLEMENT_DATE));
+        verifyNoInteractions(externalAssetOwnerTransferRepository);
+    }
+
+    @Test
+    public void givenClearedChunkThenNothingIsKept() {
+        // given
+        when(externalAssetOwnerTransferRepository.findLoanIdsWithTransfersSettlingOn(any(), any(), any(), any())).thenReturn(List.of());
+        underTest.prefetch(List.of(1L), SETTLEMENT_DATE);
+        // when
+        underTest.clear();
+        // then
+        assertTrue(underTest.hasTransfersSettlingOn(1L, SETTLEMENT_DATE));
+    }
+
+    @Test
+    public void givenEachChunkThenSettlementsAreReadAgain() {
+        // given
+        when(externalAssetOwnerTransferRepository.findLoanIdsWithTransfersSettlingOn(any(), any(), any(), any())).thenReturn(List.of())
+                .thenReturn(List.of(1L));
+        // when
+        underTest.prefetch(List.of(1L), SETTLEMENT_DATE);
+        boolean settlingInFirstChunk = underTest.hasTransfersSettlingOn(1L, SETTLEMENT_DATE);
+        underTest.prefetch(List.of(1L), SETTLEMENT_DATE);
+        // then
+        assertFalse(settlingInFirstChunk);
+        assertTrue(underTest.hasTransfersSettlingOn(1L, SETTLEMENT_DATE));
+    }
+
+    @Test
+    public void givenEmptyChunkThenNothingIsQueried() {
+        underTest.prefetch(List.of(), SETTLEMENT_DATE);
+        verifyNoInteractions(externalAssetOwnerTransferRepository);
+    }
+}
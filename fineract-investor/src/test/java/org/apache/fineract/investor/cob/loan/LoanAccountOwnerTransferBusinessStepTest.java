@@ -24,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -80,6 +81,9 @@ public class LoanAccountOwnerTransferBusinessStepTest {
 
     @Mock
     private AccountingService accountingService;
+
+    @Mock
+    private ExternalAssetOwnerTransferSettlementIndex externalAssetOwnerTransferSettlementIndex;
     private LoanAccountOwnerTransferBusinessStep underTest;
 
     @BeforeEach
@@ -88,7 +92,9 @@ public class LoanAccountOwnerTransferBusinessStepTest {
         ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
         ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, actualDate)));
         underTest = new LoanAccountOwnerTransferBusinessStep(externalAssetOwnerTransferRepository,
-                externalAssetOwnerTransferLoanMappingRepository, accountingService, businessEventNotifierService);
+                externalAssetOwnerTransferLoanMappingRepository, accountingService, businessEventNotifierService,
+                externalAssetOwnerTransferSettlementIndex);
+        lenient().when(externalAssetOwnerTransferSettlementIndex.hasTransfersSettlingOn(any(), any())).thenReturn(true);
     }
 
     @AfterEach
@@ -110,6 +116,36 @@ public class LoanAccountOwnerTransferBusinessStepTest {
         assertEquals(processedLoan, loanForProcessing);
     }
 
+    @Test
+    public void givenLoanNotInSettlementIndex() {
+        // given
+        final Loan loanForProcessing = Mockito.mock(Loan.class);
+        Long loanId = 1L;
+        when(loanForProcessing.getId()).thenReturn(loanId);
+        when(externalAssetOwnerTransferSettlementIndex.hasTransfersSettlingOn(loanId, actualDate)).thenReturn(false);
+        // when
+        final Loan processedLoan = underTest.execute(loanForProcessing);
+        // then
+        verifyNoInteractions(externalAssetOwnerTransferRepository);
+        verifyNoInteractions(businessEventNotifierService);
+        assertEquals(processedLoan, loanForProcessing);
+    }
+
+    @Test
+    public void givenChunkThenSettlementsArePrefetchedForItsLoansAndDroppedAfterIt() {
+        // given
+        final Loan firstLoan = Mockito.mock(Loan.class);
+        when(firstLoan.getId()).thenReturn(1L);
+        final Loan secondLoan = Mockito.mock(Loan.class);
+        when(secondLoan.getId()).thenReturn(2L);
+        // when
+        underTest.beforeChunk(List.of(firstLoan, secondLoan));
+        underTest.afterChunk(List.of(firstLoan, secondLoan));
+        // then
+        verify(externalAssetOwnerTransferSettlementIndex).prefetch(List.of(1L, 2L), actualDate);
+        verify(externalAssetOwnerTransferSettlementIndex).clear();
+    }
+
     @Test
     public void givenLoanTwoTransferButInvalidTransfers() {
         // given
@@ -111,6 +111,7 @@ import org.apache.fineract.portfolio.loanaccount.data.LoanCollateralManagementDa
 import org.apache.fineract.portfolio.loanaccount.data.LoanTermVariationsData;
 import org.apache.fineract.portfolio.loanaccount.data.ScheduleGeneratorDTO;
 import org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.LoanRepaymentScheduleTransactionProcessor;
+import org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.LoanReplayCheckpoints;
 import org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.MoneyHolder;
 import org.apache.fineract.portfolio.loanaccount.exception.ExceedingTrancheCountException;
 import org.apache.fineract.portfolio.loanaccount.exception.InvalidLoanStateTransitionException;
@@ -330,6 +331,12 @@ public class Loan extends AbstractAuditableWithUTCDateTimeCustom {
     @Column(name = "overpaidon_date")
     private LocalDate overpaidOnDate;
 
+    @Column(name = "earliest_unpaid_installment_due_date")
+    private LocalDate earliestUnpaidInstallmentDueDate;
+
+    @Column(name = "latest_unpaid_installment_due_date")
+    private LocalDate latestUnpaidInstallmentDueDate;
+
     @Column(name = "loan_counter")
     private Integer loanCounter;
 
@@ -359,6 +366,9 @@ public class Loan extends AbstractAuditableWithUTCDateTimeCustom {
     @OneToMany(cascade = CascadeType.ALL, mappedBy = "loan", orphanRemoval = true, fetch = FetchType.LAZY)
     private List<LoanTransaction> loanTransactions = new ArrayList<>();
 
+    @OneToMany(cascade = CascadeType.ALL, mappedBy = "loan", orphanRemoval = true, fetch = FetchType.LAZY)
+    private Set<LoanReplayCheckpoint> replayCheckpoints = new HashSet<>();
+
     @Embedded
     private LoanSummary summary;
 
@@ -706,13 +716,35 @@ public class Loan extends AbstractAuditableWithUTCDateTimeCustom {
         loanLifecycleStateMachine.transition(LoanEvent.LOAN_CHARGE_ADDED, this);
     }
 
+    /**
+     * Reprocesses the transactions with the given processor, resuming from the latest valid replay checkpoint when
+     * checkpoints are enabled. Interest recalculation loans regenerate their schedule before every reprocessing, which
+     * invalidates any checkpoint, so they always replay in full.
+     */
+    private ChangedTransactionDetail reprocessLoanTransactions(
+            final LoanRepaymentScheduleTransactionProcessor loanRepaymentScheduleTransactionProcessor,
+            final List<LoanTransaction> transactionsPostDisbursement) {
+        final int checkpointInterval = this.transactionProcessorFactory.getReplayCheckpointInterval();
+        if (checkpointInterval <= 0 || isInterestRecalculationEnabledForProduct()) {
+            return loanRepaymentScheduleTransactionProcessor.reprocessLoanTransactions(getDisbursementDate(), transactionsPostDisbursement,
+                    getCurrency(), getRepaymentScheduleInstallments(), getActiveCharges());
+        }
+        final LoanReplayCheckpoints checkpoints = new LoanReplayCheckpoints(this, this.replayCheckpoints, checkpointInterval);
+        final ChangedTransactionDetail changedTransactionDetail = loanRepaymentScheduleTransactionProcessor.reprocessLoanTransactions(
+                getDisbursementDate(), transactionsPostDisbursement, getCurrency(), getRepaymentScheduleInstallments(), getActiveCharges(),
+                checkpoints);
+        checkpoints.getStaleCheckpoints().forEach(this.replayCheckpoints::remove);
+        this.replayCheckpoints.addAll(checkpoints.getNewCheckpoints());
+        return changedTransactionDetail;
+    }
+
     public ChangedTransactionDetail reprocessTransactions() {
         ChangedTransactionDetail changedTransactionDetail = null;
         final LoanRepaymentScheduleTransactionProcessor loanRepaymentScheduleTransactionProcessor = this.transactionProcessorFactory
                 .determineProcessor(this.transactionProcessingStrategyCode);
         final List<LoanTransaction> allNonContraTransactionsPostDisbursement = retrieveListOfTransactionsPostDisbursement();
-        changedTransactionDetail = loanRepaymentScheduleTransactionProcessor.reprocessLoanTransactions(getDisbursementDate(),
-                allNonContraTransactionsPostDisbursement, getCurrency(), getRepaymentScheduleInstallments(), getActiveCharges());
+        changedTransactionDetail = reprocessLoanTransactions(loanRepaymentScheduleTransactionProcessor,
+                allNonContraTransactionsPostDisbursement);
         for (final Map.Entry<Long, LoanTransaction> mapEntry : changedTransactionDetail.getNewTransactionMappings().entrySet()) {
 
             mapEntry.getValue().updateLoan(this);
@@ -874,8 +906,7 @@ public class Loan extends AbstractAuditableWithUTCDateTimeCustom {
              * affected Transactions
              ***/
             final List<LoanTransaction> allNonContraTransactionsPostDisbursement = retrieveListOfTransactionsPostDisbursement();
-            loanRepaymentScheduleTransactionProcessor.reprocessLoanTransactions(getDisbursementDate(),
-                    allNonContraTransactionsPostDisbursement, getCurrency(), getRepaymentScheduleInstallments(), getActiveCharges());
+            reprocessLoanTransactions(loanRepaymentScheduleTransactionProcessor, allNonContraTransactionsPostDisbursement);
         }
         this.charges.remove(loanCharge);
         updateLoanSummaryDerivedFields();
@@ -942,8 +973,7 @@ public class Loan extends AbstractAuditableWithUTCDateTimeCustom {
              * affected Transactions
              ***/
             final List<LoanTransaction> allNonContraTransactionsPostDisbursement = retrieveListOfTransactionsPostDisbursement();
-            loanRepaymentScheduleTransactionProcessor.reprocessLoanTransactions(getDisbursementDate(),
-                    allNonContraTransactionsPostDisbursement, getCurrency(), getRepaymentScheduleInstallments(), getActiveCharges());
+            reprocessLoanTransactions(loanRepaymentScheduleTransactionProcessor, allNonContraTransactionsPostDisbursement);
         } else {
             // reprocess loan schedule based on charge been waived.
             final LoanRepaymentScheduleProcessingWrapper wrapper = new LoanRepaymentScheduleProcessingWrapper();
@@ -1136,8 +1166,7 @@ public class Loan extends AbstractAuditableWithUTCDateTimeCustom {
              * affected Transactions
              */
             final List<LoanTransaction> allNonContraTransactionsPostDisbursement = retrieveListOfTransactionsPostDisbursement();
-            loanRepaymentScheduleTransactionProcessor.reprocessLoanTransactions(getDisbursementDate(),
-                    allNonContraTransactionsPostDisbursement, getCurrency(), getRepaymentScheduleInstallments(), getActiveCharges());
+            reprocessLoanTransactions(loanRepaymentScheduleTransactionProcessor, allNonContraTransactionsPostDisbursement);
         } else {
             // reprocess loan schedule based on charge been waived.
             final LoanRepaymentScheduleProcessingWrapper wrapper = new LoanRepaymentScheduleProcessingWrapper();
@@ -1423,6 +1452,7 @@ public class Loan extends AbstractAuditableWithUTCDateTimeCustom {
 
     private void updateLoanSummaryDerivedFields() {
 
+        updateUnpaidInstallmentDueDates();
         if (isNotDisbursed()) {
             this.summary.zeroFields();
             this.totalOverpaid = null;
@@ -1444,6 +1474,28 @@ public class Loan extends AbstractAuditableWithUTCDateTimeCustom {
 
     }
 
+    /**
+     * Keeps the due date range of the installments which are not paid off on the loan itself, so that COB steps can
+     * decide whether an installment can fall on a given date without loading the repayment schedule.
+     */
+    private void updateUnpaidInstallmentDueDates() {
+        LocalDate earliestDueDate = null;
+        LocalDate latestDueDate = null;
+        for (final LoanRepaymentScheduleInstallment installment : getRepaymentScheduleInstallments()) {
+            if (!installment.isObligationsMet() || installment.getTotalOutstanding(loanCurrency()).isGreaterThanZero()) {
+                final LocalDate dueDate = installment.getDueDate();
+                if (earliestDueDate == null || DateUtils.isBefore(dueDate, earliestDueDate)) {
+                    earliestDueDate = dueDate;
+                }
+                if (latestDueDate == null || DateUtils.isAfter(dueDate, latestDueDate)) {
+                    latestDueDate = dueDate;
+                }
+            }
+        }
+        this.earliestUnpaidInstallmentDueDate = earliestDueDate;
+        this.latestUnpaidInstallmentDueDate = latestDueDate;
+    }
+
     public void updateLoanSummaryAndStatus() {
         updateLoanSummaryDerivedFields();
         doPostLoanTransactionChecks(getLastUserTransactionDate(), loanLifecycleStateMachine);
@@ -2697,8 +2749,8 @@ public class Loan extends AbstractAuditableWithUTCDateTimeCustom {
             if (!allNonContraTransactionsPostDisbursement.isEmpty()) {
                 final LoanRepaymentScheduleTransactionProcessor loanRepaymentScheduleTransactionProcessor = this.transactionProcessorFactory
                         .determineProcessor(this.transactionProcessingStrategyCode);
-                changedTransactionDetail = loanRepaymentScheduleTransactionProcessor.reprocessLoanTransactions(getDisbursementDate(),
-                        allNonContraTransactionsPostDisbursement, getCurrency(), getRepaymentScheduleInstallments(), getActiveCharges());
+                changedTransactionDetail = reprocessLoanTransactions(loanRepaymentScheduleTransactionProcessor,
+                        allNonContraTransactionsPostDisbursement);
                 for (final Map.Entry<Long, LoanTransaction> mapEntry : changedTransactionDetail.getNewTransactionMappings().entrySet()) {
                     mapEntry.getValue().updateLoan(this);
                 }
@@ -3344,8 +3396,8 @@ public class Loan extends AbstractAuditableWithUTCDateTimeCustom {
                 regenerateRepaymentScheduleWithInterestRecalculation(scheduleGeneratorDTO);
             }
             final List<LoanTransaction> allNonContraTransactionsPostDisbursement = retrieveListOfTransactionsPostDisbursement();
-            changedTransactionDetail = loanRepaymentScheduleTransactionProcessor.reprocessLoanTransactions(getDisbursementDate(),
-                    allNonContraTransactionsPostDisbursement, getCurrency(), getRepaymentScheduleInstallments(), getActiveCharges());
+            changedTransactionDetail = reprocessLoanTransactions(loanRepaymentScheduleTransactionProcessor,
+                    allNonContraTransactionsPostDisbursement);
             for (final Map.Entry<Long, LoanTransaction> mapEntry : changedTransactionDetail.getNewTransactionMappings().entrySet()) {
                 mapEntry.getValue().updateLoan(this);
             }
@@ -3791,9 +3843,8 @@ public class Loan extends AbstractAuditableWithUTCDateTimeCustom {
         if (this.repaymentScheduleDetail().isInterestRecalculationEnabled()) {
             regenerateRepaymentScheduleWithInterestRecalculation(scheduleGeneratorDTO);
         }
-        ChangedTransactionDetail changedTransactionDetail = loanRepaymentScheduleTransactionProcessor.reprocessLoanTransactions(
-                getDisbursementDate(), allNonContraTransactionsPostDisbursement, getCurrency(), getRepaymentScheduleInstallments(),
-                getActiveCharges());
+        ChangedTransactionDetail changedTransactionDetail = reprocessLoanTransactions(loanRepaymentScheduleTransactionProcessor,
+                allNonContraTransactionsPostDisbursement);
         updateLoanSummaryDerivedFields();
         return changedTransactionDetail;
     }
@@ -3940,8 +3991,8 @@ public class Loan extends AbstractAuditableWithUTCDateTimeCustom {
                 regenerateRepaymentScheduleWithInterestRecalculation(scheduleGeneratorDTO);
             }
             final List<LoanTransaction> allNonContraTransactionsPostDisbursement = retrieveListOfTransactionsPostDisbursement();
-            changedTransactionDetail = loanRepaymentScheduleTransactionProcessor.reprocessLoanTransactions(getDisbursementDate(),
-                    allNonContraTransactionsPostDisbursement, getCurrency(), getRepaymentScheduleInstallments(), getActiveCharges());
+            changedTransactionDetail = reprocessLoanTransactions(loanRepaymentScheduleTransactionProcessor,
+                    allNonContraTransactionsPostDisbursement);
             for (final Map.Entry<Long, LoanTransaction> mapEntry : changedTransactionDetail.getNewTransactionMappings().entrySet()) {
                 mapEntry.getValue().updateLoan(this);
                 addLoanTransaction(mapEntry.getValue());
@@ -5381,9 +5432,8 @@ public class Loan extends AbstractAuditableWithUTCDateTimeCustom {
         final LoanRepaymentScheduleTransactionProcessor loanRepaymentScheduleTransactionProcessor = this.transactionProcessorFactory
                 .determineProcessor(this.transactionProcessingStrategyCode);
         final List<LoanTransaction> allNonContraTransactionsPostDisbursement = retrieveListOfTransactionsPostDisbursement();
-        ChangedTransactionDetail changedTransactionDetail = loanRepaymentScheduleTransactionProcessor.reprocessLoanTransactions(
-                getDisbursementDate(), allNonContraTransactionsPostDisbursement, getCurrency(), getRepaymentScheduleInstallments(),
-                getActiveCharges());
+        ChangedTransactionDetail changedTransactionDetail = reprocessLoanTransactions(loanRepaymentScheduleTransactionProcessor,
+                allNonContraTransactionsPostDisbursement);
         for (final Map.Entry<Long, LoanTransaction> mapEntry : changedTransactionDetail.getNewTransactionMappings().entrySet()) {
             mapEntry.getValue().updateLoan(this);
             addLoanTransaction(mapEntry.getValue());
@@ -5468,6 +5518,14 @@ public class Loan extends AbstractAuditableWithUTCDateTimeCustom {
         return this.overpaidOnDate;
     }
 
+    public LocalDate getEarliestUnpaidInstallmentDueDate() {
+        return this.earliestUnpaidInstallmentDueDate;
+    }
+
+    public LocalDate getLatestUnpaidInstallmentDueDate() {
+        return this.latestUnpaidInstallmentDueDate;
+    }
+
     public void updateIsInterestRecalculationEnabled() {
         this.loanRepaymentScheduleDetail.updateIsInterestRecalculationEnabled(isInterestRecalculationEnabledForProduct());
     }
@@ -5535,9 +5593,8 @@ public class Loan extends AbstractAuditableWithUTCDateTimeCustom {
         final LoanRepaymentScheduleTransactionProcessor loanRepaymentScheduleTransactionProcessor = this.transactionProcessorFactory
                 .determineProcessor(this.transactionProcessingStrategyCode);
         final List<LoanTransaction> allNonContraTransactionsPostDisbursement = retrieveListOfTransactionsPostDisbursement();
-        ChangedTransactionDetail changedTransactionDetail = loanRepaymentScheduleTransactionProcessor.reprocessLoanTransactions(
-                getDisbursementDate(), allNonContraTransactionsPostDisbursement, getCurrency(), getRepaymentScheduleInstallments(),
-                getActiveCharges());
+        ChangedTransactionDetail changedTransactionDetail = reprocessLoanTransactions(loanRepaymentScheduleTransactionProcessor,
+                allNonContraTransactionsPostDisbursement);
         for (final Map.Entry<Long, LoanTransaction> mapEntry : changedTransactionDetail.getNewTransactionMappings().entrySet()) {
             mapEntry.getValue().updateLoan(this);
         }
@@ -6380,8 +6437,8 @@ public class Loan extends AbstractAuditableWithUTCDateTimeCustom {
                     getRepaymentScheduleInstallments(), getActiveCharges(), new MoneyHolder(getTotalOverpaidAsMoney()));
         } else {
             final List<LoanTransaction> allNonContraTransactionsPostDisbursement = retrieveListOfTransactionsPostDisbursement();
-            changedTransactionDetail = loanRepaymentScheduleTransactionProcessor.reprocessLoanTransactions(getDisbursementDate(),
-                    allNonContraTransactionsPostDisbursement, getCurrency(), getRepaymentScheduleInstallments(), getActiveCharges());
+            changedTransactionDetail = reprocessLoanTransactions(loanRepaymentScheduleTransactionProcessor,
+                    allNonContraTransactionsPostDisbursement);
             for (final Map.Entry<Long, LoanTransaction> mapEntry : changedTransactionDetail.getNewTransactionMappings().entrySet()) {
                 mapEntry.getValue().updateLoan(this);
             }
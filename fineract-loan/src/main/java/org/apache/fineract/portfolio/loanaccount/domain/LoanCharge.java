@@ -279,6 +279,24 @@ public class LoanCharge extends AbstractAuditableWithUTCDateTimeCustom {
         }
     }
 
+    public LoanReplayCheckpointState.ChargeState capturePaidState() {
+        final List<LoanReplayCheckpointState.InstallmentChargeState> installmentChargeStates = new ArrayList<>();
+        for (final LoanInstallmentCharge installmentCharge : this.loanInstallmentCharge) {
+            installmentChargeStates.add(installmentCharge.capturePaidState());
+        }
+        return new LoanReplayCheckpointState.ChargeState(getId(), this.amountPaid, this.amountOutstanding, this.paid,
+                installmentChargeStates);
+    }
+
+    public void restorePaidState(final LoanReplayCheckpointState.ChargeState state) {
+        for (final LoanReplayCheckpointState.InstallmentChargeState installmentChargeState : state.getInstallmentCharges()) {
+            getInstallmentLoanCharge(installmentChargeState.getInstallmentNumber()).restorePaidState(installmentChargeState);
+        }
+        this.amountPaid = state.getAmountPaid();
+        this.amountOutstanding = state.getAmountOutstanding();
+        this.paid = state.isPaid();
+    }
+
     public void setOutstandingAmount(final BigDecimal amountOutstanding) {
         this.amountOutstanding = amountOutstanding;
     }
@@ -228,6 +228,17 @@ public class LoanInstallmentCharge extends AbstractPersistableCustom implements
         this.paid = false;
     }
 
+    public LoanReplayCheckpointState.InstallmentChargeState capturePaidState() {
+        return new LoanReplayCheckpointState.InstallmentChargeState(this.installment.getInstallmentNumber(), this.amountPaid,
+                this.amountOutstanding, this.paid);
+    }
+
+    public void restorePaidState(final LoanReplayCheckpointState.InstallmentChargeState state) {
+        this.amountPaid = state.getAmountPaid();
+        this.amountOutstanding = state.getAmountOutstanding();
+        this.paid = state.isPaid();
+    }
+
     public void setAmountWaived(final BigDecimal amountWaived) {
         this.amountWaived = amountWaived;
     }
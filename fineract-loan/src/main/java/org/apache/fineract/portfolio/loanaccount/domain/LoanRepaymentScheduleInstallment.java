@@ -414,6 +414,32 @@ public class LoanRepaymentScheduleInstallment extends AbstractAuditableWithUTCDa
         }
     }
 
+    public LoanReplayCheckpointState.InstallmentState captureDerivedComponents() {
+        return new LoanReplayCheckpointState.InstallmentState(this.installmentNumber, this.principalCompleted, this.principalWrittenOff,
+                this.interestPaid, this.interestWaived, this.interestWrittenOff, this.feeChargesPaid, this.feeChargesWaived,
+                this.feeChargesWrittenOff, this.penaltyChargesPaid, this.penaltyChargesWaived, this.penaltyChargesWrittenOff,
+                this.totalPaidInAdvance, this.totalPaidLate, this.obligationsMet,
+                this.obligationsMetOnDate == null ? null : this.obligationsMetOnDate.toString());
+    }
+
+    public void restoreDerivedComponents(final LoanReplayCheckpointState.InstallmentState state) {
+        this.principalCompleted = state.getPrincipalCompleted();
+        this.principalWrittenOff = state.getPrincipalWrittenOff();
+        this.interestPaid = state.getInterestPaid();
+        this.interestWaived = state.getInterestWaived();
+        this.interestWrittenOff = state.getInterestWrittenOff();
+        this.feeChargesPaid = state.getFeeChargesPaid();
+        this.feeChargesWaived = state.getFeeChargesWaived();
+        this.feeChargesWrittenOff = state.getFeeChargesWrittenOff();
+        this.penaltyChargesPaid = state.getPenaltyChargesPaid();
+        this.penaltyChargesWaived = state.getPenaltyChargesWaived();
+        this.penaltyChargesWrittenOff = state.getPenaltyChargesWrittenOff();
+        this.totalPaidInAdvance = state.getTotalPaidInAdvance();
+        this.totalPaidLate = state.getTotalPaidLate();
+        this.obligationsMet = state.isObligationsMet();
+        this.obligationsMetOnDate = state.getObligationsMetOnDate() == null ? null : LocalDate.parse(state.getObligationsMetOnDate());
+    }
+
     public void resetAccrualComponents() {
         this.interestAccrued = null;
         this.feeAccrued = null;
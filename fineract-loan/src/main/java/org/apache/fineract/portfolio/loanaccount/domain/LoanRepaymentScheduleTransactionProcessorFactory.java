@@ -36,6 +36,9 @@ public class LoanRepaymentScheduleTransactionProcessorFactory {
     @Value("${fineract.loan.transactionprocessor.error-not-found-fail}")
     private Boolean errorNotFoundFail;
 
+    @Value("${fineract.loan.transactionprocessor.replay-checkpoint-interval:0}")
+    private Integer replayCheckpointInterval;
+
     public LoanRepaymentScheduleTransactionProcessor determineProcessor(final String transactionProcessingStrategy) {
 
         Optional<LoanRepaymentScheduleTransactionProcessor> processor = processors.stream()
@@ -48,6 +51,13 @@ public class LoanRepaymentScheduleTransactionProcessorFactory {
         }
     }
 
+    /**
+     * Number of processed transactions between two replay checkpoints, 0 disables them.
+     */
+    public int getReplayCheckpointInterval() {
+        return replayCheckpointInterval == null ? 0 : replayCheckpointInterval;
+    }
+
     public List<TransactionProcessingStrategyData> getStrategies() {
         return processors.stream().map(p -> new TransactionProcessingStrategyData(null, p.getCode(), p.getName())).toList();
     }
@@ -0,0 +1,69 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import org.apache.fineract.infrastructure.core.domain.AbstractPersistableCustom;
+
+/**
+ * Persisted replay checkpoint: the schedule and charge paid state after the first {@code transactionCount} processed
+ * transactions of a loan. The fingerprint covers the schedule, the charges and that transaction prefix, so a
+ * checkpoint is only reused while all of them are unchanged.
+ */
+@Getter
+@Entity
+@Table(name = "m_loan_replay_checkpoint")
+public class LoanReplayCheckpoint extends AbstractPersistableCustom {
+
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "loan_id", nullable = false)
+    private Loan loan;
+
+    @Column(name = "last_transaction_id", nullable = false)
+    private Long lastTransactionId;
+
+    @Column(name = "transaction_count", nullable = false)
+    private int transactionCount;
+
+    @Column(name = "fingerprint", length = 64, nullable = false)
+    private String fingerprint;
+
+    @Column(name = "state", nullable = false)
+    private String state;
+
+    protected LoanReplayCheckpoint() {}
+
+    public LoanReplayCheckpoint(final Loan loan, final Long lastTransactionId, final int transactionCount, final String fingerprint,
+            final LoanReplayCheckpointState state) {
+        this.loan = loan;
+        this.lastTransactionId = lastTransactionId;
+        this.transactionCount = transactionCount;
+        this.fingerprint = fingerprint;
+        this.state = state.toJson();
+    }
+
+    public LoanReplayCheckpointState getCheckpointState() {
+        return LoanReplayCheckpointState.fromJson(this.state);
+    }
+}
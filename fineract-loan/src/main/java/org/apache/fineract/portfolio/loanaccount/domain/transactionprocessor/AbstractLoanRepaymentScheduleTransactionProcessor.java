@@ -71,6 +71,14 @@ public abstract class AbstractLoanRepaymentScheduleTransactionProcessor implemen
     public ChangedTransactionDetail reprocessLoanTransactions(final LocalDate disbursementDate,
             final List<LoanTransaction> transactionsPostDisbursement, final MonetaryCurrency currency,
             final List<LoanRepaymentScheduleInstallment> installments, final Set<LoanCharge> charges) {
+        return reprocessLoanTransactions(disbursementDate, transactionsPostDisbursement, currency, installments, charges, null);
+    }
+
+    @Override
+    public ChangedTransactionDetail reprocessLoanTransactions(final LocalDate disbursementDate,
+            final List<LoanTransaction> transactionsPostDisbursement, final MonetaryCurrency currency,
+            final List<LoanRepaymentScheduleInstallment> installments, final Set<LoanCharge> charges,
+            final LoanReplayCheckpoints replayCheckpoints) {
 
         if (charges != null) {
             for (final LoanCharge loanCharge : charges) {
@@ -91,6 +99,10 @@ public abstract class AbstractLoanRepaymentScheduleTransactionProcessor implemen
         final LoanRepaymentScheduleProcessingWrapper wrapper = new LoanRepaymentScheduleProcessingWrapper();
         wrapper.reprocess(currency, disbursementDate, installments, charges);
 
+        // charge payments are applied ahead of all other transactions, checkpoints only cover loans without them
+        final boolean useReplayCheckpoints = replayCheckpoints != null
+                && transactionsPostDisbursement.stream().noneMatch(LoanTransaction::isChargePayment);
+
         final ChangedTransactionDetail changedTransactionDetail = new ChangedTransactionDetail();
         final List<LoanTransaction> transactionsToBeProcessed = new ArrayList<>();
         for (final LoanTransaction loanTransaction : transactionsPostDisbursement) {
@@ -152,8 +164,14 @@ public abstract class AbstractLoanRepaymentScheduleTransactionProcessor implemen
             }
         }
 
+        int processedTransactions = 0;
+        if (useReplayCheckpoints) {
+            processedTransactions = replayCheckpoints.restoreLatest(getCode(), transactionsToBeProcessed, currency, installments, charges);
+        }
+
         MoneyHolder overpaymentHolder = new MoneyHolder(Money.zero(currency));
-        for (final LoanTransaction loanTransaction : transactionsToBeProcessed) {
+        for (int index = processedTransactions; index < transactionsToBeProcessed.size(); index++) {
+            final LoanTransaction loanTransaction = transactionsToBeProcessed.get(index);
             // TODO: analyze and remove this
             if (!loanTransaction.getTypeOf().equals(LoanTransactionType.REFUND_FOR_ACTIVE_LOAN)) {
                 final Comparator<LoanRepaymentScheduleInstallment> byDate = Comparator
@@ -205,6 +223,10 @@ public abstract class AbstractLoanRepaymentScheduleTransactionProcessor implemen
             } else if (loanTransaction.isChargeOff()) {
                 recalculateChargeOffTransaction(changedTransactionDetail, loanTransaction, currency, installments);
             }
+            if (useReplayCheckpoints) {
+                replayCheckpoints.afterTransaction(index, loanTransaction, overpaymentHolder, changedTransactionDetail, installments,
+                        charges);
+            }
         }
         reprocessInstallments(disbursementDate, transactionsToBeProcessed, installments, currency);
         return changedTransactionDetail;
@@ -52,6 +52,17 @@ public interface LoanRepaymentScheduleTransactionProcessor {
     ChangedTransactionDetail reprocessLoanTransactions(LocalDate disbursementDate, List<LoanTransaction> repaymentsOrWaivers,
             MonetaryCurrency currency, List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments, Set<LoanCharge> charges);
 
+    /**
+     * Same as {@link #reprocessLoanTransactions(LocalDate, List, MonetaryCurrency, List, Set)}, but may resume from the
+     * latest valid replay checkpoint and records new ones. Processors without checkpoint support replay every
+     * transaction.
+     */
+    default ChangedTransactionDetail reprocessLoanTransactions(LocalDate disbursementDate, List<LoanTransaction> repaymentsOrWaivers,
+            MonetaryCurrency currency, List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments, Set<LoanCharge> charges,
+            LoanReplayCheckpoints replayCheckpoints) {
+        return reprocessLoanTransactions(disbursementDate, repaymentsOrWaivers, currency, repaymentScheduleInstallments, charges);
+    }
+
     Money handleRepaymentSchedule(List<LoanTransaction> transactionsPostDisbursement, MonetaryCurrency currency,
             List<LoanRepaymentScheduleInstallment> installments, Set<LoanCharge> loanCharges);
 
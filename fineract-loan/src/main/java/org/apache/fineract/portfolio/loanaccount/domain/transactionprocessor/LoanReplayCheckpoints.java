@@ -0,0 +1,254 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor;
+
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.Getter;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.portfolio.loanaccount.domain.ChangedTransactionDetail;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanCharge;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanInstallmentCharge;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanReplayCheckpoint;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanReplayCheckpointState;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanTransaction;
+
+/**
+ * Replay checkpoints of a single reprocessing run. Picks the latest persisted checkpoint which is still valid for the
+ * current schedule, charges and transaction prefix, restores its state and records new checkpoints every
+ * {@code interval} transactions while the processed prefix only holds plain repayments and interest waivers.
+ */
+public class LoanReplayCheckpoints {
+
+    private final Loan loan;
+    private final Collection<LoanReplayCheckpoint> checkpoints;
+    private final int interval;
+
+    @Getter
+    private final List<LoanReplayCheckpoint> newCheckpoints = new ArrayList<>();
+    @Getter
+    private final List<LoanReplayCheckpoint> staleCheckpoints = new ArrayList<>();
+
+    private final Set<Integer> validTransactionCounts = new HashSet<>();
+    private List<String> prefixFingerprints;
+    private MonetaryCurrency currency;
+    private boolean prefixCheckpointable;
+
+    public LoanReplayCheckpoints(final Loan loan, final Collection<LoanReplayCheckpoint> checkpoints, final int interval) {
+        this.loan = loan;
+        this.checkpoints = checkpoints;
+        this.interval = interval;
+    }
+
+    /**
+     * Restores the latest valid checkpoint and returns the number of transactions it already covers, or 0 when the
+     * replay has to start from the beginning. Must be called after the schedule and the charges were reset.
+     */
+    public int restoreLatest(final String processorCode, final List<LoanTransaction> transactions, final MonetaryCurrency currency,
+            final List<LoanRepaymentScheduleInstallment> installments, final Set<LoanCharge> charges) {
+        this.currency = currency;
+        this.prefixFingerprints = fingerprintPrefixes(processorCode, transactions, installments, charges);
+        if (this.prefixFingerprints == null) {
+            return 0;
+        }
+        this.prefixCheckpointable = true;
+
+        LoanReplayCheckpoint latest = null;
+        for (LoanReplayCheckpoint checkpoint : this.checkpoints) {
+            final int count = checkpoint.getTransactionCount();
+            final boolean valid = count >= 1 && count <= this.prefixFingerprints.size()
+                    && this.prefixFingerprints.get(count - 1).equals(checkpoint.getFingerprint());
+            if (!valid || !this.validTransactionCounts.add(count)) {
+                this.staleCheckpoints.add(checkpoint);
+            } else if (latest == null || count > latest.getTransactionCount()) {
+                latest = checkpoint;
+            }
+        }
+        if (latest == null) {
+            return 0;
+        }
+        installments.sort(Comparator.comparing(LoanRepaymentScheduleInstallment::getDueDate));
+        final LoanReplayCheckpointState state = latest.getCheckpointState();
+        if (!canRestore(state, installments, charges)) {
+            this.staleCheckpoints.add(latest);
+            this.validTransactionCounts.remove(latest.getTransactionCount());
+            return 0;
+        }
+        for (int i = 0; i < installments.size(); i++) {
+            installments.get(i).restoreDerivedComponents(state.getInstallments().get(i));
+        }
+        final Map<Long, LoanCharge> chargesById = chargesById(charges);
+        for (LoanReplayCheckpointState.ChargeState chargeState : state.getCharges()) {
+            chargesById.get(chargeState.getChargeId()).restorePaidState(chargeState);
+        }
+        return latest.getTransactionCount();
+    }
+
+    /**
+     * Called after the transaction at {@code index} was processed, records a checkpoint when the processed prefix
+     * reached the next interval.
+     */
+    public void afterTransaction(final int index, final LoanTransaction loanTransaction, final MoneyHolder overpaymentHolder,
+            final ChangedTransactionDetail changedTransactionDetail, final List<LoanRepaymentScheduleInstallment> installments,
+            final Set<LoanCharge> charges) {
+        if (this.prefixFingerprints == null || !this.prefixCheckpointable) {
+            return;
+        }
+        if (!isCheckpointable(loanTransaction, overpaymentHolder, changedTransactionDetail)) {
+            this.prefixCheckpointable = false;
+            return;
+        }
+        final int count = index + 1;
+        if (count % this.interval == 0 && this.validTransactionCounts.add(count)) {
+            this.newCheckpoints.add(new LoanReplayCheckpoint(this.loan, loanTransaction.getId(), count,
+                    this.prefixFingerprints.get(index), capture(installments, charges)));
+        }
+    }
+
+    private boolean isCheckpointable(final LoanTransaction loanTransaction, final MoneyHolder overpaymentHolder,
+            final ChangedTransactionDetail changedTransactionDetail) {
+        return loanTransaction.getId() != null
+                && (loanTransaction.isRepayment() || loanTransaction.isInterestWaiver() || loanTransaction.isDownPayment())
+                && !changedTransactionDetail.getNewTransactionMappings().containsKey(loanTransaction.getId())
+                && loanTransaction.getOverPaymentPortion(this.currency).isZero()
+                && (overpaymentHolder.getMoneyObject() == null || overpaymentHolder.getMoneyObject().isZero());
+    }
+
+    private LoanReplayCheckpointState capture(final List<LoanRepaymentScheduleInstallment> installments, final Set<LoanCharge> charges) {
+        final List<LoanReplayCheckpointState.InstallmentState> installmentStates = new ArrayList<>();
+        for (LoanRepaymentScheduleInstallment installment : installments) {
+            installmentStates.add(installment.captureDerivedComponents());
+        }
+        final List<LoanReplayCheckpointState.ChargeState> chargeStates = new ArrayList<>();
+        if (charges != null) {
+            for (LoanCharge charge : charges) {
+                chargeStates.add(charge.capturePaidState());
+            }
+        }
+        return new LoanReplayCheckpointState(installmentStates, chargeStates);
+    }
+
+    private boolean canRestore(final LoanReplayCheckpointState state, final List<LoanRepaymentScheduleInstallment> installments,
+            final Set<LoanCharge> charges) {
+        if (state.getInstallments().size() != installments.size()) {
+            return false;
+        }
+        for (int i = 0; i < installments.size(); i++) {
+            if (!Objects.equals(installments.get(i).getInstallmentNumber(), state.getInstallments().get(i).getInstallmentNumber())) {
+                return false;
+            }
+        }
+        final Map<Long, LoanCharge> chargesById = chargesById(charges);
+        if (state.getCharges().size() != chargesById.size()) {
+            return false;
+        }
+        for (LoanReplayCheckpointState.ChargeState chargeState : state.getCharges()) {
+            final LoanCharge charge = chargesById.get(chargeState.getChargeId());
+            if (charge == null || charge.installmentCharges().size() != chargeState.getInstallmentCharges().size()) {
+                return false;
+            }
+            for (LoanReplayCheckpointState.InstallmentChargeState installmentChargeState : chargeState.getInstallmentCharges()) {
+                if (charge.getInstallmentLoanCharge(installmentChargeState.getInstallmentNumber()) == null) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private Map<Long, LoanCharge> chargesById(final Set<LoanCharge> charges) {
+        final Map<Long, LoanCharge> chargesById = new HashMap<>();
+        if (charges != null) {
+            for (LoanCharge charge : charges) {
+                chargesById.put(charge.getId(), charge);
+            }
+        }
+        return chargesById;
+    }
+
+    /**
+     * Fingerprint of the schedule and charges followed by every transaction of the prefix, one entry per prefix length.
+     * Returns null when something is not persisted yet and therefore cannot be identified.
+     */
+    private List<String> fingerprintPrefixes(final String processorCode, final List<LoanTransaction> transactions,
+            final List<LoanRepaymentScheduleInstallment> installments, final Set<LoanCharge> charges) {
+        final StringBuilder base = new StringBuilder(processorCode);
+        final List<LoanRepaymentScheduleInstallment> sortedInstallments = new ArrayList<>(installments);
+        sortedInstallments.sort(Comparator.comparing(LoanRepaymentScheduleInstallment::getDueDate));
+        for (LoanRepaymentScheduleInstallment installment : sortedInstallments) {
+            base.append("|I:").append(installment.getInstallmentNumber()).append(':').append(installment.getFromDate()).append(':')
+                    .append(installment.getDueDate()).append(':').append(installment.getPrincipal(this.currency).getAmount()).append(':')
+                    .append(installment.getInterestCharged(this.currency).getAmount()).append(':')
+                    .append(installment.getFeeChargesCharged(this.currency).getAmount()).append(':')
+                    .append(installment.getFeeChargesWaived(this.currency).getAmount()).append(':')
+                    .append(installment.getPenaltyChargesCharged(this.currency).getAmount()).append(':')
+                    .append(installment.getPenaltyChargesWaived(this.currency).getAmount()).append(':')
+                    .append(installment.isDownPayment()).append(':').append(installment.isAdditional()).append(':')
+                    .append(installment.isRecalculatedInterestComponent());
+        }
+        if (charges != null) {
+            final List<LoanCharge> sortedCharges = new ArrayList<>(charges);
+            if (sortedCharges.stream().anyMatch(charge -> charge.getId() == null)) {
+                return null;
+            }
+            sortedCharges.sort(Comparator.comparing(LoanCharge::getId));
+            for (LoanCharge charge : sortedCharges) {
+                base.append("|C:").append(charge.getId()).append(':').append(charge.getAmount(this.currency).getAmount()).append(':')
+                        .append(charge.getAmountWaived(this.currency).getAmount()).append(':')
+                        .append(charge.getAmountWrittenOff(this.currency).getAmount()).append(':').append(charge.getDueLocalDate())
+                        .append(':').append(charge.isWaived()).append(':').append(charge.isPenaltyCharge());
+                final List<LoanInstallmentCharge> installmentCharges = new ArrayList<>(charge.installmentCharges());
+                installmentCharges.sort(Comparator.comparing(ic -> ic.getInstallment().getInstallmentNumber()));
+                for (LoanInstallmentCharge installmentCharge : installmentCharges) {
+                    base.append(':').append(installmentCharge.getInstallment().getInstallmentNumber()).append('=')
+                            .append(installmentCharge.getAmount(this.currency).getAmount()).append('/')
+                            .append(installmentCharge.isWaived());
+                }
+            }
+        }
+
+        final List<String> fingerprints = new ArrayList<>(transactions.size());
+        String fingerprint = sha256(base.toString());
+        for (LoanTransaction loanTransaction : transactions) {
+            if (loanTransaction.getId() == null) {
+                // nothing after an unsaved transaction can be checkpointed
+                break;
+            }
+            fingerprint = sha256(fingerprint + "|T:" + loanTransaction.getId() + ':' + loanTransaction.getTypeOf() + ':'
+                    + loanTransaction.getTransactionDate() + ':' + loanTransaction.getAmount(this.currency).getAmount());
+            fingerprints.add(fingerprint);
+        }
+        return fingerprints;
+    }
+
+    private static String sha256(final String value) {
+        return Hashing.sha256().hashString(value, StandardCharsets.UTF_8).toString();
+    }
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.fineract.cob;
 
+import java.util.List;
 import java.util.Set;
 import java.util.TreeMap;
 import org.apache.fineract.cob.data.BusinessStepNameAndOrder;
@@ -28,6 +29,10 @@ public interface COBBusinessStepService {
 
     <T extends COBBusinessStep<S>, S extends AbstractPersistableCustom> S run(TreeMap<Long, String> executionMap, S item);
 
+    <S extends AbstractPersistableCustom> void beforeChunk(TreeMap<Long, String> executionMap, List<S> items);
+
+    <S extends AbstractPersistableCustom> void afterChunk(TreeMap<Long, String> executionMap, List<S> items);
+
     @NotNull
     <T extends COBBusinessStep<S>, S extends AbstractPersistableCustom> Set<BusinessStepNameAndOrder> getCOBBusinessSteps(
             Class<T> businessStepClass, String cobJobName);
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.cob.data.BusinessStepNameAndOrder;
@@ -92,6 +93,45 @@ public class COBBusinessStepServiceImpl implements COBBusinessStepService {
         return item;
     }
 
+    @Override
+    public <S extends AbstractPersistableCustom> void beforeChunk(TreeMap<Long, String> executionMap, List<S> items) {
+        forEachChunkStep(executionMap, chunkStep -> {
+            try {
+                chunkStep.beforeChunk(items);
+            } catch (RuntimeException e) {
+                // the step looks up per item whatever it could not prefetch, so the chunk is not failed because of it
+                log.warn("Prefetch of business step {} failed for a chunk of {} items, falling back to per item lookups",
+                        chunkStep.getEnumStyledName(), items.size(), e);
+            }
+        });
+    }
+
+    @Override
+    public <S extends AbstractPersistableCustom> void afterChunk(TreeMap<Long, String> executionMap, List<S> items) {
+        forEachChunkStep(executionMap, chunkStep -> chunkStep.afterChunk(items));
+    }
+
+    @SuppressWarnings({ "unchecked" })
+    private <S extends AbstractPersistableCustom> void forEachChunkStep(TreeMap<Long, String> executionMap,
+            Consumer<COBChunkBusinessStep<S>> action) {
+        if (executionMap == null) {
+            return;
+        }
+        ThreadLocalContextUtil.setActionContext(ActionContext.COB);
+        for (String businessStep : executionMap.values()) {
+            if (applicationContext.getBean(businessStep) instanceof COBChunkBusinessStep<?> chunkStep) {
+                try {
+                    action.accept((COBChunkBusinessStep<S>) chunkStep);
+                } catch (Exception e) {
+                    throw new BusinessStepException("Error happened during chunk level business step execution", e);
+                } finally {
+                    // a step may switch the action context, the next one starts in COB again
+                    ThreadLocalContextUtil.setActionContext(ActionContext.COB);
+                }
+            }
+        }
+    }
+
     @NotNull
     @Override
     public <T extends COBBusinessStep<S>, S extends AbstractPersistableCustom> Set<BusinessStepNameAndOrder> getCOBBusinessSteps(
@@ -20,6 +20,8 @@ package org.apache.fineract.cob.loan;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -33,37 +35,74 @@ import org.apache.fineract.cob.COBBusinessStepService;
 import org.apache.fineract.cob.data.BusinessStepNameAndOrder;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.ChunkListener;
 import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.annotation.AfterStep;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemProcessor;
 
 @RequiredArgsConstructor
 @Slf4j
-public abstract class AbstractLoanItemProcessor implements ItemProcessor<Loan, Loan> {
+public abstract class AbstractLoanItemProcessor
+        implements ItemProcessor<Loan, Loan>, ItemReadListener<Loan>, ItemWriteListener<Loan>, ChunkListener {
 
     private final COBBusinessStepService cobBusinessStepService;
 
+    // Every item of a chunk is read before the first one is processed, and a chunk stays on one thread
+    private final ThreadLocal<ChunkItems> chunkItems = ThreadLocal.withInitial(ChunkItems::new);
+
     @Setter(AccessLevel.PROTECTED)
     private ExecutionContext executionContext;
     private LocalDate businessDate;
 
-    @SuppressWarnings({ "unchecked" })
     @Override
     public Loan process(@NotNull Loan item) throws Exception {
-        Set<BusinessStepNameAndOrder> businessSteps = (Set<BusinessStepNameAndOrder>) executionContext.get(LoanCOBConstant.BUSINESS_STEPS);
-        if (businessSteps == null) {
-            throw new IllegalStateException("No business steps found in the execution context");
+        TreeMap<Long, String> businessStepMap = getBusinessStepMap();
+        ChunkItems chunk = chunkItems.get();
+        if (!chunk.prepared && !chunk.loans.isEmpty()) {
+            cobBusinessStepService.beforeChunk(businessStepMap, chunk.loans);
+            chunk.prepared = true;
         }
-        TreeMap<Long, String> businessStepMap = getBusinessStepMap(businessSteps);
 
         Loan alreadyProcessedLoan = cobBusinessStepService.run(businessStepMap, item);
         alreadyProcessedLoan.setLastClosedBusinessDate(businessDate);
         return alreadyProcessedLoan;
     }
 
-    private TreeMap<Long, String> getBusinessStepMap(Set<BusinessStepNameAndOrder> businessSteps) {
+    @Override
+    public void afterRead(@NotNull Loan item) {
+        chunkItems.get().loans.add(item);
+    }
+
+    @Override
+    public void beforeWrite(@NotNull Chunk<? extends Loan> items) {
+        if (!items.isEmpty()) {
+            cobBusinessStepService.afterChunk(getBusinessStepMap(), new ArrayList<Loan>(items.getItems()));
+        }
+    }
+
+    @Override
+    public void afterChunk(@NotNull ChunkContext context) {
+        chunkItems.remove();
+    }
+
+    @Override
+    public void afterChunkError(@NotNull ChunkContext context) {
+        // the chunk is retried with the items already read, whatever was prefetched got rolled back with it
+        chunkItems.get().prepared = false;
+    }
+
+    @SuppressWarnings({ "unchecked" })
+    private TreeMap<Long, String> getBusinessStepMap() {
+        Set<BusinessStepNameAndOrder> businessSteps = (Set<BusinessStepNameAndOrder>) executionContext.get(LoanCOBConstant.BUSINESS_STEPS);
+        if (businessSteps == null) {
+            throw new IllegalStateException("No business steps found in the execution context");
+        }
         Map<Long, String> businessStepMap = businessSteps.stream()
                 .collect(Collectors.toMap(BusinessStepNameAndOrder::getStepOrder, BusinessStepNameAndOrder::getStepName));
         return new TreeMap<>(businessStepMap);
@@ -81,4 +120,10 @@ public abstract class AbstractLoanItemProcessor implements ItemProcessor<Loan, L
                 DateTimeFormatter.ISO_DATE);
     }
 
+    private static final class ChunkItems {
+
+        private final List<Loan> loans = new ArrayList<>();
+        private boolean prepared;
+    }
+
 }
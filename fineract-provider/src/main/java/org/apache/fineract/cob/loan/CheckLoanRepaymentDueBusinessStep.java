@@ -51,6 +51,10 @@ public class CheckLoanRepaymentDueBusinessStep implements LoanCOBBusinessStep {
             }
         }
         final LocalDate currentDate = DateUtils.getBusinessLocalDate();
+        if (!LoanUnpaidInstallmentDueDates.mayFallOn(loan, currentDate.plusDays(numberOfDaysBeforeDueDateToRaiseEvent))) {
+            log.debug("no unpaid installment of loan with id [{}] can be due, skipping loan repayment due business step", loan.getId());
+            return loan;
+        }
         final List<LoanRepaymentScheduleInstallment> loanRepaymentScheduleInstallments = loan.getRepaymentScheduleInstallments();
         for (LoanRepaymentScheduleInstallment repaymentSchedule : loanRepaymentScheduleInstallments) {
             LocalDate repaymentDate = repaymentSchedule.getDueDate();
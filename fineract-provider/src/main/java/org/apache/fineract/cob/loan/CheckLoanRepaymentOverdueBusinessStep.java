@@ -48,6 +48,11 @@ public class CheckLoanRepaymentOverdueBusinessStep implements LoanCOBBusinessSte
             }
         }
         final LocalDate currentDate = DateUtils.getBusinessLocalDate();
+        if (!LoanUnpaidInstallmentDueDates.mayFallOn(loan, currentDate.minusDays(numberOfDaysAfterDueDateToRaiseEvent))) {
+            log.debug("no unpaid installment of loan with Id [{}] can be overdue, skipping loan repayment overdue business step",
+                    loan.getId());
+            return loan;
+        }
         final List<LoanRepaymentScheduleInstallment> loanRepaymentScheduleInstallments = loan.getRepaymentScheduleInstallments();
         for (LoanRepaymentScheduleInstallment repaymentSchedule : loanRepaymentScheduleInstallments) {
             if (!repaymentSchedule.isObligationsMet()) {
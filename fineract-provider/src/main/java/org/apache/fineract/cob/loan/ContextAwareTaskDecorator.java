@@ -18,6 +18,7 @@
  */
 package org.apache.fineract.cob.loan;
 
+import java.util.HashMap;
 import org.apache.fineract.infrastructure.core.domain.FineractContext;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.jetbrains.annotations.NotNull;
@@ -27,11 +28,28 @@ public class ContextAwareTaskDecorator implements TaskDecorator {
 
     @Override
     public Runnable decorate(@NotNull Runnable runnable) {
-        final FineractContext context = ThreadLocalContextUtil.getContext();
+        final FineractContext context = copyOf(ThreadLocalContextUtil.getContext());
+        final Thread submitter = Thread.currentThread();
         return () -> {
+            if (Thread.currentThread() == submitter) {
+                // executed inline (e.g. caller runs), the context is already in place and must survive the task
+                runnable.run();
+                return;
+            }
             ThreadLocalContextUtil.init(context);
-            runnable.run();
+            try {
+                runnable.run();
+            } finally {
+                // pooled and virtual threads alike must not leak the tenant of the previous task
+                ThreadLocalContextUtil.reset();
+            }
         };
     }
 
+    private static FineractContext copyOf(FineractContext context) {
+        // the business date map is mutable and would otherwise be shared by every task of the submitter
+        return new FineractContext(context.getContextHolder(), context.getTenantContext(), context.getAuthTokenContext(),
+                new HashMap<>(context.getBusinessDateContext()), context.getActionContext());
+    }
+
 }
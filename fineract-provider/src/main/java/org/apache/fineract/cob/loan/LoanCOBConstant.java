@@ -26,6 +26,7 @@ public final class LoanCOBConstant {
     public static final String LOAN_COB_PARAMETER = "loanCobParameter";
     public static final String BUSINESS_STEPS = "businessSteps";
     public static final String LOAN_COB_WORKER_STEP = "loanCOBWorkerStep";
+    public static final String WORK_STEALING_PARAMETER = "workStealing";
 
     public static final String INLINE_LOAN_COB_JOB_NAME = "INLINE_LOAN_COB";
     public static final String BUSINESS_DATE_PARAMETER_NAME = "BusinessDate";
@@ -22,6 +22,7 @@ import org.apache.fineract.cob.COBBusinessStepService;
 import org.apache.fineract.cob.common.CustomJobParameterResolver;
 import org.apache.fineract.cob.conditions.LoanCOBManagerCondition;
 import org.apache.fineract.cob.listener.COBExecutionListenerRunner;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
 import org.apache.fineract.infrastructure.springbatch.PropertyService;
@@ -74,10 +75,19 @@ public class LoanCOBManagerConfiguration {
     private BusinessEventNotifierService businessEventNotifierService;
     @Autowired
     private CustomJobParameterResolver customJobParameterResolver;
+    @Autowired
+    private FineractProperties fineractProperties;
+    @Autowired
+    private LoanCOBPartitionLeaseService partitionLeaseService;
 
     @Bean
     @JobScope
     public LoanCOBPartitioner partitioner() {
+        FineractProperties.FineractLoanCOBWorkStealingProperties workStealing = fineractProperties.getLoan().getCob().getWorkStealing();
+        if (workStealing.isEnabled()) {
+            return new WorkStealingLoanCOBPartitioner(propertyService, cobBusinessStepService, retrieveLoanIdService, jobOperator,
+                    jobExplorer, LoanCOBConstant.NUMBER_OF_DAYS_BEHIND, partitionLeaseService, workStealing.getWorkerPartitionCount());
+        }
         return new LoanCOBPartitioner(propertyService, cobBusinessStepService, retrieveLoanIdService, jobOperator, jobExplorer,
                 LoanCOBConstant.NUMBER_OF_DAYS_BEHIND);
     }
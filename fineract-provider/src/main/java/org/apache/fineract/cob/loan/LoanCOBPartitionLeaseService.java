@@ -0,0 +1,48 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.loan;
+
+import java.util.List;
+import java.util.Optional;
+import org.apache.fineract.cob.data.LoanCOBParameter;
+import org.apache.fineract.cob.data.LoanCOBPartitionLease;
+
+/**
+ * Database backed leases over loan id ranges used by the work stealing mode of the remote partitioned Loan COB.
+ *
+ * A lease is owned by one worker partition at a time. The owner advances the claimed loan id of its lease before it reads
+ * the next chunk, while idle workers either take over available or expired leases or split the unclaimed tail of a running
+ * one. Every operation runs in its own transaction so that the state is visible to the other workers immediately.
+ */
+public interface LoanCOBPartitionLeaseService {
+
+    void createLeases(Long jobExecutionId, List<LoanCOBParameter> loanIdRanges);
+
+    Optional<LoanCOBPartitionLease> acquireLease(Long jobExecutionId, String owner);
+
+    Optional<LoanCOBPartitionLease> findLease(Long leaseId);
+
+    boolean advanceLease(LoanCOBPartitionLease lease, String owner, Long claimedUpToLoanId);
+
+    boolean heartbeat(Long leaseId, String owner);
+
+    void completeLease(Long leaseId, String owner);
+
+    boolean hasUnfinishedLeases(Long jobExecutionId);
+}
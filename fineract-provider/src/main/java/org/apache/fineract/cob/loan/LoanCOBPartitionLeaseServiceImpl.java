@@ -0,0 +1,209 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.loan;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.cob.data.LoanCOBParameter;
+import org.apache.fineract.cob.data.LoanCOBPartitionLease;
+import org.apache.fineract.cob.domain.LoanCOBPartitionLeaseStatus;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+public class LoanCOBPartitionLeaseServiceImpl implements LoanCOBPartitionLeaseService {
+
+    private static final String LEASE_SELECT = """
+                SELECT id, min_loan_id, max_loan_id, claimed_up_to_loan_id, status, lease_owner, version
+                FROM m_loan_cob_partition_lease
+            """;
+    private static final RowMapper<LoanCOBPartitionLease> LEASE_MAPPER = (rs, rowNum) -> new LoanCOBPartitionLease(rs.getLong("id"),
+            rs.getLong("min_loan_id"), rs.getLong("max_loan_id"), rs.getLong("claimed_up_to_loan_id"),
+            LoanCOBPartitionLeaseStatus.valueOf(rs.getString("status")), rs.getString("lease_owner"), rs.getLong("version"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FineractProperties fineractProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public LoanCOBPartitionLeaseServiceImpl(JdbcTemplate jdbcTemplate, FineractProperties fineractProperties,
+            PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fineractProperties = fineractProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public void createLeases(Long jobExecutionId, List<LoanCOBParameter> loanIdRanges) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // leases of previous executions are not needed anymore, their loans are either processed or still locked
+            jdbcTemplate.update("DELETE FROM m_loan_cob_partition_lease WHERE job_execution_id <> ?", jobExecutionId);
+            if (loanIdRanges.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate("""
+                        INSERT INTO m_loan_cob_partition_lease (job_execution_id, min_loan_id, max_loan_id, claimed_up_to_loan_id, status,
+                        version) VALUES (?, ?, ?, ?, ?, 0)
+                    """, loanIdRanges, loanIdRanges.size(), (PreparedStatement ps, LoanCOBParameter range) -> {
+                ps.setLong(1, jobExecutionId);
+                ps.setLong(2, range.getMinLoanId());
+                ps.setLong(3, range.getMaxLoanId());
+                ps.setLong(4, range.getMinLoanId() - 1);
+                ps.setString(5, LoanCOBPartitionLeaseStatus.AVAILABLE.name());
+            });
+        });
+    }
+
+    @Override
+    public Optional<LoanCOBPartitionLease> acquireLease(Long jobExecutionId, String owner) {
+        return transactionTemplate.execute(status -> {
+            Optional<LoanCOBPartitionLease> lease = takeOverLease(jobExecutionId, owner);
+            return lease.isPresent() ? lease : splitLease(jobExecutionId, owner);
+        });
+    }
+
+    @Override
+    public Optional<LoanCOBPartitionLease> findLease(Long leaseId) {
+        return transactionTemplate
+                .execute(status -> jdbcTemplate.query(LEASE_SELECT + " WHERE id = ?", LEASE_MAPPER, leaseId).stream().findFirst());
+    }
+
+    @Override
+    public boolean advanceLease(LoanCOBPartitionLease lease, String owner, Long claimedUpToLoanId) {
+        Integer updated = transactionTemplate.execute(status -> jdbcTemplate.update("""
+                    UPDATE m_loan_cob_partition_lease SET claimed_up_to_loan_id = ?, lease_expires_at = ?, version = version + 1
+                    WHERE id = ? AND lease_owner = ? AND status = ? AND version = ? AND max_loan_id >= ?
+                """, claimedUpToLoanId, getLeaseExpiry(), lease.getId(), owner, LoanCOBPartitionLeaseStatus.LEASED.name(),
+                lease.getVersion(), claimedUpToLoanId));
+        return Objects.equals(updated, 1);
+    }
+
+    @Override
+    public boolean heartbeat(Long leaseId, String owner) {
+        Integer updated = transactionTemplate.execute(status -> jdbcTemplate.update("""
+                    UPDATE m_loan_cob_partition_lease SET lease_expires_at = ? WHERE id = ? AND lease_owner = ? AND status = ?
+                """, getLeaseExpiry(), leaseId, owner, LoanCOBPartitionLeaseStatus.LEASED.name()));
+        return Objects.equals(updated, 1);
+    }
+
+    @Override
+    public void completeLease(Long leaseId, String owner) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update("""
+                    UPDATE m_loan_cob_partition_lease SET status = ?, lease_expires_at = NULL, version = version + 1
+                    WHERE id = ? AND lease_owner = ? AND status = ?
+                """, LoanCOBPartitionLeaseStatus.COMPLETED.name(), leaseId, owner, LoanCOBPartitionLeaseStatus.LEASED.name()));
+    }
+
+    @Override
+    public boolean hasUnfinishedLeases(Long jobExecutionId) {
+        Long count = transactionTemplate.execute(status -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM m_loan_cob_partition_lease WHERE job_execution_id = ? AND status <> ?", Long.class,
+                jobExecutionId, LoanCOBPartitionLeaseStatus.COMPLETED.name()));
+        return count != null && count > 0;
+    }
+
+    /**
+     * Takes an available lease or one whose owner stopped sending heartbeats. A taken over lease is restarted from its
+     * lower bound: loans already processed by the previous owner are not locked anymore, so they are filtered out by the
+     * reader.
+     */
+    private Optional<LoanCOBPartitionLease> takeOverLease(Long jobExecutionId, String owner) {
+        List<LoanCOBPartitionLease> candidates = jdbcTemplate.query(
+                LEASE_SELECT + " WHERE job_execution_id = ? AND (status = ? OR (status = ? AND lease_expires_at < ?)) ORDER BY min_loan_id",
+                LEASE_MAPPER, jobExecutionId, LoanCOBPartitionLeaseStatus.AVAILABLE.name(), LoanCOBPartitionLeaseStatus.LEASED.name(),
+                DateUtils.getAuditLocalDateTime());
+        for (LoanCOBPartitionLease candidate : candidates) {
+            int updated = jdbcTemplate.update("""
+                        UPDATE m_loan_cob_partition_lease SET status = ?, lease_owner = ?, lease_expires_at = ?, claimed_up_to_loan_id = ?,
+                        version = version + 1 WHERE id = ? AND version = ?
+                    """, LoanCOBPartitionLeaseStatus.LEASED.name(), owner, getLeaseExpiry(), candidate.getMinLoanId() - 1,
+                    candidate.getId(), candidate.getVersion());
+            if (updated == 1) {
+                if (LoanCOBPartitionLeaseStatus.LEASED.equals(candidate.getStatus())) {
+                    log.warn("Lease {} of {} expired, it was taken over by {}", candidate.getId(), candidate.getLeaseOwner(), owner);
+                }
+                return Optional.of(new LoanCOBPartitionLease(candidate.getId(), candidate.getMinLoanId(), candidate.getMaxLoanId(),
+                        candidate.getMinLoanId() - 1, LoanCOBPartitionLeaseStatus.LEASED, owner, candidate.getVersion() + 1));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Splits the running lease with the largest unclaimed tail: the owner keeps the lower half, the upper half becomes a new
+     * lease of the caller. The owner only processes loans up to its claimed loan id, which it can only move below the new
+     * upper bound, so a loan is never read by both workers.
+     */
+    private Optional<LoanCOBPartitionLease> splitLease(Long jobExecutionId, String owner) {
+        int minSplitSize = Math.max(2, fineractProperties.getLoan().getCob().getWorkStealing().getMinSplitSize());
+        List<LoanCOBPartitionLease> candidates = jdbcTemplate.query(LEASE_SELECT
+                + " WHERE job_execution_id = ? AND status = ? AND lease_expires_at >= ? AND max_loan_id - claimed_up_to_loan_id >= ?"
+                + " ORDER BY max_loan_id - claimed_up_to_loan_id DESC", LEASE_MAPPER, jobExecutionId,
+                LoanCOBPartitionLeaseStatus.LEASED.name(), DateUtils.getAuditLocalDateTime(), minSplitSize);
+        for (LoanCOBPartitionLease candidate : candidates) {
+            long splitLoanId = candidate.getClaimedUpToLoanId() + (candidate.getMaxLoanId() - candidate.getClaimedUpToLoanId()) / 2;
+            int updated = jdbcTemplate.update(
+                    "UPDATE m_loan_cob_partition_lease SET max_loan_id = ?, version = version + 1 WHERE id = ? AND version = ?",
+                    splitLoanId, candidate.getId(), candidate.getVersion());
+            if (updated == 1) {
+                Long leaseId = insertLease(jobExecutionId, splitLoanId + 1, candidate.getMaxLoanId(), owner);
+                log.debug("Lease {} of {} was split at loan id {}, the upper half became lease {} of {}", candidate.getId(),
+                        candidate.getLeaseOwner(), splitLoanId, leaseId, owner);
+                return Optional.of(new LoanCOBPartitionLease(leaseId, splitLoanId + 1, candidate.getMaxLoanId(), splitLoanId,
+                        LoanCOBPartitionLeaseStatus.LEASED, owner, 0L));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Long insertLease(Long jobExecutionId, Long minLoanId, Long maxLoanId, String owner) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement("""
+                        INSERT INTO m_loan_cob_partition_lease (job_execution_id, min_loan_id, max_loan_id, claimed_up_to_loan_id, status,
+                        lease_owner, lease_expires_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, 0)
+                    """, new String[] { "id" });
+            ps.setLong(1, jobExecutionId);
+            ps.setLong(2, minLoanId);
+            ps.setLong(3, maxLoanId);
+            ps.setLong(4, minLoanId - 1);
+            ps.setString(5, LoanCOBPartitionLeaseStatus.LEASED.name());
+            ps.setString(6, owner);
+            ps.setObject(7, getLeaseExpiry());
+            return ps;
+        }, keyHolder);
+        return Objects.requireNonNull(keyHolder.getKey()).longValue();
+    }
+
+    private LocalDateTime getLeaseExpiry() {
+        int leaseDurationSeconds = fineractProperties.getLoan().getCob().getWorkStealing().getLeaseDurationSeconds();
+        return DateUtils.getAuditLocalDateTime().plusSeconds(leaseDurationSeconds);
+    }
+}
@@ -92,6 +92,11 @@ public class LoanCOBPartitioner implements Partitioner {
         log.info(
                 "LoanCOBPartitioner found {} loans to be processed as part of COB. {} partitions were created using partition size {}. RetrieveLoanCOBPartitions was executed in {} ms.",
                 getLoanCount(loanCOBPartitions), loanCOBPartitions.size(), partitionSize, sw.getTotalTimeMillis());
+        return createPartitions(cobBusinessSteps, loanCOBPartitions);
+    }
+
+    protected Map<String, ExecutionContext> createPartitions(Set<BusinessStepNameAndOrder> cobBusinessSteps,
+            List<LoanCOBPartition> loanCOBPartitions) {
         return loanCOBPartitions.stream()
                 .collect(Collectors.toMap(l -> PARTITION_PREFIX + l.getPageNo(), l -> createNewPartition(cobBusinessSteps, l)));
     }
@@ -25,6 +25,7 @@ import org.apache.fineract.cob.common.ResetContextTasklet;
 import org.apache.fineract.cob.conditions.LoanCOBWorkerCondition;
 import org.apache.fineract.cob.listener.ChunkProcessingLoanItemListener;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.VirtualThreadSupport;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
 import org.apache.fineract.infrastructure.springbatch.PropertyService;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
@@ -48,6 +49,7 @@ import org.springframework.core.task.TaskExecutor;
 import org.springframework.integration.channel.QueueChannel;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.support.TransactionTemplate;
 
 @Configuration
@@ -83,6 +85,10 @@ public class LoanCOBWorkerConfiguration {
 
     @Autowired
     private CustomJobParameterResolver customJobParameterResolver;
+    @Autowired
+    private LoanCOBPartitionLeaseService partitionLeaseService;
+    @Autowired
+    private VirtualThreadSupport virtualThreadSupport;
 
     @Bean(name = LoanCOBConstant.LOAN_COB_WORKER_STEP)
     public Step loanCOBWorkerStep() {
@@ -91,8 +97,8 @@ public class LoanCOBWorkerConfiguration {
 
     @Bean
     public Flow flow() {
-        return new FlowBuilder<Flow>("cobFlow").start(initialisationStep(null)).next(applyLockStep(null)).next(loanBusinessStep(null, null))
-                .next(resetContextStep(null)).build();
+        return new FlowBuilder<Flow>("cobFlow").start(initialisationStep(null)).next(applyLockStep(null))
+                .next(loanBusinessStep(null, null, null)).next(resetContextStep(null)).build();
     }
 
     @Bean
@@ -107,6 +113,10 @@ public class LoanCOBWorkerConfiguration {
         if (propertyService.getThreadPoolMaxPoolSize(LoanCOBConstant.JOB_NAME) == 1) {
             return new SyncTaskExecutor();
         }
+        if (virtualThreadSupport.isEnabled()) {
+            return virtualThreadSupport.createTaskExecutor("COB-Thread-",
+                    propertyService.getThreadPoolMaxPoolSize(JobName.LOAN_COB.name()), new ContextAwareTaskDecorator());
+        }
         ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
         taskExecutor.setThreadNamePrefix("COB-Thread-");
         taskExecutor.setThreadGroupName("COB-Thread");
@@ -120,10 +130,11 @@ public class LoanCOBWorkerConfiguration {
 
     @Bean
     @StepScope
-    public Step loanBusinessStep(@Value("#{stepExecutionContext['partition']}") String partitionName, TaskExecutor cobTaskExecutor) {
+    public Step loanBusinessStep(@Value("#{stepExecutionContext['partition']}") String partitionName,
+            @Value("#{stepExecutionContext['workStealing']}") Boolean workStealing, TaskExecutor cobTaskExecutor) {
         SimpleStepBuilder<Loan, Loan> stepBuilder = new StepBuilder("Loan Business - Step:" + partitionName, jobRepository)
                 .<Loan, Loan>chunk(propertyService.getChunkSize(JobName.LOAN_COB.name()), transactionManager) //
-                .reader(cobWorkerItemReader()) //
+                .reader(Boolean.TRUE.equals(workStealing) ? cobWorkerWorkStealingItemReader() : cobWorkerItemReader()) //
                 .processor(cobWorkerItemProcessor()) //
                 .writer(cobWorkerItemWriter()) //
                 .faultTolerant() //
@@ -180,6 +191,15 @@ public class LoanCOBWorkerConfiguration {
         return new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver, loanLockingService);
     }
 
+    @Bean
+    @StepScope
+    public WorkStealingLoanItemReader cobWorkerWorkStealingItemReader() {
+        TransactionTemplate lockTransactionTemplate = new TransactionTemplate(transactionManager);
+        lockTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return new WorkStealingLoanItemReader(loanRepository, partitionLeaseService, retrieveLoanIdService, customJobParameterResolver,
+                loanLockingService, lockTransactionTemplate, fineractProperties, propertyService.getChunkSize(LoanCOBConstant.JOB_NAME));
+    }
+
     @Bean
     @StepScope
     public LoanItemProcessor cobWorkerItemProcessor() {
@@ -0,0 +1,42 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.loan;
+
+import java.time.LocalDate;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+
+final class LoanUnpaidInstallmentDueDates {
+
+    private LoanUnpaidInstallmentDueDates() {}
+
+    /**
+     * Tells from the due date range kept on the loan whether an unpaid installment can be due on the given date. Loans
+     * without a known range (not yet updated since the range was introduced, or nothing unpaid) are always checked
+     * against their repayment schedule.
+     */
+    static boolean mayFallOn(Loan loan, LocalDate dueDate) {
+        LocalDate earliestDueDate = loan.getEarliestUnpaidInstallmentDueDate();
+        LocalDate latestDueDate = loan.getLatestUnpaidInstallmentDueDate();
+        if (earliestDueDate == null || latestDueDate == null) {
+            return true;
+        }
+        return !DateUtils.isBefore(dueDate, earliestDueDate) && !DateUtils.isAfter(dueDate, latestDueDate);
+    }
+}
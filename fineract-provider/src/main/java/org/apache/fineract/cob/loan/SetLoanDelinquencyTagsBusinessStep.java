@@ -23,9 +23,12 @@ import static org.apache.fineract.infrastructure.core.diagnostics.performance.Me
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.cob.COBChunkBusinessStep;
 import org.apache.fineract.infrastructure.core.domain.ActionContext;
 import org.apache.fineract.infrastructure.core.domain.ExternalId;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
@@ -43,12 +46,26 @@ import org.springframework.stereotype.Component;
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class SetLoanDelinquencyTagsBusinessStep implements LoanCOBBusinessStep {
+public class SetLoanDelinquencyTagsBusinessStep implements LoanCOBBusinessStep, COBChunkBusinessStep<Loan> {
 
     private final LoanAccountDomainService loanAccountDomainService;
     private final DelinquencyEffectivePauseHelper delinquencyEffectivePauseHelper;
     private final DelinquencyReadPlatformService delinquencyReadPlatformService;
     private final BusinessEventNotifierService businessEventNotifierService;
+    private final ThreadLocal<Map<Long, List<LoanDelinquencyAction>>> chunkDelinquencyActions = new ThreadLocal<>();
+
+    @Override
+    public void beforeChunk(List<Loan> loans) {
+        // a failed prefetch must not leave the actions of a previous chunk of this thread behind
+        chunkDelinquencyActions.remove();
+        List<Long> loanIds = loans.stream().map(Loan::getId).filter(Objects::nonNull).toList();
+        chunkDelinquencyActions.set(delinquencyReadPlatformService.retrieveLoanDelinquencyActionsByLoanIds(loanIds));
+    }
+
+    @Override
+    public void afterChunk(List<Loan> loans) {
+        chunkDelinquencyActions.remove();
+    }
 
     @Override
     public Loan execute(Loan loan) {
@@ -73,8 +90,7 @@ public class SetLoanDelinquencyTagsBusinessStep implements LoanCOBBusinessStep {
                     // current date and not the previous (COB) date.
                     ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
 
-                    final List<LoanDelinquencyAction> savedDelinquencyList = delinquencyReadPlatformService
-                            .retrieveLoanDelinquencyActions(loan.getId());
+                    final List<LoanDelinquencyAction> savedDelinquencyList = retrieveLoanDelinquencyActions(loan.getId());
                     List<LoanDelinquencyActionData> effectiveDelinquencyList = delinquencyEffectivePauseHelper
                             .calculateEffectiveDelinquencyList(savedDelinquencyList);
 
@@ -102,6 +118,14 @@ public class SetLoanDelinquencyTagsBusinessStep implements LoanCOBBusinessStep {
         return loan;
     }
 
+    private List<LoanDelinquencyAction> retrieveLoanDelinquencyActions(Long loanId) {
+        Map<Long, List<LoanDelinquencyAction>> prefetched = chunkDelinquencyActions.get();
+        if (prefetched != null && prefetched.containsKey(loanId)) {
+            return prefetched.get(loanId);
+        }
+        return delinquencyReadPlatformService.retrieveLoanDelinquencyActions(loanId);
+    }
+
     private boolean isDelinquencyOnPause(Loan loan, List<LoanDelinquencyActionData> effectiveDelinquencyList) {
         LocalDate businessDate = DateUtils.getBusinessLocalDate();
         boolean isPaused = isPausedOnDate(businessDate, effectiveDelinquencyList);
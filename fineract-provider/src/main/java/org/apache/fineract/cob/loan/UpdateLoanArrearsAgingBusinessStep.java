@@ -18,7 +18,6 @@
  */
 package org.apache.fineract.cob.loan;
 
-import java.util.Arrays;
 import lombok.RequiredArgsConstructor;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing.LoanArrearsAgeingUpdateHandler;
@@ -32,8 +31,7 @@ public class UpdateLoanArrearsAgingBusinessStep implements LoanCOBBusinessStep {
 
     @Override
     public Loan execute(Loan loan) {
-        Long loanId = loan.getId();
-        loanArrearsAgeingUpdateHandler.updateLoanArrearsAgeingDetails(Arrays.asList(loanId));
+        loanArrearsAgeingUpdateHandler.flushAndUpdateLoanArrearsAgeingDetails(loan.getId());
         return loan;
     }
 
@@ -0,0 +1,75 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.loan;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.cob.COBBusinessStepService;
+import org.apache.fineract.cob.data.BusinessStepNameAndOrder;
+import org.apache.fineract.cob.data.LoanCOBParameter;
+import org.apache.fineract.cob.data.LoanCOBPartition;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.batch.core.scope.context.JobSynchronizationManager;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * Partitioner of the work stealing Loan COB. The loan id ranges are stored as leases instead of being sent to the workers,
+ * the worker partitions only carry the business steps and pull ranges until none is left.
+ */
+@Slf4j
+public class WorkStealingLoanCOBPartitioner extends LoanCOBPartitioner {
+
+    private final LoanCOBPartitionLeaseService partitionLeaseService;
+    private final int workerPartitionCount;
+
+    public WorkStealingLoanCOBPartitioner(PropertyService propertyService, COBBusinessStepService cobBusinessStepService,
+            RetrieveLoanIdService retrieveLoanIdService, JobOperator jobOperator, JobExplorer jobExplorer, Long numberOfDays,
+            LoanCOBPartitionLeaseService partitionLeaseService, int workerPartitionCount) {
+        super(propertyService, cobBusinessStepService, retrieveLoanIdService, jobOperator, jobExplorer, numberOfDays);
+        this.partitionLeaseService = partitionLeaseService;
+        this.workerPartitionCount = workerPartitionCount;
+    }
+
+    @Override
+    protected Map<String, ExecutionContext> createPartitions(Set<BusinessStepNameAndOrder> cobBusinessSteps,
+            List<LoanCOBPartition> loanCOBPartitions) {
+        Long jobExecutionId = JobSynchronizationManager.getContext().getJobExecution().getId();
+        List<LoanCOBParameter> loanIdRanges = loanCOBPartitions.stream().filter(p -> p.getCount() > 0)
+                .map(p -> new LoanCOBParameter(p.getMinId(), p.getMaxId())).toList();
+        partitionLeaseService.createLeases(jobExecutionId, loanIdRanges);
+
+        int partitionCount = Math.max(1, Math.min(workerPartitionCount, loanIdRanges.size()));
+        log.info("Work stealing Loan COB stored {} loan id ranges as leases for {} worker partitions", loanIdRanges.size(),
+                partitionCount);
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        for (int i = 1; i <= partitionCount; i++) {
+            ExecutionContext executionContext = new ExecutionContext();
+            executionContext.put(LoanCOBConstant.BUSINESS_STEPS, cobBusinessSteps);
+            executionContext.put(LoanCOBConstant.WORK_STEALING_PARAMETER, true);
+            executionContext.put("partition", PARTITION_PREFIX + i);
+            partitions.put(PARTITION_PREFIX + i, executionContext);
+        }
+        return partitions;
+    }
+}
@@ -0,0 +1,229 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.loan;
+
+import com.google.common.collect.Lists;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.cob.common.CustomJobParameterResolver;
+import org.apache.fineract.cob.data.LoanCOBParameter;
+import org.apache.fineract.cob.data.LoanCOBPartitionLease;
+import org.apache.fineract.cob.domain.LoanAccountLock;
+import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepository;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.AfterStep;
+import org.springframework.batch.core.annotation.BeforeStep;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Item reader of the work stealing Loan COB. Instead of reading a fixed loan id range it keeps leasing ranges from
+ * {@link LoanCOBPartitionLeaseService} and claims them chunk by chunk, so a worker which finished its own range helps with
+ * the remaining ones. A background heartbeat keeps the current lease alive while a chunk is processed.
+ */
+@Slf4j
+public class WorkStealingLoanItemReader extends AbstractLoanItemReader {
+
+    private final LoanCOBPartitionLeaseService partitionLeaseService;
+    private final RetrieveLoanIdService retrieveLoanIdService;
+    private final CustomJobParameterResolver customJobParameterResolver;
+    private final LoanLockingService loanLockingService;
+    private final TransactionTemplate transactionTemplate;
+    private final FineractProperties fineractProperties;
+    private final int claimSize;
+
+    private final LinkedBlockingQueue<Long> claimedLoanIds = new LinkedBlockingQueue<>();
+    private final Deque<Long> unclaimedLoanIds = new ArrayDeque<>();
+    private volatile LoanCOBPartitionLease currentLease;
+    private Long jobExecutionId;
+    private String owner;
+    private boolean isCatchUp;
+    private ScheduledExecutorService heartbeatExecutor;
+
+    public WorkStealingLoanItemReader(LoanRepository loanRepository, LoanCOBPartitionLeaseService partitionLeaseService,
+            RetrieveLoanIdService retrieveLoanIdService, CustomJobParameterResolver customJobParameterResolver,
+            LoanLockingService loanLockingService, TransactionTemplate transactionTemplate, FineractProperties fineractProperties,
+            int claimSize) {
+        super(loanRepository);
+        this.partitionLeaseService = partitionLeaseService;
+        this.retrieveLoanIdService = retrieveLoanIdService;
+        this.customJobParameterResolver = customJobParameterResolver;
+        this.loanLockingService = loanLockingService;
+        this.transactionTemplate = transactionTemplate;
+        this.fineractProperties = fineractProperties;
+        this.claimSize = Math.max(1, claimSize);
+    }
+
+    @BeforeStep
+    public void beforeStep(@NotNull StepExecution stepExecution) {
+        jobExecutionId = stepExecution.getJobExecutionId();
+        owner = ManagementFactory.getRuntimeMXBean().getName() + ":" + stepExecution.getId();
+        isCatchUp = customJobParameterResolver.getCustomJobParameterById(stepExecution, LoanCOBConstant.IS_CATCH_UP_PARAMETER_NAME)
+                .map(Boolean::parseBoolean).orElse(false);
+        setRemainingData(claimedLoanIds);
+
+        long heartbeatPeriod = Math.max(1, getWorkStealingProperties().getLeaseDurationSeconds() / 3);
+        Runnable heartbeat = new ContextAwareTaskDecorator().decorate(this::heartbeat);
+        heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "COB-Lease-Heartbeat-" + stepExecution.getId());
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeatExecutor.scheduleAtFixedRate(heartbeat, heartbeatPeriod, heartbeatPeriod, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public synchronized Loan read() throws Exception {
+        while (claimedLoanIds.isEmpty()) {
+            if (!claimNextLoanIds()) {
+                return null;
+            }
+        }
+        return super.read();
+    }
+
+    @Override
+    @AfterStep
+    public ExitStatus afterStep(@NotNull StepExecution stepExecution) {
+        if (heartbeatExecutor != null) {
+            heartbeatExecutor.shutdownNow();
+        }
+        return super.afterStep(stepExecution);
+    }
+
+    private boolean claimNextLoanIds() throws InterruptedException {
+        while (true) {
+            if (currentLease == null && !acquireLease()) {
+                return false;
+            }
+            if (claimFromCurrentLease()) {
+                return true;
+            }
+        }
+    }
+
+    private boolean acquireLease() throws InterruptedException {
+        while (true) {
+            Optional<LoanCOBPartitionLease> lease = partitionLeaseService.acquireLease(jobExecutionId, owner);
+            if (lease.isPresent()) {
+                unclaimedLoanIds.clear();
+                unclaimedLoanIds.addAll(retrieveLockedLoanIds(lease.get()));
+                currentLease = lease.get();
+                return true;
+            }
+            // ranges leased by other workers are too small to be split, but their owners might still die
+            if (!partitionLeaseService.hasUnfinishedLeases(jobExecutionId)) {
+                return false;
+            }
+            Thread.sleep(getWorkStealingProperties().getIdlePollIntervalMillis());
+        }
+    }
+
+    private boolean claimFromCurrentLease() {
+        while (true) {
+            Optional<LoanCOBPartitionLease> latest = partitionLeaseService.findLease(currentLease.getId());
+            if (latest.isEmpty() || !latest.get().isLeasedBy(owner)) {
+                log.warn("Lease {} is not owned by {} anymore, {} loans are left to the new owner", currentLease.getId(), owner,
+                        unclaimedLoanIds.size());
+                releaseCurrentLease();
+                return false;
+            }
+            LoanCOBPartitionLease lease = latest.get();
+            // the upper part of the range might have been taken by an idle worker
+            unclaimedLoanIds.removeIf(loanId -> loanId > lease.getMaxLoanId());
+            if (unclaimedLoanIds.isEmpty()) {
+                partitionLeaseService.completeLease(lease.getId(), owner);
+                releaseCurrentLease();
+                return false;
+            }
+            List<Long> loanIds = unclaimedLoanIds.stream().limit(claimSize).toList();
+            if (partitionLeaseService.advanceLease(lease, owner, loanIds.get(loanIds.size() - 1))) {
+                loanIds.forEach(loanId -> unclaimedLoanIds.pollFirst());
+                claimedLoanIds.addAll(loanIds);
+                currentLease = lease;
+                return true;
+            }
+        }
+    }
+
+    private void releaseCurrentLease() {
+        currentLease = null;
+        unclaimedLoanIds.clear();
+    }
+
+    private List<Long> retrieveLockedLoanIds(LoanCOBPartitionLease lease) {
+        LoanCOBParameter loanCOBParameter = new LoanCOBParameter(lease.getClaimedUpToLoanId() + 1, lease.getMaxLoanId());
+        List<Long> loanIds = new ArrayList<>(
+                retrieveLoanIdService.retrieveAllNonClosedLoansByLastClosedBusinessDateAndMinAndMaxLoanId(loanCOBParameter, isCatchUp));
+        if (loanIds.isEmpty()) {
+            return loanIds;
+        }
+        List<List<Long>> loanIdPartitions = Lists.partition(loanIds, fineractProperties.getQuery().getInClauseParameterSizeLimit());
+        Set<Long> alreadyLockedLoanIds = new HashSet<>();
+        loanIdPartitions.forEach(loanIdPartition -> loanLockingService.findAllByLoanIdIn(loanIdPartition)
+                .forEach(lock -> alreadyLockedLoanIds.add(lock.getLoanId())));
+        List<Long> toBeLockedLoanIds = new ArrayList<>(loanIds);
+        toBeLockedLoanIds.removeAll(alreadyLockedLoanIds);
+        if (!toBeLockedLoanIds.isEmpty()) {
+            transactionTemplate.executeWithoutResult(
+                    status -> loanLockingService.applyLock(toBeLockedLoanIds, LockOwner.LOAN_COB_CHUNK_PROCESSING));
+        }
+        Set<Long> lockedByCOBChunkProcessingLoanIds = new HashSet<>();
+        loanIdPartitions.forEach(loanIdPartition -> loanLockingService
+                .findAllByLoanIdInAndLockOwner(loanIdPartition, LockOwner.LOAN_COB_CHUNK_PROCESSING).stream()
+                .map(LoanAccountLock::getLoanId).forEach(lockedByCOBChunkProcessingLoanIds::add));
+        loanIds.retainAll(lockedByCOBChunkProcessingLoanIds);
+        loanIds.sort(Long::compareTo);
+        return loanIds;
+    }
+
+    private void heartbeat() {
+        LoanCOBPartitionLease lease = currentLease;
+        if (lease == null) {
+            return;
+        }
+        try {
+            if (!partitionLeaseService.heartbeat(lease.getId(), owner)) {
+                log.warn("Heartbeat of lease {} failed, it is not owned by {} anymore", lease.getId(), owner);
+            }
+        } catch (RuntimeException e) {
+            // an exception would cancel the scheduled heartbeat, the next period retries
+            log.error("Heartbeat of lease {} failed", lease.getId(), e);
+        }
+    }
+
+    private FineractProperties.FineractLoanCOBWorkStealingProperties getWorkStealingProperties() {
+        return fineractProperties.getLoan().getCob().getWorkStealing();
+    }
+}
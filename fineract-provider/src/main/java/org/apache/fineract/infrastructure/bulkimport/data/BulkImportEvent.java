@@ -18,6 +18,7 @@
  */
 package org.apache.fineract.infrastructure.bulkimport.data;
 
+import java.nio.file.Path;
 import org.apache.fineract.infrastructure.core.domain.FineractContext;
 import org.apache.fineract.infrastructure.core.domain.FineractEvent;
 import org.apache.poi.ss.usermodel.Workbook;
@@ -26,16 +27,19 @@ public final class BulkImportEvent extends FineractEvent {
 
     private final Workbook workbook;
 
+    private final Path content;
+
     private final Long importId;
 
     private final String locale;
 
     private final String dateFormat;
 
-    private BulkImportEvent(final Object source, final Workbook workbook, final Long importId, final String locale, final String dateFormat,
-            FineractContext context) {
+    private BulkImportEvent(final Object source, final Workbook workbook, final Path content, final Long importId, final String locale,
+            final String dateFormat, FineractContext context) {
         super(source, context);
         this.workbook = workbook;
+        this.content = content;
         this.importId = importId;
         this.locale = locale;
         this.dateFormat = dateFormat;
@@ -43,13 +47,28 @@ public final class BulkImportEvent extends FineractEvent {
 
     public static BulkImportEvent instance(final Object source, final Workbook workbook, final Long importId, final String locale,
             final String dateFormat, FineractContext context) {
-        return new BulkImportEvent(source, workbook, importId, locale, dateFormat, context);
+        return new BulkImportEvent(source, workbook, null, importId, locale, dateFormat, context);
+    }
+
+    /**
+     * An import processed by the streaming pipeline, which reads the uploaded file itself instead of a workbook.
+     *
+     * @param content
+     *            the temporary copy of the uploaded file, deleted by the listener once the import is done
+     */
+    public static BulkImportEvent streamingInstance(final Object source, final Path content, final Long importId, final String locale,
+            final String dateFormat, FineractContext context) {
+        return new BulkImportEvent(source, null, content, importId, locale, dateFormat, context);
     }
 
     public Workbook getWorkbook() {
         return workbook;
     }
 
+    public Path getContent() {
+        return content;
+    }
+
     public Long getImportId() {
         return importId;
     }
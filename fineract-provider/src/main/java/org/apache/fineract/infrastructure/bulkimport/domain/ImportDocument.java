@@ -101,6 +101,11 @@ public class ImportDocument extends AbstractPersistableCustom {
         this.failureCount = errorCount;
     }
 
+    public void update(final LocalDateTime endTime, final Integer totalRecords, final Integer successCount, final Integer errorCount) {
+        update(endTime, successCount, errorCount);
+        this.totalRecords = totalRecords;
+    }
+
     public Document getDocument() {
         return this.document;
     }
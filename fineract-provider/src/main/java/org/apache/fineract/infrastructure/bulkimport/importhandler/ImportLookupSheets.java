@@ -0,0 +1,87 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.importhandler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.fineract.infrastructure.bulkimport.constants.TemplatePopulateImportConstants;
+
+/**
+ * The small reference sheets (offices, extras, products...) a streaming import handler looks ids up from. They are read
+ * into memory up front, unlike the sheet being imported.
+ */
+public final class ImportLookupSheets {
+
+    private static final Set<String> ID_BEFORE_NAME_SHEETS = Set.of(TemplatePopulateImportConstants.OFFICE_SHEET_NAME,
+            TemplatePopulateImportConstants.GL_ACCOUNTS_SHEET_NAME, TemplatePopulateImportConstants.EXTRAS_SHEET_NAME,
+            TemplatePopulateImportConstants.CHARGE_SHEET_NAME, TemplatePopulateImportConstants.SHARED_PRODUCTS_SHEET_NAME,
+            TemplatePopulateImportConstants.ROLES_SHEET_NAME);
+    private static final Set<String> ID_AFTER_NAME_SHEETS = Set.of(TemplatePopulateImportConstants.CLIENT_SHEET_NAME,
+            TemplatePopulateImportConstants.CENTER_SHEET_NAME, TemplatePopulateImportConstants.GROUP_SHEET_NAME,
+            TemplatePopulateImportConstants.STAFF_SHEET_NAME);
+
+    private final Map<String, List<ImportRow>> sheets = new HashMap<>();
+
+    public void addRow(String sheetName, ImportRow row) {
+        sheets.computeIfAbsent(sheetName, k -> new ArrayList<>()).add(row);
+    }
+
+    /**
+     * Streaming counterpart of {@link ImportHandlerUtils#getIdByName(org.apache.poi.ss.usermodel.Sheet, String)}.
+     */
+    public Long getIdByName(String sheetName, String name) {
+        if (name == null) {
+            return 0L;
+        }
+        List<ImportRow> rows = sheets.getOrDefault(sheetName, List.of());
+        if (TemplatePopulateImportConstants.PRODUCT_SHEET_NAME.equals(sheetName)) {
+            for (ImportRow row : rows) {
+                for (int i = 0; i < 2; i++) {
+                    if (row.getValue(i) instanceof String value && value.trim().equals(name)) {
+                        return readId(row, i - 1);
+                    }
+                }
+            }
+            return 0L;
+        }
+        for (ImportRow row : rows) {
+            for (int i = 0; i < row.getCellCount(); i++) {
+                if (row.getValue(i) instanceof String value && value.trim().equals(name)) {
+                    if (ID_BEFORE_NAME_SHEETS.contains(sheetName)) {
+                        return readId(row, i - 1);
+                    } else if (ID_AFTER_NAME_SHEETS.contains(sheetName)) {
+                        return readId(row, i + 1);
+                    }
+                    return 0L;
+                }
+            }
+        }
+        return 0L;
+    }
+
+    private static Long readId(ImportRow row, int colIndex) {
+        if (row.getValue(colIndex) instanceof Double id) {
+            return id.longValue();
+        }
+        return 0L;
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.importhandler;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import org.apache.fineract.infrastructure.bulkimport.constants.TemplatePopulateImportConstants;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.poi.ss.usermodel.DateUtil;
+
+/**
+ * A sheet row read by the streaming import, holding only the cell values: {@link String}, {@link Double} or
+ * {@link Boolean}, or null for blank cells. Formula cells hold their cached result.
+ *
+ * The readers follow the semantics of the {@link ImportHandlerUtils} methods with the same name.
+ */
+public final class ImportRow {
+
+    private final int rowIndex;
+    private final Object[] values;
+
+    public ImportRow(final int rowIndex, final Object[] values) {
+        this.rowIndex = rowIndex;
+        this.values = values;
+    }
+
+    public int getRowIndex() {
+        return rowIndex;
+    }
+
+    public int getCellCount() {
+        return values.length;
+    }
+
+    public Object getValue(int colIndex) {
+        if (colIndex < 0 || colIndex >= values.length) {
+            return null;
+        }
+        Object value = values[colIndex];
+        if (value instanceof String string && string.isEmpty()) {
+            return null;
+        }
+        return value;
+    }
+
+    public boolean isBlank(int colIndex) {
+        return getValue(colIndex) == null;
+    }
+
+    public boolean isNotImported(int statusColumn) {
+        return !TemplatePopulateImportConstants.STATUS_CELL_IMPORTED.equals(readAsString(statusColumn));
+    }
+
+    public String readAsString(int colIndex) {
+        Object value = getValue(colIndex);
+        if (value instanceof String string) {
+            return ImportHandlerUtils.trimEmptyDecimalPortion(string.trim()).trim();
+        } else if (value instanceof Double number) {
+            return number.intValue() + "";
+        } else if (value instanceof Boolean bool) {
+            return bool + "";
+        }
+        return null;
+    }
+
+    public Long readAsLong(int colIndex) {
+        Object value = getValue(colIndex);
+        if (value == null) {
+            return null;
+        } else if (value instanceof Double number) {
+            return number.longValue();
+        }
+        return Long.parseLong(value.toString());
+    }
+
+    public Integer readAsInt(int colIndex) {
+        Object value = getValue(colIndex);
+        if (value == null) {
+            return null;
+        } else if (value instanceof Double number) {
+            return number.intValue();
+        }
+        return Integer.parseInt(value.toString());
+    }
+
+    public Double readAsDouble(int colIndex) {
+        Object value = getValue(colIndex);
+        if (value == null) {
+            return 0.0;
+        } else if (value instanceof Double number) {
+            return number;
+        }
+        return Double.parseDouble(value.toString());
+    }
+
+    public Boolean readAsBoolean(int colIndex) {
+        Object value = getValue(colIndex);
+        if (value == null) {
+            return false;
+        } else if (value instanceof Boolean bool) {
+            return bool;
+        }
+        return value.toString().trim().equalsIgnoreCase("TRUE");
+    }
+
+    public LocalDate readAsDate(int colIndex) {
+        Object value = getValue(colIndex);
+        if (value == null) {
+            return null;
+        } else if (value instanceof Double number) {
+            return LocalDate.ofInstant(DateUtil.getJavaDate(number).toInstant(), DateUtils.getDateTimeZoneOfTenant());
+        }
+        throw new IllegalStateException("Cannot get a date value from a non numeric cell in row " + rowIndex);
+    }
+
+    @Override
+    public String toString() {
+        return "ImportRow{rowIndex=" + rowIndex + ", values=" + Arrays.toString(values) + "}";
+    }
+}
@@ -0,0 +1,52 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.importhandler;
+
+import java.util.Set;
+
+/**
+ * An {@link ImportHandler} which can also process its sheet row by row, without materializing the workbook. Rows are
+ * read with the POI event model and executed by a pool of workers, see
+ * {@link org.apache.fineract.infrastructure.bulkimport.service.StreamingBulkImportService}.
+ */
+public interface StreamingImportHandler extends ImportHandler {
+
+    String getSheetName();
+
+    /**
+     * The column which has to be filled for a row to be imported. Reading stops at the first row without it, like
+     * {@link ImportHandlerUtils#getNumberOfRows(org.apache.poi.ss.usermodel.Sheet, int)}.
+     */
+    int getPrimaryColumn();
+
+    int getStatusColumn();
+
+    /**
+     * @return the sheets {@link #readRow} looks ids up from
+     */
+    Set<String> getLookupSheetNames();
+
+    /**
+     * Called on the reading thread, in sheet order.
+     *
+     * @throws RuntimeException
+     *             if the row is invalid, the error is written into its status cell
+     */
+    ImportRowCommand readRow(ImportRow row, ImportLookupSheets lookupSheets, String locale, String dateFormat);
+}
@@ -25,14 +25,18 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import org.apache.fineract.commands.domain.CommandWrapper;
 import org.apache.fineract.commands.service.CommandWrapperBuilder;
 import org.apache.fineract.commands.service.PortfolioCommandSourceWritePlatformService;
 import org.apache.fineract.infrastructure.bulkimport.constants.LoanRepaymentConstants;
 import org.apache.fineract.infrastructure.bulkimport.constants.TemplatePopulateImportConstants;
 import org.apache.fineract.infrastructure.bulkimport.data.Count;
-import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandler;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandlerUtils;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportLookupSheets;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportRow;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportRowCommand;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.StreamingImportHandler;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.helper.DateSerializer;
 import org.apache.fineract.infrastructure.core.serialization.GoogleGsonSerializerHelper;
 import org.apache.fineract.portfolio.loanaccount.data.LoanTransactionData;
@@ -48,7 +52,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 @Service
-public class LoanRepaymentImportHandler implements ImportHandler {
+public class LoanRepaymentImportHandler implements StreamingImportHandler {
 
     public static final String SEPARATOR = "-";
     public static final String EMPTY_STR = "";
@@ -71,6 +75,51 @@ public class LoanRepaymentImportHandler implements ImportHandler {
         return importEntity(workbook, loanRepayments, dateFormat);
     }
 
+    @Override
+    public String getSheetName() {
+        return TemplatePopulateImportConstants.LOAN_REPAYMENT_SHEET_NAME;
+    }
+
+    @Override
+    public int getPrimaryColumn() {
+        return LoanRepaymentConstants.AMOUNT_COL;
+    }
+
+    @Override
+    public int getStatusColumn() {
+        return LoanRepaymentConstants.STATUS_COL;
+    }
+
+    @Override
+    public Set<String> getLookupSheetNames() {
+        return Set.of(TemplatePopulateImportConstants.EXTRAS_SHEET_NAME);
+    }
+
+    @Override
+    public ImportRowCommand readRow(final ImportRow row, final ImportLookupSheets lookupSheets, final String locale,
+            final String dateFormat) {
+        Long loanAccountId = null;
+        String loanaccountInfo = row.readAsString(LoanRepaymentConstants.LOAN_ACCOUNT_NO_COL);
+        if (loanaccountInfo != null) {
+            List<String> loanAccountAr = Splitter.on(SEPARATOR).splitToList(loanaccountInfo);
+            loanAccountId = this.loanReadPlatformService.retrieveLoanIdByAccountNumber(loanAccountAr.get(0));
+        }
+        BigDecimal repaymentAmount = BigDecimal.valueOf(row.readAsDouble(LoanRepaymentConstants.AMOUNT_COL));
+        LocalDate repaymentDate = row.readAsDate(LoanRepaymentConstants.REPAID_ON_DATE_COL);
+        String repaymentType = row.readAsString(LoanRepaymentConstants.REPAYMENT_TYPE_COL);
+        Long repaymentTypeId = lookupSheets.getIdByName(TemplatePopulateImportConstants.EXTRAS_SHEET_NAME, repaymentType);
+        String accountNumber = row.readAsString(LoanRepaymentConstants.ACCOUNT_NO_COL);
+        Integer checkNumber = row.readAsInt(LoanRepaymentConstants.CHECK_NO_COL);
+        Integer routingCode = row.readAsInt(LoanRepaymentConstants.ROUTING_CODE_COL);
+        Integer receiptNumber = row.readAsInt(LoanRepaymentConstants.RECEIPT_NO_COL);
+        Integer bankNumber = row.readAsInt(LoanRepaymentConstants.BANK_NO_COL);
+        LoanTransactionData loanRepayment = LoanTransactionData.importInstance(repaymentAmount, repaymentDate, repaymentTypeId,
+                accountNumber, checkNumber, routingCode, receiptNumber, bankNumber, loanAccountId, EMPTY_STR, row.getRowIndex(), locale,
+                dateFormat);
+        final CommandWrapper commandRequest = toCommandRequest(loanRepayment, dateFormat);
+        return new ImportRowCommand(loanAccountId, () -> commandsSourceWritePlatformService.logCommandSource(commandRequest));
+    }
+
     private List<LoanTransactionData> readExcelFile(final Workbook workbook, final String locale, final String dateFormat) {
         List<LoanTransactionData> loanRepayments = new ArrayList<>();
         Sheet loanRepaymentSheet = workbook.getSheet(TemplatePopulateImportConstants.LOAN_REPAYMENT_SHEET_NAME);
@@ -115,19 +164,10 @@ public class LoanRepaymentImportHandler implements ImportHandler {
         int successCount = 0;
         int errorCount = 0;
         String errorMessage;
-        GsonBuilder gsonBuilder = GoogleGsonSerializerHelper.createGsonBuilder();
-        gsonBuilder.registerTypeAdapter(LocalDate.class, new DateSerializer(dateFormat));
 
         for (LoanTransactionData loanRepayment : loanRepayments) {
             try {
-
-                JsonObject loanRepaymentJsonob = gsonBuilder.create().toJsonTree(loanRepayment).getAsJsonObject();
-                loanRepaymentJsonob.remove("manuallyReversed");
-                String payload = loanRepaymentJsonob.toString();
-                final CommandWrapper commandRequest = new CommandWrapperBuilder() //
-                        .loanRepaymentTransaction(loanRepayment.getAccountId()) //
-                        .withJson(payload) //
-                        .build(); //
+                final CommandWrapper commandRequest = toCommandRequest(loanRepayment, dateFormat);
                 commandsSourceWritePlatformService.logCommandSource(commandRequest);
                 successCount++;
                 Cell statusCell = loanRepaymentSheet.getRow(loanRepayment.getRowIndex()).createCell(LoanRepaymentConstants.STATUS_COL);
@@ -149,4 +189,15 @@ public class LoanRepaymentImportHandler implements ImportHandler {
         return Count.instance(successCount, errorCount);
     }
 
+    private CommandWrapper toCommandRequest(final LoanTransactionData loanRepayment, final String dateFormat) {
+        GsonBuilder gsonBuilder = GoogleGsonSerializerHelper.createGsonBuilder();
+        gsonBuilder.registerTypeAdapter(LocalDate.class, new DateSerializer(dateFormat));
+        JsonObject loanRepaymentJsonob = gsonBuilder.create().toJsonTree(loanRepayment).getAsJsonObject();
+        loanRepaymentJsonob.remove("manuallyReversed");
+        String payload = loanRepaymentJsonob.toString();
+        return new CommandWrapperBuilder() //
+                .loanRepaymentTransaction(loanRepayment.getAccountId()) //
+                .withJson(payload) //
+                .build(); //
+    }
 }
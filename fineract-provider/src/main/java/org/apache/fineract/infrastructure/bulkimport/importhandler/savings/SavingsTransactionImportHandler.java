@@ -24,14 +24,18 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import org.apache.fineract.commands.domain.CommandWrapper;
 import org.apache.fineract.commands.service.CommandWrapperBuilder;
 import org.apache.fineract.commands.service.PortfolioCommandSourceWritePlatformService;
 import org.apache.fineract.infrastructure.bulkimport.constants.TemplatePopulateImportConstants;
 import org.apache.fineract.infrastructure.bulkimport.constants.TransactionConstants;
 import org.apache.fineract.infrastructure.bulkimport.data.Count;
-import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandler;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandlerUtils;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportLookupSheets;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportRow;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportRowCommand;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.StreamingImportHandler;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.helper.DateSerializer;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.helper.SavingsAccountTransactionEnumValueSerialiser;
 import org.apache.fineract.infrastructure.core.serialization.GoogleGsonSerializerHelper;
@@ -48,7 +52,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 @Service
-public class SavingsTransactionImportHandler implements ImportHandler {
+public class SavingsTransactionImportHandler implements StreamingImportHandler {
 
     public static final String TRANSACTION_TYPE = "transactionType";
     public static final String REVERSED = "reversed";
@@ -69,6 +73,49 @@ public class SavingsTransactionImportHandler implements ImportHandler {
         return importEntity(workbook, savingsTransactions, dateFormat);
     }
 
+    @Override
+    public String getSheetName() {
+        return TemplatePopulateImportConstants.SAVINGS_TRANSACTION_SHEET_NAME;
+    }
+
+    @Override
+    public int getPrimaryColumn() {
+        return TransactionConstants.AMOUNT_COL;
+    }
+
+    @Override
+    public int getStatusColumn() {
+        return TransactionConstants.STATUS_COL;
+    }
+
+    @Override
+    public Set<String> getLookupSheetNames() {
+        return Set.of(TemplatePopulateImportConstants.EXTRAS_SHEET_NAME);
+    }
+
+    @Override
+    public ImportRowCommand readRow(final ImportRow row, final ImportLookupSheets lookupSheets, final String locale,
+            final String dateFormat) {
+        Long savingsAccountId = row.readAsLong(TransactionConstants.SAVINGS_ACCOUNT_NO_COL);
+        String transactionType = row.readAsString(TransactionConstants.TRANSACTION_TYPE_COL);
+        SavingsAccountTransactionEnumData savingsAccountTransactionEnumData = new SavingsAccountTransactionEnumData(null, null,
+                transactionType);
+        BigDecimal amount = BigDecimal.valueOf(row.readAsDouble(TransactionConstants.AMOUNT_COL));
+        LocalDate transactionDate = row.readAsDate(TransactionConstants.TRANSACTION_DATE_COL);
+        String paymentType = row.readAsString(TransactionConstants.PAYMENT_TYPE_COL);
+        Long paymentTypeId = lookupSheets.getIdByName(TemplatePopulateImportConstants.EXTRAS_SHEET_NAME, paymentType);
+        String accountNumber = row.readAsString(TransactionConstants.ACCOUNT_NO_COL);
+        String checkNumber = row.readAsString(TransactionConstants.CHECK_NO_COL);
+        String routingCode = row.readAsString(TransactionConstants.ROUTING_CODE_COL);
+        String receiptNumber = row.readAsString(TransactionConstants.RECEIPT_NO_COL);
+        String bankNumber = row.readAsString(TransactionConstants.BANK_NO_COL);
+        SavingsAccountTransactionData transaction = SavingsAccountTransactionData.importInstance(amount, transactionDate, paymentTypeId,
+                accountNumber, checkNumber, routingCode, receiptNumber, bankNumber, savingsAccountId, savingsAccountTransactionEnumData,
+                row.getRowIndex(), locale, dateFormat);
+        final CommandWrapper commandRequest = toCommandRequest(transaction, dateFormat);
+        return new ImportRowCommand(savingsAccountId, () -> commandsSourceWritePlatformService.logCommandSource(commandRequest));
+    }
+
     private List<SavingsAccountTransactionData> readExcelFile(final Workbook workbook, final String locale, final String dateFormat) {
         List<SavingsAccountTransactionData> savingsTransactions = new ArrayList<>();
         Sheet savingsTransactionSheet = workbook.getSheet(TemplatePopulateImportConstants.SAVINGS_TRANSACTION_SHEET_NAME);
@@ -120,30 +167,10 @@ public class SavingsTransactionImportHandler implements ImportHandler {
         int successCount = 0;
         int errorCount = 0;
         String errorMessage = "";
-        GsonBuilder gsonBuilder = GoogleGsonSerializerHelper.createGsonBuilder();
-        gsonBuilder.registerTypeAdapter(LocalDate.class, new DateSerializer(dateFormat));
-        gsonBuilder.registerTypeAdapter(SavingsAccountTransactionEnumData.class, new SavingsAccountTransactionEnumValueSerialiser());
 
         for (SavingsAccountTransactionData transaction : savingsTransactions) {
             try {
-                JsonObject savingsTransactionJsonob = gsonBuilder.create().toJsonTree(transaction).getAsJsonObject();
-                savingsTransactionJsonob.remove(TRANSACTION_TYPE);
-                savingsTransactionJsonob.remove(REVERSED);
-                savingsTransactionJsonob.remove(INTERESTED_POSTED_AS_ON);
-                String payload = savingsTransactionJsonob.toString();
-                CommandWrapper commandRequest = null;
-                if (transaction.getTransactionType().getValue().equals(WITHDRAWAL)) {
-                    commandRequest = new CommandWrapperBuilder() //
-                            .savingsAccountWithdrawal(transaction.getSavingsAccountId()) //
-                            .withJson(payload) //
-                            .build(); //
-
-                } else if (transaction.getTransactionType().getValue().equals(DEPOSIT)) {
-                    commandRequest = new CommandWrapperBuilder() //
-                            .savingsAccountDeposit(transaction.getSavingsAccountId()) //
-                            .withJson(payload) //
-                            .build();
-                }
+                CommandWrapper commandRequest = toCommandRequest(transaction, dateFormat);
                 commandsSourceWritePlatformService.logCommandSource(commandRequest);
                 successCount++;
                 Cell statusCell = savingsTransactionSheet.getRow(transaction.getRowIndex()).createCell(TransactionConstants.STATUS_COL);
@@ -163,4 +190,28 @@ public class SavingsTransactionImportHandler implements ImportHandler {
         return Count.instance(successCount, errorCount);
     }
 
+    private CommandWrapper toCommandRequest(final SavingsAccountTransactionData transaction, final String dateFormat) {
+        GsonBuilder gsonBuilder = GoogleGsonSerializerHelper.createGsonBuilder();
+        gsonBuilder.registerTypeAdapter(LocalDate.class, new DateSerializer(dateFormat));
+        gsonBuilder.registerTypeAdapter(SavingsAccountTransactionEnumData.class, new SavingsAccountTransactionEnumValueSerialiser());
+        JsonObject savingsTransactionJsonob = gsonBuilder.create().toJsonTree(transaction).getAsJsonObject();
+        savingsTransactionJsonob.remove(TRANSACTION_TYPE);
+        savingsTransactionJsonob.remove(REVERSED);
+        savingsTransactionJsonob.remove(INTERESTED_POSTED_AS_ON);
+        String payload = savingsTransactionJsonob.toString();
+        CommandWrapper commandRequest = null;
+        if (transaction.getTransactionType().getValue().equals(WITHDRAWAL)) {
+            commandRequest = new CommandWrapperBuilder() //
+                    .savingsAccountWithdrawal(transaction.getSavingsAccountId()) //
+                    .withJson(payload) //
+                    .build(); //
+
+        } else if (transaction.getTransactionType().getValue().equals(DEPOSIT)) {
+            commandRequest = new CommandWrapperBuilder() //
+                    .savingsAccountDeposit(transaction.getSavingsAccountId()) //
+                    .withJson(payload) //
+                    .build();
+        }
+        return commandRequest;
+    }
 }
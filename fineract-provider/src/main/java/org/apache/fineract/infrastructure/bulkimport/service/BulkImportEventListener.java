@@ -21,15 +21,21 @@ package org.apache.fineract.infrastructure.bulkimport.service;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.Set;
+import org.apache.commons.io.FilenameUtils;
 import org.apache.fineract.infrastructure.bulkimport.data.BulkImportEvent;
 import org.apache.fineract.infrastructure.bulkimport.data.Count;
 import org.apache.fineract.infrastructure.bulkimport.data.GlobalEntityType;
 import org.apache.fineract.infrastructure.bulkimport.domain.ImportDocument;
 import org.apache.fineract.infrastructure.bulkimport.domain.ImportDocumentRepository;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandler;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.StreamingImportHandler;
 import org.apache.fineract.infrastructure.core.exception.GeneralPlatformDomainRuleException;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
@@ -49,18 +55,22 @@ import org.springframework.stereotype.Service;
 public class BulkImportEventListener implements ApplicationListener<BulkImportEvent> {
 
     private static final Logger LOG = LoggerFactory.getLogger(BulkImportEventListener.class);
+    private static final String XLSX_CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
     private final TenantDetailsService tenantDetailsService;
     private final ApplicationContext applicationContext;
     private final ImportDocumentRepository importRepository;
     private final DocumentWritePlatformService documentService;
+    private final StreamingBulkImportService streamingBulkImportService;
 
     @Autowired
     public BulkImportEventListener(final TenantDetailsService tenantDetailsService, final ApplicationContext context,
-            final ImportDocumentRepository importRepository, final DocumentWritePlatformService documentService) {
+            final ImportDocumentRepository importRepository, final DocumentWritePlatformService documentService,
+            final StreamingBulkImportService streamingBulkImportService) {
         this.tenantDetailsService = tenantDetailsService;
         this.applicationContext = context;
         this.importRepository = importRepository;
         this.documentService = documentService;
+        this.streamingBulkImportService = streamingBulkImportService;
     }
 
     @Override
@@ -133,20 +143,21 @@ public class BulkImportEventListener implements ApplicationListener<BulkImportEv
 
         }
 
+        if (event.getContent() != null) {
+            processStreaming((StreamingImportHandler) importHandler, event, importDocument, entityType);
+            return;
+        }
+
         final Workbook workbook = event.getWorkbook();
         final Count count = importHandler.process(workbook, event.getLocale(), event.getDateFormat());
         importDocument.update(DateUtils.getLocalDateTimeOfTenant(), count.getSuccessCount(), count.getErrorCount());
         this.importRepository.saveAndFlush(importDocument);
 
-        final Set<String> modifiedParams = new HashSet<>();
-        modifiedParams.add("fileName");
-        modifiedParams.add("size");
-        modifiedParams.add("type");
-        modifiedParams.add("location");
         Document document = importDocument.getDocument();
 
-        DocumentCommand documentCommand = new DocumentCommand(modifiedParams, document.getId(), entityType.name(), null, document.getName(),
-                document.getFileName(), document.getSize(), URLConnection.guessContentTypeFromName(document.getFileName()), null, null);
+        DocumentCommand documentCommand = new DocumentCommand(modifiedParams(), document.getId(), entityType.name(), null,
+                document.getName(), document.getFileName(), document.getSize(),
+                URLConnection.guessContentTypeFromName(document.getFileName()), null, null);
 
         final ByteArrayOutputStream bos = new ByteArrayOutputStream();
         try {
@@ -163,4 +174,57 @@ public class BulkImportEventListener implements ApplicationListener<BulkImportEv
         this.documentService.updateDocument(documentCommand, bis);
     }
 
+    /**
+     * The streamed import writes its output workbook into a temporary file, which is then stored as the new content of
+     * the import document. The output is always an .xlsx workbook, POI can only stream that format. Both the uploaded
+     * copy and the output are deleted afterwards.
+     */
+    void processStreaming(final StreamingImportHandler importHandler, final BulkImportEvent event, final ImportDocument importDocument,
+            final GlobalEntityType entityType) {
+        Path output = null;
+        try {
+            output = Files.createTempFile("bulk-import-", ".xlsx");
+            final StreamingBulkImportService.StreamingImportResult result;
+            try (OutputStream outputStream = Files.newOutputStream(output)) {
+                result = this.streamingBulkImportService.process(importHandler, event.getContent(), event.getLocale(),
+                        event.getDateFormat(), outputStream);
+            }
+            importDocument.update(DateUtils.getLocalDateTimeOfTenant(), result.totalRecords(), result.successCount(),
+                    result.errorCount());
+            this.importRepository.saveAndFlush(importDocument);
+
+            Document document = importDocument.getDocument();
+            String fileName = FilenameUtils.removeExtension(document.getFileName()) + ".xlsx";
+            DocumentCommand documentCommand = new DocumentCommand(modifiedParams(), document.getId(), entityType.name(), null,
+                    document.getName(), fileName, Files.size(output), XLSX_CONTENT_TYPE, null, null);
+            try (InputStream inputStream = Files.newInputStream(output)) {
+                this.documentService.updateDocument(documentCommand, inputStream);
+            }
+        } catch (IOException io) {
+            LOG.error("Problem occurred in processStreaming function", io);
+        } finally {
+            deleteQuietly(output);
+            deleteQuietly(event.getContent());
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException io) {
+            LOG.warn("Could not delete temporary import file {}", path, io);
+        }
+    }
+
+    private static Set<String> modifiedParams() {
+        final Set<String> modifiedParams = new HashSet<>();
+        modifiedParams.add("fileName");
+        modifiedParams.add("size");
+        modifiedParams.add("type");
+        modifiedParams.add("location");
+        return modifiedParams;
+    }
 }
@@ -26,6 +26,9 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
@@ -70,17 +73,20 @@ public class BulkImportWorkbookServiceImpl implements BulkImportWorkbookService
     private final DocumentRepository documentRepository;
     private final ImportDocumentRepository importDocumentRepository;
     private final JdbcTemplate jdbcTemplate;
+    private final StreamingBulkImportService streamingBulkImportService;
 
     @Autowired
     public BulkImportWorkbookServiceImpl(final ApplicationContext applicationContext, final PlatformSecurityContext securityContext,
             final DocumentWritePlatformService documentWritePlatformService, final DocumentRepository documentRepository,
-            final ImportDocumentRepository importDocumentRepository, final JdbcTemplate jdbcTemplate) {
+            final ImportDocumentRepository importDocumentRepository, final JdbcTemplate jdbcTemplate,
+            final StreamingBulkImportService streamingBulkImportService) {
         this.applicationContext = applicationContext;
         this.securityContext = securityContext;
         this.documentWritePlatformService = documentWritePlatformService;
         this.documentRepository = documentRepository;
         this.importDocumentRepository = importDocumentRepository;
         this.jdbcTemplate = jdbcTemplate;
+        this.streamingBulkImportService = streamingBulkImportService;
     }
 
     @Override
@@ -88,23 +94,6 @@ public class BulkImportWorkbookServiceImpl implements BulkImportWorkbookService
             final String dateFormat) {
         try {
             if (entity != null && inputStream != null && fileDetail != null && locale != null && dateFormat != null) {
-                final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                IOUtils.copy(inputStream, baos);
-                final byte[] bytes = baos.toByteArray();
-                InputStream clonedInputStream = new ByteArrayInputStream(bytes);
-                final BufferedInputStream bis = new BufferedInputStream(new ByteArrayInputStream(bytes));
-                final Tika tika = new Tika();
-                final TikaInputStream tikaInputStream = TikaInputStream.get(bis);
-                final String fileType = tika.detect(tikaInputStream);
-                if (!fileType.contains("msoffice") && !fileType.contains("application/vnd.ms-excel")) {
-                    // We had a problem where we tried to upload the downloaded
-                    // file from the import options, it was somehow changed the
-                    // extension we use this fix.
-                    throw new GeneralPlatformDomainRuleException("error.msg.invalid.file.extension",
-                            "Uploaded file extension is not recognized.");
-
-                }
-                Workbook workbook = new HSSFWorkbook(clonedInputStream);
                 GlobalEntityType entityType = null;
                 int primaryColumn = 0;
                 if (entity.trim().equalsIgnoreCase(GlobalEntityType.CLIENTS_PERSON.toString())) {
@@ -165,10 +154,29 @@ public class BulkImportWorkbookServiceImpl implements BulkImportWorkbookService
                     entityType = GlobalEntityType.USERS;
                     primaryColumn = 0;
                 } else {
-                    workbook.close();
                     throw new GeneralPlatformDomainRuleException("error.msg.unable.to.find.resource", "Unable to find requested resource");
 
                 }
+                if (this.streamingBulkImportService.isStreaming(entityType)) {
+                    return importStreaming(fileDetail, inputStream, entityType, locale, dateFormat);
+                }
+                final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                IOUtils.copy(inputStream, baos);
+                final byte[] bytes = baos.toByteArray();
+                InputStream clonedInputStream = new ByteArrayInputStream(bytes);
+                final BufferedInputStream bis = new BufferedInputStream(new ByteArrayInputStream(bytes));
+                final Tika tika = new Tika();
+                final TikaInputStream tikaInputStream = TikaInputStream.get(bis);
+                final String fileType = tika.detect(tikaInputStream);
+                if (!fileType.contains("msoffice") && !fileType.contains("application/vnd.ms-excel")) {
+                    // We had a problem where we tried to upload the downloaded
+                    // file from the import options, it was somehow changed the
+                    // extension we use this fix.
+                    throw new GeneralPlatformDomainRuleException("error.msg.invalid.file.extension",
+                            "Uploaded file extension is not recognized.");
+
+                }
+                Workbook workbook = new HSSFWorkbook(clonedInputStream);
                 return publishEvent(primaryColumn, fileDetail, bis, entityType, workbook, locale, dateFormat);
             }
             throw new GeneralPlatformDomainRuleException("error.msg.null", "One or more of the given parameters not found");
@@ -183,7 +191,53 @@ public class BulkImportWorkbookServiceImpl implements BulkImportWorkbookService
     private Long publishEvent(final Integer primaryColumn, final FormDataContentDisposition fileDetail,
             final InputStream clonedInputStreamWorkbook, final GlobalEntityType entityType, final Workbook workbook, final String locale,
             final String dateFormat) {
+        final ImportDocument importDocument = createImportDocument(fileDetail, clonedInputStreamWorkbook, entityType,
+                ImportHandlerUtils.getNumberOfRows(workbook.getSheetAt(0), primaryColumn));
+        BulkImportEvent event = BulkImportEvent.instance(this, workbook, importDocument.getId(), locale, dateFormat,
+                ThreadLocalContextUtil.getContext());
+        applicationContext.publishEvent(event);
+        return importDocument.getId();
+    }
 
+    /**
+     * The upload of a streaming import is copied into a temporary file, which the import reads in place instead of
+     * keeping the workbook in memory. Once the event is published the file belongs to the listener, which deletes it.
+     * The total number of records is only known, and stored, once the import has read the sheet.
+     */
+    private Long importStreaming(final FormDataContentDisposition fileDetail, final InputStream inputStream,
+            final GlobalEntityType entityType, final String locale, final String dateFormat) throws IOException {
+        final Path content = Files.createTempFile("bulk-import-upload-", null);
+        boolean published = false;
+        try {
+            Files.copy(inputStream, content, StandardCopyOption.REPLACE_EXISTING);
+            final String fileType;
+            try (TikaInputStream tikaInputStream = TikaInputStream.get(content)) {
+                fileType = new Tika().detect(tikaInputStream);
+            }
+            // the streaming import writes its output as .xlsx, which has to be accepted back
+            if (!fileType.contains("msoffice") && !fileType.contains("application/vnd.ms-excel") && !fileType.contains("ooxml")
+                    && !fileType.contains("spreadsheetml")) {
+                throw new GeneralPlatformDomainRuleException("error.msg.invalid.file.extension",
+                        "Uploaded file extension is not recognized.");
+            }
+            final ImportDocument importDocument;
+            try (InputStream documentContent = Files.newInputStream(content)) {
+                importDocument = createImportDocument(fileDetail, documentContent, entityType, 0);
+            }
+            BulkImportEvent event = BulkImportEvent.streamingInstance(this, content, importDocument.getId(), locale, dateFormat,
+                    ThreadLocalContextUtil.getContext());
+            applicationContext.publishEvent(event);
+            published = true;
+            return importDocument.getId();
+        } finally {
+            if (!published) {
+                Files.deleteIfExists(content);
+            }
+        }
+    }
+
+    private ImportDocument createImportDocument(final FormDataContentDisposition fileDetail, final InputStream clonedInputStreamWorkbook,
+            final GlobalEntityType entityType, final Integer totalRecords) {
         final String fileName = fileDetail.getFileName();
 
         final Long documentId = this.documentWritePlatformService.createInternalDocument(
@@ -193,12 +247,9 @@ public class BulkImportWorkbookServiceImpl implements BulkImportWorkbookService
         final Document document = this.documentRepository.findById(documentId).orElse(null);
 
         final ImportDocument importDocument = ImportDocument.instance(document, DateUtils.getLocalDateTimeOfTenant(), entityType.getValue(),
-                this.securityContext.authenticatedUser(), ImportHandlerUtils.getNumberOfRows(workbook.getSheetAt(0), primaryColumn));
+                this.securityContext.authenticatedUser(), totalRecords);
         this.importDocumentRepository.saveAndFlush(importDocument);
-        BulkImportEvent event = BulkImportEvent.instance(this, workbook, importDocument.getId(), locale, dateFormat,
-                ThreadLocalContextUtil.getContext());
-        applicationContext.publishEvent(event);
-        return importDocument.getId();
+        return importDocument;
     }
 
     @Override
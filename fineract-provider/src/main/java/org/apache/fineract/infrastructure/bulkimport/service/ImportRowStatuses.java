@@ -0,0 +1,70 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.service;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.fineract.infrastructure.bulkimport.constants.TemplatePopulateImportConstants;
+
+/**
+ * The outcome of the rows of a streaming import, updated by the workers. Successful rows only take a bit each.
+ */
+final class ImportRowStatuses {
+
+    private final BitSet importedRows = new BitSet();
+    private final Map<Integer, String> errors = new ConcurrentHashMap<>();
+
+    void imported(int rowIndex) {
+        synchronized (importedRows) {
+            importedRows.set(rowIndex);
+        }
+    }
+
+    void failed(int rowIndex, String errorMessage) {
+        errors.put(rowIndex, errorMessage);
+    }
+
+    boolean isFailed(int rowIndex) {
+        return errors.containsKey(rowIndex);
+    }
+
+    /**
+     * @return the status cell value of the row, or null if the row was not processed by this import
+     */
+    String getStatus(int rowIndex) {
+        String errorMessage = errors.get(rowIndex);
+        if (errorMessage != null) {
+            return errorMessage;
+        }
+        synchronized (importedRows) {
+            return importedRows.get(rowIndex) ? TemplatePopulateImportConstants.STATUS_CELL_IMPORTED : null;
+        }
+    }
+
+    int getSuccessCount() {
+        synchronized (importedRows) {
+            return importedRows.cardinality();
+        }
+    }
+
+    int getErrorCount() {
+        return errors.size();
+    }
+}
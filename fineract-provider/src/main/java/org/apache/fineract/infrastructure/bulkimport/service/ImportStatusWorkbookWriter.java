@@ -0,0 +1,119 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Set;
+import org.apache.fineract.infrastructure.bulkimport.constants.TemplatePopulateImportConstants;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportRow;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * Copies the rows of the imported workbook into a streamed .xlsx workbook, filling the status column of the imported
+ * sheet on the way. Only a window of rows is kept in memory, the rest is flushed to a temporary file.
+ */
+final class ImportStatusWorkbookWriter implements ImportWorkbookReader.ImportRowCallback, AutoCloseable {
+
+    private static final int ROW_ACCESS_WINDOW_SIZE = 100;
+    // hidden sheets the workbook based import caches its status cell styles in
+    private static final Set<String> STYLE_CACHE_SHEET_NAMES = Set.of(IndexedColors.LIGHT_GREEN.toString(), IndexedColors.RED.toString());
+
+    private final SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+    private final String statusSheetName;
+    private final int statusColumn;
+    private final ImportRowStatuses statuses;
+    private final CellStyle importedStyle;
+    private final CellStyle errorStyle;
+    private String currentSheetName;
+    private Sheet currentSheet;
+
+    ImportStatusWorkbookWriter(String statusSheetName, int statusColumn, ImportRowStatuses statuses) {
+        this.statusSheetName = statusSheetName;
+        this.statusColumn = statusColumn;
+        this.statuses = statuses;
+        this.workbook.setCompressTempFiles(true);
+        this.importedStyle = createStyle(IndexedColors.LIGHT_GREEN);
+        this.errorStyle = createStyle(IndexedColors.RED);
+    }
+
+    @Override
+    public void onRow(String sheetName, int sheetIndex, ImportRow row) {
+        if (STYLE_CACHE_SHEET_NAMES.contains(sheetName)) {
+            return;
+        }
+        if (!sheetName.equals(currentSheetName)) {
+            currentSheetName = sheetName;
+            currentSheet = workbook.createSheet(sheetName);
+            if (sheetName.equals(statusSheetName)) {
+                currentSheet.setColumnWidth(statusColumn, TemplatePopulateImportConstants.SMALL_COL_SIZE);
+            }
+        }
+        Row target = currentSheet.createRow(row.getRowIndex());
+        for (int i = 0; i < row.getCellCount(); i++) {
+            Object value = row.getValue(i);
+            if (value instanceof String string) {
+                target.createCell(i).setCellValue(string);
+            } else if (value instanceof Double number) {
+                target.createCell(i).setCellValue(number);
+            } else if (value instanceof Boolean bool) {
+                target.createCell(i).setCellValue(bool);
+            }
+        }
+        if (sheetName.equals(statusSheetName)) {
+            writeStatus(target);
+        }
+    }
+
+    void write(OutputStream outputStream) throws IOException {
+        workbook.write(outputStream);
+    }
+
+    @Override
+    public void close() throws IOException {
+        workbook.dispose();
+        workbook.close();
+    }
+
+    private void writeStatus(Row target) {
+        if (target.getRowNum() == TemplatePopulateImportConstants.ROWHEADER_INDEX) {
+            target.createCell(statusColumn).setCellValue(TemplatePopulateImportConstants.STATUS_COL_REPORT_HEADER);
+            return;
+        }
+        String status = statuses.getStatus(target.getRowNum());
+        if (status != null) {
+            Cell statusCell = target.createCell(statusColumn);
+            statusCell.setCellValue(status);
+            statusCell.setCellStyle(statuses.isFailed(target.getRowNum()) ? errorStyle : importedStyle);
+        }
+    }
+
+    private CellStyle createStyle(IndexedColors color) {
+        CellStyle style = workbook.createCellStyle();
+        style.setFillForegroundColor(color.getIndex());
+        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        return style;
+    }
+}
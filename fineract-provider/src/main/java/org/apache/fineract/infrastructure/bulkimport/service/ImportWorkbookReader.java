@@ -0,0 +1,276 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import javax.xml.parsers.ParserConfigurationException;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportRow;
+import org.apache.poi.hssf.eventusermodel.HSSFEventFactory;
+import org.apache.poi.hssf.eventusermodel.HSSFListener;
+import org.apache.poi.hssf.eventusermodel.HSSFRequest;
+import org.apache.poi.hssf.eventusermodel.MissingRecordAwareHSSFListener;
+import org.apache.poi.hssf.eventusermodel.dummyrecord.LastCellOfRowDummyRecord;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.BoolErrRecord;
+import org.apache.poi.hssf.record.BoundSheetRecord;
+import org.apache.poi.hssf.record.FormulaRecord;
+import org.apache.poi.hssf.record.LabelRecord;
+import org.apache.poi.hssf.record.LabelSSTRecord;
+import org.apache.poi.hssf.record.NumberRecord;
+import org.apache.poi.hssf.record.SSTRecord;
+import org.apache.poi.hssf.record.StringRecord;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+/**
+ * Reads the rows of an import workbook with the POI event model (HSSF records for .xls, SAX for .xlsx), so only the row
+ * being handled is held in memory.
+ */
+public final class ImportWorkbookReader {
+
+    // XML content can't contain NUL, so shared strings never start with it
+    private static final String NUMBER_PREFIX = "\u0000";
+
+    private ImportWorkbookReader() {
+
+    }
+
+    @FunctionalInterface
+    public interface ImportRowCallback {
+
+        void onRow(String sheetName, int sheetIndex, ImportRow row);
+    }
+
+    /**
+     * Streams the non empty rows of the matching sheets, in sheet order and in row order within a sheet. The file is
+     * read in place, without loading it into memory, and the sheet parts of an .xlsx which don't match are skipped.
+     */
+    public static void read(Path file, Predicate<String> sheetFilter, ImportRowCallback callback) throws IOException {
+        FileMagic fileMagic = FileMagic.valueOf(file.toFile());
+        if (fileMagic == FileMagic.OLE2) {
+            readHssf(file, sheetFilter, callback);
+        } else if (fileMagic == FileMagic.OOXML) {
+            readXssf(file, sheetFilter, callback);
+        } else {
+            throw new IOException("Unsupported workbook format " + fileMagic);
+        }
+    }
+
+    private static void readHssf(Path file, Predicate<String> sheetFilter, ImportRowCallback callback) throws IOException {
+        try (POIFSFileSystem fileSystem = new POIFSFileSystem(file.toFile(), true)) {
+            HSSFRequest request = new HSSFRequest();
+            request.addListenerForAllRecords(new MissingRecordAwareHSSFListener(new HssfRowListener(sheetFilter, callback)));
+            new HSSFEventFactory().processWorkbookEvents(request, fileSystem);
+        }
+    }
+
+    private static void readXssf(Path file, Predicate<String> sheetFilter, ImportRowCallback callback) throws IOException {
+        OPCPackage opcPackage = null;
+        try {
+            opcPackage = OPCPackage.open(file.toFile(), PackageAccess.READ);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(opcPackage);
+            XSSFReader xssfReader = new XSSFReader(opcPackage);
+            StylesTable styles = xssfReader.getStylesTable();
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+            int sheetIndex = 0;
+            while (sheets.hasNext()) {
+                try (InputStream sheet = sheets.next()) {
+                    String sheetName = sheets.getSheetName();
+                    if (sheetFilter.test(sheetName)) {
+                        XMLReader parser = XMLHelper.newXMLReader();
+                        parser.setContentHandler(new XSSFSheetXMLHandler(styles, sharedStrings,
+                                new XssfRowHandler(sheetName, sheetIndex, callback), new RawNumberFormatter(), false));
+                        parser.parse(new InputSource(sheet));
+                    }
+                }
+                sheetIndex++;
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Could not read the workbook", e);
+        } finally {
+            // closing a read only package would try to save it
+            if (opcPackage != null) {
+                opcPackage.revert();
+            }
+        }
+    }
+
+    private static final class HssfRowListener implements HSSFListener {
+
+        private final Predicate<String> sheetFilter;
+        private final ImportRowCallback callback;
+        private final List<BoundSheetRecord> boundSheetRecords = new ArrayList<>();
+        private final List<Object> values = new ArrayList<>();
+        private BoundSheetRecord[] orderedBoundSheetRecords;
+        private SSTRecord sstRecord;
+        private int sheetIndex = -1;
+        private String sheetName;
+        private boolean readingSheet;
+        private int formulaStringRow = -1;
+        private int formulaStringColumn = -1;
+
+        private HssfRowListener(Predicate<String> sheetFilter, ImportRowCallback callback) {
+            this.sheetFilter = sheetFilter;
+            this.callback = callback;
+        }
+
+        @Override
+        public void processRecord(org.apache.poi.hssf.record.Record record) {
+            switch (record.getSid()) {
+                case BoundSheetRecord.sid -> boundSheetRecords.add((BoundSheetRecord) record);
+                case BOFRecord.sid -> startSheet((BOFRecord) record);
+                case SSTRecord.sid -> sstRecord = (SSTRecord) record;
+                case LabelSSTRecord.sid -> {
+                    LabelSSTRecord label = (LabelSSTRecord) record;
+                    setValue(label.getColumn(), sstRecord.getString(label.getSSTIndex()).getString());
+                }
+                case LabelRecord.sid -> setValue(((LabelRecord) record).getColumn(), ((LabelRecord) record).getValue());
+                case NumberRecord.sid -> setValue(((NumberRecord) record).getColumn(), ((NumberRecord) record).getValue());
+                case BoolErrRecord.sid -> {
+                    BoolErrRecord boolErr = (BoolErrRecord) record;
+                    setValue(boolErr.getColumn(), boolErr.isBoolean() ? boolErr.getBooleanValue() : null);
+                }
+                case FormulaRecord.sid -> readFormula((FormulaRecord) record);
+                case StringRecord.sid -> {
+                    if (formulaStringRow >= 0) {
+                        setValue(formulaStringColumn, ((StringRecord) record).getString());
+                        formulaStringRow = -1;
+                    }
+                }
+                default -> {
+                    if (record instanceof LastCellOfRowDummyRecord lastCell) {
+                        endRow(lastCell.getRow());
+                    }
+                }
+            }
+        }
+
+        private void startSheet(BOFRecord bof) {
+            if (bof.getType() != BOFRecord.TYPE_WORKSHEET) {
+                return;
+            }
+            if (orderedBoundSheetRecords == null) {
+                orderedBoundSheetRecords = BoundSheetRecord.orderByBofPosition(boundSheetRecords);
+            }
+            sheetIndex++;
+            sheetName = orderedBoundSheetRecords[sheetIndex].getSheetname();
+            readingSheet = sheetFilter.test(sheetName);
+            values.clear();
+        }
+
+        private void readFormula(FormulaRecord formula) {
+            if (formula.hasCachedResultString()) {
+                formulaStringRow = formula.getRow();
+                formulaStringColumn = formula.getColumn();
+            } else if (formula.getCachedResultTypeEnum() == CellType.NUMERIC) {
+                setValue(formula.getColumn(), formula.getValue());
+            } else if (formula.getCachedResultTypeEnum() == CellType.BOOLEAN) {
+                setValue(formula.getColumn(), formula.getCachedBooleanValue());
+            }
+        }
+
+        private void setValue(int column, Object value) {
+            if (!readingSheet) {
+                return;
+            }
+            while (values.size() <= column) {
+                values.add(null);
+            }
+            values.set(column, value);
+        }
+
+        private void endRow(int rowIndex) {
+            if (readingSheet && !values.isEmpty()) {
+                callback.onRow(sheetName, sheetIndex, new ImportRow(rowIndex, values.toArray()));
+            }
+            values.clear();
+        }
+    }
+
+    private static final class XssfRowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final String sheetName;
+        private final int sheetIndex;
+        private final ImportRowCallback callback;
+        private final List<Object> values = new ArrayList<>();
+
+        private XssfRowHandler(String sheetName, int sheetIndex, ImportRowCallback callback) {
+            this.sheetName = sheetName;
+            this.sheetIndex = sheetIndex;
+            this.callback = callback;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            values.clear();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (!values.isEmpty()) {
+                callback.onRow(sheetName, sheetIndex, new ImportRow(rowNum, values.toArray()));
+            }
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference == null ? values.size() : new CellReference(cellReference).getCol();
+            while (values.size() <= column) {
+                values.add(null);
+            }
+            if (formattedValue != null && formattedValue.startsWith(NUMBER_PREFIX)) {
+                values.set(column, Double.valueOf(formattedValue.substring(NUMBER_PREFIX.length())));
+            } else {
+                values.set(column, formattedValue);
+            }
+        }
+    }
+
+    /**
+     * Keeps the raw value of numeric cells (dates included) instead of their display format, the import reads them as
+     * numbers.
+     */
+    private static final class RawNumberFormatter extends DataFormatter {
+
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString, boolean use1904Windowing) {
+            return NUMBER_PREFIX + value;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.cob.loan.ContextAwareTaskDecorator;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+/**
+ * Executes the rows of a streaming import on a fixed number of single threaded lanes. Rows are routed to a lane by
+ * their ordering key, so the rows of one entity run in sheet order, and the number of queued rows is bounded: the
+ * reading thread blocks until the workers catch up.
+ */
+final class ImportWorkerPool implements AutoCloseable {
+
+    private final ExecutorService[] lanes;
+    private final Semaphore queuedRows;
+    private final ContextAwareTaskDecorator contextAwareTaskDecorator = new ContextAwareTaskDecorator();
+
+    ImportWorkerPool(int workerCount, int queueCapacity) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("Bulk-Import-Thread-");
+        this.lanes = new ExecutorService[Math.max(1, workerCount)];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = Executors.newSingleThreadExecutor(threadFactory);
+        }
+        this.queuedRows = new Semaphore(Math.max(lanes.length, queueCapacity));
+    }
+
+    void submit(Object orderingKey, Runnable task) {
+        try {
+            queuedRows.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the import workers", e);
+        }
+        // captures the tenant and the security context of the importing thread
+        Runnable decorated = contextAwareTaskDecorator.decorate(new DelegatingSecurityContextRunnable(task));
+        lanes[Math.floorMod(orderingKey.hashCode(), lanes.length)].execute(() -> {
+            try {
+                decorated.run();
+            } finally {
+                queuedRows.release();
+            }
+        });
+    }
+
+    /**
+     * Waits until every submitted row was executed.
+     */
+    @Override
+    public void close() {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+        try {
+            // an import may run for hours, keep waiting
+            for (ExecutorService lane : lanes) {
+                boolean terminated = false;
+                while (!terminated) {
+                    terminated = lane.awaitTermination(1, TimeUnit.MINUTES);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            for (ExecutorService lane : lanes) {
+                lane.shutdownNow();
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.bulkimport.constants.TemplatePopulateImportConstants;
+import org.apache.fineract.infrastructure.bulkimport.data.GlobalEntityType;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandlerUtils;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportLookupSheets;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportRow;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportRowCommand;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.StreamingImportHandler;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.springframework.stereotype.Service;
+
+/**
+ * Imports a sheet without materializing the workbook: rows are read with the POI event model, handed to a bounded pool
+ * of workers and copied, with their status, into a streamed .xlsx workbook in the same pass.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StreamingBulkImportService {
+
+    private static final Set<GlobalEntityType> STREAMING_ENTITY_TYPES = EnumSet.of(GlobalEntityType.LOAN_TRANSACTIONS,
+            GlobalEntityType.SAVINGS_TRANSACTIONS);
+    private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+
+    private final FineractProperties fineractProperties;
+
+    public boolean isStreaming(GlobalEntityType entityType) {
+        FineractProperties.FineractBulkImportProperties bulkImport = fineractProperties.getBulkImport();
+        return bulkImport != null && bulkImport.isStreamingEnabled() && STREAMING_ENTITY_TYPES.contains(entityType);
+    }
+
+    /**
+     * Imports the sheet of the handler from the uploaded workbook and writes the workbook with the row statuses, in
+     * .xlsx format, to the output. The lookup sheets are read up front, the rest of the workbook is read once.
+     */
+    public StreamingImportResult process(StreamingImportHandler importHandler, Path content, String locale, String dateFormat,
+            OutputStream output) throws IOException {
+        ImportLookupSheets lookupSheets = new ImportLookupSheets();
+        Set<String> lookupSheetNames = importHandler.getLookupSheetNames();
+        if (!lookupSheetNames.isEmpty()) {
+            ImportWorkbookReader.read(content, lookupSheetNames::contains,
+                    (sheetName, sheetIndex, row) -> lookupSheets.addRow(sheetName, row));
+        }
+
+        ImportRowStatuses statuses = new ImportRowStatuses();
+        FineractProperties.FineractBulkImportProperties bulkImport = fineractProperties.getBulkImport();
+        try (ImportStatusWorkbookWriter writer = new ImportStatusWorkbookWriter(importHandler.getSheetName(),
+                importHandler.getStatusColumn(), statuses)) {
+            ImportPass importPass;
+            try (ImportWorkerPool workerPool = new ImportWorkerPool(bulkImport.getWorkerCount(), bulkImport.getQueueCapacity())) {
+                importPass = new ImportPass(importHandler, lookupSheets, locale, dateFormat, statuses, workerPool, writer,
+                        Math.max(1, bulkImport.getQueueCapacity()));
+                ImportWorkbookReader.read(content, sheetName -> true, importPass);
+                importPass.writePendingRows(0);
+            }
+            writer.write(output);
+            log.info("Streaming import of sheet {} finished with {} imported and {} failed rows", importHandler.getSheetName(),
+                    statuses.getSuccessCount(), statuses.getErrorCount());
+            return new StreamingImportResult(importPass.totalRecords, statuses.getSuccessCount(), statuses.getErrorCount());
+        }
+    }
+
+    private static void fail(ImportRowStatuses statuses, int rowIndex, RuntimeException e) {
+        log.error("Problem occurred while importing row {}", rowIndex, e);
+        statuses.failed(rowIndex, ImportHandlerUtils.getErrorMessage(e));
+    }
+
+    /**
+     * @param totalRecords
+     *            the rows of the imported sheet up to the first one without the primary column, imported before or not
+     */
+    public record StreamingImportResult(int totalRecords, int successCount, int errorCount) {
+    }
+
+    private record PendingRow(String sheetName, int sheetIndex, ImportRow row, CompletableFuture<Void> done) {
+    }
+
+    /**
+     * Turns the rows of the imported sheet into commands, on the reading thread, and submits them to the workers. Like
+     * the workbook based import, reading stops at the first row without the primary column. Every row is copied to the
+     * status workbook once its status is known; rows waiting for a worker are kept in order, at most
+     * <code>maxPendingRows</code> of them, as the streamed workbook can only be written top down.
+     */
+    @RequiredArgsConstructor
+    private static final class ImportPass implements ImportWorkbookReader.ImportRowCallback {
+
+        private final StreamingImportHandler importHandler;
+        private final ImportLookupSheets lookupSheets;
+        private final String locale;
+        private final String dateFormat;
+        private final ImportRowStatuses statuses;
+        private final ImportWorkerPool workerPool;
+        private final ImportStatusWorkbookWriter writer;
+        private final int maxPendingRows;
+        private final Deque<PendingRow> pendingRows = new ArrayDeque<>();
+        private int nextRowIndex = TemplatePopulateImportConstants.ROWHEADER_INDEX + 1;
+        private boolean finished;
+        private int totalRecords;
+
+        @Override
+        public void onRow(String sheetName, int sheetIndex, ImportRow row) {
+            if (!sheetName.equals(importHandler.getSheetName())) {
+                writePendingRows(0);
+                writer.onRow(sheetName, sheetIndex, row);
+                return;
+            }
+            pendingRows.add(new PendingRow(sheetName, sheetIndex, row, dispatch(row)));
+            writePendingRows(maxPendingRows);
+        }
+
+        /**
+         * Writes the rows at the head of the queue which are done, waiting for them while more than
+         * <code>maxPending</code> rows are queued.
+         */
+        void writePendingRows(int maxPending) {
+            while (!pendingRows.isEmpty()) {
+                PendingRow head = pendingRows.peek();
+                if (!head.done().isDone()) {
+                    if (pendingRows.size() <= maxPending) {
+                        return;
+                    }
+                    head.done().join();
+                }
+                pendingRows.poll();
+                writer.onRow(head.sheetName(), head.sheetIndex(), head.row());
+            }
+        }
+
+        private CompletableFuture<Void> dispatch(ImportRow row) {
+            if (finished || row.getRowIndex() == TemplatePopulateImportConstants.ROWHEADER_INDEX) {
+                return DONE;
+            }
+            if (row.getRowIndex() != nextRowIndex || row.isBlank(importHandler.getPrimaryColumn())) {
+                finished = true;
+                return DONE;
+            }
+            nextRowIndex++;
+            totalRecords++;
+            if (!row.isNotImported(importHandler.getStatusColumn())) {
+                return DONE;
+            }
+            int rowIndex = row.getRowIndex();
+            ImportRowCommand rowCommand;
+            try {
+                rowCommand = importHandler.readRow(row, lookupSheets, locale, dateFormat);
+            } catch (RuntimeException e) {
+                fail(statuses, rowIndex, e);
+                return DONE;
+            }
+            Object orderingKey = rowCommand.orderingKey() == null ? rowIndex : rowCommand.orderingKey();
+            CompletableFuture<Void> done = new CompletableFuture<>();
+            workerPool.submit(orderingKey, () -> {
+                try {
+                    rowCommand.command().run();
+                    statuses.imported(rowIndex);
+                } catch (RuntimeException e) {
+                    fail(statuses, rowIndex, e);
+                } finally {
+                    done.complete(null);
+                }
+            });
+            return done;
+        }
+    }
+}
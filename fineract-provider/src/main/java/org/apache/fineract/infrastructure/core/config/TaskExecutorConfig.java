@@ -30,12 +30,15 @@ public class TaskExecutorConfig {
 
     @Autowired
     private FineractProperties fineractProperties;
+    @Autowired
+    private VirtualThreadSupport virtualThreadSupport;
 
     @Bean(TaskExecutorConstant.DEFAULT_TASK_EXECUTOR_BEAN_NAME)
     public ThreadPoolTaskExecutor fineractDefaultThreadPoolTaskExecutor() {
         ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
         threadPoolTaskExecutor.setCorePoolSize(fineractProperties.getTaskExecutor().getDefaultTaskExecutorCorePoolSize());
         threadPoolTaskExecutor.setMaxPoolSize(fineractProperties.getTaskExecutor().getDefaultTaskExecutorMaxPoolSize());
+        virtualThreadSupport.configure(threadPoolTaskExecutor, "fineractDefault-");
         return threadPoolTaskExecutor;
     }
 
@@ -45,6 +48,7 @@ public class TaskExecutorConfig {
         ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
         threadPoolTaskExecutor.setCorePoolSize(fineractProperties.getTaskExecutor().getDefaultTaskExecutorCorePoolSize());
         threadPoolTaskExecutor.setMaxPoolSize(fineractProperties.getTaskExecutor().getDefaultTaskExecutorMaxPoolSize());
+        virtualThreadSupport.configure(threadPoolTaskExecutor, "fineractConfigurable-");
         return threadPoolTaskExecutor;
     }
 }
@@ -18,11 +18,29 @@
  */
 package org.apache.fineract.infrastructure.core.service.migration;
 
+import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import liquibase.ChecksumVersion;
+import liquibase.Contexts;
+import liquibase.LabelExpression;
 import liquibase.Liquibase;
+import liquibase.Scope;
+import liquibase.changelog.ChangeLogParameters;
+import liquibase.changelog.ChangeSet;
+import liquibase.changelog.DatabaseChangeLog;
+import liquibase.changelog.filter.ChangeSetFilter;
+import liquibase.changelog.filter.DbmsChangeSetFilter;
+import liquibase.changelog.filter.IgnoreChangeSetFilter;
+import liquibase.changelog.filter.LabelChangeSetFilter;
+import liquibase.database.Database;
 import liquibase.exception.DatabaseException;
 import liquibase.exception.LiquibaseException;
 import liquibase.integration.spring.SpringLiquibase;
+import liquibase.parser.ChangeLogParserFactory;
+import liquibase.resource.ResourceAccessor;
 
 public class ExtendedSpringLiquibase extends SpringLiquibase {
 
@@ -33,4 +51,40 @@ public class ExtendedSpringLiquibase extends SpringLiquibase {
             throw new DatabaseException(e);
         }
     }
+
+    /**
+     * Parses the changelog and calculates the current checksum of every changeset which applies to the database type
+     * and the label filter. Context filtering is left to the caller, so a single parse can serve several tenants.
+     *
+     * @return the checksums keyed by changeset, in changelog order
+     */
+    public Map<ChangeSet, String> calculateChangeSetCheckSums() throws LiquibaseException {
+        try (Connection connection = getDataSource().getConnection()) {
+            ResourceAccessor resourceAccessor = createResourceOpener();
+            Database database = createDatabase(connection, resourceAccessor);
+            ChangeLogParameters changeLogParameters = new ChangeLogParameters(database);
+            changeLogParameters.setContexts(new Contexts(getContexts()));
+            changeLogParameters.setLabels(new LabelExpression(getLabelFilter()));
+            if (parameters != null) {
+                parameters.forEach(changeLogParameters::set);
+            }
+            List<ChangeSetFilter> filters = List.of(new DbmsChangeSetFilter(database),
+                    new LabelChangeSetFilter(new LabelExpression(getLabelFilter())), new IgnoreChangeSetFilter());
+            return Scope.child(Scope.Attr.resourceAccessor.name(), resourceAccessor, () -> {
+                DatabaseChangeLog changeLog = ChangeLogParserFactory.getInstance().getParser(getChangeLog(), resourceAccessor)
+                        .parse(getChangeLog(), changeLogParameters, resourceAccessor);
+                Map<ChangeSet, String> checkSums = new LinkedHashMap<>();
+                for (ChangeSet changeSet : changeLog.getChangeSets()) {
+                    if (filters.stream().allMatch(filter -> filter.accepts(changeSet).isAccepted())) {
+                        checkSums.put(changeSet, changeSet.generateCheckSum(ChecksumVersion.latest()).toString());
+                    }
+                }
+                return checkSums;
+            });
+        } catch (LiquibaseException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DatabaseException(e);
+        }
+    }
 }
@@ -0,0 +1,102 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service.migration;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import liquibase.Contexts;
+import liquibase.change.CheckSum;
+import liquibase.changelog.ChangeSet;
+import liquibase.changelog.filter.ContextChangeSetFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+/**
+ * The tenant changesets and their checksums, parsed once per startup. Used to tell whether a tenant database already
+ * ran every changeset by reading its DATABASECHANGELOG table only, so Liquibase doesn't have to parse the changelog and
+ * lock the database of tenants which have nothing to migrate.
+ *
+ * The check is conservative: anything it can't prove to be applied (missing changeset, checksum mismatch,
+ * <code>runAlways</code> changesets, unreadable changelog table) makes the tenant go through the regular migration.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TenantChangeLogSnapshot {
+
+    private final Map<ChangeSet, String> checkSums;
+    private final String databaseChangeLogTable;
+
+    /**
+     * @param dataSource
+     *            the tenant database
+     * @param contexts
+     *            the Liquibase contexts of every migration run the tenant goes through
+     * @return true if every changeset matching any of the contexts was already applied with the current checksum
+     */
+    public boolean isUpToDate(DataSource dataSource, List<String> contexts) {
+        List<ContextChangeSetFilter> filters = contexts.stream().map(c -> new ContextChangeSetFilter(new Contexts(c))).toList();
+        try {
+            Map<String, String> appliedCheckSums = new HashMap<>();
+            new JdbcTemplate(dataSource).query("select ID, AUTHOR, FILENAME, MD5SUM from " + databaseChangeLogTable,
+                    (RowCallbackHandler) rs -> appliedCheckSums
+                            .put(key(rs.getString("ID"), rs.getString("AUTHOR"), rs.getString("FILENAME")), rs.getString("MD5SUM")));
+            for (Map.Entry<ChangeSet, String> entry : checkSums.entrySet()) {
+                ChangeSet changeSet = entry.getKey();
+                if (filters.stream().noneMatch(filter -> filter.accepts(changeSet).isAccepted())) {
+                    continue;
+                }
+                String key = key(changeSet.getId(), changeSet.getAuthor(), changeSet.getFilePath());
+                if (changeSet.isAlwaysRun() || !appliedCheckSums.containsKey(key)) {
+                    return false;
+                }
+                String appliedCheckSum = appliedCheckSums.get(key);
+                if (appliedCheckSum != null && !appliedCheckSum.equals(entry.getValue())
+                        && !changeSet.isCheckSumValid(CheckSum.parse(appliedCheckSum))) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (RuntimeException e) {
+            log.debug("Could not compare the changelog checksums, falling back to a regular migration", e);
+            return false;
+        }
+    }
+
+    private static String key(String id, String author, String filePath) {
+        return id + "::" + author + "::" + normalizePath(filePath);
+    }
+
+    private static String normalizePath(String filePath) {
+        if (filePath == null) {
+            return "";
+        }
+        String result = filePath.replace('\\', '/');
+        if (result.startsWith("classpath:")) {
+            result = result.substring("classpath:".length());
+        }
+        while (result.startsWith("/")) {
+            result = result.substring(1);
+        }
+        return result;
+    }
+}
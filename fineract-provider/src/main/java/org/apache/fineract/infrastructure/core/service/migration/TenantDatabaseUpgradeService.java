@@ -21,10 +21,23 @@ package org.apache.fineract.infrastructure.core.service.migration;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import javax.sql.DataSource;
+import liquibase.Scope;
+import liquibase.SingletonScopeManager;
+import liquibase.ThreadLocalScopeManager;
 import liquibase.change.custom.CustomTaskChange;
 import liquibase.exception.LiquibaseException;
 import liquibase.integration.spring.SpringLiquibase;
@@ -36,7 +49,9 @@ import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
 import org.apache.fineract.infrastructure.core.service.tenant.TenantDetailsService;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseProperties;
 import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 
 /**
@@ -59,6 +74,7 @@ public class TenantDatabaseUpgradeService implements InitializingBean {
     private final TenantDatabaseStateVerifier databaseStateVerifier;
     private final ExtendedSpringLiquibaseFactory liquibaseFactory;
     private final TenantDataSourceFactory tenantDataSourceFactory;
+    private final LiquibaseProperties liquibaseProperties;
     private final Environment environment;
 
     // DO NOT REMOVE! Required for liquibase custom task initialization
@@ -125,13 +141,62 @@ public class TenantDatabaseUpgradeService implements InitializingBean {
         log.info("Upgrading all tenants");
         List<FineractPlatformTenant> tenants = tenantDetailsService.findAllTenants();
         if (isNotEmpty(tenants)) {
-            for (FineractPlatformTenant tenant : tenants) {
-                upgradeIndividualTenant(tenant);
+            FineractProperties.FineractTenantMigrationProperties migrationProperties = fineractProperties.getTenantMigration();
+            int parallelism = migrationProperties == null ? 1 : Math.max(1, Math.min(migrationProperties.getParallelism(), tenants.size()));
+            TenantChangeLogSnapshot changeLogSnapshot = migrationProperties != null && migrationProperties.isUpToDateCheckEnabled()
+                    ? createChangeLogSnapshot()
+                    : null;
+            TenantUpgradeProgress progress = new TenantUpgradeProgress(tenants.size());
+            if (parallelism == 1) {
+                tenants.forEach(tenant -> upgradeIsolated(tenant, changeLogSnapshot, progress));
+            } else {
+                log.info("Upgrading {} tenants with parallelism {}", tenants.size(), parallelism);
+                // the default (singleton) scope manager of Liquibase is shared by all threads, it is put back once the tenants are done
+                Scope.setScopeManager(new ThreadLocalScopeManager());
+                ExecutorService executorService = Executors.newFixedThreadPool(parallelism,
+                        new CustomizableThreadFactory("Tenant-Migration-Thread-"));
+                try {
+                    List<Future<?>> futures = tenants.stream()
+                            .<Future<?>>map(tenant -> executorService.submit(() -> upgradeIsolated(tenant, changeLogSnapshot, progress)))
+                            .toList();
+                    for (Future<?> future : futures) {
+                        future.get();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while upgrading the tenants", e);
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Error while upgrading the tenants", e.getCause());
+                } finally {
+                    executorService.shutdownNow();
+                    Scope.setScopeManager(new SingletonScopeManager());
+                }
             }
+            progress.rethrowFailures();
         }
         log.info("Tenant upgrades have finished");
     }
 
+    private TenantChangeLogSnapshot createChangeLogSnapshot() {
+        try {
+            ExtendedSpringLiquibase liquibase = liquibaseFactory.create(tenantDataSource, TENANT_DB_CONTEXT, CUSTOM_CHANGELOG_CONTEXT);
+            return new TenantChangeLogSnapshot(liquibase.calculateChangeSetCheckSums(), liquibaseProperties.getDatabaseChangeLogTable());
+        } catch (LiquibaseException | RuntimeException e) {
+            log.warn("Could not parse the tenant changelog, every tenant goes through the regular upgrade", e);
+            return null;
+        }
+    }
+
+    private void upgradeIsolated(FineractPlatformTenant tenant, TenantChangeLogSnapshot changeLogSnapshot, TenantUpgradeProgress progress) {
+        try {
+            boolean upgraded = upgradeIndividualTenant(tenant, changeLogSnapshot);
+            progress.succeeded(upgraded);
+        } catch (LiquibaseException | RuntimeException e) {
+            log.error("Upgrade for tenant {} has failed", tenant.getTenantIdentifier(), e);
+            progress.failed(tenant.getTenantIdentifier(), e);
+        }
+    }
+
     /**
      * Upgrade each tenant's database
      *
@@ -139,23 +204,40 @@ public class TenantDatabaseUpgradeService implements InitializingBean {
      * migration (it was introduced as part of v4.21.0)
      *
      * @param tenant
+     * @param changeLogSnapshot
+     *            the parsed tenant changelog to skip tenants which are already up to date, or null to always run Liquibase
+     * @return false if the tenant was already up to date
      * @throws LiquibaseException
      */
-    private void upgradeIndividualTenant(FineractPlatformTenant tenant) throws LiquibaseException {
+    private boolean upgradeIndividualTenant(FineractPlatformTenant tenant, TenantChangeLogSnapshot changeLogSnapshot)
+            throws LiquibaseException {
         log.info("Upgrade for tenant {} has started", tenant.getTenantIdentifier());
         DataSource tenantDataSource = tenantDataSourceFactory.create(tenant);
-        if (databaseStateVerifier.isFirstLiquibaseMigration(tenantDataSource)) {
-            ExtendedSpringLiquibase liquibase = liquibaseFactory.create(tenantDataSource, TENANT_DB_CONTEXT, INITIAL_SWITCH_CONTEXT,
-                    tenant.getTenantIdentifier());
-            applyInitialLiquibase(tenantDataSource, liquibase, tenant.getTenantIdentifier(),
-                    (ds) -> !databaseStateVerifier.isTenantOnLatestUpgradableVersion(ds));
+        try {
+            boolean firstLiquibaseMigration = databaseStateVerifier.isFirstLiquibaseMigration(tenantDataSource);
+            SpringLiquibase tenantLiquibase = liquibaseFactory.create(tenantDataSource, TENANT_DB_CONTEXT, tenant.getTenantIdentifier());
+            SpringLiquibase customChangelogLiquibase = liquibaseFactory.create(tenantDataSource, TENANT_DB_CONTEXT,
+                    CUSTOM_CHANGELOG_CONTEXT, tenant.getTenantIdentifier());
+            if (!firstLiquibaseMigration && changeLogSnapshot != null && changeLogSnapshot.isUpToDate(tenantDataSource,
+                    List.of(tenantLiquibase.getContexts(), customChangelogLiquibase.getContexts()))) {
+                log.info("Tenant {} is already up to date", tenant.getTenantIdentifier());
+                return false;
+            }
+            if (firstLiquibaseMigration) {
+                ExtendedSpringLiquibase liquibase = liquibaseFactory.create(tenantDataSource, TENANT_DB_CONTEXT, INITIAL_SWITCH_CONTEXT,
+                        tenant.getTenantIdentifier());
+                applyInitialLiquibase(tenantDataSource, liquibase, tenant.getTenantIdentifier(),
+                        (ds) -> !databaseStateVerifier.isTenantOnLatestUpgradableVersion(ds));
+            }
+            tenantLiquibase.afterPropertiesSet();
+            customChangelogLiquibase.afterPropertiesSet();
+            log.info("Upgrade for tenant {} has finished", tenant.getTenantIdentifier());
+            return true;
+        } finally {
+            if (tenantDataSource instanceof HikariDataSource hikariDataSource) {
+                hikariDataSource.close();
+            }
         }
-        SpringLiquibase tenantLiquibase = liquibaseFactory.create(tenantDataSource, TENANT_DB_CONTEXT, tenant.getTenantIdentifier());
-        tenantLiquibase.afterPropertiesSet();
-        SpringLiquibase customChangelogLiquibase = liquibaseFactory.create(tenantDataSource, TENANT_DB_CONTEXT, CUSTOM_CHANGELOG_CONTEXT,
-                tenant.getTenantIdentifier());
-        customChangelogLiquibase.afterPropertiesSet();
-        log.info("Upgrade for tenant {} has finished", tenant.getTenantIdentifier());
     }
 
     private void applyInitialLiquibase(DataSource dataSource, ExtendedSpringLiquibase liquibase, String id,
@@ -173,4 +255,47 @@ public class TenantDatabaseUpgradeService implements InitializingBean {
             liquibase.afterPropertiesSet();
         }
     }
+
+    private static final class TenantUpgradeProgress {
+
+        private final int total;
+        private final AtomicInteger done = new AtomicInteger();
+        private final AtomicInteger upToDate = new AtomicInteger();
+        private final Map<String, Exception> failures = Collections.synchronizedMap(new LinkedHashMap<>());
+
+        private TenantUpgradeProgress(int total) {
+            this.total = total;
+        }
+
+        private void succeeded(boolean upgraded) {
+            if (!upgraded) {
+                upToDate.incrementAndGet();
+            }
+            report();
+        }
+
+        private void failed(String tenantIdentifier, Exception e) {
+            failures.put(tenantIdentifier, e);
+            report();
+        }
+
+        private void report() {
+            log.info("Tenant upgrade progress: {}/{} done, {} already up to date, {} failed", done.incrementAndGet(), total, upToDate.get(),
+                    failures.size());
+        }
+
+        private void rethrowFailures() throws LiquibaseException {
+            if (failures.isEmpty()) {
+                return;
+            }
+            log.error("Upgrade has failed for tenants {}", failures.keySet());
+            List<Exception> exceptions = new ArrayList<>(failures.values());
+            Exception failure = exceptions.get(0);
+            exceptions.stream().skip(1).forEach(failure::addSuppressed);
+            if (failure instanceof LiquibaseException liquibaseException) {
+                throw liquibaseException;
+            }
+            throw (RuntimeException) failure;
+        }
+    }
 }
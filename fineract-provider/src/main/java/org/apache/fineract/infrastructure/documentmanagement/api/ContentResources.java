@@ -18,11 +18,22 @@
  */
 package org.apache.fineract.infrastructure.documentmanagement.api;
 
+import com.google.common.hash.Hashing;
 import com.google.common.io.ByteSource;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.ResponseBuilder;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import org.apache.fineract.infrastructure.documentmanagement.data.FileData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +46,7 @@ import org.slf4j.LoggerFactory;
 final class ContentResources {
 
     private static final Logger LOG = LoggerFactory.getLogger(ContentResources.class);
+    private static final String BYTES_UNIT = "bytes";
 
     private ContentResources() {}
 
@@ -58,4 +70,131 @@ final class ContentResources {
     static Response fileDataToResponse(FileData fileData, String dispositionType) {
         return fileDataToResponse(fileData, fileData.name(), dispositionType);
     }
+
+    /**
+     * Like {@link #fileDataToResponse(FileData, String, String)}, but file backed content is streamed from disk through
+     * its {@link FileChannel} instead of a buffered stream, carries a strong ETag, answers If-None-Match with 304 and
+     * serves a single byte range when asked for one. Content which is not file backed falls back to the plain response.
+     */
+    static Response fileDataToResponse(FileData fileData, String fileName, String dispositionType, Request request,
+            HttpHeaders headers) {
+        final File file = fileData.getFile();
+        if (file == null || !file.isFile()) {
+            return fileDataToResponse(fileData, fileName, dispositionType);
+        }
+        final EntityTag entityTag = entityTag(file);
+        final ResponseBuilder preconditionFailed = request.evaluatePreconditions(entityTag);
+        if (preconditionFailed != null) {
+            return preconditionFailed.tag(entityTag).build();
+        }
+
+        final long length = file.length();
+        long start = 0;
+        long end = length - 1;
+        ResponseBuilder response = Response.ok();
+        final String range = headers.getHeaderString(HttpHeaders.RANGE);
+        if (range != null && isRangeApplicable(headers.getHeaderString(HttpHeaders.IF_RANGE), entityTag)) {
+            final long[] bounds = parseRange(range, length);
+            if (bounds == null) {
+                return Response.status(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(HttpHeaders.CONTENT_RANGE, BYTES_UNIT + " */" + length).tag(entityTag).build();
+            }
+            if (bounds.length == 2) {
+                start = bounds[0];
+                end = bounds[1];
+                response = Response.status(Response.Status.PARTIAL_CONTENT).header(HttpHeaders.CONTENT_RANGE,
+                        BYTES_UNIT + " " + start + "-" + end + "/" + length);
+            }
+        }
+
+        response.entity(transfer(file, start, end - start + 1));
+        response.tag(entityTag);
+        response.header(HttpHeaders.ACCEPT_RANGES, BYTES_UNIT);
+        response.header("Content-Disposition", dispositionType + "; filename=\"" + fileName + "\"");
+        response.header(HttpHeaders.CONTENT_LENGTH, end - start + 1);
+        response.header(HttpHeaders.CONTENT_TYPE, fileData.contentType());
+        return response.build();
+    }
+
+    static Response fileDataToResponse(FileData fileData, String dispositionType, Request request, HttpHeaders headers) {
+        return fileDataToResponse(fileData, fileData.name(), dispositionType, request, headers);
+    }
+
+    /**
+     * Strong validator of a file on disk. Files are only ever replaced as a whole, so path, size and modification time
+     * identify their content without having to read it.
+     */
+    static EntityTag entityTag(File file) {
+        final String identity = file.getAbsolutePath() + ':' + file.length() + ':' + file.lastModified();
+        return new EntityTag(Hashing.sha256().hashString(identity, StandardCharsets.UTF_8).toString());
+    }
+
+    private static boolean isRangeApplicable(String ifRange, EntityTag entityTag) {
+        if (ifRange == null) {
+            return true;
+        }
+        try {
+            return EntityTag.valueOf(ifRange).equals(entityTag);
+        } catch (IllegalArgumentException e) {
+            // an HTTP date or a malformed validator, either way send the whole representation
+            return false;
+        }
+    }
+
+    /**
+     * Parses a single "bytes=" range against the given length.
+     *
+     * @return inclusive start and end offsets, an empty array if the header should be ignored (other units or multiple
+     *         ranges) and the whole file served, or null if the range cannot be satisfied
+     */
+    static long[] parseRange(String range, long length) {
+        final String prefix = BYTES_UNIT + "=";
+        if (!range.startsWith(prefix) || range.indexOf(',') >= 0) {
+            return new long[0];
+        }
+        final String spec = range.substring(prefix.length()).trim();
+        final int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+        try {
+            final String first = spec.substring(0, dash).trim();
+            final String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                final long suffixLength = Long.parseLong(last);
+                if (suffixLength <= 0) {
+                    return null;
+                }
+                start = Math.max(0, length - suffixLength);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            }
+            if (start >= length || start > end) {
+                return null;
+            }
+            return new long[] { start, end };
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+
+    private static StreamingOutput transfer(File file, long position, long count) {
+        return output -> {
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                final WritableByteChannel target = Channels.newChannel(output);
+                long transferred = 0;
+                while (transferred < count) {
+                    final long written = channel.transferTo(position + transferred, count - transferred, target);
+                    if (written <= 0) {
+                        break;
+                    }
+                    transferred += written;
+                }
+            }
+        };
+    }
 }
@@ -18,11 +18,15 @@
  */
 package org.apache.fineract.infrastructure.documentmanagement.contentrepository;
 
-import java.io.BufferedInputStream;
+import java.io.InputStream;
 
 public interface ContentPathSanitizer {
 
     String sanitize(String path);
 
-    String sanitize(String path, BufferedInputStream is);
+    /**
+     * Also checks the content type of the upload. Pass a {@link org.apache.tika.io.TikaInputStream} and keep reading
+     * from it afterwards: detecting some container formats spools the whole upload, which the stream then replays.
+     */
+    String sanitize(String path, InputStream is);
 }
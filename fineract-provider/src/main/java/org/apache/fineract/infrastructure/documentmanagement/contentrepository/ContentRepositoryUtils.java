@@ -19,6 +19,12 @@
 package org.apache.fineract.infrastructure.documentmanagement.contentrepository;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.List;
@@ -172,6 +178,28 @@ public final class ContentRepositoryUtils {
         }
     }
 
+    /**
+     * Wraps an upload so that the size limit of {@link #validateFileSizeWithinPermissibleRange(Long, String)} is enforced
+     * on the bytes actually read, failing as soon as the stream goes past it rather than after it has been stored.
+     */
+    public static InputStream limitToPermissibleSize(final InputStream inputStream, final String name) {
+        return new SizeLimitedInputStream(inputStream, name, (ContentRepository.MAX_FILE_UPLOAD_SIZE_IN_MB + 1L) * 1024 * 1024);
+    }
+
+    /**
+     * Streams the upload into a temporary file next to the target and renames it into place, so a failed or oversized
+     * upload never leaves a partial file behind and readers only ever see complete content.
+     */
+    public static void writeAtomically(final InputStream inputStream, final Path target) throws IOException {
+        final Path temporary = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName().toString(), ".upload");
+        try {
+            Files.copy(inputStream, temporary, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
     public static void validateClientImageNotEmpty(final String imageFileName) {
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         if (imageFileName == null) {
@@ -201,4 +229,54 @@ public final class ContentRepositoryUtils {
         }
         return new String(text);
     }
+
+    private static final class SizeLimitedInputStream extends FilterInputStream {
+
+        private final String name;
+        private final long limit;
+        private long count;
+
+        SizeLimitedInputStream(final InputStream in, final String name, final long limit) {
+            super(in);
+            this.name = name;
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int n = super.read(b, off, len);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final long skipped = super.skip(n);
+            count(skipped);
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void count(final long n) {
+            this.count += n;
+            if (this.count >= this.limit) {
+                throw new ContentManagementException(this.name, this.count, ContentRepository.MAX_FILE_UPLOAD_SIZE_IN_MB);
+            }
+        }
+    }
 }
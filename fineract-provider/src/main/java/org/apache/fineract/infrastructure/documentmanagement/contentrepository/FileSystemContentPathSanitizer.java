@@ -19,7 +19,8 @@
 package org.apache.fineract.infrastructure.documentmanagement.contentrepository;
 
 import jakarta.annotation.PostConstruct;
-import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.regex.Pattern;
@@ -33,8 +34,7 @@ import org.apache.fineract.infrastructure.documentmanagement.exception.ContentMa
 import org.apache.tika.Tika;
 import org.apache.tika.io.TikaInputStream;
 import org.apache.tika.metadata.Metadata;
-import org.apache.tika.parser.AutoDetectParser;
-import org.apache.tika.sax.BodyContentHandler;
+import org.apache.tika.metadata.TikaCoreProperties;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -48,6 +48,9 @@ public class FileSystemContentPathSanitizer implements ContentPathSanitizer {
 
     private static Pattern OVERWRITE_SIBLING_IMAGE = Pattern.compile(".*\\.\\./+[0-9]+/+.*");
 
+    // thread safe, and expensive enough to create that it should not be done per upload
+    private static final Tika TIKA = new Tika();
+
     @PostConstruct
     public void init() {
         regexWhitelist = fineractProperties.getContent().getRegexWhitelist().stream().map(Pattern::compile).toList();
@@ -59,7 +62,7 @@ public class FileSystemContentPathSanitizer implements ContentPathSanitizer {
     }
 
     @Override
-    public String sanitize(String path, BufferedInputStream is) {
+    public String sanitize(String path, InputStream is) {
         try {
             if (OVERWRITE_SIBLING_IMAGE.matcher(path).matches()) {
                 throw new RuntimeException(String.format("Trying to overwrite another resource's image: %s", path));
@@ -82,8 +85,7 @@ public class FileSystemContentPathSanitizer implements ContentPathSanitizer {
             }
 
             if (is != null && fineractProperties.getContent().isMimeWhitelistEnabled()) {
-                Tika tika = new Tika();
-                String extensionMimeType = tika.detect(fileName);
+                String extensionMimeType = TIKA.detect(fileName);
 
                 if (StringUtils.isEmpty(extensionMimeType)) {
                     throw new RuntimeException(String.format("Could not detect mime type for filename %s!", fileName));
@@ -94,7 +96,7 @@ public class FileSystemContentPathSanitizer implements ContentPathSanitizer {
                             String.format("Detected mime type %s for filename %s not allowed!", extensionMimeType, fileName));
                 }
 
-                String contentMimeType = detectContentMimeType(is);
+                String contentMimeType = detectContentMimeType(is, fileName);
 
                 if (StringUtils.isEmpty(contentMimeType)) {
                     throw new RuntimeException(String.format("Could not detect content mime type for %s!", fileName));
@@ -125,14 +127,16 @@ public class FileSystemContentPathSanitizer implements ContentPathSanitizer {
         }
     }
 
-    private String detectContentMimeType(BufferedInputStream bis) throws Exception {
-        TikaInputStream tis = TikaInputStream.get(bis);
-        AutoDetectParser parser = new AutoDetectParser();
-        // NOTE: turn off write limit with "-1"
-        BodyContentHandler handler = new BodyContentHandler(-1);
-        Metadata metadata = new Metadata();
-        parser.parse(tis, handler, metadata);
-
-        return metadata.get("Content-Type");
+    /**
+     * Detects the type with Tika's detectors instead of parsing the upload. The file name lets them tell apart formats
+     * sharing a container, such as the Office Open XML ones. They leave the stream at its start, so the upload can still
+     * be written out in full afterwards.
+     */
+    private String detectContentMimeType(InputStream is, String fileName) throws IOException {
+        // not closed here, the caller still has to write the upload out
+        final TikaInputStream tis = TikaInputStream.get(is);
+        final Metadata metadata = new Metadata();
+        metadata.set(TikaCoreProperties.RESOURCE_NAME_KEY, fileName);
+        return TIKA.detect(tis, metadata);
     }
 }
@@ -19,15 +19,14 @@
 package org.apache.fineract.infrastructure.documentmanagement.contentrepository;
 
 import com.google.common.io.Files;
-import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.Base64;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.FileUtils;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.Base64EncodedImage;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
@@ -37,6 +36,7 @@ import org.apache.fineract.infrastructure.documentmanagement.data.FileData;
 import org.apache.fineract.infrastructure.documentmanagement.data.ImageData;
 import org.apache.fineract.infrastructure.documentmanagement.domain.StorageType;
 import org.apache.fineract.infrastructure.documentmanagement.exception.ContentManagementException;
+import org.apache.tika.io.TikaInputStream;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
@@ -107,7 +107,7 @@ public class FileSystemContentRepository implements ContentRepository {
         String sanitizedPath = pathSanitizer.sanitize(documentData.fileLocation());
 
         final File file = new File(sanitizedPath);
-        return new FileData(Files.asByteSource(file), documentData.fileName(), documentData.contentType());
+        return new FileData(file, documentData.fileName(), documentData.contentType());
     }
 
     @Override
@@ -115,7 +115,7 @@ public class FileSystemContentRepository implements ContentRepository {
         String sanitizedPath = pathSanitizer.sanitize(imageData.location());
 
         final File file = new File(sanitizedPath);
-        return new FileData(Files.asByteSource(file), imageData.getEntityDisplayName(), imageData.contentType().getValue());
+        return new FileData(file, imageData.getEntityDisplayName(), imageData.contentType().getValue());
     }
 
     @Override
@@ -151,10 +151,10 @@ public class FileSystemContentRepository implements ContentRepository {
     }
 
     private String writeFileToFileSystem(final String fileName, final InputStream uploadedInputStream, final String fileLocation) {
-        try (BufferedInputStream bis = new BufferedInputStream(uploadedInputStream)) {
-            String sanitizedPath = pathSanitizer.sanitize(fileLocation, bis);
+        try (TikaInputStream tis = TikaInputStream.get(ContentRepositoryUtils.limitToPermissibleSize(uploadedInputStream, fileName))) {
+            String sanitizedPath = pathSanitizer.sanitize(fileLocation, tis);
             makeDirectories(sanitizedPath);
-            FileUtils.copyInputStreamToFile(bis, new File(sanitizedPath)); // NOSONAR
+            ContentRepositoryUtils.writeAtomically(tis, Path.of(sanitizedPath)); // NOSONAR
             return sanitizedPath;
         } catch (final IOException ioException) {
             log.warn("Failed to write file!", ioException);
@@ -23,10 +23,12 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Base64;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.IOUtils;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.Base64EncodedImage;
 import org.apache.fineract.infrastructure.documentmanagement.command.DocumentCommand;
@@ -150,17 +152,37 @@ public class S3ContentRepository implements ContentRepository {
         }
     }
 
+    /**
+     * Spools the upload to a local temporary file under the size limit and lets the SDK stream that file, instead of
+     * holding the whole object in memory while it is sent.
+     */
     public void putObject(final String filename, final InputStream inputStream, final String s3UploadLocation)
             throws ContentManagementException {
+        Path spooled = null;
         try {
             if (log.isDebugEnabled()) {
                 log.debug("Uploading a new object to S3 {}", LogParameterEscapeUtil.escapeLogParameter(s3UploadLocation));
             }
+            spooled = Files.createTempFile("fineract-s3-upload", ".tmp");
+            Files.copy(ContentRepositoryUtils.limitToPermissibleSize(inputStream, filename), spooled, StandardCopyOption.REPLACE_EXISTING);
             this.s3Client.putObject(
                     builder -> builder.bucket(fineractProperties.getContent().getS3().getBucketName()).key(s3UploadLocation),
-                    RequestBody.fromBytes(IOUtils.toByteArray(inputStream)));
+                    RequestBody.fromFile(spooled));
         } catch (AwsServiceException | IOException ase) {
             throw new ContentManagementException(filename, ase.getMessage(), ase);
+        } finally {
+            deleteSpooledFile(spooled);
+        }
+    }
+
+    private void deleteSpooledFile(final Path spooled) {
+        if (spooled == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(spooled);
+        } catch (IOException e) {
+            log.warn("Unable to delete spooled upload {}", spooled, e);
         }
     }
 
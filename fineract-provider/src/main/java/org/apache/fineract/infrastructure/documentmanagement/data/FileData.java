@@ -19,17 +19,31 @@
 package org.apache.fineract.infrastructure.documentmanagement.data;
 
 import com.google.common.io.ByteSource;
+import com.google.common.io.Files;
+import java.io.File;
 
 public class FileData {
 
     private final String fileName;
     private final String contentType;
     private final ByteSource byteSource;
+    private final File file;
 
     public FileData(final ByteSource byteSource, final String fileName, final String contentType) {
         this.fileName = fileName;
         this.contentType = contentType;
         this.byteSource = byteSource;
+        this.file = null;
+    }
+
+    /**
+     * File backed content, which lets the API layer stream it straight from disk and answer conditional and range requests.
+     */
+    public FileData(final File file, final String fileName, final String contentType) {
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.byteSource = Files.asByteSource(file);
+        this.file = file;
     }
 
     public String contentType() {
@@ -43,4 +57,11 @@ public class FileData {
     public ByteSource getByteSource() {
         return this.byteSource;
     }
+
+    /**
+     * @return the backing file, or null if the content does not live on the local file system
+     */
+    public File getFile() {
+        return this.file;
+    }
 }
@@ -0,0 +1,132 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.documentmanagement.data;
+
+import com.google.common.hash.Hashing;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FileUtils;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps resized images on disk, so that a thumbnail is only decoded, scaled and encoded once per source image and size
+ * instead of on every request.
+ *
+ * Renditions live under {@code <rootFolder>/<tenant>/renditions/<entity>/<entityId>} and their names carry a fingerprint
+ * of the source file, so a replaced image never serves an old thumbnail even if {@link #evict(String, Long)} did not
+ * run on this node. Sizes come from the request, so at most
+ * {@code fineract.content.rendition-cache.max-renditions-per-image} renditions are kept per image and the oldest ones
+ * are dropped to make room for a new one.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ImageRenditionCache {
+
+    private final FineractProperties fineractProperties;
+    private final ImageResizer imageResizer;
+
+    public boolean isEnabled() {
+        return fineractProperties.getContent().getRenditionCache().isEnabled();
+    }
+
+    public FileData resize(final String entityName, final Long entityId, final FileData image, final Integer maxWidth,
+            final Integer maxHeight) {
+        final File source = image.getFile();
+        if (!isEnabled() || source == null || !source.isFile() || maxWidth == null) {
+            return imageResizer.resize(image, maxWidth, maxHeight);
+        }
+        final File rendition = new File(renditionDirectory(entityName, entityId), renditionName(source, maxWidth, maxHeight));
+        if (!rendition.isFile()) {
+            final FileData resized = imageResizer.resize(image, maxWidth, maxHeight);
+            try {
+                makeRoom(rendition.getParentFile(), maxRenditionsPerImage() - 1);
+                write(resized, rendition);
+            } catch (IOException e) {
+                log.warn("Unable to cache rendition {}, serving it uncached: {}", rendition, e.getMessage(), e);
+                return resized;
+            }
+        }
+        return new FileData(rendition, image.name(), image.contentType());
+    }
+
+    /**
+     * Drops every cached rendition of the entity's image, called whenever the image is replaced or deleted.
+     */
+    public void evict(final String entityName, final Long entityId) {
+        FileUtils.deleteQuietly(renditionDirectory(entityName, entityId));
+    }
+
+    private int maxRenditionsPerImage() {
+        return Math.max(1, fineractProperties.getContent().getRenditionCache().getMaxRenditionsPerImage());
+    }
+
+    /**
+     * Deletes the oldest renditions of the directory until at most {@code keep} are left.
+     */
+    private static void makeRoom(final File directory, final int keep) {
+        final File[] renditions = directory.listFiles(file -> file.isFile() && !file.getName().endsWith(".tmp"));
+        if (renditions == null || renditions.length <= keep) {
+            return;
+        }
+        Arrays.sort(renditions, Comparator.comparingLong(File::lastModified));
+        for (int i = 0; i < renditions.length - keep; i++) {
+            FileUtils.deleteQuietly(renditions[i]);
+        }
+    }
+
+    private File renditionDirectory(final String entityName, final Long entityId) {
+        return new File(fineractProperties.getContent().getFilesystem().getRootFolder() + File.separator
+                + ThreadLocalContextUtil.getTenant().getName().replaceAll(" ", "").trim() + File.separator + "renditions" + File.separator
+                + entityName.toLowerCase() + File.separator + entityId);
+    }
+
+    private static String renditionName(final File source, final Integer maxWidth, final Integer maxHeight) {
+        final String fingerprint = source.getAbsolutePath() + ':' + source.length() + ':' + source.lastModified();
+        return maxWidth + "x" + (maxHeight != null ? maxHeight : "") + "-"
+                + Hashing.sha256().hashString(fingerprint, StandardCharsets.UTF_8).toString().substring(0, 16);
+    }
+
+    /**
+     * Writes through a temporary file in the same directory and moves it into place, so that concurrent requests never
+     * see a partially written rendition.
+     */
+    private static void write(final FileData resized, final File rendition) throws IOException {
+        final Path directory = rendition.getParentFile().toPath();
+        Files.createDirectories(directory);
+        final Path temporary = Files.createTempFile(directory, rendition.getName(), ".tmp");
+        try (InputStream is = resized.getByteSource().openStream()) {
+            Files.copy(is, temporary, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temporary, rendition.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+}
@@ -41,7 +41,7 @@ public class ImageResizer {
     private static final Logger LOG = LoggerFactory.getLogger(ImageResizer.class);
 
     public FileData resize(FileData fileData, Integer maxWidth, Integer maxHeight) {
-        if (maxWidth == null && maxHeight != null) {
+        if (maxWidth == null) {
             return fileData;
         }
         try (InputStream is = fileData.getByteSource().openBufferedStream()) {
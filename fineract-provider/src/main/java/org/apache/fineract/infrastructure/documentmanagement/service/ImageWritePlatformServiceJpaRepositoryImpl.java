@@ -24,6 +24,7 @@ import org.apache.fineract.infrastructure.core.domain.Base64EncodedImage;
 import org.apache.fineract.infrastructure.documentmanagement.api.ImagesApiResource.EntityTypeForImages;
 import org.apache.fineract.infrastructure.documentmanagement.contentrepository.ContentRepository;
 import org.apache.fineract.infrastructure.documentmanagement.contentrepository.ContentRepositoryFactory;
+import org.apache.fineract.infrastructure.documentmanagement.data.ImageRenditionCache;
 import org.apache.fineract.infrastructure.documentmanagement.domain.Image;
 import org.apache.fineract.infrastructure.documentmanagement.domain.ImageRepository;
 import org.apache.fineract.infrastructure.documentmanagement.domain.StorageType;
@@ -42,15 +43,17 @@ public class ImageWritePlatformServiceJpaRepositoryImpl implements ImageWritePla
     private final ClientRepositoryWrapper clientRepositoryWrapper;
     private final ImageRepository imageRepository;
     private final StaffRepositoryWrapper staffRepositoryWrapper;
+    private final ImageRenditionCache imageRenditionCache;
 
     @Autowired
     public ImageWritePlatformServiceJpaRepositoryImpl(final ContentRepositoryFactory documentStoreFactory,
             final ClientRepositoryWrapper clientRepositoryWrapper, final ImageRepository imageRepository,
-            StaffRepositoryWrapper staffRepositoryWrapper) {
+            StaffRepositoryWrapper staffRepositoryWrapper, final ImageRenditionCache imageRenditionCache) {
         this.contentRepositoryFactory = documentStoreFactory;
         this.clientRepositoryWrapper = clientRepositoryWrapper;
         this.imageRepository = imageRepository;
         this.staffRepositoryWrapper = staffRepositoryWrapper;
+        this.imageRenditionCache = imageRenditionCache;
     }
 
     @Transactional
@@ -102,6 +105,7 @@ public class ImageWritePlatformServiceJpaRepositoryImpl implements ImageWritePla
             contentRepository.deleteImage(image.getLocation());
             this.imageRepository.delete(image);
         }
+        this.imageRenditionCache.evict(entityName, clientId);
 
         return CommandProcessingResult.resourceResult(clientId);
     }
@@ -128,6 +132,7 @@ public class ImageWritePlatformServiceJpaRepositoryImpl implements ImageWritePla
                     .getRepository(StorageType.fromInt(image.getStorageType()));
             contentRepository.deleteImage(image.getLocation());
         }
+        this.imageRenditionCache.evict(entityName, entityId);
         return owner;
     }
 
@@ -24,6 +24,7 @@ import org.apache.activemq.command.ActiveMQTopic;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractExternalEventsProducerJmsProperties;
 import org.apache.fineract.infrastructure.core.config.TaskExecutorConstant;
+import org.apache.fineract.infrastructure.core.config.VirtualThreadSupport;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
@@ -38,6 +39,8 @@ public class ExternalEventJMSConfiguration {
 
     @Autowired
     private FineractProperties fineractProperties;
+    @Autowired
+    private VirtualThreadSupport virtualThreadSupport;
 
     @Bean(name = "externalEventConnectionFactory")
     public CachingConnectionFactory connectionFactory() {
@@ -77,6 +80,7 @@ public class ExternalEventJMSConfiguration {
         threadPoolTaskExecutor
                 .setMaxPoolSize(fineractProperties.getEvents().getExternal().getProducer().getJms().getThreadPoolTaskExecutorMaxPoolSize());
         threadPoolTaskExecutor.setThreadNamePrefix("externalEventJms");
+        virtualThreadSupport.configure(threadPoolTaskExecutor, "externalEventJms");
         return threadPoolTaskExecutor;
     }
 }
@@ -0,0 +1,147 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.relay;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.tenant.TenantDetailsService;
+import org.apache.fineract.infrastructure.event.external.jobs.SendAsynchronousEventsTasklet;
+import org.apache.fineract.infrastructure.event.external.service.ExternalEventRelaySignal;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Long-running alternative to the Send Asynchronous Events job.
+ *
+ * A single thread on every batch manager node waits for {@link ExternalEventRelaySignal}, which is raised after a
+ * transaction wrote to the outbox, or on PostgreSQL by {@link PostgreSQLExternalEventListener} for transactions
+ * committed on other nodes. It then sends the queued events of the signalled tenants right away. Every tenant is also
+ * polled on a fallback interval, which covers MySQL clusters and lost notifications. The queued events are read with a
+ * row lock, so relays on several nodes take turns on a tenant's queue and never send the same event twice.
+ *
+ * While a batch comes back full the tenant has a backlog, so the batch size doubles up to the configured maximum until
+ * it is drained, and halves back towards the configured External Event Batch Size afterwards.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ExternalEventRelay implements ApplicationListener<ContextRefreshedEvent>, DisposableBean {
+
+    private final FineractProperties fineractProperties;
+    private final ExternalEventRelaySignal relaySignal;
+    private final SendAsynchronousEventsTasklet sender;
+    private final TenantDetailsService tenantDetailsService;
+    private final PlatformTransactionManager transactionManager;
+    private final PostgreSQLExternalEventListener postgreSQLListener;
+
+    // only touched by the relay thread
+    private final Map<String, Integer> batchSizes = new HashMap<>();
+
+    private volatile boolean running;
+    private Thread relayThread;
+
+    @Override
+    public synchronized void onApplicationEvent(ContextRefreshedEvent event) {
+        if (relayThread != null || !relaySignal.isEnabled() || !fineractProperties.getMode().isBatchManagerEnabled()) {
+            return;
+        }
+        running = true;
+        relayThread = new Thread(this::run, "External-Event-Relay");
+        relayThread.setDaemon(true);
+        relayThread.start();
+        log.info("External event relay started");
+    }
+
+    @Override
+    public synchronized void destroy() {
+        running = false;
+        postgreSQLListener.stop();
+        if (relayThread != null) {
+            relayThread.interrupt();
+        }
+    }
+
+    private void run() {
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        final long pollIntervalMillis = fineractProperties.getEvents().getExternal().getRelay().getFallbackPollIntervalMillis();
+        List<FineractPlatformTenant> tenants = tenantDetailsService.findAllTenants();
+        if (relaySignal.isPostgresNotifyEnabled()) {
+            postgreSQLListener.start(tenants);
+        }
+        Set<String> signalled = Set.of();
+        while (running) {
+            try {
+                if (signalled.isEmpty()) {
+                    // fallback poll, also picks up tenants created since the last one
+                    tenants = tenantDetailsService.findAllTenants();
+                }
+                for (FineractPlatformTenant tenant : tenants) {
+                    if (signalled.isEmpty() || signalled.contains(tenant.getTenantIdentifier())) {
+                        relay(tenant, transactionTemplate);
+                    }
+                }
+                signalled = relaySignal.awaitSignals(pollIntervalMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("External event relay iteration failed", e);
+                signalled = Set.of();
+            }
+        }
+    }
+
+    void relay(FineractPlatformTenant tenant, TransactionTemplate transactionTemplate) {
+        final String tenantIdentifier = tenant.getTenantIdentifier();
+        ThreadLocalContextUtil.setTenant(tenant);
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        try {
+            if (!sender.isDownstreamChannelEnabled()) {
+                return;
+            }
+            final int minBatchSize = sender.getBatchSize();
+            final int maxBatchSize = Math.max(minBatchSize, fineractProperties.getEvents().getExternal().getRelay().getMaxBatchSize());
+            int batchSize = Math.max(minBatchSize, batchSizes.getOrDefault(tenantIdentifier, minBatchSize));
+            boolean backlog = true;
+            while (backlog && !Thread.currentThread().isInterrupted()) {
+                final int requested = batchSize;
+                final Integer sent = transactionTemplate.execute(status -> sender.sendQueuedEvents(requested));
+                backlog = sent != null && sent >= requested;
+                batchSize = backlog ? Math.min(requested * 2, maxBatchSize) : Math.max(minBatchSize, requested / 2);
+            }
+            batchSizes.put(tenantIdentifier, batchSize);
+        } catch (RuntimeException e) {
+            log.error("Failed to relay external events of tenant {}", tenantIdentifier, e);
+        } finally {
+            ThreadLocalContextUtil.reset();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.relay;
+
+import com.zaxxer.hikari.HikariConfig;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.database.DataSourcePerTenantServiceFactory;
+import org.apache.fineract.infrastructure.event.external.service.ExternalEventRelaySignal;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps one connection per tenant database in {@code LISTEN} on {@link ExternalEventRelaySignal#NOTIFY_CHANNEL} and
+ * turns the notifications, which PostgreSQL only delivers for committed transactions, into relay signals.
+ *
+ * Each listening connection is opened straight through the JDBC driver with the tenant's connection settings rather than
+ * taken from its pool, which would otherwise lose one connection per tenant for as long as the relay runs.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PostgreSQLExternalEventListener {
+
+    private static final int NOTIFICATION_TIMEOUT_MILLIS = 1_000;
+    private static final long RECONNECT_DELAY_MILLIS = 5_000L;
+
+    private final DataSourcePerTenantServiceFactory dataSourcePerTenantServiceFactory;
+    private final ExternalEventRelaySignal relaySignal;
+
+    private volatile boolean running;
+    private ExecutorService executor;
+
+    public synchronized void start(List<FineractPlatformTenant> tenants) {
+        if (running) {
+            return;
+        }
+        running = true;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("External-Event-Listener-");
+        threadFactory.setDaemon(true);
+        executor = Executors.newFixedThreadPool(Math.max(1, tenants.size()), threadFactory);
+        tenants.forEach(tenant -> executor.execute(() -> listen(tenant)));
+    }
+
+    public synchronized void stop() {
+        running = false;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void listen(FineractPlatformTenant tenant) {
+        final String tenantIdentifier = tenant.getTenantIdentifier();
+        while (running) {
+            try (Connection connection = openConnection(tenant); Statement statement = connection.createStatement()) {
+                connection.setAutoCommit(true);
+                statement.execute("LISTEN " + ExternalEventRelaySignal.NOTIFY_CHANNEL);
+                final PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                // anything committed before the LISTEN took effect would otherwise wait for the fallback poll
+                relaySignal.signal(tenantIdentifier);
+                while (running) {
+                    final PGNotification[] notifications = pgConnection.getNotifications(NOTIFICATION_TIMEOUT_MILLIS);
+                    if (notifications != null && notifications.length > 0) {
+                        relaySignal.signal(tenantIdentifier);
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Listening for external events of tenant {} failed, reconnecting in {}ms: {}", tenantIdentifier,
+                        RECONNECT_DELAY_MILLIS, e.getMessage());
+                if (!sleep(RECONNECT_DELAY_MILLIS)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private Connection openConnection(FineractPlatformTenant tenant) throws SQLException {
+        final HikariConfig config = dataSourcePerTenantServiceFactory.createHikariConfigFor(tenant.getConnection());
+        final Properties properties = new Properties();
+        properties.putAll(config.getDataSourceProperties());
+        properties.setProperty("user", config.getUsername());
+        if (config.getPassword() != null) {
+            properties.setProperty("password", config.getPassword());
+        }
+        return DriverManager.getConnection(config.getJdbcUrl(), properties);
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -39,6 +39,7 @@ public class FineractHookListener implements HookListener {
 
     private final HookProcessorProvider hookProcessorProvider;
     private final HookReadPlatformService hookReadPlatformService;
+    private final HookDeliveryWorkers hookDeliveryWorkers;
 
     @Override
     public void onApplicationEvent(final HookEvent event) {
@@ -56,14 +57,31 @@ public class FineractHookListener implements HookListener {
                 hookEventSource.getActionName());
 
         for (final Hook hook : hooks) {
-            final HookProcessor processor = hookProcessorProvider.getProcessor(hook);
-            try {
-                processor.process(hook, payload, entityName, actionName, fineractContext);
-            } catch (Throwable e) {
-                log.error("Hook {} failed in HookProcessor {} for tenantIdentifier/user {}/{}, entityName: {}, actionName: {}, payload {} ",
-                        hook.getId(), processor.getClass().getSimpleName(), fineractContext.getTenantContext().getTenantIdentifier(),
-                        appUser.getDisplayName(), entityName, actionName, payload, e);
+            if (hookDeliveryWorkers.isEnabled()) {
+                String endpoint = fineractContext.getTenantContext().getTenantIdentifier() + ":" + hook.getId();
+                hookDeliveryWorkers.submit(endpoint, () -> {
+                    ThreadLocalContextUtil.init(fineractContext);
+                    try {
+                        deliver(hook, appUser, fineractContext, entityName, actionName, payload);
+                    } finally {
+                        ThreadLocalContextUtil.reset();
+                    }
+                });
+            } else {
+                deliver(hook, appUser, fineractContext, entityName, actionName, payload);
             }
         }
     }
+
+    private void deliver(final Hook hook, final AppUser appUser, final FineractContext fineractContext, final String entityName,
+            final String actionName, final String payload) {
+        final HookProcessor processor = hookProcessorProvider.getProcessor(hook);
+        try {
+            processor.process(hook, payload, entityName, actionName, fineractContext);
+        } catch (Throwable e) {
+            log.error("Hook {} failed in HookProcessor {} for tenantIdentifier/user {}/{}, entityName: {}, actionName: {}, payload {} ",
+                    hook.getId(), processor.getClass().getSimpleName(), fineractContext.getTenantContext().getTenantIdentifier(),
+                    appUser.getDisplayName(), entityName, actionName, payload, e);
+        }
+    }
 }
@@ -0,0 +1,132 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.hooks.listener;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * One single threaded worker with a bounded queue per hook endpoint, so a slow or unreachable endpoint only delays its
+ * own deliveries. A worker thread is started on demand and stops after a minute without deliveries; the worker itself
+ * is removed once its endpoint had no delivery for {@code fineract.hook.delivery-worker-idle-seconds}, so deleted hooks
+ * and removed tenants do not keep one forever. Deliveries that do not fit in the queue of their endpoint are dropped,
+ * logged and counted.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HookDeliveryWorkers implements DisposableBean {
+
+    private static final int DEFAULT_QUEUE_CAPACITY = 1000;
+    private static final int DEFAULT_IDLE_SECONDS = 600;
+
+    private final FineractProperties fineractProperties;
+
+    private final Map<String, Worker> workers = new ConcurrentHashMap<>();
+    private final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("Hook-Delivery-Thread-");
+    private final AtomicLong droppedDeliveries = new AtomicLong();
+    private final AtomicLong lastEviction = new AtomicLong(System.nanoTime());
+
+    public boolean isEnabled() {
+        FineractProperties.FineractHookProperties properties = fineractProperties.getHook();
+        return properties != null && properties.isDeliveryWorkersEnabled();
+    }
+
+    public void submit(String endpoint, Runnable delivery) {
+        long now = System.nanoTime();
+        boolean[] rejected = new boolean[1];
+        // submitting under compute keeps an eviction of the same endpoint from shutting the worker down in between
+        workers.compute(endpoint, (key, current) -> {
+            Worker worker = current == null ? createWorker() : current;
+            try {
+                worker.executor().execute(delivery);
+            } catch (RejectedExecutionException e) {
+                rejected[0] = true;
+            }
+            worker.lastSubmitted().set(now);
+            return worker;
+        });
+        if (rejected[0]) {
+            long dropped = droppedDeliveries.incrementAndGet();
+            log.error("Delivery queue of hook endpoint {} is full, the event is dropped ({} hook deliveries dropped so far)", endpoint,
+                    dropped);
+        }
+        long last = lastEviction.get();
+        if (now - last >= TimeUnit.SECONDS.toNanos(idleSeconds()) && lastEviction.compareAndSet(last, now)) {
+            evictIdleWorkers(now);
+        }
+    }
+
+    /**
+     * @return the number of deliveries dropped because the queue of their endpoint was full
+     */
+    public long getDroppedDeliveries() {
+        return droppedDeliveries.get();
+    }
+
+    int getWorkerCount() {
+        return workers.size();
+    }
+
+    void evictIdleWorkers(long now) {
+        long idleNanos = TimeUnit.SECONDS.toNanos(idleSeconds());
+        for (String endpoint : workers.keySet()) {
+            workers.computeIfPresent(endpoint, (key, worker) -> {
+                if (now - worker.lastSubmitted().get() < idleNanos || worker.executor().getActiveCount() > 0
+                        || !worker.executor().getQueue().isEmpty()) {
+                    return worker;
+                }
+                worker.executor().shutdown();
+                return null;
+            });
+        }
+    }
+
+    private Worker createWorker() {
+        FineractProperties.FineractHookProperties properties = fineractProperties.getHook();
+        int queueCapacity = properties == null ? DEFAULT_QUEUE_CAPACITY : Math.max(1, properties.getDeliveryQueueCapacity());
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(0, 1, 1, TimeUnit.MINUTES, new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory);
+        return new Worker(executor, new AtomicLong());
+    }
+
+    private int idleSeconds() {
+        FineractProperties.FineractHookProperties properties = fineractProperties.getHook();
+        return properties == null || properties.getDeliveryWorkerIdleSeconds() <= 0 ? DEFAULT_IDLE_SECONDS
+                : properties.getDeliveryWorkerIdleSeconds();
+    }
+
+    @Override
+    public void destroy() {
+        workers.values().forEach(worker -> worker.executor().shutdownNow());
+    }
+
+    private record Worker(ThreadPoolExecutor executor, AtomicLong lastSubmitted) {}
+}
@@ -0,0 +1,115 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.hooks.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.hooks.domain.Hook;
+import org.apache.fineract.infrastructure.hooks.domain.HookRepository;
+import org.apache.fineract.infrastructure.hooks.domain.HookResource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Active hooks of each tenant indexed by the (entity, action) pairs they listen to. A tenant is loaded on its first
+ * event and reloaded after the hooks were changed on this node or, for changes made on other nodes, after
+ * {@code fineract.hook.registry-refresh-seconds}.
+ */
+@Service
+@RequiredArgsConstructor
+public class HookRegistryImpl implements HookRegistry {
+
+    private static final int DEFAULT_REFRESH_SECONDS = 60;
+
+    private final HookRepository hookRepository;
+    private final FineractProperties fineractProperties;
+
+    private final Map<String, TenantHooks> hooksByTenant = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean hasHooks(String entityName, String actionName) {
+        return !getHooks(entityName, actionName).isEmpty();
+    }
+
+    public List<Hook> getHooks(String entityName, String actionName) {
+        return tenantHooks().hooksByEvent().getOrDefault(new HookEventKey(entityName, actionName), List.of());
+    }
+
+    /**
+     * Drops the hooks of the current tenant once the running transaction, if any, is committed.
+     */
+    public void invalidate() {
+        String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    hooksByTenant.remove(tenantIdentifier);
+                }
+            });
+        } else {
+            hooksByTenant.remove(tenantIdentifier);
+        }
+    }
+
+    private TenantHooks tenantHooks() {
+        String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+        long now = System.nanoTime();
+        TenantHooks hooks = hooksByTenant.get(tenantIdentifier);
+        if (isFresh(hooks, now)) {
+            return hooks;
+        }
+        // loading under compute makes an invalidation wait for a load in progress, so a stale load is never kept
+        return hooksByTenant.compute(tenantIdentifier, (tenant, current) -> isFresh(current, now) ? current : load(now));
+    }
+
+    private boolean isFresh(TenantHooks hooks, long now) {
+        return hooks != null && now - hooks.loadedAt() < TimeUnit.SECONDS.toNanos(refreshSeconds());
+    }
+
+    private int refreshSeconds() {
+        FineractProperties.FineractHookProperties properties = fineractProperties.getHook();
+        return properties == null ? DEFAULT_REFRESH_SECONDS : properties.getRegistryRefreshSeconds();
+    }
+
+    private TenantHooks load(long now) {
+        Map<HookEventKey, List<Hook>> hooksByEvent = new HashMap<>();
+        for (Hook hook : hookRepository.findAllActiveHooks()) {
+            for (HookResource event : hook.getEvents()) {
+                hooksByEvent.computeIfAbsent(new HookEventKey(event.getEntityName(), event.getActionName()), key -> new ArrayList<>())
+                        .add(hook);
+            }
+        }
+        hooksByEvent.replaceAll((key, hooks) -> List.copyOf(hooks));
+        return new TenantHooks(Map.copyOf(hooksByEvent), now);
+    }
+
+    private record HookEventKey(String entityName, String actionName) {}
+
+    private record TenantHooks(Map<HookEventKey, List<Hook>> hooksByEvent, long loadedAt) {}
+}
@@ -64,7 +64,6 @@ import org.apache.fineract.infrastructure.security.service.PlatformSecurityConte
 import org.apache.fineract.template.domain.Template;
 import org.apache.fineract.template.domain.TemplateRepository;
 import org.apache.fineract.template.exception.TemplateNotFoundException;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.orm.jpa.JpaSystemException;
 import org.springframework.stereotype.Service;
@@ -81,14 +80,15 @@ public class HookWritePlatformServiceJpaRepositoryImpl implements HookWritePlatf
     private final HookCommandFromApiJsonDeserializer fromApiJsonDeserializer;
     private final FromJsonHelper fromApiJsonHelper;
     private final ProcessorHelper processorHelper;
+    private final HookRegistryImpl hookRegistry;
 
     @Transactional
     @Override
-    @CacheEvict(value = "hooks", allEntries = true)
     public CommandProcessingResult createHook(final JsonCommand command) {
 
         try {
             this.context.authenticatedUser();
+            this.hookRegistry.invalidate();
 
             this.fromApiJsonDeserializer.validateForCreate(command.json());
 
@@ -122,11 +122,11 @@ public class HookWritePlatformServiceJpaRepositoryImpl implements HookWritePlatf
 
     @Transactional
     @Override
-    @CacheEvict(value = "hooks", allEntries = true)
     public CommandProcessingResult updateHook(final Long hookId, final JsonCommand command) {
 
         try {
             this.context.authenticatedUser();
+            this.hookRegistry.invalidate();
 
             this.fromApiJsonDeserializer.validateForUpdate(command.json());
 
@@ -183,10 +183,10 @@ public class HookWritePlatformServiceJpaRepositoryImpl implements HookWritePlatf
 
     @Transactional
     @Override
-    @CacheEvict(value = "hooks", allEntries = true)
     public CommandProcessingResult deleteHook(final Long hookId) {
 
         this.context.authenticatedUser();
+        this.hookRegistry.invalidate();
         final Hook hook = retrieveHookBy(hookId);
         try {
             this.hookRepository.delete(hook);
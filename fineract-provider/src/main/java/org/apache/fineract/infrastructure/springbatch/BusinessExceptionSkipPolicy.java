@@ -0,0 +1,38 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.springbatch;
+
+import java.util.Map;
+import org.apache.fineract.infrastructure.core.exception.AbstractPlatformDomainRuleException;
+import org.apache.fineract.infrastructure.core.exception.AbstractPlatformResourceNotFoundException;
+import org.apache.fineract.infrastructure.core.exception.AbstractPlatformServiceUnavailableException;
+import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
+import org.springframework.batch.core.step.skip.LimitCheckingItemSkipPolicy;
+
+/**
+ * Skips items failing with a business rule or validation exception, up to <code>skipLimit</code> items per step
+ * execution. Any other exception, and exceeding the limit, fails the step.
+ */
+public class BusinessExceptionSkipPolicy extends LimitCheckingItemSkipPolicy {
+
+    public BusinessExceptionSkipPolicy(int skipLimit) {
+        super(skipLimit, Map.of(AbstractPlatformDomainRuleException.class, true, PlatformApiDataValidationException.class, true,
+                AbstractPlatformResourceNotFoundException.class, true, AbstractPlatformServiceUnavailableException.class, true));
+    }
+}
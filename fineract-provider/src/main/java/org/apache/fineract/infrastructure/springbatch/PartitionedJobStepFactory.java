@@ -0,0 +1,91 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.springbatch;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.cob.loan.ContextAwareTaskDecorator;
+import org.apache.fineract.infrastructure.core.config.VirtualThreadSupport;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.FaultTolerantStepBuilder;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Builds the manager step, the worker step and the task executor of the local partitioned jobs configured in
+ * <code>fineract.partitioned-job</code>.
+ */
+@Component
+@RequiredArgsConstructor
+public class PartitionedJobStepFactory {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final PropertyService propertyService;
+    private final VirtualThreadSupport virtualThreadSupport;
+
+    public Step managerStep(String jobName, String workerStepName, Partitioner partitioner, Step workerStep, TaskExecutor taskExecutor) {
+        return new StepBuilder(jobName, jobRepository).partitioner(workerStepName, partitioner).step(workerStep).taskExecutor(taskExecutor)
+                .build();
+    }
+
+    /**
+     * Chunk oriented worker step which retries concurrency failures and skips business exceptions up to the skip limit of
+     * the job, the caller adds the reader, processor and writer.
+     */
+    public <I, O> FaultTolerantStepBuilder<I, O> workerStep(String jobName, String workerStepName, SkipListener<I, O> skipListener) {
+        return new StepBuilder(workerStepName, jobRepository).<I, O>chunk(propertyService.getChunkSize(jobName), transactionManager) //
+                .faultTolerant() //
+                .retry(ConcurrencyFailureException.class) //
+                .retryLimit(propertyService.getRetryLimit(jobName)) //
+                .skipPolicy(new BusinessExceptionSkipPolicy(propertyService.getSkipLimit(jobName))) //
+                .listener(skipListener);
+    }
+
+    public TaskExecutor taskExecutor(String jobName, String threadGroupName) {
+        if (propertyService.getThreadPoolMaxPoolSize(jobName) == 1) {
+            return new SyncTaskExecutor();
+        }
+        final String threadNamePrefix = threadGroupName + "-";
+        ContextAwareTaskDecorator contextAwareTaskDecorator = new ContextAwareTaskDecorator();
+        TaskDecorator taskDecorator = runnable -> contextAwareTaskDecorator.decorate(new DelegatingSecurityContextRunnable(runnable));
+        if (virtualThreadSupport.isEnabled()) {
+            return virtualThreadSupport.createTaskExecutor(threadNamePrefix, propertyService.getThreadPoolMaxPoolSize(jobName),
+                    taskDecorator);
+        }
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setThreadNamePrefix(threadNamePrefix);
+        taskExecutor.setThreadGroupName(threadGroupName);
+        taskExecutor.setCorePoolSize(propertyService.getThreadPoolCorePoolSize(jobName));
+        taskExecutor.setMaxPoolSize(propertyService.getThreadPoolMaxPoolSize(jobName));
+        taskExecutor.setQueueCapacity(propertyService.getThreadPoolQueueCapacity(jobName));
+        taskExecutor.setAllowCoreThreadTimeOut(true);
+        taskExecutor.setTaskDecorator(taskDecorator);
+        return taskExecutor;
+    }
+}
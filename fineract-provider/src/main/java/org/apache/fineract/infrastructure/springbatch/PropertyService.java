@@ -26,6 +26,8 @@ public interface PropertyService {
 
     Integer getRetryLimit(String jobName);
 
+    Integer getSkipLimit(String jobName);
+
     Integer getThreadPoolCorePoolSize(String jobName);
 
     Integer getThreadPoolMaxPoolSize(String jobName);
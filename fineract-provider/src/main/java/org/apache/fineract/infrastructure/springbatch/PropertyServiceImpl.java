@@ -45,6 +45,11 @@ public class PropertyServiceImpl implements PropertyService {
         return getProperty(jobName, FineractProperties.PartitionedJobProperty::getRetryLimit);
     }
 
+    @Override
+    public Integer getSkipLimit(String jobName) {
+        return getProperty(jobName, FineractProperties.PartitionedJobProperty::getSkipLimit);
+    }
+
     @Override
     public Integer getThreadPoolCorePoolSize(String jobName) {
         return getProperty(jobName, FineractProperties.PartitionedJobProperty::getThreadPoolCorePoolSize);
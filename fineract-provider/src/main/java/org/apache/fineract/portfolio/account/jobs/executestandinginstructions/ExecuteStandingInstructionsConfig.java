@@ -18,30 +18,47 @@
  */
 package org.apache.fineract.portfolio.account.jobs.executestandinginstructions;
 
+import static org.springframework.transaction.TransactionDefinition.PROPAGATION_REQUIRES_NEW;
+
+import java.time.LocalDate;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
+import org.apache.fineract.infrastructure.springbatch.PartitionedJobStepFactory;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.portfolio.account.data.StandingInstructionData;
 import org.apache.fineract.portfolio.account.service.AccountTransfersWritePlatformService;
 import org.apache.fineract.portfolio.account.service.StandingInstructionReadPlatformService;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
-import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Configuration
 public class ExecuteStandingInstructionsConfig {
 
+    private static final String JOB_NAME = JobName.EXECUTE_STANDING_INSTRUCTIONS.name();
+    private static final String WORKER_STEP_NAME = "Execute standing instructions worker - Step";
+
     @Autowired
     private JobRepository jobRepository;
     @Autowired
     private PlatformTransactionManager transactionManager;
     @Autowired
+    private PropertyService propertyService;
+    @Autowired
+    private PartitionedJobStepFactory partitionedJobStepFactory;
+    @Autowired
     private StandingInstructionReadPlatformService standingInstructionReadPlatformService;
     @Autowired
     private JdbcTemplate jdbcTemplate;
@@ -52,19 +69,69 @@ public class ExecuteStandingInstructionsConfig {
 
     @Bean
     protected Step executeStandingInstructionsStep() {
-        return new StepBuilder(JobName.EXECUTE_STANDING_INSTRUCTIONS.name(), jobRepository)
-                .tasklet(executeStandingInstructionsTasklet(), transactionManager).build();
+        return partitionedJobStepFactory.managerStep(JOB_NAME, WORKER_STEP_NAME, standingInstructionPartitioner(),
+                executeStandingInstructionsWorkerStep(), standingInstructionsTaskExecutor());
+    }
+
+    @Bean
+    protected Step executeStandingInstructionsWorkerStep() {
+        return partitionedJobStepFactory
+                .<StandingInstructionData, StandingInstructionTransfer>workerStep(JOB_NAME, WORKER_STEP_NAME,
+                        standingInstructionSkipListener()) //
+                .reader(standingInstructionItemReader(null, null, null)) //
+                .processor(standingInstructionItemProcessor(null)) //
+                .writer(standingInstructionItemWriter(null)) //
+                .listener((StepExecutionListener) standingInstructionSkipListener()) //
+                .build();
     }
 
     @Bean
     public Job executeStandingInstructionsJob() {
-        return new JobBuilder(JobName.EXECUTE_STANDING_INSTRUCTIONS.name(), jobRepository).start(executeStandingInstructionsStep())
-                .incrementer(new RunIdIncrementer()).build();
+        return new JobBuilder(JOB_NAME, jobRepository).start(executeStandingInstructionsStep()).incrementer(new RunIdIncrementer()).build();
+    }
+
+    @Bean
+    public StandingInstructionPartitioner standingInstructionPartitioner() {
+        return new StandingInstructionPartitioner(propertyService, standingInstructionReadPlatformService);
+    }
+
+    @Bean
+    public TaskExecutor standingInstructionsTaskExecutor() {
+        return partitionedJobStepFactory.taskExecutor(JOB_NAME, "Standing-Instruction-Thread");
+    }
+
+    @Bean
+    @StepScope
+    public StandingInstructionItemReader standingInstructionItemReader(
+            @Value("#{stepExecutionContext['businessDate']}") LocalDate businessDate,
+            @Value("#{stepExecutionContext['minAccountId']}") Long minAccountId,
+            @Value("#{stepExecutionContext['maxAccountId']}") Long maxAccountId) {
+        return new StandingInstructionItemReader(standingInstructionReadPlatformService, businessDate, minAccountId, maxAccountId);
+    }
+
+    @Bean
+    @StepScope
+    public StandingInstructionItemProcessor standingInstructionItemProcessor(
+            @Value("#{stepExecutionContext['businessDate']}") LocalDate businessDate) {
+        return new StandingInstructionItemProcessor(standingInstructionReadPlatformService, businessDate);
+    }
+
+    @Bean
+    @StepScope
+    public StandingInstructionItemWriter standingInstructionItemWriter(
+            @Value("#{stepExecutionContext['businessDate']}") LocalDate businessDate) {
+        return new StandingInstructionItemWriter(accountTransfersWritePlatformService, standingInstructionHistoryRecorder(), businessDate);
+    }
+
+    @Bean
+    public StandingInstructionHistoryRecorder standingInstructionHistoryRecorder() {
+        return new StandingInstructionHistoryRecorder(jdbcTemplate, sqlGenerator);
     }
 
     @Bean
-    public ExecuteStandingInstructionsTasklet executeStandingInstructionsTasklet() {
-        return new ExecuteStandingInstructionsTasklet(standingInstructionReadPlatformService, jdbcTemplate, sqlGenerator,
-                accountTransfersWritePlatformService);
+    public StandingInstructionSkipListener standingInstructionSkipListener() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(PROPAGATION_REQUIRES_NEW);
+        return new StandingInstructionSkipListener(standingInstructionHistoryRecorder(), transactionTemplate);
     }
 }
@@ -0,0 +1,83 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.account.jobs.executestandinginstructions;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.exception.AbstractPlatformServiceUnavailableException;
+import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.portfolio.savings.exception.InsufficientAccountBalanceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Writes the standing instruction history and last run date of executed transfers in batches.
+ */
+@RequiredArgsConstructor
+public class StandingInstructionHistoryRecorder {
+
+    private static final String STATUS_SUCCESS = "success";
+    private static final String STATUS_FAILED = "failed";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+
+    public void recordSuccess(List<StandingInstructionTransfer> transfers, LocalDate businessDate) {
+        if (transfers.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(insertHistorySql(), transfers, transfers.size(), (ps, transfer) -> {
+            ps.setLong(1, transfer.getStandingInstructionId());
+            ps.setString(2, STATUS_SUCCESS);
+            ps.setBigDecimal(3, transfer.getAccountTransferDTO().getTransactionAmount());
+            ps.setString(4, "");
+        });
+        jdbcTemplate.batchUpdate("UPDATE m_account_transfer_standing_instructions SET last_run_date = ? WHERE id = ?", transfers,
+                transfers.size(), (ps, transfer) -> {
+                    ps.setObject(1, businessDate);
+                    ps.setLong(2, transfer.getStandingInstructionId());
+                });
+    }
+
+    public void recordFailure(StandingInstructionTransfer transfer, Throwable cause) {
+        recordFailure(transfer.getStandingInstructionId(), transfer.getAccountTransferDTO().getTransactionAmount(), cause);
+    }
+
+    public void recordFailure(Long standingInstructionId, BigDecimal amount, Throwable cause) {
+        jdbcTemplate.update(insertHistorySql(), standingInstructionId, STATUS_FAILED, amount, errorLog(cause));
+    }
+
+    private String insertHistorySql() {
+        return "INSERT INTO m_account_transfer_standing_instructions_history (standing_instruction_id, " + sqlGenerator.escape("status")
+                + ", amount, execution_time, error_log) VALUES (?, ?, ?, now(), ?)";
+    }
+
+    private static String errorLog(Throwable cause) {
+        if (cause instanceof PlatformApiDataValidationException e) {
+            return "Validation exception while trasfering funds " + e.getDefaultUserMessage();
+        } else if (cause instanceof InsufficientAccountBalanceException) {
+            return "InsufficientAccountBalance Exception ";
+        } else if (cause instanceof AbstractPlatformServiceUnavailableException e) {
+            return "Platform exception while trasfering funds " + e.getDefaultUserMessage();
+        }
+        return "Exception while trasfering funds " + cause.getMessage();
+    }
+}
@@ -0,0 +1,135 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.account.jobs.executestandinginstructions;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.domain.ExternalId;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.portfolio.account.data.AccountTransferDTO;
+import org.apache.fineract.portfolio.account.data.StandingInstructionData;
+import org.apache.fineract.portfolio.account.data.StandingInstructionDuesData;
+import org.apache.fineract.portfolio.account.domain.AccountTransferRecurrenceType;
+import org.apache.fineract.portfolio.account.domain.StandingInstructionType;
+import org.apache.fineract.portfolio.account.service.StandingInstructionReadPlatformService;
+import org.apache.fineract.portfolio.common.domain.PeriodFrequencyType;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.DefaultScheduledDateGenerator;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.ScheduledDateGenerator;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccount;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.ItemProcessor;
+
+/**
+ * Decides whether a standing instruction is due on the business date and builds its transfer; instructions which are
+ * not due are filtered out.
+ * <p>
+ * The loan dues needed by the instructions of a chunk are collected while the chunk is read and fetched with a single
+ * query when its first item is processed. Transfers are only executed by the writer, so the prefetched dues are the same
+ * the per-instruction query would have returned.
+ */
+@RequiredArgsConstructor
+public class StandingInstructionItemProcessor implements ItemProcessor<StandingInstructionData, StandingInstructionTransfer>,
+        ItemReadListener<StandingInstructionData>, ChunkListener {
+
+    private static final ScheduledDateGenerator SCHEDULED_DATE_GENERATOR = new DefaultScheduledDateGenerator();
+
+    private final StandingInstructionReadPlatformService standingInstructionReadPlatformService;
+    private final LocalDate businessDate;
+    private final Set<Long> pendingLoanIds = new LinkedHashSet<>();
+    private final Map<Long, StandingInstructionDuesData> loanDues = new HashMap<>();
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        pendingLoanIds.clear();
+        loanDues.clear();
+    }
+
+    @Override
+    public void afterRead(StandingInstructionData data) {
+        if (data.toAccountType().isLoanAccount()
+                && (data.recurrenceType().isDuesRecurrence() || data.instructionType().isDuesAmoutTransfer())) {
+            pendingLoanIds.add(data.toAccount().getId());
+        }
+    }
+
+    @Override
+    public StandingInstructionTransfer process(StandingInstructionData data) {
+        boolean isDueForTransfer = false;
+        AccountTransferRecurrenceType recurrenceType = data.recurrenceType();
+        StandingInstructionType instructionType = data.instructionType();
+        if (recurrenceType.isPeriodicRecurrence()) {
+            PeriodFrequencyType frequencyType = data.recurrenceFrequency();
+            LocalDate startDate = data.validFrom();
+            if (frequencyType.isMonthly()) {
+                startDate = startDate.withDayOfMonth(data.recurrenceOnDay());
+                if (DateUtils.isBefore(startDate, data.validFrom())) {
+                    startDate = startDate.plusMonths(1);
+                }
+            } else if (frequencyType.isYearly()) {
+                startDate = startDate.withDayOfMonth(data.recurrenceOnDay()).withMonth(data.recurrenceOnMonth());
+                if (DateUtils.isBefore(startDate, data.validFrom())) {
+                    startDate = startDate.plusYears(1);
+                }
+            }
+            isDueForTransfer = SCHEDULED_DATE_GENERATOR.isDateFallsInSchedule(frequencyType, data.recurrenceInterval(), startDate,
+                    businessDate);
+        }
+        BigDecimal transactionAmount = data.amount();
+        if (data.toAccountType().isLoanAccount()
+                && (recurrenceType.isDuesRecurrence() || (isDueForTransfer && instructionType.isDuesAmoutTransfer()))) {
+            StandingInstructionDuesData standingInstructionDuesData = retrieveLoanDues(data.toAccount().getId());
+            if (instructionType.isDuesAmoutTransfer()) {
+                transactionAmount = standingInstructionDuesData.totalDueAmount();
+            }
+            if (recurrenceType.isDuesRecurrence()) {
+                isDueForTransfer = businessDate.equals(standingInstructionDuesData.dueDate());
+            }
+        }
+
+        if (!isDueForTransfer || transactionAmount == null || transactionAmount.compareTo(BigDecimal.ZERO) <= 0) {
+            return null;
+        }
+        final SavingsAccount fromSavingsAccount = null;
+        final boolean isRegularTransaction = true;
+        final boolean isExceptionForBalanceCheck = false;
+        AccountTransferDTO accountTransferDTO = new AccountTransferDTO(businessDate, transactionAmount, data.fromAccountType(),
+                data.toAccountType(), data.fromAccount().getId(), data.toAccount().getId(), data.name() + " Standing instruction trasfer ",
+                null, null, null, null, data.toTransferType(), null, null, data.transferType().getValue(), null, null, ExternalId.empty(),
+                null, null, fromSavingsAccount, isRegularTransaction, isExceptionForBalanceCheck);
+        return new StandingInstructionTransfer(data.getId(), accountTransferDTO);
+    }
+
+    private StandingInstructionDuesData retrieveLoanDues(Long loanId) {
+        if (!pendingLoanIds.isEmpty()) {
+            loanDues.putAll(standingInstructionReadPlatformService.retriveLoanDuesData(List.copyOf(pendingLoanIds)));
+            pendingLoanIds.clear();
+        }
+        StandingInstructionDuesData dues = loanDues.get(loanId);
+        // items re-processed after a failed write are not read again
+        return dues != null ? dues : standingInstructionReadPlatformService.retriveLoanDuesData(loanId);
+    }
+}
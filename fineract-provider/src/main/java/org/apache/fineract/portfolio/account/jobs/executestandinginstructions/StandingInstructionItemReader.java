@@ -0,0 +1,50 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.account.jobs.executestandinginstructions;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.portfolio.account.data.StandingInstructionData;
+import org.apache.fineract.portfolio.account.service.StandingInstructionReadPlatformService;
+import org.springframework.batch.item.ItemReader;
+
+/**
+ * Reads the due standing instructions of one partition, grouped by source account and ordered by priority within the
+ * account, so transfers debiting the same account are always executed sequentially.
+ */
+@RequiredArgsConstructor
+public class StandingInstructionItemReader implements ItemReader<StandingInstructionData> {
+
+    private final StandingInstructionReadPlatformService standingInstructionReadPlatformService;
+    private final LocalDate businessDate;
+    private final Long minAccountId;
+    private final Long maxAccountId;
+
+    private Iterator<StandingInstructionData> remainingInstructions;
+
+    @Override
+    public StandingInstructionData read() {
+        if (remainingInstructions == null) {
+            remainingInstructions = standingInstructionReadPlatformService.retrieveDueForExecution(businessDate, minAccountId, maxAccountId)
+                    .iterator();
+        }
+        return remainingInstructions.hasNext() ? remainingInstructions.next() : null;
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.account.jobs.executestandinginstructions;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.portfolio.account.service.AccountTransfersWritePlatformService;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+/**
+ * Executes the transfers of a chunk in order and records them in the same transaction. A failing transfer rolls back
+ * the chunk, after which the step retries the items one by one and skips the failing one.
+ */
+@RequiredArgsConstructor
+public class StandingInstructionItemWriter implements ItemWriter<StandingInstructionTransfer> {
+
+    private final AccountTransfersWritePlatformService accountTransfersWritePlatformService;
+    private final StandingInstructionHistoryRecorder historyRecorder;
+    private final LocalDate businessDate;
+
+    @Override
+    public void write(@NotNull Chunk<? extends StandingInstructionTransfer> chunk) {
+        List<StandingInstructionTransfer> transfers = new ArrayList<>(chunk.getItems());
+        for (StandingInstructionTransfer transfer : transfers) {
+            accountTransfersWritePlatformService.transferFunds(transfer.getAccountTransferDTO());
+        }
+        historyRecorder.recordSuccess(transfers, businessDate);
+    }
+}
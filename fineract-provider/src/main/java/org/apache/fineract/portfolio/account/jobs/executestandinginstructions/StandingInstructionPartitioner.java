@@ -0,0 +1,80 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.account.jobs.executestandinginstructions;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.jobs.service.JobName;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.portfolio.account.data.StandingInstructionExecutionPartition;
+import org.apache.fineract.portfolio.account.service.StandingInstructionReadPlatformService;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.util.StopWatch;
+
+@Slf4j
+@RequiredArgsConstructor
+public class StandingInstructionPartitioner implements Partitioner {
+
+    public static final String PARTITION_PREFIX = "partition_";
+    public static final String BUSINESS_DATE = "businessDate";
+    public static final String MIN_ACCOUNT_ID = "minAccountId";
+    public static final String MAX_ACCOUNT_ID = "maxAccountId";
+
+    private final PropertyService propertyService;
+    private final StandingInstructionReadPlatformService standingInstructionReadPlatformService;
+
+    @NotNull
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        int partitionSize = propertyService.getPartitionSize(JobName.EXECUTE_STANDING_INSTRUCTIONS.name());
+        LocalDate businessDate = DateUtils.getBusinessLocalDate();
+        StopWatch sw = new StopWatch();
+        sw.start();
+        List<StandingInstructionExecutionPartition> partitions = new ArrayList<>(
+                standingInstructionReadPlatformService.retrieveDueForExecutionPartitions(businessDate, partitionSize));
+        sw.stop();
+        // if there is no instruction to be executed, we still would like to create at least one partition
+        if (partitions.isEmpty()) {
+            partitions.add(new StandingInstructionExecutionPartition(0L, 0L, 1L, 0L));
+        }
+        log.info(
+                "StandingInstructionPartitioner found {} standing instructions due on {}. {} partitions were created using partition size {}. Partitioning was executed in {} ms.",
+                partitions.stream().map(StandingInstructionExecutionPartition::getCount).reduce(0L, Long::sum), businessDate,
+                partitions.size(), partitionSize, sw.getTotalTimeMillis());
+        return partitions.stream()
+                .collect(Collectors.toMap(p -> PARTITION_PREFIX + p.getPageNo(), p -> createNewPartition(p, businessDate)));
+    }
+
+    private ExecutionContext createNewPartition(StandingInstructionExecutionPartition partition, LocalDate businessDate) {
+        ExecutionContext executionContext = new ExecutionContext();
+        executionContext.put(BUSINESS_DATE, businessDate);
+        executionContext.put(MIN_ACCOUNT_ID, partition.getMinAccountId());
+        executionContext.put(MAX_ACCOUNT_ID, partition.getMaxAccountId());
+        executionContext.put("partition", PARTITION_PREFIX + partition.getPageNo());
+        return executionContext;
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.account.jobs.executestandinginstructions;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.portfolio.account.data.StandingInstructionData;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Records the standing instructions which could not be evaluated or transferred as failed in their history and fails the
+ * partition once the remaining instructions are done, the same way the job failed after trying every instruction before
+ * it was partitioned.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class StandingInstructionSkipListener
+        implements SkipListener<StandingInstructionData, StandingInstructionTransfer>, StepExecutionListener {
+
+    private final StandingInstructionHistoryRecorder historyRecorder;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void onSkipInProcess(StandingInstructionData item, Throwable t) {
+        log.warn("Standing instruction id {} could not be evaluated for execution", item.getId(), t);
+        transactionTemplate.executeWithoutResult(status -> historyRecorder.recordFailure(item.getId(), item.amount(), t));
+    }
+
+    @Override
+    public void onSkipInWrite(StandingInstructionTransfer item, Throwable t) {
+        log.warn("Transfer of standing instruction id {} from {} to {} failed", item.getStandingInstructionId(),
+                item.getAccountTransferDTO().getFromAccountId(), item.getAccountTransferDTO().getToAccountId(), t);
+        transactionTemplate.executeWithoutResult(status -> historyRecorder.recordFailure(item, t));
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        if (stepExecution.getProcessSkipCount() + stepExecution.getWriteSkipCount() > 0) {
+            stepExecution.upgradeStatus(BatchStatus.FAILED);
+            return ExitStatus.FAILED;
+        }
+        return stepExecution.getExitStatus();
+    }
+}
@@ -18,11 +18,15 @@
  */
 package org.apache.fineract.portfolio.account.service;
 
+import java.time.LocalDate;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import org.apache.fineract.infrastructure.core.service.Page;
 import org.apache.fineract.portfolio.account.data.StandingInstructionDTO;
 import org.apache.fineract.portfolio.account.data.StandingInstructionData;
 import org.apache.fineract.portfolio.account.data.StandingInstructionDuesData;
+import org.apache.fineract.portfolio.account.data.StandingInstructionExecutionPartition;
 
 public interface StandingInstructionReadPlatformService {
 
@@ -37,4 +41,22 @@ public interface StandingInstructionReadPlatformService {
 
     StandingInstructionDuesData retriveLoanDuesData(Long loanId);
 
+    /**
+     * Bulk variant of {@link #retriveLoanDuesData(Long)}; every requested loan is present in the result, loans without
+     * anything due map to a zero amount and no due date.
+     */
+    Map<Long, StandingInstructionDuesData> retriveLoanDuesData(Collection<Long> loanIds);
+
+    /**
+     * Splits the source accounts having standing instructions due on the given date into ranges of
+     * <code>partitionSize</code> accounts, so all instructions debiting one account fall into the same range.
+     */
+    List<StandingInstructionExecutionPartition> retrieveDueForExecutionPartitions(LocalDate businessDate, int partitionSize);
+
+    /**
+     * Retrieves the standing instructions due on the given date whose source account id is within the given range,
+     * ordered by source account and then by priority.
+     */
+    List<StandingInstructionData> retrieveDueForExecution(LocalDate businessDate, Long minAccountId, Long maxAccountId);
+
 }
@@ -33,7 +33,10 @@ import java.time.MonthDay;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.apache.fineract.infrastructure.core.data.EnumOptionData;
 import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
@@ -50,6 +53,7 @@ import org.apache.fineract.portfolio.account.data.PortfolioAccountData;
 import org.apache.fineract.portfolio.account.data.StandingInstructionDTO;
 import org.apache.fineract.portfolio.account.data.StandingInstructionData;
 import org.apache.fineract.portfolio.account.data.StandingInstructionDuesData;
+import org.apache.fineract.portfolio.account.data.StandingInstructionExecutionPartition;
 import org.apache.fineract.portfolio.account.domain.AccountTransferRecurrenceType;
 import org.apache.fineract.portfolio.account.domain.AccountTransferType;
 import org.apache.fineract.portfolio.account.domain.StandingInstructionPriority;
@@ -67,6 +71,8 @@ import org.springframework.util.CollectionUtils;
 
 public class StandingInstructionReadPlatformServiceImpl implements StandingInstructionReadPlatformService {
 
+    private static final String FROM_ACCOUNT_ID = "coalesce(atd.from_savings_account_id, atd.from_loan_account_id)";
+
     private final JdbcTemplate jdbcTemplate;
     private final ColumnValidator columnValidator;
     private final ClientReadPlatformService clientReadPlatformService;
@@ -361,6 +367,78 @@ public class StandingInstructionReadPlatformServiceImpl implements StandingInstr
         return this.jdbcTemplate.queryForObject(sql, rm, new Object[] { loanId }); // NOSONAR
     }
 
+    @Override
+    public Map<Long, StandingInstructionDuesData> retriveLoanDuesData(final Collection<Long> loanIds) {
+        final Map<Long, StandingInstructionDuesData> duesByLoanId = new HashMap<>();
+        if (CollectionUtils.isEmpty(loanIds)) {
+            return duesByLoanId;
+        }
+        final StandingInstructionLoanDuesMapper rm = new StandingInstructionLoanDuesMapper();
+        final String placeholders = String.join(",", Collections.nCopies(loanIds.size(), "?"));
+        final String sql = "select ml.id as loanId, " + rm.schema() + " where ml.id in (" + placeholders + ") and ls.duedate <= "
+                + sqlGenerator.currentBusinessDate() + " and ls.completed_derived <> 1 group by ml.id";
+        this.jdbcTemplate.query(sql, rs -> {
+            duesByLoanId.put(rs.getLong("loanId"), rm.mapRow(rs, rs.getRow()));
+        }, loanIds.toArray()); // NOSONAR
+        for (final Long loanId : loanIds) {
+            duesByLoanId.putIfAbsent(loanId, new StandingInstructionDuesData(null, BigDecimal.ZERO));
+        }
+        return duesByLoanId;
+    }
+
+    @Override
+    public List<StandingInstructionExecutionPartition> retrieveDueForExecutionPartitions(final LocalDate businessDate,
+            final int partitionSize) {
+        final List<Object> params = new ArrayList<>();
+        params.add(partitionSize);
+        final StringBuilder sqlBuilder = new StringBuilder(600);
+        sqlBuilder.append("select min(accountId) as minId, max(accountId) as maxId, page, sum(instructionCount) as instructionCount from ");
+        sqlBuilder.append("  (select floor(((row_number() over(order by accountId))-1) / ?) as page, t.* from ");
+        sqlBuilder.append("      (select ").append(FROM_ACCOUNT_ID).append(" as accountId, count(atsi.id) as instructionCount ");
+        sqlBuilder.append("       from m_account_transfer_standing_instructions atsi ");
+        sqlBuilder.append("       join m_account_transfer_details atd on atd.id = atsi.account_transfer_details_id ");
+        sqlBuilder.append("       where ").append(dueForExecutionCriteria(businessDate, params));
+        sqlBuilder.append("       group by ").append(FROM_ACCOUNT_ID).append(") t) t2 ");
+        sqlBuilder.append("group by page ");
+        sqlBuilder.append("order by page");
+        return this.jdbcTemplate.query(sqlBuilder.toString(),
+                (rs, rowNum) -> new StandingInstructionExecutionPartition(rs.getLong("minId"), rs.getLong("maxId"), rs.getLong("page"),
+                        rs.getLong("instructionCount")),
+                params.toArray()); // NOSONAR
+    }
+
+    @Override
+    public List<StandingInstructionData> retrieveDueForExecution(final LocalDate businessDate, final Long minAccountId,
+            final Long maxAccountId) {
+        final List<Object> params = new ArrayList<>();
+        final StringBuilder sqlBuilder = new StringBuilder(200);
+        sqlBuilder.append("select ").append(this.standingInstructionMapper.schema());
+        sqlBuilder.append(" where ").append(dueForExecutionCriteria(businessDate, params));
+        sqlBuilder.append(" and ").append(FROM_ACCOUNT_ID).append(" between ? and ?");
+        sqlBuilder.append(" order by ").append(FROM_ACCOUNT_ID).append(", atsi.priority desc, atsi.id");
+        params.add(minAccountId);
+        params.add(maxAccountId);
+        return this.jdbcTemplate.query(sqlBuilder.toString(), this.standingInstructionMapper, params.toArray()); // NOSONAR
+    }
+
+    /**
+     * Active instructions valid on the business date which did not run yet that day. Instructions recurring as per
+     * loan dues are only due when the target loan has an unpaid installment falling due on the business date; periodic
+     * recurrence is evaluated by the caller.
+     */
+    private String dueForExecutionCriteria(final LocalDate businessDate, final List<Object> params) {
+        params.add(StandingInstructionStatus.ACTIVE.getValue());
+        params.add(businessDate);
+        params.add(businessDate);
+        params.add(businessDate);
+        params.add(AccountTransferRecurrenceType.AS_PER_DUES.getValue());
+        params.add(businessDate);
+        return "atsi.status = ? and atsi.valid_from <= ? and (atsi.valid_till is null or atsi.valid_till > ?)"
+                + " and (atsi.last_run_date is null or atsi.last_run_date <> ?)"
+                + " and (atsi.recurrence_type <> ? or exists (select 1 from m_loan_repayment_schedule ls"
+                + " where ls.loan_id = atd.to_loan_account_id and ls.duedate = ? and ls.completed_derived = false))";
+    }
+
     private static final class StandingInstructionMapper implements RowMapper<StandingInstructionData> {
 
         private final String schemaSql;
@@ -19,6 +19,7 @@
 package org.apache.fineract.portfolio.delinquency.domain;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.springframework.data.domain.Page;
@@ -40,4 +41,6 @@ public interface LoanDelinquencyActionRepository
 
     List<LoanDelinquencyAction> findByLoanOrderById(Loan loan);
 
+    List<LoanDelinquencyAction> findByLoanIdInOrderById(Collection<Long> loanIds);
+
 }
@@ -20,6 +20,7 @@ package org.apache.fineract.portfolio.delinquency.service;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import org.apache.fineract.portfolio.delinquency.data.DelinquencyBucketData;
 import org.apache.fineract.portfolio.delinquency.data.DelinquencyRangeData;
 import org.apache.fineract.portfolio.delinquency.data.LoanDelinquencyTagHistoryData;
@@ -43,8 +44,19 @@ public interface DelinquencyReadPlatformService {
 
     CollectionData calculateLoanCollectionData(Long loanId);
 
+    /**
+     * Collection data of several loans, the loans and their delinquency actions are read with one query each. Every
+     * requested loan id is a key of the result, unknown and not yet active loans map to the template.
+     */
+    Map<Long, CollectionData> calculateLoanCollectionDataByLoanIds(Collection<Long> loanIds);
+
     Collection<LoanInstallmentDelinquencyTagData> retrieveLoanInstallmentsCurrentDelinquencyTag(Long loanId);
 
     List<LoanDelinquencyAction> retrieveLoanDelinquencyActions(Long loanId);
 
+    /**
+     * Delinquency actions of several loans with one query, every requested loan id is a key of the result.
+     */
+    Map<Long, List<LoanDelinquencyAction>> retrieveLoanDelinquencyActionsByLoanIds(Collection<Long> loanIds);
+
 }
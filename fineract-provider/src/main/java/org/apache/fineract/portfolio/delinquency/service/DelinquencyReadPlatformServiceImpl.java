@@ -19,9 +19,12 @@
 package org.apache.fineract.portfolio.delinquency.service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -121,45 +124,67 @@ public class DelinquencyReadPlatformServiceImpl implements DelinquencyReadPlatfo
     @Override
     public CollectionData calculateLoanCollectionData(final Long loanId) {
         final Optional<Loan> optLoan = this.loanRepository.findById(loanId);
+        if (optLoan.isEmpty()) {
+            return CollectionData.template();
+        }
+        final Loan loan = optLoan.get();
+        // If the Loan is not Active yet, return template data
+        if (loan.isSubmittedAndPendingApproval() || loan.isApproved()) {
+            return CollectionData.template();
+        }
+        return calculateLoanCollectionData(loan, loanDelinquencyActionRepository.findByLoanOrderById(loan),
+                configurationDomainService.getNextPaymentDateConfigForLoan());
+    }
 
-        CollectionData collectionData = CollectionData.template();
-        if (optLoan.isPresent()) {
-            final Loan loan = optLoan.get();
-
-            // If the Loan is not Active yet, return template data
-            if (loan.isSubmittedAndPendingApproval() || loan.isApproved()) {
-                return CollectionData.template();
-            }
+    @Override
+    public Map<Long, CollectionData> calculateLoanCollectionDataByLoanIds(final Collection<Long> loanIds) {
+        final Map<Long, CollectionData> collectionData = new HashMap<>();
+        loanIds.forEach(loanId -> collectionData.put(loanId, CollectionData.template()));
+        if (loanIds.isEmpty()) {
+            return collectionData;
+        }
 
-            final List<LoanDelinquencyAction> savedDelinquencyList = retrieveLoanDelinquencyActions(loanId);
-            List<LoanDelinquencyActionData> effectiveDelinquencyList = delinquencyEffectivePauseHelper
-                    .calculateEffectiveDelinquencyList(savedDelinquencyList);
+        final List<Loan> activeLoans = this.loanRepository.findAllById(loanIds).stream()
+                .filter(loan -> !loan.isSubmittedAndPendingApproval() && !loan.isApproved()).toList();
+        if (activeLoans.isEmpty()) {
+            return collectionData;
+        }
+        final Map<Long, List<LoanDelinquencyAction>> delinquencyActions = retrieveLoanDelinquencyActionsByLoanIds(
+                activeLoans.stream().map(Loan::getId).toList());
+        final String nextPaymentDueDateConfig = configurationDomainService.getNextPaymentDateConfigForLoan();
+        for (final Loan loan : activeLoans) {
+            collectionData.put(loan.getId(),
+                    calculateLoanCollectionData(loan, delinquencyActions.get(loan.getId()), nextPaymentDueDateConfig));
+        }
+        return collectionData;
+    }
 
-            final String nextPaymentDueDateConfig = configurationDomainService.getNextPaymentDateConfigForLoan();
+    private CollectionData calculateLoanCollectionData(final Loan loan, final List<LoanDelinquencyAction> savedDelinquencyList,
+            final String nextPaymentDueDateConfig) {
+        List<LoanDelinquencyActionData> effectiveDelinquencyList = delinquencyEffectivePauseHelper
+                .calculateEffectiveDelinquencyList(savedDelinquencyList);
 
-            collectionData = loanDelinquencyDomainService.getOverdueCollectionData(loan, effectiveDelinquencyList);
-            collectionData.setAvailableDisbursementAmount(loan.getApprovedPrincipal().subtract(loan.getDisbursedAmount()));
-            collectionData.setNextPaymentDueDate(loan.possibleNextRepaymentDate(nextPaymentDueDateConfig));
+        final CollectionData collectionData = loanDelinquencyDomainService.getOverdueCollectionData(loan, effectiveDelinquencyList);
+        collectionData.setAvailableDisbursementAmount(loan.getApprovedPrincipal().subtract(loan.getDisbursedAmount()));
+        collectionData.setNextPaymentDueDate(loan.possibleNextRepaymentDate(nextPaymentDueDateConfig));
 
-            final LoanTransaction lastPayment = loan.getLastPaymentTransaction();
-            if (lastPayment != null) {
-                collectionData.setLastPaymentDate(lastPayment.getTransactionDate());
-                collectionData.setLastPaymentAmount(lastPayment.getAmount());
-            }
+        final LoanTransaction lastPayment = loan.getLastPaymentTransaction();
+        if (lastPayment != null) {
+            collectionData.setLastPaymentDate(lastPayment.getTransactionDate());
+            collectionData.setLastPaymentAmount(lastPayment.getAmount());
+        }
 
-            final LoanTransaction lastRepaymentTransaction = loan.getLastRepaymentTransaction();
-            if (lastRepaymentTransaction != null) {
-                collectionData.setLastRepaymentDate(lastRepaymentTransaction.getTransactionDate());
-                collectionData.setLastRepaymentAmount(lastRepaymentTransaction.getAmount());
-            }
+        final LoanTransaction lastRepaymentTransaction = loan.getLastRepaymentTransaction();
+        if (lastRepaymentTransaction != null) {
+            collectionData.setLastRepaymentDate(lastRepaymentTransaction.getTransactionDate());
+            collectionData.setLastRepaymentAmount(lastRepaymentTransaction.getAmount());
+        }
 
-            enrichWithDelinquencyPausePeriodInfo(collectionData, effectiveDelinquencyList, ThreadLocalContextUtil.getBusinessDate());
+        enrichWithDelinquencyPausePeriodInfo(collectionData, effectiveDelinquencyList, ThreadLocalContextUtil.getBusinessDate());
 
-            if (optLoan.get().isEnableInstallmentLevelDelinquency()) {
-                addInstallmentLevelDelinquencyData(collectionData, loanId);
-            }
+        if (loan.isEnableInstallmentLevelDelinquency()) {
+            addInstallmentLevelDelinquencyData(collectionData, loan.getId());
         }
-
         return collectionData;
     }
 
@@ -225,4 +250,15 @@ public class DelinquencyReadPlatformServiceImpl implements DelinquencyReadPlatfo
         return List.of();
     }
 
+    @Override
+    public Map<Long, List<LoanDelinquencyAction>> retrieveLoanDelinquencyActionsByLoanIds(Collection<Long> loanIds) {
+        final Map<Long, List<LoanDelinquencyAction>> delinquencyActions = new HashMap<>();
+        loanIds.forEach(loanId -> delinquencyActions.put(loanId, new ArrayList<>()));
+        if (!loanIds.isEmpty()) {
+            loanDelinquencyActionRepository.findByLoanIdInOrderById(loanIds)
+                    .forEach(action -> delinquencyActions.get(action.getLoan().getId()).add(action));
+        }
+        return delinquencyActions;
+    }
+
 }
@@ -0,0 +1,42 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.delinquency.service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Set based variant of the loan level delinquency classification used by the Loan Delinquency Classification job.
+ * Overdue days and bucket ranges are computed for all the overdue active loans at once and only the loans whose
+ * delinquency range changed are written.
+ */
+public interface LoanDelinquencyBulkClassificationService {
+
+    /**
+     * Classifies every active loan having an unpaid installment due on or before the business date.
+     *
+     * @param businessDate
+     *            the date used to age the overdue installments
+     * @param excludedLoanIds
+     *            loans already classified by the caller (i.e. loans with chargebacks)
+     * @return the ids of the loans which must be classified one by one because they use installment level delinquency
+     */
+    List<Long> classifyOverdueLoans(LocalDate businessDate, Collection<Long> excludedLoanIds);
+}
@@ -0,0 +1,244 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.delinquency.service;
+
+import static org.apache.fineract.infrastructure.core.domain.AuditableFieldsConstants.CREATED_BY_DB_FIELD;
+import static org.apache.fineract.infrastructure.core.domain.AuditableFieldsConstants.CREATED_DATE_DB_FIELD;
+import static org.apache.fineract.infrastructure.core.domain.AuditableFieldsConstants.LAST_MODIFIED_BY_DB_FIELD;
+import static org.apache.fineract.infrastructure.core.domain.AuditableFieldsConstants.LAST_MODIFIED_DATE_DB_FIELD;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.event.business.domain.loan.LoanDelinquencyRangeChangeBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.apache.fineract.portfolio.delinquency.domain.DelinquencyAction;
+import org.apache.fineract.portfolio.delinquency.domain.LoanDelinquencyAction;
+import org.apache.fineract.portfolio.delinquency.helper.DelinquencyEffectivePauseHelper;
+import org.apache.fineract.portfolio.delinquency.validator.LoanDelinquencyActionData;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepositoryWrapper;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanStatus;
+import org.apache.fineract.useradministration.domain.AppUserRepositoryWrapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@RequiredArgsConstructor
+public class LoanDelinquencyBulkClassificationServiceImpl implements LoanDelinquencyBulkClassificationService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DelinquencyEffectivePauseHelper delinquencyEffectivePauseHelper;
+    private final LoanRepositoryWrapper loanRepositoryWrapper;
+    private final BusinessEventNotifierService businessEventNotifierService;
+    private final AppUserRepositoryWrapper appUserRepositoryWrapper;
+
+    @Override
+    @Transactional
+    public List<Long> classifyOverdueLoans(final LocalDate businessDate, final Collection<Long> excludedLoanIds) {
+        final Set<Long> excluded = new HashSet<>(excludedLoanIds);
+        final Map<Long, List<BucketRange>> rangesByBucket = retrieveBucketRanges();
+        final Map<Long, List<LoanDelinquencyAction>> actionsByLoan = retrieveDelinquencyActions();
+
+        final List<Long> installmentLevelLoans = new ArrayList<>();
+        final List<LoanClassification> changed = new ArrayList<>();
+        int classified = 0;
+        for (OverdueLoan overdueLoan : retrieveOverdueLoans(businessDate)) {
+            if (excluded.contains(overdueLoan.getLoanId())) {
+                continue;
+            }
+            if (overdueLoan.isInstallmentLevelDelinquency()) {
+                installmentLevelLoans.add(overdueLoan.getLoanId());
+                continue;
+            }
+            classified++;
+            final long delinquentDays = calculateDelinquentDays(overdueLoan, actionsByLoan.get(overdueLoan.getLoanId()), businessDate);
+            final Long targetRangeId;
+            if (delinquentDays <= 0) {
+                targetRangeId = null;
+            } else {
+                final BucketRange range = findRange(rangesByBucket.get(overdueLoan.getBucketId()), delinquentDays);
+                if (range == null) {
+                    // Same as the per loan classification: no matching range leaves the current tag untouched
+                    continue;
+                }
+                targetRangeId = range.getRangeId();
+            }
+            if (!Objects.equals(targetRangeId, overdueLoan.getCurrentRangeId())) {
+                changed.add(new LoanClassification(overdueLoan, targetRangeId));
+            }
+        }
+
+        writeChangedTags(changed, businessDate);
+        log.debug("Bulk delinquency classification: {} loans classified, {} tags changed, {} loans left for per loan classification",
+                classified, changed.size(), installmentLevelLoans.size());
+        return installmentLevelLoans;
+    }
+
+    private long calculateDelinquentDays(final OverdueLoan overdueLoan, final List<LoanDelinquencyAction> actions,
+            final LocalDate businessDate) {
+        if (overdueLoan.getOverdueSinceDate() == null) {
+            return 0L;
+        }
+        final long overdueDays = Math.max(DateUtils.getDifferenceInDays(overdueLoan.getOverdueSinceDate(), businessDate), 0L);
+        final long delinquentDays = overdueDays - overdueLoan.getGraceDays();
+        if (delinquentDays <= 0 || actions == null) {
+            return Math.max(delinquentDays, 0L);
+        }
+        final List<LoanDelinquencyActionData> effectiveDelinquencyList = delinquencyEffectivePauseHelper
+                .calculateEffectiveDelinquencyList(actions);
+        final long pausedDays = delinquencyEffectivePauseHelper.getPausedDaysBeforeDate(effectiveDelinquencyList, businessDate);
+        return Math.max(delinquentDays - pausedDays, 0L);
+    }
+
+    private BucketRange findRange(final List<BucketRange> ranges, final long delinquentDays) {
+        if (ranges == null) {
+            return null;
+        }
+        for (BucketRange range : ranges) {
+            if (range.getMinimumAgeDays() <= delinquentDays
+                    && (range.getMaximumAgeDays() == null || range.getMaximumAgeDays() >= delinquentDays)) {
+                return range;
+            }
+        }
+        return null;
+    }
+
+    private void writeChangedTags(final List<LoanClassification> changed, final LocalDate businessDate) {
+        if (changed.isEmpty()) {
+            return;
+        }
+        // Batch classification is audited as the system user, like the other jobs
+        final Long userId = appUserRepositoryWrapper.fetchSystemUser().getId();
+        final OffsetDateTime auditTime = DateUtils.getAuditOffsetDateTime();
+        final List<Object[]> liftParams = new ArrayList<>();
+        final List<Object[]> insertParams = new ArrayList<>();
+        for (LoanClassification classification : changed) {
+            final OverdueLoan overdueLoan = classification.getOverdueLoan();
+            if (overdueLoan.getCurrentTagId() != null) {
+                liftParams.add(new Object[] { businessDate, auditTime, userId, overdueLoan.getCurrentTagId() });
+            }
+            if (classification.getTargetRangeId() != null) {
+                insertParams.add(new Object[] { classification.getTargetRangeId(), overdueLoan.getLoanId(), businessDate, userId, auditTime,
+                        userId, auditTime });
+            }
+        }
+        if (!liftParams.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE m_loan_delinquency_tag_history SET liftedon_date = ?, " + LAST_MODIFIED_DATE_DB_FIELD
+                    + " = ?, " + LAST_MODIFIED_BY_DB_FIELD + " = ?, version = version + 1 WHERE id = ? AND liftedon_date IS NULL",
+                    liftParams);
+        }
+        if (!insertParams.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO m_loan_delinquency_tag_history (delinquency_range_id, loan_id, addedon_date, "
+                    + CREATED_BY_DB_FIELD + ", " + CREATED_DATE_DB_FIELD + ", " + LAST_MODIFIED_BY_DB_FIELD + ", "
+                    + LAST_MODIFIED_DATE_DB_FIELD + ", version) VALUES (?, ?, ?, ?, ?, ?, ?, 0)", insertParams);
+        }
+        for (LoanClassification classification : changed) {
+            businessEventNotifierService.notifyPostBusinessEvent(new LoanDelinquencyRangeChangeBusinessEvent(
+                    loanRepositoryWrapper.findOneWithNotFoundDetection(classification.getOverdueLoan().getLoanId())));
+        }
+    }
+
+    private List<OverdueLoan> retrieveOverdueLoans(final LocalDate businessDate) {
+        // The oldest installment due before the business date drives the loan delinquency, installments due on the
+        // business date itself only make the loan a candidate (so its tag can be lifted)
+        final String sql = "SELECT l.id AS loanId, l.grace_on_arrears_ageing AS graceDays, "
+                + "l.enable_installment_level_delinquency AS installmentLevelDelinquency, lp.delinquency_bucket_id AS bucketId, "
+                + "MIN(CASE WHEN rs.duedate < ? THEN rs.duedate END) AS overdueSinceDate, "
+                + "th.id AS tagId, th.delinquency_range_id AS rangeId " //
+                + "FROM m_loan l " //
+                + "JOIN m_product_loan lp ON lp.id = l.product_id " //
+                + "JOIN m_loan_repayment_schedule rs ON rs.loan_id = l.id AND rs.completed_derived = ? AND rs.duedate <= ? "
+                + "LEFT JOIN m_loan_delinquency_tag_history th ON th.loan_id = l.id AND th.liftedon_date IS NULL "
+                + "WHERE l.loan_status_id = ? AND lp.delinquency_bucket_id IS NOT NULL "
+                + "GROUP BY l.id, l.grace_on_arrears_ageing, l.enable_installment_level_delinquency, lp.delinquency_bucket_id, th.id, "
+                + "th.delinquency_range_id";
+        return jdbcTemplate.query(sql,
+                (rs, rowNum) -> new OverdueLoan(rs.getLong("loanId"), JdbcSupport.getLocalDate(rs, "overdueSinceDate"),
+                        rs.getInt("graceDays"), rs.getBoolean("installmentLevelDelinquency"), rs.getLong("bucketId"),
+                        JdbcSupport.getLong(rs, "tagId"), JdbcSupport.getLong(rs, "rangeId")),
+                businessDate, false, businessDate, LoanStatus.ACTIVE.getValue());
+    }
+
+    private Map<Long, List<BucketRange>> retrieveBucketRanges() {
+        final Map<Long, List<BucketRange>> rangesByBucket = new HashMap<>();
+        jdbcTemplate.query("SELECT m.delinquency_bucket_id AS bucketId, r.id AS rangeId, r.min_age_days AS minAge, "
+                + "r.max_age_days AS maxAge FROM m_delinquency_bucket_mappings m "
+                + "JOIN m_delinquency_range r ON r.id = m.delinquency_range_id "
+                + "ORDER BY m.delinquency_bucket_id, r.min_age_days", rs -> {
+                    rangesByBucket.computeIfAbsent(rs.getLong("bucketId"), k -> new ArrayList<>())
+                            .add(new BucketRange(rs.getLong("rangeId"), rs.getInt("minAge"), JdbcSupport.getInteger(rs, "maxAge")));
+                });
+        return rangesByBucket;
+    }
+
+    private Map<Long, List<LoanDelinquencyAction>> retrieveDelinquencyActions() {
+        final Map<Long, List<LoanDelinquencyAction>> actionsByLoan = new HashMap<>();
+        jdbcTemplate.query("SELECT da.loan_id AS loanId, da.action AS action, da.start_date AS startDate, da.end_date AS endDate "
+                + "FROM m_loan_delinquency_action da JOIN m_loan l ON l.id = da.loan_id WHERE l.loan_status_id = ? "
+                + "ORDER BY da.loan_id, da.id", rs -> {
+                    actionsByLoan.computeIfAbsent(rs.getLong("loanId"), k -> new ArrayList<>())
+                            .add(new LoanDelinquencyAction(null, DelinquencyAction.valueOf(rs.getString("action")),
+                                    JdbcSupport.getLocalDate(rs, "startDate"), JdbcSupport.getLocalDate(rs, "endDate")));
+                }, LoanStatus.ACTIVE.getValue());
+        return actionsByLoan;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static final class OverdueLoan {
+
+        private final Long loanId;
+        private final LocalDate overdueSinceDate;
+        private final int graceDays;
+        private final boolean installmentLevelDelinquency;
+        private final Long bucketId;
+        private final Long currentTagId;
+        private final Long currentRangeId;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static final class BucketRange {
+
+        private final Long rangeId;
+        private final Integer minimumAgeDays;
+        private final Integer maximumAgeDays;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static final class LoanClassification {
+
+        private final OverdueLoan overdueLoan;
+        private final Long targetRangeId;
+    }
+}
@@ -35,6 +35,8 @@ import org.apache.fineract.portfolio.delinquency.service.DelinquencyReadPlatform
 import org.apache.fineract.portfolio.delinquency.service.DelinquencyWritePlatformService;
 import org.apache.fineract.portfolio.delinquency.service.DelinquencyWritePlatformServiceHelper;
 import org.apache.fineract.portfolio.delinquency.service.DelinquencyWritePlatformServiceImpl;
+import org.apache.fineract.portfolio.delinquency.service.LoanDelinquencyBulkClassificationService;
+import org.apache.fineract.portfolio.delinquency.service.LoanDelinquencyBulkClassificationServiceImpl;
 import org.apache.fineract.portfolio.delinquency.service.LoanDelinquencyDomainService;
 import org.apache.fineract.portfolio.delinquency.service.LoanDelinquencyDomainServiceImpl;
 import org.apache.fineract.portfolio.delinquency.validator.DelinquencyActionParseAndValidator;
@@ -43,9 +45,11 @@ import org.apache.fineract.portfolio.delinquency.validator.DelinquencyRangeParse
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepository;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepositoryWrapper;
 import org.apache.fineract.portfolio.loanproduct.domain.LoanProductRepository;
+import org.apache.fineract.useradministration.domain.AppUserRepositoryWrapper;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 @Configuration
 public class DelinquencyConfiguration {
@@ -91,4 +95,13 @@ public class DelinquencyConfiguration {
     public LoanDelinquencyDomainService loanDelinquencyDomainService(DelinquencyEffectivePauseHelper delinquencyEffectivePauseHelper) {
         return new LoanDelinquencyDomainServiceImpl(delinquencyEffectivePauseHelper);
     }
+
+    @Bean
+    @ConditionalOnMissingBean(LoanDelinquencyBulkClassificationService.class)
+    public LoanDelinquencyBulkClassificationService loanDelinquencyBulkClassificationService(JdbcTemplate jdbcTemplate,
+            DelinquencyEffectivePauseHelper delinquencyEffectivePauseHelper, LoanRepositoryWrapper loanRepositoryWrapper,
+            BusinessEventNotifierService businessEventNotifierService, AppUserRepositoryWrapper appUserRepositoryWrapper) {
+        return new LoanDelinquencyBulkClassificationServiceImpl(jdbcTemplate, delinquencyEffectivePauseHelper, loanRepositoryWrapper,
+                businessEventNotifierService, appUserRepositoryWrapper);
+    }
 }
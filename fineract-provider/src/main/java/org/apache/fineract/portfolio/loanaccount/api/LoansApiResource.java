@@ -70,6 +70,7 @@ import org.apache.fineract.infrastructure.core.api.ApiParameterHelper;
 import org.apache.fineract.infrastructure.core.api.ApiRequestParameterHelper;
 import org.apache.fineract.infrastructure.core.api.JsonQuery;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
+import org.apache.fineract.infrastructure.core.data.DataValidatorBuilder;
 import org.apache.fineract.infrastructure.core.data.EnumOptionData;
 import org.apache.fineract.infrastructure.core.data.UploadRequest;
 import org.apache.fineract.infrastructure.core.domain.ExternalId;
@@ -143,6 +144,7 @@ import org.apache.fineract.portfolio.loanaccount.loanschedule.service.LoanSchedu
 import org.apache.fineract.portfolio.loanaccount.loanschedule.service.LoanScheduleHistoryReadPlatformService;
 import org.apache.fineract.portfolio.loanaccount.service.GLIMAccountInfoReadPlatformService;
 import org.apache.fineract.portfolio.loanaccount.service.LoanChargeReadPlatformService;
+import org.apache.fineract.portfolio.loanaccount.service.LoanDetailReadPlatformService;
 import org.apache.fineract.portfolio.loanaccount.service.LoanReadPlatformService;
 import org.apache.fineract.portfolio.loanproduct.LoanProductConstants;
 import org.apache.fineract.portfolio.loanproduct.data.LoanProductData;
@@ -242,6 +244,14 @@ public class LoansApiResource {
     private static final Set<String> LOAN_APPROVAL_DATA_PARAMETERS = new HashSet<>(Arrays.asList("approvalDate", "approvalAmount"));
     private static final Set<String> GLIM_ACCOUNTS_DATA_PARAMETERS = new HashSet<>(Arrays.asList("glimId", "groupId", "clientId",
             "parentLoanAccountNo", "parentPrincipalAmount", "childLoanAccountNo", "childPrincipalAmount", "clientName"));
+    private static final List<String> ALL_LOAN_ASSOCIATIONS = List.of(DataTableApiConstant.repaymentScheduleAssociateParamName,
+            DataTableApiConstant.futureScheduleAssociateParamName, DataTableApiConstant.originalScheduleAssociateParamName,
+            DataTableApiConstant.transactionsAssociateParamName, DataTableApiConstant.chargesAssociateParamName,
+            DataTableApiConstant.guarantorsAssociateParamName, DataTableApiConstant.collateralAssociateParamName,
+            DataTableApiConstant.notesAssociateParamName, DataTableApiConstant.linkedAccountAssociateParamName,
+            DataTableApiConstant.multiDisburseDetailsAssociateParamName, DataTableApiConstant.collectionAssociateParamName);
+    private static final String LOAN_IDS_PATTERN = "\\s*\\d{1,18}\\s*(,\\s*\\d{1,18}\\s*)*";
+    private static final int MAX_LOAN_DETAILS_PER_REQUEST = 100;
     private static final String RESOURCE_NAME_FOR_PERMISSIONS = "LOAN";
     private static final String RESOURCE_NAME_FOR_DELINQUENCY_ACTION_PERMISSIONS = "DELINQUENCY_ACTION";
 
@@ -279,6 +289,7 @@ public class LoansApiResource {
     private final LoanCollateralManagementReadPlatformService loanCollateralManagementReadPlatformService;
     private final DefaultToApiJsonSerializer<LoanDelinquencyTagHistoryData> jsonSerializerTagHistory;
     private final DelinquencyReadPlatformService delinquencyReadPlatformService;
+    private final LoanDetailReadPlatformService loanDetailReadPlatformService;
 
     /*
      * This template API is used for loan approval, ideally this should be invoked on loan that are pending for
@@ -456,12 +467,53 @@ public class LoansApiResource {
         return retrieveLoan(loanId, null, staffInSelectedOfficeOnly, exclude, uriInfo);
     }
 
+    @GET
+    @Path("details")
+    @Consumes({ MediaType.APPLICATION_JSON })
+    @Produces({ MediaType.APPLICATION_JSON })
+    @Operation(summary = "Retrieve several Loans with their associations", description = "Retrieves up to "
+            + MAX_LOAN_DETAILS_PER_REQUEST + " loans together with their associations. "
+            + "Transactions, charges, notes and disbursement details are loaded for all requested loans at once.\n" + "Example Requests:\n"
+            + "\n" + "loans/details?loanIds=1,2,3\n" + "\n" + "loans/details?loanIds=1,2,3&associations=all&exclude=guarantors\n" + "\n"
+            + "loans/details?loanIds=1,2,3&fields=id,summary&associations=transactions")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "OK", content = @Content(array = @ArraySchema(schema = @Schema(implementation = LoansApiResourceSwagger.GetLoansLoanIdResponse.class)))) })
+    public String retrieveLoanDetails(
+            @QueryParam("loanIds") @Parameter(in = ParameterIn.QUERY, name = "loanIds", description = "Comma separated loan ids", required = true, example = "1,2,3") final String loanIds,
+            @QueryParam("associations") @Parameter(in = ParameterIn.QUERY, name = "associations", description = "Loan object relations to be included in the response", required = false, examples = {
+                    @ExampleObject(value = "all"), @ExampleObject(value = "repaymentSchedule,transactions") }) final String associations,
+            @QueryParam("exclude") @Parameter(in = ParameterIn.QUERY, name = "exclude", description = "Optional Loan object relation list to be filtered in the response", required = false, example = "guarantors") final String exclude,
+            @QueryParam("fields") @Parameter(in = ParameterIn.QUERY, name = "fields", description = "Optional Loan attribute list to be in the response", required = false, example = "id,principal,annualInterestRate") final String fields,
+            @Context final UriInfo uriInfo) {
+        this.context.authenticatedUser().validateHasReadPermission(RESOURCE_NAME_FOR_PERMISSIONS);
+
+        final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder().resource("loan");
+        baseDataValidator.reset().parameter("loanIds").value(loanIds).notBlank().matchesRegularExpression(LOAN_IDS_PATTERN);
+        baseDataValidator.throwValidationErrors();
+        final List<Long> resolvedLoanIds = Arrays.stream(loanIds.split(",")).map(String::trim).map(Long::valueOf).toList();
+        baseDataValidator.reset().parameter("loanIds").value(resolvedLoanIds).notExceedingListLengthOf(MAX_LOAN_DETAILS_PER_REQUEST);
+        baseDataValidator.throwValidationErrors();
+
+        final Set<String> associationParameters = ApiParameterHelper.extractAssociationsForResponseIfProvided(uriInfo.getQueryParameters());
+        if (associationParameters.contains(DataTableApiConstant.allAssociateParamName)) {
+            associationParameters.addAll(ALL_LOAN_ASSOCIATIONS);
+        }
+        ApiParameterHelper.excludeAssociationsForResponseIfProvided(exclude, associationParameters);
+
+        final List<LoanAccountData> loans = this.loanDetailReadPlatformService.retrieveLoanDetails(resolvedLoanIds, associationParameters);
+
+        final ApiRequestJsonSerializationSettings settings = this.apiRequestParameterHelper.process(uriInfo.getQueryParameters(),
+                associationParameters);
+        return this.toApiJsonSerializer.serialize(settings, loans, LOAN_DATA_PARAMETERS);
+    }
+
     @GET
     @Consumes({ MediaType.APPLICATION_JSON })
     @Produces({ MediaType.APPLICATION_JSON })
     @Operation(summary = "List Loans", description = "The list capability of loans can support pagination and sorting.\n"
             + "Example Requests:\n" + "\n" + "loans\n" + "\n" + "loans?fields=accountNo\n" + "\n" + "loans?offset=10&limit=50\n" + "\n"
-            + "loans?orderBy=accountNo&sortOrder=DESC")
+            + "loans?orderBy=accountNo&sortOrder=DESC\n" + "\n" + "loans?cursor=&limit=50\n" + "\n"
+            + "loans?cursor=MTIz&limit=50&withTotal=true")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = LoansApiResourceSwagger.GetLoansResponse.class))) })
     public String retrieveAll(@Context final UriInfo uriInfo,
@@ -472,12 +524,15 @@ public class LoansApiResource {
             @QueryParam("orderBy") @Parameter(description = "orderBy") final String orderBy,
             @QueryParam("sortOrder") @Parameter(description = "sortOrder") final String sortOrder,
             @QueryParam("accountNo") @Parameter(description = "accountNo") final String accountNo,
-            @QueryParam("status") @Parameter(description = "status") final String status) {
+            @QueryParam("status") @Parameter(description = "status") final String status,
+            @QueryParam("cursor") @Parameter(description = "cursor") final String cursor,
+            @QueryParam("withTotal") @Parameter(description = "withTotal") final Boolean withTotal) {
 
         this.context.authenticatedUser().validateHasReadPermission(RESOURCE_NAME_FOR_PERMISSIONS);
 
         final SearchParameters searchParameters = SearchParameters.builder().accountNo(accountNo).sortOrder(sortOrder)
-                .externalId(externalId).offset(offset).limit(limit).orderBy(orderBy).status(status).build();
+                .externalId(externalId).offset(offset).limit(limit).orderBy(orderBy).status(status).cursor(cursor).withTotal(withTotal)
+                .build();
 
         final Page<LoanAccountData> loanBasicDetails = this.loanReadPlatformService.retrieveAll(searchParameters);
 
@@ -907,12 +962,7 @@ public class LoansApiResource {
         final Collection<LoanTransactionData> currentLoanRepayments = this.loanReadPlatformService.retrieveLoanTransactions(resolvedLoanId);
         if (!associationParameters.isEmpty()) {
             if (associationParameters.contains(DataTableApiConstant.allAssociateParamName)) {
-                associationParameters.addAll(Arrays.asList(DataTableApiConstant.repaymentScheduleAssociateParamName,
-                        DataTableApiConstant.futureScheduleAssociateParamName, DataTableApiConstant.originalScheduleAssociateParamName,
-                        DataTableApiConstant.transactionsAssociateParamName, DataTableApiConstant.chargesAssociateParamName,
-                        DataTableApiConstant.guarantorsAssociateParamName, DataTableApiConstant.collateralAssociateParamName,
-                        DataTableApiConstant.notesAssociateParamName, DataTableApiConstant.linkedAccountAssociateParamName,
-                        DataTableApiConstant.multiDisburseDetailsAssociateParamName, DataTableApiConstant.collectionAssociateParamName));
+                associationParameters.addAll(ALL_LOAN_ASSOCIATIONS);
             }
 
             ApiParameterHelper.excludeAssociationsForResponseIfProvided(exclude, associationParameters);
@@ -1140,6 +1140,8 @@ final class LoansApiResourceSwagger {
         @Schema(example = "1")
         public Integer totalFilteredRecords;
         public Set<GetLoansLoanIdResponse> pageItems;
+        @Schema(example = "MTIz")
+        public String nextCursor;
     }
 
     @Schema(description = "PostLoansRequest")
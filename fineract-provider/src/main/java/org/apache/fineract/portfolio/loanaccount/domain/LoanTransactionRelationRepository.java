@@ -18,13 +18,19 @@
  */
 package org.apache.fineract.portfolio.loanaccount.domain;
 
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface LoanTransactionRelationRepository
         extends JpaRepository<LoanTransactionRelation, Long>, JpaSpecificationExecutor<LoanTransactionRelation> {
 
     List<LoanTransactionRelation> findByFromTransaction(LoanTransaction fromTransaction);
 
+    @Query("SELECT ltr FROM LoanTransactionRelation ltr WHERE ltr.fromTransaction.loan.id IN :loanIds")
+    List<LoanTransactionRelation> findByFromTransactionLoanIds(@Param("loanIds") Collection<Long> loanIds);
+
 }
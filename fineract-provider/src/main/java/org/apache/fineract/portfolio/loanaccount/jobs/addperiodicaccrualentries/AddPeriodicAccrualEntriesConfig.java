@@ -18,43 +18,90 @@
  */
 package org.apache.fineract.portfolio.loanaccount.jobs.addperiodicaccrualentries;
 
+import java.time.LocalDate;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
-import org.apache.fineract.portfolio.loanaccount.service.LoanAccrualPlatformService;
+import org.apache.fineract.infrastructure.springbatch.PartitionedJobStepFactory;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.portfolio.loanaccount.service.LoanAccrualWritePlatformService;
+import org.apache.fineract.portfolio.loanaccount.service.LoanReadPlatformService;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
-import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.core.task.TaskExecutor;
 
 @Configuration
 public class AddPeriodicAccrualEntriesConfig {
 
+    private static final String JOB_NAME = JobName.ADD_PERIODIC_ACCRUAL_ENTRIES.name();
+    private static final String WORKER_STEP_NAME = "Add periodic accrual entries worker - Step";
+
     @Autowired
     private JobRepository jobRepository;
     @Autowired
-    private PlatformTransactionManager transactionManager;
+    private PropertyService propertyService;
+    @Autowired
+    private PartitionedJobStepFactory partitionedJobStepFactory;
+    @Autowired
+    private LoanReadPlatformService loanReadPlatformService;
     @Autowired
-    private LoanAccrualPlatformService loanAccrualPlatformService;
+    private LoanAccrualWritePlatformService loanAccrualWritePlatformService;
 
     @Bean
     protected Step addPeriodicAccrualEntriesStep() {
-        return new StepBuilder(JobName.ADD_PERIODIC_ACCRUAL_ENTRIES.name(), jobRepository)
-                .tasklet(addPeriodicAccrualEntriesTasklet(), transactionManager).build();
+        return partitionedJobStepFactory.managerStep(JOB_NAME, WORKER_STEP_NAME, periodicAccrualPartitioner(),
+                addPeriodicAccrualEntriesWorkerStep(), periodicAccrualTaskExecutor());
+    }
+
+    @Bean
+    protected Step addPeriodicAccrualEntriesWorkerStep() {
+        return partitionedJobStepFactory.<Long, Long>workerStep(JOB_NAME, WORKER_STEP_NAME, periodicAccrualSkipListener()) //
+                .reader(periodicAccrualItemReader(null, null, null)) //
+                .writer(periodicAccrualItemWriter(null)) //
+                // fails the partition once the remaining loans are done when any loan was skipped
+                .listener((StepExecutionListener) periodicAccrualSkipListener()) //
+                .build();
     }
 
     @Bean
     public Job addPeriodicAccrualEntriesJob() {
-        return new JobBuilder(JobName.ADD_PERIODIC_ACCRUAL_ENTRIES.name(), jobRepository).start(addPeriodicAccrualEntriesStep())
-                .incrementer(new RunIdIncrementer()).build();
+        return new JobBuilder(JOB_NAME, jobRepository).start(addPeriodicAccrualEntriesStep()).incrementer(new RunIdIncrementer()).build();
+    }
+
+    @Bean
+    public PeriodicAccrualPartitioner periodicAccrualPartitioner() {
+        return new PeriodicAccrualPartitioner(propertyService, loanReadPlatformService);
+    }
+
+    @Bean
+    public TaskExecutor periodicAccrualTaskExecutor() {
+        return partitionedJobStepFactory.taskExecutor(JOB_NAME, "Periodic-Accrual-Thread");
+    }
+
+    @Bean
+    @StepScope
+    public PeriodicAccrualItemReader periodicAccrualItemReader(@Value("#{stepExecutionContext['tillDate']}") LocalDate tillDate,
+            @Value("#{stepExecutionContext['minLoanId']}") Long minLoanId,
+            @Value("#{stepExecutionContext['maxLoanId']}") Long maxLoanId) {
+        return new PeriodicAccrualItemReader(loanReadPlatformService, tillDate, minLoanId, maxLoanId,
+                propertyService.getChunkSize(JOB_NAME));
+    }
+
+    @Bean
+    @StepScope
+    public PeriodicAccrualItemWriter periodicAccrualItemWriter(@Value("#{stepExecutionContext['tillDate']}") LocalDate tillDate) {
+        return new PeriodicAccrualItemWriter(loanAccrualWritePlatformService, tillDate);
     }
 
     @Bean
-    public AddPeriodicAccrualEntriesTasklet addPeriodicAccrualEntriesTasklet() {
-        return new AddPeriodicAccrualEntriesTasklet(loanAccrualPlatformService);
+    public PeriodicAccrualSkipListener periodicAccrualSkipListener() {
+        return new PeriodicAccrualSkipListener();
     }
 }
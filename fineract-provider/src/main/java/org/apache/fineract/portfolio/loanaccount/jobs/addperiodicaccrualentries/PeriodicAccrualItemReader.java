@@ -0,0 +1,58 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.addperiodicaccrualentries;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.portfolio.loanaccount.service.LoanReadPlatformService;
+import org.springframework.batch.item.ItemReader;
+
+/**
+ * Streams the ids of the loans of one partition which have periodic accruals to post, one page at a time by loan id, so
+ * the candidates are never loaded all at once.
+ */
+@RequiredArgsConstructor
+public class PeriodicAccrualItemReader implements ItemReader<Long> {
+
+    private final LoanReadPlatformService loanReadPlatformService;
+    private final LocalDate tillDate;
+    private final Long minLoanId;
+    private final Long maxLoanId;
+    private final int pageSize;
+
+    private List<Long> page;
+    private int position;
+
+    @Override
+    public Long read() {
+        if (page == null || position == page.size()) {
+            if (page != null && page.size() < pageSize) {
+                return null;
+            }
+            Long afterLoanId = page == null ? minLoanId - 1 : page.get(page.size() - 1);
+            page = loanReadPlatformService.retrievePeriodicAccrualLoanIds(tillDate, afterLoanId, maxLoanId, pageSize);
+            position = 0;
+            if (page.isEmpty()) {
+                return null;
+            }
+        }
+        return page.get(position++);
+    }
+}
@@ -0,0 +1,43 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.addperiodicaccrualentries;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.portfolio.loanaccount.service.LoanAccrualWritePlatformService;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+/**
+ * Posts the periodic accruals of a chunk of loans in the chunk transaction. A failing loan rolls back the chunk, after
+ * which the step retries the loans one by one and skips the failing one.
+ */
+@RequiredArgsConstructor
+public class PeriodicAccrualItemWriter implements ItemWriter<Long> {
+
+    private final LoanAccrualWritePlatformService loanAccrualWritePlatformService;
+    private final LocalDate tillDate;
+
+    @Override
+    public void write(@NotNull Chunk<? extends Long> chunk) {
+        loanAccrualWritePlatformService.addPeriodicAccruals(tillDate, new ArrayList<>(chunk.getItems()));
+    }
+}
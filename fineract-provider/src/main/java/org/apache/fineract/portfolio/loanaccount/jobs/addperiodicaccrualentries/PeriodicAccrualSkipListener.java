@@ -0,0 +1,48 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.addperiodicaccrualentries;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+
+/**
+ * Logs the loans whose accruals could not be posted and fails the partition once the remaining loans are done, the same
+ * way the job failed after processing every loan before it was partitioned.
+ */
+@Slf4j
+public class PeriodicAccrualSkipListener implements SkipListener<Long, Long>, StepExecutionListener {
+
+    @Override
+    public void onSkipInWrite(Long loanId, Throwable t) {
+        log.error("Failed to add accrual transaction for loan {}", loanId, t);
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        if (stepExecution.getWriteSkipCount() > 0) {
+            stepExecution.upgradeStatus(BatchStatus.FAILED);
+            return ExitStatus.FAILED;
+        }
+        return stepExecution.getExitStatus();
+    }
+}
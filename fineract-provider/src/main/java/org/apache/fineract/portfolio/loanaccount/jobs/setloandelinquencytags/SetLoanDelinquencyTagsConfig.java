@@ -19,10 +19,12 @@
 package org.apache.fineract.portfolio.loanaccount.jobs.setloandelinquencytags;
 
 import lombok.AllArgsConstructor;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
 import org.apache.fineract.portfolio.delinquency.helper.DelinquencyEffectivePauseHelper;
 import org.apache.fineract.portfolio.delinquency.service.DelinquencyReadPlatformService;
 import org.apache.fineract.portfolio.delinquency.service.DelinquencyWritePlatformService;
+import org.apache.fineract.portfolio.delinquency.service.LoanDelinquencyBulkClassificationService;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallmentRepository;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanTransactionRepository;
 import org.springframework.batch.core.Job;
@@ -48,6 +50,10 @@ public class SetLoanDelinquencyTagsConfig {
     private DelinquencyEffectivePauseHelper delinquencyEffectivePauseHelper;
     @Autowired
     private DelinquencyReadPlatformService delinquencyReadPlatformService;
+    @Autowired
+    private LoanDelinquencyBulkClassificationService loanDelinquencyBulkClassificationService;
+    @Autowired
+    private FineractProperties fineractProperties;
 
     private DelinquencyWritePlatformService delinquencyWritePlatformService;
     private LoanRepaymentScheduleInstallmentRepository loanRepaymentScheduleInstallmentRepository;
@@ -68,7 +74,8 @@ public class SetLoanDelinquencyTagsConfig {
     @Bean
     public SetLoanDelinquencyTagsTasklet setLoanDelinquencyTagsTasklet() {
         return new SetLoanDelinquencyTagsTasklet(delinquencyWritePlatformService, loanRepaymentScheduleInstallmentRepository,
-                loanTransactionRepository, delinquencyEffectivePauseHelper, delinquencyReadPlatformService);
+                loanTransactionRepository, delinquencyEffectivePauseHelper, delinquencyReadPlatformService,
+                loanDelinquencyBulkClassificationService, fineractProperties);
     }
 
 }
@@ -24,6 +24,7 @@ import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.ActionContext;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
@@ -31,6 +32,7 @@ import org.apache.fineract.portfolio.delinquency.domain.LoanDelinquencyAction;
 import org.apache.fineract.portfolio.delinquency.helper.DelinquencyEffectivePauseHelper;
 import org.apache.fineract.portfolio.delinquency.service.DelinquencyReadPlatformService;
 import org.apache.fineract.portfolio.delinquency.service.DelinquencyWritePlatformService;
+import org.apache.fineract.portfolio.delinquency.service.LoanDelinquencyBulkClassificationService;
 import org.apache.fineract.portfolio.delinquency.validator.LoanDelinquencyActionData;
 import org.apache.fineract.portfolio.loanaccount.data.LoanScheduleDelinquencyData;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallmentRepository;
@@ -51,6 +53,8 @@ public class SetLoanDelinquencyTagsTasklet implements Tasklet {
     private final LoanTransactionRepository loanTransactionRepository;
     private final DelinquencyEffectivePauseHelper delinquencyEffectivePauseHelper;
     private final DelinquencyReadPlatformService delinquencyReadPlatformService;
+    private final LoanDelinquencyBulkClassificationService loanDelinquencyBulkClassificationService;
+    private final FineractProperties fineractProperties;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
@@ -67,6 +71,17 @@ public class SetLoanDelinquencyTagsTasklet implements Tasklet {
         log.debug("{}: Records affected by setLoanDelinquencyTags: {}", ThreadLocalContextUtil.getTenant().getName(),
                 processedLoans.size());
 
+        if (isBulkClassificationEnabled()) {
+            // Classify the overdue loans at once, only the installment level delinquency loans are handled one by one
+            List<Long> pendingLoans = loanDelinquencyBulkClassificationService.classifyOverdueLoans(businessDate, processedLoans);
+            List<LoanScheduleDelinquencyData> pendingLoanData = new ArrayList<>();
+            for (Long loanId : pendingLoans) {
+                pendingLoanData.add(new LoanScheduleDelinquencyData(loanId, null, null, null));
+            }
+            applyDelinquencyTagToLoans(pendingLoanData);
+            return RepeatStatus.FINISHED;
+        }
+
         // Read Loan Ids with overdue installments
         if (processedLoans.isEmpty()) {
             loanScheduleDelinquencyData = this.loanRepaymentScheduleInstallmentRepository
@@ -80,6 +95,11 @@ public class SetLoanDelinquencyTagsTasklet implements Tasklet {
         return RepeatStatus.FINISHED;
     }
 
+    private boolean isBulkClassificationEnabled() {
+        FineractProperties.FineractLoanDelinquencyProperties delinquencyProperties = fineractProperties.getLoan().getDelinquency();
+        return delinquencyProperties != null && delinquencyProperties.isBulkClassificationEnabled();
+    }
+
     private List<Long> applyDelinquencyTagToLoans(Collection<LoanScheduleDelinquencyData> loanScheduleDelinquencyData) {
         List<Long> processedLoans = new ArrayList<>();
 
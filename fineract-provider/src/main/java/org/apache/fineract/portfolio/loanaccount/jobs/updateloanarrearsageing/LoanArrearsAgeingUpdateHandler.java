@@ -18,24 +18,28 @@
  */
 package org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing;
 
+import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Types;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.portfolio.loanaccount.data.LoanArrearsAgingData;
 import org.apache.fineract.portfolio.loanaccount.loanschedule.data.LoanSchedulePeriodData;
 import org.apache.fineract.portfolio.loanaccount.service.LoanArrearsAgingService;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
@@ -49,68 +53,54 @@ public class LoanArrearsAgeingUpdateHandler {
     private final JdbcTemplate jdbcTemplate;
     private final DatabaseSpecificSQLGenerator sqlGenerator;
     private final LoanArrearsAgingService loanArrearsAgingService;
+    private final EntityManager entityManager;
 
     private void truncateLoanArrearsAgingDetails() {
         jdbcTemplate.execute("truncate table m_loan_arrears_aging");
     }
 
-    private void deleteLoanArrearsAgingDetails(List<Long> loanIds) {
-        // delete existing record for loan from m_loan_arrears_aging table
-        for (Long loanId : loanIds) {
-            jdbcTemplate.update("delete from m_loan_arrears_aging where loan_id=?", loanId);
-        }
-    }
-
     public void updateLoanArrearsAgeingDetailsForAllLoans() {
         truncateLoanArrearsAgingDetails();
-        String insertSQLStatement = buildQueryForInsertAgeingDetails(Boolean.TRUE);
-        List<String> insertStatements = updateLoanArrearsAgeingDetailsWithOriginalScheduleForAllLoans();
-        insertStatements.add(0, insertSQLStatement);
-        final int[] records = this.jdbcTemplate.batchUpdate(insertStatements.toArray(new String[0]));
-        if (log.isDebugEnabled()) {
-            int result = 0;
-            for (int record : records) {
-                result += record;
-            }
-            log.debug("Records affected by updateLoanArrearsAgeingDetails: {}", result);
-        }
+        String insertSQLStatement = "INSERT INTO m_loan_arrears_aging(loan_id,principal_overdue_derived,interest_overdue_derived,"
+                + "fee_charges_overdue_derived,penalty_charges_overdue_derived,total_overdue_derived,overdue_since_date_derived) "
+                + buildQueryForAgeingDetails(Boolean.TRUE);
+        final int records = this.jdbcTemplate.update(insertSQLStatement);
+        List<LoanArrearsAgingData> arrearsWithOriginalSchedule = updateLoanArrearsAgeingDetailsWithOriginalScheduleForAllLoans();
+        loanArrearsAgingService.saveLoanArrearsAgeingDetails(arrearsWithOriginalSchedule, List.of());
+        log.debug("Records affected by updateLoanArrearsAgeingDetails: {}", records + arrearsWithOriginalSchedule.size());
     }
 
+    /**
+     * Recalculates the arrears of the given loans with one query per schedule type and replaces their rows with one
+     * batched delete and one batched insert.
+     */
     public void updateLoanArrearsAgeingDetails(List<Long> loanIdsForUpdate) {
-
-        deleteLoanArrearsAgingDetails(loanIdsForUpdate);
-        String insertSQLStatement = buildQueryForInsertAgeingDetails(Boolean.FALSE);
-        List<Object[]> batch = new ArrayList<Object[]>();
-        if (!loanIdsForUpdate.isEmpty()) {
-            for (Long loanId : loanIdsForUpdate) {
-                Object[] values = new Object[] { loanId };
-                batch.add(values);
-            }
+        if (loanIdsForUpdate.isEmpty()) {
+            return;
         }
-        final int[] recordsUpdatedWithoutOriginalSchedule = this.jdbcTemplate.batchUpdate(insertSQLStatement, batch);
-        int[] recordsUpdatedWithOriginalSchedule = new int[0];
-        List<String> insertStatements = updateLoanArrearsAgeingDetailsWithOriginalSchedule(loanIdsForUpdate);
-        if (!insertStatements.isEmpty()) {
-            recordsUpdatedWithOriginalSchedule = this.jdbcTemplate.batchUpdate(insertStatements.toArray(new String[0]));
+        final NamedParameterJdbcTemplate namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        SqlParameterSource parameters = new MapSqlParameterSource("loanIds", loanIdsForUpdate);
+        List<LoanArrearsAgingData> arrears = new ArrayList<>(
+                namedJdbcTemplate.query(buildQueryForAgeingDetails(Boolean.FALSE), parameters, new LoanArrearsAgingMapper()));
+        arrears.addAll(updateLoanArrearsAgeingDetailsWithOriginalSchedule(loanIdsForUpdate));
 
-        }
-        if (log.isDebugEnabled()) {
-            int result = 0;
-            for (int recordWithoutOriginalSchedule : recordsUpdatedWithoutOriginalSchedule) {
-                result += recordWithoutOriginalSchedule;
-            }
-            if (recordsUpdatedWithOriginalSchedule.length > 0) {
-                for (int recordWithOriginalSchedule : recordsUpdatedWithOriginalSchedule) {
-                    result += recordWithOriginalSchedule;
-                }
-            }
-            log.debug("Records affected by updateLoanArrearsAgeingDetails: {}", result);
-        }
+        Set<Long> loanIdsWithoutArrears = new LinkedHashSet<>(loanIdsForUpdate);
+        arrears.forEach(data -> loanIdsWithoutArrears.remove(data.getLoanId()));
+        loanArrearsAgingService.saveLoanArrearsAgeingDetails(arrears, loanIdsWithoutArrears);
+        log.debug("Records affected by updateLoanArrearsAgeingDetails: {}", arrears.size() + loanIdsWithoutArrears.size());
+    }
 
+    /**
+     * Used by the COB business step: the arrears are calculated from the schedule tables, so the pending changes of the
+     * earlier business steps are flushed first.
+     */
+    public void flushAndUpdateLoanArrearsAgeingDetails(Long loanId) {
+        entityManager.flush();
+        updateLoanArrearsAgeingDetails(List.of(loanId));
     }
 
-    private String buildQueryForInsertAgeingDetails(boolean isForAllLoans) {
-        final StringBuilder insertSqlStatementBuilder = new StringBuilder(900);
+    private String buildQueryForAgeingDetails(boolean isForAllLoans) {
+        final StringBuilder sqlStatementBuilder = new StringBuilder(900);
         final String principalOverdueCalculationSql = "SUM(COALESCE(mr.principal_amount, 0) - coalesce(mr.principal_completed_derived, 0) - coalesce(mr.principal_writtenoff_derived, 0))";
         final String interestOverdueCalculationSql = "SUM(COALESCE(mr.interest_amount, 0) - coalesce(mr.interest_writtenoff_derived, 0) - coalesce(mr.interest_waived_derived, 0) - "
                 + "coalesce(mr.interest_completed_derived, 0))";
@@ -119,65 +109,54 @@ public class LoanArrearsAgeingUpdateHandler {
         final String penaltyChargesOverdueCalculationSql = "SUM(COALESCE(mr.penalty_charges_amount, 0) - coalesce(mr.penalty_charges_writtenoff_derived, 0) - "
                 + "coalesce(mr.penalty_charges_waived_derived, 0) - coalesce(mr.penalty_charges_completed_derived, 0))";
 
-        insertSqlStatementBuilder.append(
-                "INSERT INTO m_loan_arrears_aging(loan_id,principal_overdue_derived,interest_overdue_derived,fee_charges_overdue_derived,penalty_charges_overdue_derived,total_overdue_derived,overdue_since_date_derived)");
-        insertSqlStatementBuilder.append("select ml.id as loanId,");
-        insertSqlStatementBuilder.append(principalOverdueCalculationSql + " as principal_overdue_derived,");
-        insertSqlStatementBuilder.append(interestOverdueCalculationSql + " as interest_overdue_derived,");
-        insertSqlStatementBuilder.append(feeChargesOverdueCalculationSql + " as fee_charges_overdue_derived,");
-        insertSqlStatementBuilder.append(penaltyChargesOverdueCalculationSql + " as penalty_charges_overdue_derived,");
-        insertSqlStatementBuilder.append(principalOverdueCalculationSql + "+" + interestOverdueCalculationSql + "+");
-        insertSqlStatementBuilder
+        sqlStatementBuilder.append("select ml.id as loanId,");
+        sqlStatementBuilder.append(principalOverdueCalculationSql + " as principal_overdue_derived,");
+        sqlStatementBuilder.append(interestOverdueCalculationSql + " as interest_overdue_derived,");
+        sqlStatementBuilder.append(feeChargesOverdueCalculationSql + " as fee_charges_overdue_derived,");
+        sqlStatementBuilder.append(penaltyChargesOverdueCalculationSql + " as penalty_charges_overdue_derived,");
+        sqlStatementBuilder.append(principalOverdueCalculationSql + "+" + interestOverdueCalculationSql + "+");
+        sqlStatementBuilder
                 .append(feeChargesOverdueCalculationSql + "+" + penaltyChargesOverdueCalculationSql + " as total_overdue_derived,");
-        insertSqlStatementBuilder.append("MIN(mr.duedate) as overdue_since_date_derived ");
-        insertSqlStatementBuilder.append(" FROM m_loan ml ");
-        insertSqlStatementBuilder.append(" INNER JOIN m_loan_repayment_schedule mr on mr.loan_id = ml.id ");
-        insertSqlStatementBuilder.append(" left join m_product_loan_recalculation_details prd on prd.product_id = ml.product_id ");
-        insertSqlStatementBuilder.append(" WHERE ml.loan_status_id = 300 ");// active
+        sqlStatementBuilder.append("MIN(mr.duedate) as overdue_since_date_derived ");
+        sqlStatementBuilder.append(" FROM m_loan ml ");
+        sqlStatementBuilder.append(" INNER JOIN m_loan_repayment_schedule mr on mr.loan_id = ml.id ");
+        sqlStatementBuilder.append(" left join m_product_loan_recalculation_details prd on prd.product_id = ml.product_id ");
+        sqlStatementBuilder.append(" WHERE ml.loan_status_id = 300 ");// active
         if (!isForAllLoans) {
-            insertSqlStatementBuilder.append(" and ml.id IN (?)");
+            sqlStatementBuilder.append(" and ml.id IN (:loanIds)");
         }
-        insertSqlStatementBuilder.append(" and mr.completed_derived is false ");
-        insertSqlStatementBuilder.append(" and mr.duedate < ")
+        sqlStatementBuilder.append(" and mr.completed_derived is false ");
+        sqlStatementBuilder.append(" and mr.duedate < ")
                 .append(sqlGenerator.subDate(sqlGenerator.currentBusinessDate(), "COALESCE(ml.grace_on_arrears_ageing, 0)", "day"))
                 .append(" ");
-        insertSqlStatementBuilder
+        sqlStatementBuilder
                 .append(" and (prd.arrears_based_on_original_schedule = false or prd.arrears_based_on_original_schedule is null) ");
-        insertSqlStatementBuilder.append(" GROUP BY ml.id");
-        return insertSqlStatementBuilder.toString();
+        sqlStatementBuilder.append(" GROUP BY ml.id");
+        return sqlStatementBuilder.toString();
     }
 
-    private List<String> updateLoanArrearsAgeingDetailsWithOriginalSchedule(List<Long> loanIdsForUpdate) {
-        List<String> insertStatement = new ArrayList<>();
+    private List<LoanArrearsAgingData> updateLoanArrearsAgeingDetailsWithOriginalSchedule(List<Long> loanIdsForUpdate) {
         String sqlForLoanIdentifiers = buildQueryForLoanIdentifiersWithOriginalSchedule(Boolean.FALSE);
-        List<Object> loanIdsForQuery = new ArrayList<>();
-        for (Long loanId : loanIdsForUpdate) {
-            loanIdsForQuery.add(loanId);
-        }
-        List<Long> loanIds = this.jdbcTemplate.queryForList(sqlForLoanIdentifiers, loanIdsForQuery.toArray(), new int[] { Types.BIGINT },
+        final NamedParameterJdbcTemplate namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        List<Long> loanIds = namedJdbcTemplate.queryForList(sqlForLoanIdentifiers, new MapSqlParameterSource("loanIds", loanIdsForUpdate),
                 Long.class);
-        if (!loanIds.isEmpty()) {
-            Map<Long, List<LoanSchedulePeriodData>> scheduleDate = getScheduleDate(loanIds);
-            List<Map<String, Object>> loanSummary = getLoanSummary(loanIds);
-            loanArrearsAgingService.updateScheduleWithPaidDetail(scheduleDate, loanSummary);
-            loanArrearsAgingService.createInsertStatements(insertStatement, scheduleDate, true);
-        }
-
-        return insertStatement;
+        return calculateArrearsWithOriginalSchedule(loanIds);
     }
 
-    private List<String> updateLoanArrearsAgeingDetailsWithOriginalScheduleForAllLoans() {
-        List<String> insertStatement = new ArrayList<>();
+    private List<LoanArrearsAgingData> updateLoanArrearsAgeingDetailsWithOriginalScheduleForAllLoans() {
         String sqlForLoanIdentifiers = buildQueryForLoanIdentifiersWithOriginalSchedule(Boolean.TRUE);
         List<Long> loanIds = this.jdbcTemplate.queryForList(sqlForLoanIdentifiers, Long.class);
-        if (!loanIds.isEmpty()) {
-            Map<Long, List<LoanSchedulePeriodData>> scheduleDate = getScheduleDate(loanIds);
-            List<Map<String, Object>> loanSummary = getLoanSummary(loanIds);
-            loanArrearsAgingService.updateScheduleWithPaidDetail(scheduleDate, loanSummary);
-            loanArrearsAgingService.createInsertStatements(insertStatement, scheduleDate, true);
-        }
+        return calculateArrearsWithOriginalSchedule(loanIds);
+    }
 
-        return insertStatement;
+    private List<LoanArrearsAgingData> calculateArrearsWithOriginalSchedule(List<Long> loanIds) {
+        if (loanIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<LoanSchedulePeriodData>> scheduleDate = getScheduleDate(loanIds);
+        List<Map<String, Object>> loanSummary = getLoanSummary(loanIds);
+        loanArrearsAgingService.updateScheduleWithPaidDetail(scheduleDate, loanSummary);
+        return loanArrearsAgingService.calculateArrearsWithOriginalSchedule(scheduleDate);
     }
 
     private String buildQueryForLoanIdentifiersWithOriginalSchedule(boolean isForAllLoans) {
@@ -188,7 +167,7 @@ public class LoanArrearsAgeingUpdateHandler {
                 "inner join m_product_loan_recalculation_details prd on prd.product_id = ml.product_id and prd.arrears_based_on_original_schedule = true  ");
         loanIdentifier.append("WHERE ml.loan_status_id = 300 ");
         if (!isForAllLoans) {
-            loanIdentifier.append(" and ml.id IN (?)");
+            loanIdentifier.append(" and ml.id IN (:loanIds)");
         }
         loanIdentifier.append(" and mr.completed_derived is false  and mr.duedate < ")
                 .append(sqlGenerator.subDate(sqlGenerator.currentBusinessDate(), "COALESCE(ml.grace_on_arrears_ageing, 0)", "day"))
@@ -221,6 +200,19 @@ public class LoanArrearsAgeingUpdateHandler {
         return namedJdbcTemplate.query(loanOriginalScheduleExtractor.schema, parameters, loanOriginalScheduleExtractor);
     }
 
+    private static final class LoanArrearsAgingMapper implements RowMapper<LoanArrearsAgingData> {
+
+        @Override
+        public LoanArrearsAgingData mapRow(ResultSet rs, int rowNum) throws SQLException {
+            return new LoanArrearsAgingData(rs.getLong("loanId"),
+                    JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "principal_overdue_derived"),
+                    JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "interest_overdue_derived"),
+                    JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "fee_charges_overdue_derived"),
+                    JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "penalty_charges_overdue_derived"),
+                    JdbcSupport.getLocalDate(rs, "overdue_since_date_derived"));
+        }
+    }
+
     private static final class LoanOriginalScheduleExtractor implements ResultSetExtractor<Map<Long, List<LoanSchedulePeriodData>>> {
 
         private final String schema;
@@ -32,6 +32,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.MathUtil;
 import org.apache.fineract.organisation.monetary.domain.ApplicationCurrency;
@@ -50,6 +51,7 @@ import org.apache.fineract.portfolio.loanaccount.domain.LoanCharge;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanInterestRecalcualtionAdditionalDetails;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanTransaction;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanTransactionToRepaymentScheduleMapping;
 import org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.LoanRepaymentScheduleTransactionProcessor;
 import org.apache.fineract.portfolio.loanaccount.loanschedule.data.LoanScheduleDTO;
 import org.apache.fineract.portfolio.loanaccount.loanschedule.data.LoanScheduleModelDownPaymentPeriod;
@@ -1940,6 +1942,8 @@ public abstract class AbstractCumulativeLoanScheduleGenerator implements LoanSch
 
     public abstract PaymentPeriodsInOneYearCalculator getPaymentPeriodsInOneYearCalculator();
 
+    public abstract FineractProperties getFineractProperties();
+
     public abstract PrincipalInterest calculatePrincipalInterestComponentsForPeriod(PaymentPeriodsInOneYearCalculator calculator,
             BigDecimal interestCalculationGraceOnRepaymentPeriodFraction, Money totalCumulativePrincipal, Money totalCumulativeInterest,
             Money totalInterestDueForLoan, Money cumulatingInterestPaymentDueToGrace, Money outstandingBalance,
@@ -2292,6 +2296,12 @@ public abstract class AbstractCumulativeLoanScheduleGenerator implements LoanSch
                     loan.getRepaymentScheduleInstallments(), rescheduleFrom, currency);
             final List<LoanRepaymentScheduleInstallment> newRepaymentScheduleInstallments = new ArrayList<>();
 
+            // installments settled on schedule keep their persisted paid amounts instead of replaying the repayments
+            // through the transaction processor, the derived balances are identical in both cases
+            boolean seedFromPersistedState = isIncrementalRecalculationEnabled()
+                    && canSeedFromPersistedInstallments(loanApplicationTerms, loan, processInstallmentsInstallments, currency);
+            final boolean verifySeededState = seedFromPersistedState && isIncrementalRecalculationVerifyEnabled();
+
             // Block process the installment and creates the period if it falls
             // before reschedule from date
             // This will create the recalculation details by applying the
@@ -2394,7 +2404,20 @@ public abstract class AbstractCumulativeLoanScheduleGenerator implements LoanSch
                 // calculation of basic fields to start the schedule generation
                 // from the middle
                 periodStartDate = installment.getDueDate();
-                installment.resetDerivedComponents();
+                boolean seedInstallment = false;
+                if (seedFromPersistedState) {
+                    seedInstallment = isPaidWithinExpectedPrincipal(installment, reducePrincipal, loanApplicationTerms, currency);
+                    seedFromPersistedState = seedInstallment;
+                }
+                PersistedInstallmentState persistedState = null;
+                if (seedInstallment && verifySeededState) {
+                    // replay anyway and compare the outcome with the persisted state
+                    persistedState = PersistedInstallmentState.of(installment, currency);
+                    seedInstallment = false;
+                }
+                if (!seedInstallment) {
+                    installment.resetDerivedComponents();
+                }
                 newRepaymentScheduleInstallments.add(installment);
                 outstandingBalance = outstandingBalance.minus(installment.getPrincipal(currency));
                 final LoanScheduleModelPeriod loanScheduleModelPeriod = createLoanScheduleModelPeriod(installment, outstandingBalance);
@@ -2431,9 +2454,18 @@ public abstract class AbstractCumulativeLoanScheduleGenerator implements LoanSch
                         actualPrincipalPortion = principalPortionCalculated.zero();
                     }
 
-                    Money unprocessed = updateEarlyPaidAmountsToMap(loanApplicationTerms, holidayDetailDTO,
-                            loanRepaymentScheduleTransactionProcessor, newRepaymentScheduleInstallments, currency, principalPortionMap,
-                            installment, applicableTransactions, actualPrincipalPortion, loan.getActiveCharges());
+                    Money unprocessed;
+                    if (seedInstallment) {
+                        unprocessed = seedEarlyPaidAmountsToMap(loanApplicationTerms, holidayDetailDTO, currency, principalPortionMap,
+                                applicableTransactions);
+                    } else {
+                        unprocessed = updateEarlyPaidAmountsToMap(loanApplicationTerms, holidayDetailDTO,
+                                loanRepaymentScheduleTransactionProcessor, newRepaymentScheduleInstallments, currency, principalPortionMap,
+                                installment, applicableTransactions, actualPrincipalPortion, loan.getActiveCharges());
+                        if (persistedState != null) {
+                            verifySeededInstallment(loan, installment, persistedState, unprocessed, currency);
+                        }
+                    }
 
                     // this block is to adjust the period number based on the
                     // actual
@@ -2599,6 +2631,126 @@ public abstract class AbstractCumulativeLoanScheduleGenerator implements LoanSch
         return totalUnprocessed;
     }
 
+    /**
+     * Counterpart of {@link #updateEarlyPaidAmountsToMap} for installments seeded from their persisted state: none of
+     * the applicable transactions paid ahead of the expected principal, so only the rest dates are registered.
+     */
+    private Money seedEarlyPaidAmountsToMap(final LoanApplicationTerms loanApplicationTerms, final HolidayDetailDTO holidayDetailDTO,
+            final MonetaryCurrency currency, final Map<LocalDate, Money> principalPortionMap,
+            final Collection<RecalculationDetail> applicableTransactions) {
+        for (RecalculationDetail detail : applicableTransactions) {
+            if (!detail.isProcessed()) {
+                LocalDate applicableDate = getNextRestScheduleDate(detail.getTransactionDate().minusDays(1), loanApplicationTerms,
+                        holidayDetailDTO);
+                updateMapWithAmount(principalPortionMap, Money.zero(currency), applicableDate);
+            }
+        }
+        return Money.zero(currency);
+    }
+
+    /**
+     * Retained installments can be seeded from their persisted state when replaying the repayments would reproduce it
+     * exactly: every installment was fully paid on or before its due date, carries no charges and every repayment up to
+     * the last retained due date was applied to the installment period it falls in.
+     */
+    boolean canSeedFromPersistedInstallments(final LoanApplicationTerms loanApplicationTerms, final Loan loan,
+            final List<LoanRepaymentScheduleInstallment> retainedInstallments, final MonetaryCurrency currency) {
+        if (!loanApplicationTerms.isInterestRecalculationEnabled()
+                || loanApplicationTerms.getInterestRecalculationCompoundingMethod().isCompoundingEnabled()
+                || retainedInstallments.isEmpty()) {
+            return false;
+        }
+        for (LoanRepaymentScheduleInstallment installment : retainedInstallments) {
+            if (installment.isDownPayment() || installment.isRecalculatedInterestComponent() || !installment.isObligationsMet()
+                    || installment.getObligationsMetOnDate() == null
+                    || DateUtils.isAfter(installment.getObligationsMetOnDate(), installment.getDueDate())
+                    || installment.getCredits(currency).isGreaterThanZero()
+                    || installment.getFeeChargesCharged(currency).isGreaterThanZero()
+                    || installment.getPenaltyChargesCharged(currency).isGreaterThanZero()) {
+                return false;
+            }
+        }
+        final LocalDate lastRetainedDueDate = retainedInstallments.get(retainedInstallments.size() - 1).getDueDate();
+        for (LoanTransaction loanTransaction : loan.getLoanTransactions()) {
+            if (loanTransaction.isReversed() || loanTransaction.isDisbursement() || loanTransaction.isAccrual()) {
+                continue;
+            }
+            if (!loanTransaction.isRepayment() || loanTransaction.getOverPaymentPortion(currency).isGreaterThanZero()) {
+                return false;
+            }
+            if (!DateUtils.isAfter(loanTransaction.getTransactionDate(), lastRetainedDueDate)
+                    && !isAppliedWithinInstallmentPeriod(loanTransaction)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isAppliedWithinInstallmentPeriod(final LoanTransaction loanTransaction) {
+        final Set<LoanTransactionToRepaymentScheduleMapping> mappings = loanTransaction.getLoanTransactionToRepaymentScheduleMappings();
+        if (mappings == null || mappings.isEmpty()) {
+            return false;
+        }
+        for (LoanTransactionToRepaymentScheduleMapping mapping : mappings) {
+            LoanRepaymentScheduleInstallment installment = mapping.getLoanRepaymentScheduleInstallment();
+            if (!DateUtils.isAfter(loanTransaction.getTransactionDate(), installment.getFromDate())
+                    || DateUtils.isAfter(loanTransaction.getTransactionDate(), installment.getDueDate())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isPaidWithinExpectedPrincipal(final LoanRepaymentScheduleInstallment installment, final Money reducePrincipal,
+            final LoanApplicationTerms loanApplicationTerms, final MonetaryCurrency currency) {
+        Money expectedPrincipal = calculateExpectedPrincipalPortion(installment.getInterestCharged(currency), loanApplicationTerms)
+                .minus(reducePrincipal);
+        return !installment.getPrincipal(currency).isGreaterThan(expectedPrincipal);
+    }
+
+    private void verifySeededInstallment(final Loan loan, final LoanRepaymentScheduleInstallment installment,
+            final PersistedInstallmentState persistedState, final Money unprocessed, final MonetaryCurrency currency) {
+        if (unprocessed.isGreaterThanZero() || !persistedState.matches(PersistedInstallmentState.of(installment, currency))) {
+            throw new IllegalStateException("Incremental schedule recalculation diverged from the full replay for loan " + loan.getId()
+                    + ", installment " + installment.getInstallmentNumber());
+        }
+    }
+
+    boolean isIncrementalRecalculationEnabled() {
+        FineractProperties.FineractLoanScheduleProperties schedule = getLoanScheduleProperties();
+        return schedule != null && schedule.isIncrementalRecalculationEnabled();
+    }
+
+    private boolean isIncrementalRecalculationVerifyEnabled() {
+        FineractProperties.FineractLoanScheduleProperties schedule = getLoanScheduleProperties();
+        return schedule != null && schedule.isIncrementalRecalculationVerifyEnabled();
+    }
+
+    private FineractProperties.FineractLoanScheduleProperties getLoanScheduleProperties() {
+        FineractProperties fineractProperties = getFineractProperties();
+        if (fineractProperties == null || fineractProperties.getLoan() == null) {
+            return null;
+        }
+        return fineractProperties.getLoan().getSchedule();
+    }
+
+    record PersistedInstallmentState(Money principalCompleted, Money interestPaid, Money interestWaived, Money totalPaidInAdvance,
+            Money totalPaidLate, boolean obligationsMet, LocalDate obligationsMetOnDate) {
+
+        static PersistedInstallmentState of(final LoanRepaymentScheduleInstallment installment, final MonetaryCurrency currency) {
+            return new PersistedInstallmentState(installment.getPrincipalCompleted(currency), installment.getInterestPaid(currency),
+                    installment.getInterestWaived(currency), installment.getTotalPaidInAdvance(currency),
+                    installment.getTotalPaidLate(currency), installment.isObligationsMet(), installment.getObligationsMetOnDate());
+        }
+
+        boolean matches(final PersistedInstallmentState other) {
+            return principalCompleted.isEqualTo(other.principalCompleted) && interestPaid.isEqualTo(other.interestPaid)
+                    && interestWaived.isEqualTo(other.interestWaived) && totalPaidInAdvance.isEqualTo(other.totalPaidInAdvance)
+                    && totalPaidLate.isEqualTo(other.totalPaidLate) && obligationsMet == other.obligationsMet
+                    && DateUtils.isEqual(obligationsMetOnDate, other.obligationsMetOnDate);
+        }
+    }
+
     private Money updateCompoundingDetailsForPartialScheduleGeneration(final LoanRepaymentScheduleInstallment installment,
             LoanApplicationTerms loanApplicationTerms, Map<LocalDate, Money> principalMap,
             final Map<LocalDate, Map<LocalDate, Money>> compoundingDateVariations, final Money uncompoundedAmount,
@@ -27,6 +27,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.TreeMap;
 import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.organisation.monetary.domain.Money;
 import org.apache.fineract.portfolio.loanaccount.data.LoanTermVariationsData;
@@ -62,6 +63,7 @@ public class CumulativeDecliningBalanceInterestLoanScheduleGenerator extends Abs
 
     private final ScheduledDateGenerator scheduledDateGenerator;
     private final PaymentPeriodsInOneYearCalculator paymentPeriodsInOneYearCalculator;
+    private final FineractProperties fineractProperties;
 
     @Override
     public ScheduledDateGenerator getScheduledDateGenerator() {
@@ -73,6 +75,11 @@ public class CumulativeDecliningBalanceInterestLoanScheduleGenerator extends Abs
         return paymentPeriodsInOneYearCalculator;
     }
 
+    @Override
+    public FineractProperties getFineractProperties() {
+        return fineractProperties;
+    }
+
     @Override
     public PrincipalInterest calculatePrincipalInterestComponentsForPeriod(final PaymentPeriodsInOneYearCalculator calculator,
             final BigDecimal interestCalculationGraceOnRepaymentPeriodFraction, final Money totalCumulativePrincipal,
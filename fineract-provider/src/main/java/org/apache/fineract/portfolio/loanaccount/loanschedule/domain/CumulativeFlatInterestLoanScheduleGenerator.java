@@ -25,6 +25,7 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.TreeMap;
 import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.organisation.monetary.domain.Money;
 import org.apache.fineract.portfolio.loanaccount.data.LoanTermVariationsData;
 import org.springframework.stereotype.Component;
@@ -35,6 +36,7 @@ public class CumulativeFlatInterestLoanScheduleGenerator extends AbstractCumulat
 
     private final ScheduledDateGenerator scheduledDateGenerator;
     private final PaymentPeriodsInOneYearCalculator paymentPeriodsInOneYearCalculator;
+    private final FineractProperties fineractProperties;
 
     @Override
     public ScheduledDateGenerator getScheduledDateGenerator() {
@@ -46,6 +48,11 @@ public class CumulativeFlatInterestLoanScheduleGenerator extends AbstractCumulat
         return paymentPeriodsInOneYearCalculator;
     }
 
+    @Override
+    public FineractProperties getFineractProperties() {
+        return fineractProperties;
+    }
+
     @Override
     public PrincipalInterest calculatePrincipalInterestComponentsForPeriod(final PaymentPeriodsInOneYearCalculator calculator,
             final BigDecimal interestCalculationGraceOnRepaymentPeriodFraction, final Money totalCumulativePrincipal,
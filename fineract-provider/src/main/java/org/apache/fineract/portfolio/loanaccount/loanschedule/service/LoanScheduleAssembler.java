@@ -728,12 +728,12 @@ public class LoanScheduleAssembler {
 
     }
 
-    public void assempleVariableScheduleFrom(final Loan loan, final String json) {
-        this.variableLoanScheduleFromApiJsonValidator.validateSchedule(json, loan);
+    public void assempleVariableScheduleFrom(final Loan loan, final JsonElement element) {
+        this.variableLoanScheduleFromApiJsonValidator.validateSchedule(element, loan);
 
         List<LoanTermVariations> variations = loan.getLoanTermVariations();
         List<LoanTermVariations> newVariations = new ArrayList<>();
-        extractLoanTermVariations(loan, json, newVariations);
+        extractLoanTermVariations(loan, element, newVariations);
 
         final Map<LocalDate, LocalDate> adjustDueDateVariations = new HashMap<>();
 
@@ -987,8 +987,7 @@ public class LoanScheduleAssembler {
         return retainVariations;
     }
 
-    private void extractLoanTermVariations(final Loan loan, final String json, final List<LoanTermVariations> loanTermVariations) {
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
+    private void extractLoanTermVariations(final Loan loan, final JsonElement element, final List<LoanTermVariations> loanTermVariations) {
         if (loan.loanProduct().allowVariabeInstallments()) {
             if (element.isJsonObject() && this.fromApiJsonHelper.parameterExists(LoanApiConstants.exceptionParamName, element)) {
                 final JsonObject topLevelJsonElement = element.getAsJsonObject();
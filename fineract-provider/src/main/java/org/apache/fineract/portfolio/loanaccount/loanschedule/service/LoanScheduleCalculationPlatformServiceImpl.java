@@ -111,9 +111,9 @@ public class LoanScheduleCalculationPlatformServiceImpl implements LoanScheduleC
 
         if (validateParams) {
             boolean isMeetingMandatoryForJLGLoans = configurationDomainService.isMeetingMandatoryForJLGLoans();
-            this.loanApiJsonDeserializer.validateForCreate(query.json(), isMeetingMandatoryForJLGLoans, loanProduct);
+            this.loanApiJsonDeserializer.validateForCreate(query.parsedJson(), isMeetingMandatoryForJLGLoans, loanProduct);
         }
-        this.fromApiJsonDeserializer.validate(query.json());
+        this.fromApiJsonDeserializer.validate(query.parsedJson());
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors).resource("loan");
@@ -211,7 +211,7 @@ public class LoanScheduleCalculationPlatformServiceImpl implements LoanScheduleC
     @Transactional(readOnly = true)
     public LoanScheduleData generateLoanScheduleForVariableInstallmentRequest(Long loanId, final String json) {
         final Loan loan = this.loanAssembler.assembleFrom(loanId);
-        this.loanScheduleAssembler.assempleVariableScheduleFrom(loan, json);
+        this.loanScheduleAssembler.assempleVariableScheduleFrom(loan, this.fromJsonHelper.parse(json));
         return constructLoanScheduleData(loan);
     }
 
@@ -58,7 +58,7 @@ public class LoanScheduleWritePlatformServiceImpl implements LoanScheduleWritePl
         for (LoanTermVariations termVariations : loan.getLoanTermVariations()) {
             loanTermVariations.put(termVariations.getId(), termVariations);
         }
-        loanScheduleAssembler.assempleVariableScheduleFrom(loan, command.json());
+        loanScheduleAssembler.assempleVariableScheduleFrom(loan, command.parsedJson());
 
         loanAccountDomainService.saveLoanWithDataIntegrityViolationChecks(loan);
         final Map<String, Object> changes = new HashMap<>();
@@ -21,8 +21,6 @@ package org.apache.fineract.portfolio.loanaccount.serialization;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.reflect.TypeToken;
-import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -30,14 +28,12 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.fineract.infrastructure.core.data.ApiParameterError;
 import org.apache.fineract.infrastructure.core.data.DataValidatorBuilder;
-import org.apache.fineract.infrastructure.core.exception.InvalidJsonException;
 import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
 import org.apache.fineract.infrastructure.core.exception.UnsupportedParameterException;
 import org.apache.fineract.infrastructure.core.serialization.FromJsonHelper;
@@ -105,6 +101,14 @@ public final class LoanApplicationCommandFromApiJsonHelper {
             LoanApiConstants.daysInYearTypeParameterName, LoanApiConstants.fixedPrincipalPercentagePerInstallmentParamName,
             LoanApiConstants.DISALLOW_EXPECTED_DISBURSEMENTS, LoanApiConstants.FRAUD_ATTRIBUTE_NAME,
             LoanProductConstants.LOAN_SCHEDULE_PROCESSING_TYPE));
+    private static final Set<String> CHARGE_SUPPORTED_PARAMETERS = new HashSet<>(Arrays.asList(LoanApiConstants.idParameterName,
+            LoanApiConstants.chargeIdParameterName, LoanApiConstants.amountParameterName, LoanApiConstants.chargeTimeTypeParameterName,
+            LoanApiConstants.chargeCalculationTypeParameterName, LoanApiConstants.dueDateParamName));
+    private static final Set<String> NEW_COLLATERAL_SUPPORTED_PARAMETERS = new HashSet<>(
+            Arrays.asList(LoanApiConstants.clientCollateralIdParameterName, LoanApiConstants.quantityParameterName));
+    private static final Set<String> COLLATERAL_SUPPORTED_PARAMETERS = new HashSet<>(Arrays.asList(LoanApiConstants.idParameterName,
+            LoanApiConstants.clientCollateralIdParameterName, LoanApiConstants.quantityParameterName));
+    private static final Set<String> UNDO_SUPPORTED_PARAMETERS = new HashSet<>(List.of(LoanApiConstants.noteParamName));
     public static final String LOANAPPLICATION_UNDO = "loanapplication.undo";
 
     private final FromJsonHelper fromApiJsonHelper;
@@ -114,21 +118,12 @@ public final class LoanApplicationCommandFromApiJsonHelper {
     private final LoanRepaymentScheduleTransactionProcessorFactory loanRepaymentScheduleTransactionProcessorFactory;
     private final AdvancedPaymentAllocationsValidator advancedPaymentAllocationsValidator;
 
-    public void validateForCreate(final String json, final boolean isMeetingMandatoryForJLGLoans, final LoanProduct loanProduct) {
-        if (StringUtils.isBlank(json)) {
-            throw new InvalidJsonException();
-        }
-
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {
-
-        }.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, SUPPORTED_PARAMETERS);
+    public void validateForCreate(final JsonElement element, final boolean isMeetingMandatoryForJLGLoans, final LoanProduct loanProduct) {
+        this.fromApiJsonHelper.checkForUnsupportedParameters(element, SUPPORTED_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors).resource("loan");
 
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
-
         final String loanTypeStr = this.fromApiJsonHelper.extractStringNamed(LoanApiConstants.loanTypeParameterName, element);
         baseDataValidator.reset().parameter(LoanApiConstants.loanTypeParameterName).value(loanTypeStr).notNull();
 
@@ -430,21 +425,11 @@ public final class LoanApplicationCommandFromApiJsonHelper {
             final Locale locale = this.fromApiJsonHelper.extractLocaleParameter(topLevelJsonElement);
 
             if (topLevelJsonElement.get(LoanApiConstants.chargesParameterName).isJsonArray()) {
-                final Type arrayObjectParameterTypeOfMap = new TypeToken<Map<String, Object>>() {
-
-                }.getType();
-                final Set<String> supportedParameters = new HashSet<>(
-                        Arrays.asList(LoanApiConstants.idParameterName, LoanApiConstants.chargeIdParameterName,
-                                LoanApiConstants.amountParameterName, LoanApiConstants.chargeTimeTypeParameterName,
-                                LoanApiConstants.chargeCalculationTypeParameterName, LoanApiConstants.dueDateParamName));
-
                 final JsonArray array = topLevelJsonElement.get(LoanApiConstants.chargesParameterName).getAsJsonArray();
                 for (int i = 1; i <= array.size(); i++) {
 
                     final JsonObject loanChargeElement = array.get(i - 1).getAsJsonObject();
-                    final String arrayObjectJson = this.fromApiJsonHelper.toJson(loanChargeElement);
-                    this.fromApiJsonHelper.checkForUnsupportedParameters(arrayObjectParameterTypeOfMap, arrayObjectJson,
-                            supportedParameters);
+                    this.fromApiJsonHelper.checkForUnsupportedParameters(loanChargeElement, CHARGE_SUPPORTED_PARAMETERS);
 
                     final Long chargeId = this.fromApiJsonHelper.extractLongNamed(LoanApiConstants.chargeIdParameterName,
                             loanChargeElement);
@@ -477,18 +462,11 @@ public final class LoanApplicationCommandFromApiJsonHelper {
                 final Locale locale = this.fromApiJsonHelper.extractLocaleParameter(topLevelJsonElement);
                 if (topLevelJsonElement.get(LoanApiConstants.collateralParameterName).isJsonArray()) {
 
-                    final Type collateralParameterTypeOfMap = new TypeToken<Map<String, Object>>() {
-
-                    }.getType();
-                    final Set<String> supportedParameters = new HashSet<>(
-                            Arrays.asList(LoanApiConstants.clientCollateralIdParameterName, LoanApiConstants.quantityParameterName));
                     final JsonArray array = topLevelJsonElement.get(LoanApiConstants.collateralParameterName).getAsJsonArray();
                     for (int i = 1; i <= array.size(); i++) {
                         final JsonObject collateralItemElement = array.get(i - 1).getAsJsonObject();
 
-                        final String collateralJson = this.fromApiJsonHelper.toJson(collateralItemElement);
-                        this.fromApiJsonHelper.checkForUnsupportedParameters(collateralParameterTypeOfMap, collateralJson,
-                                supportedParameters);
+                        this.fromApiJsonHelper.checkForUnsupportedParameters(collateralItemElement, NEW_COLLATERAL_SUPPORTED_PARAMETERS);
 
                         final Long clientCollateralId = this.fromApiJsonHelper
                                 .extractLongNamed(LoanApiConstants.clientCollateralIdParameterName, collateralItemElement);
@@ -586,19 +564,11 @@ public final class LoanApplicationCommandFromApiJsonHelper {
         }
     }
 
-    public void validateForModify(final String json, final LoanProduct loanProduct, final Loan existingLoanApplication) {
-        if (StringUtils.isBlank(json)) {
-            throw new InvalidJsonException();
-        }
-
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {
-
-        }.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, SUPPORTED_PARAMETERS);
+    public void validateForModify(final JsonElement element, final LoanProduct loanProduct, final Loan existingLoanApplication) {
+        this.fromApiJsonHelper.checkForUnsupportedParameters(element, SUPPORTED_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors).resource("loan");
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
         boolean atLeastOneParameterPassedForUpdate = false;
 
         if (this.fromApiJsonHelper.parameterExists(LoanApiConstants.clientIdParameterName, element)) {
@@ -933,21 +903,11 @@ public final class LoanApplicationCommandFromApiJsonHelper {
             final Locale locale = this.fromApiJsonHelper.extractLocaleParameter(topLevelJsonElement);
 
             if (topLevelJsonElement.get(LoanApiConstants.chargesParameterName).isJsonArray()) {
-                final Type arrayObjectParameterTypeOfMap = new TypeToken<Map<String, Object>>() {
-
-                }.getType();
-                final Set<String> supportedParameters = new HashSet<>(
-                        Arrays.asList(LoanApiConstants.idParameterName, LoanApiConstants.chargeIdParameterName,
-                                LoanApiConstants.amountParameterName, LoanApiConstants.chargeTimeTypeParameterName,
-                                LoanApiConstants.chargeCalculationTypeParameterName, LoanApiConstants.dueDateParamName));
-
                 final JsonArray array = topLevelJsonElement.get(LoanApiConstants.chargesParameterName).getAsJsonArray();
                 for (int i = 1; i <= array.size(); i++) {
 
                     final JsonObject loanChargeElement = array.get(i - 1).getAsJsonObject();
-                    final String arrayObjectJson = this.fromApiJsonHelper.toJson(loanChargeElement);
-                    this.fromApiJsonHelper.checkForUnsupportedParameters(arrayObjectParameterTypeOfMap, arrayObjectJson,
-                            supportedParameters);
+                    this.fromApiJsonHelper.checkForUnsupportedParameters(loanChargeElement, CHARGE_SUPPORTED_PARAMETERS);
 
                     final Long chargeId = this.fromApiJsonHelper.extractLongNamed(LoanApiConstants.chargeIdParameterName,
                             loanChargeElement);
@@ -984,20 +944,14 @@ public final class LoanApplicationCommandFromApiJsonHelper {
                     final Locale locale = this.fromApiJsonHelper.extractLocaleParameter(topLevelJsonElement);
                     if (topLevelJsonElement.get(LoanApiConstants.collateralParameterName).isJsonArray()) {
 
-                        final Type collateralParameterTypeOfMap = new TypeToken<Map<String, Object>>() {
-
-                        }.getType();
-                        final Set<String> supportedParameters = new HashSet<>(Arrays.asList(LoanApiConstants.idParameterName,
-                                LoanApiConstants.clientCollateralIdParameterName, LoanApiConstants.quantityParameterName));
                         final JsonArray array = topLevelJsonElement.get(LoanApiConstants.collateralParameterName).getAsJsonArray();
                         if (array.size() > 0) {
                             BigDecimal totalAmount = BigDecimal.ZERO;
                             for (int i = 1; i <= array.size(); i++) {
                                 final JsonObject collateralItemElement = array.get(i - 1).getAsJsonObject();
 
-                                final String collateralJson = this.fromApiJsonHelper.toJson(collateralItemElement);
-                                this.fromApiJsonHelper.checkForUnsupportedParameters(collateralParameterTypeOfMap, collateralJson,
-                                        supportedParameters);
+                                this.fromApiJsonHelper.checkForUnsupportedParameters(collateralItemElement,
+                                        COLLATERAL_SUPPORTED_PARAMETERS);
 
                                 final Long id = this.fromApiJsonHelper.extractLongNamed(LoanApiConstants.idParameterName,
                                         collateralItemElement);
@@ -1123,20 +1077,11 @@ public final class LoanApplicationCommandFromApiJsonHelper {
         }
     }
 
-    public void validateForUndo(final String json) {
-        if (StringUtils.isBlank(json)) {
-            throw new InvalidJsonException();
-        }
-
-        final Set<String> undoSupportedParameters = new HashSet<>(List.of(LoanApiConstants.noteParamName));
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {
-
-        }.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, undoSupportedParameters);
+    public void validateForUndo(final JsonElement element) {
+        this.fromApiJsonHelper.checkForUnsupportedParameters(element, UNDO_SUPPORTED_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors).resource(LOANAPPLICATION_UNDO);
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
 
         final String note = "note";
         if (this.fromApiJsonHelper.parameterExists(note, element)) {
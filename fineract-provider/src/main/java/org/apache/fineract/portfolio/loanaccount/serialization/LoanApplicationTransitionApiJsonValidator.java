@@ -19,17 +19,15 @@
 package org.apache.fineract.portfolio.loanaccount.serialization;
 
 import com.google.gson.JsonElement;
-import com.google.gson.reflect.TypeToken;
-import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.infrastructure.core.api.JsonCommand;
 import org.apache.fineract.infrastructure.core.data.ApiParameterError;
 import org.apache.fineract.infrastructure.core.data.DataValidatorBuilder;
 import org.apache.fineract.infrastructure.core.exception.InvalidJsonException;
@@ -42,6 +40,16 @@ import org.springframework.stereotype.Component;
 @Component
 public final class LoanApplicationTransitionApiJsonValidator {
 
+    private static final Set<String> APPROVAL_PARAMETERS = new HashSet<>(Arrays.asList(LoanApiConstants.loanIdTobeApproved,
+            LoanApiConstants.approvedLoanAmountParameterName, LoanApiConstants.approvedOnDateParameterName,
+            LoanApiConstants.disbursementNetDisbursalAmountParameterName, LoanApiConstants.noteParameterName,
+            LoanApiConstants.localeParameterName, LoanApiConstants.dateFormatParameterName, LoanApiConstants.disbursementDataParameterName,
+            LoanApiConstants.expectedDisbursementDateParameterName));
+    private static final Set<String> REJECTION_PARAMETERS = new HashSet<>(Arrays.asList(LoanApiConstants.rejectedOnDateParameterName,
+            LoanApiConstants.noteParameterName, LoanApiConstants.localeParameterName, LoanApiConstants.dateFormatParameterName));
+    private static final Set<String> WITHDRAWAL_PARAMETERS = new HashSet<>(Arrays.asList(LoanApiConstants.withdrawnOnDateParameterName,
+            LoanApiConstants.noteParameterName, LoanApiConstants.localeParameterName, LoanApiConstants.dateFormatParameterName));
+
     private final FromJsonHelper fromApiJsonHelper;
 
     @Autowired
@@ -56,25 +64,18 @@ public final class LoanApplicationTransitionApiJsonValidator {
         }
     }
 
-    public void validateApproval(final String json) {
+    public void validateApproval(final JsonCommand command) {
 
-        if (StringUtils.isBlank(json)) {
+        if (StringUtils.isBlank(command.json())) {
             throw new InvalidJsonException();
         }
 
-        final Set<String> disbursementParameters = new HashSet<>(
-                Arrays.asList(LoanApiConstants.loanIdTobeApproved, LoanApiConstants.approvedLoanAmountParameterName,
-                        LoanApiConstants.approvedOnDateParameterName, LoanApiConstants.disbursementNetDisbursalAmountParameterName,
-                        LoanApiConstants.noteParameterName, LoanApiConstants.localeParameterName, LoanApiConstants.dateFormatParameterName,
-                        LoanApiConstants.disbursementDataParameterName, LoanApiConstants.expectedDisbursementDateParameterName));
-
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {}.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, disbursementParameters);
+        this.fromApiJsonHelper.checkForUnsupportedParameters(command, APPROVAL_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors).resource("loanapplication");
 
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
+        final JsonElement element = this.fromApiJsonHelper.parsedJson(command);
 
         final BigDecimal principal = this.fromApiJsonHelper
                 .extractBigDecimalWithLocaleNamed(LoanApiConstants.approvedLoanAmountParameterName, element);
@@ -101,22 +102,18 @@ public final class LoanApplicationTransitionApiJsonValidator {
         throwExceptionIfValidationWarningsExist(dataValidationErrors);
     }
 
-    public void validateRejection(final String json) {
+    public void validateRejection(final JsonCommand command) {
 
-        if (StringUtils.isBlank(json)) {
+        if (StringUtils.isBlank(command.json())) {
             throw new InvalidJsonException();
         }
 
-        final Set<String> disbursementParameters = new HashSet<>(Arrays.asList(LoanApiConstants.rejectedOnDateParameterName,
-                LoanApiConstants.noteParameterName, LoanApiConstants.localeParameterName, LoanApiConstants.dateFormatParameterName));
-
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {}.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, disbursementParameters);
+        this.fromApiJsonHelper.checkForUnsupportedParameters(command, REJECTION_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors).resource("loanapplication");
 
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
+        final JsonElement element = this.fromApiJsonHelper.parsedJson(command);
         final LocalDate rejectedOnDate = this.fromApiJsonHelper.extractLocalDateNamed(LoanApiConstants.rejectedOnDateParameterName,
                 element);
         baseDataValidator.reset().parameter(LoanApiConstants.rejectedOnDateParameterName).value(rejectedOnDate).notNull();
@@ -127,22 +124,18 @@ public final class LoanApplicationTransitionApiJsonValidator {
         throwExceptionIfValidationWarningsExist(dataValidationErrors);
     }
 
-    public void validateApplicantWithdrawal(final String json) {
+    public void validateApplicantWithdrawal(final JsonCommand command) {
 
-        if (StringUtils.isBlank(json)) {
+        if (StringUtils.isBlank(command.json())) {
             throw new InvalidJsonException();
         }
 
-        final Set<String> disbursementParameters = new HashSet<>(Arrays.asList(LoanApiConstants.withdrawnOnDateParameterName,
-                LoanApiConstants.noteParameterName, LoanApiConstants.localeParameterName, LoanApiConstants.dateFormatParameterName));
-
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {}.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, disbursementParameters);
+        this.fromApiJsonHelper.checkForUnsupportedParameters(command, WITHDRAWAL_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors).resource("loanapplication");
 
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
+        final JsonElement element = this.fromApiJsonHelper.parsedJson(command);
         final LocalDate withdrawnOnDate = this.fromApiJsonHelper.extractLocalDateNamed(LoanApiConstants.withdrawnOnDateParameterName,
                 element);
         baseDataValidator.reset().parameter(LoanApiConstants.withdrawnOnDateParameterName).value(withdrawnOnDate).notNull();
@@ -19,18 +19,16 @@
 package org.apache.fineract.portfolio.loanaccount.serialization;
 
 import com.google.gson.JsonElement;
-import com.google.gson.reflect.TypeToken;
-import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import lombok.AllArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.infrastructure.core.api.JsonCommand;
 import org.apache.fineract.infrastructure.core.data.ApiParameterError;
 import org.apache.fineract.infrastructure.core.data.DataValidatorBuilder;
 import org.apache.fineract.infrastructure.core.exception.InvalidJsonException;
@@ -44,6 +42,24 @@ import org.springframework.stereotype.Component;
 @AllArgsConstructor
 public final class LoanChargeApiJsonValidator {
 
+    private static final Set<String> ADD_LOAN_CHARGE_PARAMETERS = new HashSet<>(
+            Arrays.asList("chargeId", "amount", "dueDate", "locale", "dateFormat", "externalId"));
+    private static final Set<String> UPDATE_LOAN_CHARGE_PARAMETERS = new HashSet<>(
+            Arrays.asList("amount", "dueDate", "locale", "dateFormat"));
+    private static final Set<String> CHARGE_PAYMENT_WITH_CHARGE_ID_PARAMETERS = new HashSet<>(
+            Arrays.asList("transactionDate", "locale", "dateFormat", "chargeId", "dueDate", "installmentNumber", "externalId"));
+    private static final Set<String> CHARGE_PAYMENT_PARAMETERS = new HashSet<>(
+            Arrays.asList("transactionDate", "locale", "dateFormat", "dueDate", "installmentNumber", "externalId"));
+    private static final Set<String> CHARGE_REFUND_PARAMETERS = new HashSet<>(
+            Arrays.asList("loanChargeId", "dueDate", "locale", "dateFormat", "installmentNumber", //
+                    // remainder below relate to payment part of refund and not validated here
+                    "transactionAmount", "externalId", "note", "paymentTypeId", "accountNumber", "checkNumber", "routingCode",
+                    "receiptNumber", "bankNumber"));
+    private static final Set<String> CHARGE_ADJUSTMENT_PARAMETERS = new HashSet<>(List.of("amount", "externalId", "locale",
+            "paymentTypeId", "accountNumber", "checkNumber", "routingCode", "receiptNumber", "bankNumber", "note"));
+    private static final Set<String> INSTALLMENT_CHARGE_PARAMETERS = new HashSet<>(
+            Arrays.asList("dueDate", "locale", "dateFormat", "installmentNumber", "externalId"));
+
     private final FromJsonHelper fromApiJsonHelper;
 
     private void throwExceptionIfValidationWarningsExist(final List<ApiParameterError> dataValidationErrors) {
@@ -53,23 +69,17 @@ public final class LoanChargeApiJsonValidator {
         }
     }
 
-    public void validateAddLoanCharge(final String json) {
-        if (StringUtils.isBlank(json)) {
+    public void validateAddLoanCharge(final JsonCommand command) {
+        if (StringUtils.isBlank(command.json())) {
             throw new InvalidJsonException();
         }
 
-        final Set<String> disbursementParameters = new HashSet<>(
-                Arrays.asList("chargeId", "amount", "dueDate", "locale", "dateFormat", "externalId"));
-
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {
-
-        }.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, disbursementParameters);
+        this.fromApiJsonHelper.checkForUnsupportedParameters(command, ADD_LOAN_CHARGE_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors).resource("loanCharge");
 
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
+        final JsonElement element = this.fromApiJsonHelper.parsedJson(command);
         final Long chargeId = this.fromApiJsonHelper.extractLongNamed("chargeId", element);
         baseDataValidator.reset().parameter("chargeId").value(chargeId).notNull().integerGreaterThanZero();
 
@@ -84,22 +94,17 @@ public final class LoanChargeApiJsonValidator {
         throwExceptionIfValidationWarningsExist(dataValidationErrors);
     }
 
-    public void validateUpdateOfLoanCharge(final String json) {
-        if (StringUtils.isBlank(json)) {
+    public void validateUpdateOfLoanCharge(final JsonCommand command) {
+        if (StringUtils.isBlank(command.json())) {
             throw new InvalidJsonException();
         }
 
-        final Set<String> disbursementParameters = new HashSet<>(Arrays.asList("amount", "dueDate", "locale", "dateFormat"));
-
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {
-
-        }.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, disbursementParameters);
+        this.fromApiJsonHelper.checkForUnsupportedParameters(command, UPDATE_LOAN_CHARGE_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors).resource("loanCharge");
 
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
+        final JsonElement element = this.fromApiJsonHelper.parsedJson(command);
 
         final BigDecimal amount = this.fromApiJsonHelper.extractBigDecimalWithLocaleNamed("amount", element);
         baseDataValidator.reset().parameter("amount").value(amount).notNull().positiveAmount();
@@ -111,30 +116,19 @@ public final class LoanChargeApiJsonValidator {
         throwExceptionIfValidationWarningsExist(dataValidationErrors);
     }
 
-    public void validateChargePaymentTransaction(final String json, final boolean isChargeIdIncluded) {
+    public void validateChargePaymentTransaction(final JsonCommand command, final boolean isChargeIdIncluded) {
 
-        if (StringUtils.isBlank(json)) {
+        if (StringUtils.isBlank(command.json())) {
             throw new InvalidJsonException();
         }
-        Set<String> transactionParameters = null;
-        if (isChargeIdIncluded) {
-            transactionParameters = new HashSet<>(
-                    Arrays.asList("transactionDate", "locale", "dateFormat", "chargeId", "dueDate", "installmentNumber", "externalId"));
-        } else {
-            transactionParameters = new HashSet<>(
-                    Arrays.asList("transactionDate", "locale", "dateFormat", "dueDate", "installmentNumber", "externalId"));
-        }
-
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {
-
-        }.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, transactionParameters);
+        this.fromApiJsonHelper.checkForUnsupportedParameters(command,
+                isChargeIdIncluded ? CHARGE_PAYMENT_WITH_CHARGE_ID_PARAMETERS : CHARGE_PAYMENT_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors)
                 .resource("loan.charge.payment.transaction");
 
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
+        final JsonElement element = this.fromApiJsonHelper.parsedJson(command);
         final LocalDate transactionDate = this.fromApiJsonHelper.extractLocalDateNamed("transactionDate", element);
         if (isChargeIdIncluded) {
             final Long chargeId = this.fromApiJsonHelper.extractLongNamed("chargeId", element);
@@ -147,30 +141,21 @@ public final class LoanChargeApiJsonValidator {
         throwExceptionIfValidationWarningsExist(dataValidationErrors);
     }
 
-    public void validateLoanChargeRefundTransaction(final String json) {
+    public void validateLoanChargeRefundTransaction(final JsonCommand command) {
 
-        if (StringUtils.isBlank(json)) {
+        if (StringUtils.isBlank(command.json())) {
             throw new InvalidJsonException();
         }
         final String loanChargeIdParam = "loanChargeId";
         final String installmentNumberParam = "installmentNumber";
         final String dueDateParam = "dueDate";
-        Set<String> transactionParameters = new HashSet<>(
-                Arrays.asList(loanChargeIdParam, dueDateParam, "locale", "dateFormat", installmentNumberParam, //
-                        // remainder below relate to payment part of refund and not validated here
-                        "transactionAmount", "externalId", "note", "locale", "dateFormat", "paymentTypeId", "accountNumber", "checkNumber",
-                        "routingCode", "receiptNumber", "bankNumber"));
-
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {
-
-        }.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, transactionParameters);
+        this.fromApiJsonHelper.checkForUnsupportedParameters(command, CHARGE_REFUND_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors)
                 .resource("loan.charge.refund.transaction");
 
-        JsonElement element = this.fromApiJsonHelper.parse(json);
+        JsonElement element = this.fromApiJsonHelper.parsedJson(command);
 
         final Long chargeId = this.fromApiJsonHelper.extractLongNamed(loanChargeIdParam, element);
         baseDataValidator.reset().parameter(loanChargeIdParam).value(chargeId).notNull().integerGreaterThanZero();
@@ -184,25 +169,19 @@ public final class LoanChargeApiJsonValidator {
         throwExceptionIfValidationWarningsExist(dataValidationErrors);
     }
 
-    public void validateLoanChargeAdjustmentRequest(final Long loanId, final Long loanChargeId, final String json) {
+    public void validateLoanChargeAdjustmentRequest(final Long loanId, final Long loanChargeId, final JsonCommand command) {
 
-        if (StringUtils.isBlank(json)) {
+        if (StringUtils.isBlank(command.json())) {
             throw new InvalidJsonException();
         }
 
-        Set<String> transactionParameters = new HashSet<>(List.of("amount", "externalId", "locale", "paymentTypeId", "accountNumber",
-                "checkNumber", "routingCode", "receiptNumber", "bankNumber", "note"));
-
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {
-
-        }.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, transactionParameters);
+        this.fromApiJsonHelper.checkForUnsupportedParameters(command, CHARGE_ADJUSTMENT_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors)
                 .resource("loan.charge.adjustment.request");
 
-        JsonElement element = this.fromApiJsonHelper.parse(json);
+        JsonElement element = this.fromApiJsonHelper.parsedJson(command);
 
         final BigDecimal amount = this.fromApiJsonHelper.extractBigDecimalWithLocaleNamed("amount", element);
         baseDataValidator.reset().parameter("amount").value(amount).ignoreIfNull().positiveAmount();
@@ -215,24 +194,18 @@ public final class LoanChargeApiJsonValidator {
         throwExceptionIfValidationWarningsExist(dataValidationErrors);
     }
 
-    public void validateInstallmentChargeTransaction(final String json) {
+    public void validateInstallmentChargeTransaction(final JsonCommand command) {
 
-        if (StringUtils.isBlank(json)) {
+        if (StringUtils.isBlank(command.json())) {
             return;
         }
-        Set<String> transactionParameters = new HashSet<>(
-                Arrays.asList("dueDate", "locale", "dateFormat", "installmentNumber", "externalId"));
-
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {
-
-        }.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, transactionParameters);
+        this.fromApiJsonHelper.checkForUnsupportedParameters(command, INSTALLMENT_CHARGE_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors)
                 .resource("loan.charge.waive.transaction");
 
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
+        final JsonElement element = this.fromApiJsonHelper.parsedJson(command);
 
         final Integer installmentNumber = this.fromApiJsonHelper.extractIntegerWithLocaleNamed("installmentNumber", element);
         baseDataValidator.reset().parameter("installmentNumber").value(installmentNumber).ignoreIfNull().integerGreaterThanZero();
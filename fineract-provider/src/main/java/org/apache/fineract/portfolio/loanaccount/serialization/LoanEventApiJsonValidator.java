@@ -21,8 +21,6 @@ package org.apache.fineract.portfolio.loanaccount.serialization;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.reflect.TypeToken;
-import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -30,11 +28,11 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.infrastructure.core.api.JsonCommand;
 import org.apache.fineract.infrastructure.core.data.ApiParameterError;
 import org.apache.fineract.infrastructure.core.data.DataValidatorBuilder;
 import org.apache.fineract.infrastructure.core.exception.InvalidJsonException;
@@ -58,6 +56,45 @@ import org.springframework.stereotype.Component;
 @AllArgsConstructor
 public final class LoanEventApiJsonValidator {
 
+    private static final Set<String> ACCOUNT_TRANSFER_DISBURSEMENT_PARAMETERS = new HashSet<>(Arrays.asList("actualDisbursementDate",
+            "externalId", "note", "locale", "dateFormat", LoanApiConstants.principalDisbursedParameterName,
+            LoanApiConstants.emiAmountParameterName, LoanApiConstants.disbursementNetDisbursalAmountParameterName));
+    private static final Set<String> DISBURSEMENT_PARAMETERS = new HashSet<>(Arrays.asList("actualDisbursementDate", "externalId", "note",
+            "locale", "dateFormat", "paymentTypeId", "accountNumber", "checkNumber", "routingCode", "receiptNumber", "bankNumber",
+            "adjustRepaymentDate", LoanApiConstants.principalDisbursedParameterName, LoanApiConstants.emiAmountParameterName,
+            LoanApiConstants.postDatedChecks, LoanApiConstants.disbursementNetDisbursalAmountParameterName));
+    private static final Set<String> UNDO_CHARGE_OFF_PARAMETERS = new HashSet<>(
+            Arrays.asList(LoanApiConstants.REVERSAL_EXTERNAL_ID_PARAMNAME));
+    private static final Set<String> TRANSACTION_PARAMETERS = new HashSet<>(Arrays.asList("transactionDate", "transactionAmount",
+            "externalId", "note", "locale", "dateFormat", "paymentTypeId", "accountNumber", "checkNumber", "routingCode", "receiptNumber",
+            "bankNumber", LoanApiConstants.REVERSAL_EXTERNAL_ID_PARAMNAME));
+    private static final Set<String> CHARGEBACK_PARAMETERS = new HashSet<>(Arrays.asList(LoanApiConstants.TRANSACTION_AMOUNT_PARAMNAME,
+            LoanApiConstants.localeParameterName, LoanApiConstants.externalIdParameterName, LoanApiConstants.noteParameterName,
+            LoanApiConstants.PAYMENT_TYPE_PARAMNAME));
+    private static final Set<String> NEW_REPAYMENT_PARAMETERS = new HashSet<>(Arrays.asList("transactionDate", "transactionAmount",
+            "externalId", "note", "locale", "dateFormat", "paymentTypeId", "accountNumber", "checkNumber", "routingCode", "receiptNumber",
+            "bankNumber", "loanId"));
+    private static final Set<String> PAYMENT_DETAIL_PARAMETERS = new HashSet<>(Arrays.asList("accountNumber", "checkNumber", "routingCode",
+            "receiptNumber", "bankNumber"));
+    private static final Set<String> TRANSACTION_WITH_NO_AMOUNT_PARAMETERS = new HashSet<>(Arrays.asList("transactionDate", "note",
+            "locale", "dateFormat", "writeoffReasonId", "externalId"));
+    private static final Set<String> CHARGE_OFF_PARAMETERS = new HashSet<>(Arrays.asList("transactionDate", "note", "locale", "dateFormat",
+            "chargeOffReasonId", "externalId"));
+    private static final Set<String> LOAN_OFFICER_UPDATE_PARAMETERS = new HashSet<>(Arrays.asList("assignmentDate", "fromLoanOfficerId",
+            "toLoanOfficerId", "locale", "dateFormat"));
+    private static final Set<String> BULK_LOAN_REASSIGNMENT_PARAMETERS = new HashSet<>(Arrays.asList("assignmentDate", "fromLoanOfficerId",
+            "toLoanOfficerId", "loans", "locale", "dateFormat"));
+    private static final Set<String> MARK_AS_FRAUD_PARAMETERS = new HashSet<>(Arrays.asList(LoanApiConstants.FRAUD_ATTRIBUTE_NAME));
+    private static final Set<String> DISBURSEMENT_UPDATE_PARAMETERS = new HashSet<>(Arrays.asList("locale", "dateFormat",
+            LoanApiConstants.disbursementDataParameterName, LoanApiConstants.approvedLoanAmountParameterName,
+            LoanApiConstants.updatedDisbursementDateParameterName, LoanApiConstants.updatedDisbursementPrincipalParameterName,
+            LoanApiConstants.expectedDisbursementDateParameterName));
+    private static final Set<String> NEW_REFUND_PARAMETERS = new HashSet<>(Arrays.asList("transactionDate", "transactionAmount",
+            "externalId", "note", "locale", "dateFormat", "paymentTypeId", "accountNumber", "checkNumber", "routingCode", "receiptNumber",
+            "bankNumber"));
+    private static final Set<String> FORECLOSURE_PARAMETERS = new HashSet<>(Arrays.asList("transactionDate", "note", "locale", "dateFormat",
+            "externalId"));
+
     private final FromJsonHelper fromApiJsonHelper;
     private final LoanApplicationCommandFromApiJsonHelper fromApiJsonDeserializer;
     private final LoanRepository loanRepository;
@@ -69,32 +106,21 @@ public final class LoanEventApiJsonValidator {
         }
     }
 
-    public void validateDisbursement(final String json, boolean isAccountTransfer) {
+    public void validateDisbursement(final JsonCommand command, boolean isAccountTransfer) {
+        final String json = command.json();
 
         if (StringUtils.isBlank(json)) {
             throw new InvalidJsonException();
         }
 
-        Set<String> disbursementParameters = null;
-
-        if (isAccountTransfer) {
-            disbursementParameters = new HashSet<>(Arrays.asList("actualDisbursementDate", "externalId", "note", "locale", "dateFormat",
-                    LoanApiConstants.principalDisbursedParameterName, LoanApiConstants.emiAmountParameterName,
-                    LoanApiConstants.disbursementNetDisbursalAmountParameterName));
-        } else {
-            disbursementParameters = new HashSet<>(Arrays.asList("actualDisbursementDate", "externalId", "note", "locale", "dateFormat",
-                    "paymentTypeId", "accountNumber", "checkNumber", "routingCode", "receiptNumber", "bankNumber", "adjustRepaymentDate",
-                    LoanApiConstants.principalDisbursedParameterName, LoanApiConstants.emiAmountParameterName,
-                    LoanApiConstants.postDatedChecks, LoanApiConstants.disbursementNetDisbursalAmountParameterName));
-        }
+        final Set<String> disbursementParameters = isAccountTransfer ? ACCOUNT_TRANSFER_DISBURSEMENT_PARAMETERS : DISBURSEMENT_PARAMETERS;
 
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {}.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, disbursementParameters);
+        this.fromApiJsonHelper.checkForUnsupportedParameters(command, disbursementParameters);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors).resource("loan.disbursement");
 
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
+        final JsonElement element = this.fromApiJsonHelper.parsedJson(command);
         final LocalDate actualDisbursementDate = this.fromApiJsonHelper.extractLocalDateNamed("actualDisbursementDate", element);
         baseDataValidator.reset().parameter("actualDisbursementDate").value(actualDisbursementDate).notNull();
 
@@ -121,8 +147,8 @@ public final class LoanEventApiJsonValidator {
         throwExceptionIfValidationWarningsExist(dataValidationErrors);
     }
 
-    public void validateDisbursementWithPostDatedChecks(final String json, final Long loanId) {
-        final JsonElement jsonElement = this.fromApiJsonHelper.parse(json);
+    public void validateDisbursementWithPostDatedChecks(final JsonCommand command, final Long loanId) {
+        final JsonElement jsonElement = this.fromApiJsonHelper.parsedJson(command);
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors).resource("loan.disbursement");
         final Loan loan = this.loanRepository.findById(loanId).orElseThrow(() -> new LoanNotFoundException(loanId));
@@ -181,16 +207,15 @@ public final class LoanEventApiJsonValidator {
         }
     }
 
-    public void validateUndoChargeOff(final String json) {
+    public void validateUndoChargeOff(final JsonCommand command) {
+        final String json = command.json();
         if (!StringUtils.isBlank(json)) {
-            final Set<String> transactionParameters = new HashSet<>(Arrays.asList(LoanApiConstants.REVERSAL_EXTERNAL_ID_PARAMNAME));
-            final Type typeOfMap = new TypeToken<Map<String, Object>>() {}.getType();
-            this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, transactionParameters);
+            this.fromApiJsonHelper.checkForUnsupportedParameters(command, UNDO_CHARGE_OFF_PARAMETERS);
 
             final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
             final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors).resource("loan.transaction");
 
-            final JsonElement element = this.fromApiJsonHelper.parse(json);
+            final JsonElement element = this.fromApiJsonHelper.parsedJson(command);
 
             final String reversalExternalId = this.fromApiJsonHelper.extractStringNamed(LoanApiConstants.REVERSAL_EXTERNAL_ID_PARAMNAME,
                     element);
@@ -202,23 +227,19 @@ public final class LoanEventApiJsonValidator {
         }
     }
 
-    public void validateTransaction(final String json) {
+    public void validateTransaction(final JsonCommand command) {
+        final String json = command.json();
 
         if (StringUtils.isBlank(json)) {
             throw new InvalidJsonException();
         }
 
-        final Set<String> transactionParameters = new HashSet<>(Arrays.asList("transactionDate", "transactionAmount", "externalId", "note",
-                "locale", "dateFormat", "paymentTypeId", "accountNumber", "checkNumber", "routingCode", "receiptNumber", "bankNumber",
-                LoanApiConstants.REVERSAL_EXTERNAL_ID_PARAMNAME));
-
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {}.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, transactionParameters);
+        this.fromApiJsonHelper.checkForUnsupportedParameters(command, TRANSACTION_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors).resource("loan.transaction");
 
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
+        final JsonElement element = this.fromApiJsonHelper.parsedJson(command);
         final LocalDate transactionDate = this.fromApiJsonHelper.extractLocalDateNamed("transactionDate", element);
         baseDataValidator.reset().parameter("transactionDate").value(transactionDate).notNull();
 
@@ -237,23 +258,19 @@ public final class LoanEventApiJsonValidator {
         throwExceptionIfValidationWarningsExist(dataValidationErrors);
     }
 
-    public void validateChargebackTransaction(final String json) {
+    public void validateChargebackTransaction(final JsonCommand command) {
+        final String json = command.json();
 
         if (StringUtils.isBlank(json)) {
             throw new InvalidJsonException();
         }
 
-        final Set<String> transactionParameters = new HashSet<>(Arrays.asList(LoanApiConstants.TRANSACTION_AMOUNT_PARAMNAME,
-                LoanApiConstants.localeParameterName, LoanApiConstants.externalIdParameterName, LoanApiConstants.noteParameterName,
-                LoanApiConstants.PAYMENT_TYPE_PARAMNAME));
-
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {}.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, transactionParameters);
+        this.fromApiJsonHelper.checkForUnsupportedParameters(command, CHARGEBACK_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors).resource("loan.transaction");
 
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
+        final JsonElement element = this.fromApiJsonHelper.parsedJson(command);
 
         final BigDecimal transactionAmount = this.fromApiJsonHelper
                 .extractBigDecimalWithLocaleNamed(LoanApiConstants.TRANSACTION_AMOUNT_PARAMNAME, element);
@@ -267,23 +284,19 @@ public final class LoanEventApiJsonValidator {
         throwExceptionIfValidationWarningsExist(dataValidationErrors);
     }
 
-    public void validateNewRepaymentTransaction(final String json) {
+    public void validateNewRepaymentTransaction(final JsonCommand command) {
+        final String json = command.json();
 
         if (StringUtils.isBlank(json)) {
             throw new InvalidJsonException();
         }
 
-        final Set<String> transactionParameters = new HashSet<>(
-                Arrays.asList("transactionDate", "transactionAmount", "externalId", "note", "locale", "dateFormat", "paymentTypeId",
-                        "accountNumber", "checkNumber", "routingCode", "receiptNumber", "bankNumber", "loanId"));
-
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {}.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, transactionParameters);
+        this.fromApiJsonHelper.checkForUnsupportedParameters(command, NEW_REPAYMENT_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors).resource("loan.transaction");
 
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
+        final JsonElement element = this.fromApiJsonHelper.parsedJson(command);
         final LocalDate transactionDate = this.fromApiJsonHelper.extractLocalDateNamed("transactionDate", element);
         baseDataValidator.reset().parameter("transactionDate").value(transactionDate).notNull();
 
@@ -326,30 +339,25 @@ public final class LoanEventApiJsonValidator {
         } else {
             baseDataValidator.reset().parameter("paymentTypeId").value(paymentTypeId).ignoreIfNull().integerGreaterThanZero();
         }
-        final Set<String> paymentDetailParameters = new HashSet<>(
-                Arrays.asList("accountNumber", "checkNumber", "routingCode", "receiptNumber", "bankNumber"));
-        for (final String paymentDetailParameterName : paymentDetailParameters) {
+        for (final String paymentDetailParameterName : PAYMENT_DETAIL_PARAMETERS) {
             final String paymentDetailParameterValue = this.fromApiJsonHelper.extractStringNamed(paymentDetailParameterName, element);
             baseDataValidator.reset().parameter(paymentDetailParameterName).value(paymentDetailParameterValue).ignoreIfNull()
                     .notExceedingLengthOf(50);
         }
     }
 
-    public void validateTransactionWithNoAmount(final String json) {
+    public void validateTransactionWithNoAmount(final JsonCommand command) {
+        final String json = command.json();
         if (StringUtils.isBlank(json)) {
             throw new InvalidJsonException();
         }
 
-        final Set<String> disbursementParameters = new HashSet<>(
-                Arrays.asList("transactionDate", "note", "locale", "dateFormat", "writeoffReasonId", "externalId"));
-
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {}.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, disbursementParameters);
+        this.fromApiJsonHelper.checkForUnsupportedParameters(command, TRANSACTION_WITH_NO_AMOUNT_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors).resource("loan.transaction");
 
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
+        final JsonElement element = this.fromApiJsonHelper.parsedJson(command);
         final LocalDate transactionDate = this.fromApiJsonHelper.extractLocalDateNamed("transactionDate", element);
         baseDataValidator.reset().parameter("transactionDate").value(transactionDate).notNull();
 
@@ -362,21 +370,18 @@ public final class LoanEventApiJsonValidator {
         throwExceptionIfValidationWarningsExist(dataValidationErrors);
     }
 
-    public void validateChargeOffTransaction(final String json) {
+    public void validateChargeOffTransaction(final JsonCommand command) {
+        final String json = command.json();
         if (StringUtils.isBlank(json)) {
             throw new InvalidJsonException();
         }
 
-        final Set<String> chargeOffParameters = new HashSet<>(
-                Arrays.asList("transactionDate", "note", "locale", "dateFormat", "chargeOffReasonId", "externalId"));
-
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {}.getType();
-        fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, chargeOffParameters);
+        fromApiJsonHelper.checkForUnsupportedParameters(command, CHARGE_OFF_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors).resource("loan.transaction");
 
-        final JsonElement element = fromApiJsonHelper.parse(json);
+        final JsonElement element = this.fromApiJsonHelper.parsedJson(command);
         final LocalDate transactionDate = fromApiJsonHelper.extractLocalDateNamed("transactionDate", element);
         baseDataValidator.reset().parameter("transactionDate").value(transactionDate).notNull();
 
@@ -392,21 +397,18 @@ public final class LoanEventApiJsonValidator {
         throwExceptionIfValidationWarningsExist(dataValidationErrors);
     }
 
-    public void validateUpdateOfLoanOfficer(final String json) {
+    public void validateUpdateOfLoanOfficer(final JsonCommand command) {
+        final String json = command.json();
         if (StringUtils.isBlank(json)) {
             throw new InvalidJsonException();
         }
 
-        final Set<String> disbursementParameters = new HashSet<>(
-                Arrays.asList("assignmentDate", "fromLoanOfficerId", "toLoanOfficerId", "locale", "dateFormat"));
-
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {}.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, disbursementParameters);
+        this.fromApiJsonHelper.checkForUnsupportedParameters(command, LOAN_OFFICER_UPDATE_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors).resource("loanOfficer");
 
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
+        final JsonElement element = this.fromApiJsonHelper.parsedJson(command);
 
         final Long toLoanOfficerId = this.fromApiJsonHelper.extractLongNamed("toLoanOfficerId", element);
         baseDataValidator.reset().parameter("toLoanOfficerId").value(toLoanOfficerId).notNull().integerGreaterThanZero();
@@ -422,21 +424,18 @@ public final class LoanEventApiJsonValidator {
         throwExceptionIfValidationWarningsExist(dataValidationErrors);
     }
 
-    public void validateForBulkLoanReassignment(final String json) {
+    public void validateForBulkLoanReassignment(final JsonCommand command) {
+        final String json = command.json();
         if (StringUtils.isBlank(json)) {
             throw new InvalidJsonException();
         }
 
-        final Set<String> supportedParameters = new HashSet<>(
-                Arrays.asList("assignmentDate", "fromLoanOfficerId", "toLoanOfficerId", "loans", "locale", "dateFormat"));
-
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {}.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, supportedParameters);
+        this.fromApiJsonHelper.checkForUnsupportedParameters(command, BULK_LOAN_REASSIGNMENT_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors).resource("loanOfficer");
 
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
+        final JsonElement element = this.fromApiJsonHelper.parsedJson(command);
 
         final LocalDate assignmentDate = this.fromApiJsonHelper.extractLocalDateNamed("assignmentDate", element);
         baseDataValidator.reset().parameter("assignmentDate").value(assignmentDate).notNull();
@@ -450,20 +449,19 @@ public final class LoanEventApiJsonValidator {
         throwExceptionIfValidationWarningsExist(dataValidationErrors);
     }
 
-    public void validateMarkAsFraudLoan(final String json) {
+    public void validateMarkAsFraudLoan(final JsonCommand command) {
+        final String json = command.json();
         if (StringUtils.isBlank(json)) {
             return;
         }
-        Set<String> transactionParameters = new HashSet<>(Arrays.asList(LoanApiConstants.FRAUD_ATTRIBUTE_NAME));
 
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {}.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, transactionParameters);
+        this.fromApiJsonHelper.checkForUnsupportedParameters(command, MARK_AS_FRAUD_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors)
                 .resource(LoanApiConstants.LOAN_FRAUD_DATAVALIDATOR_PREFIX);
 
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
+        final JsonElement element = this.fromApiJsonHelper.parsedJson(command);
 
         final boolean isFraud = this.fromApiJsonHelper.extractBooleanNamed(LoanApiConstants.FRAUD_ATTRIBUTE_NAME, element);
         baseDataValidator.reset().parameter(LoanApiConstants.FRAUD_ATTRIBUTE_NAME).value(isFraud).notNull();
@@ -471,24 +469,19 @@ public final class LoanEventApiJsonValidator {
         throwExceptionIfValidationWarningsExist(dataValidationErrors);
     }
 
-    public void validateUpdateDisbursementDateAndAmount(final String json, LoanDisbursementDetails loanDisbursementDetails) {
+    public void validateUpdateDisbursementDateAndAmount(final JsonCommand command, LoanDisbursementDetails loanDisbursementDetails) {
+        final String json = command.json();
 
         if (StringUtils.isBlank(json)) {
             throw new InvalidJsonException();
         }
 
-        final Set<String> disbursementParameters = new HashSet<>(Arrays.asList("locale", "dateFormat",
-                LoanApiConstants.disbursementDataParameterName, LoanApiConstants.approvedLoanAmountParameterName,
-                LoanApiConstants.updatedDisbursementDateParameterName, LoanApiConstants.updatedDisbursementPrincipalParameterName,
-                LoanApiConstants.expectedDisbursementDateParameterName));
-
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {}.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, disbursementParameters);
+        this.fromApiJsonHelper.checkForUnsupportedParameters(command, DISBURSEMENT_UPDATE_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors).resource("loan.update.disbursement");
 
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
+        final JsonElement element = this.fromApiJsonHelper.parsedJson(command);
         final LocalDate actualDisbursementDate = this.fromApiJsonHelper
                 .extractLocalDateNamed(LoanApiConstants.expectedDisbursementDateParameterName, element);
         baseDataValidator.reset().parameter(LoanApiConstants.expectedDisbursementDateParameterName).value(actualDisbursementDate).notNull();
@@ -510,22 +503,19 @@ public final class LoanEventApiJsonValidator {
         throwExceptionIfValidationWarningsExist(dataValidationErrors);
     }
 
-    public void validateNewRefundTransaction(final String json) {
+    public void validateNewRefundTransaction(final JsonCommand command) {
+        final String json = command.json();
 
         if (StringUtils.isBlank(json)) {
             throw new InvalidJsonException();
         }
 
-        final Set<String> transactionParameters = new HashSet<>(Arrays.asList("transactionDate", "transactionAmount", "externalId", "note",
-                "locale", "dateFormat", "paymentTypeId", "accountNumber", "checkNumber", "routingCode", "receiptNumber", "bankNumber"));
-
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {}.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, transactionParameters);
+        this.fromApiJsonHelper.checkForUnsupportedParameters(command, NEW_REFUND_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors).resource("loan.transaction");
 
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
+        final JsonElement element = this.fromApiJsonHelper.parsedJson(command);
         final LocalDate transactionDate = this.fromApiJsonHelper.extractLocalDateNamed("transactionDate", element);
         baseDataValidator.reset().parameter("transactionDate").value(transactionDate).notNull();
 
@@ -542,22 +532,19 @@ public final class LoanEventApiJsonValidator {
         throwExceptionIfValidationWarningsExist(dataValidationErrors);
     }
 
-    public void validateLoanForeclosure(final String json) {
+    public void validateLoanForeclosure(final JsonCommand command) {
+        final String json = command.json();
 
         if (StringUtils.isBlank(json)) {
             throw new InvalidJsonException();
         }
 
-        final Set<String> foreclosureParameters = new HashSet<>(
-                Arrays.asList("transactionDate", "note", "locale", "dateFormat", "externalId"));
-
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {}.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, foreclosureParameters);
+        this.fromApiJsonHelper.checkForUnsupportedParameters(command, FORECLOSURE_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors).resource("loan");
 
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
+        final JsonElement element = this.fromApiJsonHelper.parsedJson(command);
         final LocalDate transactionDate = this.fromApiJsonHelper.extractLocalDateNamed("transactionDate", element);
         baseDataValidator.reset().parameter("transactionDate").value(transactionDate).notNull();
 
@@ -27,6 +27,8 @@ import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.infrastructure.jobs.exception.JobExecutionException;
+import org.apache.fineract.infrastructure.jobs.service.JobName;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
 import org.apache.fineract.portfolio.loanaccount.data.LoanScheduleAccrualData;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 
@@ -36,12 +38,42 @@ public class LoanAccrualPlatformServiceImpl implements LoanAccrualPlatformServic
 
     private final LoanReadPlatformService loanReadPlatformService;
     private final LoanAccrualWritePlatformService loanAccrualWritePlatformService;
+    private final PropertyService propertyService;
 
     @Override
     public void addPeriodicAccruals(final LocalDate tillDate) throws JobExecutionException {
-        Collection<LoanScheduleAccrualData> loanScheduleAccrualDataList = this.loanReadPlatformService
-                .retrievePeriodicAccrualData(tillDate);
-        addPeriodicAccruals(tillDate, loanScheduleAccrualDataList);
+        final int pageSize = propertyService.getChunkSize(JobName.ADD_PERIODIC_ACCRUAL_ENTRIES.name());
+        List<Throwable> errors = new ArrayList<>();
+        List<Long> loanIds = this.loanReadPlatformService.retrievePeriodicAccrualLoanIds(tillDate, 0L, null, pageSize);
+        while (!loanIds.isEmpty()) {
+            addPeriodicAccruals(tillDate, loanIds, errors);
+            loanIds = this.loanReadPlatformService.retrievePeriodicAccrualLoanIds(tillDate, loanIds.get(loanIds.size() - 1), null,
+                    pageSize);
+        }
+        if (!errors.isEmpty()) {
+            throw new JobExecutionException(errors);
+        }
+    }
+
+    /**
+     * Posts the accruals of a page of loans together; when that fails the loans are posted one by one, so only the failing
+     * loans are left without accruals.
+     */
+    private void addPeriodicAccruals(final LocalDate tillDate, final List<Long> loanIds, final List<Throwable> errors) {
+        try {
+            this.loanAccrualWritePlatformService.addPeriodicAccruals(tillDate, loanIds);
+        } catch (Exception e) {
+            if (loanIds.size() == 1) {
+                log.error("Failed to add accrual transaction for loan {}", loanIds.get(0), e);
+                errors.add(e);
+                return;
+            }
+            log.warn("Failed to add accrual transactions for loans {} to {}, posting them one by one", loanIds.get(0),
+                    loanIds.get(loanIds.size() - 1));
+            for (Long loanId : loanIds) {
+                addPeriodicAccruals(tillDate, List.of(loanId), errors);
+            }
+        }
     }
 
     @Override
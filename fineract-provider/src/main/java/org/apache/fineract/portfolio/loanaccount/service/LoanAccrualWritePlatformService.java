@@ -20,6 +20,7 @@ package org.apache.fineract.portfolio.loanaccount.service;
 
 import java.time.LocalDate;
 import java.util.Collection;
+import java.util.List;
 import org.apache.fineract.portfolio.loanaccount.data.LoanScheduleAccrualData;
 
 public interface LoanAccrualWritePlatformService {
@@ -29,5 +30,11 @@ public interface LoanAccrualWritePlatformService {
     void addPeriodicAccruals(LocalDate tilldate, Long loanId, Collection<LoanScheduleAccrualData> loanScheduleAccrualDatas)
             throws Exception;
 
+    /**
+     * Posts the periodic accruals of the given loans till the given date. Schedules, charges and interest waivers of the
+     * loans are read together and the accruals are written with batch statements.
+     */
+    void addPeriodicAccruals(LocalDate tilldate, List<Long> loanIds);
+
     void addIncomeAndAccrualTransactions(Long loanId) throws Exception;
 }
@@ -22,6 +22,7 @@ import static org.apache.fineract.portfolio.loanaccount.domain.LoanTransaction.a
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -89,6 +90,7 @@ public class LoanAccrualWritePlatformServiceImpl implements LoanAccrualWritePlat
         Collection<LoanChargeData> chargeData = this.loanChargeReadPlatformService.retrieveLoanChargesForAccrual(loanId);
         Collection<LoanSchedulePeriodData> loanWaiverScheduleData = new ArrayList<>(1);
         Collection<LoanTransactionData> loanWaiverTransactionData = new ArrayList<>(1);
+        List<AccrualPosting> postings = new ArrayList<>();
 
         for (final LoanScheduleAccrualData accrualData : loanScheduleAccrualData) {
             if (accrualData.getWaivedInterestIncome() != null && loanWaiverScheduleData.isEmpty()) {
@@ -97,24 +99,59 @@ public class LoanAccrualWritePlatformServiceImpl implements LoanAccrualWritePlat
             }
             updateCharges(chargeData, accrualData, accrualData.getFromDateAsLocaldate(), accrualData.getDueDateAsLocaldate());
             updateInterestIncome(accrualData, loanWaiverTransactionData, loanWaiverScheduleData, accrualData.getDueDateAsLocaldate());
-            addAccrualAccounting(accrualData);
+            collectAccrual(accrualData, postings);
         }
+        postAccruals(postings);
     }
 
     @Override
     @Transactional
     public void addPeriodicAccruals(final LocalDate tillDate, Long loanId, Collection<LoanScheduleAccrualData> loanScheduleAccrualData) {
-        boolean firstTime = true;
-        LocalDate accruedTill = null;
         Collection<LoanChargeData> chargeData = this.loanChargeReadPlatformService.retrieveLoanChargesForAccrual(loanId);
         Collection<LoanSchedulePeriodData> loanWaiverScheduleData = new ArrayList<>(1);
         Collection<LoanTransactionData> loanWaiverTransactionData = new ArrayList<>(1);
-        for (final LoanScheduleAccrualData accrualData : loanScheduleAccrualData) {
-            if (accrualData.getWaivedInterestIncome() != null && loanWaiverScheduleData.isEmpty()) {
-                loanWaiverScheduleData = this.loanReadPlatformService.fetchWaiverInterestRepaymentData(accrualData.getLoanId());
-                loanWaiverTransactionData = this.loanReadPlatformService.retrieveWaiverLoanTransactions(accrualData.getLoanId());
-            }
+        if (loanScheduleAccrualData.stream().anyMatch(accrualData -> accrualData.getWaivedInterestIncome() != null)) {
+            loanWaiverScheduleData = this.loanReadPlatformService.fetchWaiverInterestRepaymentData(loanId);
+            loanWaiverTransactionData = this.loanReadPlatformService.retrieveWaiverLoanTransactions(loanId);
+        }
+        List<AccrualPosting> postings = new ArrayList<>();
+        collectPeriodicAccruals(tillDate, loanScheduleAccrualData, chargeData, loanWaiverTransactionData, loanWaiverScheduleData, postings);
+        postAccruals(postings);
+    }
+
+    @Override
+    @Transactional
+    public void addPeriodicAccruals(final LocalDate tillDate, final List<Long> loanIds) {
+        final Map<Long, List<LoanScheduleAccrualData>> accrualDataByLoanId = new LinkedHashMap<>();
+        for (LoanScheduleAccrualData accrualData : this.loanReadPlatformService.retrievePeriodicAccrualDataForLoans(tillDate, loanIds)) {
+            accrualDataByLoanId.computeIfAbsent(accrualData.getLoanId(), k -> new ArrayList<>()).add(accrualData);
+        }
+        if (accrualDataByLoanId.isEmpty()) {
+            return;
+        }
+        final Map<Long, Collection<LoanChargeData>> chargesByLoanId = this.loanChargeReadPlatformService
+                .retrieveLoanChargesForAccrual(accrualDataByLoanId.keySet());
+        final List<Long> loanIdsWithWaivedInterest = accrualDataByLoanId.entrySet().stream()
+                .filter(entry -> entry.getValue().stream().anyMatch(accrualData -> accrualData.getWaivedInterestIncome() != null))
+                .map(Map.Entry::getKey).toList();
+        final Map<Long, List<LoanSchedulePeriodData>> waiverScheduleByLoanId = this.loanReadPlatformService
+                .fetchWaiverInterestRepaymentData(loanIdsWithWaivedInterest);
+        final Map<Long, List<LoanTransactionData>> waiverTransactionsByLoanId = this.loanReadPlatformService
+                .retrieveWaiverLoanTransactions(loanIdsWithWaivedInterest);
+
+        final List<AccrualPosting> postings = new ArrayList<>();
+        accrualDataByLoanId.forEach((loanId, accrualDatas) -> collectPeriodicAccruals(tillDate, accrualDatas,
+                chargesByLoanId.getOrDefault(loanId, new ArrayList<>()), waiverTransactionsByLoanId.getOrDefault(loanId, new ArrayList<>()),
+                waiverScheduleByLoanId.getOrDefault(loanId, new ArrayList<>()), postings));
+        postAccruals(postings);
+    }
 
+    private void collectPeriodicAccruals(final LocalDate tillDate, final Collection<LoanScheduleAccrualData> loanScheduleAccrualData,
+            final Collection<LoanChargeData> chargeData, final Collection<LoanTransactionData> loanWaiverTransactionData,
+            final Collection<LoanSchedulePeriodData> loanWaiverScheduleData, final List<AccrualPosting> postings) {
+        boolean firstTime = true;
+        LocalDate accruedTill = null;
+        for (final LoanScheduleAccrualData accrualData : loanScheduleAccrualData) {
             if (DateUtils.isAfter(accrualData.getDueDateAsLocaldate(), tillDate)) {
                 if (accruedTill == null || firstTime) {
                     accruedTill = accrualData.getAccruedTill();
@@ -123,18 +160,19 @@ public class LoanAccrualWritePlatformServiceImpl implements LoanAccrualWritePlat
                 if (accruedTill == null || DateUtils.isBefore(accruedTill, tillDate)) {
                     updateCharges(chargeData, accrualData, accrualData.getFromDateAsLocaldate(), tillDate);
                     updateInterestIncome(accrualData, loanWaiverTransactionData, loanWaiverScheduleData, tillDate);
-                    addAccrualTillSpecificDate(tillDate, accrualData);
+                    collectAccrualTillSpecificDate(tillDate, accrualData, postings);
                 }
             } else {
                 updateCharges(chargeData, accrualData, accrualData.getFromDateAsLocaldate(), accrualData.getDueDateAsLocaldate());
                 updateInterestIncome(accrualData, loanWaiverTransactionData, loanWaiverScheduleData, tillDate);
-                addAccrualAccounting(accrualData);
+                collectAccrual(accrualData, postings);
                 accruedTill = accrualData.getDueDateAsLocaldate();
             }
         }
     }
 
-    private void addAccrualTillSpecificDate(final LocalDate tillDate, final LoanScheduleAccrualData accrualData) {
+    private void collectAccrualTillSpecificDate(final LocalDate tillDate, final LoanScheduleAccrualData accrualData,
+            final List<AccrualPosting> postings) {
         LocalDate interestStartDate = accrualData.getFromDateAsLocaldate();
         if (DateUtils.isBefore(accrualData.getFromDateAsLocaldate(), accrualData.getInterestCalculatedFrom())) {
             if (DateUtils.isBefore(accrualData.getInterestCalculatedFrom(), accrualData.getDueDateAsLocaldate())) {
@@ -203,13 +241,12 @@ public class LoanAccrualWritePlatformServiceImpl implements LoanAccrualWritePlat
             }
         }
         if (amount.compareTo(BigDecimal.ZERO) > 0) {
-            addAccrualAccounting(accrualData, amount, interestPortion, totalAccInterest, feePortion, totalAccFee, penaltyPortion,
-                    totalAccPenalty, tillDate);
+            postings.add(new AccrualPosting(accrualData, amount, interestPortion, totalAccInterest, feePortion, totalAccFee,
+                    penaltyPortion, totalAccPenalty, tillDate));
         }
     }
 
-    @Transactional
-    public void addAccrualAccounting(LoanScheduleAccrualData scheduleAccrualData) {
+    private void collectAccrual(final LoanScheduleAccrualData scheduleAccrualData, final List<AccrualPosting> postings) {
 
         BigDecimal amount = BigDecimal.ZERO;
         BigDecimal interestPortion = null;
@@ -256,52 +293,100 @@ public class LoanAccrualWritePlatformServiceImpl implements LoanAccrualWritePlat
         if (amount.compareTo(BigDecimal.ZERO) > 0) {
             final String chargeAccrualDateCriteria = configurationDomainService.getAccrualDateConfigForCharge();
             if (chargeAccrualDateCriteria.equalsIgnoreCase(ACCRUAL_ON_CHARGE_DUE_DATE)) {
-                addAccrualAccounting(scheduleAccrualData, amount, interestPortion, totalAccInterest, feePortion, totalAccFee,
-                        penaltyPortion, totalAccPenalty, scheduleAccrualData.getDueDateAsLocaldate());
+                postings.add(new AccrualPosting(scheduleAccrualData, amount, interestPortion, totalAccInterest, feePortion, totalAccFee,
+                        penaltyPortion, totalAccPenalty, scheduleAccrualData.getDueDateAsLocaldate()));
             } else if (chargeAccrualDateCriteria.equalsIgnoreCase(ACCRUAL_ON_CHARGE_SUBMITTED_ON_DATE)) {
-                addAccrualAccounting(scheduleAccrualData, amount, interestPortion, totalAccInterest, feePortion, totalAccFee,
-                        penaltyPortion, totalAccPenalty, DateUtils.getBusinessLocalDate());
+                postings.add(new AccrualPosting(scheduleAccrualData, amount, interestPortion, totalAccInterest, feePortion, totalAccFee,
+                        penaltyPortion, totalAccPenalty, DateUtils.getBusinessLocalDate()));
             }
         }
     }
 
-    private void addAccrualAccounting(LoanScheduleAccrualData scheduleAccrualData, BigDecimal amount, BigDecimal interestPortion,
-            BigDecimal totalAccInterest, BigDecimal feePortion, BigDecimal totalAccFee, BigDecimal penaltyPortion,
-            BigDecimal totalAccPenalty, final LocalDate accruedTill) throws DataAccessException {
-        AppUser user = context.authenticatedUser();
-        Loan loan = loanRepository.getReferenceById(scheduleAccrualData.getLoanId());
-        Office office = officeRepository.getReferenceById(scheduleAccrualData.getOfficeId());
-        LoanTransaction loanTransaction = loanTransactionRepository.saveAndFlush(accrueTransaction(loan, office, accruedTill, amount,
-                interestPortion, feePortion, penaltyPortion, externalIdFactory.create()));
-
-        Map<LoanChargeData, BigDecimal> applicableCharges = scheduleAccrualData.getApplicableCharges();
-        String chargesPaidSql = "INSERT INTO m_loan_charge_paid_by (loan_transaction_id, loan_charge_id, amount,installment_number) VALUES (?,?,?,?)";
-        for (Map.Entry<LoanChargeData, BigDecimal> entry : applicableCharges.entrySet()) {
-            LoanChargeData chargeData = entry.getKey();
-            this.jdbcTemplate.update(chargesPaidSql, loanTransaction.getId(), chargeData.getId(), entry.getValue(),
-                    scheduleAccrualData.getInstallmentNumber());
+    /**
+     * Writes the collected accruals with batch statements: the accrual transactions, the charges they accrue, the accrued
+     * amounts of the installments and the accrued till date of the loans. Business events and journal entries are raised
+     * per transaction and per loan respectively once everything is written.
+     */
+    private void postAccruals(final List<AccrualPosting> postings) throws DataAccessException {
+        if (postings.isEmpty()) {
+            return;
+        }
+        final AppUser user = context.authenticatedUser();
+        final OffsetDateTime auditDateTime = DateUtils.getAuditOffsetDateTime();
+        final List<LoanTransaction> loanTransactions = saveAccrualTransactions(postings);
+
+        final List<Object[]> chargesPaidBy = new ArrayList<>();
+        final Map<Long, LocalDate> accruedTillByLoanId = new LinkedHashMap<>();
+        final Map<Long, List<Map<String, Object>>> transactionMapsByLoanId = new LinkedHashMap<>();
+        final Map<Long, LoanScheduleAccrualData> loanDataByLoanId = new HashMap<>();
+        for (int i = 0; i < postings.size(); i++) {
+            final AccrualPosting posting = postings.get(i);
+            final LoanScheduleAccrualData scheduleAccrualData = posting.scheduleAccrualData();
+            final Long transactionId = loanTransactions.get(i).getId();
+            for (Map.Entry<LoanChargeData, BigDecimal> entry : scheduleAccrualData.getApplicableCharges().entrySet()) {
+                chargesPaidBy.add(new Object[] { transactionId, entry.getKey().getId(), entry.getValue(),
+                        scheduleAccrualData.getInstallmentNumber() });
+            }
+            accruedTillByLoanId.put(scheduleAccrualData.getLoanId(), posting.accruedTill());
+            loanDataByLoanId.putIfAbsent(scheduleAccrualData.getLoanId(), scheduleAccrualData);
+            transactionMapsByLoanId.computeIfAbsent(scheduleAccrualData.getLoanId(), k -> new ArrayList<>())
+                    .add(toMapData(transactionId, posting.amount(), posting.interestPortion(), posting.feePortion(),
+                            posting.penaltyPortion(), scheduleAccrualData, posting.accruedTill()));
         }
 
-        Map<String, Object> transactionMap = toMapData(loanTransaction.getId(), amount, interestPortion, feePortion, penaltyPortion,
-                scheduleAccrualData, accruedTill);
+        if (!chargesPaidBy.isEmpty()) {
+            this.jdbcTemplate.batchUpdate(
+                    "INSERT INTO m_loan_charge_paid_by (loan_transaction_id, loan_charge_id, amount,installment_number) VALUES (?,?,?,?)",
+                    chargesPaidBy);
+        }
 
         String repaymentUpdateSql = "UPDATE m_loan_repayment_schedule SET accrual_interest_derived=?, accrual_fee_charges_derived=?, "
                 + "accrual_penalty_charges_derived=? WHERE  id=?";
-        this.jdbcTemplate.update(repaymentUpdateSql, totalAccInterest, totalAccFee, totalAccPenalty,
-                scheduleAccrualData.getRepaymentScheduleId());
+        this.jdbcTemplate.batchUpdate(repaymentUpdateSql, postings, postings.size(), (ps, posting) -> {
+            ps.setBigDecimal(1, posting.totalAccInterest());
+            ps.setBigDecimal(2, posting.totalAccFee());
+            ps.setBigDecimal(3, posting.totalAccPenalty());
+            ps.setLong(4, posting.scheduleAccrualData().getRepaymentScheduleId());
+        });
 
         String updateLoan = "UPDATE m_loan  SET accrued_till=?, last_modified_by=?, last_modified_on_utc=?  WHERE  id=?";
-        this.jdbcTemplate.update(updateLoan, accruedTill, user.getId(), DateUtils.getAuditOffsetDateTime(),
-                scheduleAccrualData.getLoanId());
+        final List<Map.Entry<Long, LocalDate>> accruedTills = new ArrayList<>(accruedTillByLoanId.entrySet());
+        this.jdbcTemplate.batchUpdate(updateLoan, accruedTills, accruedTills.size(), (ps, accruedTill) -> {
+            ps.setObject(1, accruedTill.getValue());
+            ps.setLong(2, user.getId());
+            ps.setObject(3, auditDateTime);
+            ps.setLong(4, accruedTill.getKey());
+        });
+
+        for (LoanTransaction loanTransaction : loanTransactions) {
+            businessEventNotifierService.notifyPostBusinessEvent(new LoanAccrualTransactionCreatedBusinessEvent(loanTransaction));
+        }
 
-        businessEventNotifierService.notifyPostBusinessEvent(new LoanAccrualTransactionCreatedBusinessEvent(loanTransaction));
+        transactionMapsByLoanId.forEach((loanId, transactionMaps) -> this.journalEntryWritePlatformService
+                .createJournalEntriesForLoan(deriveAccountingBridgeData(loanDataByLoanId.get(loanId), transactionMaps)));
+    }
 
-        final Map<String, Object> accountingBridgeData = deriveAccountingBridgeData(scheduleAccrualData, transactionMap);
-        this.journalEntryWritePlatformService.createJournalEntriesForLoan(accountingBridgeData);
+    /**
+     * The accrual transactions are saved through the repository so that they get their version, audit fields and entity
+     * listeners like every other loan transaction; they are flushed together so the ids are available for the batch
+     * statements that follow.
+     */
+    private List<LoanTransaction> saveAccrualTransactions(final List<AccrualPosting> postings) {
+        final List<LoanTransaction> loanTransactions = new ArrayList<>(postings.size());
+        for (AccrualPosting posting : postings) {
+            final LoanScheduleAccrualData scheduleAccrualData = posting.scheduleAccrualData();
+            final Loan loan = loanRepository.getReferenceById(scheduleAccrualData.getLoanId());
+            final Office office = officeRepository.getReferenceById(scheduleAccrualData.getOfficeId());
+            loanTransactions.add(accrueTransaction(loan, office, posting.accruedTill(), posting.amount(), posting.interestPortion(),
+                    posting.feePortion(), posting.penaltyPortion(), externalIdFactory.create()));
+        }
+        final List<LoanTransaction> savedTransactions = loanTransactionRepository.saveAll(loanTransactions);
+        loanTransactionRepository.flush();
+        return savedTransactions;
     }
 
     private Map<String, Object> deriveAccountingBridgeData(final LoanScheduleAccrualData loanScheduleAccrualData,
-            final Map<String, Object> transactionMap) {
+            final List<Map<String, Object>> transactionMaps) {
 
         final Map<String, Object> accountingBridgeData = new LinkedHashMap<>();
         accountingBridgeData.put("loanId", loanScheduleAccrualData.getLoanId());
@@ -315,10 +400,7 @@ public class LoanAccrualWritePlatformServiceImpl implements LoanAccrualWritePlat
         accountingBridgeData.put("isChargeOff", false);
         accountingBridgeData.put("isFraud", false);
 
-        final List<Map<String, Object>> newLoanTransactions = new ArrayList<>();
-        newLoanTransactions.add(transactionMap);
-
-        accountingBridgeData.put("newLoanTransactions", newLoanTransactions);
+        accountingBridgeData.put("newLoanTransactions", transactionMaps);
         return accountingBridgeData;
     }
 
@@ -572,4 +654,9 @@ public class LoanAccrualWritePlatformServiceImpl implements LoanAccrualWritePlat
                 existingReversedTransactionIds, isAccountTransfer);
         journalEntryWritePlatformService.createJournalEntriesForLoan(accountingBridgeData);
     }
+
+    private record AccrualPosting(LoanScheduleAccrualData scheduleAccrualData, BigDecimal amount, BigDecimal interestPortion,
+            BigDecimal totalAccInterest, BigDecimal feePortion, BigDecimal totalAccFee, BigDecimal penaltyPortion,
+            BigDecimal totalAccPenalty, LocalDate accruedTill) {
+    }
 }
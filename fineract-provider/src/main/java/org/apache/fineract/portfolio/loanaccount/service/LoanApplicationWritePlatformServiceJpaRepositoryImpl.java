@@ -70,6 +70,7 @@ import org.apache.fineract.infrastructure.event.business.domain.loan.LoanApprove
 import org.apache.fineract.infrastructure.event.business.domain.loan.LoanCreatedBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.loan.LoanRejectedBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.loan.LoanUndoApprovalBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.loan.LoanUpdateBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.organisation.staff.domain.Staff;
@@ -218,7 +219,7 @@ public class LoanApplicationWritePlatformServiceJpaRepositoryImpl implements Loa
                 officeSpecificLoanProductValidation(productId, group.getOffice().getId());
             }
 
-            this.fromApiJsonDeserializer.validateForCreate(command.json(), isMeetingMandatoryForJLGLoans, loanProduct);
+            this.fromApiJsonDeserializer.validateForCreate(command.parsedJson(), isMeetingMandatoryForJLGLoans, loanProduct);
 
             // Validate If the externalId is already registered
             final String externalIdStr = this.fromJsonHelper.extractStringNamed("externalId", command.parsedJson());
@@ -706,7 +707,7 @@ public class LoanApplicationWritePlatformServiceJpaRepositoryImpl implements Loa
 
             LoanProduct loanProductForValidations = newLoanProduct == null ? existingLoanApplication.loanProduct() : newLoanProduct;
 
-            this.fromApiJsonDeserializer.validateForModify(command.json(), loanProductForValidations, existingLoanApplication);
+            this.fromApiJsonDeserializer.validateForModify(command.parsedJson(), loanProductForValidations, existingLoanApplication);
 
             checkClientOrGroupActive(existingLoanApplication);
 
@@ -970,8 +971,7 @@ public class LoanApplicationWritePlatformServiceJpaRepositoryImpl implements Loa
             if (changes.containsKey("recalculateLoanSchedule")) {
                 changes.remove("recalculateLoanSchedule");
 
-                final JsonElement parsedQuery = this.fromJsonHelper.parse(command.json());
-                final JsonQuery query = JsonQuery.from(command.json(), parsedQuery, this.fromJsonHelper);
+                final JsonQuery query = JsonQuery.from(command.json(), command.parsedJson(), this.fromJsonHelper);
 
                 final LoanScheduleModel loanSchedule = this.calculationPlatformService.calculateLoanSchedule(query, false);
                 existingLoanApplication.updateLoanSchedule(loanSchedule);
@@ -1171,6 +1171,7 @@ public class LoanApplicationWritePlatformServiceJpaRepositoryImpl implements Loa
                 }
 
             }
+            businessEventNotifierService.notifyPostBusinessEvent(new LoanUpdateBusinessEvent(existingLoanApplication));
 
             return new CommandProcessingResultBuilder() //
                     .withEntityId(loanId) //
@@ -1241,6 +1242,7 @@ public class LoanApplicationWritePlatformServiceJpaRepositoryImpl implements Loa
         }
 
         this.loanRepositoryWrapper.delete(loanId);
+        businessEventNotifierService.notifyPostBusinessEvent(new LoanUpdateBusinessEvent(loan));
 
         return new CommandProcessingResultBuilder() //
                 .withEntityId(loanId) //
@@ -1253,8 +1255,7 @@ public class LoanApplicationWritePlatformServiceJpaRepositoryImpl implements Loa
     }
 
     public void validateMultiDisbursementData(final JsonCommand command, LocalDate expectedDisbursementDate) {
-        final String json = command.json();
-        final JsonElement element = this.fromJsonHelper.parse(json);
+        final JsonElement element = command.parsedJson();
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors).resource("loan");
@@ -1318,7 +1319,7 @@ public class LoanApplicationWritePlatformServiceJpaRepositoryImpl implements Loa
         final AppUser currentUser = getAppUserIfPresent();
         LocalDate expectedDisbursementDate = null;
 
-        this.loanApplicationTransitionApiJsonValidator.validateApproval(command.json());
+        this.loanApplicationTransitionApiJsonValidator.validateApproval(command);
 
         final Loan loan = retrieveLoanBy(loanId);
 
@@ -1458,7 +1459,7 @@ public class LoanApplicationWritePlatformServiceJpaRepositoryImpl implements Loa
     @Override
     public CommandProcessingResult undoApplicationApproval(final Long loanId, final JsonCommand command) {
 
-        this.fromApiJsonDeserializer.validateForUndo(command.json());
+        this.fromApiJsonDeserializer.validateForUndo(command.parsedJson());
 
         final Loan loan = retrieveLoanBy(loanId);
         checkClientOrGroupActive(loan);
@@ -1537,7 +1538,7 @@ public class LoanApplicationWritePlatformServiceJpaRepositoryImpl implements Loa
 
         final AppUser currentUser = getAppUserIfPresent();
 
-        this.loanApplicationTransitionApiJsonValidator.validateRejection(command.json());
+        this.loanApplicationTransitionApiJsonValidator.validateRejection(command);
 
         final Loan loan = retrieveLoanBy(loanId);
 
@@ -1575,7 +1576,7 @@ public class LoanApplicationWritePlatformServiceJpaRepositoryImpl implements Loa
 
         final AppUser currentUser = getAppUserIfPresent();
 
-        this.loanApplicationTransitionApiJsonValidator.validateApplicantWithdrawal(command.json());
+        this.loanApplicationTransitionApiJsonValidator.validateApplicantWithdrawal(command);
 
         final Loan loan = retrieveLoanBy(loanId);
         checkClientOrGroupActive(loan);
@@ -18,8 +18,10 @@
  */
 package org.apache.fineract.portfolio.loanaccount.service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import org.apache.fineract.portfolio.loanaccount.data.LoanArrearsAgingData;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.portfolio.loanaccount.loanschedule.data.LoanSchedulePeriodData;
 
@@ -31,8 +33,13 @@ public interface LoanArrearsAgingService {
 
     void updateLoanArrearsAgeingDetails(Loan loan);
 
-    void createInsertStatements(List<String> insertStatement, Map<Long, List<LoanSchedulePeriodData>> scheduleDate,
-            boolean isInsertStatement);
+    List<LoanArrearsAgingData> calculateArrearsWithOriginalSchedule(Map<Long, List<LoanSchedulePeriodData>> scheduleDate);
 
     void updateScheduleWithPaidDetail(Map<Long, List<LoanSchedulePeriodData>> scheduleDate, List<Map<String, Object>> loanSummary);
+
+    /**
+     * Writes the arrears of several loans with one batched upsert and removes the arrears of the loans which are no
+     * longer overdue with one batched delete.
+     */
+    void saveLoanArrearsAgeingDetails(Collection<LoanArrearsAgingData> arrears, Collection<Long> loanIdsWithoutArrears);
 }
@@ -19,15 +19,19 @@
 package org.apache.fineract.portfolio.loanaccount.service;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
@@ -50,6 +54,7 @@ import org.apache.fineract.infrastructure.event.business.domain.loan.transaction
 import org.apache.fineract.infrastructure.event.business.domain.loan.transaction.LoanUndoWrittenOffBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.loan.transaction.LoanWaiveInterestBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.apache.fineract.portfolio.loanaccount.data.LoanArrearsAgingData;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanCharge;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
@@ -59,16 +64,17 @@ import org.apache.fineract.portfolio.loanaccount.loanschedule.data.LoanScheduleP
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Slf4j
 @RequiredArgsConstructor
 public class LoanArrearsAgingServiceImpl implements LoanArrearsAgingService {
 
-    private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-
     private final JdbcTemplate jdbcTemplate;
     private final BusinessEventNotifierService businessEventNotifierService;
     private final DatabaseSpecificSQLGenerator sqlGenerator;
+    private final EntityManager entityManager;
 
     @PostConstruct
     public void registerForNotification() {
@@ -98,23 +104,10 @@ public class LoanArrearsAgingServiceImpl implements LoanArrearsAgingService {
 
     @Override
     public void updateLoanArrearsAgeingDetailsWithOriginalSchedule(final Loan loan) {
-        int count = this.jdbcTemplate.queryForObject("select count(mla.loan_id) from m_loan_arrears_aging mla where mla.loan_id =?",
-                Integer.class, loan.getId());
-        List<String> updateStatement = new ArrayList<>();
-        OriginalScheduleExtractor originalScheduleExtractor = new OriginalScheduleExtractor(loan.getId().toString(), sqlGenerator);
-        Map<Long, List<LoanSchedulePeriodData>> scheduleDate = this.jdbcTemplate.query(originalScheduleExtractor.schema,
-                originalScheduleExtractor);
-        if (scheduleDate.size() > 0) {
-            List<Map<String, Object>> transactions = getLoanSummary(loan.getId(), loan.getLoanSummary());
-            updateScheduleWithPaidDetail(scheduleDate, transactions);
-            createInsertStatements(updateStatement, scheduleDate, count == 0);
-            if (updateStatement.size() == 1) {
-                this.jdbcTemplate.update(updateStatement.get(0));
-            } else {
-                String deletestatement = "DELETE FROM m_loan_arrears_aging WHERE  loan_id=?";
-                this.jdbcTemplate.update(deletestatement, loan.getId()); // NOSONAR
-            }
-        }
+        final List<LoanArrearsAgingData> arrears = new ArrayList<>();
+        final List<Long> loanIdsWithoutArrears = new ArrayList<>();
+        collectArrearsWithOriginalSchedule(loan, arrears, loanIdsWithoutArrears);
+        saveLoanArrearsAgeingDetails(arrears, loanIdsWithoutArrears);
     }
 
     @Override
@@ -126,20 +119,52 @@ public class LoanArrearsAgingServiceImpl implements LoanArrearsAgingService {
     @Override
     public void updateLoanArrearsAgeingDetails(final Loan loan) {
         if (loan != null) {
-            int count = this.jdbcTemplate.queryForObject("select count(mla.loan_id) from m_loan_arrears_aging mla where mla.loan_id =?",
-                    Integer.class, loan.getId());
-            String updateStatement = constructUpdateStatement(loan, count == 0);
-            if (updateStatement == null) {
-                String deletestatement = "DELETE FROM m_loan_arrears_aging WHERE  loan_id=?";
-                this.jdbcTemplate.update(deletestatement, loan.getId()); // NOSONAR
+            final List<LoanArrearsAgingData> arrears = new ArrayList<>();
+            final List<Long> loanIdsWithoutArrears = new ArrayList<>();
+            collectArrears(loan, arrears, loanIdsWithoutArrears);
+            saveLoanArrearsAgeingDetails(arrears, loanIdsWithoutArrears);
+        }
+    }
+
+    @Override
+    public void saveLoanArrearsAgeingDetails(final Collection<LoanArrearsAgingData> arrears, final Collection<Long> loanIdsWithoutArrears) {
+        // a batched delete followed by a batched insert works the same on every supported database
+        final List<Object[]> deleteParams = new ArrayList<>(arrears.size() + loanIdsWithoutArrears.size());
+        arrears.forEach(data -> deleteParams.add(new Object[] { data.getLoanId() }));
+        loanIdsWithoutArrears.forEach(loanId -> deleteParams.add(new Object[] { loanId }));
+        if (!deleteParams.isEmpty()) {
+            this.jdbcTemplate.batchUpdate("DELETE FROM m_loan_arrears_aging WHERE loan_id = ?", deleteParams); // NOSONAR
+        }
+        if (!arrears.isEmpty()) {
+            final List<Object[]> insertParams = arrears.stream()
+                    .map(data -> new Object[] { data.getLoanId(), data.getPrincipalOverdue(), data.getInterestOverdue(),
+                            data.getFeeChargesOverdue(), data.getPenaltyChargesOverdue(), data.getTotalOverdue(),
+                            data.getOverdueSinceDate() })
+                    .toList();
+            this.jdbcTemplate.batchUpdate("INSERT INTO m_loan_arrears_aging (loan_id, principal_overdue_derived, interest_overdue_derived, "
+                    + "fee_charges_overdue_derived, penalty_charges_overdue_derived, total_overdue_derived, overdue_since_date_derived) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?)", insertParams);
+        }
+    }
+
+    private void collectArrearsWithOriginalSchedule(final Loan loan, final List<LoanArrearsAgingData> arrears,
+            final List<Long> loanIdsWithoutArrears) {
+        OriginalScheduleExtractor originalScheduleExtractor = new OriginalScheduleExtractor(loan.getId().toString(), sqlGenerator);
+        Map<Long, List<LoanSchedulePeriodData>> scheduleDate = this.jdbcTemplate.query(originalScheduleExtractor.schema,
+                originalScheduleExtractor);
+        if (scheduleDate.size() > 0) {
+            List<Map<String, Object>> transactions = getLoanSummary(loan.getId(), loan.getLoanSummary());
+            updateScheduleWithPaidDetail(scheduleDate, transactions);
+            List<LoanArrearsAgingData> loanArrears = calculateArrearsWithOriginalSchedule(scheduleDate);
+            if (loanArrears.isEmpty()) {
+                loanIdsWithoutArrears.add(loan.getId());
             } else {
-                this.jdbcTemplate.update(updateStatement);
+                arrears.addAll(loanArrears);
             }
         }
     }
 
-    private String constructUpdateStatement(final Loan loan, boolean isInsertStatement) {
-        String updateSql = null;
+    private void collectArrears(final Loan loan, final List<LoanArrearsAgingData> arrears, final List<Long> loanIdsWithoutArrears) {
         List<LoanRepaymentScheduleInstallment> installments = loan.getRepaymentScheduleInstallments();
         BigDecimal principalOverdue = BigDecimal.ZERO;
         BigDecimal interestOverdue = BigDecimal.ZERO;
@@ -159,17 +184,13 @@ public class LoanArrearsAgingServiceImpl implements LoanArrearsAgingService {
             }
         }
 
-        BigDecimal totalOverDue = principalOverdue.add(interestOverdue).add(feeOverdue).add(penaltyOverdue);
-        if (totalOverDue.compareTo(BigDecimal.ZERO) > 0) {
-            if (isInsertStatement) {
-                updateSql = constructInsertStatement(loan.getId(), principalOverdue, interestOverdue, feeOverdue, penaltyOverdue,
-                        overDueSince);
-            } else {
-                updateSql = constructUpdateStatement(loan.getId(), principalOverdue, interestOverdue, feeOverdue, penaltyOverdue,
-                        overDueSince);
-            }
+        LoanArrearsAgingData loanArrears = new LoanArrearsAgingData(loan.getId(), principalOverdue, interestOverdue, feeOverdue,
+                penaltyOverdue, overDueSince);
+        if (loanArrears.getTotalOverdue().compareTo(BigDecimal.ZERO) > 0) {
+            arrears.add(loanArrears);
+        } else {
+            loanIdsWithoutArrears.add(loan.getId());
         }
-        return updateSql;
     }
 
     private List<Map<String, Object>> getLoanSummary(final Long loanId, final LoanSummary loanSummary) {
@@ -191,8 +212,8 @@ public class LoanArrearsAgingServiceImpl implements LoanArrearsAgingService {
     }
 
     @Override
-    public void createInsertStatements(List<String> insertStatement, Map<Long, List<LoanSchedulePeriodData>> scheduleDate,
-            boolean isInsertStatement) {
+    public List<LoanArrearsAgingData> calculateArrearsWithOriginalSchedule(Map<Long, List<LoanSchedulePeriodData>> scheduleDate) {
+        List<LoanArrearsAgingData> arrears = new ArrayList<>();
         for (Map.Entry<Long, List<LoanSchedulePeriodData>> entry : scheduleDate.entrySet()) {
             final Long loanId = entry.getKey();
             BigDecimal principalOverdue = BigDecimal.ZERO;
@@ -218,49 +239,11 @@ public class LoanArrearsAgingServiceImpl implements LoanArrearsAgingService {
                 }
             }
             if (principalOverdue.compareTo(BigDecimal.ZERO) > 0) {
-                String sqlStatement = null;
-                if (isInsertStatement) {
-                    sqlStatement = constructInsertStatement(loanId, principalOverdue, interestOverdue, feeOverdue, penaltyOverdue,
-                            overDueSince);
-                } else {
-                    sqlStatement = constructUpdateStatement(loanId, principalOverdue, interestOverdue, feeOverdue, penaltyOverdue,
-                            overDueSince);
-                }
-                insertStatement.add(sqlStatement);
+                arrears.add(new LoanArrearsAgingData(loanId, principalOverdue, interestOverdue, feeOverdue, penaltyOverdue, overDueSince));
             }
 
         }
-    }
-
-    private String constructInsertStatement(final Long loanId, BigDecimal principalOverdue, BigDecimal interestOverdue,
-            BigDecimal feeOverdue, BigDecimal penaltyOverdue, LocalDate overDueSince) {
-        final StringBuilder insertStatementBuilder = new StringBuilder(900);
-        insertStatementBuilder.append("INSERT INTO m_loan_arrears_aging(loan_id,principal_overdue_derived,interest_overdue_derived,")
-                .append("fee_charges_overdue_derived,penalty_charges_overdue_derived,total_overdue_derived,overdue_since_date_derived) VALUES(");
-        insertStatementBuilder.append(loanId).append(",");
-        insertStatementBuilder.append(principalOverdue).append(",");
-        insertStatementBuilder.append(interestOverdue).append(",");
-        insertStatementBuilder.append(feeOverdue).append(",");
-        insertStatementBuilder.append(penaltyOverdue).append(",");
-        BigDecimal totalOverDue = principalOverdue.add(interestOverdue).add(feeOverdue).add(penaltyOverdue);
-        insertStatementBuilder.append(totalOverDue).append(",'");
-        insertStatementBuilder.append(this.formatter.format(overDueSince)).append("')");
-        return insertStatementBuilder.toString();
-    }
-
-    private String constructUpdateStatement(final Long loanId, BigDecimal principalOverdue, BigDecimal interestOverdue,
-            BigDecimal feeOverdue, BigDecimal penaltyOverdue, LocalDate overDueSince) {
-        final StringBuilder insertStatementBuilder = new StringBuilder(900);
-        insertStatementBuilder.append("UPDATE m_loan_arrears_aging SET principal_overdue_derived=");
-        insertStatementBuilder.append(principalOverdue).append(", interest_overdue_derived=");
-        insertStatementBuilder.append(interestOverdue).append(", fee_charges_overdue_derived=");
-        insertStatementBuilder.append(feeOverdue).append(", penalty_charges_overdue_derived=");
-        insertStatementBuilder.append(penaltyOverdue).append(", total_overdue_derived=");
-        BigDecimal totalOverDue = principalOverdue.add(interestOverdue).add(feeOverdue).add(penaltyOverdue);
-        insertStatementBuilder.append(totalOverDue).append(",overdue_since_date_derived= '");
-        insertStatementBuilder.append(this.formatter.format(overDueSince)).append("' ");
-        insertStatementBuilder.append("WHERE  loan_id=").append(loanId);
-        return insertStatementBuilder.toString();
+        return arrears;
     }
 
     @Override
@@ -387,11 +370,73 @@ public class LoanArrearsAgingServiceImpl implements LoanArrearsAgingService {
     }
 
     private void handleArrearsForLoan(Loan loan) {
-        if (loan != null && loan.isOpen() && loan.repaymentScheduleDetail().isInterestRecalculationEnabled()
-                && loan.loanProduct().isArrearsBasedOnOriginalSchedule()) {
-            updateLoanArrearsAgeingDetailsWithOriginalSchedule(loan);
-        } else {
-            updateLoanArrearsAgeingDetails(loan);
+        scheduleArrearsUpdate(loan, true);
+    }
+
+    /**
+     * Several listeners usually fire for the same loan within one command, the loans are collected and their arrears
+     * are calculated from their final state and written once, right before the transaction commits.
+     */
+    private void scheduleArrearsUpdate(final Loan loan, final boolean originalScheduleAware) {
+        if (loan == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            PendingArrearsUpdate pendingArrearsUpdate = new PendingArrearsUpdate();
+            pendingArrearsUpdate.add(loan, originalScheduleAware);
+            pendingArrearsUpdate.write();
+            return;
+        }
+        PendingArrearsUpdate pendingArrearsUpdate = (PendingArrearsUpdate) TransactionSynchronizationManager.getResource(this);
+        if (pendingArrearsUpdate == null) {
+            pendingArrearsUpdate = new PendingArrearsUpdate();
+            TransactionSynchronizationManager.bindResource(this, pendingArrearsUpdate);
+            TransactionSynchronizationManager.registerSynchronization(pendingArrearsUpdate);
+        }
+        pendingArrearsUpdate.add(loan, originalScheduleAware);
+    }
+
+    private static boolean isArrearsBasedOnOriginalSchedule(final Loan loan) {
+        return loan.isOpen() && loan.repaymentScheduleDetail().isInterestRecalculationEnabled()
+                && loan.loanProduct().isArrearsBasedOnOriginalSchedule();
+    }
+
+    private final class PendingArrearsUpdate implements TransactionSynchronization {
+
+        private final Map<Long, Loan> loans = new LinkedHashMap<>();
+        private final Set<Long> originalScheduleAwareLoanIds = new HashSet<>();
+
+        void add(final Loan loan, final boolean originalScheduleAware) {
+            loans.put(loan.getId(), loan);
+            if (originalScheduleAware) {
+                originalScheduleAwareLoanIds.add(loan.getId());
+            }
+        }
+
+        void write() {
+            final List<LoanArrearsAgingData> arrears = new ArrayList<>();
+            final List<Long> loanIdsWithoutArrears = new ArrayList<>();
+            for (Loan loan : loans.values()) {
+                if (originalScheduleAwareLoanIds.contains(loan.getId()) && isArrearsBasedOnOriginalSchedule(loan)) {
+                    collectArrearsWithOriginalSchedule(loan, arrears, loanIdsWithoutArrears);
+                } else {
+                    collectArrears(loan, arrears, loanIdsWithoutArrears);
+                }
+            }
+            saveLoanArrearsAgeingDetails(arrears, loanIdsWithoutArrears);
+        }
+
+        @Override
+        public void beforeCommit(final boolean readOnly) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(LoanArrearsAgingServiceImpl.this);
+            // the original schedule is read with JDBC, pending loan changes must be visible to the query
+            entityManager.flush();
+            write();
+        }
+
+        @Override
+        public void afterCompletion(final int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(LoanArrearsAgingServiceImpl.this);
         }
     }
 
@@ -504,7 +549,7 @@ public class LoanArrearsAgingServiceImpl implements LoanArrearsAgingService {
         @Override
         public void onBusinessEvent(LoanDisbursalBusinessEvent event) {
             Loan loan = event.get();
-            updateLoanArrearsAgeingDetails(loan);
+            scheduleArrearsUpdate(loan, false);
         }
     }
 
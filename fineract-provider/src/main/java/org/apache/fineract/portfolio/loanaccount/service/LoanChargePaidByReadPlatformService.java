@@ -18,10 +18,19 @@
  */
 package org.apache.fineract.portfolio.loanaccount.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import org.apache.fineract.portfolio.loanaccount.data.LoanChargePaidByData;
 
 public interface LoanChargePaidByReadPlatformService {
 
     List<LoanChargePaidByData> getLoanChargesPaidByTransactionId(Long id);
+
+    /**
+     * Loads the charge payments of every transaction of the given loans with one query.
+     *
+     * @return the charge payments grouped by loan transaction id
+     */
+    Map<Long, List<LoanChargePaidByData>> getLoanChargesPaidByLoanIds(Collection<Long> loanIds);
 }
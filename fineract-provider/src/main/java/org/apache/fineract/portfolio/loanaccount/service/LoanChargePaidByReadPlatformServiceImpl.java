@@ -22,18 +22,24 @@ package org.apache.fineract.portfolio.loanaccount.service;
 import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.portfolio.loanaccount.data.LoanChargePaidByData;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
 @RequiredArgsConstructor
 public class LoanChargePaidByReadPlatformServiceImpl implements LoanChargePaidByReadPlatformService {
 
     private final JdbcTemplate jdbcTemplate;
     private final PlatformSecurityContext context;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
     @Override
     public List<LoanChargePaidByData> getLoanChargesPaidByTransactionId(Long transactionId) {
@@ -43,6 +49,18 @@ public class LoanChargePaidByReadPlatformServiceImpl implements LoanChargePaidBy
         return this.jdbcTemplate.query(sql, rm, transactionId); // NOSONAR
     }
 
+    @Override
+    public Map<Long, List<LoanChargePaidByData>> getLoanChargesPaidByLoanIds(Collection<Long> loanIds) {
+        this.context.authenticatedUser();
+        if (loanIds.isEmpty()) {
+            return Map.of();
+        }
+        final LoanChargePaidByMapper rm = new LoanChargePaidByMapper();
+        final String sql = "select " + rm.loanChargePaidBySchema() + " where lc.loan_id in (:loanIds)";
+        return this.namedParameterJdbcTemplate.query(sql, new MapSqlParameterSource("loanIds", loanIds), rm).stream()
+                .collect(Collectors.groupingBy(LoanChargePaidByData::getTransactionId));
+    }
+
     private static final class LoanChargePaidByMapper implements RowMapper<LoanChargePaidByData> {
 
         public String loanChargePaidBySchema() {
@@ -19,6 +19,8 @@
 package org.apache.fineract.portfolio.loanaccount.service;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import org.apache.fineract.infrastructure.core.domain.ExternalId;
 import org.apache.fineract.portfolio.charge.data.ChargeData;
 import org.apache.fineract.portfolio.charge.domain.Charge;
@@ -34,6 +36,14 @@ public interface LoanChargeReadPlatformService {
 
     Collection<LoanChargeData> retrieveLoanCharges(Long loanId);
 
+    /**
+     * Loads the active charges of the given loans with one query, in the same order as
+     * {@link #retrieveLoanCharges(Long)}.
+     *
+     * @return the charges grouped by loan id; loans without charges have no entry
+     */
+    Map<Long, List<LoanChargeData>> retrieveLoanChargesByLoanIds(Collection<Long> loanIds);
+
     LoanChargeData retrieveLoanChargeDetails(Long loanChargeId, Long loanId);
 
     Collection<LoanChargeData> retrieveLoanChargesForFeePayment(Integer paymentMode, Integer loanStatus);
@@ -44,6 +54,8 @@ public interface LoanChargeReadPlatformService {
 
     Collection<LoanChargeData> retrieveLoanChargesForAccrual(Long loanId);
 
+    Map<Long, Collection<LoanChargeData>> retrieveLoanChargesForAccrual(Collection<Long> loanIds);
+
     Collection<LoanChargePaidByData> retrieveLoanChargesPaidBy(Long chargeId, LoanTransactionType transactionType,
             Integer installmentNumber);
 
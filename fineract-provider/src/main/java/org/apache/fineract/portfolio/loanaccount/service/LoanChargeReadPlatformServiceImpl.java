@@ -24,9 +24,12 @@ import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.apache.fineract.accounting.glaccount.data.GLAccountData;
 import org.apache.fineract.infrastructure.core.data.EnumOptionData;
@@ -50,15 +53,23 @@ import org.apache.fineract.portfolio.loanaccount.domain.LoanTransactionType;
 import org.apache.fineract.portfolio.tax.data.TaxGroupData;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
 @RequiredArgsConstructor
 public class LoanChargeReadPlatformServiceImpl implements LoanChargeReadPlatformService {
 
+    private static final String LOAN_CHARGES_ORDER_BY = " order by coalesce(lc.due_for_collection_as_of_date,"
+            + "date(coalesce(dd.disbursedon_date,dd.expected_disburse_date))),lc.charge_time_enum ASC,"
+            + " lc.due_for_collection_as_of_date ASC, lc.is_penalty ASC";
+
     private final JdbcTemplate jdbcTemplate;
     private final ChargeDropdownReadPlatformService chargeDropdownReadPlatformService;
     private final DropdownReadPlatformService dropdownReadPlatformService;
     private final LoanChargeRepository loanChargeRepository;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
     private static final class LoanChargeMapper implements RowMapper<LoanChargeData> {
 
@@ -184,11 +195,21 @@ public class LoanChargeReadPlatformServiceImpl implements LoanChargeReadPlatform
     @Override
     public Collection<LoanChargeData> retrieveLoanCharges(final Long loanId) {
         final LoanChargeMapper rm = new LoanChargeMapper();
-        final String sql = "select " + rm.schema() + " where lc.loan_id=? AND lc.is_active = true"
-                + " order by coalesce(lc.due_for_collection_as_of_date,date(coalesce(dd.disbursedon_date,dd.expected_disburse_date))),lc.charge_time_enum ASC, lc.due_for_collection_as_of_date ASC, lc.is_penalty ASC";
+        final String sql = "select " + rm.schema() + " where lc.loan_id=? AND lc.is_active = true" + LOAN_CHARGES_ORDER_BY;
         return this.jdbcTemplate.query(sql, rm, loanId); // NOSONAR
     }
 
+    @Override
+    public Map<Long, List<LoanChargeData>> retrieveLoanChargesByLoanIds(final Collection<Long> loanIds) {
+        if (loanIds.isEmpty()) {
+            return Map.of();
+        }
+        final LoanChargeMapper rm = new LoanChargeMapper();
+        final String sql = "select " + rm.schema() + " where lc.loan_id in (:loanIds) AND lc.is_active = true" + LOAN_CHARGES_ORDER_BY;
+        return this.namedParameterJdbcTemplate.query(sql, new MapSqlParameterSource("loanIds", loanIds), rm).stream()
+                .collect(Collectors.groupingBy(LoanChargeData::getLoanId, LinkedHashMap::new, Collectors.toList()));
+    }
+
     @Override
     public Collection<LoanChargeData> retrieveLoanChargesForFeePayment(final Integer paymentMode, final Integer loanStatus) {
         final LoanChargeMapperWithLoanId rm = new LoanChargeMapperWithLoanId();
@@ -277,42 +298,62 @@ public class LoanChargeReadPlatformServiceImpl implements LoanChargeReadPlatform
 
     @Override
     public Collection<LoanChargeData> retrieveLoanChargesForAccrual(final Long loanId) {
+        return retrieveLoanChargesForAccrual(List.of(loanId)).getOrDefault(loanId, new ArrayList<>());
+    }
 
-        final LoanChargeAccrualMapper rm = new LoanChargeAccrualMapper();
-
-        final String sql = "select " + rm.schema() + " where lc.loan_id=? AND lc.is_active = true group by  lc.id "
-                + " order by lc.charge_time_enum ASC, lc.due_for_collection_as_of_date ASC, lc.is_penalty ASC";
-
-        Collection<LoanChargeData> charges = this.jdbcTemplate.query(sql, rm, // NOSONAR
-                LoanTransactionType.ACCRUAL.getValue(), loanId, loanId);
-        charges = updateLoanChargesWithUnrecognizedIncome(loanId, charges);
+    @Override
+    public Map<Long, Collection<LoanChargeData>> retrieveLoanChargesForAccrual(final Collection<Long> loanIds) {
+        final Map<Long, Collection<LoanChargeData>> chargesByLoanId = new HashMap<>();
+        if (loanIds.isEmpty()) {
+            return chargesByLoanId;
+        }
+        final String inSql = String.join(",", Collections.nCopies(loanIds.size(), "?"));
+        final List<Object> args = new ArrayList<>(2 * loanIds.size() + 1);
+        args.add(LoanTransactionType.ACCRUAL.getValue());
+        args.addAll(loanIds);
+        args.addAll(loanIds);
+
+        final LoanChargeAccrualMapper rm = new LoanChargeAccrualMapper(inSql);
+        final String sql = "select " + rm.schema() + " where lc.loan_id in (" + inSql + ") AND lc.is_active = true group by  lc.id "
+                + " order by lc.loan_id, lc.charge_time_enum ASC, lc.due_for_collection_as_of_date ASC, lc.is_penalty ASC";
+        final Map<Long, Long> loanIdByChargeId = new HashMap<>();
+        final Map<Long, LoanChargeData> chargesById = new LinkedHashMap<>();
+        this.jdbcTemplate.query(sql, (RowCallbackHandler) rs -> { // NOSONAR
+            LoanChargeData chargeData = rm.mapRow(rs, 0);
+            loanIdByChargeId.put(chargeData.getId(), rs.getLong("loanId"));
+            chargesById.put(chargeData.getId(), chargeData);
+        }, args.toArray());
+        if (chargesById.isEmpty()) {
+            return chargesByLoanId;
+        }
+        updateLoanChargesWithUnrecognizedIncome(inSql, args, chargesById);
 
-        Collection<LoanChargeData> removeCharges = new ArrayList<>();
-        for (LoanChargeData loanChargeData : charges) {
+        final List<Long> installmentFeeChargeIds = new ArrayList<>();
+        for (LoanChargeData loanChargeData : chargesById.values()) {
             if (loanChargeData.isInstallmentFee()) {
-                removeCharges.add(loanChargeData);
+                installmentFeeChargeIds.add(loanChargeData.getId());
+            } else {
+                chargesByLoanId.computeIfAbsent(loanIdByChargeId.get(loanChargeData.getId()), k -> new ArrayList<>()).add(loanChargeData);
             }
         }
-        charges.removeAll(removeCharges);
-        for (LoanChargeData loanChargeData : removeCharges) {
-            if (loanChargeData.isInstallmentFee()) {
-                Collection<LoanInstallmentChargeData> installmentChargeDatas = retrieveInstallmentLoanChargesForAccrual(
-                        loanChargeData.getId());
-                LoanChargeData modifiedChargeData = new LoanChargeData(loanChargeData, installmentChargeDatas);
-                charges.add(modifiedChargeData);
-            }
+        final Map<Long, Collection<LoanInstallmentChargeData>> installmentChargeDatas = retrieveInstallmentLoanChargesForAccrual(
+                installmentFeeChargeIds);
+        for (Long loanChargeId : installmentFeeChargeIds) {
+            LoanChargeData modifiedChargeData = new LoanChargeData(chargesById.get(loanChargeId),
+                    installmentChargeDatas.getOrDefault(loanChargeId, new ArrayList<>()));
+            chargesByLoanId.computeIfAbsent(loanIdByChargeId.get(loanChargeId), k -> new ArrayList<>()).add(modifiedChargeData);
         }
 
-        return charges;
+        return chargesByLoanId;
     }
 
     private static final class LoanChargeAccrualMapper implements RowMapper<LoanChargeData> {
 
         private final String schemaSql;
 
-        LoanChargeAccrualMapper() {
+        LoanChargeAccrualMapper(final String loanIdsInSql) {
             StringBuilder sb = new StringBuilder(50);
-            sb.append(" lc.id as id, lc.charge_id as chargeId, lc.external_id as externalId, ");
+            sb.append(" lc.id as id, lc.loan_id as loanId, lc.charge_id as chargeId, lc.external_id as externalId, ");
             sb.append(" lc.amount as amountDue, ");
             sb.append(" lc.amount_waived_derived as amountWaived, ");
             sb.append(" lc.charge_time_enum as chargeTime, ");
@@ -324,8 +365,8 @@ public class LoanChargeReadPlatformServiceImpl implements LoanChargeReadPlatform
             sb.append(" left join ( ");
             sb.append(" select lcp.loan_charge_id, lcp.amount ");
             sb.append(" from m_loan_charge_paid_by lcp ");
-            sb.append(
-                    " inner join m_loan_transaction lt on lt.id = lcp.loan_transaction_id and lt.is_reversed = false and lt.transaction_type_enum = ? and lt.loan_id = ? ");
+            sb.append(" inner join m_loan_transaction lt on lt.id = lcp.loan_transaction_id and lt.is_reversed = false");
+            sb.append(" and lt.transaction_type_enum = ? and lt.loan_id in (").append(loanIdsInSql).append(") ");
             sb.append(" ) cp on cp.loan_charge_id= lc.id  ");
 
             schemaSql = sb.toString();
@@ -359,15 +400,18 @@ public class LoanChargeReadPlatformServiceImpl implements LoanChargeReadPlatform
         }
     }
 
-    private Collection<LoanChargeData> updateLoanChargesWithUnrecognizedIncome(final Long loanId,
-            Collection<LoanChargeData> loanChargeDatas) {
+    private void updateLoanChargesWithUnrecognizedIncome(final String loanIdsInSql, final List<Object> args,
+            final Map<Long, LoanChargeData> chargesById) {
 
-        final LoanChargeUnRecognizedIncomeMapper rm = new LoanChargeUnRecognizedIncomeMapper(loanChargeDatas);
+        final LoanChargeUnRecognizedIncomeMapper rm = new LoanChargeUnRecognizedIncomeMapper(chargesById, loanIdsInSql);
 
-        final String sql = "select " + rm.schema() + " where lc.loan_id=? AND lc.is_active = true group by  lc.id "
-                + " order by lc.charge_time_enum ASC, lc.due_for_collection_as_of_date ASC, lc.is_penalty ASC";
+        final String sql = "select " + rm.schema() + " where lc.loan_id in (" + loanIdsInSql + ") AND lc.is_active = true group by  lc.id ";
 
-        return this.jdbcTemplate.query(sql, rm, LoanTransactionType.WAIVE_CHARGES.getValue(), loanId, loanId); // NOSONAR
+        final List<Object> unrecognizedIncomeArgs = new ArrayList<>(args);
+        unrecognizedIncomeArgs.set(0, LoanTransactionType.WAIVE_CHARGES.getValue());
+        for (LoanChargeData chargeData : this.jdbcTemplate.query(sql, rm, unrecognizedIncomeArgs.toArray())) { // NOSONAR
+            chargesById.put(chargeData.getId(), chargeData);
+        }
     }
 
     private static final class LoanChargeUnRecognizedIncomeMapper implements RowMapper<LoanChargeData> {
@@ -375,11 +419,8 @@ public class LoanChargeReadPlatformServiceImpl implements LoanChargeReadPlatform
         private final String schemaSql;
         private final Map<Long, LoanChargeData> chargeDataMap;
 
-        LoanChargeUnRecognizedIncomeMapper(final Collection<LoanChargeData> datas) {
-            this.chargeDataMap = new HashMap<>();
-            for (LoanChargeData chargeData : datas) {
-                this.chargeDataMap.put(chargeData.getId(), chargeData);
-            }
+        LoanChargeUnRecognizedIncomeMapper(final Map<Long, LoanChargeData> chargeDataMap, final String loanIdsInSql) {
+            this.chargeDataMap = chargeDataMap;
 
             StringBuilder sb = new StringBuilder(50);
             sb.append("lc.id as id,  ");
@@ -388,8 +429,8 @@ public class LoanChargeReadPlatformServiceImpl implements LoanChargeReadPlatform
             sb.append("left join (");
             sb.append("select cpb.loan_charge_id, lt.unrecognized_income_portion");
             sb.append(" from m_loan_charge_paid_by cpb ");
-            sb.append(
-                    "inner join m_loan_transaction lt on lt.id = cpb.loan_transaction_id and lt.is_reversed = false and lt.transaction_type_enum = ?  and lt.loan_id = ? ");
+            sb.append("inner join m_loan_transaction lt on lt.id = cpb.loan_transaction_id and lt.is_reversed = false");
+            sb.append(" and lt.transaction_type_enum = ?  and lt.loan_id in (").append(loanIdsInSql).append(") ");
             sb.append(") wt on  wt.loan_charge_id= lc.id  ");
 
             schemaSql = sb.toString();
@@ -410,22 +451,32 @@ public class LoanChargeReadPlatformServiceImpl implements LoanChargeReadPlatform
         }
     }
 
-    private Collection<LoanInstallmentChargeData> retrieveInstallmentLoanChargesForAccrual(Long loanChargeId) {
-        final LoanInstallmentChargeAccrualMapper rm = new LoanInstallmentChargeAccrualMapper();
-        String sql = "select " + rm.schema()
-                + " where lic.loan_charge_id= ?  group by lsi.installment, lsi.duedate, lic.amount_outstanding_derived, lic.amount, lic.is_paid_derived, lic.amount_waived_derived, lic.waived";
-        Collection<LoanInstallmentChargeData> chargeDatas = this.jdbcTemplate.query(sql, rm, // NOSONAR
-                LoanTransactionType.ACCRUAL.getValue(), loanChargeId);
-        final Map<Integer, LoanInstallmentChargeData> installmentChargeDatas = new HashMap<>();
-        for (LoanInstallmentChargeData installmentChargeData : chargeDatas) {
-            installmentChargeDatas.put(installmentChargeData.getInstallmentNumber(), installmentChargeData);
-        }
-        chargeDatas = updateInstallmentLoanChargesWithUnrecognizedIncome(loanChargeId, installmentChargeDatas);
-        for (LoanInstallmentChargeData installmentChargeData : chargeDatas) {
-            installmentChargeDatas.put(installmentChargeData.getInstallmentNumber(), installmentChargeData);
+    private Map<Long, Collection<LoanInstallmentChargeData>> retrieveInstallmentLoanChargesForAccrual(
+            final Collection<Long> loanChargeIds) {
+        final Map<Long, Map<Integer, LoanInstallmentChargeData>> installmentChargeDatas = new HashMap<>();
+        if (loanChargeIds.isEmpty()) {
+            return new HashMap<>();
         }
-        return installmentChargeDatas.values();
+        final String inSql = String.join(",", Collections.nCopies(loanChargeIds.size(), "?"));
+        final List<Object> args = new ArrayList<>(loanChargeIds.size() + 1);
+        args.add(LoanTransactionType.ACCRUAL.getValue());
+        args.addAll(loanChargeIds);
 
+        final LoanInstallmentChargeAccrualMapper rm = new LoanInstallmentChargeAccrualMapper();
+        String sql = "select lic.loan_charge_id as loanChargeId, " + rm.schema() + " where lic.loan_charge_id in (" + inSql + ") "
+                + " group by lic.loan_charge_id, lsi.installment, lsi.duedate, lic.amount_outstanding_derived, lic.amount,"
+                + " lic.is_paid_derived, lic.amount_waived_derived, lic.waived";
+        this.jdbcTemplate.query(sql, (RowCallbackHandler) rs -> { // NOSONAR
+            LoanInstallmentChargeData installmentChargeData = rm.mapRow(rs, 0);
+            installmentChargeDatas.computeIfAbsent(rs.getLong("loanChargeId"), k -> new HashMap<>())
+                    .put(installmentChargeData.getInstallmentNumber(), installmentChargeData);
+        }, args.toArray());
+
+        updateInstallmentLoanChargesWithUnrecognizedIncome(inSql, args, installmentChargeDatas);
+
+        final Map<Long, Collection<LoanInstallmentChargeData>> result = new HashMap<>();
+        installmentChargeDatas.forEach((loanChargeId, datas) -> result.put(loanChargeId, datas.values()));
+        return result;
     }
 
     private static final class LoanInstallmentChargeAccrualMapper implements RowMapper<LoanInstallmentChargeData> {
@@ -473,22 +524,31 @@ public class LoanChargeReadPlatformServiceImpl implements LoanChargeReadPlatform
         }
     }
 
-    private Collection<LoanInstallmentChargeData> updateInstallmentLoanChargesWithUnrecognizedIncome(final Long loanChargeId,
-            final Map<Integer, LoanInstallmentChargeData> installmentChargeDatas) {
+    private void updateInstallmentLoanChargesWithUnrecognizedIncome(final String loanChargeIdsInSql, final List<Object> args,
+            final Map<Long, Map<Integer, LoanInstallmentChargeData>> installmentChargeDatas) {
         final LoanInstallmentChargeUnRecognizedIncomeMapper rm = new LoanInstallmentChargeUnRecognizedIncomeMapper(installmentChargeDatas);
-        String sql = "select " + rm.schema() + " where cpb.loan_charge_id = ? group by cpb.installment_number  ";
-        return this.jdbcTemplate.query(sql, rm, LoanTransactionType.WAIVE_CHARGES.getValue(), loanChargeId); // NOSONAR
+        String sql = "select " + rm.schema() + " where cpb.loan_charge_id in (" + loanChargeIdsInSql + ")"
+                + " group by cpb.loan_charge_id, cpb.installment_number  ";
+        final List<Object> unrecognizedIncomeArgs = new ArrayList<>(args);
+        unrecognizedIncomeArgs.set(0, LoanTransactionType.WAIVE_CHARGES.getValue());
+        this.jdbcTemplate.query(sql, (RowCallbackHandler) rs -> { // NOSONAR
+            LoanInstallmentChargeData installmentChargeData = rm.mapRow(rs, 0);
+            if (installmentChargeData != null) {
+                installmentChargeDatas.get(rs.getLong("loanChargeId")).put(installmentChargeData.getInstallmentNumber(),
+                        installmentChargeData);
+            }
+        }, unrecognizedIncomeArgs.toArray());
     }
 
     private static final class LoanInstallmentChargeUnRecognizedIncomeMapper implements RowMapper<LoanInstallmentChargeData> {
 
         private final String schemaSql;
-        private final Map<Integer, LoanInstallmentChargeData> installmentChargeDatas;
+        private final Map<Long, Map<Integer, LoanInstallmentChargeData>> installmentChargeDatas;
 
-        LoanInstallmentChargeUnRecognizedIncomeMapper(final Map<Integer, LoanInstallmentChargeData> installmentChargeDatas) {
+        LoanInstallmentChargeUnRecognizedIncomeMapper(final Map<Long, Map<Integer, LoanInstallmentChargeData>> installmentChargeDatas) {
             this.installmentChargeDatas = installmentChargeDatas;
             StringBuilder sb = new StringBuilder(50);
-            sb.append(" cpb.installment_number as installmentNumber, ");
+            sb.append(" cpb.loan_charge_id as loanChargeId, cpb.installment_number as installmentNumber, ");
             sb.append("  sum(lt.unrecognized_income_portion) as amountUnrecognized ");
             sb.append(" from m_loan_charge_paid_by cpb ");
             sb.append(
@@ -502,9 +562,14 @@ public class LoanChargeReadPlatformServiceImpl implements LoanChargeReadPlatform
 
         @Override
         public LoanInstallmentChargeData mapRow(final ResultSet rs, @SuppressWarnings("unused") final int rowNum) throws SQLException {
+            final Long loanChargeId = rs.getLong("loanChargeId");
             final Integer installmentNumber = rs.getInt("installmentNumber");
             final BigDecimal amountUnrecognized = rs.getBigDecimal("amountUnrecognized");
-            LoanInstallmentChargeData installmentChargeData = this.installmentChargeDatas.get(installmentNumber);
+            Map<Integer, LoanInstallmentChargeData> chargeInstallments = this.installmentChargeDatas.get(loanChargeId);
+            LoanInstallmentChargeData installmentChargeData = chargeInstallments == null ? null : chargeInstallments.get(installmentNumber);
+            if (installmentChargeData == null) {
+                return null;
+            }
             return LoanInstallmentChargeData.builder().installmentNumber(installmentChargeData.getInstallmentNumber())
                     .dueDate(installmentChargeData.getDueDate()).amount(installmentChargeData.getAmount())
                     .amountOutstanding(installmentChargeData.getAmountOutstanding()).amountWaived(installmentChargeData.getAmountWaived())
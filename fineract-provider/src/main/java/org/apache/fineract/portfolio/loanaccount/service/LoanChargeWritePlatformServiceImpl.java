@@ -173,7 +173,7 @@ public class LoanChargeWritePlatformServiceImpl implements LoanChargeWritePlatfo
     @Transactional
     @Override
     public CommandProcessingResult addLoanCharge(final Long loanId, final JsonCommand command) {
-        this.loanChargeApiJsonValidator.validateAddLoanCharge(command.json());
+        this.loanChargeApiJsonValidator.validateAddLoanCharge(command);
 
         Loan loan = this.loanAssembler.assembleFrom(loanId);
         checkClientOrGroupActive(loan);
@@ -310,7 +310,7 @@ public class LoanChargeWritePlatformServiceImpl implements LoanChargeWritePlatfo
     @Override
     public CommandProcessingResult loanChargeRefund(final Long loanId, final JsonCommand command) {
 
-        this.loanChargeApiJsonValidator.validateLoanChargeRefundTransaction(command.json());
+        this.loanChargeApiJsonValidator.validateLoanChargeRefundTransaction(command);
 
         final Long loanChargeId = command.longValueOfParameterNamed("loanChargeId");
         final LoanCharge loanCharge = retrieveLoanChargeBy(loanId, loanChargeId);
@@ -429,7 +429,7 @@ public class LoanChargeWritePlatformServiceImpl implements LoanChargeWritePlatfo
     @Override
     public CommandProcessingResult updateLoanCharge(final Long loanId, final Long loanChargeId, final JsonCommand command) {
 
-        this.loanChargeApiJsonValidator.validateUpdateOfLoanCharge(command.json());
+        this.loanChargeApiJsonValidator.validateUpdateOfLoanCharge(command);
 
         final Loan loan = this.loanAssembler.assembleFrom(loanId);
         checkClientOrGroupActive(loan);
@@ -466,7 +466,7 @@ public class LoanChargeWritePlatformServiceImpl implements LoanChargeWritePlatfo
 
         final Loan loan = this.loanAssembler.assembleFrom(loanId);
         checkClientOrGroupActive(loan);
-        this.loanChargeApiJsonValidator.validateInstallmentChargeTransaction(command.json());
+        this.loanChargeApiJsonValidator.validateInstallmentChargeTransaction(command);
         final ExternalId externalId = externalIdFactory.createFromCommand(command, LoanApiConstants.externalIdParameterName);
         final LoanCharge loanCharge = retrieveLoanChargeBy(loanId, loanChargeId);
 
@@ -590,7 +590,7 @@ public class LoanChargeWritePlatformServiceImpl implements LoanChargeWritePlatfo
     public CommandProcessingResult payLoanCharge(final Long loanId, Long loanChargeId, final JsonCommand command,
             final boolean isChargeIdIncludedInJson) {
 
-        this.loanChargeApiJsonValidator.validateChargePaymentTransaction(command.json(), isChargeIdIncludedInJson);
+        this.loanChargeApiJsonValidator.validateChargePaymentTransaction(command, isChargeIdIncludedInJson);
         if (isChargeIdIncludedInJson) {
             loanChargeId = command.longValueOfParameterNamed("chargeId");
         }
@@ -683,7 +683,7 @@ public class LoanChargeWritePlatformServiceImpl implements LoanChargeWritePlatfo
     @Transactional
     @Override
     public CommandProcessingResult adjustmentForLoanCharge(Long loanId, Long loanChargeId, JsonCommand command) {
-        this.loanChargeApiJsonValidator.validateLoanChargeAdjustmentRequest(loanId, loanChargeId, command.json());
+        this.loanChargeApiJsonValidator.validateLoanChargeAdjustmentRequest(loanId, loanChargeId, command);
 
         final LoanCharge loanCharge = retrieveLoanChargeBy(loanId, loanChargeId);
         final LocalDate transactionDate = DateUtils.getBusinessLocalDate();
@@ -0,0 +1,42 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.apache.fineract.portfolio.loanaccount.data.LoanAccountData;
+
+/**
+ * Read model for loan detail screens: assembles loans together with their associations using a fixed number of set
+ * based queries for the associations that are typically the largest (transactions, charges, notes and disbursement
+ * details), independent of how many loans are requested.
+ */
+public interface LoanDetailReadPlatformService {
+
+    /**
+     * Retrieves the given loans with the requested associations.
+     *
+     * @param loanIds
+     *            the loans to retrieve, the result keeps their order
+     * @param associations
+     *            the association names to include, already expanded from {@code all} and with exclusions applied
+     */
+    List<LoanAccountData> retrieveLoanDetails(Collection<Long> loanIds, Set<String> associations);
+}
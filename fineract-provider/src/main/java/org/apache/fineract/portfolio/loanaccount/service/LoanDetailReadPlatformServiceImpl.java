@@ -0,0 +1,138 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.dataqueries.api.DataTableApiConstant;
+import org.apache.fineract.portfolio.account.service.AccountAssociationsReadPlatformService;
+import org.apache.fineract.portfolio.collateralmanagement.data.LoanCollateralResponseData;
+import org.apache.fineract.portfolio.collateralmanagement.service.LoanCollateralManagementReadPlatformService;
+import org.apache.fineract.portfolio.delinquency.service.DelinquencyReadPlatformService;
+import org.apache.fineract.portfolio.loanaccount.data.CollectionData;
+import org.apache.fineract.portfolio.loanaccount.data.DisbursementData;
+import org.apache.fineract.portfolio.loanaccount.data.LoanAccountData;
+import org.apache.fineract.portfolio.loanaccount.data.LoanChargeData;
+import org.apache.fineract.portfolio.loanaccount.data.LoanCollateralManagementData;
+import org.apache.fineract.portfolio.loanaccount.data.LoanSummaryData;
+import org.apache.fineract.portfolio.loanaccount.data.LoanTransactionData;
+import org.apache.fineract.portfolio.loanaccount.data.RepaymentScheduleRelatedLoanData;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanTermVariationType;
+import org.apache.fineract.portfolio.loanaccount.guarantor.data.GuarantorData;
+import org.apache.fineract.portfolio.loanaccount.guarantor.service.GuarantorReadPlatformService;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleType;
+import org.apache.fineract.portfolio.note.data.NoteData;
+import org.apache.fineract.portfolio.note.service.NoteReadPlatformService;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LoanDetailReadPlatformServiceImpl implements LoanDetailReadPlatformService {
+
+    private final LoanReadPlatformService loanReadPlatformService;
+    private final LoanChargeReadPlatformService loanChargeReadPlatformService;
+    private final NoteReadPlatformService noteReadPlatformService;
+    private final GuarantorReadPlatformService guarantorReadPlatformService;
+    private final LoanCollateralManagementReadPlatformService loanCollateralManagementReadPlatformService;
+    private final AccountAssociationsReadPlatformService accountAssociationsReadPlatformService;
+    private final DelinquencyReadPlatformService delinquencyReadPlatformService;
+
+    @Override
+    public List<LoanAccountData> retrieveLoanDetails(final Collection<Long> loanIds, final Set<String> associations) {
+        final List<Long> distinctLoanIds = List.copyOf(new LinkedHashSet<>(loanIds));
+        final List<LoanAccountData> loans = this.loanReadPlatformService.retrieveLoansByIds(distinctLoanIds);
+
+        final boolean withSchedule = associations.contains(DataTableApiConstant.repaymentScheduleAssociateParamName);
+        final boolean withDisbursementDetails = withSchedule
+                || associations.contains(DataTableApiConstant.multiDisburseDetailsAssociateParamName);
+
+        // transactions are always needed, the summary is completed from them
+        final Map<Long, List<LoanTransactionData>> transactionsByLoanId = this.loanReadPlatformService
+                .retrieveLoanTransactionsByLoanIds(distinctLoanIds);
+        final Map<Long, List<LoanChargeData>> chargesByLoanId = associations.contains(DataTableApiConstant.chargesAssociateParamName)
+                ? this.loanChargeReadPlatformService.retrieveLoanChargesByLoanIds(distinctLoanIds)
+                : Map.of();
+        final Map<Long, List<NoteData>> notesByLoanId = associations.contains(DataTableApiConstant.notesAssociateParamName)
+                ? this.noteReadPlatformService.retrieveLoanNotesByLoanIds(distinctLoanIds)
+                : Map.of();
+        final Map<Long, CollectionData> collectionDataByLoanId = this.delinquencyReadPlatformService
+                .calculateLoanCollectionDataByLoanIds(distinctLoanIds);
+        final Map<Long, List<DisbursementData>> disbursementsByLoanId = withDisbursementDetails
+                ? this.loanReadPlatformService.retrieveLoanDisbursementDetailsByLoanIds(distinctLoanIds)
+                : Map.of();
+
+        for (final LoanAccountData loan : loans) {
+            final Long loanId = loan.getId();
+            final List<LoanTransactionData> transactions = transactionsByLoanId.getOrDefault(loanId, List.of());
+            if (loan.getSummary() != null) {
+                loan.setSummary(LoanSummaryData.withTransactionAmountsSummary(loan.getSummary(), transactions));
+            }
+            if (associations.contains(DataTableApiConstant.transactionsAssociateParamName)) {
+                loan.setTransactions(nullIfEmpty(transactions));
+            }
+            if (associations.contains(DataTableApiConstant.chargesAssociateParamName)) {
+                loan.setCharges(nullIfEmpty(chargesByLoanId.get(loanId)));
+            }
+            if (associations.contains(DataTableApiConstant.notesAssociateParamName)) {
+                loan.setNotes(nullIfEmpty(notesByLoanId.get(loanId)));
+            }
+            if (withDisbursementDetails) {
+                loan.setDisbursementDetails(disbursementsByLoanId.getOrDefault(loanId, new ArrayList<>()));
+            }
+            if (withSchedule || associations.contains(DataTableApiConstant.emiAmountVariationsAssociateParamName)) {
+                loan.setEmiAmountVariations(
+                        this.loanReadPlatformService.retrieveLoanTermVariations(loanId, LoanTermVariationType.EMI_AMOUNT.getValue()));
+            }
+            if (withSchedule) {
+                final RepaymentScheduleRelatedLoanData repaymentScheduleRelatedData = loan.getTimeline().repaymentScheduleRelatedData(
+                        loan.getCurrency(), loan.getPrincipal(), loan.getApprovedPrincipal(), loan.getInArrearsTolerance(),
+                        loan.getFeeChargesAtDisbursementCharged());
+                loan.setRepaymentSchedule(this.loanReadPlatformService.retrieveRepaymentSchedule(loanId, repaymentScheduleRelatedData,
+                        loan.getDisbursementDetails(), loan.isInterestRecalculationEnabled(),
+                        LoanScheduleType.fromEnumOptionData(loan.getLoanScheduleType())));
+            }
+            if (associations.contains(DataTableApiConstant.guarantorsAssociateParamName)) {
+                final List<GuarantorData> guarantors = this.guarantorReadPlatformService.retrieveGuarantorsForLoan(loanId);
+                loan.setGuarantors(nullIfEmpty(guarantors));
+            }
+            if (associations.contains(DataTableApiConstant.collateralAssociateParamName)) {
+                final Collection<LoanCollateralManagementData> collateral = new ArrayList<>();
+                for (LoanCollateralResponseData loanCollateral : this.loanCollateralManagementReadPlatformService
+                        .getLoanCollateralResponseDataList(loanId)) {
+                    collateral.add(loanCollateral.toCommand());
+                }
+                loan.setCollateral(collateral);
+            }
+            if (associations.contains(DataTableApiConstant.linkedAccountAssociateParamName)) {
+                loan.setLinkedAccount(this.accountAssociationsReadPlatformService.retriveLoanLinkedAssociation(loanId));
+            }
+            loan.setDelinquent(collectionDataByLoanId.get(loanId));
+        }
+        return loans;
+    }
+
+    private static <T> Collection<T> nullIfEmpty(final Collection<T> values) {
+        return values == null || values.isEmpty() ? null : values;
+    }
+}
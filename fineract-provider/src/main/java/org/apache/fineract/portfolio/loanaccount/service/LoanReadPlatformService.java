@@ -21,6 +21,7 @@ package org.apache.fineract.portfolio.loanaccount.service;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import org.apache.fineract.infrastructure.core.domain.ExternalId;
 import org.apache.fineract.infrastructure.core.service.Page;
 import org.apache.fineract.infrastructure.core.service.SearchParameters;
@@ -30,6 +31,7 @@ import org.apache.fineract.portfolio.floatingrates.data.InterestRatePeriodData;
 import org.apache.fineract.portfolio.loanaccount.data.DisbursementData;
 import org.apache.fineract.portfolio.loanaccount.data.LoanAccountData;
 import org.apache.fineract.portfolio.loanaccount.data.LoanApprovalData;
+import org.apache.fineract.portfolio.loanaccount.data.LoanPeriodicAccrualPartition;
 import org.apache.fineract.portfolio.loanaccount.data.LoanRepaymentScheduleInstallmentData;
 import org.apache.fineract.portfolio.loanaccount.data.LoanScheduleAccrualData;
 import org.apache.fineract.portfolio.loanaccount.data.LoanTermVariationsData;
@@ -48,6 +50,14 @@ public interface LoanReadPlatformService {
 
     LoanAccountData retrieveOne(Long loanId);
 
+    /**
+     * Loads the given loans with one query, in the order of the given ids.
+     *
+     * @throws org.apache.fineract.portfolio.loanaccount.exception.LoanNotFoundException
+     *             if any of the loans does not exist or is not visible to the current user
+     */
+    List<LoanAccountData> retrieveLoansByIds(Collection<Long> loanIds);
+
     LoanAccountData fetchRepaymentScheduleData(LoanAccountData accountData);
 
     LoanScheduleData retrieveRepaymentSchedule(Long loanId, RepaymentScheduleRelatedLoanData repaymentScheduleRelatedData,
@@ -55,6 +65,11 @@ public interface LoanReadPlatformService {
 
     Collection<LoanTransactionData> retrieveLoanTransactions(Long loanId);
 
+    /**
+     * Set based variant of {@link #retrieveLoanTransactions(Long)}; loans without transactions have no entry.
+     */
+    Map<Long, List<LoanTransactionData>> retrieveLoanTransactionsByLoanIds(Collection<Long> loanIds);
+
     LoanAccountData retrieveTemplateWithClientAndProductDetails(Long clientId, Long productId);
 
     LoanAccountData retrieveTemplateWithGroupAndProductDetails(Long groupId, Long productId);
@@ -104,6 +119,12 @@ public interface LoanReadPlatformService {
 
     Collection<DisbursementData> retrieveLoanDisbursementDetails(Long loanId);
 
+    /**
+     * Set based variant of {@link #retrieveLoanDisbursementDetails(Long)}; loans without disbursement details have no
+     * entry.
+     */
+    Map<Long, List<DisbursementData>> retrieveLoanDisbursementDetailsByLoanIds(Collection<Long> loanIds);
+
     DisbursementData retrieveLoanDisbursementDetail(Long loanId, Long disbursementId);
 
     Collection<LoanTermVariationsData> retrieveLoanTermVariations(Long loanId, Integer termType);
@@ -118,6 +139,16 @@ public interface LoanReadPlatformService {
 
     Collection<LoanScheduleAccrualData> retrievePeriodicAccrualData(LocalDate tillDate, Loan loan);
 
+    Collection<LoanScheduleAccrualData> retrievePeriodicAccrualDataForLoans(LocalDate tillDate, Collection<Long> loanIds);
+
+    List<LoanPeriodicAccrualPartition> retrievePeriodicAccrualPartitions(LocalDate tillDate, int partitionSize);
+
+    /**
+     * Ids of loans with periodic accruals to post, after the given loan id and up to the optional max loan id, in
+     * ascending order.
+     */
+    List<Long> retrievePeriodicAccrualLoanIds(LocalDate tillDate, Long afterLoanId, Long maxLoanId, int limit);
+
     LoanTransactionData retrieveLoanChargeOffTemplate(Long loanId);
 
     Collection<Long> fetchLoansForInterestRecalculation();
@@ -130,6 +161,10 @@ public interface LoanReadPlatformService {
 
     Collection<LoanSchedulePeriodData> fetchWaiverInterestRepaymentData(Long loanId);
 
+    Map<Long, List<LoanTransactionData>> retrieveWaiverLoanTransactions(Collection<Long> loanIds);
+
+    Map<Long, List<LoanSchedulePeriodData>> fetchWaiverInterestRepaymentData(Collection<Long> loanIds);
+
     boolean isGuaranteeRequired(Long loanId);
 
     LocalDate retrieveMinimumDateOfRepaymentTransaction(Long loanId);
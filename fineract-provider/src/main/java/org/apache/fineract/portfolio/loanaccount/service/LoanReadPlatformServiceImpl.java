@@ -32,12 +32,14 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.fineract.accounting.common.AccountingRuleType;
@@ -93,7 +95,9 @@ import org.apache.fineract.portfolio.loanaccount.data.DisbursementData;
 import org.apache.fineract.portfolio.loanaccount.data.LoanAccountData;
 import org.apache.fineract.portfolio.loanaccount.data.LoanApplicationTimelineData;
 import org.apache.fineract.portfolio.loanaccount.data.LoanApprovalData;
+import org.apache.fineract.portfolio.loanaccount.data.LoanChargePaidByData;
 import org.apache.fineract.portfolio.loanaccount.data.LoanInterestRecalculationData;
+import org.apache.fineract.portfolio.loanaccount.data.LoanPeriodicAccrualPartition;
 import org.apache.fineract.portfolio.loanaccount.data.LoanRepaymentScheduleInstallmentData;
 import org.apache.fineract.portfolio.loanaccount.data.LoanScheduleAccrualData;
 import org.apache.fineract.portfolio.loanaccount.data.LoanStatusEnumData;
@@ -140,7 +144,9 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
@@ -150,6 +156,13 @@ import org.springframework.util.CollectionUtils;
 public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, LoanReadPlatformServiceCommon {
 
     private static final String ACCRUAL_ON_CHARGE_SUBMITTED_ON_DATE = "submitted-date";
+    private static final String LOAN_TRANSACTIONS_FILTER_AND_ORDER = " and tr.transaction_type_enum not in (0, 3) "
+            + " and (tr.is_reversed=false or tr.manually_adjusted_or_reversed = true) "
+            + " order by tr.transaction_date, tr.created_on_utc, tr.id ";
+    private static final String PERIODIC_ACCRUAL_CANDIDATES_FROM = " from m_loan_repayment_schedule ls"
+            + " join m_loan loan on loan.id = ls.loan_id"
+            + " join m_product_loan mpl on mpl.id = loan.product_id"
+            + " left join m_loan_recalculation_details recaldet on loan.id = recaldet.loan_id ";
     private final JdbcTemplate jdbcTemplate;
     private final PlatformSecurityContext context;
     private final LoanRepositoryWrapper loanRepositoryWrapper;
@@ -201,6 +214,34 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
         }
     }
 
+    @Override
+    public List<LoanAccountData> retrieveLoansByIds(final Collection<Long> loanIds) {
+        if (loanIds.isEmpty()) {
+            return List.of();
+        }
+        final String hierarchySearchString = getHierarchyString() + "%";
+        final LoanMapper rm = new LoanMapper(sqlGenerator, delinquencyReadPlatformService);
+
+        final String sql = "select " + rm.loanSchema() + " join m_office o on (o.id = c.office_id or o.id = g.office_id) "
+                + " left join m_office transferToOffice on transferToOffice.id = c.transfer_to_office_id "
+                + " where l.id in (:loanIds) and ( o.hierarchy like :hierarchy or transferToOffice.hierarchy like :hierarchy)";
+        final MapSqlParameterSource params = new MapSqlParameterSource("loanIds", loanIds).addValue("hierarchy", hierarchySearchString);
+        final Map<Long, LoanAccountData> loansById = new HashMap<>();
+        for (LoanAccountData loan : this.namedParameterJdbcTemplate.query(sql, params, rm)) {
+            loansById.putIfAbsent(loan.getId(), loan);
+        }
+
+        final List<LoanAccountData> loans = new ArrayList<>(loanIds.size());
+        for (Long loanId : loanIds) {
+            final LoanAccountData loan = loansById.get(loanId);
+            if (loan == null) {
+                throw new LoanNotFoundException(loanId);
+            }
+            loans.add(loan);
+        }
+        return loans;
+    }
+
     private String getHierarchyString() {
         AppUser currentUser = null;
         if (this.context != null) {
@@ -281,23 +322,50 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
             /***
              * TODO Vishwas: Remove references to "Contra" from the codebase
              ***/
-            final String sql = "select " + rm.loanPaymentsSchema() + " where tr.loan_id = ? and tr.transaction_type_enum not in (0, 3) "
-                    + " and (tr.is_reversed=false or tr.manually_adjusted_or_reversed = true)  order by tr.transaction_date, tr.created_on_utc, tr.id ";
+            final String sql = "select " + rm.loanPaymentsSchema() + " where tr.loan_id = ? " + LOAN_TRANSACTIONS_FILTER_AND_ORDER;
             Collection<LoanTransactionData> loanTransactionData = this.jdbcTemplate.query(sql, rm, loanId); // NOSONAR
-            // TODO: would worth to rework in the future. It is not nice to fetch relations one by one... might worth to
-            // give a try to get rid of native queries
-            for (LoanTransactionData loanTransaction : loanTransactionData) {
-                loanTransaction
-                        .setLoanTransactionRelations(this.retrieveLoanTransactionRelationsByLoanTransactionId(loanTransaction.getId()));
-                loanTransaction.setLoanChargePaidByList(
-                        loanChargePaidByReadPlatformService.getLoanChargesPaidByTransactionId(loanTransaction.getId()));
-            }
+            addTransactionRelationsAndChargesPaidBy(loanTransactionData, List.of(loanId));
             return loanTransactionData;
         } catch (final EmptyResultDataAccessException e) {
             return null;
         }
     }
 
+    @Override
+    public Map<Long, List<LoanTransactionData>> retrieveLoanTransactionsByLoanIds(final Collection<Long> loanIds) {
+        this.context.authenticatedUser();
+        if (loanIds.isEmpty()) {
+            return Map.of();
+        }
+        final LoanTransactionsMapper rm = new LoanTransactionsMapper(sqlGenerator);
+        final String sql = "select " + rm.loanPaymentsSchema() + " where tr.loan_id in (:loanIds) " + LOAN_TRANSACTIONS_FILTER_AND_ORDER;
+        final List<LoanTransactionData> loanTransactionData = this.namedParameterJdbcTemplate.query(sql,
+                new MapSqlParameterSource("loanIds", loanIds), rm);
+        addTransactionRelationsAndChargesPaidBy(loanTransactionData, loanIds);
+        return loanTransactionData.stream()
+                .collect(Collectors.groupingBy(LoanTransactionData::getLoanId, LinkedHashMap::new, Collectors.toList()));
+    }
+
+    /**
+     * Loads the relations and charge payments of all transactions of the given loans with one query each, rather than
+     * two queries per transaction.
+     */
+    private void addTransactionRelationsAndChargesPaidBy(final Collection<LoanTransactionData> loanTransactionData,
+            final Collection<Long> loanIds) {
+        if (loanTransactionData.isEmpty()) {
+            return;
+        }
+        final Map<Long, List<LoanTransactionRelationData>> relationsByTransactionId = this.loanTransactionRelationMapper
+                .map(this.loanTransactionRelationRepository.findByFromTransactionLoanIds(loanIds)).stream()
+                .collect(Collectors.groupingBy(LoanTransactionRelationData::getFromLoanTransaction));
+        final Map<Long, List<LoanChargePaidByData>> chargesPaidByTransactionId = this.loanChargePaidByReadPlatformService
+                .getLoanChargesPaidByLoanIds(loanIds);
+        for (LoanTransactionData loanTransaction : loanTransactionData) {
+            loanTransaction.setLoanTransactionRelations(relationsByTransactionId.getOrDefault(loanTransaction.getId(), new ArrayList<>()));
+            loanTransaction.setLoanChargePaidByList(chargesPaidByTransactionId.getOrDefault(loanTransaction.getId(), new ArrayList<>()));
+        }
+    }
+
     @Override
     public Page<LoanAccountData> retrieveAll(final SearchParameters searchParameters) {
 
@@ -305,9 +373,10 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
         final String hierarchy = currentUser.getOffice().getHierarchy();
         final String hierarchySearchString = hierarchy + "%";
         final LoanMapper loanMapper = new LoanMapper(sqlGenerator, delinquencyReadPlatformService);
+        final boolean keysetPaginated = searchParameters != null && searchParameters.isKeysetPaginated();
 
         final StringBuilder sqlBuilder = new StringBuilder(200);
-        sqlBuilder.append("select " + sqlGenerator.calcFoundRows() + " ");
+        sqlBuilder.append("select " + (keysetPaginated ? "" : sqlGenerator.calcFoundRows()) + " ");
         sqlBuilder.append(loanMapper.loanSchema());
 
         // TODO - for time being this will data scope list of loans returned to
@@ -349,6 +418,11 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
                 arrayPos = arrayPos + 1;
             }
 
+            if (keysetPaginated) {
+                return this.paginationHelper.fetchKeysetPage(this.jdbcTemplate, sqlBuilder.toString(), extraCriterias, "l.id",
+                        searchParameters, loanMapper, LoanAccountData::getId);
+            }
+
             if (searchParameters.isOrderByRequested()) {
                 sqlBuilder.append(" order by ").append(searchParameters.getOrderBy());
                 this.columnValidator.validateSqlInjection(sqlBuilder.toString(), searchParameters.getOrderBy());
@@ -1706,6 +1780,22 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
         return this.jdbcTemplate.query(sql, rm, loanId); // NOSONAR
     }
 
+    @Override
+    public Map<Long, List<DisbursementData>> retrieveLoanDisbursementDetailsByLoanIds(final Collection<Long> loanIds) {
+        if (loanIds.isEmpty()) {
+            return Map.of();
+        }
+        final LoanDisbursementDetailMapper rm = new LoanDisbursementDetailMapper(sqlGenerator);
+        final String sql = "select dd.loan_id as loanId, " + rm.schema()
+                + " where dd.loan_id in (:loanIds) and dd.is_reversed=false group by dd.id, lc.amount_waived_derived"
+                + " order by dd.loan_id, dd.expected_disburse_date, dd.disbursedon_date";
+        final Map<Long, List<DisbursementData>> disbursementsByLoanId = new LinkedHashMap<>();
+        this.namedParameterJdbcTemplate.query(sql, new MapSqlParameterSource("loanIds", loanIds),
+                (RowCallbackHandler) rs -> disbursementsByLoanId.computeIfAbsent(rs.getLong("loanId"), loanId -> new ArrayList<>())
+                        .add(rm.mapRow(rs, rs.getRow())));
+        return disbursementsByLoanId;
+    }
+
     private static final class LoanDisbursementDetailMapper implements RowMapper<DisbursementData> {
 
         private final DatabaseSpecificSQLGenerator sqlGenerator;
@@ -1838,67 +1928,92 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
 
     @Override
     public Collection<LoanScheduleAccrualData> retrievePeriodicAccrualData(final LocalDate tillDate, final Loan loan) {
-        final String chargeAccrualDateCriteria = configurationDomainService.getAccrualDateConfigForCharge();
-        if (chargeAccrualDateCriteria.equalsIgnoreCase(ACCRUAL_ON_CHARGE_SUBMITTED_ON_DATE)) {
-            return retrievePeriodicAccrualDataForChargeSubmittedDateProcessing(tillDate, loan);
+        if (loan != null) {
+            return retrievePeriodicAccrualData(tillDate, " and loan.id= :loanId ", Map.of("loanId", loan.getId()));
         }
-        return retrievePeriodicAccrualDataForDefaultProcessing(tillDate, loan);
+        return retrievePeriodicAccrualData(tillDate, "", Map.of());
     }
 
-    private Collection<LoanScheduleAccrualData> retrievePeriodicAccrualDataForDefaultProcessing(final LocalDate tillDate, final Loan loan) {
+    @Override
+    public Collection<LoanScheduleAccrualData> retrievePeriodicAccrualDataForLoans(final LocalDate tillDate,
+            final Collection<Long> loanIds) {
+        if (loanIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return retrievePeriodicAccrualData(tillDate, " and loan.id in (:loanIds) ", Map.of("loanIds", loanIds));
+    }
+
+    @Override
+    public List<LoanPeriodicAccrualPartition> retrievePeriodicAccrualPartitions(final LocalDate tillDate, final int partitionSize) {
+        final Map<String, Object> paramMap = new HashMap<>(6);
+        final StringBuilder sqlBuilder = new StringBuilder(1000);
+        sqlBuilder.append("select min(loanId) as minId, max(loanId) as maxId, page, count(*) as loanCount from ");
+        sqlBuilder.append("  (select floor(((row_number() over(order by loanId))-1) / :partitionSize) as page, t.* from ");
+        sqlBuilder.append("      (select distinct loan.id as loanId ").append(PERIODIC_ACCRUAL_CANDIDATES_FROM);
+        sqlBuilder.append("       where ").append(periodicAccrualCriteria(tillDate, paramMap)).append(") t) t2 ");
+        sqlBuilder.append("group by page ");
+        sqlBuilder.append("order by page");
+        paramMap.put("partitionSize", partitionSize);
+        return this.namedParameterJdbcTemplate.query(sqlBuilder.toString(), paramMap, (rs, rowNum) -> new LoanPeriodicAccrualPartition(
+                rs.getLong("minId"), rs.getLong("maxId"), rs.getLong("page"), rs.getLong("loanCount")));
+    }
+
+    @Override
+    public List<Long> retrievePeriodicAccrualLoanIds(final LocalDate tillDate, final Long afterLoanId, final Long maxLoanId,
+            final int limit) {
+        final Map<String, Object> paramMap = new HashMap<>(7);
+        final StringBuilder sqlBuilder = new StringBuilder(800);
+        sqlBuilder.append("select distinct loan.id as loanId ").append(PERIODIC_ACCRUAL_CANDIDATES_FROM);
+        sqlBuilder.append(" where ").append(periodicAccrualCriteria(tillDate, paramMap));
+        sqlBuilder.append(" and loan.id > :afterLoanId ");
+        paramMap.put("afterLoanId", afterLoanId);
+        if (maxLoanId != null) {
+            sqlBuilder.append(" and loan.id <= :maxLoanId ");
+            paramMap.put("maxLoanId", maxLoanId);
+        }
+        sqlBuilder.append(" order by loan.id ").append(sqlGenerator.limit(limit));
+        return this.namedParameterJdbcTemplate.queryForList(sqlBuilder.toString(), paramMap, Long.class);
+    }
+
+    private Collection<LoanScheduleAccrualData> retrievePeriodicAccrualData(final LocalDate tillDate, final String loanCriteria,
+            final Map<String, Object> loanParams) {
         LoanSchedulePeriodicAccrualMapper mapper = new LoanSchedulePeriodicAccrualMapper();
-        LocalDate organisationStartDate = this.configurationDomainService.retrieveOrganisationStartDate();
+        Map<String, Object> paramMap = new HashMap<>(loanParams);
         final StringBuilder sqlBuilder = new StringBuilder(400);
-        sqlBuilder.append("select ").append(mapper.schema()).append(
-                " where (recaldet.is_compounding_to_be_posted_as_transaction is null or recaldet.is_compounding_to_be_posted_as_transaction = false) ")
-                .append(" and (((ls.fee_charges_amount <> COALESCE(ls.accrual_fee_charges_derived, 0))")
-                .append(" or (ls.penalty_charges_amount <> COALESCE(ls.accrual_penalty_charges_derived, 0))")
-                .append(" or (ls.interest_amount <> COALESCE(ls.accrual_interest_derived, 0)))")
-                .append(" and loan.loan_status_id=:active and mpl.accounting_type=:type and (loan.closedon_date <= :tillDate or loan.closedon_date is null)")
-                .append(" and loan.is_npa=false and loan.is_charged_off = false and (ls.duedate <= :tillDate or (ls.duedate > :tillDate and ls.fromdate < :tillDate)")
-                .append(" or (ls.installment = 1 and ls.fromdate = :tillDate))) ");
-        Map<String, Object> paramMap = new HashMap<>(5);
-        if (organisationStartDate != null) {
-            sqlBuilder.append(" and ls.duedate > :organisationStartDate ");
-            paramMap.put("organisationStartDate", organisationStartDate);
-        }
-        if (loan != null) {
-            sqlBuilder.append(" and loan.id= :loanId ");
-            paramMap.put("loanId", loan.getId());
-        }
+        sqlBuilder.append("select ").append(mapper.schema()).append(" where ").append(periodicAccrualCriteria(tillDate, paramMap));
+        sqlBuilder.append(loanCriteria);
         sqlBuilder.append(" order by loan.id,ls.duedate ");
-        paramMap.put("active", LoanStatus.ACTIVE.getValue());
-        paramMap.put("type", AccountingRuleType.ACCRUAL_PERIODIC.getValue());
-        paramMap.put("tillDate", tillDate);
         return this.namedParameterJdbcTemplate.query(sqlBuilder.toString(), paramMap, mapper);
     }
 
-    private Collection<LoanScheduleAccrualData> retrievePeriodicAccrualDataForChargeSubmittedDateProcessing(final LocalDate tillDate,
-            final Loan loan) {
-        LoanSchedulePeriodicAccrualMapper mapper = new LoanSchedulePeriodicAccrualMapper();
-        LocalDate organisationStartDate = this.configurationDomainService.retrieveOrganisationStartDate();
-        final StringBuilder sqlBuilder = new StringBuilder(400);
-        sqlBuilder.append("select ").append(mapper.schema()).append(
-                " where (recaldet.is_compounding_to_be_posted_as_transaction is null or recaldet.is_compounding_to_be_posted_as_transaction = false) ")
+    /**
+     * Installments of active, periodic accrual based loans which still have income to accrue. With charges accrued on
+     * their due date only installments started by the till date are picked up.
+     */
+    private String periodicAccrualCriteria(final LocalDate tillDate, final Map<String, Object> paramMap) {
+        final String chargeAccrualDateCriteria = configurationDomainService.getAccrualDateConfigForCharge();
+        final LocalDate organisationStartDate = this.configurationDomainService.retrieveOrganisationStartDate();
+        final StringBuilder sqlBuilder = new StringBuilder(600);
+        sqlBuilder.append(
+                " (recaldet.is_compounding_to_be_posted_as_transaction is null or recaldet.is_compounding_to_be_posted_as_transaction = false) ")
                 .append(" and (((ls.fee_charges_amount <> COALESCE(ls.accrual_fee_charges_derived, 0))")
                 .append(" or (ls.penalty_charges_amount <> COALESCE(ls.accrual_penalty_charges_derived, 0))")
                 .append(" or (ls.interest_amount <> COALESCE(ls.accrual_interest_derived, 0)))")
                 .append(" and loan.loan_status_id=:active and mpl.accounting_type=:type and (loan.closedon_date <= :tillDate or loan.closedon_date is null)")
-                .append(" and loan.is_npa=false and loan.is_charged_off = false)");
-        Map<String, Object> paramMap = new HashMap<>(5);
+                .append(" and loan.is_npa=false and loan.is_charged_off = false");
+        if (!chargeAccrualDateCriteria.equalsIgnoreCase(ACCRUAL_ON_CHARGE_SUBMITTED_ON_DATE)) {
+            sqlBuilder.append(" and (ls.duedate <= :tillDate or (ls.duedate > :tillDate and ls.fromdate < :tillDate)")
+                    .append(" or (ls.installment = 1 and ls.fromdate = :tillDate))");
+        }
+        sqlBuilder.append(") ");
         if (organisationStartDate != null) {
             sqlBuilder.append(" and ls.duedate > :organisationStartDate ");
             paramMap.put("organisationStartDate", organisationStartDate);
         }
-        if (loan != null) {
-            sqlBuilder.append(" and loan.id= :loanId ");
-            paramMap.put("loanId", loan.getId());
-        }
-        sqlBuilder.append(" order by loan.id,ls.duedate ");
         paramMap.put("active", LoanStatus.ACTIVE.getValue());
         paramMap.put("type", AccountingRuleType.ACCRUAL_PERIODIC.getValue());
         paramMap.put("tillDate", tillDate);
-        return this.namedParameterJdbcTemplate.query(sqlBuilder.toString(), paramMap, mapper);
+        return sqlBuilder.toString();
     }
 
     private static final class LoanSchedulePeriodicAccrualMapper implements RowMapper<LoanScheduleAccrualData> {
@@ -2239,6 +2354,38 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
 
     }
 
+    @Override
+    public Map<Long, List<LoanTransactionData>> retrieveWaiverLoanTransactions(final Collection<Long> loanIds) {
+        final Map<Long, List<LoanTransactionData>> waiversByLoanId = new HashMap<>();
+        if (loanIds.isEmpty()) {
+            return waiversByLoanId;
+        }
+        final LoanTransactionDerivedComponentMapper rm = new LoanTransactionDerivedComponentMapper(sqlGenerator);
+        final String sql = "select " + rm.schema()
+                + " where tr.loan_id in (:loanIds) and tr.transaction_type_enum = :type and tr.is_reversed=false"
+                + " order by tr.loan_id, tr.transaction_date, tr.created_on_utc, tr.id ";
+        final Map<String, Object> paramMap = Map.of("loanIds", loanIds, "type", LoanTransactionType.WAIVE_INTEREST.getValue());
+        this.namedParameterJdbcTemplate.query(sql, paramMap, (RowCallbackHandler) rs -> {
+            LoanTransactionData waiver = rm.mapRow(rs, 0);
+            waiversByLoanId.computeIfAbsent(waiver.getLoanId(), k -> new ArrayList<>()).add(waiver);
+        });
+        return waiversByLoanId;
+    }
+
+    @Override
+    public Map<Long, List<LoanSchedulePeriodData>> fetchWaiverInterestRepaymentData(final Collection<Long> loanIds) {
+        final Map<Long, List<LoanSchedulePeriodData>> waivedPeriodsByLoanId = new HashMap<>();
+        if (loanIds.isEmpty()) {
+            return waivedPeriodsByLoanId;
+        }
+        final LoanRepaymentWaiverMapper rm = new LoanRepaymentWaiverMapper();
+        final String sql = "select lrs.loan_id as loanId, " + rm.getSchema()
+                + " where lrs.loan_id in (:loanIds) and lrs.interest_waived_derived is not null order by lrs.loan_id, lrs.installment ASC ";
+        this.namedParameterJdbcTemplate.query(sql, Map.of("loanIds", loanIds), (RowCallbackHandler) rs -> waivedPeriodsByLoanId
+                .computeIfAbsent(rs.getLong("loanId"), k -> new ArrayList<>()).add(rm.mapRow(rs, 0)));
+        return waivedPeriodsByLoanId;
+    }
+
     private static final class LoanRepaymentWaiverMapper implements RowMapper<LoanSchedulePeriodData> {
 
         private final String sqlSchema;
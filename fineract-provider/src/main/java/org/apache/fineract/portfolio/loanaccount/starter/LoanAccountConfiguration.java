@@ -18,6 +18,7 @@
  */
 package org.apache.fineract.portfolio.loanaccount.starter;
 
+import jakarta.persistence.EntityManager;
 import org.apache.fineract.accounting.journalentry.service.JournalEntryWritePlatformService;
 import org.apache.fineract.cob.service.LoanAccountLockService;
 import org.apache.fineract.infrastructure.accountnumberformat.domain.AccountNumberFormatRepositoryWrapper;
@@ -36,6 +37,7 @@ import org.apache.fineract.infrastructure.entityaccess.domain.FineractEntityToEn
 import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.infrastructure.security.utils.ColumnValidator;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
 import org.apache.fineract.organisation.holiday.domain.HolidayRepository;
 import org.apache.fineract.organisation.holiday.domain.HolidayRepositoryWrapper;
 import org.apache.fineract.organisation.monetary.domain.ApplicationCurrencyRepositoryWrapper;
@@ -60,6 +62,7 @@ import org.apache.fineract.portfolio.client.domain.AccountNumberGenerator;
 import org.apache.fineract.portfolio.client.domain.ClientRepositoryWrapper;
 import org.apache.fineract.portfolio.client.service.ClientReadPlatformService;
 import org.apache.fineract.portfolio.collateralmanagement.service.LoanCollateralAssembler;
+import org.apache.fineract.portfolio.collateralmanagement.service.LoanCollateralManagementReadPlatformService;
 import org.apache.fineract.portfolio.common.service.DropdownReadPlatformService;
 import org.apache.fineract.portfolio.delinquency.service.DelinquencyReadPlatformService;
 import org.apache.fineract.portfolio.floatingrates.service.FloatingRatesReadPlatformService;
@@ -82,6 +85,7 @@ import org.apache.fineract.portfolio.loanaccount.domain.LoanSummaryWrapper;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanTransactionRelationRepository;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanTransactionRepository;
 import org.apache.fineract.portfolio.loanaccount.guarantor.service.GuarantorDomainService;
+import org.apache.fineract.portfolio.loanaccount.guarantor.service.GuarantorReadPlatformService;
 import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.AprCalculator;
 import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleGeneratorFactory;
 import org.apache.fineract.portfolio.loanaccount.loanschedule.service.LoanScheduleAssembler;
@@ -118,6 +122,8 @@ import org.apache.fineract.portfolio.loanaccount.service.LoanChargeReadPlatformS
 import org.apache.fineract.portfolio.loanaccount.service.LoanChargeReadPlatformServiceImpl;
 import org.apache.fineract.portfolio.loanaccount.service.LoanChargeWritePlatformService;
 import org.apache.fineract.portfolio.loanaccount.service.LoanChargeWritePlatformServiceImpl;
+import org.apache.fineract.portfolio.loanaccount.service.LoanDetailReadPlatformService;
+import org.apache.fineract.portfolio.loanaccount.service.LoanDetailReadPlatformServiceImpl;
 import org.apache.fineract.portfolio.loanaccount.service.LoanDownPaymentHandlerService;
 import org.apache.fineract.portfolio.loanaccount.service.LoanDownPaymentHandlerServiceImpl;
 import org.apache.fineract.portfolio.loanaccount.service.LoanReadPlatformService;
@@ -135,6 +141,7 @@ import org.apache.fineract.portfolio.loanproduct.serialization.LoanProductDataVa
 import org.apache.fineract.portfolio.loanproduct.service.LoanDropdownReadPlatformService;
 import org.apache.fineract.portfolio.loanproduct.service.LoanProductReadPlatformService;
 import org.apache.fineract.portfolio.note.domain.NoteRepository;
+import org.apache.fineract.portfolio.note.service.NoteReadPlatformService;
 import org.apache.fineract.portfolio.paymentdetail.service.PaymentDetailWritePlatformService;
 import org.apache.fineract.portfolio.paymenttype.service.PaymentTypeReadPlatformService;
 import org.apache.fineract.portfolio.rate.service.RateAssembler;
@@ -178,8 +185,8 @@ public class LoanAccountConfiguration {
     @Bean
     @ConditionalOnMissingBean(LoanAccrualPlatformService.class)
     public LoanAccrualPlatformService loanAccrualPlatformService(LoanReadPlatformService loanReadPlatformService,
-            LoanAccrualWritePlatformService loanAccrualWritePlatformService) {
-        return new LoanAccrualPlatformServiceImpl(loanReadPlatformService, loanAccrualWritePlatformService);
+            LoanAccrualWritePlatformService loanAccrualWritePlatformService, PropertyService propertyService) {
+        return new LoanAccrualPlatformServiceImpl(loanReadPlatformService, loanAccrualWritePlatformService, propertyService);
     }
 
     @Bean
@@ -247,8 +254,9 @@ public class LoanAccountConfiguration {
     @Bean
     @ConditionalOnMissingBean(LoanArrearsAgingService.class)
     public LoanArrearsAgingService loanArrearsAgingService(JdbcTemplate jdbcTemplate,
-            BusinessEventNotifierService businessEventNotifierService, DatabaseSpecificSQLGenerator sqlGenerator) {
-        return new LoanArrearsAgingServiceImpl(jdbcTemplate, businessEventNotifierService, sqlGenerator);
+            BusinessEventNotifierService businessEventNotifierService, DatabaseSpecificSQLGenerator sqlGenerator,
+            EntityManager entityManager) {
+        return new LoanArrearsAgingServiceImpl(jdbcTemplate, businessEventNotifierService, sqlGenerator, entityManager);
     }
 
     @Bean
@@ -286,17 +294,17 @@ public class LoanAccountConfiguration {
     @Bean
     @ConditionalOnMissingBean(LoanChargePaidByReadPlatformService.class)
     public LoanChargePaidByReadPlatformService loanChargePaidByReadPlatformService(JdbcTemplate jdbcTemplate,
-            PlatformSecurityContext context) {
-        return new LoanChargePaidByReadPlatformServiceImpl(jdbcTemplate, context);
+            PlatformSecurityContext context, NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        return new LoanChargePaidByReadPlatformServiceImpl(jdbcTemplate, context, namedParameterJdbcTemplate);
     }
 
     @Bean
     @ConditionalOnMissingBean(LoanChargeReadPlatformService.class)
     public LoanChargeReadPlatformService loanChargeReadPlatformService(JdbcTemplate jdbcTemplate,
             ChargeDropdownReadPlatformService chargeDropdownReadPlatformService, DropdownReadPlatformService dropdownReadPlatformService,
-            LoanChargeRepository loanChargeRepository) {
+            LoanChargeRepository loanChargeRepository, NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
         return new LoanChargeReadPlatformServiceImpl(jdbcTemplate, chargeDropdownReadPlatformService, dropdownReadPlatformService,
-                loanChargeRepository);
+                loanChargeRepository, namedParameterJdbcTemplate);
     }
 
     @Bean
@@ -326,6 +334,19 @@ public class LoanAccountConfiguration {
                 paymentDetailWritePlatformService, noteRepository, loanAccrualTransactionBusinessEventService);
     }
 
+    @Bean
+    @ConditionalOnMissingBean(LoanDetailReadPlatformService.class)
+    public LoanDetailReadPlatformService loanDetailReadPlatformService(LoanReadPlatformService loanReadPlatformService,
+            LoanChargeReadPlatformService loanChargeReadPlatformService, NoteReadPlatformService noteReadPlatformService,
+            GuarantorReadPlatformService guarantorReadPlatformService,
+            LoanCollateralManagementReadPlatformService loanCollateralManagementReadPlatformService,
+            AccountAssociationsReadPlatformService accountAssociationsReadPlatformService,
+            DelinquencyReadPlatformService delinquencyReadPlatformService) {
+        return new LoanDetailReadPlatformServiceImpl(loanReadPlatformService, loanChargeReadPlatformService, noteReadPlatformService,
+                guarantorReadPlatformService, loanCollateralManagementReadPlatformService, accountAssociationsReadPlatformService,
+                delinquencyReadPlatformService);
+    }
+
     @Bean
     @ConditionalOnMissingBean(LoanReadPlatformService.class)
     public LoanReadPlatformServiceImpl loanReadPlatformService(JdbcTemplate jdbcTemplate, PlatformSecurityContext context,
@@ -19,6 +19,8 @@
 package org.apache.fineract.portfolio.note.service;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import org.apache.fineract.portfolio.note.data.NoteData;
 
 public interface NoteReadPlatformService {
@@ -26,4 +28,11 @@ public interface NoteReadPlatformService {
     NoteData retrieveNote(Long noteId, Long resourceId, Integer noteTypeId);
 
     Collection<NoteData> retrieveNotesByResource(Long resourceId, Integer noteTypeId);
+
+    /**
+     * Loads the loan and loan transaction notes of the given loans with one query.
+     *
+     * @return the notes grouped by loan id, newest first; loans without notes have no entry
+     */
+    Map<Long, List<NoteData>> retrieveLoanNotesByLoanIds(Collection<Long> loanIds);
 }
@@ -24,7 +24,10 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.fineract.infrastructure.core.data.EnumOptionData;
 import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
@@ -34,13 +37,17 @@ import org.apache.fineract.portfolio.note.exception.NoteNotFoundException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
 public class NoteReadPlatformServiceImpl implements NoteReadPlatformService {
 
     private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
-    public NoteReadPlatformServiceImpl(final JdbcTemplate jdbcTemplate) {
+    public NoteReadPlatformServiceImpl(final JdbcTemplate jdbcTemplate, final NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
     }
 
     private static final class NoteMapper implements RowMapper<NoteData> {
@@ -114,6 +121,19 @@ public class NoteReadPlatformServiceImpl implements NoteReadPlatformService {
         return this.jdbcTemplate.query(sql, rm, paramList.toArray()); // NOSONAR
     }
 
+    @Override
+    public Map<Long, List<NoteData>> retrieveLoanNotesByLoanIds(final Collection<Long> loanIds) {
+        if (loanIds.isEmpty()) {
+            return Map.of();
+        }
+        final NoteMapper rm = new NoteMapper();
+        final String sql = rm.schema() + " where n.loan_id in (:loanIds) and n.note_type_enum in (:noteTypes) order by n.created_date DESC";
+        final MapSqlParameterSource params = new MapSqlParameterSource("loanIds", loanIds).addValue("noteTypes",
+                List.of(NoteType.LOAN.getValue(), NoteType.LOAN_TRANSACTION.getValue()));
+        return this.namedParameterJdbcTemplate.query(sql, params, rm).stream()
+                .collect(Collectors.groupingBy(NoteData::getLoanId, LinkedHashMap::new, Collectors.toList()));
+    }
+
     public static String getResourceCondition(final NoteType noteType, List<Object> paramList) {
         String conditionSql = "";
         switch (noteType) {
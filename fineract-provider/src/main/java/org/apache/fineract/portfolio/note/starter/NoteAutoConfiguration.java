@@ -33,14 +33,16 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
 @Configuration
 public class NoteAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public NoteReadPlatformService noteReadPlatformService(JdbcTemplate jdbcTemplate) {
-        return new NoteReadPlatformServiceImpl(jdbcTemplate);
+    public NoteReadPlatformService noteReadPlatformService(JdbcTemplate jdbcTemplate,
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        return new NoteReadPlatformServiceImpl(jdbcTemplate, namedParameterJdbcTemplate);
     }
 
     @Bean
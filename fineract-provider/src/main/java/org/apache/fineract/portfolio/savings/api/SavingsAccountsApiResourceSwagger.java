@@ -214,6 +214,8 @@ final class SavingsAccountsApiResourceSwagger {
         @Schema(example = "1")
         public Integer totalFilteredRecords;
         public Set<GetSavingsPageItems> pageItems;
+        @Schema(example = "MTIz")
+        public String nextCursor;
     }
 
     @Schema(description = "PostSavingsAccountsRequest")
@@ -66,16 +66,14 @@ import static org.apache.fineract.portfolio.savings.SavingsApiConstants.withHold
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.reflect.TypeToken;
-import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.MonthDay;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.infrastructure.core.api.JsonCommand;
 import org.apache.fineract.infrastructure.core.data.ApiParameterError;
 import org.apache.fineract.infrastructure.core.data.DataValidatorBuilder;
 import org.apache.fineract.infrastructure.core.exception.InvalidJsonException;
@@ -106,19 +104,18 @@ public class DepositAccountDataValidator {
         this.productDataValidator = productDataValidator;
     }
 
-    public void validateFixedDepositForSubmit(final String json) {
-        if (StringUtils.isBlank(json)) {
+    public void validateFixedDepositForSubmit(final JsonCommand command) {
+        if (StringUtils.isBlank(command.json())) {
             throw new InvalidJsonException();
         }
 
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {}.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json,
+        this.fromApiJsonHelper.checkForUnsupportedParameters(command,
                 DepositsApiConstants.FIXED_DEPOSIT_ACCOUNT_REQUEST_DATA_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors)
                 .resource(DepositsApiConstants.FIXED_DEPOSIT_ACCOUNT_RESOURCE_NAME);
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
+        final JsonElement element = this.fromApiJsonHelper.parsedJson(command);
 
         validateDepositDetailsForSubmit(element, baseDataValidator);
         validatePreClosureDetailForSubmit(element, baseDataValidator);
@@ -129,19 +126,18 @@ public class DepositAccountDataValidator {
         throwExceptionIfValidationWarningsExist(dataValidationErrors);
     }
 
-    public void validateFixedDepositForUpdate(final String json) {
-        if (StringUtils.isBlank(json)) {
+    public void validateFixedDepositForUpdate(final JsonCommand command) {
+        if (StringUtils.isBlank(command.json())) {
             throw new InvalidJsonException();
         }
 
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {}.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json,
+        this.fromApiJsonHelper.checkForUnsupportedParameters(command,
                 DepositsApiConstants.FIXED_DEPOSIT_ACCOUNT_REQUEST_DATA_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors)
                 .resource(DepositsApiConstants.FIXED_DEPOSIT_ACCOUNT_RESOURCE_NAME);
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
+        final JsonElement element = this.fromApiJsonHelper.parsedJson(command);
 
         validateDepositDetailsForUpdate(element, baseDataValidator);
         validatePreClosureDetailForUpdate(element, baseDataValidator);
@@ -152,19 +148,18 @@ public class DepositAccountDataValidator {
         throwExceptionIfValidationWarningsExist(dataValidationErrors);
     }
 
-    public void validateRecurringDepositForSubmit(final String json) {
-        if (StringUtils.isBlank(json)) {
+    public void validateRecurringDepositForSubmit(final JsonCommand command) {
+        if (StringUtils.isBlank(command.json())) {
             throw new InvalidJsonException();
         }
 
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {}.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json,
+        this.fromApiJsonHelper.checkForUnsupportedParameters(command,
                 DepositsApiConstants.RECURRING_DEPOSIT_ACCOUNT_REQUEST_DATA_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors)
                 .resource(DepositsApiConstants.RECURRING_DEPOSIT_ACCOUNT_RESOURCE_NAME);
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
+        final JsonElement element = this.fromApiJsonHelper.parsedJson(command);
 
         validateDepositDetailsForSubmit(element, baseDataValidator);
         validatePreClosureDetailForSubmit(element, baseDataValidator);
@@ -176,19 +171,18 @@ public class DepositAccountDataValidator {
         throwExceptionIfValidationWarningsExist(dataValidationErrors);
     }
 
-    public void validateRecurringDepositForUpdate(final String json) {
-        if (StringUtils.isBlank(json)) {
+    public void validateRecurringDepositForUpdate(final JsonCommand command) {
+        if (StringUtils.isBlank(command.json())) {
             throw new InvalidJsonException();
         }
 
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {}.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json,
+        this.fromApiJsonHelper.checkForUnsupportedParameters(command,
                 DepositsApiConstants.RECURRING_DEPOSIT_ACCOUNT_REQUEST_DATA_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors)
                 .resource(DepositsApiConstants.RECURRING_DEPOSIT_ACCOUNT_RESOURCE_NAME);
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
+        final JsonElement element = this.fromApiJsonHelper.parsedJson(command);
 
         validateDepositDetailsForUpdate(element, baseDataValidator);
         validatePreClosureDetailForUpdate(element, baseDataValidator);
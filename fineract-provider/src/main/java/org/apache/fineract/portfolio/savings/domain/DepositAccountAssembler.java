@@ -451,7 +451,7 @@ public class DepositAccountAssembler {
         if (StringUtils.isBlank(json)) {
             throw new InvalidJsonException();
         }
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
+        final JsonElement element = this.fromApiJsonHelper.parsedJson(command);
         final Collection<SavingsAccountTransactionDTO> savingsAccountTransactions = new ArrayList<>();
         final LocalDate transactionDate = this.fromApiJsonHelper.extractLocalDateNamed(transactionDateParamName, element);
         final String dateFormat = this.fromApiJsonHelper.extractDateFormatParameter(element.getAsJsonObject());
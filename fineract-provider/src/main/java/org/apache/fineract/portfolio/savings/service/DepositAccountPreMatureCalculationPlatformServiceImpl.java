@@ -62,7 +62,7 @@ public class DepositAccountPreMatureCalculationPlatformServiceImpl implements De
                 .isSavingsInterestPostingAtCurrentPeriodEnd();
         final Integer financialYearBeginningMonth = this.configurationDomainService.retrieveFinancialYearBeginningMonth();
 
-        this.depositAccountTransactionDataValidator.validatePreMatureAmountCalculation(query.json(), depositAccountType);
+        this.depositAccountTransactionDataValidator.validatePreMatureAmountCalculation(query.parsedJson(), depositAccountType);
         final SavingsAccount account = this.depositAccountAssembler.assembleFrom(accountId, depositAccountType);
 
         DepositAccountData accountData = null;
@@ -72,7 +72,7 @@ public class DepositAccountPreMatureCalculationPlatformServiceImpl implements De
         final Collection<PaymentTypeData> paymentTypeOptions = this.paymentTypeReadPlatformService.retrieveAllPaymentTypes();
         final Collection<SavingsAccountData> savingsAccountDatas = this.savingsAccountReadPlatformService
                 .retrieveActiveForLookup(account.clientId(), DepositAccountType.SAVINGS_DEPOSIT);
-        final JsonElement element = this.fromJsonHelper.parse(query.json());
+        final JsonElement element = query.parsedJson();
         final LocalDate preMaturityDate = this.fromJsonHelper.extractLocalDateNamed(closedOnDateParamName, element);
         // calculate interest before one day of closure date
         final LocalDate interestCalculatedToDate = preMaturityDate.minusDays(1);
@@ -1003,7 +1003,7 @@ public class DepositAccountWritePlatformServiceJpaRepositoryImpl implements Depo
                 .resource(SAVINGS_ACCOUNT_RESOURCE_NAME);
 
         final Long savingsAccountId = command.getSavingsId();
-        this.savingsAccountChargeDataValidator.validateAdd(command.json());
+        this.savingsAccountChargeDataValidator.validateAdd(command);
 
         final SavingsAccount savingsAccount = this.depositAccountAssembler.assembleFrom(savingsAccountId, depositAccountType);
         checkClientOrGroupActive(savingsAccount);
@@ -1057,7 +1057,7 @@ public class DepositAccountWritePlatformServiceJpaRepositoryImpl implements Depo
     public CommandProcessingResult updateSavingsAccountCharge(final JsonCommand command, final DepositAccountType depositAccountType) {
 
         this.context.authenticatedUser();
-        this.savingsAccountChargeDataValidator.validateUpdate(command.json());
+        this.savingsAccountChargeDataValidator.validateUpdate(command);
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors)
                 .resource(SAVINGS_ACCOUNT_RESOURCE_NAME);
@@ -1196,7 +1196,7 @@ public class DepositAccountWritePlatformServiceJpaRepositoryImpl implements Depo
 
         this.context.authenticatedUser();
 
-        this.savingsAccountChargeDataValidator.validatePayCharge(command.json());
+        this.savingsAccountChargeDataValidator.validatePayCharge(command);
         final Locale locale = command.extractLocale();
         final DateTimeFormatter fmt = DateTimeFormatter.ofPattern(command.dateFormat()).withLocale(locale);
         final BigDecimal amountPaid = command.bigDecimalValueOfParameterNamed(amountParamName);
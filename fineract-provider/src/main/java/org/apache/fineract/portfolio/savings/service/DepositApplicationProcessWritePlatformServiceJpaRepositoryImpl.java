@@ -155,7 +155,7 @@ public class DepositApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
     @Override
     public CommandProcessingResult submitFDApplication(final JsonCommand command) {
         try {
-            this.depositAccountDataValidator.validateFixedDepositForSubmit(command.json());
+            this.depositAccountDataValidator.validateFixedDepositForSubmit(command);
             final AppUser submittedBy = this.context.authenticatedUser();
 
             final boolean isSavingsInterestPostingAtCurrentPeriodEnd = this.configurationDomainService
@@ -216,7 +216,7 @@ public class DepositApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
     @Override
     public CommandProcessingResult submitRDApplication(final JsonCommand command) {
         try {
-            this.depositAccountDataValidator.validateRecurringDepositForSubmit(command.json());
+            this.depositAccountDataValidator.validateRecurringDepositForSubmit(command);
             final AppUser submittedBy = this.context.authenticatedUser();
 
             final boolean isSavingsInterestPostingAtCurrentPeriodEnd = this.configurationDomainService
@@ -334,7 +334,7 @@ public class DepositApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
     @Override
     public CommandProcessingResult modifyFDApplication(final Long accountId, final JsonCommand command) {
         try {
-            this.depositAccountDataValidator.validateFixedDepositForUpdate(command.json());
+            this.depositAccountDataValidator.validateFixedDepositForUpdate(command);
 
             final boolean isSavingsInterestPostingAtCurrentPeriodEnd = this.configurationDomainService
                     .isSavingsInterestPostingAtCurrentPeriodEnd();
@@ -424,7 +424,7 @@ public class DepositApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
     @Override
     public CommandProcessingResult modifyRDApplication(final Long accountId, final JsonCommand command) {
         try {
-            this.depositAccountDataValidator.validateRecurringDepositForUpdate(command.json());
+            this.depositAccountDataValidator.validateRecurringDepositForUpdate(command);
 
             final boolean isSavingsInterestPostingAtCurrentPeriodEnd = this.configurationDomainService
                     .isSavingsInterestPostingAtCurrentPeriodEnd();
@@ -595,7 +595,7 @@ public class DepositApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
 
         final AppUser currentUser = this.context.authenticatedUser();
 
-        this.savingsAccountApplicationTransitionApiJsonValidator.validateApproval(command.json());
+        this.savingsAccountApplicationTransitionApiJsonValidator.validateApproval(command);
 
         final SavingsAccount savingsAccount = this.depositAccountAssembler.assembleFrom(savingsId, depositAccountType);
         checkClientOrGroupActive(savingsAccount);
@@ -630,7 +630,7 @@ public class DepositApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
 
         this.context.authenticatedUser();
 
-        this.savingsAccountApplicationTransitionApiJsonValidator.validateForUndo(command.json());
+        this.savingsAccountApplicationTransitionApiJsonValidator.validateForUndo(command);
 
         final SavingsAccount savingsAccount = this.depositAccountAssembler.assembleFrom(savingsId, depositAccountType);
         checkClientOrGroupActive(savingsAccount);
@@ -665,7 +665,7 @@ public class DepositApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
 
         final AppUser currentUser = this.context.authenticatedUser();
 
-        this.savingsAccountApplicationTransitionApiJsonValidator.validateRejection(command.json());
+        this.savingsAccountApplicationTransitionApiJsonValidator.validateRejection(command);
 
         final SavingsAccount savingsAccount = this.depositAccountAssembler.assembleFrom(savingsId, depositAccountType);
         checkClientOrGroupActive(savingsAccount);
@@ -699,7 +699,7 @@ public class DepositApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
             final DepositAccountType depositAccountType) {
         final AppUser currentUser = this.context.authenticatedUser();
 
-        this.savingsAccountApplicationTransitionApiJsonValidator.validateApplicantWithdrawal(command.json());
+        this.savingsAccountApplicationTransitionApiJsonValidator.validateApplicantWithdrawal(command);
 
         final SavingsAccount savingsAccount = this.depositAccountAssembler.assembleFrom(savingsId, depositAccountType);
         checkClientOrGroupActive(savingsAccount);
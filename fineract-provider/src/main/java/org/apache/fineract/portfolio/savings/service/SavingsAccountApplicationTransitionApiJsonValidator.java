@@ -19,17 +19,15 @@
 package org.apache.fineract.portfolio.savings.service;
 
 import com.google.gson.JsonElement;
-import com.google.gson.reflect.TypeToken;
-import java.lang.reflect.Type;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.infrastructure.core.api.JsonCommand;
 import org.apache.fineract.infrastructure.core.data.ApiParameterError;
 import org.apache.fineract.infrastructure.core.data.DataValidatorBuilder;
 import org.apache.fineract.infrastructure.core.exception.InvalidJsonException;
@@ -39,6 +37,12 @@ import org.apache.fineract.infrastructure.core.serialization.FromJsonHelper;
 @RequiredArgsConstructor
 public final class SavingsAccountApplicationTransitionApiJsonValidator {
 
+    private static final Set<String> APPROVAL_PARAMETERS = new HashSet<>(Arrays.asList("approvedOnDate", "note", "locale", "dateFormat"));
+    private static final Set<String> REJECTION_PARAMETERS = new HashSet<>(Arrays.asList("rejectedOnDate", "note", "locale", "dateFormat"));
+    private static final Set<String> WITHDRAWAL_PARAMETERS = new HashSet<>(
+            Arrays.asList("withdrawnOnDate", "note", "locale", "dateFormat"));
+    private static final Set<String> UNDO_PARAMETERS = new HashSet<>(Arrays.asList("note"));
+
     private final FromJsonHelper fromApiJsonHelper;
 
     private void throwExceptionIfValidationWarningsExist(final List<ApiParameterError> dataValidationErrors) {
@@ -47,21 +51,18 @@ public final class SavingsAccountApplicationTransitionApiJsonValidator {
         }
     }
 
-    public void validateApproval(final String json) {
+    public void validateApproval(final JsonCommand command) {
 
-        if (StringUtils.isBlank(json)) {
+        if (StringUtils.isBlank(command.json())) {
             throw new InvalidJsonException();
         }
 
-        final Set<String> disbursementParameters = new HashSet<>(Arrays.asList("approvedOnDate", "note", "locale", "dateFormat"));
-
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {}.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, disbursementParameters);
+        this.fromApiJsonHelper.checkForUnsupportedParameters(command, APPROVAL_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors).resource("savingsaccountapplication");
 
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
+        final JsonElement element = this.fromApiJsonHelper.parsedJson(command);
         final LocalDate approvedOnDate = this.fromApiJsonHelper.extractLocalDateNamed("approvedOnDate", element);
         baseDataValidator.reset().parameter("approvedOnDate").value(approvedOnDate).notNull();
 
@@ -71,21 +72,18 @@ public final class SavingsAccountApplicationTransitionApiJsonValidator {
         throwExceptionIfValidationWarningsExist(dataValidationErrors);
     }
 
-    public void validateRejection(final String json) {
+    public void validateRejection(final JsonCommand command) {
 
-        if (StringUtils.isBlank(json)) {
+        if (StringUtils.isBlank(command.json())) {
             throw new InvalidJsonException();
         }
 
-        final Set<String> disbursementParameters = new HashSet<>(Arrays.asList("rejectedOnDate", "note", "locale", "dateFormat"));
-
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {}.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, disbursementParameters);
+        this.fromApiJsonHelper.checkForUnsupportedParameters(command, REJECTION_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors).resource("savingsaccountapplication");
 
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
+        final JsonElement element = this.fromApiJsonHelper.parsedJson(command);
         final LocalDate rejectedOnDate = this.fromApiJsonHelper.extractLocalDateNamed("rejectedOnDate", element);
         baseDataValidator.reset().parameter("rejectedOnDate").value(rejectedOnDate).notNull();
 
@@ -95,21 +93,18 @@ public final class SavingsAccountApplicationTransitionApiJsonValidator {
         throwExceptionIfValidationWarningsExist(dataValidationErrors);
     }
 
-    public void validateApplicantWithdrawal(final String json) {
+    public void validateApplicantWithdrawal(final JsonCommand command) {
 
-        if (StringUtils.isBlank(json)) {
+        if (StringUtils.isBlank(command.json())) {
             throw new InvalidJsonException();
         }
 
-        final Set<String> disbursementParameters = new HashSet<>(Arrays.asList("withdrawnOnDate", "note", "locale", "dateFormat"));
-
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {}.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, disbursementParameters);
+        this.fromApiJsonHelper.checkForUnsupportedParameters(command, WITHDRAWAL_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors).resource("savingsaccountapplication");
 
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
+        final JsonElement element = this.fromApiJsonHelper.parsedJson(command);
         final LocalDate withdrawnOnDate = this.fromApiJsonHelper.extractLocalDateNamed("withdrawnOnDate", element);
         baseDataValidator.reset().parameter("withdrawnOnDate").value(withdrawnOnDate).notNull();
 
@@ -119,19 +114,17 @@ public final class SavingsAccountApplicationTransitionApiJsonValidator {
         throwExceptionIfValidationWarningsExist(dataValidationErrors);
     }
 
-    public void validateForUndo(final String json) {
-        if (StringUtils.isBlank(json)) {
+    public void validateForUndo(final JsonCommand command) {
+        if (StringUtils.isBlank(command.json())) {
             throw new InvalidJsonException();
         }
 
-        final Set<String> undoSupportedParameters = new HashSet<>(Arrays.asList("note"));
-        final Type typeOfMap = new TypeToken<Map<String, Object>>() {}.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, undoSupportedParameters);
+        this.fromApiJsonHelper.checkForUnsupportedParameters(command, UNDO_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors)
                 .resource("savingsaccountapplication.undo");
-        final JsonElement element = this.fromApiJsonHelper.parse(json);
+        final JsonElement element = this.fromApiJsonHelper.parsedJson(command);
 
         final String note = "note";
         if (this.fromApiJsonHelper.parameterExists(note, element)) {
@@ -1091,7 +1091,7 @@ public class SavingsAccountWritePlatformServiceJpaRepositoryImpl implements Savi
                 .resource(SAVINGS_ACCOUNT_RESOURCE_NAME);
 
         final Long savingsAccountId = command.getSavingsId();
-        this.savingsAccountChargeDataValidator.validateAdd(command.json());
+        this.savingsAccountChargeDataValidator.validateAdd(command);
 
         final SavingsAccount savingsAccount = this.savingAccountAssembler.assembleFrom(savingsAccountId, false);
         checkClientOrGroupActive(savingsAccount);
@@ -1153,7 +1153,7 @@ public class SavingsAccountWritePlatformServiceJpaRepositoryImpl implements Savi
     public CommandProcessingResult updateSavingsAccountCharge(final JsonCommand command) {
 
         this.context.authenticatedUser();
-        this.savingsAccountChargeDataValidator.validateUpdate(command.json());
+        this.savingsAccountChargeDataValidator.validateUpdate(command);
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors)
                 .resource(SAVINGS_ACCOUNT_RESOURCE_NAME);
@@ -1302,7 +1302,7 @@ public class SavingsAccountWritePlatformServiceJpaRepositoryImpl implements Savi
     public CommandProcessingResult payCharge(final Long savingsAccountId, final Long savingsAccountChargeId, final JsonCommand command) {
         context.authenticatedUser();
 
-        this.savingsAccountChargeDataValidator.validatePayCharge(command.json());
+        this.savingsAccountChargeDataValidator.validatePayCharge(command);
         final Locale locale = command.extractLocale();
         final DateTimeFormatter fmt = DateTimeFormatter.ofPattern(command.dateFormat()).withLocale(locale);
         final BigDecimal amountPaid = command.bigDecimalValueOfParameterNamed(amountParamName);
@@ -1537,7 +1537,7 @@ public class SavingsAccountWritePlatformServiceJpaRepositoryImpl implements Savi
 
         Staff fromSavingsOfficer = null;
         Staff toSavingsOfficer = null;
-        this.fromApiJsonDeserializer.validateForAssignSavingsOfficer(command.json());
+        this.fromApiJsonDeserializer.validateForAssignSavingsOfficer(command);
 
         final SavingsAccount savingsForUpdate = this.savingAccountRepositoryWrapper.findOneWithNotFoundDetection(savingsAccountId);
         final Long fromSavingsOfficerId = command.longValueOfParameterNamed("fromSavingsOfficerId");
@@ -1577,7 +1577,7 @@ public class SavingsAccountWritePlatformServiceJpaRepositoryImpl implements Savi
         this.context.authenticatedUser();
 
         final Map<String, Object> actualChanges = new LinkedHashMap<>(5);
-        this.fromApiJsonDeserializer.validateForUnAssignSavingsOfficer(command.json());
+        this.fromApiJsonDeserializer.validateForUnAssignSavingsOfficer(command);
 
         final SavingsAccount savingsForUpdate = this.savingAccountRepositoryWrapper.findOneWithNotFoundDetection(savingsAccountId);
         if (savingsForUpdate.getSavingsOfficer() == null) {
@@ -1747,7 +1747,7 @@ public class SavingsAccountWritePlatformServiceJpaRepositoryImpl implements Savi
             runningBalance = runningBalance.minus(amount);
         }
 
-        this.savingsAccountTransactionDataValidator.validateHoldAndAssembleForm(command.json(), account, submittedBy,
+        this.savingsAccountTransactionDataValidator.validateHoldAndAssembleForm(command, account, submittedBy,
                 backdatedTxnsAllowedTill);
         SavingsAccountTransaction transaction = this.savingsAccountDomainService.handleHold(account, amount, transactionDate, lienAllowed);
         account.holdAmount(amount);
@@ -53,6 +53,7 @@ import org.apache.fineract.infrastructure.dataqueries.service.EntityDatatableChe
 import org.apache.fineract.infrastructure.event.business.domain.savings.SavingsApproveBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.savings.SavingsCreateBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.savings.SavingsRejectBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.savings.SavingsUpdateBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.organisation.monetary.domain.Money;
@@ -140,7 +141,7 @@ public class SavingsApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
     @Override
     public CommandProcessingResult submitApplication(final JsonCommand command) {
         try {
-            this.savingsAccountDataValidator.validateForSubmit(command.json());
+            this.savingsAccountDataValidator.validateForSubmit(command);
             final AppUser submittedBy = this.context.authenticatedUser();
 
             final SavingsAccount account = this.savingAccountAssembler.assembleFrom(command, submittedBy);
@@ -284,7 +285,7 @@ public class SavingsApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
     @Override
     public CommandProcessingResult modifyApplication(final Long savingsId, final JsonCommand command) {
         try {
-            this.savingsAccountDataValidator.validateForUpdate(command.json());
+            this.savingsAccountDataValidator.validateForUpdate(command);
 
             final Map<String, Object> changes = new LinkedHashMap<>(20);
 
@@ -355,6 +356,7 @@ public class SavingsApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
                 }
 
                 this.savingAccountRepository.saveAndFlush(account);
+                businessEventNotifierService.notifyPostBusinessEvent(new SavingsUpdateBusinessEvent(account));
             }
 
             return new CommandProcessingResultBuilder() //
@@ -400,6 +402,7 @@ public class SavingsApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
         this.noteRepository.deleteAllInBatch(relatedNotes);
 
         this.savingAccountRepository.delete(account);
+        businessEventNotifierService.notifyPostBusinessEvent(new SavingsUpdateBusinessEvent(account));
 
         return new CommandProcessingResultBuilder() //
                 .withEntityId(savingsId) //
@@ -442,7 +445,7 @@ public class SavingsApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
 
         final AppUser currentUser = this.context.authenticatedUser();
 
-        this.savingsAccountApplicationTransitionApiJsonValidator.validateApproval(command.json());
+        this.savingsAccountApplicationTransitionApiJsonValidator.validateApproval(command);
 
         final SavingsAccount savingsAccount = this.savingAccountAssembler.assembleFrom(savingsId, false);
         checkClientOrGroupActive(savingsAccount);
@@ -507,7 +510,7 @@ public class SavingsApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
 
         this.context.authenticatedUser();
 
-        this.savingsAccountApplicationTransitionApiJsonValidator.validateForUndo(command.json());
+        this.savingsAccountApplicationTransitionApiJsonValidator.validateForUndo(command);
 
         final SavingsAccount savingsAccount = this.savingAccountAssembler.assembleFrom(savingsId, false);
         checkClientOrGroupActive(savingsAccount);
@@ -565,7 +568,7 @@ public class SavingsApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
 
         final AppUser currentUser = this.context.authenticatedUser();
 
-        this.savingsAccountApplicationTransitionApiJsonValidator.validateRejection(command.json());
+        this.savingsAccountApplicationTransitionApiJsonValidator.validateRejection(command);
 
         final SavingsAccount savingsAccount = this.savingAccountAssembler.assembleFrom(savingsId, false);
         checkClientOrGroupActive(savingsAccount);
@@ -602,7 +605,7 @@ public class SavingsApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
     public CommandProcessingResult applicantWithdrawsFromApplication(final Long savingsId, final JsonCommand command) {
         final AppUser currentUser = this.context.authenticatedUser();
 
-        this.savingsAccountApplicationTransitionApiJsonValidator.validateApplicantWithdrawal(command.json());
+        this.savingsAccountApplicationTransitionApiJsonValidator.validateApplicantWithdrawal(command);
 
         final SavingsAccount savingsAccount = this.savingAccountAssembler.assembleFrom(savingsId, false);
         checkClientOrGroupActive(savingsAccount);
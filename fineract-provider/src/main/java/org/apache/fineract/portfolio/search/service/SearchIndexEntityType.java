@@ -0,0 +1,147 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import org.apache.fineract.portfolio.search.data.SearchConditions;
+import org.apache.fineract.portfolio.search.data.SearchData;
+
+/**
+ * Entities kept in the search index, together with the query reading their indexed columns from the source tables and
+ * the values the global search matches against.
+ */
+public enum SearchIndexEntityType {
+
+    CLIENT(List.of("CLIENT"), "m_client", "c.id", """
+            select 'CLIENT' as entityType, c.id as entityId, c.display_name as entityName, c.external_id as entityExternalId,
+            c.account_no as entityAccountNo, c.office_id as parentId, o.name as parentName, c.mobile_no as entityMobileNo,
+            c.status_enum as entityStatusEnum, null as subEntityType, null as parentType, o.hierarchy as officeHierarchy
+            from m_client c join m_office o on o.id = c.office_id
+            """, data -> Arrays.asList(data.getEntityAccountNo(), data.getEntityName(), data.getEntityExternalId(),
+            data.getEntityMobileNo())), //
+    LOAN(List.of("LOAN"), "m_loan", "l.id", """
+            select 'LOAN' as entityType, l.id as entityId, pl.name as entityName, l.external_id as entityExternalId,
+            l.account_no as entityAccountNo, coalesce(c.id, g.id) as parentId, coalesce(c.display_name, g.display_name) as parentName,
+            null as entityMobileNo, l.loan_status_id as entityStatusEnum, null as subEntityType,
+            CASE WHEN g.id is null THEN 'client' ELSE 'group' END as parentType, o.hierarchy as officeHierarchy
+            from m_loan l left join m_client c on l.client_id = c.id left join m_group g on l.group_id = g.id
+            left join m_office o on o.id = c.office_id left join m_product_loan pl on pl.id = l.product_id
+            """, data -> Arrays.asList(data.getEntityAccountNo(), data.getEntityExternalId())), //
+    SAVING(List.of("SAVING"), "m_savings_account", "s.id", """
+            select 'SAVING' as entityType, s.id as entityId, sp.name as entityName, s.external_id as entityExternalId,
+            s.account_no as entityAccountNo, coalesce(c.id, g.id) as parentId, coalesce(c.display_name, g.display_name) as parentName,
+            null as entityMobileNo, s.status_enum as entityStatusEnum, s.deposit_type_enum as subEntityType,
+            CASE WHEN g.id is null THEN 'client' ELSE 'group' END as parentType, o.hierarchy as officeHierarchy
+            from m_savings_account s left join m_client c on s.client_id = c.id left join m_group g on s.group_id = g.id
+            left join m_office o on o.id = c.office_id left join m_savings_product sp on sp.id = s.product_id
+            """, data -> Arrays.asList(data.getEntityAccountNo(), data.getEntityExternalId())), //
+    SHARE(List.of("SHARE"), "m_share_account", "s.id", """
+            select 'SHARE' as entityType, s.id as entityId, sp.name as entityName, s.external_id as entityExternalId,
+            s.account_no as entityAccountNo, c.id as parentId, c.display_name as parentName, null as entityMobileNo,
+            s.status_enum as entityStatusEnum, null as subEntityType, 'client' as parentType, o.hierarchy as officeHierarchy
+            from m_share_account s left join m_client c on s.client_id = c.id left join m_office o on o.id = c.office_id
+            left join m_share_product sp on sp.id = s.product_id
+            """, data -> Arrays.asList(data.getEntityAccountNo(), data.getEntityExternalId())), //
+    CLIENTIDENTIFIER(List.of("CLIENTIDENTIFIER"), "m_client_identifier", "ci.id", """
+            select 'CLIENTIDENTIFIER' as entityType, ci.id as entityId, ci.document_key as entityName, null as entityExternalId,
+            null as entityAccountNo, c.id as parentId, c.display_name as parentName, null as entityMobileNo,
+            c.status_enum as entityStatusEnum, null as subEntityType, null as parentType, o.hierarchy as officeHierarchy
+            from m_client_identifier ci join m_client c on ci.client_id = c.id join m_office o on o.id = c.office_id
+            """, data -> Arrays.asList(data.getEntityName())), //
+    GROUP(List.of("GROUP", "CENTER"), "m_group", "g.id", """
+            select CASE WHEN g.level_id = 1 THEN 'CENTER' ELSE 'GROUP' END as entityType, g.id as entityId, g.display_name as entityName,
+            g.external_id as entityExternalId, g.account_no as entityAccountNo, g.office_id as parentId, o.name as parentName,
+            null as entityMobileNo, g.status_enum as entityStatusEnum, null as subEntityType, null as parentType,
+            o.hierarchy as officeHierarchy
+            from m_group g join m_office o on o.id = g.office_id
+            """, data -> Arrays.asList(data.getEntityAccountNo(), data.getEntityName(), data.getEntityExternalId()));
+
+    private final List<String> indexedTypes;
+    private final String sourceTable;
+    private final String idColumn;
+    private final String sourceSql;
+    private final Function<SearchData, List<String>> searchableValues;
+
+    SearchIndexEntityType(final List<String> indexedTypes, final String sourceTable, final String idColumn, final String sourceSql,
+            final Function<SearchData, List<String>> searchableValues) {
+        this.indexedTypes = indexedTypes;
+        this.sourceTable = sourceTable;
+        this.idColumn = idColumn;
+        this.sourceSql = sourceSql;
+        this.searchableValues = searchableValues;
+    }
+
+    /**
+     * Values stored in <code>m_search_index_entry.entity_type</code> for this entity.
+     */
+    public List<String> getIndexedTypes() {
+        return this.indexedTypes;
+    }
+
+    public String getSourceTable() {
+        return this.sourceTable;
+    }
+
+    public String getIdColumn() {
+        return this.idColumn;
+    }
+
+    public String getSourceSql() {
+        return this.sourceSql;
+    }
+
+    public List<String> getSearchableValues(final SearchData searchData) {
+        return this.searchableValues.apply(searchData);
+    }
+
+    public static SearchIndexEntityType fromIndexedType(final String indexedType) {
+        for (final SearchIndexEntityType type : values()) {
+            if (type.indexedTypes.contains(indexedType)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown search index entity type: " + indexedType);
+    }
+
+    public static List<SearchIndexEntityType> fromSearchConditions(final SearchConditions searchConditions) {
+        final List<SearchIndexEntityType> types = new ArrayList<>();
+        if (searchConditions.isClientSearch()) {
+            types.add(CLIENT);
+        }
+        if (searchConditions.isLoanSeach()) {
+            types.add(LOAN);
+        }
+        if (searchConditions.isSavingSeach()) {
+            types.add(SAVING);
+        }
+        if (searchConditions.isShareSeach()) {
+            types.add(SHARE);
+        }
+        if (searchConditions.isClientIdentifierSearch()) {
+            types.add(CLIENTIDENTIFIER);
+        }
+        if (searchConditions.isGroupSearch()) {
+            types.add(GROUP);
+        }
+        return types;
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Turns searchable values into the terms stored in <code>m_search_index_term</code>.
+ *
+ * Every suffix of every word is stored, so a <code>term like 'query%'</code> lookup (which can use an index) finds the same
+ * words as the <code>like '%query%'</code> scan it replaces.
+ */
+public final class SearchIndexTerms {
+
+    public static final int MAX_TERM_LENGTH = 64;
+    public static final int MAX_LOOKUP_WORDS = 8;
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SearchIndexTerms() {}
+
+    public static String normalize(final String value) {
+        return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public static List<String> words(final String value) {
+        final String normalized = normalize(value);
+        if (StringUtils.isEmpty(normalized)) {
+            return List.of();
+        }
+        return Arrays.stream(WORD_SEPARATOR.split(normalized)).filter(StringUtils::isNotEmpty).toList();
+    }
+
+    public static Set<String> terms(final String... values) {
+        final Set<String> terms = new LinkedHashSet<>();
+        for (final String value : values) {
+            for (final String word : words(value)) {
+                for (int i = 0; i < word.length(); i++) {
+                    terms.add(StringUtils.left(word.substring(i), MAX_TERM_LENGTH));
+                }
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * The distinct words of the query to look up in the index, longest (most selective) first. An entity only matches
+     * when every word is found among its terms, the whole query is then checked against the candidates.
+     *
+     * @return the words to look up, empty when the query does not contain any letter or digit
+     */
+    public static List<String> lookupWords(final String query) {
+        return words(query).stream().map(word -> StringUtils.left(word, MAX_TERM_LENGTH)).distinct()
+                .sorted(Comparator.comparingInt(String::length).reversed()).limit(MAX_LOOKUP_WORDS).toList();
+    }
+}
@@ -0,0 +1,321 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import com.google.common.collect.Lists;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.event.business.BusinessEventListener;
+import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.client.ClientActivateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.client.ClientCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.client.ClientRejectBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.client.ClientUpdateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.deposit.FixedDepositAccountCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.deposit.RecurringDepositAccountCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.group.CentersCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.group.GroupsCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.group.GroupsUpdateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.loan.LoanCreatedBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.loan.LoanStatusChangedBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.loan.LoanUpdateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.savings.SavingsActivateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.savings.SavingsApproveBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.savings.SavingsCloseBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.savings.SavingsCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.savings.SavingsRejectBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.savings.SavingsUpdateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.share.ShareAccountApproveBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.share.ShareAccountCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.apache.fineract.portfolio.search.data.SearchData;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Maintains <code>m_search_index_entry</code> and <code>m_search_index_term</code>.
+ *
+ * Business events only record which entities changed, the entries are re-read from the source tables right before the
+ * surrounding transaction commits. The index is written in the same transaction as the change itself, so a rolled back
+ * command leaves the index untouched and a failing index write fails the command instead of leaving a stale entry
+ * behind. Accounts are re-indexed together with the client or group they show as parent. The Rebuild Search Index job
+ * repairs the index for changes made outside of the commands (e.g. direct database updates).
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SearchIndexWritePlatformServiceImpl implements SearchIndexWritePlatformService {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private static final String INSERT_ENTRY_SQL = """
+            INSERT INTO m_search_index_entry (entity_type, entity_id, entity_name, entity_external_id, entity_account_no, entity_mobile_no,
+            entity_status_enum, sub_entity_type, parent_id, parent_name, parent_type, office_hierarchy)
+            VALUES (:entityType, :entityId, :entityName, :entityExternalId, :entityAccountNo, :entityMobileNo, :entityStatusEnum,
+            :subEntityType, :parentId, :parentName, :parentType, :officeHierarchy)
+            """;
+
+    private static final String INSERT_TERM_SQL = """
+            INSERT INTO m_search_index_term (entity_type, entity_id, term) VALUES (:entityType, :entityId, :term)
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+    private final BusinessEventNotifierService businessEventNotifierService;
+    private final PlatformTransactionManager transactionManager;
+    private final FineractProperties fineractProperties;
+    private final EntityManager entityManager;
+
+    @PostConstruct
+    public void registerForNotification() {
+        if (!fineractProperties.getSearch().isIndexEnabled()) {
+            return;
+        }
+        addListener(ClientCreateBusinessEvent.class, SearchIndexEntityType.CLIENT);
+        addListener(ClientActivateBusinessEvent.class, SearchIndexEntityType.CLIENT);
+        addListener(ClientRejectBusinessEvent.class, SearchIndexEntityType.CLIENT);
+        addListener(ClientUpdateBusinessEvent.class, SearchIndexEntityType.CLIENT);
+        addListener(LoanCreatedBusinessEvent.class, SearchIndexEntityType.LOAN);
+        addListener(LoanStatusChangedBusinessEvent.class, SearchIndexEntityType.LOAN);
+        addListener(LoanUpdateBusinessEvent.class, SearchIndexEntityType.LOAN);
+        addListener(SavingsCreateBusinessEvent.class, SearchIndexEntityType.SAVING);
+        addListener(SavingsApproveBusinessEvent.class, SearchIndexEntityType.SAVING);
+        addListener(SavingsActivateBusinessEvent.class, SearchIndexEntityType.SAVING);
+        addListener(SavingsRejectBusinessEvent.class, SearchIndexEntityType.SAVING);
+        addListener(SavingsCloseBusinessEvent.class, SearchIndexEntityType.SAVING);
+        addListener(SavingsUpdateBusinessEvent.class, SearchIndexEntityType.SAVING);
+        addListener(FixedDepositAccountCreateBusinessEvent.class, SearchIndexEntityType.SAVING);
+        addListener(RecurringDepositAccountCreateBusinessEvent.class, SearchIndexEntityType.SAVING);
+        addListener(ShareAccountCreateBusinessEvent.class, SearchIndexEntityType.SHARE);
+        addListener(ShareAccountApproveBusinessEvent.class, SearchIndexEntityType.SHARE);
+        addListener(GroupsCreateBusinessEvent.class, SearchIndexEntityType.GROUP);
+        addListener(CentersCreateBusinessEvent.class, SearchIndexEntityType.GROUP);
+        addListener(GroupsUpdateBusinessEvent.class, SearchIndexEntityType.GROUP);
+    }
+
+    private <T extends BusinessEvent<?>> void addListener(final Class<T> eventType, final SearchIndexEntityType entityType) {
+        businessEventNotifierService.addPostBusinessEventListener(eventType, new ReindexEventListener<>(entityType));
+    }
+
+    @Override
+    public void reindex(final SearchIndexEntityType entityType, final Collection<Long> entityIds) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        for (List<Long> partition : Lists.partition(new ArrayList<>(entityIds), getInClauseParameterSizeLimit())) {
+            final MapSqlParameterSource params = new MapSqlParameterSource("entityIds", partition);
+            final List<IndexedEntity> entities = namedParameterJdbcTemplate
+                    .query(entityType.getSourceSql() + " where " + entityType.getIdColumn() + " in (:entityIds)", params, new IndexedEntityMapper());
+            replaceEntries(entityType, partition, entities);
+            if (entityType == SearchIndexEntityType.CLIENT) {
+                reindex(SearchIndexEntityType.CLIENTIDENTIFIER, retrieveClientIdentifierIds(partition));
+                reindex(SearchIndexEntityType.LOAN, retrieveAccountIds("m_loan", "client_id", partition));
+                reindex(SearchIndexEntityType.SAVING, retrieveAccountIds("m_savings_account", "client_id", partition));
+                reindex(SearchIndexEntityType.SHARE, retrieveAccountIds("m_share_account", "client_id", partition));
+            } else if (entityType == SearchIndexEntityType.GROUP) {
+                reindex(SearchIndexEntityType.LOAN, retrieveAccountIds("m_loan", "group_id", partition));
+                reindex(SearchIndexEntityType.SAVING, retrieveAccountIds("m_savings_account", "group_id", partition));
+            }
+        }
+    }
+
+    @Override
+    public void rebuildIndex() {
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (SearchIndexEntityType entityType : SearchIndexEntityType.values()) {
+            final String pageSql = entityType.getSourceSql() + " where " + entityType.getIdColumn() + " > :lastId order by "
+                    + entityType.getIdColumn() + " " + sqlGenerator.limit(REBUILD_BATCH_SIZE);
+            long lastId = 0L;
+            int indexed = 0;
+            List<IndexedEntity> entities;
+            do {
+                entities = namedParameterJdbcTemplate.query(pageSql, new MapSqlParameterSource("lastId", lastId), new IndexedEntityMapper());
+                final List<IndexedEntity> page = entities;
+                transactionTemplate.executeWithoutResult(
+                        status -> replaceEntries(entityType, page.stream().map(IndexedEntity::entityId).toList(), page));
+                if (!page.isEmpty()) {
+                    lastId = page.get(page.size() - 1).entityId();
+                    indexed += page.size();
+                }
+            } while (entities.size() == REBUILD_BATCH_SIZE);
+            transactionTemplate.executeWithoutResult(status -> deleteOrphanedEntries(entityType));
+            log.info("Search index rebuilt for {} {} entities", indexed, entityType);
+        }
+    }
+
+    private void replaceEntries(final SearchIndexEntityType entityType, final List<Long> entityIds, final List<IndexedEntity> entities) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        final MapSqlParameterSource params = new MapSqlParameterSource("entityTypes", entityType.getIndexedTypes()).addValue("entityIds",
+                entityIds);
+        namedParameterJdbcTemplate.update("delete from m_search_index_term where entity_type in (:entityTypes) and entity_id in (:entityIds)",
+                params);
+        namedParameterJdbcTemplate
+                .update("delete from m_search_index_entry where entity_type in (:entityTypes) and entity_id in (:entityIds)", params);
+        if (entities.isEmpty()) {
+            return;
+        }
+
+        final List<SqlParameterSource> entryParams = new ArrayList<>(entities.size());
+        final List<SqlParameterSource> termParams = new ArrayList<>();
+        for (IndexedEntity entity : entities) {
+            entryParams.add(new MapSqlParameterSource("entityType", entity.entityType()).addValue("entityId", entity.entityId())
+                    .addValue("entityName", entity.entityName()).addValue("entityExternalId", entity.entityExternalId())
+                    .addValue("entityAccountNo", entity.entityAccountNo()).addValue("entityMobileNo", entity.entityMobileNo())
+                    .addValue("entityStatusEnum", entity.entityStatusEnum()).addValue("subEntityType", entity.subEntityType())
+                    .addValue("parentId", entity.parentId()).addValue("parentName", entity.parentName())
+                    .addValue("parentType", entity.parentType()).addValue("officeHierarchy", entity.officeHierarchy()));
+            for (String term : SearchIndexTerms.terms(entityType.getSearchableValues(entity.toSearchData()).toArray(new String[0]))) {
+                termParams.add(new MapSqlParameterSource("entityType", entity.entityType()).addValue("entityId", entity.entityId())
+                        .addValue("term", term));
+            }
+        }
+        namedParameterJdbcTemplate.batchUpdate(INSERT_ENTRY_SQL, entryParams.toArray(new SqlParameterSource[0]));
+        if (!termParams.isEmpty()) {
+            namedParameterJdbcTemplate.batchUpdate(INSERT_TERM_SQL, termParams.toArray(new SqlParameterSource[0]));
+        }
+    }
+
+    private void deleteOrphanedEntries(final SearchIndexEntityType entityType) {
+        final MapSqlParameterSource params = new MapSqlParameterSource("entityTypes", entityType.getIndexedTypes());
+        final String sourceTable = entityType.getSourceTable();
+        namedParameterJdbcTemplate.update("delete from m_search_index_term where entity_type in (:entityTypes) and not exists (select 1 from "
+                + sourceTable + " src where src.id = m_search_index_term.entity_id)", params);
+        namedParameterJdbcTemplate.update("delete from m_search_index_entry where entity_type in (:entityTypes) and not exists (select 1 from "
+                + sourceTable + " src where src.id = m_search_index_entry.entity_id)", params);
+    }
+
+    private Set<Long> retrieveClientIdentifierIds(final List<Long> clientIds) {
+        final MapSqlParameterSource params = new MapSqlParameterSource("clientIds", clientIds);
+        final Set<Long> identifierIds = new LinkedHashSet<>(namedParameterJdbcTemplate
+                .queryForList("select ci.id from m_client_identifier ci where ci.client_id in (:clientIds)", params, Long.class));
+        // identifiers deleted since they were indexed
+        identifierIds.addAll(namedParameterJdbcTemplate.queryForList(
+                "select e.entity_id from m_search_index_entry e where e.entity_type = 'CLIENTIDENTIFIER' and e.parent_id in (:clientIds)",
+                params, Long.class));
+        return identifierIds;
+    }
+
+    private List<Long> retrieveAccountIds(final String accountTable, final String ownerColumn, final List<Long> ownerIds) {
+        return namedParameterJdbcTemplate.queryForList("select a.id from " + accountTable + " a where a." + ownerColumn + " in (:ownerIds)",
+                new MapSqlParameterSource("ownerIds", ownerIds), Long.class);
+    }
+
+    private void scheduleReindex(final SearchIndexEntityType entityType, final Long entityId) {
+        if (entityId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            transactionTemplate.executeWithoutResult(status -> reindex(entityType, Set.of(entityId)));
+            return;
+        }
+        PendingReindex pendingReindex = (PendingReindex) TransactionSynchronizationManager.getResource(this);
+        if (pendingReindex == null) {
+            pendingReindex = new PendingReindex();
+            TransactionSynchronizationManager.bindResource(this, pendingReindex);
+            TransactionSynchronizationManager.registerSynchronization(pendingReindex);
+        }
+        pendingReindex.add(entityType, entityId);
+    }
+
+    private int getInClauseParameterSizeLimit() {
+        return fineractProperties.getQuery().getInClauseParameterSizeLimit();
+    }
+
+    private final class PendingReindex implements TransactionSynchronization {
+
+        private final Map<SearchIndexEntityType, Set<Long>> entityIds = new EnumMap<>(SearchIndexEntityType.class);
+
+        void add(final SearchIndexEntityType entityType, final Long entityId) {
+            entityIds.computeIfAbsent(entityType, k -> new LinkedHashSet<>()).add(entityId);
+        }
+
+        @Override
+        public void beforeCommit(final boolean readOnly) {
+            // the source rows are read with plain JDBC, pending entity changes have to reach the database first
+            entityManager.flush();
+            entityIds.forEach(SearchIndexWritePlatformServiceImpl.this::reindex);
+        }
+
+        @Override
+        public void afterCompletion(final int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(SearchIndexWritePlatformServiceImpl.this);
+        }
+    }
+
+    private final class ReindexEventListener<T extends BusinessEvent<?>> implements BusinessEventListener<T> {
+
+        private final SearchIndexEntityType entityType;
+
+        ReindexEventListener(final SearchIndexEntityType entityType) {
+            this.entityType = entityType;
+        }
+
+        @Override
+        public void onBusinessEvent(final T event) {
+            scheduleReindex(entityType, event.getAggregateRootId());
+        }
+    }
+
+    private record IndexedEntity(String entityType, Long entityId, String entityName, String entityExternalId, String entityAccountNo,
+            String entityMobileNo, Integer entityStatusEnum, Integer subEntityType, Long parentId, String parentName, String parentType,
+            String officeHierarchy) {
+
+        SearchData toSearchData() {
+            return new SearchData(entityId, entityAccountNo, entityExternalId, entityName, entityType, parentId, parentName, parentType,
+                    entityMobileNo, null, null);
+        }
+    }
+
+    private static final class IndexedEntityMapper implements RowMapper<IndexedEntity> {
+
+        @Override
+        public IndexedEntity mapRow(final ResultSet rs, @SuppressWarnings("unused") final int rowNum) throws SQLException {
+            return new IndexedEntity(rs.getString("entityType"), JdbcSupport.getLong(rs, "entityId"), rs.getString("entityName"),
+                    rs.getString("entityExternalId"), rs.getString("entityAccountNo"), rs.getString("entityMobileNo"),
+                    JdbcSupport.getInteger(rs, "entityStatusEnum"), JdbcSupport.getInteger(rs, "subEntityType"),
+                    JdbcSupport.getLong(rs, "parentId"), rs.getString("parentName"), rs.getString("parentType"),
+                    rs.getString("officeHierarchy"));
+        }
+    }
+}
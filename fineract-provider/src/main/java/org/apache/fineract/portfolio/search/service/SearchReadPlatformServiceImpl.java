@@ -22,9 +22,14 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.data.EnumOptionData;
 import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
@@ -51,17 +56,28 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 @RequiredArgsConstructor
 public class SearchReadPlatformServiceImpl implements SearchReadPlatformService {
 
+    private static final int SEARCH_RESULT_LIMIT = 50;
+    private static final int INDEX_CANDIDATE_LIMIT = 500;
+
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
     private final PlatformSecurityContext context;
     private final LoanProductReadPlatformService loanProductReadPlatformService;
     private final OfficeReadPlatformService officeReadPlatformService;
     private final DatabaseSpecificSQLGenerator sqlGenerator;
+    private final FineractProperties fineractProperties;
 
     @Override
     public Collection<SearchData> retriveMatchingData(final SearchConditions searchConditions) {
         final AppUser currentUser = context.authenticatedUser();
         final String hierarchy = currentUser.getOffice().getHierarchy();
 
+        if (fineractProperties.getSearch().isIndexEnabled()) {
+            final List<String> lookupWords = SearchIndexTerms.lookupWords(searchConditions.getSearchQuery());
+            if (!lookupWords.isEmpty()) {
+                return retrieveMatchingDataFromIndex(searchConditions, hierarchy, lookupWords);
+            }
+        }
+
         final SearchMapper rm = new SearchMapper();
 
         final MapSqlParameterSource params = new MapSqlParameterSource();
@@ -74,6 +90,68 @@ public class SearchReadPlatformServiceImpl implements SearchReadPlatformService
         return namedParameterJdbcTemplate.query(searchSchema(searchConditions), params, rm);
     }
 
+    private Collection<SearchData> retrieveMatchingDataFromIndex(final SearchConditions searchConditions, final String hierarchy,
+            final List<String> lookupWords) {
+        final List<SearchIndexEntityType> entityTypes = SearchIndexEntityType.fromSearchConditions(searchConditions);
+        if (entityTypes.isEmpty()) {
+            return List.of();
+        }
+        final boolean exactMatch = Boolean.TRUE.equals(searchConditions.getExactMatch());
+
+        final MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("hierarchy", hierarchy + "%");
+        params.addValue("entityTypes", entityTypes.stream().flatMap(type -> type.getIndexedTypes().stream()).toList());
+        final StringBuilder termConditions = new StringBuilder(" where t.term like :term0 ");
+        for (int i = 0; i < lookupWords.size(); i++) {
+            params.addValue("term" + i, exactMatch ? lookupWords.get(i) : lookupWords.get(i) + "%");
+            if (i > 0) {
+                termConditions.append(" and exists (select 1 from m_search_index_term t").append(i).append(" where t").append(i)
+                        .append(".entity_type = e.entity_type and t").append(i).append(".entity_id = e.entity_id and t").append(i)
+                        .append(".term like :term").append(i).append(") ");
+            }
+        }
+
+        final String sql = "select distinct e.entity_type as entityType, e.entity_id as entityId, e.entity_name as entityName, "
+                + " e.entity_external_id as entityExternalId, e.entity_account_no as entityAccountNo, e.parent_id as parentId, "
+                + " e.parent_name as parentName, e.entity_mobile_no as entityMobileNo, e.entity_status_enum as entityStatusEnum, "
+                + " e.sub_entity_type as subEntityType, e.parent_type as parentType "
+                + " from m_search_index_term t join m_search_index_entry e on e.entity_type = t.entity_type and e.entity_id = t.entity_id "
+                + termConditions + " and t.entity_type in (:entityTypes) "
+                + " and (e.office_hierarchy is null or e.office_hierarchy like :hierarchy) "
+                + " and (:lastEntityId is null or e.entity_id < :lastEntityId "
+                + " or (e.entity_id = :lastEntityId and e.entity_type > :lastEntityType)) "
+                + " order by e.entity_id desc, e.entity_type " + sqlGenerator.limit(INDEX_CANDIDATE_LIMIT);
+
+        // every word of the query is matched by the index, the whole query (word order, separators) is matched here
+        final String query = SearchIndexTerms.normalize(searchConditions.getSearchQuery());
+        final List<SearchData> result = new ArrayList<>();
+        params.addValue("lastEntityId", null, Types.BIGINT).addValue("lastEntityType", null, Types.VARCHAR);
+        List<SearchData> candidates;
+        do {
+            candidates = namedParameterJdbcTemplate.query(sql, params, new SearchMapper());
+            for (SearchData candidate : candidates) {
+                if (matches(candidate, query, exactMatch)) {
+                    result.add(candidate);
+                    if (result.size() == SEARCH_RESULT_LIMIT) {
+                        return result;
+                    }
+                }
+            }
+            if (!candidates.isEmpty()) {
+                final SearchData last = candidates.get(candidates.size() - 1);
+                params.addValue("lastEntityId", last.getEntityId(), Types.BIGINT).addValue("lastEntityType", last.getEntityType(),
+                        Types.VARCHAR);
+            }
+        } while (candidates.size() == INDEX_CANDIDATE_LIMIT);
+        return result;
+    }
+
+    private static boolean matches(final SearchData candidate, final String query, final boolean exactMatch) {
+        return SearchIndexEntityType.fromIndexedType(candidate.getEntityType()).getSearchableValues(candidate).stream()
+                .filter(Objects::nonNull).map(SearchIndexTerms::normalize)
+                .anyMatch(value -> exactMatch ? value.equals(query) : value.contains(query));
+    }
+
     public String searchSchema(final SearchConditions searchConditions) {
 
         final String union = " union ";
@@ -139,7 +217,7 @@ public class SearchReadPlatformServiceImpl implements SearchReadPlatformService
         sql.replace(sql.lastIndexOf(union), sql.length(), "");
 
         // only get the first 50 rows in case of searcing
-        sql.append(" ").append(sqlGenerator.limit(50, 0));
+        sql.append(" ").append(sqlGenerator.limit(SEARCH_RESULT_LIMIT, 0));
         return sql.toString();
     }
 
@@ -18,16 +18,22 @@
  */
 package org.apache.fineract.portfolio.search.starter;
 
+import jakarta.persistence.EntityManager;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.organisation.office.service.OfficeReadPlatformService;
 import org.apache.fineract.portfolio.loanproduct.service.LoanProductReadPlatformService;
+import org.apache.fineract.portfolio.search.service.SearchIndexWritePlatformService;
+import org.apache.fineract.portfolio.search.service.SearchIndexWritePlatformServiceImpl;
 import org.apache.fineract.portfolio.search.service.SearchReadPlatformService;
 import org.apache.fineract.portfolio.search.service.SearchReadPlatformServiceImpl;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @Configuration
 public class SearchConfiguration {
@@ -36,8 +42,18 @@ public class SearchConfiguration {
     @ConditionalOnMissingBean(SearchReadPlatformService.class)
     public SearchReadPlatformService searchReadPlatformService(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
             PlatformSecurityContext context, LoanProductReadPlatformService loanProductReadPlatformService,
-            OfficeReadPlatformService officeReadPlatformService, DatabaseSpecificSQLGenerator sqlGenerator) {
+            OfficeReadPlatformService officeReadPlatformService, DatabaseSpecificSQLGenerator sqlGenerator,
+            FineractProperties fineractProperties) {
         return new SearchReadPlatformServiceImpl(namedParameterJdbcTemplate, context, loanProductReadPlatformService,
-                officeReadPlatformService, sqlGenerator);
+                officeReadPlatformService, sqlGenerator, fineractProperties);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(SearchIndexWritePlatformService.class)
+    public SearchIndexWritePlatformService searchIndexWritePlatformService(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            DatabaseSpecificSQLGenerator sqlGenerator, BusinessEventNotifierService businessEventNotifierService,
+            PlatformTransactionManager transactionManager, FineractProperties fineractProperties, EntityManager entityManager) {
+        return new SearchIndexWritePlatformServiceImpl(namedParameterJdbcTemplate, sqlGenerator, businessEventNotifierService,
+                transactionManager, fineractProperties, entityManager);
     }
 }
@@ -29,6 +29,8 @@ import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResultBuilder;
 import org.apache.fineract.infrastructure.core.exception.GeneralPlatformDomainRuleException;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.event.business.domain.client.ClientUpdateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.organisation.office.domain.Office;
 import org.apache.fineract.organisation.office.domain.OfficeRepositoryWrapper;
@@ -81,6 +83,7 @@ public class TransferWritePlatformServiceJpaRepositoryImpl implements TransferWr
     private final StaffRepositoryWrapper staffRepositoryWrapper;
     private final ClientTransferDetailsRepositoryWrapper clientTransferDetailsRepositoryWrapper;
     private final PlatformSecurityContext context;
+    private final BusinessEventNotifierService businessEventNotifierService;
 
     @Override
     @Transactional
@@ -255,6 +258,7 @@ public class TransferWritePlatformServiceJpaRepositoryImpl implements TransferWr
         this.clientRepositoryWrapper.saveAndFlush(client);
         handleClientTransferLifecycleEvent(client, client.getTransferToOffice(), TransferEventType.ACCEPTANCE, jsonCommand);
         this.clientRepositoryWrapper.saveAndFlush(client);
+        businessEventNotifierService.notifyPostBusinessEvent(new ClientUpdateBusinessEvent(client));
 
         return new CommandProcessingResultBuilder() //
                 .withClientId(clientId) //
@@ -313,6 +317,7 @@ public class TransferWritePlatformServiceJpaRepositoryImpl implements TransferWr
         validateClientAwaitingTransferAcceptance(client);
         handleClientTransferLifecycleEvent(client, client.getTransferToOffice(), TransferEventType.ACCEPTANCE, jsonCommand);
         this.clientRepositoryWrapper.saveAndFlush(client);
+        businessEventNotifierService.notifyPostBusinessEvent(new ClientUpdateBusinessEvent(client));
 
         return new CommandProcessingResultBuilder() //
                 .withClientId(clientId) //
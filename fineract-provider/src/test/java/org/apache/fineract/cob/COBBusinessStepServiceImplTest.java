@@ -0,0 +1,156 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.apache.fineract.cob.domain.BatchBusinessStepRepository;
+import org.apache.fineract.cob.exceptions.BusinessStepException;
+import org.apache.fineract.cob.service.ReloaderService;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.domain.AbstractAuditableCustom;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.context.ApplicationContext;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class COBBusinessStepServiceImplTest {
+
+    private static final TreeMap<Long, String> BUSINESS_STEPS = new TreeMap<>(
+            Map.of(1L, "plainStep", 2L, "firstChunkStep", 3L, "secondChunkStep"));
+
+    @Mock
+    private BatchBusinessStepRepository batchBusinessStepRepository;
+    @Mock
+    private ApplicationContext applicationContext;
+    @Mock
+    private ListableBeanFactory beanFactory;
+    @Mock
+    private BusinessEventNotifierService businessEventNotifierService;
+    @Mock
+    private ConfigurationDomainService configurationDomainService;
+    @Mock
+    private ReloaderService reloaderService;
+    @Mock
+    private COBBusinessStep<AbstractAuditableCustom> plainStep;
+    @Mock
+    private COBChunkBusinessStep<AbstractAuditableCustom> firstChunkStep;
+    @Mock
+    private COBChunkBusinessStep<AbstractAuditableCustom> secondChunkStep;
+
+    private final List<AbstractAuditableCustom> items = List.of(mock(AbstractAuditableCustom.class), mock(AbstractAuditableCustom.class));
+    private COBBusinessStepServiceImpl underTest;
+
+    @BeforeEach
+    public void setUp() {
+        when(applicationContext.getBean("plainStep")).thenReturn(plainStep);
+        when(applicationContext.getBean("firstChunkStep")).thenReturn(firstChunkStep);
+        when(applicationContext.getBean("secondChunkStep")).thenReturn(secondChunkStep);
+        when(firstChunkStep.getEnumStyledName()).thenReturn("FIRST_CHUNK_STEP");
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        underTest = new COBBusinessStepServiceImpl(batchBusinessStepRepository, applicationContext, beanFactory,
+                businessEventNotifierService, configurationDomainService, reloaderService);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testBeforeChunkCallsChunkStepsOnly() {
+        // when
+        underTest.beforeChunk(BUSINESS_STEPS, items);
+        // then
+        verify(firstChunkStep).beforeChunk(items);
+        verify(secondChunkStep).beforeChunk(items);
+        assertEquals(ActionContext.COB, ThreadLocalContextUtil.getActionContext());
+    }
+
+    @Test
+    public void testBeforeChunkFailureFallsBackToPerItemLookups() {
+        // given
+        doThrow(new IllegalStateException("fail")).when(firstChunkStep).beforeChunk(items);
+        // when
+        underTest.beforeChunk(BUSINESS_STEPS, items);
+        // then
+        verify(secondChunkStep).beforeChunk(items);
+        assertEquals(ActionContext.COB, ThreadLocalContextUtil.getActionContext());
+    }
+
+    @Test
+    public void testBeforeChunkRestoresCOBActionContextAfterEachStep() {
+        // given
+        doAnswer(invocation -> {
+            ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+            return null;
+        }).when(firstChunkStep).beforeChunk(items);
+        doAnswer(invocation -> {
+            assertEquals(ActionContext.COB, ThreadLocalContextUtil.getActionContext());
+            return null;
+        }).when(secondChunkStep).beforeChunk(items);
+        // when
+        underTest.beforeChunk(BUSINESS_STEPS, items);
+        // then
+        verify(secondChunkStep).beforeChunk(items);
+        assertEquals(ActionContext.COB, ThreadLocalContextUtil.getActionContext());
+    }
+
+    @Test
+    public void testAfterChunkFailureFailsTheChunk() {
+        // given
+        doThrow(new IllegalStateException("fail")).when(firstChunkStep).afterChunk(items);
+        // when
+        assertThrows(BusinessStepException.class, () -> underTest.afterChunk(BUSINESS_STEPS, items));
+        // then
+        verify(secondChunkStep, never()).afterChunk(items);
+        assertEquals(ActionContext.COB, ThreadLocalContextUtil.getActionContext());
+    }
+
+    @Test
+    public void testChunkHooksAreSkippedWithoutExecutionMap() {
+        // when
+        underTest.beforeChunk(null, items);
+        underTest.afterChunk(null, items);
+        // then
+        verify(firstChunkStep, never()).beforeChunk(items);
+        verify(firstChunkStep, never()).afterChunk(items);
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.fineract.cob.loan;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -168,4 +169,23 @@ public class CheckLoanRepaymentDueBusinessStepTest {
         assertEquals(processedLoan, loanForProcessing);
 
     }
+
+    @Test
+    public void givenLoanWithoutUnpaidInstallmentDueOnConfiguredDayWhenStepExecutionThenScheduleIsNotLoaded() {
+        // given
+        when(configurationDomainService.retrieveRepaymentDueDays()).thenReturn(1L);
+        Loan loanForProcessing = Mockito.mock(Loan.class);
+        LoanProduct loanProduct = Mockito.mock(LoanProduct.class);
+        when(loanForProcessing.getLoanProduct()).thenReturn(loanProduct);
+        when(loanProduct.getDueDaysForRepaymentEvent()).thenReturn(null);
+        when(loanForProcessing.getEarliestUnpaidInstallmentDueDate()).thenReturn(DateUtils.getBusinessLocalDate().plusDays(5));
+        when(loanForProcessing.getLatestUnpaidInstallmentDueDate()).thenReturn(DateUtils.getBusinessLocalDate().plusDays(35));
+
+        // when
+        Loan processedLoan = underTest.execute(loanForProcessing);
+        // then
+        verify(loanForProcessing, never()).getRepaymentScheduleInstallments();
+        verify(businessEventNotifierService, times(0)).notifyPostBusinessEvent(any());
+        assertEquals(processedLoan, loanForProcessing);
+    }
 }
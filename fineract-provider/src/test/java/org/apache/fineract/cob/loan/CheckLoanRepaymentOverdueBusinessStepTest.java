@@ -20,6 +20,7 @@ package org.apache.fineract.cob.loan;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -175,4 +176,23 @@ public class CheckLoanRepaymentOverdueBusinessStepTest {
         assertEquals(repaymentInstallment, loanPayloadForEvent);
         assertEquals(processedLoan, loanForProcessing);
     }
+
+    @Test
+    public void givenLoanWithoutUnpaidInstallmentOverdueOnConfiguredDayWhenStepExecutionThenScheduleIsNotLoaded() {
+        // given
+        when(configurationDomainService.retrieveRepaymentOverdueDays()).thenReturn(1L);
+        Loan loanForProcessing = Mockito.mock(Loan.class);
+        LoanProduct loanProduct = Mockito.mock(LoanProduct.class);
+        when(loanForProcessing.getLoanProduct()).thenReturn(loanProduct);
+        when(loanProduct.getOverDueDaysForRepaymentEvent()).thenReturn(null);
+        when(loanForProcessing.getEarliestUnpaidInstallmentDueDate()).thenReturn(DateUtils.getBusinessLocalDate().minusDays(35));
+        when(loanForProcessing.getLatestUnpaidInstallmentDueDate()).thenReturn(DateUtils.getBusinessLocalDate().minusDays(5));
+
+        // when
+        Loan processedLoan = underTest.execute(loanForProcessing);
+        // then
+        verify(loanForProcessing, never()).getRepaymentScheduleInstallments();
+        verify(businessEventNotifierService, times(0)).notifyPostBusinessEvent(any());
+        assertEquals(processedLoan, loanForProcessing);
+    }
 }
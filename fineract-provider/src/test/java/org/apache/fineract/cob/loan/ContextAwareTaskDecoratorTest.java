@@ -0,0 +1,114 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.loan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ContextAwareTaskDecoratorTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2024, 1, 15);
+
+    private final ContextAwareTaskDecorator underTest = new ContextAwareTaskDecorator();
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    private final FineractPlatformTenant tenant = new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null);
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(tenant);
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, BUSINESS_DATE)));
+        ThreadLocalContextUtil.setActionContext(ActionContext.COB);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void contextIsPropagatedToTheWorkerAndClearedAfterwards() throws Exception {
+        AtomicReference<FineractPlatformTenant> seenTenant = new AtomicReference<>();
+        AtomicReference<LocalDate> seenBusinessDate = new AtomicReference<>();
+        AtomicReference<ActionContext> seenActionContext = new AtomicReference<>();
+
+        executorService.submit(underTest.decorate(() -> {
+            seenTenant.set(ThreadLocalContextUtil.getTenant());
+            seenBusinessDate.set(ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.BUSINESS_DATE));
+            seenActionContext.set(ThreadLocalContextUtil.getActionContext());
+        })).get();
+        Future<FineractPlatformTenant> tenantAfterwards = executorService.submit(ThreadLocalContextUtil::getTenant);
+
+        assertSame(tenant, seenTenant.get());
+        assertEquals(BUSINESS_DATE, seenBusinessDate.get());
+        assertEquals(ActionContext.COB, seenActionContext.get());
+        assertNull(tenantAfterwards.get());
+    }
+
+    @Test
+    void contextIsClearedWhenTheTaskFails() throws Exception {
+        Future<?> failed = executorService.submit(underTest.decorate(() -> {
+            throw new IllegalStateException("failed");
+        }));
+        try {
+            failed.get();
+        } catch (ExecutionException expected) {
+            // the failure itself is not under test
+        }
+
+        assertNull(executorService.submit(ThreadLocalContextUtil::getTenant).get());
+    }
+
+    @Test
+    void businessDatesChangedByTheWorkerDoNotLeakIntoTheSubmitter() throws Exception {
+        executorService.submit(underTest.decorate(() -> ThreadLocalContextUtil.getBusinessDates().put(BusinessDateType.BUSINESS_DATE,
+                BUSINESS_DATE.plusDays(1)))).get();
+
+        assertEquals(BUSINESS_DATE, ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.BUSINESS_DATE));
+    }
+
+    @Test
+    void callerRunsKeepsTheContextOfTheCaller() {
+        AtomicReference<FineractPlatformTenant> seenTenant = new AtomicReference<>();
+
+        underTest.decorate(() -> seenTenant.set(ThreadLocalContextUtil.getTenant())).run();
+
+        assertSame(tenant, seenTenant.get());
+        assertSame(tenant, ThreadLocalContextUtil.getTenant());
+        assertEquals(BUSINESS_DATE, ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.BUSINESS_DATE));
+        assertEquals(ActionContext.COB, ThreadLocalContextUtil.getActionContext());
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.loan;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.apache.fineract.cob.COBBusinessStepService;
+import org.apache.fineract.cob.data.BusinessStepNameAndOrder;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LoanItemProcessorTest {
+
+    private static final TreeMap<Long, String> BUSINESS_STEPS = new TreeMap<>(Map.of(1L, "testStep"));
+
+    @Mock
+    private COBBusinessStepService cobBusinessStepService;
+    @Mock
+    private ChunkContext chunkContext;
+    @Mock
+    private Loan loan1;
+    @Mock
+    private Loan loan2;
+
+    private LoanItemProcessor underTest;
+
+    @BeforeEach
+    public void setUp() {
+        JobExecution jobExecution = new JobExecution(1L);
+        jobExecution.getExecutionContext().put(LoanCOBConstant.BUSINESS_DATE_PARAMETER_NAME, "2023-01-12");
+        StepExecution stepExecution = new StepExecution("test", jobExecution);
+        ExecutionContext stepExecutionContext = new ExecutionContext();
+        stepExecutionContext.put(LoanCOBConstant.BUSINESS_STEPS, Set.of(new BusinessStepNameAndOrder("testStep", 1L)));
+        stepExecution.setExecutionContext(stepExecutionContext);
+
+        when(cobBusinessStepService.run(any(), any(Loan.class))).thenAnswer(invocation -> invocation.getArgument(1));
+
+        underTest = new LoanItemProcessor(cobBusinessStepService);
+        underTest.beforeStep(stepExecution);
+    }
+
+    @Test
+    public void testProcessPrefetchesTheReadItemsOncePerChunk() throws Exception {
+        // given
+        underTest.afterRead(loan1);
+        underTest.afterRead(loan2);
+        // when
+        Loan processed1 = underTest.process(loan1);
+        Loan processed2 = underTest.process(loan2);
+        // then
+        assertSame(loan1, processed1);
+        assertSame(loan2, processed2);
+        verify(cobBusinessStepService, times(1)).beforeChunk(eq(BUSINESS_STEPS), eq(List.of(loan1, loan2)));
+        verify(cobBusinessStepService).run(BUSINESS_STEPS, loan1);
+        verify(cobBusinessStepService).run(BUSINESS_STEPS, loan2);
+        verify(loan1).setLastClosedBusinessDate(LocalDate.of(2023, 1, 12));
+    }
+
+    @Test
+    public void testProcessDoesNotPrefetchWithoutReadItems() throws Exception {
+        // when
+        underTest.process(loan1);
+        // then
+        verify(cobBusinessStepService, never()).beforeChunk(any(), anyList());
+        verify(cobBusinessStepService).run(BUSINESS_STEPS, loan1);
+    }
+
+    @Test
+    public void testChunkErrorPrefetchesAgainOnRetry() throws Exception {
+        // given
+        underTest.afterRead(loan1);
+        underTest.afterRead(loan2);
+        underTest.process(loan1);
+        // when
+        underTest.afterChunkError(chunkContext);
+        underTest.process(loan1);
+        underTest.process(loan2);
+        // then
+        verify(cobBusinessStepService, times(2)).beforeChunk(eq(BUSINESS_STEPS), eq(List.of(loan1, loan2)));
+    }
+
+    @Test
+    public void testAfterChunkStartsTheNextChunkWithoutTheItemsOfThePreviousOne() throws Exception {
+        // given
+        underTest.afterRead(loan1);
+        underTest.process(loan1);
+        // when
+        underTest.afterChunk(chunkContext);
+        underTest.afterRead(loan2);
+        underTest.process(loan2);
+        // then
+        verify(cobBusinessStepService).beforeChunk(eq(BUSINESS_STEPS), eq(List.of(loan1)));
+        verify(cobBusinessStepService).beforeChunk(eq(BUSINESS_STEPS), eq(List.of(loan2)));
+    }
+
+    @Test
+    public void testChunkItemsAreKeptPerThread() throws Exception {
+        // given
+        Thread reader = new Thread(() -> underTest.afterRead(loan2));
+        reader.start();
+        reader.join();
+        underTest.afterRead(loan1);
+        // when
+        underTest.process(loan1);
+        // then
+        verify(cobBusinessStepService).beforeChunk(eq(BUSINESS_STEPS), eq(List.of(loan1)));
+    }
+
+    @Test
+    public void testBeforeWriteHandsTheProcessedItemsToTheChunkSteps() {
+        // when
+        underTest.beforeWrite(new Chunk<>(List.of(loan1, loan2)));
+        // then
+        verify(cobBusinessStepService).afterChunk(eq(BUSINESS_STEPS), eq(List.of(loan1, loan2)));
+    }
+
+    @Test
+    public void testBeforeWriteSkipsEmptyChunk() {
+        // when
+        underTest.beforeWrite(new Chunk<>());
+        // then
+        verify(cobBusinessStepService, never()).afterChunk(any(), anyList());
+    }
+}
@@ -0,0 +1,163 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.loan;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.apache.fineract.cob.common.CustomJobParameterResolver;
+import org.apache.fineract.cob.data.LoanCOBParameter;
+import org.apache.fineract.cob.data.LoanCOBPartitionLease;
+import org.apache.fineract.cob.domain.LoanAccountLock;
+import org.apache.fineract.cob.domain.LoanCOBPartitionLeaseStatus;
+import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class WorkStealingLoanItemReaderTest {
+
+    private static final Long JOB_EXECUTION_ID = 7L;
+    private static final Long STEP_EXECUTION_ID = 3L;
+    private static final String OWNER = ManagementFactory.getRuntimeMXBean().getName() + ":" + STEP_EXECUTION_ID;
+
+    @Mock
+    private LoanRepository loanRepository;
+    @Mock
+    private LoanCOBPartitionLeaseService partitionLeaseService;
+    @Mock
+    private RetrieveLoanIdService retrieveLoanIdService;
+    @Mock
+    private CustomJobParameterResolver customJobParameterResolver;
+    @Mock
+    private LoanLockingService loanLockingService;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private StepExecution stepExecution;
+    @Mock
+    private Loan loan;
+
+    private WorkStealingLoanItemReader reader;
+
+    @BeforeEach
+    public void setUp() {
+        FineractProperties.FineractLoanCOBWorkStealingProperties workStealing = //
+                new FineractProperties.FineractLoanCOBWorkStealingProperties();
+        workStealing.setLeaseDurationSeconds(120);
+        workStealing.setIdlePollIntervalMillis(1);
+        FineractProperties.FineractLoanCOBProperties cob = new FineractProperties.FineractLoanCOBProperties();
+        cob.setWorkStealing(workStealing);
+        FineractProperties.FineractLoanProperties loanProperties = new FineractProperties.FineractLoanProperties();
+        loanProperties.setCob(cob);
+        FineractProperties.FineractQueryProperties query = new FineractProperties.FineractQueryProperties();
+        query.setInClauseParameterSizeLimit(1000);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setLoan(loanProperties);
+        fineractProperties.setQuery(query);
+
+        reader = new WorkStealingLoanItemReader(loanRepository, partitionLeaseService, retrieveLoanIdService, customJobParameterResolver,
+                loanLockingService, transactionTemplate, fineractProperties, 2);
+        when(stepExecution.getJobExecutionId()).thenReturn(JOB_EXECUTION_ID);
+        when(stepExecution.getId()).thenReturn(STEP_EXECUTION_ID);
+        when(customJobParameterResolver.getCustomJobParameterById(stepExecution, LoanCOBConstant.IS_CATCH_UP_PARAMETER_NAME))
+                .thenReturn(Optional.empty());
+    }
+
+    @Test
+    public void testReaderDropsLoansOfSplitRange() throws Exception {
+        // given
+        when(partitionLeaseService.acquireLease(JOB_EXECUTION_ID, OWNER)).thenReturn(Optional.of(lease(10L, 0L, 1L)), Optional.empty());
+        List<Long> loanIds = List.of(1L, 2L, 3L, 4L, 5L, 6L);
+        LoanCOBParameter loanCOBParameter = new LoanCOBParameter(1L, 10L);
+        when(retrieveLoanIdService.retrieveAllNonClosedLoansByLastClosedBusinessDateAndMinAndMaxLoanId(loanCOBParameter, false))
+                .thenReturn(new ArrayList<>(loanIds));
+        List<LoanAccountLock> locks = loanIds.stream()
+                .map(l -> new LoanAccountLock(l, LockOwner.LOAN_COB_CHUNK_PROCESSING, LocalDate.of(2023, 7, 25))).toList();
+        when(loanLockingService.findAllByLoanIdIn(loanIds)).thenReturn(locks);
+        when(loanLockingService.findAllByLoanIdInAndLockOwner(loanIds, LockOwner.LOAN_COB_CHUNK_PROCESSING)).thenReturn(locks);
+        // an idle worker took loans above 3 after the first claim
+        when(partitionLeaseService.findLease(11L)).thenReturn(Optional.of(lease(10L, 0L, 1L)), Optional.of(lease(3L, 2L, 3L)));
+        when(partitionLeaseService.advanceLease(any(LoanCOBPartitionLease.class), eq(OWNER), anyLong())).thenReturn(true);
+        when(partitionLeaseService.hasUnfinishedLeases(JOB_EXECUTION_ID)).thenReturn(false);
+        when(loanRepository.findById(anyLong())).thenReturn(Optional.of(loan));
+
+        // when
+        reader.beforeStep(stepExecution);
+        List<Loan> loans = new ArrayList<>();
+        Loan read;
+        while ((read = reader.read()) != null) {
+            loans.add(read);
+        }
+        reader.afterStep(stepExecution);
+
+        // then
+        Assertions.assertEquals(3, loans.size());
+        verify(loanRepository, times(1)).findById(1L);
+        verify(loanRepository, times(1)).findById(2L);
+        verify(loanRepository, times(1)).findById(3L);
+        Mockito.verifyNoMoreInteractions(loanRepository);
+        verify(partitionLeaseService, times(1)).advanceLease(any(LoanCOBPartitionLease.class), eq(OWNER), eq(2L));
+        verify(partitionLeaseService, times(1)).advanceLease(any(LoanCOBPartitionLease.class), eq(OWNER), eq(3L));
+        verify(partitionLeaseService, times(1)).completeLease(11L, OWNER);
+        verify(loanLockingService, never()).applyLock(anyList(), any());
+    }
+
+    @Test
+    public void testReaderWaitsForLeasesOfOtherWorkers() throws Exception {
+        // given
+        when(partitionLeaseService.acquireLease(JOB_EXECUTION_ID, OWNER)).thenReturn(Optional.empty());
+        when(partitionLeaseService.hasUnfinishedLeases(JOB_EXECUTION_ID)).thenReturn(true, false);
+
+        // when
+        reader.beforeStep(stepExecution);
+        Loan read = reader.read();
+        reader.afterStep(stepExecution);
+
+        // then
+        Assertions.assertNull(read);
+        verify(partitionLeaseService, times(2)).acquireLease(JOB_EXECUTION_ID, OWNER);
+        Mockito.verifyNoInteractions(loanRepository, retrieveLoanIdService);
+    }
+
+    private LoanCOBPartitionLease lease(Long maxLoanId, Long claimedUpToLoanId, Long version) {
+        return new LoanCOBPartitionLease(11L, 1L, maxLoanId, claimedUpToLoanId, LoanCOBPartitionLeaseStatus.LEASED, OWNER, version);
+    }
+}
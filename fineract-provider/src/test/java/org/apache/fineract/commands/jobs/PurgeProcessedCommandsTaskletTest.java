@@ -19,8 +19,10 @@
 package org.apache.fineract.commands.jobs;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -37,6 +39,7 @@ import org.apache.fineract.infrastructure.core.domain.ActionContext;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.jobs.service.ChunkedPurgeService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -57,6 +60,8 @@ public class PurgeProcessedCommandsTaskletTest {
     @Mock
     private ConfigurationDomainService configurationDomainService;
     @Mock
+    private ChunkedPurgeService chunkedPurgeService;
+    @Mock
     private StepContribution stepContribution;
     @Mock
     private ChunkContext chunkContext;
@@ -69,7 +74,7 @@ public class PurgeProcessedCommandsTaskletTest {
         ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
         ThreadLocalContextUtil
                 .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
-        underTest = new PurgeProcessedCommandsTasklet(repository, configurationDomainService);
+        underTest = new PurgeProcessedCommandsTasklet(repository, configurationDomainService, chunkedPurgeService);
     }
 
     @AfterEach
@@ -93,6 +98,21 @@ public class PurgeProcessedCommandsTaskletTest {
         assertEquals(RepeatStatus.FINISHED, resultStatus);
     }
 
+    @Test
+    public void givenChunkedPurgeEnabledWhenMoreChunksRemainThenTaskIsContinued() {
+        // given
+        when(configurationDomainService.retrieveProcessedCommandsPurgeDaysCriteria()).thenReturn(2L);
+        when(chunkedPurgeService.isEnabled()).thenReturn(true);
+        when(chunkedPurgeService.purgeNextChunk(Mockito.any(), Mockito.any(), Mockito.eq(stepContribution))).thenReturn(true, false);
+        // when
+        RepeatStatus firstStatus = underTest.execute(stepContribution, chunkContext);
+        RepeatStatus lastStatus = underTest.execute(stepContribution, chunkContext);
+        // then
+        assertEquals(RepeatStatus.CONTINUABLE, firstStatus);
+        assertEquals(RepeatStatus.FINISHED, lastStatus);
+        verify(repository, never()).deleteOlderEventsWithStatus(Mockito.any(), Mockito.any());
+    }
+
     @Test
     public void givenEventsForPurgeWhenExceptionOccursThenJobExecutionFinishesSuccessfully() {
         // given
@@ -103,4 +123,15 @@ public class PurgeProcessedCommandsTaskletTest {
         // then
         assertEquals(RepeatStatus.FINISHED, resultStatus);
     }
+
+    @Test
+    public void givenChunkedPurgeEnabledWhenChunkFailsThenStepFails() {
+        // given
+        when(configurationDomainService.retrieveProcessedCommandsPurgeDaysCriteria()).thenReturn(2L);
+        when(chunkedPurgeService.isEnabled()).thenReturn(true);
+        when(chunkedPurgeService.purgeNextChunk(Mockito.any(), Mockito.any(), Mockito.eq(stepContribution)))
+                .thenThrow(new RuntimeException("Test Exception"));
+        // when / then
+        assertThrows(RuntimeException.class, () -> underTest.execute(stepContribution, chunkContext));
+    }
 }
@@ -54,6 +54,12 @@ public class CommandSourceServiceTest {
     @Mock
     private ErrorHandler errorHandler;
 
+    @Mock
+    private IdempotencyKeyStore idempotencyKeyStore;
+
+    @Mock
+    private IdempotencyKeyResolver idempotencyKeyResolver;
+
     @InjectMocks
     private CommandSourceService underTest;
 
@@ -87,6 +93,36 @@ public class CommandSourceServiceTest {
         Assertions.assertEquals(UNDER_PROCESSING.getValue(), captured.getStatus());
     }
 
+    @Test
+    public void testClientIdempotencyKeyIsRegisteredInStore() {
+        CommandWrapper wrapper = CommandWrapper.wrap("act", "ent", 1L, 1L);
+        JsonCommand jsonCommand = JsonCommand.from("{}");
+        AppUser appUser = Mockito.mock(AppUser.class);
+        CommandSource saved = Mockito.mock(CommandSource.class);
+        Mockito.when(commandSourceRepository.saveAndFlush(any(CommandSource.class))).thenReturn(saved);
+        Mockito.when(idempotencyKeyStore.isEnabled()).thenReturn(true);
+        Mockito.when(idempotencyKeyResolver.isProvidedByClient(wrapper)).thenReturn(true);
+
+        FineractPlatformTenant ft = new FineractPlatformTenant(1L, "t1", "n1", ZoneId.systemDefault().toString(), null);
+        ThreadLocalContextUtil.setTenant(ft);
+
+        underTest.saveInitialNewTransaction(wrapper, jsonCommand, appUser, "idk");
+
+        Mockito.verify(idempotencyKeyStore).register(saved);
+    }
+
+    @Test
+    public void testFindCommandSourceByClientKeyUsesStore() {
+        CommandWrapper wrapper = CommandWrapper.wrap("act", "ent", 1L, 1L);
+        CommandSource commandMock = Mockito.mock(CommandSource.class);
+        Mockito.when(idempotencyKeyStore.isEnabled()).thenReturn(true);
+        Mockito.when(idempotencyKeyStore.findCommandId("act", "ent", "idk")).thenReturn(5L);
+        Mockito.when(commandSourceRepository.findById(5L)).thenReturn(Optional.of(commandMock));
+
+        Assertions.assertEquals(commandMock, underTest.findCommandSourceByClientKey(wrapper, "idk"));
+        Mockito.verify(commandSourceRepository, Mockito.never()).findByActionNameAndEntityNameAndIdempotencyKey(any(), any(), any());
+    }
+
     @Test
     public void testCreateFromExisting() {
         long commandId = 1L;
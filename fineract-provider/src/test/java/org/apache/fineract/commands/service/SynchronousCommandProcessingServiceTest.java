@@ -19,6 +19,8 @@
 package org.apache.fineract.commands.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -34,7 +36,9 @@ import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDoma
 import org.apache.fineract.infrastructure.core.api.JsonCommand;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
 import org.apache.fineract.infrastructure.core.domain.FineractRequestContextHolder;
+import org.apache.fineract.infrastructure.core.exception.IdempotentCommandProcessSucceedException;
 import org.apache.fineract.infrastructure.core.serialization.ToApiJsonSerializer;
+import org.apache.fineract.infrastructure.hooks.service.HookRegistry;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.useradministration.domain.AppUser;
 import org.junit.jupiter.api.Assertions;
@@ -46,6 +50,7 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
 import org.springframework.context.ApplicationContext;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
@@ -67,7 +72,13 @@ public class SynchronousCommandProcessingServiceTest {
     @Mock
     private IdempotencyKeyResolver idempotencyKeyResolver;
     @Mock
+    private IdempotencyKeyStore idempotencyKeyStore;
+    @Mock
     private CommandSourceService commandSourceService;
+    @Mock
+    private CommandAuditWriter commandAuditWriter;
+    @Mock
+    private HookRegistry hookRegistry;
 
     @Spy
     private FineractRequestContextHolder fineractRequestContextHolder;
@@ -170,4 +181,119 @@ public class SynchronousCommandProcessingServiceTest {
         verify(commandSourceService).getCommandSource(commandId);
         verify(commandSourceService).generateErrorInfo(runtimeException);
     }
+
+    @Test
+    public void testExecuteCommandWritesAuditOnceWhenPipelined() {
+        CommandWrapper commandWrapper = Mockito.mock(CommandWrapper.class);
+        when(commandWrapper.isDatatableResource()).thenReturn(false);
+        when(commandWrapper.isNoteResource()).thenReturn(false);
+        when(commandWrapper.isSurveyResource()).thenReturn(false);
+        when(commandWrapper.isLoanDisburseDetailResource()).thenReturn(false);
+        JsonCommand jsonCommand = Mockito.mock(JsonCommand.class);
+        when(jsonCommand.commandId()).thenReturn(null);
+
+        NewCommandSourceHandler commandHandler = Mockito.mock(NewCommandSourceHandler.class);
+        CommandProcessingResult commandProcessingResult = Mockito.mock(CommandProcessingResult.class);
+        when(commandHandlerProvider.getHandler(Mockito.any(), Mockito.any())).thenReturn(commandHandler);
+
+        when(commandAuditWriter.isEnabled()).thenReturn(true);
+        when(configurationDomainService.isMakerCheckerEnabledForTask(Mockito.any())).thenReturn(false);
+        String idk = "idk";
+        when(idempotencyKeyResolver.resolve(commandWrapper)).thenReturn(idk);
+        when(idempotencyKeyResolver.isProvidedByClient(commandWrapper)).thenReturn(false);
+
+        AppUser appUser = Mockito.mock(AppUser.class);
+        when(context.authenticatedUser(Mockito.any(CommandWrapper.class))).thenReturn(appUser);
+        CommandSource commandSource = Mockito.mock(CommandSource.class);
+        when(commandSourceService.getInitialCommandSource(commandWrapper, jsonCommand, appUser, idk)).thenReturn(commandSource);
+        when(commandSourceService.processCommand(commandHandler, jsonCommand, commandSource, appUser, false, false))
+                .thenReturn(commandProcessingResult);
+
+        CommandProcessingResult actualCommandProcessingResult = underTest.executeCommand(commandWrapper, jsonCommand, false);
+
+        verify(commandAuditWriter).write(commandSource);
+        verify(commandSourceService, never()).saveInitialNewTransaction(commandWrapper, jsonCommand, appUser, idk);
+        verify(commandSourceService, never()).saveResultSameTransaction(commandSource);
+        assertEquals(commandProcessingResult, actualCommandProcessingResult);
+    }
+
+    @Test
+    public void testExecuteCommandLooksUpGeneratedKeyWhenStoreDisabled() {
+        CommandWrapper commandWrapper = mockCommandWrapper();
+        JsonCommand jsonCommand = Mockito.mock(JsonCommand.class);
+        String idk = "idk";
+        when(idempotencyKeyResolver.resolve(commandWrapper)).thenReturn(idk);
+        when(idempotencyKeyResolver.isProvidedByClient(commandWrapper)).thenReturn(false);
+        when(idempotencyKeyStore.isEnabled()).thenReturn(false);
+        CommandSource processedCommand = Mockito.mock(CommandSource.class);
+        when(processedCommand.getStatus()).thenReturn(CommandProcessingResultType.PROCESSED.getValue());
+        when(commandSourceService.findCommandSource(commandWrapper, idk)).thenReturn(processedCommand);
+
+        Assertions.assertThrows(IdempotentCommandProcessSucceedException.class,
+                () -> underTest.executeCommand(commandWrapper, jsonCommand, false));
+
+        verify(commandSourceService, never()).saveInitialNewTransaction(any(), any(), any(), any());
+    }
+
+    @Test
+    public void testExecuteCommandSkipsLookupOfGeneratedKeyWhenStoreEnabled() {
+        CommandWrapper commandWrapper = mockCommandWrapper();
+        JsonCommand jsonCommand = Mockito.mock(JsonCommand.class);
+        String idk = "idk";
+        when(idempotencyKeyResolver.resolve(commandWrapper)).thenReturn(idk);
+        when(idempotencyKeyResolver.isProvidedByClient(commandWrapper)).thenReturn(false);
+        when(idempotencyKeyStore.isEnabled()).thenReturn(true);
+
+        NewCommandSourceHandler commandHandler = Mockito.mock(NewCommandSourceHandler.class);
+        when(commandHandlerProvider.getHandler(Mockito.any(), Mockito.any())).thenReturn(commandHandler);
+        AppUser appUser = Mockito.mock(AppUser.class);
+        when(context.authenticatedUser(Mockito.any(CommandWrapper.class))).thenReturn(appUser);
+        CommandSource commandSource = Mockito.mock(CommandSource.class);
+        when(commandSource.getId()).thenReturn(1L);
+        when(commandSourceService.saveInitialNewTransaction(commandWrapper, jsonCommand, appUser, idk)).thenReturn(commandSource);
+        when(commandSourceService.getCommandSource(1L)).thenReturn(commandSource);
+        when(commandSourceService.saveResultSameTransaction(commandSource)).thenReturn(commandSource);
+        CommandProcessingResult commandProcessingResult = Mockito.mock(CommandProcessingResult.class);
+        when(commandSourceService.processCommand(commandHandler, jsonCommand, commandSource, appUser, false, false))
+                .thenReturn(commandProcessingResult);
+
+        CommandProcessingResult actualCommandProcessingResult = underTest.executeCommand(commandWrapper, jsonCommand, false);
+
+        verify(commandSourceService, never()).findCommandSource(any(), any());
+        verify(commandSourceService, never()).findCommandSourceByClientKey(any(), any());
+        assertEquals(commandProcessingResult, actualCommandProcessingResult);
+    }
+
+    @Test
+    public void testExecuteCommandReportsDuplicateWhenKeyExpiredFromStore() {
+        CommandWrapper commandWrapper = mockCommandWrapper();
+        JsonCommand jsonCommand = Mockito.mock(JsonCommand.class);
+        String idk = "idk";
+        when(idempotencyKeyResolver.resolve(commandWrapper)).thenReturn(idk);
+        when(idempotencyKeyResolver.isProvidedByClient(commandWrapper)).thenReturn(true);
+        when(idempotencyKeyStore.isEnabled()).thenReturn(true);
+        when(commandSourceService.findCommandSourceByClientKey(commandWrapper, idk)).thenReturn(null);
+
+        AppUser appUser = Mockito.mock(AppUser.class);
+        when(context.authenticatedUser(Mockito.any(CommandWrapper.class))).thenReturn(appUser);
+        when(commandSourceService.saveInitialNewTransaction(commandWrapper, jsonCommand, appUser, idk))
+                .thenThrow(new DataIntegrityViolationException("duplicate idempotency key"));
+        CommandSource processedCommand = Mockito.mock(CommandSource.class);
+        when(processedCommand.getStatus()).thenReturn(CommandProcessingResultType.PROCESSED.getValue());
+        when(commandSourceService.findCommandSource(commandWrapper, idk)).thenReturn(processedCommand);
+
+        Assertions.assertThrows(IdempotentCommandProcessSucceedException.class,
+                () -> underTest.executeCommand(commandWrapper, jsonCommand, false));
+
+        verify(commandSourceService, never()).processCommand(any(), any(), any(), any(), Mockito.anyBoolean(), Mockito.anyBoolean());
+    }
+
+    private CommandWrapper mockCommandWrapper() {
+        CommandWrapper commandWrapper = Mockito.mock(CommandWrapper.class);
+        when(commandWrapper.isDatatableResource()).thenReturn(false);
+        when(commandWrapper.isNoteResource()).thenReturn(false);
+        when(commandWrapper.isSurveyResource()).thenReturn(false);
+        when(commandWrapper.isLoanDisburseDetailResource()).thenReturn(false);
+        return commandWrapper;
+    }
 }
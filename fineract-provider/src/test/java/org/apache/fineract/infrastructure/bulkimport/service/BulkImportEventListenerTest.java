@@ -0,0 +1,144 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.fineract.infrastructure.bulkimport.data.BulkImportEvent;
+import org.apache.fineract.infrastructure.bulkimport.data.GlobalEntityType;
+import org.apache.fineract.infrastructure.bulkimport.domain.ImportDocument;
+import org.apache.fineract.infrastructure.bulkimport.domain.ImportDocumentRepository;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.StreamingImportHandler;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.tenant.TenantDetailsService;
+import org.apache.fineract.infrastructure.documentmanagement.command.DocumentCommand;
+import org.apache.fineract.infrastructure.documentmanagement.domain.Document;
+import org.apache.fineract.infrastructure.documentmanagement.service.DocumentWritePlatformService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationContext;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class BulkImportEventListenerTest {
+
+    private static final byte[] OUTPUT = "status workbook".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    private Path tempDir;
+
+    @Mock
+    private TenantDetailsService tenantDetailsService;
+    @Mock
+    private ApplicationContext applicationContext;
+    @Mock
+    private ImportDocumentRepository importRepository;
+    @Mock
+    private DocumentWritePlatformService documentService;
+    @Mock
+    private StreamingBulkImportService streamingBulkImportService;
+    @Mock
+    private StreamingImportHandler importHandler;
+    @Mock
+    private ImportDocument importDocument;
+    @Mock
+    private Document document;
+
+    private BulkImportEventListener underTest;
+    private Path upload;
+    private BulkImportEvent event;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        underTest = new BulkImportEventListener(tenantDetailsService, applicationContext, importRepository, documentService,
+                streamingBulkImportService);
+        upload = Files.write(tempDir.resolve("upload"), new byte[] { 1, 2, 3 });
+        event = BulkImportEvent.streamingInstance(this, upload, 5L, "en", "dd MMMM yyyy", ThreadLocalContextUtil.getContext());
+        when(importDocument.getDocument()).thenReturn(document);
+        when(document.getId()).thenReturn(7L);
+        when(document.getName()).thenReturn("repayments");
+        when(document.getFileName()).thenReturn("repayments.xls");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void theStatusWorkbookReplacesTheDocumentAndTheTemporaryFilesAreDeleted() throws IOException {
+        when(streamingBulkImportService.process(eq(importHandler), eq(upload), eq("en"), eq("dd MMMM yyyy"), any(OutputStream.class)))
+                .thenAnswer(invocation -> {
+                    invocation.getArgument(4, OutputStream.class).write(OUTPUT);
+                    return new StreamingBulkImportService.StreamingImportResult(6, 4, 2);
+                });
+        byte[][] storedContent = new byte[1][];
+        when(documentService.updateDocument(any(DocumentCommand.class), any(InputStream.class))).thenAnswer(invocation -> {
+            storedContent[0] = invocation.getArgument(1, InputStream.class).readAllBytes();
+            return null;
+        });
+
+        underTest.processStreaming(importHandler, event, importDocument, GlobalEntityType.LOAN_TRANSACTIONS);
+
+        verify(importDocument).update(any(), eq(6), eq(4), eq(2));
+        verify(importRepository).saveAndFlush(importDocument);
+        ArgumentCaptor<DocumentCommand> command = ArgumentCaptor.forClass(DocumentCommand.class);
+        verify(documentService).updateDocument(command.capture(), any(InputStream.class));
+        assertEquals("repayments.xlsx", command.getValue().getFileName());
+        assertEquals("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", command.getValue().getType());
+        assertEquals((long) OUTPUT.length, command.getValue().getSize());
+        assertArrayEquals(OUTPUT, storedContent[0]);
+        assertFalse(Files.exists(upload));
+    }
+
+    @Test
+    void theUploadIsDeletedWhenTheImportFails() throws IOException {
+        when(streamingBulkImportService.process(eq(importHandler), eq(upload), eq("en"), eq("dd MMMM yyyy"), any(OutputStream.class)))
+                .thenThrow(new IOException("Unsupported workbook format UNKNOWN"));
+
+        underTest.processStreaming(importHandler, event, importDocument, GlobalEntityType.LOAN_TRANSACTIONS);
+
+        verify(importRepository, never()).saveAndFlush(any());
+        verify(documentService, never()).updateDocument(any(), any());
+        assertFalse(Files.exists(upload));
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.infrastructure.bulkimport.constants.TemplatePopulateImportConstants;
+import org.junit.jupiter.api.Test;
+
+class ImportRowStatusesTest {
+
+    private final ImportRowStatuses underTest = new ImportRowStatuses();
+
+    @Test
+    void statusOfImportedFailedAndUntouchedRows() {
+        underTest.imported(1);
+        underTest.failed(2, "Loan not found");
+
+        assertEquals(TemplatePopulateImportConstants.STATUS_CELL_IMPORTED, underTest.getStatus(1));
+        assertFalse(underTest.isFailed(1));
+        assertEquals("Loan not found", underTest.getStatus(2));
+        assertTrue(underTest.isFailed(2));
+        assertNull(underTest.getStatus(3));
+        assertEquals(1, underTest.getSuccessCount());
+        assertEquals(1, underTest.getErrorCount());
+    }
+
+    @Test
+    void rowsReportedConcurrentlyAreAllCounted() throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        for (int i = 1; i <= 2000; i++) {
+            int rowIndex = i;
+            executorService.execute(() -> {
+                if (rowIndex % 4 == 0) {
+                    underTest.failed(rowIndex, "error " + rowIndex);
+                } else {
+                    underTest.imported(rowIndex);
+                }
+            });
+        }
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(1500, underTest.getSuccessCount());
+        assertEquals(500, underTest.getErrorCount());
+        assertEquals("error 8", underTest.getStatus(8));
+    }
+}
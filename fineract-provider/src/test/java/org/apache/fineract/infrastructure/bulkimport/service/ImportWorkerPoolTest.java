@@ -0,0 +1,130 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ImportWorkerPoolTest {
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.of(2024, 1, 15))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void rowsWithTheSameKeyRunInSubmissionOrder() {
+        List<int[]> executed = Collections.synchronizedList(new ArrayList<>());
+        try (ImportWorkerPool underTest = new ImportWorkerPool(4, 16)) {
+            for (int i = 0; i < 300; i++) {
+                int key = i % 7;
+                int row = i;
+                underTest.submit(key, () -> {
+                    LockSupport.parkNanos(ThreadLocalRandom.current().nextInt(50_000));
+                    executed.add(new int[] { key, row });
+                });
+            }
+        }
+
+        assertEquals(300, executed.size());
+        Map<Integer, Integer> lastRowByKey = new HashMap<>();
+        for (int[] entry : executed) {
+            Integer previous = lastRowByKey.put(entry[0], entry[1]);
+            assertTrue(previous == null || previous < entry[1], "row " + entry[1] + " ran before row " + previous);
+        }
+    }
+
+    @Test
+    void tasksRunWithTheTenantOfTheSubmitter() {
+        List<String> tenants = Collections.synchronizedList(new ArrayList<>());
+        try (ImportWorkerPool underTest = new ImportWorkerPool(2, 4)) {
+            for (int i = 0; i < 10; i++) {
+                underTest.submit(i, () -> tenants.add(ThreadLocalContextUtil.getTenant().getTenantIdentifier()));
+            }
+        }
+
+        assertEquals(Collections.nCopies(10, "default"), tenants);
+    }
+
+    @Test
+    void submitBlocksWhileTheQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executed = new AtomicInteger();
+        try (ImportWorkerPool underTest = new ImportWorkerPool(1, 2)) {
+            for (int i = 0; i < 2; i++) {
+                underTest.submit(i, () -> {
+                    awaitQuietly(release);
+                    executed.incrementAndGet();
+                });
+            }
+
+            FineractContext context = ThreadLocalContextUtil.getContext();
+            CompletableFuture<Void> third = CompletableFuture.runAsync(() -> {
+                ThreadLocalContextUtil.init(context);
+                try {
+                    underTest.submit(3, executed::incrementAndGet);
+                } finally {
+                    ThreadLocalContextUtil.reset();
+                }
+            });
+            Thread.sleep(200);
+            assertFalse(third.isDone());
+
+            release.countDown();
+            third.get(10, TimeUnit.SECONDS);
+        }
+
+        assertEquals(3, executed.get());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.fineract.infrastructure.bulkimport.constants.TemplatePopulateImportConstants;
+import org.apache.fineract.infrastructure.bulkimport.data.GlobalEntityType;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportLookupSheets;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportRow;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportRowCommand;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.StreamingImportHandler;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class StreamingBulkImportServiceTest {
+
+    private static final String SHEET_NAME = "Repayments";
+    private static final int STATUS_COLUMN = 5;
+
+    @TempDir
+    private Path tempDir;
+
+    private final List<String> executedRows = Collections.synchronizedList(new ArrayList<>());
+    private final List<Long> paymentTypeIds = Collections.synchronizedList(new ArrayList<>());
+    private StreamingBulkImportService underTest;
+    private StreamingImportHandler importHandler;
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.of(2024, 1, 15))));
+
+        FineractProperties.FineractBulkImportProperties bulkImport = new FineractProperties.FineractBulkImportProperties();
+        bulkImport.setStreamingEnabled(true);
+        bulkImport.setWorkerCount(2);
+        bulkImport.setQueueCapacity(2);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setBulkImport(bulkImport);
+        underTest = new StreamingBulkImportService(fineractProperties);
+
+        importHandler = mock(StreamingImportHandler.class);
+        when(importHandler.getSheetName()).thenReturn(SHEET_NAME);
+        when(importHandler.getPrimaryColumn()).thenReturn(0);
+        when(importHandler.getStatusColumn()).thenReturn(STATUS_COLUMN);
+        when(importHandler.getLookupSheetNames()).thenReturn(Set.of(TemplatePopulateImportConstants.EXTRAS_SHEET_NAME));
+        when(importHandler.readRow(any(ImportRow.class), any(ImportLookupSheets.class), anyString(), anyString()))
+                .thenAnswer(invocation -> readRow(invocation.getArgument(0), invocation.getArgument(1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void rowsAreImportedAndTheirStatusIsWrittenIntoTheOutput() throws IOException {
+        Path content = createWorkbook();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        StreamingBulkImportService.StreamingImportResult result = underTest.process(importHandler, content, "en", "dd MMMM yyyy", output);
+
+        assertEquals(6, result.totalRecords());
+        assertEquals(3, result.successCount());
+        assertEquals(2, result.errorCount());
+        assertEquals(List.of("L1-1", "L1-6"), executedRows.stream().filter(row -> row.startsWith("L1")).toList());
+        assertEquals(List.of(1L, 1L, 1L, 1L, 1L), paymentTypeIds);
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(output.toByteArray()))) {
+            Sheet sheet = workbook.getSheet(SHEET_NAME);
+            assertEquals(TemplatePopulateImportConstants.STATUS_COL_REPORT_HEADER, status(sheet, 0));
+            assertEquals(TemplatePopulateImportConstants.STATUS_CELL_IMPORTED, status(sheet, 1));
+            assertEquals(TemplatePopulateImportConstants.STATUS_CELL_IMPORTED, status(sheet, 2));
+            assertEquals("Invalid amount", status(sheet, 3));
+            assertEquals("Loan is closed", status(sheet, 4));
+            assertEquals(TemplatePopulateImportConstants.STATUS_CELL_IMPORTED, status(sheet, 5));
+            assertEquals(TemplatePopulateImportConstants.STATUS_CELL_IMPORTED, status(sheet, 6));
+            assertNull(status(sheet, 8));
+            assertEquals("L4", sheet.getRow(8).getCell(0).getStringCellValue());
+            assertEquals("Cash", workbook.getSheet(TemplatePopulateImportConstants.EXTRAS_SHEET_NAME).getRow(1).getCell(1)
+                    .getStringCellValue());
+        }
+    }
+
+    @Test
+    void onlyLoanAndSavingsTransactionsAreStreamed() {
+        assertTrue(underTest.isStreaming(GlobalEntityType.LOAN_TRANSACTIONS));
+        assertTrue(underTest.isStreaming(GlobalEntityType.SAVINGS_TRANSACTIONS));
+        assertFalse(underTest.isStreaming(GlobalEntityType.CLIENTS_PERSON));
+    }
+
+    private ImportRowCommand readRow(ImportRow row, ImportLookupSheets lookupSheets) {
+        paymentTypeIds.add(lookupSheets.getIdByName(TemplatePopulateImportConstants.EXTRAS_SHEET_NAME, "Cash"));
+        String account = row.readAsString(0);
+        double amount = row.readAsDouble(1);
+        if (amount < 0) {
+            throw new IllegalArgumentException("Invalid amount");
+        }
+        return new ImportRowCommand(account, () -> {
+            if ("L3".equals(account)) {
+                throw new IllegalStateException("Loan is closed");
+            }
+            executedRows.add(account + "-" + row.getRowIndex());
+        });
+    }
+
+    private Path createWorkbook() throws IOException {
+        Path file = tempDir.resolve("repayments.xlsx");
+        try (Workbook workbook = new XSSFWorkbook(); OutputStream outputStream = Files.newOutputStream(file)) {
+            Sheet sheet = workbook.createSheet(SHEET_NAME);
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Account");
+            header.createCell(1).setCellValue("Amount");
+            addRow(sheet, 1, "L1", 10);
+            addRow(sheet, 2, "L2", 20);
+            addRow(sheet, 3, "L1", -1);
+            addRow(sheet, 4, "L3", 40);
+            addRow(sheet, 5, "L2", 50).createCell(STATUS_COLUMN).setCellValue(TemplatePopulateImportConstants.STATUS_CELL_IMPORTED);
+            addRow(sheet, 6, "L1", 60);
+            sheet.createRow(7).createCell(1).setCellValue(70);
+            addRow(sheet, 8, "L4", 80);
+
+            Sheet extras = workbook.createSheet(TemplatePopulateImportConstants.EXTRAS_SHEET_NAME);
+            extras.createRow(0).createCell(1).setCellValue("Payment Type");
+            Row cash = extras.createRow(1);
+            cash.createCell(0).setCellValue(1);
+            cash.createCell(1).setCellValue("Cash");
+            workbook.write(outputStream);
+        }
+        return file;
+    }
+
+    private static Row addRow(Sheet sheet, int rowIndex, String account, double amount) {
+        Row row = sheet.createRow(rowIndex);
+        row.createCell(0).setCellValue(account);
+        row.createCell(1).setCellValue(amount);
+        return row;
+    }
+
+    private static String status(Sheet sheet, int rowIndex) {
+        Row row = sheet.getRow(rowIndex);
+        return row == null || row.getCell(STATUS_COLUMN) == null ? null : row.getCell(STATUS_COLUMN).getStringCellValue();
+    }
+}
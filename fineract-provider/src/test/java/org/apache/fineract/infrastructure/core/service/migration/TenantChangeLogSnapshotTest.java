@@ -0,0 +1,131 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service.migration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import liquibase.changelog.ChangeSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TenantChangeLogSnapshotTest {
+
+    private static final String FILE = "db/changelog/tenant/parts/0001_initial_schema.xml";
+
+    private final Map<ChangeSet, String> checkSums = new LinkedHashMap<>();
+    private TenantChangeLogSnapshot underTest;
+
+    @BeforeEach
+    void setUp() {
+        checkSums.put(changeSet("1", false, null), "9:aaa");
+        checkSums.put(changeSet("2", false, null), "9:bbb");
+        underTest = new TenantChangeLogSnapshot(checkSums, "DATABASECHANGELOG");
+    }
+
+    @Test
+    void upToDateWhenEveryChangeSetIsAppliedWithTheSameCheckSum() throws SQLException {
+        DataSource dataSource = dataSource(row("1", FILE, "9:aaa"), row("2", FILE, "9:bbb"));
+
+        assertTrue(underTest.isUpToDate(dataSource, List.of("tenant_db", "custom_changelog")));
+    }
+
+    @Test
+    void notUpToDateWhenANewChangeSetWasAdded() throws SQLException {
+        checkSums.put(changeSet("3", false, null), "9:ccc");
+        DataSource dataSource = dataSource(row("1", FILE, "9:aaa"), row("2", FILE, "9:bbb"));
+
+        assertFalse(underTest.isUpToDate(dataSource, List.of("tenant_db")));
+    }
+
+    @Test
+    void notUpToDateWhenAnAppliedChangeSetHasChanged() throws SQLException {
+        DataSource dataSource = dataSource(row("1", FILE, "9:aaa"), row("2", FILE, "9:changed"));
+
+        assertFalse(underTest.isUpToDate(dataSource, List.of("tenant_db")));
+    }
+
+    @Test
+    void notUpToDateWhenAChangeSetRunsAlways() throws SQLException {
+        checkSums.put(changeSet("3", true, null), "9:ccc");
+        DataSource dataSource = dataSource(row("1", FILE, "9:aaa"), row("2", FILE, "9:bbb"), row("3", FILE, "9:ccc"));
+
+        assertFalse(underTest.isUpToDate(dataSource, List.of("tenant_db")));
+    }
+
+    @Test
+    void changeSetsOfOtherContextsAreIgnored() throws SQLException {
+        checkSums.put(changeSet("3", false, "initial_switch"), "9:ccc");
+        DataSource dataSource = dataSource(row("1", FILE, "9:aaa"), row("2", FILE, "9:bbb"));
+
+        assertTrue(underTest.isUpToDate(dataSource, List.of("tenant_db")));
+    }
+
+    @Test
+    void classpathPrefixOfTheAppliedFileNameIsIgnored() throws SQLException {
+        DataSource dataSource = dataSource(row("1", "classpath:/" + FILE, "9:aaa"), row("2", "classpath:/" + FILE, "9:bbb"));
+
+        assertTrue(underTest.isUpToDate(dataSource, List.of("tenant_db")));
+    }
+
+    @Test
+    void notUpToDateWhenTheChangeLogTableCannotBeRead() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenThrow(new SQLException("table does not exist"));
+
+        assertFalse(underTest.isUpToDate(dataSource, List.of("tenant_db")));
+    }
+
+    private static ChangeSet changeSet(String id, boolean alwaysRun, String contexts) {
+        return new ChangeSet(id, "fineract", alwaysRun, false, FILE, contexts, null, null);
+    }
+
+    private static String[] row(String id, String fileName, String checkSum) {
+        return new String[] { id, "fineract", fileName, checkSum };
+    }
+
+    private static DataSource dataSource(String[]... rows) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        AtomicInteger index = new AtomicInteger(-1);
+        when(resultSet.next()).thenAnswer(invocation -> index.incrementAndGet() < rows.length);
+        when(resultSet.getString("ID")).thenAnswer(invocation -> rows[index.get()][0]);
+        when(resultSet.getString("AUTHOR")).thenAnswer(invocation -> rows[index.get()][1]);
+        when(resultSet.getString("FILENAME")).thenAnswer(invocation -> rows[index.get()][2]);
+        when(resultSet.getString("MD5SUM")).thenAnswer(invocation -> rows[index.get()][3]);
+        return dataSource;
+    }
+}
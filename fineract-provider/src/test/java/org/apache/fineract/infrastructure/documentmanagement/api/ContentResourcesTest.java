@@ -0,0 +1,182 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.documentmanagement.api;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.io.ByteSource;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.fineract.infrastructure.documentmanagement.data.FileData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ContentResourcesTest {
+
+    private static final String CONTENT = "0123456789";
+
+    @TempDir
+    Path directory;
+
+    private final Request request = mock(Request.class);
+    private final HttpHeaders headers = mock(HttpHeaders.class);
+    private File file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.writeString(directory.resolve("document.txt"), CONTENT).toFile();
+    }
+
+    @Test
+    void parseRangeReadsSingleByteRanges() {
+        assertArrayEquals(new long[] { 0, 4 }, ContentResources.parseRange("bytes=0-4", 10));
+        assertArrayEquals(new long[] { 5, 9 }, ContentResources.parseRange("bytes=5-", 10));
+        assertArrayEquals(new long[] { 7, 9 }, ContentResources.parseRange("bytes=-3", 10));
+        assertArrayEquals(new long[] { 0, 9 }, ContentResources.parseRange("bytes=-30", 10));
+        assertArrayEquals(new long[] { 8, 9 }, ContentResources.parseRange("bytes=8-100", 10));
+    }
+
+    @Test
+    void parseRangeIgnoresUnsupportedRanges() {
+        assertArrayEquals(new long[0], ContentResources.parseRange("items=0-4", 10));
+        assertArrayEquals(new long[0], ContentResources.parseRange("bytes=0-1,4-5", 10));
+        assertArrayEquals(new long[0], ContentResources.parseRange("bytes=4", 10));
+        assertArrayEquals(new long[0], ContentResources.parseRange("bytes=a-b", 10));
+    }
+
+    @Test
+    void parseRangeRejectsUnsatisfiableRanges() {
+        assertNull(ContentResources.parseRange("bytes=10-", 10));
+        assertNull(ContentResources.parseRange("bytes=5-4", 10));
+        assertNull(ContentResources.parseRange("bytes=-0", 10));
+    }
+
+    @Test
+    void wholeFileIsStreamedWithValidators() throws IOException {
+        Response response = ContentResources.fileDataToResponse(fileData(), "attachment", request, headers);
+
+        assertEquals(200, response.getStatus());
+        assertEquals(ContentResources.entityTag(file), response.getEntityTag());
+        assertEquals("bytes", response.getHeaderString(HttpHeaders.ACCEPT_RANGES));
+        assertEquals("10", response.getHeaderString(HttpHeaders.CONTENT_LENGTH));
+        assertEquals(CONTENT, body(response));
+    }
+
+    @Test
+    void matchingIfNoneMatchAnswersNotModified() {
+        when(request.evaluatePreconditions(any(EntityTag.class))).thenReturn(Response.notModified());
+
+        Response response = ContentResources.fileDataToResponse(fileData(), "attachment", request, headers);
+
+        assertEquals(304, response.getStatus());
+        assertEquals(ContentResources.entityTag(file), response.getEntityTag());
+        assertNull(response.getEntity());
+    }
+
+    @Test
+    void rangeIsServedAsPartialContent() throws IOException {
+        when(headers.getHeaderString(HttpHeaders.RANGE)).thenReturn("bytes=2-5");
+
+        Response response = ContentResources.fileDataToResponse(fileData(), "attachment", request, headers);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 2-5/10", response.getHeaderString(HttpHeaders.CONTENT_RANGE));
+        assertEquals("4", response.getHeaderString(HttpHeaders.CONTENT_LENGTH));
+        assertEquals("2345", body(response));
+    }
+
+    @Test
+    void rangeIsServedWhenIfRangeMatches() throws IOException {
+        when(headers.getHeaderString(HttpHeaders.RANGE)).thenReturn("bytes=-2");
+        when(headers.getHeaderString(HttpHeaders.IF_RANGE)).thenReturn(ContentResources.entityTag(file).toString());
+
+        Response response = ContentResources.fileDataToResponse(fileData(), "attachment", request, headers);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("89", body(response));
+    }
+
+    @Test
+    void wholeFileIsServedWhenIfRangeDoesNotMatch() throws IOException {
+        when(headers.getHeaderString(HttpHeaders.RANGE)).thenReturn("bytes=2-5");
+        when(headers.getHeaderString(HttpHeaders.IF_RANGE)).thenReturn("\"outdated\"");
+
+        Response response = ContentResources.fileDataToResponse(fileData(), "attachment", request, headers);
+
+        assertEquals(200, response.getStatus());
+        assertEquals(CONTENT, body(response));
+    }
+
+    @Test
+    void wholeFileIsServedWhenIfRangeIsADate() throws IOException {
+        when(headers.getHeaderString(HttpHeaders.RANGE)).thenReturn("bytes=2-5");
+        when(headers.getHeaderString(HttpHeaders.IF_RANGE)).thenReturn("Wed, 21 Oct 2015 07:28:00 GMT");
+
+        Response response = ContentResources.fileDataToResponse(fileData(), "attachment", request, headers);
+
+        assertEquals(200, response.getStatus());
+        assertEquals(CONTENT, body(response));
+    }
+
+    @Test
+    void unsatisfiableRangeIsRejected() {
+        when(headers.getHeaderString(HttpHeaders.RANGE)).thenReturn("bytes=20-");
+
+        Response response = ContentResources.fileDataToResponse(fileData(), "attachment", request, headers);
+
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */10", response.getHeaderString(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void contentWithoutFileIsServedWithoutValidators() {
+        FileData fileData = new FileData(ByteSource.wrap(CONTENT.getBytes(StandardCharsets.UTF_8)), "document.txt", "text/plain");
+
+        Response response = ContentResources.fileDataToResponse(fileData, "attachment", request, headers);
+
+        assertEquals(200, response.getStatus());
+        assertNull(response.getEntityTag());
+        assertEquals("10", response.getHeaderString(HttpHeaders.CONTENT_LENGTH));
+    }
+
+    private FileData fileData() {
+        return new FileData(file, "document.txt", "text/plain");
+    }
+
+    private static String body(Response response) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.documentmanagement.contentrepository;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import org.apache.fineract.infrastructure.documentmanagement.exception.ContentManagementException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ContentRepositoryUtilsTest {
+
+    private static final int LIMIT = (ContentRepository.MAX_FILE_UPLOAD_SIZE_IN_MB + 1) * 1024 * 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void uploadWithinTheLimitIsReadInFull() throws IOException {
+        byte[] content = new byte[LIMIT - 1];
+
+        try (InputStream limited = ContentRepositoryUtils.limitToPermissibleSize(new ByteArrayInputStream(content), "file.pdf")) {
+            assertEquals(content.length, limited.readAllBytes().length);
+        }
+    }
+
+    @Test
+    void uploadOverTheLimitFailsWhileReading() {
+        InputStream limited = ContentRepositoryUtils.limitToPermissibleSize(new ByteArrayInputStream(new byte[LIMIT + 1]), "file.pdf");
+
+        assertThrows(ContentManagementException.class, limited::readAllBytes);
+    }
+
+    @Test
+    void uploadOverTheLimitFailsWhenReadByteByByte() throws IOException {
+        InputStream limited = ContentRepositoryUtils.limitToPermissibleSize(new ByteArrayInputStream(new byte[LIMIT + 1]), "file.pdf");
+        for (int i = 0; i < LIMIT - 1; i++) {
+            limited.read();
+        }
+
+        assertThrows(ContentManagementException.class, limited::read);
+    }
+
+    @Test
+    void writeAtomicallyReplacesTheTarget() throws IOException {
+        Path target = Files.writeString(directory.resolve("file.pdf"), "old");
+
+        ContentRepositoryUtils.writeAtomically(new ByteArrayInputStream("new".getBytes(StandardCharsets.UTF_8)), target);
+
+        assertEquals("new", Files.readString(target));
+        assertEquals(List.of(target), files());
+    }
+
+    @Test
+    void failedWriteLeavesNoPartialFile() throws IOException {
+        Path target = directory.resolve("file.pdf");
+        InputStream oversized = ContentRepositoryUtils.limitToPermissibleSize(new ByteArrayInputStream(new byte[LIMIT + 1]), "file.pdf");
+
+        assertThrows(ContentManagementException.class, () -> ContentRepositoryUtils.writeAtomically(oversized, target));
+
+        assertFalse(Files.exists(target));
+        assertEquals(List.of(), files());
+    }
+
+    @Test
+    void failedWriteKeepsThePreviousContent() throws IOException {
+        Path target = Files.writeString(directory.resolve("file.pdf"), "old");
+        InputStream failing = new InputStream() {
+
+            private int remaining = 3;
+
+            @Override
+            public int read() throws IOException {
+                if (remaining-- > 0) {
+                    return 'x';
+                }
+                throw new IOException("connection reset");
+            }
+        };
+
+        assertThrows(IOException.class, () -> ContentRepositoryUtils.writeAtomically(failing, target));
+
+        assertArrayEquals("old".getBytes(StandardCharsets.UTF_8), Files.readAllBytes(target));
+        assertEquals(List.of(target), files());
+    }
+
+    private List<Path> files() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.toList();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.documentmanagement.contentrepository;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import javax.imageio.ImageIO;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.documentmanagement.exception.ContentManagementException;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.tika.io.TikaInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileSystemContentPathSanitizerTest {
+
+    @TempDir
+    Path rootFolder;
+
+    private FileSystemContentPathSanitizer underTest;
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        FineractProperties.FineractContentFilesystemProperties filesystem = new FineractProperties.FineractContentFilesystemProperties();
+        filesystem.setRootFolder(rootFolder.toString());
+        FineractProperties.FineractContentProperties content = new FineractProperties.FineractContentProperties();
+        content.setFilesystem(filesystem);
+        content.setRegexWhitelistEnabled(true);
+        content.setRegexWhitelist(
+                List.of(".*\\.pdf$", ".*\\.doc", ".*\\.docx", ".*\\.xls", ".*\\.xlsx", ".*\\.jpg", ".*\\.jpeg", ".*\\.png"));
+        content.setMimeWhitelistEnabled(true);
+        content.setMimeWhitelist(List.of("application/pdf", "application/msword",
+                "application/vnd.openxmlformats-officedocument.wordprocessingml.document", "application/vnd.ms-excel",
+                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "image/jpeg", "image/png"));
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setContent(content);
+        underTest = new FileSystemContentPathSanitizer(fineractProperties);
+        underTest.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void pdfIsAccepted() throws IOException {
+        assertAccepted("document.pdf", "%PDF-1.4\n1 0 obj\n<<>>\nendobj\ntrailer\n<<>>\n%%EOF\n".getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void docIsAccepted() throws IOException {
+        try (POIFSFileSystem fileSystem = new POIFSFileSystem(); ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+            fileSystem.createDocument(new ByteArrayInputStream(new byte[512]), "WordDocument");
+            fileSystem.writeFilesystem(output);
+            assertAccepted("document.doc", output.toByteArray());
+        }
+    }
+
+    @Test
+    void docxIsAccepted() throws IOException {
+        try (XWPFDocument document = new XWPFDocument(); ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+            document.createParagraph().createRun().setText("content");
+            document.write(output);
+            assertAccepted("document.docx", output.toByteArray());
+        }
+    }
+
+    @Test
+    void xlsIsAccepted() throws IOException {
+        assertAccepted("document.xls", workbook(new HSSFWorkbook()));
+    }
+
+    @Test
+    void xlsxIsAccepted() throws IOException {
+        assertAccepted("document.xlsx", workbook(new XSSFWorkbook()));
+    }
+
+    @Test
+    void jpegIsAccepted() throws IOException {
+        assertAccepted("image.jpg", image("jpg"));
+        assertAccepted("image.jpeg", image("jpg"));
+    }
+
+    @Test
+    void pngIsAccepted() throws IOException {
+        assertAccepted("image.png", image("png"));
+    }
+
+    @Test
+    void contentNotMatchingTheFileNameIsRejected() throws IOException {
+        byte[] png = image("png");
+
+        assertThrows(ContentManagementException.class, () -> sanitize("image.pdf", png));
+    }
+
+    @Test
+    void fileNameOutsideTheWhitelistIsRejected() {
+        assertThrows(ContentManagementException.class, () -> sanitize("script.sh", "#!/bin/sh".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void pathOutsideTheTenantFolderIsRejected() {
+        assertThrows(ContentManagementException.class, () -> underTest.sanitize(rootFolder.resolve("other/../../image.png").toString()));
+    }
+
+    /**
+     * Sanitizes the upload and checks it can still be read in full afterwards, as the repository writes it out from the
+     * same stream.
+     */
+    private void assertAccepted(String fileName, byte[] content) throws IOException {
+        try (TikaInputStream tis = TikaInputStream.get(new ByteArrayInputStream(content))) {
+            String path = uploadPath(fileName);
+            assertEquals(Path.of(path).normalize().toString(), underTest.sanitize(path, tis));
+            assertArrayEquals(content, tis.readAllBytes());
+        }
+    }
+
+    private String sanitize(String fileName, byte[] content) throws IOException {
+        try (TikaInputStream tis = TikaInputStream.get(new ByteArrayInputStream(content))) {
+            return underTest.sanitize(uploadPath(fileName), tis);
+        }
+    }
+
+    private String uploadPath(String fileName) {
+        return rootFolder.resolve("default").resolve("documents").resolve("clients").resolve("1").resolve(fileName).toString();
+    }
+
+    private static byte[] workbook(Workbook workbook) throws IOException {
+        try (workbook; ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+            workbook.createSheet("sheet").createRow(0).createCell(0).setCellValue("content");
+            workbook.write(output);
+            return output.toByteArray();
+        }
+    }
+
+    private static byte[] image(String format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(2, 2, BufferedImage.TYPE_INT_RGB), format, output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,161 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.documentmanagement.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.io.ByteSource;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ImageRenditionCacheTest {
+
+    private static final String ENTITY = "clients";
+    private static final Long ENTITY_ID = 1L;
+
+    @TempDir
+    Path rootFolder;
+
+    @Mock
+    private ImageResizer imageResizer;
+
+    private FineractProperties.FineractContentRenditionCacheProperties renditionCache;
+    private ImageRenditionCache underTest;
+    private FileData image;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        FineractProperties.FineractContentFilesystemProperties filesystem = new FineractProperties.FineractContentFilesystemProperties();
+        filesystem.setRootFolder(rootFolder.toString());
+        renditionCache = new FineractProperties.FineractContentRenditionCacheProperties();
+        renditionCache.setEnabled(true);
+        renditionCache.setMaxRenditionsPerImage(8);
+        FineractProperties.FineractContentProperties content = new FineractProperties.FineractContentProperties();
+        content.setFilesystem(filesystem);
+        content.setRenditionCache(renditionCache);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setContent(content);
+        underTest = new ImageRenditionCache(fineractProperties, imageResizer);
+
+        File source = Files.writeString(rootFolder.resolve("image.png"), "original").toFile();
+        image = new FileData(source, "image.png", "image/png");
+        when(imageResizer.resize(any(), anyInt(), any())).thenAnswer(invocation -> resized(invocation.getArgument(1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void renditionIsResizedOnceAndThenServedFromDisk() throws IOException {
+        FileData first = underTest.resize(ENTITY, ENTITY_ID, image, 100, 50);
+        FileData second = underTest.resize(ENTITY, ENTITY_ID, image, 100, 50);
+
+        verify(imageResizer, times(1)).resize(image, 100, 50);
+        assertNotNull(first.getFile());
+        assertEquals(first.getFile(), second.getFile());
+        assertArrayEquals("resized-100".getBytes(StandardCharsets.UTF_8), second.getByteSource().read());
+        assertEquals("image.png", second.name());
+        assertEquals("image/png", second.contentType());
+    }
+
+    @Test
+    void replacedSourceGetsNewRendition() throws IOException {
+        FileData first = underTest.resize(ENTITY, ENTITY_ID, image, 100, null);
+        Files.writeString(image.getFile().toPath(), "replaced image");
+        FileData second = underTest.resize(ENTITY, ENTITY_ID, image, 100, null);
+
+        assertNotEquals(first.getFile(), second.getFile());
+        verify(imageResizer, times(2)).resize(image, 100, null);
+    }
+
+    @Test
+    void oldestRenditionsAreDroppedBeyondTheLimit() {
+        renditionCache.setMaxRenditionsPerImage(2);
+        File first = underTest.resize(ENTITY, ENTITY_ID, image, 100, null).getFile();
+        assertTrue(first.setLastModified(1_000_000L));
+        File second = underTest.resize(ENTITY, ENTITY_ID, image, 200, null).getFile();
+        assertTrue(second.setLastModified(2_000_000L));
+
+        File third = underTest.resize(ENTITY, ENTITY_ID, image, 300, null).getFile();
+
+        assertFalse(first.exists());
+        assertTrue(second.isFile());
+        assertTrue(third.isFile());
+        assertEquals(2, third.getParentFile().listFiles().length);
+    }
+
+    @Test
+    void evictDropsAllRenditionsOfTheImage() {
+        File rendition = underTest.resize(ENTITY, ENTITY_ID, image, 100, null).getFile();
+
+        underTest.evict(ENTITY, ENTITY_ID);
+
+        assertFalse(rendition.exists());
+        assertFalse(rendition.getParentFile().exists());
+    }
+
+    @Test
+    void disabledCacheOrMissingWidthResizesEveryTime() {
+        FileData original = new FileData(ByteSource.wrap(new byte[0]), "image.png", "image/png");
+        when(imageResizer.resize(image, null, null)).thenReturn(original);
+
+        assertSame(original, underTest.resize(ENTITY, ENTITY_ID, image, null, null));
+        renditionCache.setEnabled(false);
+        assertNull(underTest.resize(ENTITY, ENTITY_ID, image, 100, null).getFile());
+        assertNull(underTest.resize(ENTITY, ENTITY_ID, image, 100, null).getFile());
+
+        verify(imageResizer, times(2)).resize(image, 100, null);
+    }
+
+    private static FileData resized(Integer width) {
+        return new FileData(ByteSource.wrap(("resized-" + width).getBytes(StandardCharsets.UTF_8)), "image.png", "image/png");
+    }
+}
@@ -19,6 +19,7 @@
 package org.apache.fineract.infrastructure.event.external.jobs;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -35,6 +36,7 @@ import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
+import org.apache.fineract.infrastructure.jobs.service.ChunkedPurgeService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -55,6 +57,8 @@ public class PurgeExternalEventsTaskletTest {
     @Mock
     private ConfigurationDomainService configurationDomainService;
     @Mock
+    private ChunkedPurgeService chunkedPurgeService;
+    @Mock
     private StepContribution stepContribution;
     @Mock
     private ChunkContext chunkContext;
@@ -67,7 +71,7 @@ public class PurgeExternalEventsTaskletTest {
         ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
         ThreadLocalContextUtil
                 .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
-        underTest = new PurgeExternalEventsTasklet(repository, configurationDomainService);
+        underTest = new PurgeExternalEventsTasklet(repository, configurationDomainService, chunkedPurgeService);
     }
 
     @AfterEach
@@ -101,4 +105,15 @@ public class PurgeExternalEventsTaskletTest {
         // then
         assertEquals(RepeatStatus.FINISHED, resultStatus);
     }
+
+    @Test
+    public void givenChunkedPurgeEnabledWhenChunkFailsThenStepFails() {
+        // given
+        when(configurationDomainService.retrieveExternalEventsPurgeDaysCriteria()).thenReturn(2L);
+        when(chunkedPurgeService.isEnabled()).thenReturn(true);
+        when(chunkedPurgeService.purgeNextChunk(Mockito.any(), Mockito.any(), Mockito.eq(stepContribution)))
+                .thenThrow(new RuntimeException("Test Exception"));
+        // when / then
+        assertThrows(RuntimeException.class, () -> underTest.execute(stepContribution, chunkContext));
+    }
 }
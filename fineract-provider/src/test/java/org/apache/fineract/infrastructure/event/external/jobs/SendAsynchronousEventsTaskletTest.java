@@ -108,8 +108,10 @@ class SendAsynchronousEventsTaskletTest {
         FineractProperties.FineractExternalEventsProperties externalProperties = new FineractProperties.FineractExternalEventsProperties();
         FineractProperties.FineractExternalEventsProducerProperties externalEventsProducerProperties = new FineractProperties.FineractExternalEventsProducerProperties();
         FineractProperties.FineractExternalEventsProducerJmsProperties externalEventsProducerJMSProperties = new FineractProperties.FineractExternalEventsProducerJmsProperties();
+        FineractProperties.FineractExternalEventsRelayProperties externalEventsRelayProperties = new FineractProperties.FineractExternalEventsRelayProperties();
         externalEventsProducerJMSProperties.setEnabled(true);
         externalProperties.setEnabled(true);
+        externalProperties.setRelay(externalEventsRelayProperties);
         externalEventsProducerProperties.setJms(externalEventsProducerJMSProperties);
         externalProperties.setProducer(externalEventsProducerProperties);
         eventsProperties.setExternal(externalProperties);
@@ -209,6 +211,18 @@ class SendAsynchronousEventsTaskletTest {
         assertThat(externalEventPageSizeArgumentCaptor.getValue().getPageSize()).isEqualTo(10);
     }
 
+    @Test
+    public void givenRelayIsEnabledWhenTaskExecutionThenEventsAreLeftToTheRelay() {
+        // given
+        fineractProperties.getEvents().getExternal().getRelay().setEnabled(true);
+        // when
+        resultStatus = underTest.execute(stepContribution, chunkContext);
+        // then
+        verify(repository, times(0)).findByStatusOrderById(Mockito.any(), Mockito.any());
+        verify(eventProducer, times(0)).sendEvents(Mockito.any());
+        assertEquals(RepeatStatus.FINISHED, resultStatus);
+    }
+
     private ExternalEventView createExternalEventView(String type, String category, String schema, byte[] data, String idempotencyKey,
             Long aggregateRootId) {
         ExternalEventView result = Mockito.mock(ExternalEventView.class);
@@ -0,0 +1,164 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.relay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.tenant.TenantDetailsService;
+import org.apache.fineract.infrastructure.event.external.jobs.SendAsynchronousEventsTasklet;
+import org.apache.fineract.infrastructure.event.external.service.ExternalEventRelaySignal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ExternalEventRelayTest {
+
+    private static final FineractPlatformTenant TENANT = new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null);
+
+    @Mock
+    private FineractProperties fineractProperties;
+    @Mock
+    private ExternalEventRelaySignal relaySignal;
+    @Mock
+    private SendAsynchronousEventsTasklet sender;
+    @Mock
+    private TenantDetailsService tenantDetailsService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private PostgreSQLExternalEventListener postgreSQLListener;
+
+    private final List<Integer> requestedBatchSizes = new ArrayList<>();
+    private final Deque<Integer> sentCounts = new ArrayDeque<>();
+    private TransactionTemplate transactionTemplate;
+    private ExternalEventRelay underTest;
+
+    @BeforeEach
+    public void setUp() {
+        FineractProperties.FineractExternalEventsRelayProperties relayProperties;
+        relayProperties = new FineractProperties.FineractExternalEventsRelayProperties();
+        relayProperties.setEnabled(true);
+        relayProperties.setMaxBatchSize(40);
+        FineractProperties.FineractExternalEventsProperties externalProperties = new FineractProperties.FineractExternalEventsProperties();
+        externalProperties.setRelay(relayProperties);
+        FineractProperties.FineractEventsProperties eventsProperties = new FineractProperties.FineractEventsProperties();
+        eventsProperties.setExternal(externalProperties);
+        when(fineractProperties.getEvents()).thenReturn(eventsProperties);
+
+        when(sender.isDownstreamChannelEnabled()).thenReturn(true);
+        when(sender.getBatchSize()).thenReturn(10);
+        when(sender.sendQueuedEvents(anyInt())).thenAnswer(invocation -> {
+            requestedBatchSizes.add(invocation.getArgument(0));
+            return sentCounts.isEmpty() ? 0 : sentCounts.poll();
+        });
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        underTest = new ExternalEventRelay(fineractProperties, relaySignal, sender, tenantDetailsService, transactionManager,
+                postgreSQLListener);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testRelayDoublesBatchSizeUpToMaximumWhileBatchesComeBackFull() {
+        // given
+        sentCounts.addAll(List.of(10, 20, 40, 40, 5));
+        // when
+        underTest.relay(TENANT, transactionTemplate);
+        // then
+        assertEquals(List.of(10, 20, 40, 40, 40), requestedBatchSizes);
+    }
+
+    @Test
+    public void testRelayHalvesBatchSizeAfterBacklogIsDrained() {
+        // given
+        sentCounts.addAll(List.of(10, 20, 40, 5, 3, 2));
+        // when
+        underTest.relay(TENANT, transactionTemplate);
+        underTest.relay(TENANT, transactionTemplate);
+        underTest.relay(TENANT, transactionTemplate);
+        // then
+        assertEquals(List.of(10, 20, 40, 40, 20, 10), requestedBatchSizes);
+    }
+
+    @Test
+    public void testRelayKeepsBatchSizePerTenant() {
+        // given
+        FineractPlatformTenant otherTenant = new FineractPlatformTenant(2L, "other", "Other", "Asia/Kolkata", null);
+        sentCounts.addAll(List.of(10, 20, 5, 1));
+        // when
+        underTest.relay(TENANT, transactionTemplate);
+        underTest.relay(otherTenant, transactionTemplate);
+        // then
+        assertEquals(List.of(10, 20, 40, 10), requestedBatchSizes);
+    }
+
+    @Test
+    public void testRelayStopsWhenThreadIsInterrupted() {
+        // given
+        sentCounts.addAll(List.of(10, 20, 40));
+        Thread.currentThread().interrupt();
+        try {
+            // when
+            underTest.relay(TENANT, transactionTemplate);
+        } finally {
+            Thread.interrupted();
+        }
+        // then
+        assertEquals(List.of(), requestedBatchSizes);
+    }
+
+    @Test
+    public void testRelaySkipsTenantWithoutDownstreamChannel() {
+        // given
+        when(sender.isDownstreamChannelEnabled()).thenReturn(false);
+        // when
+        underTest.relay(TENANT, transactionTemplate);
+        // then
+        verify(sender, never()).sendQueuedEvents(anyInt());
+        assertNull(ThreadLocalContextUtil.getTenant());
+    }
+}
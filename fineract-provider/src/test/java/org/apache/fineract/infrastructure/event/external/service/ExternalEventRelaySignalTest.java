@@ -0,0 +1,213 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseTypeResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ExternalEventRelaySignalTest {
+
+    @Mock
+    private FineractProperties fineractProperties;
+    @Mock
+    private DatabaseTypeResolver databaseTypeResolver;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private FineractProperties.FineractExternalEventsRelayProperties relayProperties;
+    private ExternalEventRelaySignal underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        relayProperties = new FineractProperties.FineractExternalEventsRelayProperties();
+        relayProperties.setEnabled(true);
+        FineractProperties.FineractExternalEventsProperties externalProperties = new FineractProperties.FineractExternalEventsProperties();
+        externalProperties.setRelay(relayProperties);
+        FineractProperties.FineractEventsProperties eventsProperties = new FineractProperties.FineractEventsProperties();
+        eventsProperties.setExternal(externalProperties);
+        when(fineractProperties.getEvents()).thenReturn(eventsProperties);
+        underTest = new ExternalEventRelaySignal(fineractProperties, databaseTypeResolver, jdbcTemplate);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(underTest);
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testEventPostedDoesNothingWhenRelayIsDisabled() throws InterruptedException {
+        // given
+        relayProperties.setEnabled(false);
+        // when
+        underTest.eventPosted();
+        // then
+        assertTrue(underTest.awaitSignals(1L).isEmpty());
+    }
+
+    @Test
+    public void testEventPostedSignalsRightAwayOutsideOfTransaction() throws InterruptedException {
+        // when
+        underTest.eventPosted();
+        // then
+        assertEquals(Set.of("default"), underTest.awaitSignals(1L));
+    }
+
+    @Test
+    public void testEventPostedSignalsOncePerTransactionAfterCommit() throws InterruptedException {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        // when
+        underTest.eventPosted();
+        underTest.eventPosted();
+        underTest.eventPosted();
+        // then
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, synchronizations.size());
+        assertTrue(underTest.awaitSignals(1L).isEmpty());
+
+        synchronizations.get(0).beforeCommit(false);
+        assertTrue(underTest.awaitSignals(1L).isEmpty());
+
+        synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        assertEquals(Set.of("default"), underTest.awaitSignals(1L));
+        assertTrue(underTest.awaitSignals(1L).isEmpty());
+    }
+
+    @Test
+    public void testEventPostedDoesNotSignalOnRollback() throws InterruptedException {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        // when
+        underTest.eventPosted();
+        TransactionSynchronizationManager.getSynchronizations().get(0).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        // then
+        assertTrue(underTest.awaitSignals(1L).isEmpty());
+        assertFalse(TransactionSynchronizationManager.hasResource(underTest));
+    }
+
+    @Test
+    public void testEventPostedRegistersAgainInTheNextTransaction() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        underTest.eventPosted();
+        TransactionSynchronizationManager.getSynchronizations().get(0).afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+        // when
+        underTest.eventPosted();
+        // then
+        assertEquals(1, TransactionSynchronizationManager.getSynchronizations().size());
+    }
+
+    @Test
+    public void testBeforeCommitNotifiesOnPostgreSQL() {
+        // given
+        relayProperties.setPostgresNotifyEnabled(true);
+        when(databaseTypeResolver.isPostgreSQL()).thenReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+        underTest.eventPosted();
+        // when
+        TransactionSynchronizationManager.getSynchronizations().get(0).beforeCommit(false);
+        // then
+        verify(jdbcTemplate).query(eq("SELECT pg_notify(?, ?)"), any(ResultSetExtractor.class), eq(ExternalEventRelaySignal.NOTIFY_CHANNEL),
+                eq("default"));
+    }
+
+    @Test
+    public void testBeforeCommitDoesNotNotifyOnMySQL() {
+        // given
+        relayProperties.setPostgresNotifyEnabled(true);
+        when(databaseTypeResolver.isPostgreSQL()).thenReturn(false);
+        TransactionSynchronizationManager.initSynchronization();
+        underTest.eventPosted();
+        // when
+        TransactionSynchronizationManager.getSynchronizations().get(0).beforeCommit(false);
+        // then
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    public void testBeforeCommitDoesNotNotifyWhenDisabled() {
+        // given
+        when(databaseTypeResolver.isPostgreSQL()).thenReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+        underTest.eventPosted();
+        // when
+        TransactionSynchronizationManager.getSynchronizations().get(0).beforeCommit(false);
+        // then
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    public void testAwaitSignalsDrainsAllSignalledTenants() throws InterruptedException {
+        // given
+        underTest.signal("default");
+        underTest.signal("other");
+        underTest.signal("default");
+        // when
+        Set<String> signalled = underTest.awaitSignals(1L);
+        // then
+        assertEquals(Set.of("default", "other"), signalled);
+        assertTrue(underTest.awaitSignals(1L).isEmpty());
+    }
+
+    @Test
+    public void testAwaitSignalsWakesUpWhenSignalledFromAnotherThread() throws InterruptedException {
+        // given
+        Thread signaller = new Thread(() -> underTest.signal("default"));
+        // when
+        signaller.start();
+        Set<String> signalled = underTest.awaitSignals(10_000L);
+        signaller.join();
+        // then
+        assertEquals(Set.of("default"), signalled);
+    }
+}
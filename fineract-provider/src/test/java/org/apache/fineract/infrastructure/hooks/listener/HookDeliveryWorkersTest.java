@@ -0,0 +1,151 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.hooks.listener;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HookDeliveryWorkersTest {
+
+    private static final int IDLE_SECONDS = 60;
+
+    private final FineractProperties fineractProperties = new FineractProperties();
+    private final FineractProperties.FineractHookProperties properties = new FineractProperties.FineractHookProperties();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private HookDeliveryWorkers underTest;
+
+    @BeforeEach
+    void setUp() {
+        properties.setDeliveryWorkersEnabled(true);
+        properties.setDeliveryQueueCapacity(1);
+        properties.setDeliveryWorkerIdleSeconds(IDLE_SECONDS);
+        fineractProperties.setHook(properties);
+        underTest = new HookDeliveryWorkers(fineractProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        underTest.destroy();
+    }
+
+    @Test
+    void isEnabledFollowsTheProperties() {
+        assertTrue(underTest.isEnabled());
+        properties.setDeliveryWorkersEnabled(false);
+        assertFalse(underTest.isEnabled());
+        fineractProperties.setHook(null);
+        assertFalse(underTest.isEnabled());
+    }
+
+    @Test
+    void slowEndpointDoesNotDelayOtherEndpoints() throws InterruptedException {
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        underTest.submit("default:1", blockingDelivery(slowStarted));
+        assertTrue(slowStarted.await(5, TimeUnit.SECONDS));
+
+        CountDownLatch delivered = new CountDownLatch(1);
+        underTest.submit("default:2", delivered::countDown);
+
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        assertEquals(2, underTest.getWorkerCount());
+    }
+
+    @Test
+    void deliveriesOverflowingTheQueueAreDroppedAndCounted() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        underTest.submit("default:1", blockingDelivery(started));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        underTest.submit("default:1", () -> {});
+        underTest.submit("default:1", () -> {});
+        underTest.submit("default:1", () -> {});
+
+        assertEquals(2, underTest.getDroppedDeliveries());
+    }
+
+    @Test
+    void idleWorkersAreEvicted() throws InterruptedException {
+        CountDownLatch delivered = new CountDownLatch(1);
+        underTest.submit("default:1", delivered::countDown);
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+
+        for (int attempt = 0; attempt < 100 && underTest.getWorkerCount() > 0; attempt++) {
+            // the worker thread may still be finishing the delivery it just ran
+            Thread.sleep(10);
+            underTest.evictIdleWorkers(System.nanoTime() + TimeUnit.SECONDS.toNanos(2L * IDLE_SECONDS));
+        }
+
+        assertEquals(0, underTest.getWorkerCount());
+        CountDownLatch redelivered = new CountDownLatch(1);
+        underTest.submit("default:1", redelivered::countDown);
+        assertTrue(redelivered.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void busyWorkersAreNotEvicted() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        underTest.submit("default:1", blockingDelivery(started));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        underTest.evictIdleWorkers(System.nanoTime() + TimeUnit.SECONDS.toNanos(2L * IDLE_SECONDS));
+
+        assertEquals(1, underTest.getWorkerCount());
+    }
+
+    @Test
+    void recentlyUsedWorkersAreNotEvicted() throws InterruptedException {
+        CountDownLatch delivered = new CountDownLatch(1);
+        underTest.submit("default:1", delivered::countDown);
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+
+        underTest.evictIdleWorkers(System.nanoTime() + TimeUnit.SECONDS.toNanos(IDLE_SECONDS / 2));
+
+        assertEquals(1, underTest.getWorkerCount());
+    }
+
+    @Test
+    void missingHookPropertiesUseDefaults() throws InterruptedException {
+        fineractProperties.setHook(null);
+        CountDownLatch delivered = new CountDownLatch(1);
+
+        underTest.submit("default:1", delivered::countDown);
+
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+    }
+
+    private Runnable blockingDelivery(CountDownLatch started) {
+        return () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+}
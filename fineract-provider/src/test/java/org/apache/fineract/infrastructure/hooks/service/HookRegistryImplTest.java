@@ -0,0 +1,157 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.hooks.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.hooks.domain.Hook;
+import org.apache.fineract.infrastructure.hooks.domain.HookRepository;
+import org.apache.fineract.infrastructure.hooks.domain.HookResource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class HookRegistryImplTest {
+
+    @Mock
+    private HookRepository hookRepository;
+
+    private final FineractProperties fineractProperties = new FineractProperties();
+    private final FineractProperties.FineractHookProperties properties = new FineractProperties.FineractHookProperties();
+    private HookRegistryImpl underTest;
+
+    @BeforeEach
+    void setUp() {
+        useTenant("default");
+        properties.setRegistryRefreshSeconds(60);
+        fineractProperties.setHook(properties);
+        underTest = new HookRegistryImpl(hookRepository, fineractProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void hooksAreIndexedByEntityAndAction() {
+        Hook clientHook = hook(HookResource.createNewWithoutHook("CLIENT", "CREATE"),
+                HookResource.createNewWithoutHook("CLIENT", "DELETE"));
+        Hook loanHook = hook(HookResource.createNewWithoutHook("LOAN", "CREATE"));
+        when(hookRepository.findAllActiveHooks()).thenReturn(List.of(clientHook, loanHook));
+
+        assertEquals(List.of(clientHook), underTest.getHooks("CLIENT", "CREATE"));
+        assertEquals(List.of(clientHook), underTest.getHooks("CLIENT", "DELETE"));
+        assertEquals(List.of(loanHook), underTest.getHooks("LOAN", "CREATE"));
+        assertFalse(underTest.hasHooks("LOAN", "DELETE"));
+        assertTrue(underTest.hasHooks("CLIENT", "CREATE"));
+        verify(hookRepository, times(1)).findAllActiveHooks();
+    }
+
+    @Test
+    void hooksAreReloadedOnceTheRefreshIntervalPassed() {
+        properties.setRegistryRefreshSeconds(0);
+        Hook hook = hook(HookResource.createNewWithoutHook("CLIENT", "CREATE"));
+        when(hookRepository.findAllActiveHooks()).thenReturn(List.of()).thenReturn(List.of(hook));
+
+        assertFalse(underTest.hasHooks("CLIENT", "CREATE"));
+        assertTrue(underTest.hasHooks("CLIENT", "CREATE"));
+        verify(hookRepository, times(2)).findAllActiveHooks();
+    }
+
+    @Test
+    void hooksAreLoadedPerTenant() {
+        when(hookRepository.findAllActiveHooks()).thenReturn(List.of());
+
+        underTest.hasHooks("CLIENT", "CREATE");
+        useTenant("other");
+        underTest.hasHooks("CLIENT", "CREATE");
+        useTenant("default");
+        underTest.hasHooks("CLIENT", "CREATE");
+
+        verify(hookRepository, times(2)).findAllActiveHooks();
+    }
+
+    @Test
+    void invalidateWithoutTransactionReloadsOnNextEvent() {
+        when(hookRepository.findAllActiveHooks()).thenReturn(List.of());
+        underTest.hasHooks("CLIENT", "CREATE");
+
+        underTest.invalidate();
+        underTest.hasHooks("CLIENT", "CREATE");
+
+        verify(hookRepository, times(2)).findAllActiveHooks();
+    }
+
+    @Test
+    void invalidateInTransactionReloadsOnlyAfterCommit() {
+        when(hookRepository.findAllActiveHooks()).thenReturn(List.of());
+        underTest.hasHooks("CLIENT", "CREATE");
+        TransactionSynchronizationManager.initSynchronization();
+
+        underTest.invalidate();
+        underTest.hasHooks("CLIENT", "CREATE");
+        verify(hookRepository, times(1)).findAllActiveHooks();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        underTest.hasHooks("CLIENT", "CREATE");
+        verify(hookRepository, times(2)).findAllActiveHooks();
+    }
+
+    @Test
+    void missingHookPropertiesFallBackToTheDefaultRefresh() {
+        fineractProperties.setHook(null);
+        when(hookRepository.findAllActiveHooks()).thenReturn(List.of());
+
+        underTest.hasHooks("CLIENT", "CREATE");
+        underTest.hasHooks("CLIENT", "CREATE");
+
+        verify(hookRepository, times(1)).findAllActiveHooks();
+    }
+
+    private static Hook hook(HookResource... events) {
+        return new Hook().setEvents(Set.of(events));
+    }
+
+    private static void useTenant(String tenantIdentifier) {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, tenantIdentifier, tenantIdentifier, "Asia/Kolkata", null));
+    }
+}
@@ -0,0 +1,50 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.springbatch;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.fineract.infrastructure.core.exception.GeneralPlatformDomainRuleException;
+import org.apache.fineract.infrastructure.core.exception.PlatformDataIntegrityException;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.step.skip.SkipLimitExceededException;
+
+class BusinessExceptionSkipPolicyTest {
+
+    private final BusinessExceptionSkipPolicy skipPolicy = new BusinessExceptionSkipPolicy(2);
+
+    @Test
+    void testBusinessExceptionIsSkippedWithinTheLimit() {
+        assertTrue(skipPolicy.shouldSkip(new GeneralPlatformDomainRuleException("error.msg.test", "test"), 1));
+    }
+
+    @Test
+    void testBusinessExceptionOverTheLimitFailsTheStep() {
+        assertThrows(SkipLimitExceededException.class,
+                () -> skipPolicy.shouldSkip(new GeneralPlatformDomainRuleException("error.msg.test", "test"), 2));
+    }
+
+    @Test
+    void testTechnicalExceptionsAreNotSkipped() {
+        assertFalse(skipPolicy.shouldSkip(new IllegalStateException("test"), 0));
+        assertFalse(skipPolicy.shouldSkip(new PlatformDataIntegrityException("error.msg.test", "test"), 0));
+    }
+}
@@ -0,0 +1,162 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.account.jobs.executestandinginstructions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.portfolio.account.PortfolioAccountType;
+import org.apache.fineract.portfolio.account.data.PortfolioAccountData;
+import org.apache.fineract.portfolio.account.data.StandingInstructionData;
+import org.apache.fineract.portfolio.account.data.StandingInstructionDuesData;
+import org.apache.fineract.portfolio.account.domain.AccountTransferRecurrenceType;
+import org.apache.fineract.portfolio.account.domain.AccountTransferType;
+import org.apache.fineract.portfolio.account.domain.StandingInstructionType;
+import org.apache.fineract.portfolio.account.service.StandingInstructionReadPlatformService;
+import org.apache.fineract.portfolio.common.domain.PeriodFrequencyType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class StandingInstructionItemProcessorTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.parse("2024-03-15");
+
+    @Mock
+    private StandingInstructionReadPlatformService standingInstructionReadPlatformService;
+
+    private StandingInstructionItemProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        processor = new StandingInstructionItemProcessor(standingInstructionReadPlatformService, BUSINESS_DATE);
+    }
+
+    @Test
+    void testLoanDuesAreFetchedOncePerChunk() {
+        StandingInstructionData dueToday = duesInstruction(1L, 10L);
+        StandingInstructionData dueLater = duesInstruction(2L, 11L);
+        when(standingInstructionReadPlatformService.retriveLoanDuesData(anyCollection()))
+                .thenReturn(Map.of(10L, new StandingInstructionDuesData(BUSINESS_DATE, new BigDecimal("25.50")), 11L,
+                        new StandingInstructionDuesData(BUSINESS_DATE.plusDays(1), BigDecimal.TEN)));
+
+        processor.beforeChunk(null);
+        processor.afterRead(dueToday);
+        processor.afterRead(dueLater);
+        StandingInstructionTransfer transfer = processor.process(dueToday);
+        StandingInstructionTransfer notDue = processor.process(dueLater);
+
+        assertNotNull(transfer);
+        assertEquals(1L, transfer.getStandingInstructionId());
+        assertEquals(new BigDecimal("25.50"), transfer.getAccountTransferDTO().getTransactionAmount());
+        assertEquals(10L, transfer.getAccountTransferDTO().getToAccountId());
+        assertNull(notDue);
+        verify(standingInstructionReadPlatformService, times(1)).retriveLoanDuesData(List.of(10L, 11L));
+        verify(standingInstructionReadPlatformService, never()).retriveLoanDuesData(anyLong());
+    }
+
+    @Test
+    void testItemNotReadInTheChunkFallsBackToSingleLoanQuery() {
+        StandingInstructionData instruction = duesInstruction(1L, 10L);
+        when(standingInstructionReadPlatformService.retriveLoanDuesData(10L))
+                .thenReturn(new StandingInstructionDuesData(BUSINESS_DATE, BigDecimal.ONE));
+
+        processor.beforeChunk(null);
+        StandingInstructionTransfer transfer = processor.process(instruction);
+
+        assertNotNull(transfer);
+        assertEquals(BigDecimal.ONE, transfer.getAccountTransferDTO().getTransactionAmount());
+        verify(standingInstructionReadPlatformService, never()).retriveLoanDuesData(anyCollection());
+    }
+
+    @Test
+    void testPeriodicFixedInstructionDoesNotQueryDues() {
+        StandingInstructionData instruction = instruction(1L, 20L, PortfolioAccountType.SAVINGS, AccountTransferRecurrenceType.PERIODIC,
+                StandingInstructionType.FIXED);
+        when(instruction.recurrenceFrequency()).thenReturn(PeriodFrequencyType.MONTHS);
+        when(instruction.recurrenceInterval()).thenReturn(1);
+        when(instruction.recurrenceOnDay()).thenReturn(15);
+        when(instruction.validFrom()).thenReturn(LocalDate.parse("2024-01-01"));
+
+        processor.beforeChunk(null);
+        processor.afterRead(instruction);
+        StandingInstructionTransfer transfer = processor.process(instruction);
+
+        assertNotNull(transfer);
+        assertEquals(new BigDecimal("100"), transfer.getAccountTransferDTO().getTransactionAmount());
+        verify(standingInstructionReadPlatformService, never()).retriveLoanDuesData(anyCollection());
+        verify(standingInstructionReadPlatformService, never()).retriveLoanDuesData(anyLong());
+    }
+
+    @Test
+    void testInstructionWithoutDuesIsFiltered() {
+        StandingInstructionData instruction = duesInstruction(1L, 10L);
+        when(standingInstructionReadPlatformService.retriveLoanDuesData(anyCollection()))
+                .thenReturn(Map.of(10L, new StandingInstructionDuesData(null, BigDecimal.ZERO)));
+
+        processor.beforeChunk(null);
+        processor.afterRead(instruction);
+
+        assertNull(processor.process(instruction));
+        verify(standingInstructionReadPlatformService).retriveLoanDuesData(List.of(10L));
+    }
+
+    private static StandingInstructionData duesInstruction(Long id, Long loanId) {
+        return instruction(id, loanId, PortfolioAccountType.LOAN, AccountTransferRecurrenceType.AS_PER_DUES, StandingInstructionType.DUES);
+    }
+
+    private static StandingInstructionData instruction(Long id, Long toAccountId, PortfolioAccountType toAccountType,
+            AccountTransferRecurrenceType recurrenceType, StandingInstructionType instructionType) {
+        StandingInstructionData data = mock(StandingInstructionData.class);
+        PortfolioAccountData fromAccount = mock(PortfolioAccountData.class);
+        PortfolioAccountData toAccount = mock(PortfolioAccountData.class);
+        when(fromAccount.getId()).thenReturn(100L + id);
+        when(toAccount.getId()).thenReturn(toAccountId);
+        when(data.getId()).thenReturn(id);
+        when(data.name()).thenReturn("SI " + id);
+        when(data.amount()).thenReturn(new BigDecimal("100"));
+        when(data.fromAccount()).thenReturn(fromAccount);
+        when(data.toAccount()).thenReturn(toAccount);
+        when(data.fromAccountType()).thenReturn(PortfolioAccountType.SAVINGS);
+        when(data.toAccountType()).thenReturn(toAccountType);
+        when(data.recurrenceType()).thenReturn(recurrenceType);
+        when(data.instructionType()).thenReturn(instructionType);
+        when(data.transferType()).thenReturn(
+                toAccountType.isLoanAccount() ? AccountTransferType.LOAN_REPAYMENT : AccountTransferType.ACCOUNT_TRANSFER);
+        return data;
+    }
+}
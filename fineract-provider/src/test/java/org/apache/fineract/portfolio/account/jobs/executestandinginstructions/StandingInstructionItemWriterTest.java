@@ -0,0 +1,82 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.account.jobs.executestandinginstructions;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.apache.fineract.portfolio.account.data.AccountTransferDTO;
+import org.apache.fineract.portfolio.account.service.AccountTransfersWritePlatformService;
+import org.apache.fineract.portfolio.savings.exception.InsufficientAccountBalanceException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.Chunk;
+
+@ExtendWith(MockitoExtension.class)
+class StandingInstructionItemWriterTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.parse("2024-03-15");
+
+    @Mock
+    private AccountTransfersWritePlatformService accountTransfersWritePlatformService;
+    @Mock
+    private StandingInstructionHistoryRecorder historyRecorder;
+
+    @Test
+    void testTransfersAreExecutedInOrderAndRecorded() {
+        StandingInstructionTransfer first = new StandingInstructionTransfer(1L, mock(AccountTransferDTO.class));
+        StandingInstructionTransfer second = new StandingInstructionTransfer(2L, mock(AccountTransferDTO.class));
+        StandingInstructionItemWriter writer = new StandingInstructionItemWriter(accountTransfersWritePlatformService, historyRecorder,
+                BUSINESS_DATE);
+
+        writer.write(Chunk.of(first, second));
+
+        InOrder inOrder = inOrder(accountTransfersWritePlatformService, historyRecorder);
+        inOrder.verify(accountTransfersWritePlatformService).transferFunds(first.getAccountTransferDTO());
+        inOrder.verify(accountTransfersWritePlatformService).transferFunds(second.getAccountTransferDTO());
+        inOrder.verify(historyRecorder).recordSuccess(List.of(first, second), BUSINESS_DATE);
+    }
+
+    @Test
+    void testFailingTransferFailsTheChunkWithoutRecordingSuccess() {
+        StandingInstructionTransfer transfer = new StandingInstructionTransfer(1L, mock(AccountTransferDTO.class));
+        InsufficientAccountBalanceException failure = new InsufficientAccountBalanceException("transactionAmount", null, null, null);
+        doThrow(failure).when(accountTransfersWritePlatformService).transferFunds(any());
+        StandingInstructionItemWriter writer = new StandingInstructionItemWriter(accountTransfersWritePlatformService, historyRecorder,
+                BUSINESS_DATE);
+
+        InsufficientAccountBalanceException thrown = assertThrows(InsufficientAccountBalanceException.class,
+                () -> writer.write(Chunk.of(transfer)));
+
+        assertSame(failure, thrown);
+        verify(historyRecorder, never()).recordSuccess(anyList(), any());
+    }
+}
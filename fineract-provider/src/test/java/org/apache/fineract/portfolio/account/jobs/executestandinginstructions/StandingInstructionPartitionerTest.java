@@ -0,0 +1,98 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.account.jobs.executestandinginstructions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.jobs.service.JobName;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.portfolio.account.data.StandingInstructionExecutionPartition;
+import org.apache.fineract.portfolio.account.service.StandingInstructionReadPlatformService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+
+@ExtendWith(MockitoExtension.class)
+class StandingInstructionPartitionerTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.parse("2024-03-15");
+
+    @Mock
+    private PropertyService propertyService;
+    @Mock
+    private StandingInstructionReadPlatformService standingInstructionReadPlatformService;
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, BUSINESS_DATE)));
+        when(propertyService.getPartitionSize(JobName.EXECUTE_STANDING_INSTRUCTIONS.name())).thenReturn(1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void testPartitionPerAccountRange() {
+        when(standingInstructionReadPlatformService.retrieveDueForExecutionPartitions(BUSINESS_DATE, 1000)).thenReturn(
+                List.of(new StandingInstructionExecutionPartition(1L, 900L, 1L, 1000L), new StandingInstructionExecutionPartition(901L,
+                        1500L, 2L, 20L)));
+        StandingInstructionPartitioner partitioner = new StandingInstructionPartitioner(propertyService,
+                standingInstructionReadPlatformService);
+
+        Map<String, ExecutionContext> partitions = partitioner.partition(1);
+
+        assertEquals(2, partitions.size());
+        ExecutionContext first = partitions.get("partition_1");
+        assertEquals(BUSINESS_DATE, first.get(StandingInstructionPartitioner.BUSINESS_DATE));
+        assertEquals(1L, first.getLong(StandingInstructionPartitioner.MIN_ACCOUNT_ID));
+        assertEquals(900L, first.getLong(StandingInstructionPartitioner.MAX_ACCOUNT_ID));
+        ExecutionContext second = partitions.get("partition_2");
+        assertEquals(901L, second.getLong(StandingInstructionPartitioner.MIN_ACCOUNT_ID));
+        assertEquals(1500L, second.getLong(StandingInstructionPartitioner.MAX_ACCOUNT_ID));
+    }
+
+    @Test
+    void testEmptyPartitionWhenNothingIsDue() {
+        when(standingInstructionReadPlatformService.retrieveDueForExecutionPartitions(BUSINESS_DATE, 1000)).thenReturn(List.of());
+        StandingInstructionPartitioner partitioner = new StandingInstructionPartitioner(propertyService,
+                standingInstructionReadPlatformService);
+
+        Map<String, ExecutionContext> partitions = partitioner.partition(1);
+
+        assertEquals(1, partitions.size());
+        ExecutionContext partition = partitions.get("partition_1");
+        assertEquals(0L, partition.getLong(StandingInstructionPartitioner.MIN_ACCOUNT_ID));
+        assertEquals(0L, partition.getLong(StandingInstructionPartitioner.MAX_ACCOUNT_ID));
+    }
+}
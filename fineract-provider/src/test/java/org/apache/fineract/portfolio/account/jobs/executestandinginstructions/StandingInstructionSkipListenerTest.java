@@ -0,0 +1,103 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.account.jobs.executestandinginstructions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import org.apache.fineract.portfolio.account.data.AccountTransferDTO;
+import org.apache.fineract.portfolio.account.data.StandingInstructionData;
+import org.apache.fineract.portfolio.savings.exception.InsufficientAccountBalanceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class StandingInstructionSkipListenerTest {
+
+    @Mock
+    private StandingInstructionHistoryRecorder historyRecorder;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StandingInstructionSkipListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new StandingInstructionSkipListener(historyRecorder, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    void testInstructionWhichCouldNotBeEvaluatedIsRecordedAsFailed() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        StandingInstructionData data = mock(StandingInstructionData.class);
+        when(data.getId()).thenReturn(1L);
+        when(data.amount()).thenReturn(BigDecimal.TEN);
+        IllegalStateException failure = new IllegalStateException("no dues");
+
+        listener.onSkipInProcess(data, failure);
+
+        verify(historyRecorder).recordFailure(1L, BigDecimal.TEN, failure);
+    }
+
+    @Test
+    void testFailedTransferIsRecordedAsFailed() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        StandingInstructionTransfer transfer = new StandingInstructionTransfer(1L, mock(AccountTransferDTO.class));
+        InsufficientAccountBalanceException failure = new InsufficientAccountBalanceException("transactionAmount", null, null, null);
+
+        listener.onSkipInWrite(transfer, failure);
+
+        verify(historyRecorder).recordFailure(transfer, failure);
+    }
+
+    @Test
+    void testStepFailsWhenAnInstructionWasSkipped() {
+        StepExecution processSkipped = new StepExecution("worker", new JobExecution(1L));
+        processSkipped.setProcessSkipCount(1);
+        StepExecution writeSkipped = new StepExecution("worker", new JobExecution(1L));
+        writeSkipped.setWriteSkipCount(1);
+
+        assertEquals(ExitStatus.FAILED, listener.afterStep(processSkipped));
+        assertEquals(BatchStatus.FAILED, processSkipped.getStatus());
+        assertEquals(ExitStatus.FAILED, listener.afterStep(writeSkipped));
+        assertEquals(BatchStatus.FAILED, writeSkipped.getStatus());
+    }
+
+    @Test
+    void testStepKeepsItsStatusWithoutSkips() {
+        StepExecution stepExecution = new StepExecution("worker", new JobExecution(1L));
+        stepExecution.setExitStatus(ExitStatus.COMPLETED);
+
+        assertEquals(ExitStatus.COMPLETED, listener.afterStep(stepExecution));
+    }
+}
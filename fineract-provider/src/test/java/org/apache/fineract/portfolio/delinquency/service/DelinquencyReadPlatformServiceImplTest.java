@@ -20,24 +20,40 @@ package org.apache.fineract.portfolio.delinquency.service;
 
 import static java.time.Month.JANUARY;
 import static org.apache.fineract.portfolio.delinquency.domain.DelinquencyAction.PAUSE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.portfolio.delinquency.domain.DelinquencyBucketRepository;
 import org.apache.fineract.portfolio.delinquency.domain.DelinquencyRangeRepository;
 import org.apache.fineract.portfolio.delinquency.domain.LoanDelinquencyAction;
 import org.apache.fineract.portfolio.delinquency.domain.LoanDelinquencyActionRepository;
 import org.apache.fineract.portfolio.delinquency.domain.LoanDelinquencyTagHistoryRepository;
 import org.apache.fineract.portfolio.delinquency.domain.LoanInstallmentDelinquencyTagRepository;
+import org.apache.fineract.portfolio.delinquency.helper.DelinquencyEffectivePauseHelper;
 import org.apache.fineract.portfolio.delinquency.mapper.DelinquencyBucketMapper;
 import org.apache.fineract.portfolio.delinquency.mapper.DelinquencyRangeMapper;
 import org.apache.fineract.portfolio.delinquency.mapper.LoanDelinquencyTagMapper;
 import org.apache.fineract.portfolio.delinquency.validator.LoanDelinquencyActionData;
 import org.apache.fineract.portfolio.loanaccount.data.CollectionData;
 import org.apache.fineract.portfolio.loanaccount.data.DelinquencyPausePeriod;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -75,9 +91,20 @@ class DelinquencyReadPlatformServiceImplTest {
     @Mock
     private LoanDelinquencyActionRepository loanDelinquencyActionRepository;
 
+    @Mock
+    private DelinquencyEffectivePauseHelper delinquencyEffectivePauseHelper;
+
+    @Mock
+    private ConfigurationDomainService configurationDomainService;
+
     @InjectMocks
     private DelinquencyReadPlatformServiceImpl underTest;
 
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
     @Test
     public void testNoEnrichmentWhenThereIsNoDelinquencyAction() {
         // given
@@ -180,6 +207,90 @@ class DelinquencyReadPlatformServiceImplTest {
         );
     }
 
+    @Test
+    public void testCollectionDataOfSeveralLoansIsCalculatedWithOneQueryPerKind() {
+        // given
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.of(2023, JANUARY, 12))));
+        Loan activeLoan = mock(Loan.class);
+        when(activeLoan.getId()).thenReturn(1L);
+        when(activeLoan.getApprovedPrincipal()).thenReturn(BigDecimal.valueOf(1000));
+        when(activeLoan.getDisbursedAmount()).thenReturn(BigDecimal.valueOf(600));
+        when(activeLoan.possibleNextRepaymentDate("earliest-unpaid-date")).thenReturn(LocalDate.of(2023, JANUARY, 31));
+        Loan approvedLoan = mock(Loan.class);
+        when(approvedLoan.isApproved()).thenReturn(true);
+        when(loanRepository.findAllById(List.of(1L, 2L, 3L))).thenReturn(List.of(activeLoan, approvedLoan));
+        when(loanDelinquencyActionRepository.findByLoanIdInOrderById(List.of(1L))).thenReturn(List.of());
+        when(delinquencyEffectivePauseHelper.calculateEffectiveDelinquencyList(List.of())).thenReturn(List.of());
+        when(configurationDomainService.getNextPaymentDateConfigForLoan()).thenReturn("earliest-unpaid-date");
+        when(loanDelinquencyDomainService.getOverdueCollectionData(activeLoan, List.of())).thenReturn(CollectionData.template());
+
+        // when
+        Map<Long, CollectionData> result = underTest.calculateLoanCollectionDataByLoanIds(List.of(1L, 2L, 3L));
+
+        // then
+        Assertions.assertEquals(3, result.size());
+        Assertions.assertEquals(BigDecimal.valueOf(400), result.get(1L).getAvailableDisbursementAmount());
+        Assertions.assertEquals(LocalDate.of(2023, JANUARY, 31), result.get(1L).getNextPaymentDueDate());
+        Assertions.assertEquals(List.of(), result.get(1L).getDelinquencyPausePeriods());
+        Assertions.assertEquals(CollectionData.template().toString(), result.get(2L).toString());
+        Assertions.assertEquals(CollectionData.template().toString(), result.get(3L).toString());
+        verify(loanRepository, never()).findById(any());
+        verify(configurationDomainService, times(1)).getNextPaymentDateConfigForLoan();
+    }
+
+    @Test
+    public void testCollectionDataOfNoActiveLoanSkipsTheDelinquencyQueries() {
+        // given
+        Loan pendingLoan = mock(Loan.class);
+        when(pendingLoan.isSubmittedAndPendingApproval()).thenReturn(true);
+        when(loanRepository.findAllById(List.of(5L))).thenReturn(List.of(pendingLoan));
+
+        // when
+        Map<Long, CollectionData> result = underTest.calculateLoanCollectionDataByLoanIds(List.of(5L));
+
+        // then
+        Assertions.assertEquals(CollectionData.template().toString(), result.get(5L).toString());
+        verify(loanDelinquencyActionRepository, never()).findByLoanIdInOrderById(any());
+        verify(configurationDomainService, never()).getNextPaymentDateConfigForLoan();
+    }
+
+    @Test
+    public void testDelinquencyActionsByLoanIdsAreGroupedPerLoanInIdOrder() {
+        // given
+        Loan loan1 = mock(Loan.class);
+        when(loan1.getId()).thenReturn(1L);
+        Loan loan2 = mock(Loan.class);
+        when(loan2.getId()).thenReturn(2L);
+        LoanDelinquencyAction action1 = new LoanDelinquencyAction(loan1, PAUSE, LocalDate.of(2023, JANUARY, 10),
+                LocalDate.of(2023, JANUARY, 11));
+        LoanDelinquencyAction action2 = new LoanDelinquencyAction(loan2, PAUSE, LocalDate.of(2023, JANUARY, 12),
+                LocalDate.of(2023, JANUARY, 13));
+        LoanDelinquencyAction action3 = new LoanDelinquencyAction(loan1, PAUSE, LocalDate.of(2023, JANUARY, 15),
+                LocalDate.of(2023, JANUARY, 20));
+        when(loanDelinquencyActionRepository.findByLoanIdInOrderById(List.of(1L, 2L, 3L))).thenReturn(List.of(action1, action2, action3));
+
+        // when
+        Map<Long, List<LoanDelinquencyAction>> result = underTest.retrieveLoanDelinquencyActionsByLoanIds(List.of(1L, 2L, 3L));
+
+        // then
+        Assertions.assertEquals(3, result.size());
+        Assertions.assertEquals(List.of(action1, action3), result.get(1L));
+        Assertions.assertEquals(List.of(action2), result.get(2L));
+        Assertions.assertEquals(List.of(), result.get(3L));
+        verify(loanDelinquencyActionRepository, times(1)).findByLoanIdInOrderById(any());
+    }
+
+    @Test
+    public void testDelinquencyActionsOfNoLoanSkipTheQuery() {
+        // when
+        Map<Long, List<LoanDelinquencyAction>> result = underTest.retrieveLoanDelinquencyActionsByLoanIds(List.of());
+
+        // then
+        Assertions.assertTrue(result.isEmpty());
+        verify(loanDelinquencyActionRepository, never()).findByLoanIdInOrderById(any());
+    }
+
     private void verifyPausePeriods(CollectionData collectionData, DelinquencyPausePeriod... pausePeriods) {
         if (pausePeriods.length > 0) {
             Assertions.assertEquals(Arrays.asList(pausePeriods), collectionData.getDelinquencyPausePeriods());
@@ -0,0 +1,340 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.delinquency.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.portfolio.delinquency.domain.DelinquencyAction;
+import org.apache.fineract.portfolio.delinquency.domain.DelinquencyBucket;
+import org.apache.fineract.portfolio.delinquency.domain.DelinquencyRange;
+import org.apache.fineract.portfolio.delinquency.domain.DelinquencyRangeRepository;
+import org.apache.fineract.portfolio.delinquency.domain.LoanDelinquencyAction;
+import org.apache.fineract.portfolio.delinquency.domain.LoanDelinquencyTagHistory;
+import org.apache.fineract.portfolio.delinquency.domain.LoanDelinquencyTagHistoryRepository;
+import org.apache.fineract.portfolio.delinquency.domain.LoanInstallmentDelinquencyTagRepository;
+import org.apache.fineract.portfolio.delinquency.helper.DelinquencyEffectivePauseHelper;
+import org.apache.fineract.portfolio.delinquency.helper.DelinquencyEffectivePauseHelperImpl;
+import org.apache.fineract.portfolio.delinquency.validator.LoanDelinquencyActionData;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepositoryWrapper;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProductRelatedDetail;
+import org.apache.fineract.useradministration.domain.AppUser;
+import org.apache.fineract.useradministration.domain.AppUserRepositoryWrapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * Runs the same loans through the bulk classification and through the per loan path (overdue collection data and
+ * bucket range lookup) and expects the same open delinquency range for every loan.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LoanDelinquencyBulkClassificationServiceImplTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.parse("2024-03-15");
+    private static final Long SYSTEM_USER_ID = 1L;
+    private static final long BUCKET = 1L;
+    private static final long BUCKET_WITH_GAP = 2L;
+    private static final long TAG_ID_OFFSET = 1000L;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private LoanRepositoryWrapper loanRepositoryWrapper;
+    @Mock
+    private BusinessEventNotifierService businessEventNotifierService;
+    @Mock
+    private AppUserRepositoryWrapper appUserRepositoryWrapper;
+    @Mock
+    private LoanInstallmentDelinquencyTagRepository loanInstallmentDelinquencyTagRepository;
+
+    private final DelinquencyEffectivePauseHelper pauseHelper = new DelinquencyEffectivePauseHelperImpl();
+    private final Map<Long, List<DelinquencyRange>> rangesByBucket = new HashMap<>();
+    private final Map<Long, DelinquencyRange> rangesById = new HashMap<>();
+    private final Map<Long, Scenario> scenarios = new LinkedHashMap<>();
+    private MockedStatic<MoneyHelper> moneyHelper;
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, BUSINESS_DATE)));
+        moneyHelper = Mockito.mockStatic(MoneyHelper.class);
+        moneyHelper.when(MoneyHelper::getRoundingMode).thenReturn(RoundingMode.HALF_EVEN);
+        AppUser systemUser = mock(AppUser.class);
+        when(systemUser.getId()).thenReturn(SYSTEM_USER_ID);
+        when(appUserRepositoryWrapper.fetchSystemUser()).thenReturn(systemUser);
+        when(loanRepositoryWrapper.findOneWithNotFoundDetection(any(Long.class))).thenReturn(mock(Loan.class));
+
+        range(BUCKET, 11L, 1, 3);
+        range(BUCKET, 12L, 4, 30);
+        range(BUCKET, 13L, 31, null);
+        range(BUCKET_WITH_GAP, 21L, 10, 20);
+    }
+
+    @AfterEach
+    void tearDown() {
+        moneyHelper.close();
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void testBulkClassificationMatchesPerLoanClassification() {
+        // range selection
+        scenario(1L, 2, 0, BUCKET, null, List.of());
+        scenario(2L, 10, 0, BUCKET, null, List.of());
+        scenario(3L, 45, 0, BUCKET, null, List.of());
+        scenario(4L, 10, 0, BUCKET, 11L, List.of());
+        scenario(5L, 10, 0, BUCKET, 12L, List.of());
+        // grace on arrears ageing
+        scenario(6L, 10, 3, BUCKET, null, List.of());
+        scenario(7L, 2, 5, BUCKET, 11L, List.of());
+        // bucket without a matching range keeps the current tag
+        scenario(8L, 5, 0, BUCKET_WITH_GAP, null, List.of());
+        scenario(9L, 5, 0, BUCKET_WITH_GAP, 21L, List.of());
+        scenario(10L, 15, 0, BUCKET_WITH_GAP, null, List.of());
+        // running pause, resumed pause and a pause covering the whole overdue period
+        scenario(11L, 20, 0, BUCKET, 12L, List.of(pause(BUSINESS_DATE.minusDays(10), BUSINESS_DATE.plusDays(5))));
+        scenario(12L, 40, 0, BUCKET, 13L, List.of(pause(BUSINESS_DATE.minusDays(30), BUSINESS_DATE.plusDays(30)),
+                resume(BUSINESS_DATE.minusDays(20))));
+        scenario(13L, 5, 0, BUCKET, 12L, List.of(pause(BUSINESS_DATE.minusDays(6), BUSINESS_DATE.plusDays(10))));
+
+        Map<Long, Long> bulk = classifyInBulk();
+
+        scenarios.forEach((loanId, scenario) -> assertEquals(classifyPerLoan(scenario), bulk.get(loanId), scenario.toString()));
+        assertEquals(12L, bulk.get(11L));
+        assertEquals(12L, bulk.get(12L));
+        assertNull(bulk.get(13L));
+        verify(appUserRepositoryWrapper).fetchSystemUser();
+    }
+
+    private Map<Long, Long> classifyInBulk() {
+        List<Map<String, Object>> overdueRows = new ArrayList<>();
+        List<Map<String, Object>> actionRows = new ArrayList<>();
+        for (Scenario scenario : scenarios.values()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("loanId", scenario.loanId());
+            row.put("graceDays", scenario.graceDays());
+            row.put("installmentLevelDelinquency", false);
+            row.put("bucketId", scenario.bucketId());
+            row.put("overdueSinceDate", BUSINESS_DATE.minusDays(scenario.overdueDays()));
+            row.put("tagId", scenario.currentRangeId() == null ? null : tagId(scenario.loanId()));
+            row.put("rangeId", scenario.currentRangeId());
+            overdueRows.add(row);
+            for (LoanDelinquencyAction action : scenario.actions()) {
+                Map<String, Object> actionRow = new LinkedHashMap<>();
+                actionRow.put("loanId", scenario.loanId());
+                actionRow.put("action", action.getAction().name());
+                actionRow.put("startDate", action.getStartDate());
+                actionRow.put("endDate", action.getEndDate());
+                actionRows.add(actionRow);
+            }
+        }
+        List<Map<String, Object>> rangeRows = new ArrayList<>();
+        rangesByBucket.forEach((bucketId, ranges) -> ranges.forEach(range -> {
+            Map<String, Object> rangeRow = new LinkedHashMap<>();
+            rangeRow.put("bucketId", bucketId);
+            rangeRow.put("rangeId", range.getId());
+            rangeRow.put("minAge", range.getMinimumAgeDays());
+            rangeRow.put("maxAge", range.getMaximumAgeDays());
+            rangeRows.add(rangeRow);
+        }));
+
+        doAnswer(invocation -> {
+            RowMapper<?> rowMapper = invocation.getArgument(1);
+            List<Object> result = new ArrayList<>();
+            for (int i = 0; i < overdueRows.size(); i++) {
+                result.add(rowMapper.mapRow(resultSet(overdueRows.get(i)), i));
+            }
+            return result;
+        }).when(jdbcTemplate).query(startsWith("SELECT l.id AS loanId"), any(RowMapper.class), any(), any(), any(), any());
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (Map<String, Object> row : rangeRows) {
+                handler.processRow(resultSet(row));
+            }
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT m.delinquency_bucket_id"), any(RowCallbackHandler.class));
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (Map<String, Object> row : actionRows) {
+                handler.processRow(resultSet(row));
+            }
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT da.loan_id"), any(RowCallbackHandler.class), any());
+
+        LoanDelinquencyBulkClassificationServiceImpl underTest = new LoanDelinquencyBulkClassificationServiceImpl(jdbcTemplate,
+                pauseHelper, loanRepositoryWrapper, businessEventNotifierService, appUserRepositoryWrapper);
+        underTest.classifyOverdueLoans(BUSINESS_DATE, List.of());
+
+        Map<Long, Long> openRanges = new HashMap<>();
+        scenarios.values().forEach(scenario -> openRanges.put(scenario.loanId(), scenario.currentRangeId()));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> lifted = ArgumentCaptor.forClass(List.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE m_loan_delinquency_tag_history"), lifted.capture());
+        for (Object[] params : lifted.getValue()) {
+            assertEquals(SYSTEM_USER_ID, params[2]);
+            openRanges.put((Long) params[3] - TAG_ID_OFFSET, null);
+        }
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO m_loan_delinquency_tag_history"), inserted.capture());
+        for (Object[] params : inserted.getValue()) {
+            assertEquals(SYSTEM_USER_ID, params[3]);
+            openRanges.put((Long) params[1], (Long) params[0]);
+        }
+        return openRanges;
+    }
+
+    private Long classifyPerLoan(Scenario scenario) {
+        Loan loan = mock(Loan.class);
+        LoanProductRelatedDetail loanProductRelatedDetail = mock(LoanProductRelatedDetail.class);
+        LocalDate dueDate = BUSINESS_DATE.minusDays(scenario.overdueDays());
+        LoanRepaymentScheduleInstallment installment = new LoanRepaymentScheduleInstallment(loan, 1, dueDate.minusMonths(1), dueDate,
+                BigDecimal.valueOf(100), BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, false, new HashSet<>(), BigDecimal.ZERO);
+        when(loan.getId()).thenReturn(scenario.loanId());
+        when(loan.getCurrency()).thenReturn(new MonetaryCurrency("USD", 2, null));
+        when(loan.getLoanProductRelatedDetail()).thenReturn(loanProductRelatedDetail);
+        when(loanProductRelatedDetail.getGraceOnArrearsAgeing()).thenReturn(scenario.graceDays());
+        when(loan.getRepaymentScheduleInstallments()).thenReturn(List.of(installment));
+        when(loan.getLastLoanRepaymentScheduleInstallment()).thenReturn(installment);
+
+        LoanDelinquencyTagHistory currentTag = scenario.currentRangeId() == null ? null
+                : new LoanDelinquencyTagHistory(rangesById.get(scenario.currentRangeId()), loan, BUSINESS_DATE.minusDays(1), null);
+        LoanDelinquencyTagHistoryRepository tagRepository = mock(LoanDelinquencyTagHistoryRepository.class);
+        when(tagRepository.findByLoanAndLiftedOnDate(loan, null)).thenReturn(Optional.ofNullable(currentTag));
+        DelinquencyRangeRepository rangeRepository = mock(DelinquencyRangeRepository.class);
+        when(rangeRepository.getReferenceById(any())).thenAnswer(invocation -> rangesById.get(invocation.<Long>getArgument(0)));
+        DelinquencyWritePlatformServiceHelper helper = new DelinquencyWritePlatformServiceHelper(businessEventNotifierService,
+                tagRepository, rangeRepository, loanInstallmentDelinquencyTagRepository);
+        DelinquencyBucket bucket = mock(DelinquencyBucket.class);
+        when(bucket.getRanges()).thenReturn(new ArrayList<>(rangesByBucket.get(scenario.bucketId())));
+
+        List<LoanDelinquencyActionData> effectiveDelinquencyList = pauseHelper.calculateEffectiveDelinquencyList(scenario.actions());
+        long delinquentDays = new LoanDelinquencyDomainServiceImpl(pauseHelper).getOverdueCollectionData(loan, effectiveDelinquencyList)
+                .getDelinquentDays();
+        helper.applyDelinquencyForLoan(loan, bucket, delinquentDays);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<LoanDelinquencyTagHistory>> saved = ArgumentCaptor.forClass(List.class);
+        if (Mockito.mockingDetails(tagRepository).getInvocations().stream()
+                .noneMatch(i -> i.getMethod().getName().equals("saveAllAndFlush"))) {
+            return scenario.currentRangeId();
+        }
+        verify(tagRepository).saveAllAndFlush(saved.capture());
+        return saved.getValue().stream().filter(tag -> tag.getLiftedOnDate() == null).map(tag -> tag.getDelinquencyRange().getId())
+                .findFirst().orElse(null);
+    }
+
+    private void scenario(Long loanId, int overdueDays, int graceDays, long bucketId, Long currentRangeId,
+            List<LoanDelinquencyAction> actions) {
+        scenarios.put(loanId, new Scenario(loanId, overdueDays, graceDays, bucketId, currentRangeId, actions));
+    }
+
+    private void range(long bucketId, Long rangeId, Integer minimumAgeDays, Integer maximumAgeDays) {
+        DelinquencyRange range = mock(DelinquencyRange.class);
+        when(range.getId()).thenReturn(rangeId);
+        when(range.getClassification()).thenReturn("R" + rangeId);
+        when(range.getMinimumAgeDays()).thenReturn(minimumAgeDays);
+        when(range.getMaximumAgeDays()).thenReturn(maximumAgeDays);
+        rangesByBucket.computeIfAbsent(bucketId, k -> new ArrayList<>()).add(range);
+        rangesById.put(rangeId, range);
+    }
+
+    private static Long tagId(Long loanId) {
+        return TAG_ID_OFFSET + loanId;
+    }
+
+    private static LoanDelinquencyAction pause(LocalDate startDate, LocalDate endDate) {
+        return new LoanDelinquencyAction(null, DelinquencyAction.PAUSE, startDate, endDate);
+    }
+
+    private static LoanDelinquencyAction resume(LocalDate startDate) {
+        return new LoanDelinquencyAction(null, DelinquencyAction.RESUME, startDate, null);
+    }
+
+    private static ResultSet resultSet(Map<String, Object> row) {
+        List<String> columns = new ArrayList<>(row.keySet());
+        Object[] lastValue = new Object[1];
+        return mock(ResultSet.class, invocation -> {
+            String method = invocation.getMethod().getName();
+            if (invocation.getArguments().length == 0) {
+                return "wasNull".equals(method) ? lastValue[0] == null : Mockito.RETURNS_DEFAULTS.answer(invocation);
+            }
+            Object key = invocation.getArgument(0);
+            String column = key instanceof Integer index ? columns.get(index - 1) : (String) key;
+            if ("findColumn".equals(method)) {
+                return columns.indexOf(column) + 1;
+            }
+            Object value = row.get(column);
+            lastValue[0] = value;
+            return switch (method) {
+                case "getLong" -> value == null ? 0L : ((Number) value).longValue();
+                case "getInt" -> value == null ? 0 : ((Number) value).intValue();
+                case "getBoolean" -> value != null && (Boolean) value;
+                case "getString" -> value == null ? null : value.toString();
+                case "getDate" -> value == null ? null : Date.valueOf((LocalDate) value);
+                default -> value;
+            };
+        });
+    }
+
+    private record Scenario(Long loanId, int overdueDays, int graceDays, long bucketId, Long currentRangeId,
+            List<LoanDelinquencyAction> actions) {
+    }
+}
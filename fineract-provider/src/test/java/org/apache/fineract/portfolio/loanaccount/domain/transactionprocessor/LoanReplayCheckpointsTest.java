@@ -0,0 +1,173 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.ExternalId;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.organisation.office.domain.Office;
+import org.apache.fineract.portfolio.loanaccount.domain.ChangedTransactionDetail;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanCharge;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanReplayCheckpoint;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanTransaction;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+public class LoanReplayCheckpointsTest {
+
+    private static final MonetaryCurrency CURRENCY = new MonetaryCurrency("USD", 2, 1);
+    private static final MockedStatic<MoneyHelper> MONEY_HELPER = Mockito.mockStatic(MoneyHelper.class);
+    private static final String PROCESSOR_CODE = "mifos-standard-strategy";
+
+    @Mock
+    private Loan loan;
+    @Mock
+    private Office office;
+
+    private final Set<LoanCharge> charges = new HashSet<>();
+    private List<LoanRepaymentScheduleInstallment> installments;
+    private List<LoanTransaction> transactions;
+
+    @BeforeAll
+    public static void init() {
+        MONEY_HELPER.when(MoneyHelper::getRoundingMode).thenReturn(RoundingMode.HALF_EVEN);
+    }
+
+    @AfterAll
+    public static void destruct() {
+        MONEY_HELPER.close();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.of(2023, 3, 1))));
+        installments = new ArrayList<>();
+        installments.add(installment(1, LocalDate.of(2023, 1, 1), LocalDate.of(2023, 2, 1)));
+        installments.add(installment(2, LocalDate.of(2023, 2, 1), LocalDate.of(2023, 3, 1)));
+        transactions = new ArrayList<>();
+        transactions.add(repayment(11L, LocalDate.of(2023, 2, 1), 100));
+        transactions.add(repayment(12L, LocalDate.of(2023, 3, 1), 100));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testCheckpointIsRecordedAtTheIntervalAndRestoredOnTheNextReplay() {
+        final LoanReplayCheckpoints recording = new LoanReplayCheckpoints(loan, new ArrayList<>(), 2);
+        assertEquals(0, recording.restoreLatest(PROCESSOR_CODE, transactions, CURRENCY, installments, charges));
+        replay(recording, 0);
+        assertEquals(1, recording.getNewCheckpoints().size());
+        final LoanReplayCheckpoint checkpoint = recording.getNewCheckpoints().get(0);
+        assertEquals(2, checkpoint.getTransactionCount());
+        assertEquals(Long.valueOf(12L), checkpoint.getLastTransactionId());
+
+        installments.forEach(LoanRepaymentScheduleInstallment::resetDerivedComponents);
+        final LoanReplayCheckpoints restoring = new LoanReplayCheckpoints(loan, List.of(checkpoint), 2);
+        assertEquals(2, restoring.restoreLatest(PROCESSOR_CODE, transactions, CURRENCY, installments, charges));
+        assertTrue(restoring.getStaleCheckpoints().isEmpty());
+        for (LoanRepaymentScheduleInstallment installment : installments) {
+            assertTrue(installment.isObligationsMet());
+            assertEquals(0, BigDecimal.valueOf(100).compareTo(installment.getPrincipalCompleted(CURRENCY).getAmount()));
+            assertEquals(installment.getDueDate(), installment.getObligationsMetOnDate());
+        }
+    }
+
+    @Test
+    public void testCheckpointIsStaleWhenAnEarlierTransactionChanged() {
+        final LoanReplayCheckpoints recording = new LoanReplayCheckpoints(loan, new ArrayList<>(), 2);
+        recording.restoreLatest(PROCESSOR_CODE, transactions, CURRENCY, installments, charges);
+        replay(recording, 0);
+        final LoanReplayCheckpoint checkpoint = recording.getNewCheckpoints().get(0);
+
+        transactions.set(0, repayment(13L, LocalDate.of(2023, 1, 15), 100));
+        installments.forEach(LoanRepaymentScheduleInstallment::resetDerivedComponents);
+        final LoanReplayCheckpoints restoring = new LoanReplayCheckpoints(loan, List.of(checkpoint), 2);
+        assertEquals(0, restoring.restoreLatest(PROCESSOR_CODE, transactions, CURRENCY, installments, charges));
+        assertEquals(List.of(checkpoint), restoring.getStaleCheckpoints());
+        assertFalse(installments.get(0).isObligationsMet());
+    }
+
+    @Test
+    public void testNoCheckpointAfterAnOverpayment() {
+        final LoanReplayCheckpoints recording = new LoanReplayCheckpoints(loan, new ArrayList<>(), 2);
+        recording.restoreLatest(PROCESSOR_CODE, transactions, CURRENCY, installments, charges);
+        final MoneyHolder overpaymentHolder = new MoneyHolder(Money.of(CURRENCY, BigDecimal.TEN));
+        for (int i = 0; i < transactions.size(); i++) {
+            recording.afterTransaction(i, transactions.get(i), overpaymentHolder, new ChangedTransactionDetail(), installments, charges);
+        }
+        assertTrue(recording.getNewCheckpoints().isEmpty());
+    }
+
+    private void replay(final LoanReplayCheckpoints checkpoints, final int from) {
+        final MoneyHolder overpaymentHolder = new MoneyHolder(Money.zero(CURRENCY));
+        final ChangedTransactionDetail changedTransactionDetail = new ChangedTransactionDetail();
+        for (int i = from; i < transactions.size(); i++) {
+            final LoanTransaction transaction = transactions.get(i);
+            installments.get(i).payPrincipalComponent(transaction.getTransactionDate(), transaction.getAmount(CURRENCY));
+            checkpoints.afterTransaction(i, transaction, overpaymentHolder, changedTransactionDetail, installments, charges);
+        }
+    }
+
+    private LoanRepaymentScheduleInstallment installment(final int number, final LocalDate fromDate, final LocalDate dueDate) {
+        return new LoanRepaymentScheduleInstallment(loan, number, fromDate, dueDate, BigDecimal.valueOf(100), BigDecimal.ZERO,
+                BigDecimal.ZERO, BigDecimal.ZERO, false, null, BigDecimal.ZERO);
+    }
+
+    private LoanTransaction repayment(final Long id, final LocalDate date, final int amount) {
+        final LoanTransaction transaction = LoanTransaction.repayment(office, Money.of(CURRENCY, BigDecimal.valueOf(amount)), null, date,
+                ExternalId.empty());
+        ReflectionTestUtils.setField(transaction, "id", id);
+        return transaction;
+    }
+}
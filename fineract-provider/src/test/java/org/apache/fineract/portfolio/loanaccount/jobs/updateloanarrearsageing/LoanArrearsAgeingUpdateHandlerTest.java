@@ -0,0 +1,118 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.portfolio.loanaccount.data.LoanArrearsAgingData;
+import org.apache.fineract.portfolio.loanaccount.service.LoanArrearsAgingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class LoanArrearsAgeingUpdateHandlerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private LoanArrearsAgingService loanArrearsAgingService;
+    @Mock
+    private EntityManager entityManager;
+
+    private LoanArrearsAgeingUpdateHandler underTest;
+
+    @BeforeEach
+    public void setUp() {
+        underTest = new LoanArrearsAgeingUpdateHandler(jdbcTemplate, sqlGenerator, loanArrearsAgingService, entityManager);
+    }
+
+    @Test
+    public void testFlushAndUpdateFlushesBeforeTheArrearsAreQueried() {
+        // given
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class))).thenReturn(List.of());
+
+        // when
+        underTest.flushAndUpdateLoanArrearsAgeingDetails(1L);
+
+        // then
+        InOrder inOrder = inOrder(entityManager, jdbcTemplate, loanArrearsAgingService);
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(jdbcTemplate).query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class));
+        inOrder.verify(loanArrearsAgingService).saveLoanArrearsAgeingDetails(anyCollection(), anyCollection());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testUpdateSplitsLoansWithAndWithoutArrears() {
+        // given
+        LoanArrearsAgingData arrears = new LoanArrearsAgingData(1L, BigDecimal.TEN, BigDecimal.ONE, BigDecimal.ZERO, BigDecimal.ZERO,
+                LocalDate.of(2023, 1, 1));
+        // first the arrears of the regular schedule, then the loans with arrears based on the original schedule
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class))).thenReturn(List.of(arrears),
+                List.of());
+
+        // when
+        underTest.updateLoanArrearsAgeingDetails(List.of(1L, 2L));
+
+        // then
+        ArgumentCaptor<Collection<LoanArrearsAgingData>> arrearsCaptor = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<Collection<Long>> loanIdsWithoutArrearsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(loanArrearsAgingService).saveLoanArrearsAgeingDetails(arrearsCaptor.capture(), loanIdsWithoutArrearsCaptor.capture());
+        assertEquals(1, arrearsCaptor.getValue().size());
+        assertTrue(arrearsCaptor.getValue().contains(arrears));
+        assertEquals(List.of(2L), List.copyOf(loanIdsWithoutArrearsCaptor.getValue()));
+        verify(entityManager, never()).flush();
+    }
+
+    @Test
+    public void testUpdateWithoutLoansDoesNothing() {
+        // when
+        underTest.updateLoanArrearsAgeingDetails(List.of());
+
+        // then
+        verify(jdbcTemplate, never()).query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class));
+        verify(loanArrearsAgingService, never()).saveLoanArrearsAgeingDetails(anyCollection(), anyCollection());
+    }
+}
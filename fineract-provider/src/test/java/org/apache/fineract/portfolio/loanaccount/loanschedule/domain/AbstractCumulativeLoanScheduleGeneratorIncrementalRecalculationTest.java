@@ -0,0 +1,211 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.loanschedule.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.ExternalId;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanTransaction;
+import org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.LoanRepaymentScheduleTransactionProcessor;
+import org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.impl.FineractStyleLoanRepaymentScheduleTransactionProcessor;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.AbstractCumulativeLoanScheduleGenerator.PersistedInstallmentState;
+import org.apache.fineract.portfolio.loanproduct.domain.InterestRecalculationCompoundingMethod;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+/**
+ * Compares the incremental recalculation, which keeps the persisted state of installments settled on schedule, with the
+ * full replay of the repayments through the transaction processor.
+ */
+public class AbstractCumulativeLoanScheduleGeneratorIncrementalRecalculationTest {
+
+    private static final MonetaryCurrency CURRENCY = new MonetaryCurrency("USD", 2, 1);
+
+    private final LoanRepaymentScheduleTransactionProcessor processor = new FineractStyleLoanRepaymentScheduleTransactionProcessor();
+    private MockedStatic<MoneyHelper> moneyHelper;
+    private AbstractCumulativeLoanScheduleGenerator underTest;
+    private LoanApplicationTerms loanApplicationTerms;
+    private Loan loan;
+
+    @BeforeEach
+    public void setUp() {
+        moneyHelper = Mockito.mockStatic(MoneyHelper.class);
+        moneyHelper.when(MoneyHelper::getRoundingMode).thenReturn(RoundingMode.HALF_EVEN);
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.of(2023, 3, 15))));
+
+        underTest = new CumulativeDecliningBalanceInterestLoanScheduleGenerator(null, null, new FineractProperties());
+        loanApplicationTerms = mock(LoanApplicationTerms.class);
+        when(loanApplicationTerms.isInterestRecalculationEnabled()).thenReturn(true);
+        when(loanApplicationTerms.getInterestRecalculationCompoundingMethod()).thenReturn(InterestRecalculationCompoundingMethod.NONE);
+        loan = mock(Loan.class);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+        moneyHelper.close();
+    }
+
+    @Test
+    public void testIncrementalRecalculationIsDisabledByDefault() {
+        assertFalse(underTest.isIncrementalRecalculationEnabled());
+    }
+
+    @Test
+    public void testSeededStateMatchesFullReplayForInstallmentsPaidOnSchedule() {
+        // given
+        List<LoanRepaymentScheduleInstallment> installments = installments();
+        List<LoanTransaction> repayments = List.of(repayment(110, LocalDate.of(2023, 1, 20)), repayment(108, LocalDate.of(2023, 3, 1)));
+        List<LoanRepaymentScheduleInstallment> retained = persistState(installments, repayments);
+
+        // when
+        boolean seedable = underTest.canSeedFromPersistedInstallments(loanApplicationTerms, loan, retained, CURRENCY);
+
+        // then
+        assertTrue(seedable);
+        assertFullReplayMatchesPersistedState(installments, retained, repayments);
+    }
+
+    @Test
+    public void testLatePaymentIsNotSeeded() {
+        // given
+        List<LoanRepaymentScheduleInstallment> installments = installments();
+        List<LoanTransaction> repayments = List.of(repayment(110, LocalDate.of(2023, 2, 5)), repayment(108, LocalDate.of(2023, 3, 1)));
+        List<LoanRepaymentScheduleInstallment> retained = persistState(installments, repayments);
+
+        // when
+        boolean seedable = underTest.canSeedFromPersistedInstallments(loanApplicationTerms, loan, retained, CURRENCY);
+
+        // then
+        assertFalse(seedable);
+    }
+
+    @Test
+    public void testPaymentCoveringSeveralInstallmentsIsNotSeeded() {
+        // given
+        List<LoanRepaymentScheduleInstallment> installments = installments();
+        List<LoanTransaction> repayments = List.of(repayment(218, LocalDate.of(2023, 1, 20)));
+        List<LoanRepaymentScheduleInstallment> retained = persistState(installments, repayments);
+
+        // when
+        boolean seedable = underTest.canSeedFromPersistedInstallments(loanApplicationTerms, loan, retained, CURRENCY);
+
+        // then
+        assertFalse(seedable);
+    }
+
+    @Test
+    public void testCompoundingIsNotSeeded() {
+        // given
+        when(loanApplicationTerms.getInterestRecalculationCompoundingMethod()).thenReturn(InterestRecalculationCompoundingMethod.INTEREST);
+        List<LoanRepaymentScheduleInstallment> installments = installments();
+        List<LoanTransaction> repayments = List.of(repayment(110, LocalDate.of(2023, 1, 20)), repayment(108, LocalDate.of(2023, 3, 1)));
+        List<LoanRepaymentScheduleInstallment> retained = persistState(installments, repayments);
+
+        // when
+        boolean seedable = underTest.canSeedFromPersistedInstallments(loanApplicationTerms, loan, retained, CURRENCY);
+
+        // then
+        assertFalse(seedable);
+    }
+
+    /**
+     * Applies the repayments to the whole schedule the way the loan did originally and returns the settled
+     * installments, which are the ones retained by a partial regeneration.
+     */
+    private List<LoanRepaymentScheduleInstallment> persistState(final List<LoanRepaymentScheduleInstallment> installments,
+            final List<LoanTransaction> repayments) {
+        processor.handleRepaymentSchedule(repayments, CURRENCY, installments, new HashSet<>());
+        when(loan.getLoanTransactions()).thenReturn(repayments);
+        return installments.stream().filter(LoanRepaymentScheduleInstallment::isObligationsMet).toList();
+    }
+
+    /**
+     * Mirrors the full path of the partial regeneration: every retained installment is reset and the repayments are
+     * replayed one by one against the installments regenerated so far.
+     */
+    private void assertFullReplayMatchesPersistedState(final List<LoanRepaymentScheduleInstallment> installments,
+            final List<LoanRepaymentScheduleInstallment> retained, final List<LoanTransaction> repayments) {
+        List<PersistedInstallmentState> persisted = retained.stream()
+                .map(installment -> PersistedInstallmentState.of(installment, CURRENCY)).toList();
+        List<LoanRepaymentScheduleInstallment> regenerated = new ArrayList<>();
+        Money totalUnprocessed = Money.zero(CURRENCY);
+        for (int i = 0; i < retained.size(); i++) {
+            LoanRepaymentScheduleInstallment installment = retained.get(i);
+            installment.resetDerivedComponents();
+            regenerated.add(installment);
+            for (LoanTransaction repayment : repayments) {
+                if (!repayment.getTransactionDate().isAfter(installment.getFromDate())
+                        || repayment.getTransactionDate().isAfter(installment.getDueDate())) {
+                    continue;
+                }
+                // anything left over would have been paid ahead of the installments regenerated so far
+                totalUnprocessed = totalUnprocessed
+                        .plus(processor.handleRepaymentSchedule(List.of(repayment), CURRENCY, regenerated, new HashSet<>()));
+            }
+            assertTrue(persisted.get(i).matches(PersistedInstallmentState.of(installment, CURRENCY)),
+                    "installment " + installment.getInstallmentNumber() + " differs from the full replay");
+        }
+        assertTrue(totalUnprocessed.isZero());
+        assertEquals(installments.size() - 1, retained.size());
+    }
+
+    private List<LoanRepaymentScheduleInstallment> installments() {
+        return List.of(installment(1, LocalDate.of(2023, 1, 1), LocalDate.of(2023, 2, 1), 100, 10),
+                installment(2, LocalDate.of(2023, 2, 1), LocalDate.of(2023, 3, 1), 100, 8),
+                installment(3, LocalDate.of(2023, 3, 1), LocalDate.of(2023, 4, 1), 100, 5));
+    }
+
+    private LoanRepaymentScheduleInstallment installment(final int number, final LocalDate fromDate, final LocalDate dueDate,
+            final int principal, final int interest) {
+        return new LoanRepaymentScheduleInstallment(loan, number, fromDate, dueDate, BigDecimal.valueOf(principal),
+                BigDecimal.valueOf(interest), BigDecimal.ZERO, BigDecimal.ZERO, false, null, BigDecimal.ZERO);
+    }
+
+    private LoanTransaction repayment(final int amount, final LocalDate transactionDate) {
+        return LoanTransaction.repayment(null, Money.of(CURRENCY, BigDecimal.valueOf(amount)), null, transactionDate, ExternalId.empty());
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import java.util.List;
+import org.apache.fineract.infrastructure.core.api.JsonCommand;
+import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
+import org.apache.fineract.infrastructure.core.exception.UnsupportedParameterException;
+import org.apache.fineract.infrastructure.core.serialization.FromJsonHelper;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class LoanEventApiJsonValidatorTest {
+
+    private FromJsonHelper fromJsonHelper;
+    private LoanEventApiJsonValidator validator;
+
+    @BeforeEach
+    void setUp() {
+        fromJsonHelper = spy(new FromJsonHelper());
+        validator = new LoanEventApiJsonValidator(fromJsonHelper, Mockito.mock(LoanApplicationCommandFromApiJsonHelper.class),
+                Mockito.mock(LoanRepository.class));
+    }
+
+    @Test
+    void validatesTheBodyParsedByTheCommand() {
+        final String json = "{\"fromLoanOfficerId\":1,\"toLoanOfficerId\":2,\"assignmentDate\":\"10 October 2026\","
+                + "\"locale\":\"en\",\"dateFormat\":\"dd MMMM yyyy\"}";
+
+        validator.validateUpdateOfLoanOfficer(command(json));
+
+        verify(fromJsonHelper, never()).parse(anyString());
+    }
+
+    @Test
+    void parsesTheBodyWhenTheCommandCarriesNoParsedTree() {
+        final String json = "{\"fraud\":true}";
+
+        validator.validateMarkAsFraudLoan(JsonCommand.from(json));
+
+        // once for the parameter check and once for the values, commands built from requests carry the tree
+        verify(fromJsonHelper, times(2)).parse(json);
+    }
+
+    @Test
+    void reportsValidationErrorsFromTheParsedBody() {
+        final String json = "{\"toLoanOfficerId\":2,\"locale\":\"en\",\"dateFormat\":\"dd MMMM yyyy\"}";
+
+        final PlatformApiDataValidationException exception = assertThrows(PlatformApiDataValidationException.class,
+                () -> validator.validateUpdateOfLoanOfficer(command(json)));
+
+        assertEquals(List.of("assignmentDate"), exception.getErrors().stream().map(e -> e.getParameterName()).toList());
+    }
+
+    @Test
+    void rejectsUnsupportedParameters() {
+        final String json = "{\"fraud\":true,\"unknown\":1}";
+
+        final UnsupportedParameterException exception = assertThrows(UnsupportedParameterException.class,
+                () -> validator.validateMarkAsFraudLoan(command(json)));
+
+        assertEquals(List.of("unknown"), exception.getUnsupportedParameters());
+    }
+
+    private JsonCommand command(final String json) {
+        final JsonElement parsed = JsonParser.parseString(json);
+        return JsonCommand.from(json, parsed, fromJsonHelper, null, null, null, null, null, null, null, null, null, null, null, null,
+                null);
+    }
+}
@@ -0,0 +1,193 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.event.business.BusinessEventListener;
+import org.apache.fineract.infrastructure.event.business.domain.loan.LoanBalanceChangedBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.apache.fineract.portfolio.loanaccount.data.LoanArrearsAgingData;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class LoanArrearsAgingServiceImplTest {
+
+    private static final String DELETE_SQL = "DELETE FROM m_loan_arrears_aging WHERE loan_id = ?";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private BusinessEventNotifierService businessEventNotifierService;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private EntityManager entityManager;
+
+    private LoanArrearsAgingServiceImpl underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.of(2023, 6, 1))));
+        underTest = new LoanArrearsAgingServiceImpl(jdbcTemplate, businessEventNotifierService, sqlGenerator, entityManager);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        ThreadLocalContextUtil.reset();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testSaveReplacesTheRowsOfEveryAffectedLoan() {
+        // given
+        LoanArrearsAgingData arrears = new LoanArrearsAgingData(1L, BigDecimal.TEN, BigDecimal.ONE, BigDecimal.ZERO, BigDecimal.ZERO,
+                LocalDate.of(2023, 1, 1));
+
+        // when
+        underTest.saveLoanArrearsAgeingDetails(List.of(arrears), List.of(2L));
+
+        // then
+        ArgumentCaptor<List<Object[]>> deleteCaptor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Object[]>> insertCaptor = ArgumentCaptor.forClass(List.class);
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).batchUpdate(eq(DELETE_SQL), deleteCaptor.capture());
+        inOrder.verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO m_loan_arrears_aging"), insertCaptor.capture());
+        assertEquals(2, deleteCaptor.getValue().size());
+        assertArrayEquals(new Object[] { 1L }, deleteCaptor.getValue().get(0));
+        assertArrayEquals(new Object[] { 2L }, deleteCaptor.getValue().get(1));
+        assertEquals(1, insertCaptor.getValue().size());
+        assertArrayEquals(new Object[] { 1L, BigDecimal.TEN, BigDecimal.ONE, BigDecimal.ZERO, BigDecimal.ZERO, new BigDecimal("11"),
+                LocalDate.of(2023, 1, 1) }, insertCaptor.getValue().get(0));
+    }
+
+    @Test
+    public void testSaveWithoutArrearsOnlyDeletes() {
+        // when
+        underTest.saveLoanArrearsAgeingDetails(List.of(), List.of(2L));
+
+        // then
+        verify(jdbcTemplate).batchUpdate(eq(DELETE_SQL), anyList());
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("INSERT"), anyList());
+    }
+
+    @Test
+    public void testSaveWithNothingToWriteDoesNotTouchTheTable() {
+        // when
+        underTest.saveLoanArrearsAgeingDetails(List.of(), List.of());
+
+        // then
+        verify(jdbcTemplate, never()).batchUpdate(any(String.class), anyList());
+    }
+
+    @Test
+    public void testEventsOfOneTransactionAreWrittenOnceAfterFlushBeforeCommit() {
+        // given
+        BusinessEventListener<LoanBalanceChangedBusinessEvent> listener = registerBalanceChangedListener();
+        Loan loan = mock(Loan.class);
+        when(loan.getId()).thenReturn(1L);
+        when(loan.getRepaymentScheduleInstallments()).thenReturn(List.of());
+        LoanBalanceChangedBusinessEvent event = new LoanBalanceChangedBusinessEvent(loan);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        listener.onBusinessEvent(event);
+        listener.onBusinessEvent(event);
+
+        // then
+        verify(jdbcTemplate, never()).batchUpdate(any(String.class), anyList());
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, synchronizations.size());
+
+        // when
+        synchronizations.get(0).beforeCommit(false);
+
+        // then
+        InOrder inOrder = inOrder(entityManager, jdbcTemplate);
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(jdbcTemplate, times(1)).batchUpdate(eq(DELETE_SQL), anyList());
+        assertTrue(TransactionSynchronizationManager.getResourceMap().isEmpty());
+    }
+
+    @Test
+    public void testEventOutsideOfATransactionIsWrittenImmediately() {
+        // given
+        BusinessEventListener<LoanBalanceChangedBusinessEvent> listener = registerBalanceChangedListener();
+        Loan loan = mock(Loan.class);
+        when(loan.getId()).thenReturn(1L);
+        when(loan.getRepaymentScheduleInstallments()).thenReturn(List.of());
+
+        // when
+        listener.onBusinessEvent(new LoanBalanceChangedBusinessEvent(loan));
+
+        // then
+        verify(jdbcTemplate).batchUpdate(eq(DELETE_SQL), anyList());
+        verify(entityManager, never()).flush();
+    }
+
+    @SuppressWarnings("unchecked")
+    private BusinessEventListener<LoanBalanceChangedBusinessEvent> registerBalanceChangedListener() {
+        underTest.registerForNotification();
+        ArgumentCaptor<BusinessEventListener<LoanBalanceChangedBusinessEvent>> listenerCaptor = ArgumentCaptor
+                .forClass(BusinessEventListener.class);
+        verify(businessEventNotifierService).addPostBusinessEventListener(eq(LoanBalanceChangedBusinessEvent.class),
+                listenerCaptor.capture());
+        return listenerCaptor.getValue();
+    }
+}
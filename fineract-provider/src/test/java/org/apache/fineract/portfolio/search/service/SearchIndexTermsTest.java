@@ -0,0 +1,70 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+public class SearchIndexTermsTest {
+
+    @Test
+    public void testTermsContainEverySuffixOfEveryWord() {
+        Set<String> terms = SearchIndexTerms.terms("John Doe", null, "000-12");
+
+        assertEquals(Set.of("john", "ohn", "hn", "n", "doe", "oe", "e", "000", "00", "0", "12", "2"), terms);
+    }
+
+    @Test
+    public void testPrefixOfSomeTermMatchesEverySubstringOfAWord() {
+        Set<String> terms = SearchIndexTerms.terms("000000123");
+
+        for (String substring : List.of("0001", "123", "23", "000000123")) {
+            assertTrue(terms.stream().anyMatch(term -> term.startsWith(substring)), substring);
+        }
+    }
+
+    @Test
+    public void testTermsAreTruncated() {
+        Set<String> terms = SearchIndexTerms.terms(StringUtils.repeat('a', 100));
+
+        assertEquals(SearchIndexTerms.MAX_TERM_LENGTH, terms.size());
+        assertTrue(terms.stream().allMatch(term -> term.length() <= SearchIndexTerms.MAX_TERM_LENGTH));
+    }
+
+    @Test
+    public void testLookupWordsAreTheDistinctNormalizedWordsLongestFirst() {
+        assertEquals(List.of("petrovna", "anna"), SearchIndexTerms.lookupWords(" Anna PETROVNA anna"));
+        assertEquals(List.of("\u00f1and\u00fa"), SearchIndexTerms.lookupWords("\u00d1and\u00fa"));
+        assertTrue(SearchIndexTerms.lookupWords("--").isEmpty());
+        assertTrue(SearchIndexTerms.lookupWords(null).isEmpty());
+    }
+
+    @Test
+    public void testLookupWordsAreBounded() {
+        List<String> words = SearchIndexTerms.lookupWords("a b c d e f g h i j " + StringUtils.repeat('x', 100));
+
+        assertEquals(SearchIndexTerms.MAX_LOOKUP_WORDS, words.size());
+        assertEquals(StringUtils.repeat('x', SearchIndexTerms.MAX_TERM_LENGTH), words.get(0));
+    }
+}
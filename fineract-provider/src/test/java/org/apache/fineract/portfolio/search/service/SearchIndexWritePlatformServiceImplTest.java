@@ -0,0 +1,191 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.event.business.BusinessEventListener;
+import org.apache.fineract.infrastructure.event.business.domain.client.ClientUpdateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.group.GroupsUpdateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.loan.LoanUpdateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.savings.SavingsUpdateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.apache.fineract.portfolio.client.domain.Client;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SearchIndexWritePlatformServiceImplTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private BusinessEventNotifierService businessEventNotifierService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private FineractProperties fineractProperties;
+    @Mock
+    private EntityManager entityManager;
+
+    private SearchIndexWritePlatformServiceImpl underTest;
+
+    @BeforeEach
+    public void setUp() {
+        FineractProperties.FineractSearchProperties searchProperties = new FineractProperties.FineractSearchProperties();
+        searchProperties.setIndexEnabled(true);
+        FineractProperties.FineractQueryProperties queryProperties = new FineractProperties.FineractQueryProperties();
+        queryProperties.setInClauseParameterSizeLimit(1000);
+        when(fineractProperties.getSearch()).thenReturn(searchProperties);
+        when(fineractProperties.getQuery()).thenReturn(queryProperties);
+        underTest = new SearchIndexWritePlatformServiceImpl(namedParameterJdbcTemplate, sqlGenerator, businessEventNotifierService,
+                transactionManager, fineractProperties, entityManager);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.unbindResourceIfPossible(underTest);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void testUpdateEventsOfEveryIndexedParentAreListenedTo() {
+        underTest.registerForNotification();
+
+        verify(businessEventNotifierService).addPostBusinessEventListener(eq(ClientUpdateBusinessEvent.class), any());
+        verify(businessEventNotifierService).addPostBusinessEventListener(eq(GroupsUpdateBusinessEvent.class), any());
+        verify(businessEventNotifierService).addPostBusinessEventListener(eq(LoanUpdateBusinessEvent.class), any());
+        verify(businessEventNotifierService).addPostBusinessEventListener(eq(SavingsUpdateBusinessEvent.class), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testClientReindexAlsoReindexesTheAccountsShowingTheClientAsParent() {
+        when(namedParameterJdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class))).thenReturn(List.of());
+        when(namedParameterJdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class), eq(Long.class))).thenReturn(List.of());
+        when(namedParameterJdbcTemplate.queryForList(startsWith("select a.id from m_loan a where a.client_id"),
+                any(SqlParameterSource.class), eq(Long.class))).thenReturn(List.of(11L));
+
+        underTest.reindex(SearchIndexEntityType.CLIENT, List.of(1L));
+
+        verify(namedParameterJdbcTemplate).queryForList(startsWith("select a.id from m_savings_account a where a.client_id"),
+                any(SqlParameterSource.class), eq(Long.class));
+        verify(namedParameterJdbcTemplate).queryForList(startsWith("select a.id from m_share_account a where a.client_id"),
+                any(SqlParameterSource.class), eq(Long.class));
+        verify(namedParameterJdbcTemplate).query(eq(SearchIndexEntityType.LOAN.getSourceSql() + " where l.id in (:entityIds)"),
+                any(SqlParameterSource.class), any(RowMapper.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGroupReindexAlsoReindexesTheGroupAccounts() {
+        when(namedParameterJdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class))).thenReturn(List.of());
+        when(namedParameterJdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class), eq(Long.class))).thenReturn(List.of());
+
+        underTest.reindex(SearchIndexEntityType.GROUP, List.of(5L));
+
+        verify(namedParameterJdbcTemplate).queryForList(startsWith("select a.id from m_loan a where a.group_id"),
+                any(SqlParameterSource.class), eq(Long.class));
+        verify(namedParameterJdbcTemplate).queryForList(startsWith("select a.id from m_savings_account a where a.group_id"),
+                any(SqlParameterSource.class), eq(Long.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testIndexIsWrittenBeforeCommitAfterFlushingPendingChanges() {
+        TransactionSynchronizationManager.initSynchronization();
+        when(namedParameterJdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class))).thenReturn(List.of());
+        when(namedParameterJdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class), eq(Long.class))).thenReturn(List.of());
+
+        clientUpdateListener().onBusinessEvent(new ClientUpdateBusinessEvent(client(1L)));
+        clientUpdateListener().onBusinessEvent(new ClientUpdateBusinessEvent(client(1L)));
+
+        verify(namedParameterJdbcTemplate, never()).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, synchronizations.size());
+
+        synchronizations.get(0).beforeCommit(false);
+
+        InOrder inOrder = inOrder(entityManager, namedParameterJdbcTemplate);
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(namedParameterJdbcTemplate).query(eq(SearchIndexEntityType.CLIENT.getSourceSql() + " where c.id in (:entityIds)"),
+                any(SqlParameterSource.class), any(RowMapper.class));
+    }
+
+    @Test
+    public void testIndexWriteFailureFailsTheTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        when(namedParameterJdbcTemplate.update(anyString(), any(SqlParameterSource.class)))
+                .thenThrow(new DataAccessResourceFailureException("index unavailable"));
+
+        clientUpdateListener().onBusinessEvent(new ClientUpdateBusinessEvent(client(1L)));
+        TransactionSynchronization synchronization = TransactionSynchronizationManager.getSynchronizations().get(0);
+
+        assertThrows(DataAccessResourceFailureException.class, () -> synchronization.beforeCommit(false));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private BusinessEventListener<ClientUpdateBusinessEvent> clientUpdateListener() {
+        Mockito.clearInvocations(businessEventNotifierService);
+        underTest.registerForNotification();
+        ArgumentCaptor<BusinessEventListener> listener = ArgumentCaptor.forClass(BusinessEventListener.class);
+        verify(businessEventNotifierService).addPostBusinessEventListener(eq(ClientUpdateBusinessEvent.class), listener.capture());
+        return listener.getValue();
+    }
+
+    private static Client client(Long id) {
+        Client client = Mockito.mock(Client.class);
+        when(client.getId()).thenReturn(id);
+        return client;
+    }
+}
@@ -0,0 +1,145 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.organisation.office.domain.Office;
+import org.apache.fineract.organisation.office.service.OfficeReadPlatformService;
+import org.apache.fineract.portfolio.loanproduct.service.LoanProductReadPlatformService;
+import org.apache.fineract.portfolio.search.data.SearchConditions;
+import org.apache.fineract.portfolio.search.data.SearchData;
+import org.apache.fineract.useradministration.domain.AppUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SearchReadPlatformServiceImplTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    @Mock
+    private PlatformSecurityContext context;
+    @Mock
+    private LoanProductReadPlatformService loanProductReadPlatformService;
+    @Mock
+    private OfficeReadPlatformService officeReadPlatformService;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private FineractProperties fineractProperties;
+
+    private final List<String> executedSql = new ArrayList<>();
+    private final List<MapSqlParameterSource> executedParams = new ArrayList<>();
+    private SearchReadPlatformServiceImpl underTest;
+
+    @BeforeEach
+    public void setUp() {
+        FineractProperties.FineractSearchProperties searchProperties = new FineractProperties.FineractSearchProperties();
+        searchProperties.setIndexEnabled(true);
+        when(fineractProperties.getSearch()).thenReturn(searchProperties);
+        AppUser user = Mockito.mock(AppUser.class);
+        Office office = Mockito.mock(Office.class);
+        when(office.getHierarchy()).thenReturn(".");
+        when(user.getOffice()).thenReturn(office);
+        when(context.authenticatedUser()).thenReturn(user);
+        when(sqlGenerator.limit(anyInt())).thenAnswer(invocation -> "LIMIT " + invocation.getArgument(0));
+        underTest = new SearchReadPlatformServiceImpl(namedParameterJdbcTemplate, context, loanProductReadPlatformService,
+                officeReadPlatformService, sqlGenerator, fineractProperties);
+    }
+
+    @Test
+    public void testEveryWordOfTheQueryIsLookedUpInTheIndex() {
+        givenCandidatePages(List.of(client(1L, "Anna Maria Petrovna")));
+
+        Collection<SearchData> result = underTest.retriveMatchingData(new SearchConditions("Maria Petrovna", "clients", false));
+
+        assertEquals(1, result.size());
+        String sql = executedSql.get(0);
+        assertTrue(sql.contains("t.term like :term0"), sql);
+        assertTrue(sql.contains("t1.term like :term1"), sql);
+        assertEquals("petrovna%", executedParams.get(0).getValue("term0"));
+        assertEquals("maria%", executedParams.get(0).getValue("term1"));
+    }
+
+    @Test
+    public void testCandidatesArePagedUntilEnoughMatchesAreFound() {
+        List<SearchData> firstPage = LongStream.rangeClosed(1, 500).mapToObj(id -> client(1000L - id, "Anna Ivanova")).toList();
+        givenCandidatePages(firstPage, List.of(client(7L, "Ivanova Anna")));
+
+        Collection<SearchData> result = underTest.retriveMatchingData(new SearchConditions("ivanova anna", "clients", false));
+
+        assertEquals(List.of(7L), result.stream().map(SearchData::getEntityId).toList());
+        assertEquals(2, executedParams.size());
+        assertNull(executedParams.get(0).getValue("lastEntityId"));
+        assertEquals(500L, executedParams.get(1).getValue("lastEntityId"));
+        assertEquals("CLIENT", executedParams.get(1).getValue("lastEntityType"));
+    }
+
+    @Test
+    public void testExactMatchLooksUpWholeWords() {
+        givenCandidatePages(List.of(client(1L, "Anna"), client(2L, "Anna Ivanova")));
+
+        Collection<SearchData> result = underTest.retriveMatchingData(new SearchConditions("anna", "clients", true));
+
+        assertEquals(List.of(1L), result.stream().map(SearchData::getEntityId).toList());
+        assertEquals("anna", executedParams.get(0).getValue("term0"));
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    private void givenCandidatePages(List<SearchData>... pages) {
+        int[] page = { 0 };
+        when(namedParameterJdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class))).thenAnswer(invocation -> {
+            MapSqlParameterSource params = invocation.getArgument(1);
+            // the same parameter source is reused between the pages, keep a copy of what this page was queried with
+            executedSql.add(invocation.getArgument(0));
+            executedParams.add(new MapSqlParameterSource(params.getValues()));
+            return page[0] < pages.length ? pages[page[0]++] : List.of();
+        });
+    }
+
+    private static SearchData client(Long id, String name) {
+        return new SearchData(id, "00000" + id, null, name, "CLIENT", 1L, "Head Office", null, null, null, null);
+    }
+}
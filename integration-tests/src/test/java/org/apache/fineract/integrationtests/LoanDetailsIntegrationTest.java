@@ -0,0 +1,76 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.integrationtests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.math.BigDecimal;
+import java.util.List;
+import org.apache.fineract.client.models.PostLoanProductsResponse;
+import org.apache.fineract.integrationtests.common.ClientHelper;
+import org.apache.fineract.integrationtests.common.Utils;
+import org.apache.fineract.integrationtests.common.loans.LoanTestLifecycleExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(LoanTestLifecycleExtension.class)
+public class LoanDetailsIntegrationTest extends BaseLoanIntegrationTest {
+
+    private static final String ASSOCIATIONS = "transactions,charges,multiDisburseDetails,collection";
+    private static final List<String> COMPARED_ATTRIBUTES = List.of("id", "status", "summary", "delinquent", "transactions", "charges",
+            "disbursementDetails");
+
+    @Test
+    public void loanDetailsMatchTheSingleLoanEndpoint() {
+        runAt("15 February 2023", () -> {
+            Long clientId = clientHelper.createClient(ClientHelper.defaultClientCreationRequest()).getClientId();
+            PostLoanProductsResponse loanProduct = loanProductHelper
+                    .createLoanProduct(createOnePeriod30DaysLongNoInterestPeriodicAccrualProduct());
+
+            Long activeLoanId = applyAndApproveLoan(clientId, loanProduct.getResourceId(), "01 January 2023", 1000.0);
+            disburseLoan(activeLoanId, BigDecimal.valueOf(1000.0), "01 January 2023");
+            addCharge(activeLoanId, false, 30, "10 January 2023");
+            addRepaymentForLoan(activeLoanId, 200.0, "05 February 2023");
+            Long approvedLoanId = applyAndApproveLoan(clientId, loanProduct.getResourceId(), "10 February 2023", 500.0);
+
+            JsonArray loanDetails = JsonParser.parseString(Utils.performServerGet(requestSpec, responseSpec,
+                    "/fineract-provider/api/v1/loans/details?loanIds=" + activeLoanId + "," + approvedLoanId + "&associations="
+                            + ASSOCIATIONS + "&" + Utils.TENANT_IDENTIFIER))
+                    .getAsJsonArray();
+
+            assertEquals(2, loanDetails.size());
+            verifyMatchesSingleLoan(activeLoanId, loanDetails.get(0).getAsJsonObject());
+            verifyMatchesSingleLoan(approvedLoanId, loanDetails.get(1).getAsJsonObject());
+        });
+    }
+
+    private void verifyMatchesSingleLoan(Long loanId, JsonObject loanDetail) {
+        JsonObject loan = JsonParser.parseString(Utils.performServerGet(requestSpec, responseSpec,
+                "/fineract-provider/api/v1/loans/" + loanId + "?associations=" + ASSOCIATIONS + "&" + Utils.TENANT_IDENTIFIER))
+                .getAsJsonObject();
+        for (String attribute : COMPARED_ATTRIBUTES) {
+            JsonElement expected = loan.get(attribute);
+            assertEquals(expected, loanDetail.get(attribute), "Loan " + loanId + " differs in " + attribute);
+        }
+    }
+}